@@ -233,7 +233,10 @@ tasks.register<Download>("downloadPyroscopeAgent") {
 }
 
 tasks.named<Test>("test") {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // Benchmarks seed millions of rows or spin for seconds; run them explicitly via ./gradlew benchmark
+        excludeTags("benchmark")
+    }
 
     // Parallel test execution for faster CI builds
     // GitHub runners have 4 cores, so run up to 4 test JVMs in parallel
@@ -256,6 +259,20 @@ tasks.named<Test>("test") {
     )
 }
 
+tasks.register<Test>("benchmark") {
+    description = "Runs scale and throughput benchmarks tagged 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    jvmArgs = tasks.named<Test>("test").get().jvmArgs
+    systemProperties = System.getProperties().filterKeys { it.toString().startsWith("nextskip.benchmark.") }
+        .mapKeys { it.key.toString() }
+    shouldRunAfter(tasks.named("test"))
+}
+
 // Code quality plugin configurations
 
 // NOTE: Using direct string literals instead of version catalog accessors (libs.versions.X.get())
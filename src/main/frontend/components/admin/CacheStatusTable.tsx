@@ -0,0 +1,62 @@
+import React from 'react';
+import type CacheStatus from '../../generated/io/nextskip/admin/model/CacheStatus';
+import './CacheStatusTable.css';
+
+interface CacheStatusTableProps {
+  caches: CacheStatus[];
+}
+
+/**
+ * Displays hit rate, loader latency and refresh lag for each in-memory cache.
+ *
+ * Refresh lag is the time from a feed's database commit until the cache serves
+ * the new data, so it shows how stale each dashboard card can be after a refresh.
+ */
+export default function CacheStatusTable({ caches }: CacheStatusTableProps) {
+  if (caches.length === 0) {
+    return null;
+  }
+
+  const formatLag = (millis: number | null | undefined) => {
+    if (millis === null || millis === undefined) return '—';
+    if (millis < 1000) return `${millis} ms`;
+    return `${(millis / 1000).toFixed(1)} s`;
+  };
+
+  const formatRefreshed = (timestamp: string | null | undefined) =>
+    timestamp ? `Refreshed ${new Date(timestamp).toLocaleTimeString()}` : undefined;
+
+  return (
+    <section className="cache-status">
+      <h3 className="cache-status-title">Caches</h3>
+      <table className="cache-status-table" aria-label="Cache statistics">
+        <thead>
+          <tr>
+            <th scope="col">Cache</th>
+            <th scope="col">Entries</th>
+            <th scope="col">Hit rate</th>
+            <th scope="col">Hits / misses</th>
+            <th scope="col">Load failures</th>
+            <th scope="col">Avg load</th>
+            <th scope="col">Refresh lag</th>
+          </tr>
+        </thead>
+        <tbody>
+          {caches.map((cache) => (
+            <tr key={cache.name}>
+              <th scope="row">{cache.name}</th>
+              <td>{cache.size}</td>
+              <td>{(cache.hitRate * 100).toFixed(1)}%</td>
+              <td>
+                {cache.hits} / {cache.misses}
+              </td>
+              <td className={cache.loadFailures > 0 ? 'cache-status-failures' : undefined}>{cache.loadFailures}</td>
+              <td>{cache.averageLoadMillis.toFixed(1)} ms</td>
+              <td title={formatRefreshed(cache.lastRefreshed)}>{formatLag(cache.lastRefreshLagMillis)}</td>
+            </tr>
+          ))}
+        </tbody>
+      </table>
+    </section>
+  );
+}
@@ -0,0 +1,65 @@
+import React, { useState } from 'react';
+import { AdminEndpoint } from '../../generated/endpoints';
+import type FlightRecordingDump from '../../generated/io/nextskip/admin/model/FlightRecordingDump';
+import './FlightRecordingPanel.css';
+import './RefreshButton.css';
+
+type DumpState = 'idle' | 'loading' | 'done' | 'unavailable' | 'error';
+
+/**
+ * Dumps the server's rolling JFR recording for offline analysis.
+ *
+ * Shows where the file was written so it can be copied off and read with `jfr print`.
+ */
+export default function FlightRecordingPanel() {
+  const [state, setState] = useState<DumpState>('idle');
+  const [dump, setDump] = useState<FlightRecordingDump | undefined>(undefined);
+
+  const handleClick = async () => {
+    if (state === 'loading') return;
+
+    setState('loading');
+    try {
+      const result = await AdminEndpoint.dumpFlightRecording();
+      setDump(result);
+      setState(result ? 'done' : 'unavailable');
+    } catch (e) {
+      console.error('Error dumping flight recording:', e);
+      setState('error');
+    }
+  };
+
+  const formatSize = (bytes: number) => `${(bytes / (1024 * 1024)).toFixed(1)} MB`;
+
+  const getStatus = () => {
+    switch (state) {
+      case 'done':
+        return dump ? (
+          <span className="flight-recording-path">
+            {dump.path} ({formatSize(dump.sizeBytes)})
+          </span>
+        ) : null;
+      case 'unavailable':
+        return <span className="flight-recording-warning">JFR recording is disabled</span>;
+      case 'error':
+        return <span className="flight-recording-warning">Dump failed</span>;
+      default:
+        return null;
+    }
+  };
+
+  return (
+    <section className="flight-recording">
+      <h3 className="flight-recording-title">Flight Recording</h3>
+      <p className="flight-recording-description">
+        Writes the last minutes of ingest, aggregation, refresh and cache events to a .jfr file on the server.
+      </p>
+      <div className="flight-recording-actions">
+        <button type="button" className="refresh-button" onClick={handleClick} disabled={state === 'loading'}>
+          {state === 'loading' ? 'Dumping...' : 'Dump Recording'}
+        </button>
+        {getStatus()}
+      </div>
+    </section>
+  );
+}
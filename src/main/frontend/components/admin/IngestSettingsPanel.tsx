@@ -0,0 +1,124 @@
+import React, { useCallback, useEffect, useState } from 'react';
+import { AdminEndpoint } from '../../generated/endpoints';
+import type IngestSettings from '../../generated/io/nextskip/spots/api/IngestSettings';
+import type IngestSettingsChange from '../../generated/io/nextskip/spots/api/IngestSettingsChange';
+import './IngestSettingsPanel.css';
+import './RefreshButton.css';
+
+type NumericField = 'batchSize' | 'batchTimeoutMillis' | 'bufferSize' | 'persistenceThreads' | 'persistenceParallelism';
+
+// Upper bounds mirror IngestSettings; the server still rejects anything outside them.
+const NUMERIC_FIELDS: { field: NumericField; label: string; max: number }[] = [
+  { field: 'batchSize', label: 'Batch size', max: 5000 },
+  { field: 'batchTimeoutMillis', label: 'Batch timeout (ms)', max: 60000 },
+  { field: 'bufferSize', label: 'Buffer size', max: 100000 },
+  { field: 'persistenceThreads', label: 'Persistence threads', max: 10 },
+  { field: 'persistenceParallelism', label: 'Persistence parallelism', max: 10 },
+];
+
+/**
+ * Reads and changes the spot ingest pipeline settings at runtime.
+ *
+ * Changes apply without a redeploy, are audited under the admin's email and last until restart.
+ */
+export default function IngestSettingsPanel() {
+  const [settings, setSettings] = useState<IngestSettings | undefined>(undefined);
+  const [draft, setDraft] = useState<IngestSettings | undefined>(undefined);
+  const [topicsText, setTopicsText] = useState('');
+  const [history, setHistory] = useState<IngestSettingsChange[]>([]);
+  const [saving, setSaving] = useState(false);
+  const [error, setError] = useState<string | null>(null);
+
+  const load = useCallback(async () => {
+    try {
+      const [current, changes] = await Promise.all([
+        AdminEndpoint.getIngestSettings(),
+        AdminEndpoint.getIngestSettingsHistory(),
+      ]);
+      setSettings(current);
+      setDraft(current);
+      setTopicsText(current ? current.topics.join('\n') : '');
+      setHistory(changes);
+    } catch (e) {
+      console.error('Error loading ingest settings:', e);
+      setError('Failed to load ingest settings');
+    }
+  }, []);
+
+  useEffect(() => {
+    void load();
+  }, [load]);
+
+  if (!settings || !draft) {
+    return null;
+  }
+
+  const handleNumberChange = (field: NumericField, value: string) => {
+    setDraft({ ...draft, [field]: Number(value) });
+  };
+
+  const handleApply = async () => {
+    if (saving) return;
+
+    setSaving(true);
+    setError(null);
+    try {
+      const topics = topicsText
+        .split('\n')
+        .map((topic) => topic.trim())
+        .filter((topic) => topic.length > 0);
+      await AdminEndpoint.updateIngestSettings({ ...draft, topics });
+      await load();
+    } catch (e) {
+      console.error('Error updating ingest settings:', e);
+      setError(e instanceof Error ? e.message : 'Update failed');
+    } finally {
+      setSaving(false);
+    }
+  };
+
+  return (
+    <section className="ingest-settings">
+      <h3 className="ingest-settings-title">Ingest Pipeline</h3>
+      <p className="ingest-settings-description">
+        Applies immediately without losing buffered spots. Changes are audited and last until the next restart.
+      </p>
+      <div className="ingest-settings-grid">
+        {NUMERIC_FIELDS.map(({ field, label, max }) => (
+          <label key={field} className="ingest-settings-field">
+            <span>{label}</span>
+            <input
+              type="number"
+              min={1}
+              max={max}
+              value={draft[field]}
+              onChange={(e) => handleNumberChange(field, e.target.value)}
+            />
+          </label>
+        ))}
+        <label className="ingest-settings-field ingest-settings-topics">
+          <span>MQTT topics (one per line)</span>
+          <textarea rows={3} value={topicsText} onChange={(e) => setTopicsText(e.target.value)} />
+        </label>
+      </div>
+      <div className="ingest-settings-actions">
+        <button type="button" className="refresh-button" onClick={handleApply} disabled={saving}>
+          {saving ? 'Applying...' : 'Apply'}
+        </button>
+        {error && <span className="ingest-settings-error">{error}</span>}
+      </div>
+      {history.length > 0 && (
+        <ul className="ingest-settings-history">
+          {history.map((change) => (
+            <li key={`${change.changedAt}-${change.actor}`}>
+              {new Date(change.changedAt).toLocaleString()} by {change.actor}: batch {change.current.batchSize}, timeout{' '}
+              {change.current.batchTimeoutMillis} ms, buffer {change.current.bufferSize}, threads{' '}
+              {change.current.persistenceThreads}, parallelism {change.current.persistenceParallelism},{' '}
+              {change.current.topics.length} topics
+            </li>
+          ))}
+        </ul>
+      )}
+    </section>
+  );
+}
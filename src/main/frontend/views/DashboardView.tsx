@@ -1,12 +1,6 @@
-import React, { useEffect, useState, useCallback, useMemo } from 'react';
+import React, { useEffect, useState, useCallback, useMemo, useRef } from 'react';
 import { Radio, AlertTriangle } from 'lucide-react';
-import {
-  PropagationEndpoint,
-  ActivationsEndpoint,
-  ContestEndpoint,
-  MeteorEndpoint,
-  SpotsEndpoint,
-} from 'Frontend/generated/endpoints';
+import { DashboardEndpoint } from 'Frontend/generated/endpoints';
 import type PropagationResponse from 'Frontend/generated/io/nextskip/propagation/api/PropagationResponse';
 import type ActivationsResponse from 'Frontend/generated/io/nextskip/activations/api/ActivationsResponse';
 import type ContestsResponse from 'Frontend/generated/io/nextskip/contests/api/ContestsResponse';
@@ -37,6 +31,8 @@ function DashboardView() {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [lastUpdate, setLastUpdate] = useState<Date>(new Date());
+  // Version of the snapshot on screen; the server skips the payload while it is current
+  const snapshotVersion = useRef<number | undefined>(undefined);
   const [isHelpOpen, setIsHelpOpen] = useState(() => {
     if (typeof window === 'undefined') return false;
     const hasVisited = localStorage.getItem('nextskip-visited');
@@ -53,21 +49,17 @@ function DashboardView() {
     try {
       setError(null);
 
-      // Fetch data from all Hilla endpoints in parallel
-      // Spots endpoint may not be available if module is disabled
-      const [propagation, activations, contests, meteorShowers, spots] = await Promise.all([
-        PropagationEndpoint.getPropagationData(),
-        ActivationsEndpoint.getActivations(),
-        ContestEndpoint.getContests(),
-        MeteorEndpoint.getMeteorShowers(),
-        SpotsEndpoint.getBandActivity().catch(() => undefined),
-      ]);
-
-      setPropagationData(propagation);
-      setActivationsData(activations);
-      setContestsData(contests);
-      setMeteorShowersData(meteorShowers);
-      setSpotsData(spots);
+      // One call returns every card's data; spots is absent if the module is disabled
+      const snapshot = await DashboardEndpoint.getSnapshot(snapshotVersion.current);
+
+      if (!snapshot.unchanged) {
+        snapshotVersion.current = snapshot.version;
+        setPropagationData(snapshot.propagation);
+        setActivationsData(snapshot.activations);
+        setContestsData(snapshot.contests);
+        setMeteorShowersData(snapshot.meteorShowers);
+        setSpotsData(snapshot.spots);
+      }
       setLastUpdate(new Date());
     } catch (err) {
       console.error('Error fetching dashboard data:', err);
@@ -75,7 +67,7 @@ function DashboardView() {
     } finally {
       setLoading(false);
     }
-  }, []); // Empty deps: setState functions are stable, Hilla endpoint methods are static
+  }, []); // Empty deps: setState functions and refs are stable, Hilla endpoint methods are static
 
   useEffect(() => {
     // Initial fetch
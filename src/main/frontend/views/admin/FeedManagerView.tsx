@@ -1,7 +1,11 @@
 import React, { useEffect, useState, useCallback } from 'react';
 import { AdminEndpoint } from '../../generated/endpoints';
+import type CacheStatus from '../../generated/io/nextskip/admin/model/CacheStatus';
 import type FeedStatus from '../../generated/io/nextskip/admin/model/FeedStatus';
+import CacheStatusTable from '../../components/admin/CacheStatusTable';
 import FeedStatusGrid from '../../components/admin/FeedStatusGrid';
+import FlightRecordingPanel from '../../components/admin/FlightRecordingPanel';
+import IngestSettingsPanel from '../../components/admin/IngestSettingsPanel';
 import './FeedManagerView.css';
 
 // Polling interval for status updates (5 seconds per spec)
@@ -15,19 +19,26 @@ const POLL_INTERVAL = 5000;
  * - Auto-refreshes status every 5 seconds
  * - Allows manual refresh of scheduled feeds
  * - Shows last update timestamp
+ * - Shows hit rate, loader latency and refresh lag for each cache
+ * - Dumps the rolling JFR recording for offline analysis
  */
 export default function FeedManagerView() {
   const [feeds, setFeeds] = useState<FeedStatus[]>([]);
+  const [caches, setCaches] = useState<CacheStatus[]>([]);
   const [loading, setLoading] = useState(true);
   const [lastUpdate, setLastUpdate] = useState<Date | null>(null);
   const [error, setError] = useState<string | null>(null);
 
   const fetchFeeds = useCallback(async () => {
     try {
-      const statuses = await AdminEndpoint.getFeedStatuses();
+      const [statuses, cacheStatuses] = await Promise.all([
+        AdminEndpoint.getFeedStatuses(),
+        AdminEndpoint.getCacheStatuses(),
+      ]);
       // Filter out undefined values from the response
       const validStatuses = (statuses ?? []).filter((s): s is FeedStatus => s !== undefined);
       setFeeds(validStatuses);
+      setCaches((cacheStatuses ?? []).filter((c): c is CacheStatus => c !== undefined));
       setLastUpdate(new Date());
       setError(null);
     } catch (e) {
@@ -89,6 +100,12 @@ export default function FeedManagerView() {
       </div>
 
       <FeedStatusGrid feeds={feeds} onRefresh={handleRefresh} loading={loading} />
+
+      <CacheStatusTable caches={caches} />
+
+      <IngestSettingsPanel />
+
+      <FlightRecordingPanel />
     </div>
   );
 }
@@ -0,0 +1,22 @@
+package io.nextskip.activations.api;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationReach;
+
+/**
+ * Supplies live reception statistics for activators.
+ *
+ * <p>Implemented by the spots module, which sees every PSKReporter spot. The
+ * activations module depends only on this interface, so activations work unchanged
+ * when spot processing is disabled and no provider exists.
+ */
+public interface ActivationReachProvider {
+
+    /**
+     * Returns where the activator of an activation has been heard.
+     *
+     * @param activation the activation
+     * @return reach statistics, or null if the activator has not been heard
+     */
+    ActivationReach getReach(Activation activation);
+}
@@ -36,4 +36,19 @@ public class ActivationsEndpoint {
         LOG.debug("Fetching activations data for dashboard");
         return activationsService.getActivationsResponse();
     }
+
+    /**
+     * Get activations within a radius of a Maidenhead grid square.
+     *
+     * <p>Answers "activations within 500 km of my grid" on the server, nearest first,
+     * so the browser does not filter the full lists on every poll.
+     *
+     * @param grid     the Maidenhead grid square (e.g., "FN31", "FN31pr")
+     * @param radiusKm the search radius in kilometers
+     * @return located activations within the radius with their distances
+     */
+    public NearbyActivationsResponse getActivationsNear(String grid, double radiusKm) {
+        LOG.debug("Fetching activations within {} km of {}", radiusKm, grid);
+        return activationsService.getActivationsNear(grid, radiusKm);
+    }
 }
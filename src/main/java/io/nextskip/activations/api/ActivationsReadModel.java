@@ -0,0 +1,102 @@
+package io.nextskip.activations.api;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.ActivationsSummary;
+import io.nextskip.common.model.FrequencyBand;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Precomputed view of one activations cache value.
+ *
+ * <p>Built once per cache refresh in a single pass over the loaded activations, so
+ * serving the dashboard is a reference read instead of re-filtering and re-counting
+ * the list on every request.
+ *
+ * @param summary  all activations with per-type counts, as of the build time
+ * @param response the dashboard response, split by type, as of the build time
+ * @param byBand   activations grouped by amateur band, in band order; unknown frequencies omitted
+ * @param byMode   activations grouped by upper-cased mode, in first-seen order; blank modes omitted
+ * @param byRegion activations grouped by location region code, in first-seen order; unknown regions omitted
+ */
+public record ActivationsReadModel(
+        ActivationsSummary summary,
+        ActivationsResponse response,
+        Map<FrequencyBand, List<Activation>> byBand,
+        Map<String, List<Activation>> byMode,
+        Map<String, List<Activation>> byRegion
+) {
+
+    /**
+     * Compact constructor for defensive copying of mutable collections.
+     */
+    public ActivationsReadModel {
+        byBand = byBand != null && !byBand.isEmpty() ? Collections.unmodifiableMap(new EnumMap<>(byBand)) : Map.of();
+        byMode = byMode != null ? Collections.unmodifiableMap(new LinkedHashMap<>(byMode)) : Map.of();
+        byRegion = byRegion != null ? Collections.unmodifiableMap(new LinkedHashMap<>(byRegion)) : Map.of();
+    }
+
+    /**
+     * Builds the read model for a freshly loaded activation list.
+     *
+     * @param activations the loaded activations, or null for none
+     * @param builtAt     when the list was loaded; becomes {@code lastUpdated}
+     * @return the read model
+     */
+    public static ActivationsReadModel of(List<Activation> activations, Instant builtAt) {
+        List<Activation> all = activations != null ? activations : List.of();
+        List<Activation> pota = new ArrayList<>();
+        List<Activation> sota = new ArrayList<>();
+        Map<FrequencyBand, List<Activation>> byBand = new EnumMap<>(FrequencyBand.class);
+        Map<String, List<Activation>> byMode = new LinkedHashMap<>();
+        Map<String, List<Activation>> byRegion = new LinkedHashMap<>();
+
+        for (Activation activation : all) {
+            if (activation.type() == ActivationType.POTA) {
+                pota.add(activation);
+            } else if (activation.type() == ActivationType.SOTA) {
+                sota.add(activation);
+            }
+            FrequencyBand band = activation.frequency() != null
+                    ? FrequencyBand.fromFrequencyKhz(activation.frequency().intValue())
+                    : null;
+            if (band != null) {
+                byBand.computeIfAbsent(band, b -> new ArrayList<>()).add(activation);
+            }
+            String mode = activation.mode();
+            if (mode != null && !mode.isBlank()) {
+                byMode.computeIfAbsent(mode.trim().toUpperCase(Locale.ROOT), m -> new ArrayList<>()).add(activation);
+            }
+            String region = activation.location() != null ? activation.location().regionCode() : null;
+            if (region != null && !region.isBlank()) {
+                byRegion.computeIfAbsent(region, r -> new ArrayList<>()).add(activation);
+            }
+        }
+
+        ActivationsSummary summary = new ActivationsSummary(all, pota.size(), sota.size(), builtAt);
+        ActivationsResponse response = new ActivationsResponse(pota, sota, pota.size() + sota.size(), builtAt);
+        return new ActivationsReadModel(summary, response, freeze(byBand), freeze(byMode), freeze(byRegion));
+    }
+
+    /**
+     * Returns every activation in the model, in load order.
+     *
+     * @return the activations the model was built from
+     */
+    public List<Activation> activations() {
+        return summary.activations();
+    }
+
+    private static <K> Map<K, List<Activation>> freeze(Map<K, List<Activation>> groups) {
+        groups.replaceAll((key, members) -> List.copyOf(members));
+        return groups;
+    }
+}
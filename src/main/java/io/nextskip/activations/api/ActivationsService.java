@@ -2,6 +2,8 @@ package io.nextskip.activations.api;
 
 import io.nextskip.activations.model.ActivationsSummary;
 
+import java.time.Instant;
+
 /**
  * Public API for activations data (POTA/SOTA).
  *
@@ -27,4 +29,28 @@ public interface ActivationsService {
      * @return ActivationsResponse with separated activation lists and metadata
      */
     ActivationsResponse getActivationsResponse();
+
+    /**
+     * Get activations data for dashboard display, evaluated at a fixed instant.
+     *
+     * <p>Each activation's score and favorability are computed once against
+     * {@code asOf} and pinned, so the cards agree with the dashboard ranking.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return ActivationsResponse with evaluated activation lists and metadata
+     */
+    ActivationsResponse getActivationsResponse(Instant asOf);
+
+    /**
+     * Get located activations within a radius of a Maidenhead grid square, nearest first.
+     *
+     * <p>Served from a spatial index rebuilt whenever the activations cache refreshes.
+     * Activations without a known location (such as a summit whose lookup failed) are omitted.
+     *
+     * @param grid     the Maidenhead grid square to search around (e.g., "FN31", "FN31pr")
+     * @param radiusKm the search radius in kilometers
+     * @return the activations within the radius with their distances
+     * @throws IllegalArgumentException if the grid square is invalid or the radius is not positive
+     */
+    NearbyActivationsResponse getActivationsNear(String grid, double radiusKm);
 }
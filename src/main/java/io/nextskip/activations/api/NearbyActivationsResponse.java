@@ -0,0 +1,30 @@
+package io.nextskip.activations.api;
+
+import io.nextskip.activations.model.NearbyActivation;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for activations near a Maidenhead grid square.
+ *
+ * <p>Only activations with a known location are included: POTA parks by their
+ * coordinates, or by the center of their grid square when coordinates are missing.
+ *
+ * @param grid        the normalized grid square the search was centered on
+ * @param radiusKm    the search radius in kilometers
+ * @param activations activations within the radius, nearest first
+ * @param lastUpdated Timestamp when this data was generated
+ */
+public record NearbyActivationsResponse(
+        String grid,
+        double radiusKm,
+        List<NearbyActivation> activations,
+        Instant lastUpdated
+) {
+    /**
+     * Compact constructor for defensive copying of mutable collections.
+     */
+    public NearbyActivationsResponse {
+        activations = activations != null ? List.copyOf(activations) : List.of();
+    }
+}
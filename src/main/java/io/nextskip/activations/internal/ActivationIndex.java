@@ -0,0 +1,234 @@
+package io.nextskip.activations.internal;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.NearbyActivation;
+import io.nextskip.activations.model.Park;
+import io.nextskip.activations.model.Summit;
+import io.nextskip.common.model.Coordinates;
+import io.nextskip.common.model.GridSquare;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable spatial index over the located activations in one cache value.
+ *
+ * <p>Activations are placed on the unit sphere as 3-D points and stored in a static
+ * k-d tree, so a radius search is a pruned tree walk instead of a haversine per
+ * activation. Chord length on the unit sphere is monotonic in great-circle distance,
+ * which makes the search exact across the antimeridian and near the poles.
+ *
+ * <p>POTA parks are located by their coordinates, falling back to the center of
+ * their grid square. SOTA summits are located by the coordinates resolved from the
+ * summit lookup API; a summit whose lookup has not succeeded is not indexed.
+ */
+final class ActivationIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+    private static final int DIMENSIONS = 3;
+
+    private static final ActivationIndex EMPTY = new ActivationIndex(List.of());
+
+    private final List<Activation> activations;
+    private final Activation[] located;
+    private final Coordinates[] coordinates;
+    private final double[][] points;
+    private final int[] tree;
+
+    private ActivationIndex(List<Activation> activations) {
+        this.activations = activations;
+        List<Activation> placeable = new ArrayList<>(activations.size());
+        List<Coordinates> positions = new ArrayList<>(activations.size());
+        for (Activation activation : activations) {
+            Coordinates position = locate(activation);
+            if (position != null) {
+                placeable.add(activation);
+                positions.add(position);
+            }
+        }
+
+        this.located = placeable.toArray(new Activation[0]);
+        this.coordinates = positions.toArray(new Coordinates[0]);
+        this.points = new double[located.length][];
+        this.tree = new int[located.length];
+        for (int i = 0; i < located.length; i++) {
+            points[i] = toUnitVector(coordinates[i]);
+            tree[i] = i;
+        }
+        build(0, tree.length, 0);
+    }
+
+    /**
+     * Builds an index over the given activations.
+     *
+     * @param activations the activations, typically a cache value; not copied
+     * @return an index over {@code activations}
+     */
+    static ActivationIndex of(List<Activation> activations) {
+        if (activations == null || activations.isEmpty()) {
+            return EMPTY;
+        }
+        return new ActivationIndex(activations);
+    }
+
+    /**
+     * Returns this index if it was built from {@code activations}, otherwise a new one.
+     *
+     * <p>Lists are compared by identity: a cache refresh replaces its value with a new
+     * list, which is exactly when the index needs rebuilding.
+     *
+     * @param activations the current cache value
+     * @return an index over {@code activations}
+     */
+    ActivationIndex refreshedFrom(List<Activation> activations) {
+        boolean bothEmpty = this.activations.isEmpty() && (activations == null || activations.isEmpty());
+        return this.activations == activations || bothEmpty ? this : of(activations);
+    }
+
+    /**
+     * Returns the located activations within a radius of a point, nearest first.
+     *
+     * @param center   the search center
+     * @param radiusKm the search radius in kilometers
+     * @return the activations within {@code radiusKm}, with their distances
+     */
+    List<NearbyActivation> within(Coordinates center, double radiusKm) {
+        double maxChord = chordForDistance(radiusKm);
+        double[] target = toUnitVector(center);
+        List<Integer> hits = new ArrayList<>();
+        search(0, tree.length, 0, target, maxChord * maxChord, maxChord, hits);
+        return nearestFirst(center, hits);
+    }
+
+    /**
+     * Returns the number of activations that could be located.
+     *
+     * @return the number of indexed activations
+     */
+    int size() {
+        return located.length;
+    }
+
+    /**
+     * Resolves where an activation is, if known.
+     *
+     * @param activation the activation
+     * @return the park or summit coordinates or grid square center, null if unknown
+     */
+    static Coordinates locate(Activation activation) {
+        try {
+            if (activation.location() instanceof Summit summit) {
+                return summit.latitude() != null && summit.longitude() != null
+                        ? new Coordinates(summit.latitude(), summit.longitude())
+                        : null;
+            }
+            if (!(activation.location() instanceof Park park)) {
+                return null;
+            }
+            if (park.latitude() != null && park.longitude() != null) {
+                return new Coordinates(park.latitude(), park.longitude());
+            }
+            if (park.grid() != null && !park.grid().isBlank()) {
+                return new GridSquare(park.grid()).toCoordinates();
+            }
+        } catch (IllegalArgumentException e) {
+            // Out-of-range coordinates or a malformed grid: treat as unlocated
+            return null;
+        }
+        return null;
+    }
+
+    private List<NearbyActivation> nearestFirst(Coordinates center, List<Integer> hits) {
+        List<NearbyActivation> result = new ArrayList<>(hits.size());
+        for (int hit : hits) {
+            int distanceKm = (int) Math.round(center.distanceTo(coordinates[hit]));
+            result.add(new NearbyActivation(located[hit], distanceKm));
+        }
+        result.sort(Comparator.comparingInt(NearbyActivation::distanceKm));
+        return result;
+    }
+
+    private void build(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth % DIMENSIONS);
+        build(lo, mid, depth + 1);
+        build(mid + 1, hi, depth + 1);
+    }
+
+    private void search(int lo, int hi, int depth, double[] target, double maxChordSquared, double maxChord,
+                        List<Integer> hits) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        double[] point = points[tree[mid]];
+        if (squaredDistance(point, target) <= maxChordSquared) {
+            hits.add(tree[mid]);
+        }
+        int axis = depth % DIMENSIONS;
+        double offset = target[axis] - point[axis];
+        // Skip a side when the splitting plane alone is farther away than the radius
+        if (offset <= maxChord) {
+            search(lo, mid, depth + 1, target, maxChordSquared, maxChord, hits);
+        }
+        if (offset >= -maxChord) {
+            search(mid + 1, hi, depth + 1, target, maxChordSquared, maxChord, hits);
+        }
+    }
+
+    /** Partially sorts {@code tree[lo..hi]} so that position {@code k} holds its median on {@code axis}. */
+    private void select(int lo, int hi, int k, int axis) {
+        int left = lo;
+        int right = hi;
+        while (left < right) {
+            double pivot = points[tree[(left + right) >>> 1]][axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (points[tree[i]][axis] < pivot) {
+                    i++;
+                }
+                while (points[tree[j]][axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = tree[i];
+                    tree[i] = tree[j];
+                    tree[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static double chordForDistance(double distanceKm) {
+        double angle = Math.min(distanceKm / EARTH_RADIUS_KM, Math.PI);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    private static double[] toUnitVector(Coordinates coordinates) {
+        double lat = Math.toRadians(coordinates.latitude());
+        double lon = Math.toRadians(coordinates.longitude());
+        double cosLat = Math.cos(lat);
+        return new double[] {cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat)};
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -1,19 +1,26 @@
 package io.nextskip.activations.internal;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.api.ActivationsResponse;
 import io.nextskip.activations.api.ActivationsService;
+import io.nextskip.activations.api.NearbyActivationsResponse;
 import io.nextskip.activations.model.Activation;
 import io.nextskip.activations.model.ActivationsSummary;
-import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.NearbyActivation;
 import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.model.GridSquare;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,77 +28,143 @@ import java.util.List;
  *
  * <p>Reads activation data from the LoadingCache backed by the database.
  * Cache is populated by PotaRefreshTask and SotaRefreshTask which fetch
- * from external APIs, save to DB, then trigger async cache refresh.
+ * from external APIs, save to DB, then trigger async cache refresh. The cache
+ * holds an {@link ActivationsReadModel} built once per refresh, so the summary
+ * and dashboard response are served as-is rather than rebuilt per request.
+ *
+ * <p>When spot processing is enabled, activations in the dashboard response carry
+ * live reach statistics from the {@link ActivationReachProvider}. Reach is attached
+ * once per cache refresh and then refreshed on a timer, so requests serve a
+ * prebuilt response instead of copying every activation. The dashboard snapshot
+ * asks for the response evaluated against its instant, so the serialized scores
+ * match its ranking.
+ *
+ * <p>Proximity queries use an {@link ActivationIndex} over the cached activations,
+ * rebuilt only when a cache refresh replaces that list.
  */
 @Service
 public class ActivationsServiceImpl implements ActivationsService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ActivationsServiceImpl.class);
 
-    private final LoadingCache<String, List<Activation>> activationsCache;
+    private final LoadingCache<String, ActivationsReadModel> activationsCache;
     private final Clock clock;
+    private final ObjectProvider<ActivationReachProvider> reachProvider;
+    private volatile ActivationIndex index = ActivationIndex.of(List.of());
+    private volatile ReachedResponse reached;
 
     @Autowired
-    public ActivationsServiceImpl(LoadingCache<String, List<Activation>> activationsCache, Clock clock) {
+    public ActivationsServiceImpl(LoadingCache<String, ActivationsReadModel> activationsCache, Clock clock,
+                                  ObjectProvider<ActivationReachProvider> reachProvider) {
         this.activationsCache = activationsCache;
         this.clock = clock;
+        this.reachProvider = reachProvider;
     }
 
     @Override
     public ActivationsSummary getActivationsSummary() {
-        LOG.debug("Fetching activations summary from cache");
+        return readModel().summary();
+    }
 
-        List<Activation> allActivations = activationsCache.get(CacheConfig.CACHE_KEY);
-        if (allActivations == null) {
-            allActivations = List.of();
+    @Override
+    public ActivationsResponse getActivationsResponse() {
+        ActivationsResponse response = readModel().response();
+        ActivationReachProvider reach = reachProvider.getIfAvailable();
+        if (reach == null) {
+            return response;
+        }
+        ReachedResponse current = reached;
+        if (current == null || current.source() != response) {
+            // First request after a cache refresh; the timer keeps reach current from here
+            current = new ReachedResponse(response, withReach(response, reach));
+            reached = current;
         }
+        return current.response();
+    }
 
-        // Count by type
-        int potaCount = (int) allActivations.stream()
-                .filter(a -> a.type() == ActivationType.POTA)
-                .count();
-        int sotaCount = (int) allActivations.stream()
-                .filter(a -> a.type() == ActivationType.SOTA)
-                .count();
-
-        LOG.info("Activations summary: {} POTA, {} SOTA (total: {})",
-                potaCount, sotaCount, potaCount + sotaCount);
-
-        return new ActivationsSummary(
-                allActivations,
-                potaCount,
-                sotaCount,
-                Instant.now(clock)
+    @Override
+    public ActivationsResponse getActivationsResponse(Instant asOf) {
+        ActivationsResponse response = getActivationsResponse();
+        return new ActivationsResponse(
+                evaluate(response.potaActivations(), asOf),
+                evaluate(response.sotaActivations(), asOf),
+                response.totalCount(),
+                response.lastUpdated()
         );
     }
 
-    @Override
-    public ActivationsResponse getActivationsResponse() {
-        LOG.debug("Building activations response for dashboard");
+    /**
+     * Re-reads reach for the cached activations so the served response follows the
+     * spot stream between cache refreshes.
+     *
+     * <p>Does nothing when spot processing is disabled or the cache is empty.
+     */
+    @Scheduled(fixedDelayString = "${nextskip.activations.reach-refresh-interval:PT30S}")
+    public void refreshReach() {
+        ActivationReachProvider reach = reachProvider.getIfAvailable();
+        if (reach == null) {
+            return;
+        }
+        ActivationsReadModel model = activationsCache.getIfPresent(CacheConfig.CACHE_KEY);
+        if (model == null) {
+            return;
+        }
+        reached = new ReachedResponse(model.response(), withReach(model.response(), reach));
+    }
 
-        ActivationsSummary summary = getActivationsSummary();
+    @Override
+    public NearbyActivationsResponse getActivationsNear(String grid, double radiusKm) {
+        if (!(radiusKm > 0)) {
+            throw new IllegalArgumentException("Search radius must be positive: " + radiusKm);
+        }
+        GridSquare center = new GridSquare(grid);
 
-        // Separate activations by type (business logic in service layer)
-        List<Activation> potaActivations = summary.activations().stream()
-                .filter(a -> a.type() == ActivationType.POTA)
-                .toList();
+        ActivationIndex current = index.refreshedFrom(readModel().activations());
+        index = current;
+        List<NearbyActivation> nearby = current.within(center.toCoordinates(), radiusKm);
 
-        List<Activation> sotaActivations = summary.activations().stream()
-                .filter(a -> a.type() == ActivationType.SOTA)
-                .toList();
+        LOG.debug("Found {} of {} located activations within {} km of {}",
+                nearby.size(), current.size(), radiusKm, center.value());
+        return new NearbyActivationsResponse(center.value(), radiusKm, nearby, Instant.now(clock));
+    }
 
-        int totalCount = potaActivations.size() + sotaActivations.size();
+    /**
+     * Returns the read model for the current cache value, or an empty one stamped now
+     * if the cache has nothing.
+     */
+    private ActivationsReadModel readModel() {
+        ActivationsReadModel model = activationsCache.get(CacheConfig.CACHE_KEY);
+        return model != null ? model : ActivationsReadModel.of(List.of(), Instant.now(clock));
+    }
 
-        ActivationsResponse response = new ActivationsResponse(
-                potaActivations,
-                sotaActivations,
-                totalCount,
-                summary.lastUpdated()
+    private static ActivationsResponse withReach(ActivationsResponse response, ActivationReachProvider reach) {
+        return new ActivationsResponse(
+                withReach(response.potaActivations(), reach),
+                withReach(response.sotaActivations(), reach),
+                response.totalCount(),
+                response.lastUpdated()
         );
+    }
 
-        LOG.debug("Returning activations response: {} POTA, {} SOTA (total: {})",
-                potaActivations.size(), sotaActivations.size(), totalCount);
+    private static List<Activation> withReach(List<Activation> activations, ActivationReachProvider reach) {
+        List<Activation> enriched = new ArrayList<>(activations.size());
+        for (Activation activation : activations) {
+            enriched.add(activation.withReach(reach.getReach(activation)));
+        }
+        return enriched;
+    }
+
+    private static List<Activation> evaluate(List<Activation> activations, Instant asOf) {
+        List<Activation> evaluated = new ArrayList<>(activations.size());
+        for (Activation activation : activations) {
+            evaluated.add(activation.evaluatedAt(asOf));
+        }
+        return evaluated;
+    }
 
-        return response;
+    /**
+     * A dashboard response with reach attached, and the cached response it was built from.
+     */
+    private record ReachedResponse(ActivationsResponse source, ActivationsResponse response) {
     }
 }
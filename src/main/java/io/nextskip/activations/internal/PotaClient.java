@@ -10,6 +10,7 @@ import io.nextskip.common.client.AbstractExternalDataClient;
 import io.nextskip.common.util.ParsingUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -83,20 +84,21 @@ public class PotaClient extends AbstractExternalDataClient<List<Activation>> {
 
     @Override
     protected List<Activation> doFetch() {
-        getLog().debug("Fetching POTA activations from API");
+        return doFetchAsync().block();
+    }
 
-        List<PotaSpotDto> spots = getWebClient().get()
+    @Override
+    protected Mono<List<Activation>> doFetchAsync() {
+        return getWebClient().get()
                 .retrieve()
                 .bodyToFlux(PotaSpotDto.class)
                 .timeout(getRequestTimeout())
                 .collectList()
-                .block();
-
-        if (spots == null) {
-            getLog().warn("No data received from POTA API");
-            return List.of();
-        }
+                .map(this::toActivations)
+                .doOnSubscribe(subscription -> getLog().debug("Fetching POTA activations from API"));
+    }
 
+    private List<Activation> toActivations(List<PotaSpotDto> spots) {
         List<Activation> activations = spots.stream()
                 .map(this::toActivation)
                 .filter(a -> a != null)
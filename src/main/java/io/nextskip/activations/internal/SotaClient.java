@@ -10,6 +10,7 @@ import io.nextskip.common.client.AbstractExternalDataClient;
 import io.nextskip.common.util.ParsingUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -89,20 +90,21 @@ public class SotaClient extends AbstractExternalDataClient<List<Activation>> {
 
     @Override
     protected List<Activation> doFetch() {
-        getLog().debug("Fetching SOTA activations from API");
+        return doFetchAsync().block();
+    }
 
-        List<SotaSpotDto> spots = getWebClient().get()
+    @Override
+    protected Mono<List<Activation>> doFetchAsync() {
+        return getWebClient().get()
                 .retrieve()
                 .bodyToFlux(SotaSpotDto.class)
                 .timeout(getRequestTimeout())
                 .collectList()
-                .block();
-
-        if (spots == null) {
-            getLog().warn("No data received from SOTA API");
-            return List.of();
-        }
+                .map(this::toRecentActivations)
+                .doOnSubscribe(subscription -> getLog().debug("Fetching SOTA activations from API"));
+    }
 
+    private List<Activation> toRecentActivations(List<SotaSpotDto> spots) {
         Instant cutoff = Instant.now().minus(RECENCY_THRESHOLD);
 
         List<Activation> activations = spots.stream()
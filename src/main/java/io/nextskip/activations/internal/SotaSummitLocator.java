@@ -0,0 +1,203 @@
+package io.nextskip.activations.internal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.nextskip.activations.internal.dto.SotaSummitDto;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.Summit;
+import io.nextskip.common.model.Coordinates;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resolves SOTA summit coordinates from the SOTA summit lookup API.
+ *
+ * <p>SOTA spots name a summit but do not locate it, so each summit reference is
+ * looked up once at https://api2.sota.org.uk/api/summits/{association}/{code} and
+ * the answer is cached. Summits do not move, so entries never expire; the cache is
+ * bounded by size instead. A summit the API does not know, or knows without a
+ * location, is cached as unlocated.
+ *
+ * <p>Lookups go through the {@code sota-summits} circuit breaker and retry. A failed
+ * lookup (timeout, 5xx) leaves the summit unlocated and is remembered for
+ * five minutes, so a slow or down API is asked again a few minutes later
+ * rather than on every refresh. Each call also spends at most ten seconds
+ * on lookups; summits still pending then stay unlocated until a later refresh.
+ */
+@Component
+public class SotaSummitLocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SotaSummitLocator.class);
+
+    private static final String SUMMITS_URL = "https://api2.sota.org.uk/api/summits";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * How long a failed lookup is remembered before the summit is asked for again.
+     */
+    static final Duration FAILURE_TTL = Duration.ofMinutes(5);
+
+    /**
+     * Most time one refresh spends locating summits; a fraction of the one-minute SOTA refresh.
+     */
+    static final Duration LOCATE_BUDGET = Duration.ofSeconds(10);
+
+    /**
+     * Resilience4j instance name, configured in application.yml.
+     */
+    static final String RESILIENCE_NAME = "sota-summits";
+
+    /**
+     * Summits looked up at once; a refresh rarely sees more than a handful of new ones.
+     */
+    private static final int MAX_CONCURRENT_LOOKUPS = 4;
+
+    /**
+     * Upper bound on cached summits, well above the number activated in a day.
+     */
+    static final long MAX_CACHED_SUMMITS = 20_000;
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+    private final Duration locateBudget;
+    private final Cache<String, Optional<Coordinates>> coordinates = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SUMMITS)
+            .build();
+    private final Cache<String, Boolean> recentFailures = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SUMMITS)
+            .expireAfterWrite(FAILURE_TTL)
+            .build();
+
+    @Autowired
+    public SotaSummitLocator(
+            WebClient.Builder webClientBuilder,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry) {
+        this(webClientBuilder, circuitBreakerRegistry, retryRegistry, SUMMITS_URL, LOCATE_BUDGET);
+    }
+
+    SotaSummitLocator(
+            WebClient.Builder webClientBuilder,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            RetryRegistry retryRegistry,
+            String baseUrl,
+            Duration locateBudget) {
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .build();
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_NAME);
+        this.retry = retryRegistry.retry(RESILIENCE_NAME);
+        this.locateBudget = locateBudget;
+    }
+
+    /**
+     * Locates the summits of the given activations.
+     *
+     * <p>Summits not yet cached, and not recently failed, are looked up first, for at
+     * most the locate budget; activations whose summit is located are returned with
+     * the coordinates filled in, all others unchanged. Never errors: a failed or
+     * unfinished lookup only leaves its summit unlocated.
+     *
+     * @param activations the activations to locate
+     * @return a {@link Mono} emitting the activations, in the same order
+     */
+    public Mono<List<Activation>> locateAsync(List<Activation> activations) {
+        return Flux.fromIterable(activations)
+                .map(Activation::location)
+                .ofType(Summit.class)
+                .map(Summit::reference)
+                .distinct()
+                .filter(reference -> coordinates.getIfPresent(reference) == null
+                        && recentFailures.getIfPresent(reference) == null)
+                .flatMap(this::lookUp, MAX_CONCURRENT_LOOKUPS)
+                .then()
+                .timeout(locateBudget, Mono.fromRunnable(
+                        () -> LOG.warn("SOTA summit lookups exceeded {}; the rest wait for a later refresh",
+                                locateBudget)))
+                .then(Mono.fromSupplier(() -> activations.stream()
+                        .map(this::withCoordinates)
+                        .toList()));
+    }
+
+    /**
+     * Blocking variant of {@link #locateAsync(List)}.
+     *
+     * @param activations the activations to locate
+     * @return the activations, in the same order
+     */
+    public List<Activation> locate(List<Activation> activations) {
+        return locateAsync(activations).block();
+    }
+
+    private Mono<Void> lookUp(String reference) {
+        int slash = reference.indexOf('/');
+        if (slash <= 0 || slash == reference.length() - 1) {
+            coordinates.put(reference, Optional.empty());
+            return Mono.empty();
+        }
+        return webClient.get()
+                .uri("/{association}/{code}", reference.substring(0, slash), reference.substring(slash + 1))
+                .retrieve()
+                .bodyToMono(SotaSummitDto.class)
+                .timeout(REQUEST_TIMEOUT)
+                .map(SotaSummitLocator::toCoordinates)
+                .defaultIfEmpty(Optional.empty())
+                // An unknown summit is an answer, not a failure the breaker should count
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(Optional.empty()))
+                .transformDeferred(RetryOperator.of(retry))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnNext(located -> coordinates.put(reference, located))
+                .onErrorResume(CallNotPermittedException.class, e -> Mono.empty())
+                .onErrorResume(e -> {
+                    LOG.warn("SOTA summit lookup failed for {}: {}", reference, e.getMessage());
+                    recentFailures.put(reference, Boolean.TRUE);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Optional<Coordinates> toCoordinates(SotaSummitDto dto) {
+        if (dto.latitude() == null || dto.longitude() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new Coordinates(dto.latitude(), dto.longitude()));
+        } catch (IllegalArgumentException e) {
+            // Out-of-range coordinates: treat as unlocated
+            return Optional.empty();
+        }
+    }
+
+    private Activation withCoordinates(Activation activation) {
+        if (!(activation.location() instanceof Summit summit)) {
+            return activation;
+        }
+        Optional<Coordinates> located = coordinates.getIfPresent(summit.reference());
+        if (located == null || located.isEmpty()) {
+            return activation;
+        }
+        Coordinates position = located.get();
+        return new Activation(activation.spotId(), activation.activatorCallsign(), activation.type(),
+                activation.frequency(), activation.mode(), activation.spottedAt(), activation.lastSeenAt(),
+                activation.qsoCount(), activation.source(),
+                summit.withCoordinates(position.latitude(), position.longitude()));
+    }
+}
@@ -0,0 +1,30 @@
+package io.nextskip.activations.internal.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * DTO for SOTA API summit lookup response.
+ *
+ * <p>Maps to the JSON structure returned by
+ * https://api2.sota.org.uk/api/summits/{association}/{code}, of which only the
+ * location is used.
+ *
+ * <p>Example response:
+ * <pre>
+ * {
+ *   "summitCode": "W7W/LC-001",
+ *   "name": "Mount Saint Helens",
+ *   "latitude": 46.1914,
+ *   "longitude": -122.1956,
+ *   "locator": "CN86mf"
+ * }
+ * </pre>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SotaSummitDto(
+        @JsonProperty("summitCode") String summitCode,
+        @JsonProperty("latitude") Double latitude,
+        @JsonProperty("longitude") Double longitude
+) {
+}
@@ -0,0 +1,104 @@
+package io.nextskip.activations.internal.scheduler;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.activations.persistence.entity.ActivationEntity;
+import io.nextskip.activations.persistence.repository.ActivationRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Writes refreshed activations with a batched native upsert.
+ *
+ * <p>Each activation becomes one {@link ActivationRepository#UPSERT_SQL} statement
+ * and the whole refresh is sent as a single JDBC batch. This replaces a lookup of
+ * existing IDs followed by {@code saveAll}, which Hibernate executed as one
+ * UPDATE or INSERT round trip per row and rewrote every row on every refresh.
+ *
+ * <p>Rows whose content is unchanged are skipped by the database. Their
+ * {@code last_seen_at} is only advanced once it is older than
+ * {@link #LAST_SEEN_REFRESH}, which keeps them well inside the two-hour retention
+ * window used by the refresh services' cleanup.
+ */
+@Component
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+class ActivationUpsertWriter {
+
+    /** How stale an unchanged row's {@code last_seen_at} may get before it is rewritten. */
+    static final Duration LAST_SEEN_REFRESH = Duration.ofMinutes(15);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    ActivationUpsertWriter(NamedParameterJdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Inserts new activations and updates changed ones in one batch.
+     *
+     * @param entities activations from one API refresh
+     * @return rows written versus left unchanged
+     */
+    UpsertResult upsert(List<ActivationEntity> entities) {
+        if (entities.isEmpty()) {
+            return new UpsertResult(0, 0);
+        }
+        Timestamp lastSeenBefore = Timestamp.from(clock.instant().minus(LAST_SEEN_REFRESH));
+        SqlParameterSource[] batch = entities.stream()
+                .map(entity -> parameters(entity, lastSeenBefore))
+                .toArray(SqlParameterSource[]::new);
+
+        int written = 0;
+        for (int count : jdbcTemplate.batchUpdate(ActivationRepository.UPSERT_SQL, batch)) {
+            // Drivers that rewrite batches report SUCCESS_NO_INFO; count those as written
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                written++;
+            }
+        }
+        return new UpsertResult(written, entities.size() - written);
+    }
+
+    // Explicit SQL types let NULLs bind without a parameter metadata round trip
+    private static SqlParameterSource parameters(ActivationEntity entity, Timestamp lastSeenBefore) {
+        return new MapSqlParameterSource()
+                .addValue("spotId", entity.getSpotId(), Types.VARCHAR)
+                .addValue("activatorCallsign", entity.getActivatorCallsign(), Types.VARCHAR)
+                .addValue("type", entity.getType().name(), Types.VARCHAR)
+                .addValue("frequency", entity.getFrequency(), Types.DOUBLE)
+                .addValue("mode", entity.getMode(), Types.VARCHAR)
+                .addValue("spottedAt", Timestamp.from(entity.getSpottedAt()), Types.TIMESTAMP)
+                .addValue("lastSeenAt", Timestamp.from(entity.getLastSeenAt()), Types.TIMESTAMP)
+                .addValue("qsoCount", entity.getQsoCount(), Types.INTEGER)
+                .addValue("source", entity.getSource(), Types.VARCHAR)
+                .addValue("locationReference", entity.getLocationReference(), Types.VARCHAR)
+                .addValue("locationName", entity.getLocationName(), Types.VARCHAR)
+                .addValue("locationRegionCode", entity.getLocationRegionCode(), Types.VARCHAR)
+                .addValue("parkCountryCode", entity.getParkCountryCode(), Types.VARCHAR)
+                .addValue("parkGrid", entity.getParkGrid(), Types.VARCHAR)
+                .addValue("parkLatitude", entity.getParkLatitude(), Types.DOUBLE)
+                .addValue("parkLongitude", entity.getParkLongitude(), Types.DOUBLE)
+                .addValue("summitAssociationCode", entity.getSummitAssociationCode(), Types.VARCHAR)
+                .addValue("summitLatitude", entity.getSummitLatitude(), Types.DOUBLE)
+                .addValue("summitLongitude", entity.getSummitLongitude(), Types.DOUBLE)
+                .addValue("lastSeenBefore", lastSeenBefore, Types.TIMESTAMP);
+    }
+
+    /**
+     * Outcome of one batched upsert.
+     *
+     * @param written   rows inserted or updated
+     * @param unchanged rows that already matched and were left untouched
+     */
+    record UpsertResult(int written, int unchanged) {
+    }
+}
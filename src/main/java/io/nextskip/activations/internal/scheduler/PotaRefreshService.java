@@ -2,10 +2,12 @@ package io.nextskip.activations.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.internal.PotaClient;
 import io.nextskip.activations.model.Activation;
 import io.nextskip.activations.persistence.entity.ActivationEntity;
 import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.AbstractRefreshService;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -15,6 +17,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -31,7 +35,7 @@ import java.util.List;
  */
 @Service
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
-public class PotaRefreshService extends AbstractRefreshService {
+public class PotaRefreshService extends AbstractRefreshService<List<Activation>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(PotaRefreshService.class);
     private static final String SERVICE_NAME = "POTA";
@@ -39,20 +43,25 @@ public class PotaRefreshService extends AbstractRefreshService {
 
     private final PotaClient potaClient;
     private final ActivationRepository repository;
-    private final LoadingCache<String, List<Activation>> activationsCache;
+    private final ActivationUpsertWriter upsertWriter;
+    private final LoadingCache<String, ActivationsReadModel> activationsCache;
 
     // Metrics for success message
-    private int savedCount;
+    private int writtenCount;
+    private int unchangedCount;
     private int deletedCount;
 
     public PotaRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             PotaClient potaClient,
             ActivationRepository repository,
-            LoadingCache<String, List<Activation>> activationsCache) {
-        super(eventPublisher);
+            ActivationUpsertWriter upsertWriter,
+            LoadingCache<String, ActivationsReadModel> activationsCache) {
+        super(eventPublisher, transactionOperations);
         this.potaClient = potaClient;
         this.repository = repository;
+        this.upsertWriter = upsertWriter;
         this.activationsCache = activationsCache;
     }
 
@@ -62,21 +71,28 @@ public class PotaRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected FetchResult<List<Activation>> fetchUpdates() {
         // Fetch fresh data from API (client handles circuit breaker/retry)
-        List<Activation> activations = potaClient.fetch();
+        return potaClient.fetchIfModified();
+    }
 
+    @Override
+    protected Mono<FetchResult<List<Activation>>> fetchUpdatesAsync() {
+        return potaClient.fetchIfModifiedAsync();
+    }
+
+    @Override
+    protected void doRefresh(List<Activation> activations) {
         // Convert to entities
         List<ActivationEntity> entities = activations.stream()
                 .map(ActivationEntity::fromDomain)
                 .toList();
 
-        // Prepare for upsert (sets IDs for existing entities to enable UPDATE)
-        ActivationUpsertHelper.prepareForUpsert(entities, "POTA API", repository);
-
         try {
-            repository.saveAll(entities);
-            this.savedCount = entities.size();
+            // One batched native upsert; rows whose content is unchanged are not rewritten
+            ActivationUpsertWriter.UpsertResult result = upsertWriter.upsert(entities);
+            this.writtenCount = result.written();
+            this.unchangedCount = result.unchanged();
 
             // Cleanup POTA data not seen in API for 2+ hours (source-filtered to avoid race condition)
             Instant cutoff = Instant.now().minus(DATA_RETENTION);
@@ -87,16 +103,21 @@ public class PotaRefreshService extends AbstractRefreshService {
         }
     }
 
+    @Override
+    protected void onRefreshFailed() {
+        potaClient.resetConditionalFetch();
+    }
+
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        return new CacheRefreshEvent("activations",
+        return new CacheRefreshEvent(CacheConfig.ACTIVATIONS,
                 () -> activationsCache.refresh(CacheConfig.CACHE_KEY));
     }
 
     @Override
     protected String getSuccessMessage() {
-        return String.format("POTA refresh complete: %d activations saved, %d old records deleted",
-                savedCount, deletedCount);
+        return String.format("POTA refresh complete: %d activations written, %d unchanged, %d old records deleted",
+                writtenCount, unchangedCount, deletedCount);
     }
 
     @Override
@@ -2,10 +2,13 @@ package io.nextskip.activations.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.internal.SotaClient;
+import io.nextskip.activations.internal.SotaSummitLocator;
 import io.nextskip.activations.model.Activation;
 import io.nextskip.activations.persistence.entity.ActivationEntity;
 import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.AbstractRefreshService;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -15,6 +18,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -25,34 +30,44 @@ import java.util.List;
  *
  * <p>Handles the transactional business logic for fetching SOTA spots from the API,
  * persisting them to the database, cleaning up old data, and triggering cache refresh.
+ * Fetched summits are located through {@link SotaSummitLocator} before they are
+ * persisted, so the near-search index can place them.
  *
  * <p>Extends {@link AbstractRefreshService} to inherit transaction management
  * and consistent logging patterns.
  */
 @Service
 @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
-public class SotaRefreshService extends AbstractRefreshService {
+public class SotaRefreshService extends AbstractRefreshService<List<Activation>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(SotaRefreshService.class);
     private static final String SERVICE_NAME = "SOTA";
     private static final Duration DATA_RETENTION = Duration.ofHours(2);
 
     private final SotaClient sotaClient;
+    private final SotaSummitLocator summitLocator;
     private final ActivationRepository repository;
-    private final LoadingCache<String, List<Activation>> activationsCache;
+    private final ActivationUpsertWriter upsertWriter;
+    private final LoadingCache<String, ActivationsReadModel> activationsCache;
 
     // Metrics for success message
-    private int savedCount;
+    private int writtenCount;
+    private int unchangedCount;
     private int deletedCount;
 
     public SotaRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             SotaClient sotaClient,
             ActivationRepository repository,
-            LoadingCache<String, List<Activation>> activationsCache) {
-        super(eventPublisher);
+            ActivationUpsertWriter upsertWriter,
+            LoadingCache<String, ActivationsReadModel> activationsCache,
+            SotaSummitLocator summitLocator) {
+        super(eventPublisher, transactionOperations);
         this.sotaClient = sotaClient;
+        this.summitLocator = summitLocator;
         this.repository = repository;
+        this.upsertWriter = upsertWriter;
         this.activationsCache = activationsCache;
     }
 
@@ -62,21 +77,35 @@ public class SotaRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected FetchResult<List<Activation>> fetchUpdates() {
         // Fetch fresh data from API (client handles circuit breaker/retry)
-        List<Activation> activations = sotaClient.fetch();
+        FetchResult<List<Activation>> result = sotaClient.fetchIfModified();
+        if (!result.modified()) {
+            return result;
+        }
+        return FetchResult.modified(summitLocator.locate(result.data()));
+    }
+
+    @Override
+    protected Mono<FetchResult<List<Activation>>> fetchUpdatesAsync() {
+        return sotaClient.fetchIfModifiedAsync()
+                .flatMap(result -> result.modified()
+                        ? summitLocator.locateAsync(result.data()).map(FetchResult::modified)
+                        : Mono.just(result));
+    }
 
+    @Override
+    protected void doRefresh(List<Activation> activations) {
         // Convert to entities
         List<ActivationEntity> entities = activations.stream()
                 .map(ActivationEntity::fromDomain)
                 .toList();
 
-        // Prepare for upsert (sets IDs for existing entities to enable UPDATE)
-        ActivationUpsertHelper.prepareForUpsert(entities, "SOTA API", repository);
-
         try {
-            repository.saveAll(entities);
-            this.savedCount = entities.size();
+            // One batched native upsert; rows whose content is unchanged are not rewritten
+            ActivationUpsertWriter.UpsertResult result = upsertWriter.upsert(entities);
+            this.writtenCount = result.written();
+            this.unchangedCount = result.unchanged();
 
             // Cleanup SOTA data not seen in API for 2+ hours (source-filtered to avoid race condition)
             Instant cutoff = Instant.now().minus(DATA_RETENTION);
@@ -87,16 +116,21 @@ public class SotaRefreshService extends AbstractRefreshService {
         }
     }
 
+    @Override
+    protected void onRefreshFailed() {
+        sotaClient.resetConditionalFetch();
+    }
+
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        return new CacheRefreshEvent("activations",
+        return new CacheRefreshEvent(CacheConfig.ACTIVATIONS,
                 () -> activationsCache.refresh(CacheConfig.CACHE_KEY));
     }
 
     @Override
     protected String getSuccessMessage() {
-        return String.format("SOTA refresh complete: %d activations saved, %d old records deleted",
-                savedCount, deletedCount);
+        return String.format("SOTA refresh complete: %d activations written, %d unchanged, %d old records deleted",
+                writtenCount, unchangedCount, deletedCount);
     }
 
     @Override
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -35,15 +36,18 @@ public class SotaRefreshTask implements RefreshTaskCoordinator {
     private static final Duration STALE_THRESHOLD = Duration.ofMinutes(5);
 
     private final ActivationRepository repository;
+    private final SotaRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
      * Creates a new SOTA refresh task coordinator.
      *
      * @param repository the activation repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
-    public SotaRefreshTask(ActivationRepository repository) {
+    public SotaRefreshTask(ActivationRepository repository, SotaRefreshService refreshService) {
         this.repository = repository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -81,6 +85,11 @@ public class SotaRefreshTask implements RefreshTaskCoordinator {
                 ActivationType.SOTA, recent).isEmpty();
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
@@ -1,5 +1,7 @@
 package io.nextskip.activations.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.nextskip.common.api.ScoreEvaluation;
 import io.nextskip.common.api.Scoreable;
 import java.time.Instant;
 import java.time.Duration;
@@ -20,6 +22,10 @@ import java.time.Duration;
  * Location-specific information is encapsulated in {@link ActivationLocation}
  * implementations ({@link Park} or {@link Summit}).</p>
  *
+ * <p>The no-argument {@link #getScore()} and {@link #isFavorable()}, which are what gets
+ * serialized, return the values pinned by {@link #evaluatedAt(Instant)}, or compute them
+ * against the current time if the activation has not been evaluated.</p>
+ *
  * @param spotId Unique identifier for the spot
  * @param activatorCallsign Callsign of the activator
  * @param type Type of activation (POTA or SOTA)
@@ -30,6 +36,8 @@ import java.time.Duration;
  * @param qsoCount Number of QSOs completed (if available)
  * @param source Data source identifier
  * @param location Location being activated (Park for POTA, Summit for SOTA)
+ * @param reach Where the activator has been heard on the live spot stream, or null
+ * @param evaluation Score and favorability pinned to a snapshot instant, or null
  */
 public record Activation(
         String spotId,
@@ -41,7 +49,9 @@ public record Activation(
         Instant lastSeenAt,
         Integer qsoCount,
         String source,
-        ActivationLocation location
+        ActivationLocation location,
+        ActivationReach reach,
+        @JsonIgnore ScoreEvaluation evaluation
 ) implements Scoreable {
 
     // Recency scoring thresholds (in minutes)
@@ -50,17 +60,51 @@ public record Activation(
     private static final long AGING_THRESHOLD_MINUTES = 30;
     private static final long STALE_THRESHOLD_MINUTES = 60;
 
+    /**
+     * Creates an activation without reach statistics that has not been evaluated.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Mirrors the record components
+    public Activation(String spotId, String activatorCallsign, ActivationType type, Double frequency, String mode,
+                      Instant spottedAt, Instant lastSeenAt, Integer qsoCount, String source,
+                      ActivationLocation location) {
+        this(spotId, activatorCallsign, type, frequency, mode, spottedAt, lastSeenAt, qsoCount, source, location,
+                null, null);
+    }
+
+    /**
+     * Returns a copy carrying the given reach statistics.
+     *
+     * @param reach where the activator has been heard, or null
+     * @return the activation with {@code reach} attached
+     */
+    public Activation withReach(ActivationReach reach) {
+        return new Activation(spotId, activatorCallsign, type, frequency, mode, spottedAt, lastSeenAt, qsoCount,
+                source, location, reach, evaluation);
+    }
+
+    /**
+     * Returns a copy with its score and favorability pinned to the given instant.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return the evaluated activation
+     */
+    public Activation evaluatedAt(Instant asOf) {
+        return new Activation(spotId, activatorCallsign, type, frequency, mode, spottedAt, lastSeenAt, qsoCount,
+                source, location, reach, ScoreEvaluation.of(this, asOf));
+    }
+
     /**
      * An activation is favorable if it was spotted within the past 15 minutes.
      *
-     * <p>Uses the current time as reference. For deterministic testing, use
-     * {@link #isFavorable(Instant)} with an explicit reference time.</p>
+     * <p>Returns the value pinned by {@link #evaluatedAt(Instant)}, or uses the current
+     * time as reference. For deterministic testing, use {@link #isFavorable(Instant)}
+     * with an explicit reference time.</p>
      *
      * @return true if the activation was recently spotted and likely still active
      */
     @Override
     public boolean isFavorable() {
-        return isFavorable(Instant.now());
+        return evaluation != null ? evaluation.favorable() : isFavorable(Instant.now());
     }
 
     /**
@@ -72,6 +116,7 @@ public record Activation(
      * @param asOf the reference time to calculate recency from
      * @return true if the activation was recently spotted and likely still active
      */
+    @Override
     public boolean isFavorable(Instant asOf) {
         if (spottedAt == null) {
             return false;
@@ -83,14 +128,15 @@ public record Activation(
     /**
      * Calculate score based on how recently the activation was spotted.
      *
-     * <p>Uses the current time as reference. For deterministic testing, use
-     * {@link #getScore(Instant)} with an explicit reference time.</p>
+     * <p>Returns the value pinned by {@link #evaluatedAt(Instant)}, or uses the current
+     * time as reference. For deterministic testing, use {@link #getScore(Instant)} with
+     * an explicit reference time.</p>
      *
      * @return score from 0-100 based on recency
      */
     @Override
     public int getScore() {
-        return getScore(Instant.now());
+        return evaluation != null ? evaluation.score() : getScore(Instant.now());
     }
 
     /**
@@ -114,6 +160,7 @@ public record Activation(
      * @param asOf the reference time to calculate recency from
      * @return score from 0-100 based on recency
      */
+    @Override
     public int getScore(Instant asOf) {
         if (spottedAt == null) {
             return 0;
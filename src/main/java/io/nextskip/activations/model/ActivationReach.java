@@ -0,0 +1,27 @@
+package io.nextskip.activations.model;
+
+import java.util.Set;
+
+/**
+ * Where an activator has been heard on the live PSKReporter spot stream.
+ *
+ * <p>Counted from the spots in the spot module's recent reach window, matched on the
+ * activator's callsign, its base call and its base call with {@code /P}.
+ *
+ * @param spotCount     number of reception reports of the activator
+ * @param maxDistanceKm farthest receiving station in kilometers, null if unknown
+ * @param continents    continent codes of the receiving stations
+ */
+public record ActivationReach(
+        int spotCount,
+        Integer maxDistanceKm,
+        Set<String> continents
+) {
+
+    /**
+     * Compact constructor with defensive copying for collections.
+     */
+    public ActivationReach {
+        continents = continents != null ? Set.copyOf(continents) : Set.of();
+    }
+}
@@ -63,13 +63,24 @@ public record ActivationsSummary(
      */
     @Override
     public int getScore() {
+        return getScore(Instant.now());
+    }
+
+    /**
+     * Calculate score based on total activation count and recency at the given reference time.
+     *
+     * @param asOf the reference time for the recency bonus
+     * @return score from 0-100 based on activity level
+     */
+    @Override
+    public int getScore(Instant asOf) {
         int totalCount = potaCount + sotaCount;
         int baseScore = totalCount * 3;
 
         // Check if any activation is very recent (last 5 minutes)
         boolean hasRecentActivation = activations != null && activations.stream()
                 .anyMatch(a -> a.spottedAt() != null
-                        && java.time.Duration.between(a.spottedAt(), Instant.now()).toMinutes() <= 5);
+                        && java.time.Duration.between(a.spottedAt(), asOf).toMinutes() <= 5);
 
         int recencyBonus = hasRecentActivation ? 10 : 0;
 
@@ -0,0 +1,13 @@
+package io.nextskip.activations.model;
+
+/**
+ * An activation paired with its great-circle distance from a query location.
+ *
+ * @param activation the activation
+ * @param distanceKm distance from the query location in kilometers, rounded
+ */
+public record NearbyActivation(
+        Activation activation,
+        int distanceKm
+) {
+}
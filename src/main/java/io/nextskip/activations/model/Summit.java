@@ -4,7 +4,8 @@ package io.nextskip.activations.model;
  * Represents a Summits on the Air (SOTA) summit location.
  *
  * <p>This record contains location-specific data for SOTA summits,
- * including the association code that groups summits by region.
+ * including the association code that groups summits by region. SOTA spots carry no
+ * coordinates; they are resolved separately from the SOTA summit lookup API.
  *
  * <p>Implements {@link ActivationLocation} to provide a common interface
  * with other activation location types.
@@ -13,12 +14,16 @@ package io.nextskip.activations.model;
  * @param name Human-readable summit name (e.g., "Mount Saint Helens", "Brasstown Bald")
  * @param regionCode State or region abbreviation (e.g., "WA", "GA"), or null if unknown
  * @param associationCode SOTA association code (e.g., "W7W", "W4G"), or null if unknown
+ * @param latitude Latitude in decimal degrees, or null if not resolved
+ * @param longitude Longitude in decimal degrees, or null if not resolved
  */
 public record Summit(
         String reference,
         String name,
         String regionCode,
-        String associationCode
+        String associationCode,
+        Double latitude,
+        Double longitude
 ) implements ActivationLocation {
 
     /**
@@ -34,4 +39,22 @@ public record Summit(
             throw new IllegalArgumentException("Summit name cannot be null or blank");
         }
     }
+
+    /**
+     * Creates a summit whose coordinates have not been resolved.
+     */
+    public Summit(String reference, String name, String regionCode, String associationCode) {
+        this(reference, name, regionCode, associationCode, null, null);
+    }
+
+    /**
+     * Returns a copy located at the given coordinates.
+     *
+     * @param latitude  latitude in decimal degrees
+     * @param longitude longitude in decimal degrees
+     * @return the located summit
+     */
+    public Summit withCoordinates(Double latitude, Double longitude) {
+        return new Summit(reference, name, regionCode, associationCode, latitude, longitude);
+    }
 }
@@ -105,6 +105,12 @@ public class ActivationEntity {
     @Column(name = "summit_association_code", length = 20)
     private String summitAssociationCode;
 
+    @Column(name = "summit_latitude")
+    private Double summitLatitude;
+
+    @Column(name = "summit_longitude")
+    private Double summitLongitude;
+
     /**
      * Default constructor required by JPA.
      */
@@ -163,7 +169,7 @@ public class ActivationEntity {
      *
      * <p>Denormalizes the polymorphic ActivationLocation into flat columns based
      * on activation type. POTA activations populate park fields; SOTA activations
-     * populate summit fields.
+     * populate summit fields, including coordinates once they have been resolved.
      *
      * @param domain the domain model to convert
      * @return a new entity instance
@@ -192,7 +198,7 @@ public class ActivationEntity {
             summitAssociationCode = summit.associationCode();
         }
 
-        return new ActivationEntity(
+        ActivationEntity entity = new ActivationEntity(
                 domain.spotId(),
                 domain.activatorCallsign(),
                 domain.type(),
@@ -211,6 +217,11 @@ public class ActivationEntity {
                 parkLongitude,
                 summitAssociationCode
         );
+        if (location instanceof Summit summit) {
+            entity.setSummitLatitude(summit.latitude());
+            entity.setSummitLongitude(summit.longitude());
+        }
+        return entity;
     }
 
     /**
@@ -257,7 +268,9 @@ public class ActivationEntity {
                     locationReference,
                     locationName,
                     locationRegionCode,
-                    summitAssociationCode
+                    summitAssociationCode,
+                    summitLatitude,
+                    summitLongitude
             );
         }
     }
@@ -336,6 +349,14 @@ public class ActivationEntity {
         return summitAssociationCode;
     }
 
+    public Double getSummitLatitude() {
+        return summitLatitude;
+    }
+
+    public Double getSummitLongitude() {
+        return summitLongitude;
+    }
+
     // Setters (for JPA)
 
     public void setSpotId(String spotId) {
@@ -406,6 +427,14 @@ public class ActivationEntity {
         this.summitAssociationCode = summitAssociationCode;
     }
 
+    public void setSummitLatitude(Double summitLatitude) {
+        this.summitLatitude = summitLatitude;
+    }
+
+    public void setSummitLongitude(Double summitLongitude) {
+        this.summitLongitude = summitLongitude;
+    }
+
     /**
      * Sets the entity ID.
      *
@@ -17,6 +17,67 @@ import java.util.Optional;
 @Repository
 public interface ActivationRepository extends JpaRepository<ActivationEntity, Long> {
 
+    /**
+     * Inserts an activation, or updates the existing row for its (spot_id, source).
+     *
+     * <p>The update only runs when a content column differs ({@code IS DISTINCT FROM},
+     * so NULLs compare as values) or when the stored {@code last_seen_at} is older
+     * than {@code :lastSeenBefore}. Unchanged rows are therefore not rewritten on
+     * every refresh, which saves a dead tuple and WAL record per row, while
+     * {@code last_seen_at} still advances often enough for
+     * {@link #deleteBySourceAndLastSeenAtBefore(String, Instant)} cleanup.
+     *
+     * <p>Executed as a JDBC batch via {@code NamedParameterJdbcTemplate}; each
+     * statement reports 1 when the row was inserted or updated and 0 when it was
+     * left unchanged.
+     */
+    String UPSERT_SQL = """
+            INSERT INTO activations (spot_id, activator_callsign, type, frequency, mode, spotted_at,
+                                     last_seen_at, qso_count, source, location_reference, location_name,
+                                     location_region_code, park_country_code, park_grid, park_latitude,
+                                     park_longitude, summit_association_code, summit_latitude,
+                                     summit_longitude)
+            VALUES (:spotId, :activatorCallsign, :type, :frequency, :mode, :spottedAt,
+                    :lastSeenAt, :qsoCount, :source, :locationReference, :locationName,
+                    :locationRegionCode, :parkCountryCode, :parkGrid, :parkLatitude,
+                    :parkLongitude, :summitAssociationCode, :summitLatitude, :summitLongitude)
+            ON CONFLICT (spot_id, source) DO UPDATE SET
+                activator_callsign = EXCLUDED.activator_callsign,
+                type = EXCLUDED.type,
+                frequency = EXCLUDED.frequency,
+                mode = EXCLUDED.mode,
+                spotted_at = EXCLUDED.spotted_at,
+                last_seen_at = EXCLUDED.last_seen_at,
+                qso_count = EXCLUDED.qso_count,
+                location_reference = EXCLUDED.location_reference,
+                location_name = EXCLUDED.location_name,
+                location_region_code = EXCLUDED.location_region_code,
+                park_country_code = EXCLUDED.park_country_code,
+                park_grid = EXCLUDED.park_grid,
+                park_latitude = EXCLUDED.park_latitude,
+                park_longitude = EXCLUDED.park_longitude,
+                summit_association_code = EXCLUDED.summit_association_code,
+                summit_latitude = COALESCE(EXCLUDED.summit_latitude, activations.summit_latitude),
+                summit_longitude = COALESCE(EXCLUDED.summit_longitude, activations.summit_longitude)
+            WHERE (activations.activator_callsign, activations.type, activations.frequency,
+                   activations.mode, activations.spotted_at, activations.qso_count,
+                   activations.location_reference, activations.location_name,
+                   activations.location_region_code, activations.park_country_code,
+                   activations.park_grid, activations.park_latitude, activations.park_longitude,
+                   activations.summit_association_code, activations.summit_latitude,
+                   activations.summit_longitude)
+                  IS DISTINCT FROM
+                  (EXCLUDED.activator_callsign, EXCLUDED.type, EXCLUDED.frequency,
+                   EXCLUDED.mode, EXCLUDED.spotted_at, EXCLUDED.qso_count,
+                   EXCLUDED.location_reference, EXCLUDED.location_name,
+                   EXCLUDED.location_region_code, EXCLUDED.park_country_code,
+                   EXCLUDED.park_grid, EXCLUDED.park_latitude, EXCLUDED.park_longitude,
+                   EXCLUDED.summit_association_code,
+                   COALESCE(EXCLUDED.summit_latitude, activations.summit_latitude),
+                   COALESCE(EXCLUDED.summit_longitude, activations.summit_longitude))
+               OR activations.last_seen_at < :lastSeenBefore
+            """;
+
     /**
      * Find an activation by spot ID and source.
      *
@@ -83,8 +144,8 @@ public interface ActivationRepository extends JpaRepository<ActivationEntity, Lo
     /**
      * Find activations from a specific source with spot IDs in the given list.
      *
-     * <p>Used by refresh tasks for selective upsert - fetches only entities
-     * that match incoming data, avoiding loading all historical records.
+     * <p>Fetches only entities matching the given spot IDs, avoiding loading all
+     * historical records. Refresh tasks upsert via {@link #UPSERT_SQL} instead.
      *
      * @param source the data source identifier (e.g., "POTA API", "SOTA API")
      * @param spotIds list of spot IDs to look up
@@ -1,9 +1,20 @@
 package io.nextskip.admin.api;
 
 import com.vaadin.hilla.BrowserCallable;
+import io.nextskip.admin.internal.CacheStatusService;
 import io.nextskip.admin.internal.FeedStatusService;
+import io.nextskip.admin.internal.FlightRecorderService;
+import io.nextskip.admin.model.CacheStatus;
 import io.nextskip.admin.model.FeedStatus;
+import io.nextskip.admin.model.FlightRecordingDump;
+import io.nextskip.spots.api.IngestSettings;
+import io.nextskip.spots.api.IngestSettingsChange;
+import io.nextskip.spots.api.IngestTuningService;
 import jakarta.annotation.security.RolesAllowed;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
 
 import java.util.List;
 
@@ -18,14 +29,25 @@ import java.util.List;
 public class AdminEndpoint {
 
     private final FeedStatusService feedStatusService;
+    private final CacheStatusService cacheStatusService;
+    private final FlightRecorderService flightRecorderService;
+    private final ObjectProvider<IngestTuningService> ingestTuningService;
 
     /**
      * Creates a new AdminEndpoint.
      *
      * @param feedStatusService the service for feed status operations
+     * @param cacheStatusService the service for cache statistics
+     * @param flightRecorderService the service holding the rolling JFR recording
+     * @param ingestTuningService the spot ingest tuning service (absent when spots are disabled)
      */
-    public AdminEndpoint(FeedStatusService feedStatusService) {
+    public AdminEndpoint(FeedStatusService feedStatusService, CacheStatusService cacheStatusService,
+                         FlightRecorderService flightRecorderService,
+                         ObjectProvider<IngestTuningService> ingestTuningService) {
         this.feedStatusService = feedStatusService;
+        this.cacheStatusService = cacheStatusService;
+        this.flightRecorderService = flightRecorderService;
+        this.ingestTuningService = ingestTuningService;
     }
 
     /**
@@ -62,4 +84,77 @@ public class AdminEndpoint {
     public boolean canRefresh(String feedId) {
         return feedStatusService.isScheduledFeed(feedId);
     }
+
+    /**
+     * Returns hit rate, loader latency and refresh lag for every in-memory cache.
+     *
+     * @return list of all cache statuses, sorted alphabetically by name
+     */
+    public List<CacheStatus> getCacheStatuses() {
+        return cacheStatusService.getCacheStatuses();
+    }
+
+    /**
+     * Dumps the rolling JFR recording to a file on the server.
+     *
+     * <p>The file holds the last few minutes of ingest, aggregation, refresh and cache
+     * events and can be read with {@code jfr print --categories NextSkip}.
+     *
+     * @return the written dump, or null if JFR recording is disabled
+     */
+    public FlightRecordingDump dumpFlightRecording() {
+        return flightRecorderService.dump();
+    }
+
+    /**
+     * Returns the settings the spot ingest pipeline is running with.
+     *
+     * @return current ingest settings, or null if spot processing is disabled
+     */
+    public IngestSettings getIngestSettings() {
+        IngestTuningService service = ingestTuningService.getIfAvailable();
+        return service != null ? service.getIngestSettings() : null;
+    }
+
+    /**
+     * Applies new spot ingest settings without a redeploy.
+     *
+     * <p>The change is audited under the current admin's email. Spots buffered by the
+     * running stream are still persisted when the stream is rematerialized.
+     *
+     * @param settings new ingest settings
+     * @return the settings now in effect
+     * @throws IllegalStateException if spot processing is disabled or the change fails
+     */
+    public IngestSettings updateIngestSettings(IngestSettings settings) {
+        IngestTuningService service = ingestTuningService.getIfAvailable();
+        if (service == null) {
+            throw new IllegalStateException("Spot processing is disabled");
+        }
+        return service.updateIngestSettings(settings, currentActor());
+    }
+
+    /**
+     * Returns recent ingest settings changes, newest first.
+     *
+     * @return changes since startup, or an empty list if spot processing is disabled
+     */
+    public List<IngestSettingsChange> getIngestSettingsHistory() {
+        IngestTuningService service = ingestTuningService.getIfAvailable();
+        return service != null ? service.getRecentChanges() : List.of();
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "unknown";
+        }
+        if (authentication.getPrincipal() instanceof OAuth2User principal) {
+            String email = principal.getAttribute("email");
+            if (email != null && !email.isBlank()) {
+                return email;
+            }
+        }
+        return authentication.getName();
+    }
 }
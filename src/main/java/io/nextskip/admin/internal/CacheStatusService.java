@@ -0,0 +1,69 @@
+package io.nextskip.admin.internal;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.admin.model.CacheStatus;
+import io.nextskip.common.config.CacheRefreshTracker;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports the statistics and refresh lag of every LoadingCache for the admin UI.
+ *
+ * <p>Caches are discovered through Spring dependency injection, so a new cache bean
+ * appears in the Feed Manager without changes here.
+ */
+@Service
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class CacheStatusService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, LoadingCache<String, ?>> caches;
+    private final CacheRefreshTracker refreshTracker;
+
+    /**
+     * Creates a new CacheStatusService.
+     *
+     * @param caches all LoadingCache beans, keyed by bean name
+     * @param refreshTracker the tracker holding each cache's refresh lag
+     */
+    public CacheStatusService(Map<String, LoadingCache<String, ?>> caches, CacheRefreshTracker refreshTracker) {
+        this.caches = Map.copyOf(caches);
+        this.refreshTracker = refreshTracker;
+    }
+
+    /**
+     * Returns the status of all caches, sorted alphabetically by name.
+     *
+     * @return list of all cache statuses
+     */
+    public List<CacheStatus> getCacheStatuses() {
+        List<CacheStatus> statuses = new ArrayList<>(caches.size());
+        caches.forEach((beanName, cache) -> statuses.add(toStatus(CacheRefreshTracker.cacheName(beanName), cache)));
+        statuses.sort(Comparator.comparing(CacheStatus::name));
+        return statuses;
+    }
+
+    private CacheStatus toStatus(String name, LoadingCache<String, ?> cache) {
+        CacheStats stats = cache.stats();
+        Duration lag = refreshTracker.getLastLag(name);
+        return new CacheStatus(
+                name,
+                cache.estimatedSize(),
+                stats.hitRate(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / NANOS_PER_MILLI,
+                lag != null ? lag.toMillis() : null,
+                refreshTracker.getLastRefreshedAt(name)
+        );
+    }
+}
@@ -0,0 +1,136 @@
+package io.nextskip.admin.internal;
+
+import io.nextskip.admin.model.FlightRecordingDump;
+import io.nextskip.common.jfr.NextSkipEvents;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Keeps a rolling JFR recording of the application's events and dumps it on demand.
+ *
+ * <p>The recording enables every type in {@link NextSkipEvents} plus garbage collection
+ * and CPU load for context, and retains at most {@code max-age} or {@code max-size} of
+ * data. An admin dumps it after a slow spell and reads the file with
+ * {@code jfr print --categories NextSkip}.
+ *
+ * <p>With {@code nextskip.jfr.enabled=false} no recording runs, so the instrumented code
+ * never commits an event.
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    static final String RECORDING_NAME = "nextskip";
+    private static final Duration CPU_LOAD_PERIOD = Duration.ofSeconds(1);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDirectory;
+
+    private volatile Recording recording;
+
+    /**
+     * Creates a new FlightRecorderService.
+     *
+     * @param clock clock for dump file names
+     * @param enabled whether to run the rolling recording
+     * @param maxAge how far back a dump reaches
+     * @param maxSize cap on retained recording data
+     * @param dumpDirectory where dump files are written
+     */
+    public FlightRecorderService(
+            Clock clock,
+            @Value("${nextskip.jfr.enabled:true}") boolean enabled,
+            @Value("${nextskip.jfr.max-age:10m}") Duration maxAge,
+            @Value("${nextskip.jfr.max-size:32MB}") DataSize maxSize,
+            @Value("${nextskip.jfr.dump-directory:${java.io.tmpdir}}") Path dumpDirectory) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            LOG.info("JFR recording disabled (enabled={}, available={})", enabled, FlightRecorder.isAvailable());
+            return;
+        }
+        Recording rolling = new Recording();
+        rolling.setName(RECORDING_NAME);
+        rolling.setToDisk(true);
+        rolling.setMaxAge(maxAge);
+        rolling.setMaxSize(maxSize.toBytes());
+        NextSkipEvents.TYPES.forEach(rolling::enable);
+        rolling.enable("jdk.GarbageCollection");
+        rolling.enable("jdk.CPULoad").withPeriod(CPU_LOAD_PERIOD);
+        rolling.start();
+        recording = rolling;
+        LOG.info("JFR recording started (maxAge={}, maxSize={})", maxAge, maxSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Recording rolling = recording;
+        recording = null;
+        if (rolling != null) {
+            rolling.close();
+        }
+    }
+
+    /**
+     * Returns whether the rolling recording is running and can be dumped.
+     *
+     * @return true if {@link #dump()} will write a file
+     */
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the retained recording to a new file in the dump directory.
+     *
+     * @return the written dump, or null if no recording is running
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public FlightRecordingDump dump() {
+        Recording rolling = recording;
+        if (rolling == null) {
+            return null;
+        }
+        Instant now = clock.instant();
+        Path path = dumpDirectory.resolve("nextskip-" + FILE_TIMESTAMP.format(now) + ".jfr").toAbsolutePath();
+        try {
+            Files.createDirectories(dumpDirectory);
+            rolling.dump(path);
+            long size = Files.size(path);
+            LOG.info("Dumped JFR recording to {} ({} bytes)", path, size);
+            return new FlightRecordingDump(path.toString(), size, now);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.nextskip.admin.model;
+
+import java.time.Instant;
+
+/**
+ * Represents the current health of one in-memory cache for the admin UI.
+ *
+ * <p>Statistics are cumulative since startup, as recorded by Caffeine.
+ *
+ * @param name human-readable cache name (e.g., "activations")
+ * @param size estimated number of entries
+ * @param hitRate share of lookups served from the cache, 0.0 to 1.0
+ * @param hits lookups served from the cache
+ * @param misses lookups that had to load
+ * @param loadFailures loads and reloads that threw or returned null
+ * @param averageLoadMillis mean loader latency in milliseconds
+ * @param lastRefreshLagMillis time from the last committed database write to the cache serving it, if measured
+ * @param lastRefreshed when the cache last served a refreshed value after a write, if ever
+ */
+public record CacheStatus(
+        String name,
+        long size,
+        double hitRate,
+        long hits,
+        long misses,
+        long loadFailures,
+        double averageLoadMillis,
+        Long lastRefreshLagMillis,
+        Instant lastRefreshed
+) {
+}
@@ -0,0 +1,17 @@
+package io.nextskip.admin.model;
+
+import java.time.Instant;
+
+/**
+ * Describes a JFR dump written on the server for offline analysis.
+ *
+ * @param path absolute path of the {@code .jfr} file on the server
+ * @param sizeBytes file size in bytes
+ * @param dumpedAt when the dump was written; it covers the recording's retention window up to here
+ */
+public record FlightRecordingDump(
+        String path,
+        long sizeBytes,
+        Instant dumpedAt
+) {
+}
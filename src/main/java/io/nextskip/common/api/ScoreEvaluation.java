@@ -0,0 +1,32 @@
+package io.nextskip.common.api;
+
+import java.time.Instant;
+
+/**
+ * The time-dependent values of a {@link Scoreable}, computed once against a fixed instant.
+ *
+ * <p>The counterpart of {@link io.nextskip.common.model.EventScore} for activities that
+ * are scored but are not scheduled events. Pinning the values to the dashboard snapshot
+ * instant keeps a serialized card in agreement with the snapshot's ranking.
+ *
+ * @param evaluatedAt The reference time the values were computed against
+ * @param score       Score from 0-100 at {@code evaluatedAt}
+ * @param favorable   Whether conditions were favorable at {@code evaluatedAt}
+ */
+public record ScoreEvaluation(
+        Instant evaluatedAt,
+        int score,
+        boolean favorable
+) {
+
+    /**
+     * Evaluates an activity at the given reference time.
+     *
+     * @param scoreable the activity to evaluate
+     * @param asOf      the reference time
+     * @return the activity's values at {@code asOf}
+     */
+    public static ScoreEvaluation of(Scoreable scoreable, Instant asOf) {
+        return new ScoreEvaluation(asOf, scoreable.getScore(asOf), scoreable.isFavorable(asOf));
+    }
+}
@@ -1,5 +1,7 @@
 package io.nextskip.common.api;
 
+import java.time.Instant;
+
 /**
  * Common interface for all activity data that can be scored and evaluated for favorability.
  *
@@ -10,6 +12,10 @@ package io.nextskip.common.api;
  * <p>Implementing classes should provide deterministic scoring based on their specific
  * activity conditions, enabling the dashboard to prioritize and visually highlight the
  * most favorable opportunities for radio operations.
+ *
+ * <p>The {@code asOf} variants evaluate against an explicit reference time, so every
+ * score in one dashboard snapshot is computed against the same instant. Scores that do
+ * not depend on the time keep the defaults, which ignore it.
  */
 public interface Scoreable {
 
@@ -40,4 +46,24 @@ public interface Scoreable {
      * @return score from 0-100 representing condition quality
      */
     int getScore();
+
+    /**
+     * Determines if conditions are favorable at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return true if conditions are favorable, false otherwise
+     */
+    default boolean isFavorable(Instant asOf) {
+        return isFavorable();
+    }
+
+    /**
+     * Provides the 0-100 score at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return score from 0-100 representing condition quality
+     */
+    default int getScore(Instant asOf) {
+        return getScore();
+    }
 }
@@ -2,16 +2,24 @@ package io.nextskip.common.client;
 
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
@@ -22,8 +30,15 @@ import java.util.function.Supplier;
  *   <li>Circuit Breaker - prevents cascading failures when external APIs are down</li>
  *   <li>Retry - handles transient failures with configurable backoff</li>
  *   <li>Freshness Tracking - tracks data age for UI display</li>
+ *   <li>Conditional Fetch - skips unchanged feeds via {@code ETag}/{@code Last-Modified}
+ *       or a hash of the raw body (see {@link #fetchIfModified()})</li>
  * </ul>
  *
+ * <p>Every fetch has a blocking form ({@link #fetch()}, {@link #fetchIfModified()}) for
+ * scheduled refreshes and a {@link Mono} form ({@link #fetchAsync()},
+ * {@link #fetchIfModifiedAsync()}) decorated with the Resilience4j Reactor operators,
+ * so several feeds can be fetched concurrently without a thread per request.
+ *
  * <p>Note: Clients do not cache data. Database persistence provides the fallback
  * mechanism. When a fetch fails, exceptions propagate to the caller (typically
  * a refresh service), and services continue serving data from the database-backed
@@ -36,6 +51,7 @@ import java.util.function.Supplier;
  * <ul>
  *   <li>{@link #getClientName()} - identifier for circuit breaker/retry instances</li>
  *   <li>{@link #doFetch()} - pure API fetch logic</li>
+ *   <li>{@link #doFetchAsync()} - optional: non-blocking fetch logic</li>
  * </ul>
  *
  * @param <T> the type of data returned by this client
@@ -52,10 +68,15 @@ public abstract class AbstractExternalDataClient<T>
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final CircuitBreaker circuitBreaker;
     private final Retry retry;
+    private final ConditionalRequestFilter conditionalRequests = new ConditionalRequestFilter();
 
     // Freshness tracking
     private volatile Instant lastSuccessfulRefresh;
 
+    // Conditional fetch tracking
+    private final LongAdder modifiedFetches = new LongAdder();
+    private final LongAdder unmodifiedFetches = new LongAdder();
+
     /**
      * Constructs an AbstractExternalDataClient with the given dependencies.
      *
@@ -69,10 +90,12 @@ public abstract class AbstractExternalDataClient<T>
             CircuitBreakerRegistry circuitBreakerRegistry,
             RetryRegistry retryRegistry,
             String baseUrl) {
-        this.webClient = webClientBuilder
+        // Clone so the per-client filter does not leak into the shared builder bean
+        this.webClient = webClientBuilder.clone()
                 .baseUrl(baseUrl)
                 .codecs(configurer -> configurer.defaultCodecs()
                         .maxInMemorySize(getMaxResponseSize()))
+                .filter(conditionalRequests)
                 .build();
         this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(getClientName());
         this.retry = retryRegistry.retry(getClientName());
@@ -107,6 +130,19 @@ public abstract class AbstractExternalDataClient<T>
      */
     protected abstract T doFetch();
 
+    /**
+     * Performs the actual API fetch without blocking the subscriber's thread.
+     *
+     * <p>The default runs {@link #doFetch()} on the bounded elastic scheduler. Clients
+     * whose parsing fits a reactive pipeline override this to stay non-blocking end to end,
+     * and may then implement {@link #doFetch()} by blocking on it.
+     *
+     * @return the fetched data
+     */
+    protected Mono<T> doFetchAsync() {
+        return Mono.fromCallable(this::doFetch).subscribeOn(Schedulers.boundedElastic());
+    }
+
     /**
      * Returns the recommended refresh interval for this data source.
      *
@@ -142,48 +178,155 @@ public abstract class AbstractExternalDataClient<T>
 
     // ========== ExternalDataClient implementation ==========
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Always downloads and parses the full response, ignoring validators from earlier
+     * fetches. Scheduled refreshes should prefer {@link #fetchIfModified()}.
+     */
     @Override
     public final T fetch() {
-        Supplier<T> decoratedFetch = () -> {
-            try {
-                T result = doFetch();
-
-                // Update freshness tracking
-                this.lastSuccessfulRefresh = Instant.now();
-
-                return result;
-
-            } catch (WebClientResponseException e) {
-                log.error("HTTP error from {} API: {} {}",
-                        getSourceName(), e.getStatusCode(), e.getStatusText());
-                throw new ExternalApiException(getClientName(),
-                        "HTTP " + e.getStatusCode() + " from " + getSourceName() + ": " + e.getStatusText(), e);
-
-            } catch (WebClientRequestException e) {
-                log.error("Network error connecting to {} API", getSourceName(), e);
-                throw new ExternalApiException(getClientName(),
-                        "Network error connecting to " + getSourceName() + ": " + e.getMessage(), e);
-
-            } catch (InvalidApiResponseException e) {
-                log.error("Invalid response from {} API: {}", getSourceName(), e.getMessage());
-                throw e;
+        conditionalRequests.reset();
+        return fetchIfModified().data();
+    }
 
+    /**
+     * Fetches data only if the upstream changed since the last successful fetch.
+     *
+     * <p>Sends {@code If-None-Match}/{@code If-Modified-Since} when the upstream supplied
+     * validators, and otherwise compares a hash of the raw body with the previous one before
+     * parsing. An unchanged feed counts as a successful refresh for freshness tracking.
+     *
+     * @return the parsed data, or {@link FetchResult#notModified()} when nothing changed
+     * @throws ExternalApiException if the API call fails
+     * @throws InvalidApiResponseException if the response is invalid
+     */
+    public final FetchResult<T> fetchIfModified() {
+        Supplier<FetchResult<T>> decoratedFetch = () -> {
+            try {
+                return onFetched(doFetch());
+            } catch (ConditionalRequestFilter.NotModifiedException e) {
+                return onNotModified();
             } catch (Exception e) {
-                log.error("Unexpected error fetching from {}", getSourceName(), e);
-                throw new ExternalApiException(getClientName(),
-                        "Unexpected error fetching from " + getSourceName() + ": " + e.getMessage(), e);
+                throw translateFetchFailure(e);
             }
         };
 
         // Wrap with Retry, then Circuit Breaker
         // Exceptions propagate to caller - no fallback at client level
         // Fallback is handled via database-backed LoadingCache at service level
-        Supplier<T> retryWrapped = Retry.decorateSupplier(retry, decoratedFetch);
-        Supplier<T> cbWrapped = CircuitBreaker.decorateSupplier(circuitBreaker, retryWrapped);
+        Supplier<FetchResult<T>> retryWrapped = Retry.decorateSupplier(retry, decoratedFetch);
+        Supplier<FetchResult<T>> cbWrapped = CircuitBreaker.decorateSupplier(circuitBreaker, retryWrapped);
 
         return cbWrapped.get();
     }
 
+    /**
+     * Non-blocking form of {@link #fetch()}.
+     *
+     * <p>Validators from earlier fetches are ignored, so the returned {@link Mono} always
+     * emits the parsed data.
+     *
+     * @return a {@link Mono} emitting the fetched data
+     */
+    public final Mono<T> fetchAsync() {
+        return Mono.defer(() -> {
+            conditionalRequests.reset();
+            return fetchIfModifiedAsync();
+        }).mapNotNull(FetchResult::data);
+    }
+
+    /**
+     * Non-blocking form of {@link #fetchIfModified()}.
+     *
+     * <p>Nothing is requested until subscription. Retry and circuit breaker share their
+     * instances (and therefore their state) with the blocking form.
+     *
+     * @return a {@link Mono} emitting the parsed data, or {@link FetchResult#notModified()}
+     */
+    public final Mono<FetchResult<T>> fetchIfModifiedAsync() {
+        return Mono.defer(this::doFetchAsync)
+                .map(this::onFetched)
+                .onErrorResume(ConditionalRequestFilter.NotModifiedException.class,
+                        e -> Mono.fromSupplier(this::onNotModified))
+                .onErrorMap(Exception.class, this::translateFetchFailure)
+                .transformDeferred(RetryOperator.of(retry))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private FetchResult<T> onFetched(T result) {
+        // Only a parsed response may short-circuit later fetches
+        conditionalRequests.commit();
+        modifiedFetches.increment();
+
+        // Update freshness tracking
+        this.lastSuccessfulRefresh = Instant.now();
+
+        return FetchResult.modified(result);
+    }
+
+    private FetchResult<T> onNotModified() {
+        log.debug("{} data unchanged since last fetch", getSourceName());
+        unmodifiedFetches.increment();
+        this.lastSuccessfulRefresh = Instant.now();
+        return FetchResult.notModified();
+    }
+
+    /**
+     * Maps a fetch failure to the exception reported to callers.
+     */
+    private RuntimeException translateFetchFailure(Exception e) {
+        if (e instanceof WebClientResponseException responseException) {
+            log.error("HTTP error from {} API: {} {}",
+                    getSourceName(), responseException.getStatusCode(), responseException.getStatusText());
+            return new ExternalApiException(getClientName(),
+                    "HTTP " + responseException.getStatusCode() + " from " + getSourceName() + ": "
+                            + responseException.getStatusText(), e);
+        }
+        if (e instanceof WebClientRequestException) {
+            log.error("Network error connecting to {} API", getSourceName(), e);
+            return new ExternalApiException(getClientName(),
+                    "Network error connecting to " + getSourceName() + ": " + e.getMessage(), e);
+        }
+        if (e instanceof InvalidApiResponseException invalidResponse) {
+            log.error("Invalid response from {} API: {}", getSourceName(), e.getMessage());
+            return invalidResponse;
+        }
+        log.error("Unexpected error fetching from {}", getSourceName(), e);
+        return new ExternalApiException(getClientName(),
+                "Unexpected error fetching from " + getSourceName() + ": " + e.getMessage(), e);
+    }
+
+    /**
+     * Forgets the validators from the last fetch so the next one downloads everything.
+     *
+     * <p>Refresh services call this when persisting fetched data fails; otherwise the next
+     * conditional fetch would report "not modified" and the data would never be written.
+     */
+    public void resetConditionalFetch() {
+        conditionalRequests.reset();
+    }
+
+    // ========== Conditional fetch tracking API ==========
+
+    /**
+     * Returns how many fetches returned changed data.
+     *
+     * @return count of modified fetches since startup
+     */
+    public long getModifiedFetchCount() {
+        return modifiedFetches.sum();
+    }
+
+    /**
+     * Returns how many fetches were skipped because the upstream was unchanged.
+     *
+     * @return count of not-modified fetches since startup
+     */
+    public long getUnmodifiedFetchCount() {
+        return unmodifiedFetches.sum();
+    }
+
     // ========== Freshness tracking API ==========
 
     /**
@@ -231,6 +374,30 @@ public abstract class AbstractExternalDataClient<T>
         return webClient;
     }
 
+    /**
+     * Fetches the response body as a stream over the received {@link DataBuffer}s.
+     *
+     * <p>Lets clients parse incrementally (token or event streams) instead of first
+     * decoding the body into a {@code String} or a full object graph. Closing the stream
+     * releases the buffers, so use it in try-with-resources.
+     *
+     * @return the body stream, or null if the response had no body
+     */
+    protected InputStream fetchBodyStream() {
+        DataBuffer body = DataBufferUtils.join(
+                        getWebClient().get().retrieve().bodyToFlux(DataBuffer.class), getMaxResponseSize())
+                .timeout(getRequestTimeout())
+                .block();
+        if (body == null) {
+            return null;
+        }
+        if (body.readableByteCount() == 0) {
+            DataBufferUtils.release(body);
+            return null;
+        }
+        return body.asInputStream(true);
+    }
+
     /**
      * Returns the logger for subclasses.
      *
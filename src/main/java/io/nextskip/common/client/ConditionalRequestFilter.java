@@ -0,0 +1,165 @@
+package io.nextskip.common.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * WebClient filter that turns repeat fetches of an unchanged feed into a cheap no-op.
+ *
+ * <p>Two mechanisms are layered:
+ * <ol>
+ *   <li>Conditional requests: the {@code ETag} and {@code Last-Modified} validators from the
+ *       last successful response are echoed as {@code If-None-Match} and
+ *       {@code If-Modified-Since}. A {@code 304 Not Modified} reply ends the exchange.</li>
+ *   <li>Content hashing: for upstreams that send neither validator, the raw body is hashed
+ *       buffer by buffer as the client reads it and compared with the hash of the last
+ *       successful response once the body ends. The body is never copied into one array.</li>
+ * </ol>
+ *
+ * <p>Either way the exchange, or the body as it completes, fails with
+ * {@link NotModifiedException}, which {@link AbstractExternalDataClient} translates into
+ * {@link FetchResult#notModified()}.
+ *
+ * <p>Validators seen on a response are only staged; {@link #commit()} promotes them once the
+ * body parsed successfully, so a response that fails validation is fetched again in full.
+ */
+final class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private volatile Validators current = Validators.NONE;
+    private volatile Validators pending;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Validators sent = current;
+        ClientRequest conditional = ClientRequest.from(request)
+                .headers(headers -> sent.applyTo(headers))
+                .build();
+
+        return next.exchange(conditional).flatMap(response -> {
+            if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return response.releaseBody().then(Mono.error(new NotModifiedException()));
+            }
+            if (!response.statusCode().is2xxSuccessful()) {
+                return Mono.just(response);
+            }
+            HttpHeaders headers = response.headers().asHttpHeaders();
+            String etag = headers.getETag();
+            String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+            if (etag != null || lastModified != null) {
+                // The upstream answers conditional requests itself; hashing would be wasted work
+                pending = new Validators(etag, lastModified, null);
+                return Mono.just(response);
+            }
+            MessageDigest digest = newDigest();
+            return Mono.just(response.mutate()
+                    .body(body -> body
+                            .doOnNext(buffer -> update(digest, buffer))
+                            .concatWith(Mono.defer(() -> compareHash(digest.digest(), sent))))
+                    .build());
+        });
+    }
+
+    /**
+     * Fails the body with {@link NotModifiedException} when its hash matches the last one,
+     * otherwise stages the hash for {@link #commit()}.
+     */
+    private Mono<DataBuffer> compareHash(byte[] hash, Validators sent) {
+        if (MessageDigest.isEqual(hash, sent.contentHash)) {
+            return Mono.error(new NotModifiedException());
+        }
+        pending = new Validators(null, null, hash);
+        return Mono.empty();
+    }
+
+    /**
+     * Promotes the validators from the last response so the next request is conditional.
+     */
+    void commit() {
+        Validators staged = pending;
+        if (staged != null) {
+            current = staged;
+            pending = null;
+        }
+    }
+
+    /**
+     * Forgets all validators so the next request downloads and parses the full body.
+     */
+    void reset() {
+        current = Validators.NONE;
+        pending = null;
+    }
+
+    private static void update(MessageDigest digest, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator readable = buffer.readableByteBuffers()) {
+            readable.forEachRemaining(digest::update);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " not available", e);
+        }
+    }
+
+    /**
+     * Validators captured from one successful response.
+     */
+    private static final class Validators {
+
+        static final Validators NONE = new Validators(null, null, null);
+
+        private final String etag;
+        private final String lastModified;
+        private final byte[] contentHash;
+
+        Validators(String etag, String lastModified, byte[] contentHash) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        void applyTo(HttpHeaders headers) {
+            if (etag != null) {
+                headers.setIfNoneMatch(etag);
+            }
+            if (lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+
+    /**
+     * Signals that the upstream content is unchanged. Carries no stack trace; it is control flow.
+     *
+     * <p>Extends {@link WebClientException} so that WebClient does not wrap it when it fails a
+     * response body mid-decode.
+     */
+    static final class NotModifiedException extends WebClientException {
+
+        private static final long serialVersionUID = 1L;
+
+        NotModifiedException() {
+            super("Upstream content not modified");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.nextskip.common.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes per-feed conditional fetch counts to Micrometer.
+ *
+ * <p>For every {@link AbstractExternalDataClient} bean, registers:
+ * <ul>
+ *   <li>{@code nextskip.feed.fetches} - fetches by {@code result} ({@code modified} or
+ *       {@code unmodified})</li>
+ *   <li>{@code nextskip.feed.fetch.skip.ratio} - share of fetches skipped as unchanged</li>
+ * </ul>
+ *
+ * <p>The registry is optional so the application still starts when metrics are unavailable.
+ */
+@Component
+public class FeedFetchMetrics {
+
+    private static final String FEED_TAG = "feed";
+
+    public FeedFetchMetrics(List<AbstractExternalDataClient<?>> clients, ObjectProvider<MeterRegistry> registry) {
+        registry.ifAvailable(meterRegistry -> clients.forEach(client -> register(client, meterRegistry)));
+    }
+
+    private static void register(AbstractExternalDataClient<?> client, MeterRegistry registry) {
+        String feed = client.getClientName();
+
+        FunctionCounter.builder("nextskip.feed.fetches", client, AbstractExternalDataClient::getModifiedFetchCount)
+                .description("External feed fetches by outcome")
+                .tag(FEED_TAG, feed)
+                .tag("result", "modified")
+                .register(registry);
+
+        FunctionCounter.builder("nextskip.feed.fetches", client, AbstractExternalDataClient::getUnmodifiedFetchCount)
+                .description("External feed fetches by outcome")
+                .tag(FEED_TAG, feed)
+                .tag("result", "unmodified")
+                .register(registry);
+
+        Gauge.builder("nextskip.feed.fetch.skip.ratio", client, FeedFetchMetrics::skipRatio)
+                .description("Share of feed fetches skipped because the upstream was unchanged")
+                .tag(FEED_TAG, feed)
+                .register(registry);
+    }
+
+    static double skipRatio(AbstractExternalDataClient<?> client) {
+        long unmodified = client.getUnmodifiedFetchCount();
+        long total = unmodified + client.getModifiedFetchCount();
+        return total == 0 ? 0.0 : (double) unmodified / total;
+    }
+}
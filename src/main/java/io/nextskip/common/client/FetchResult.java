@@ -0,0 +1,36 @@
+package io.nextskip.common.client;
+
+/**
+ * Outcome of a conditional fetch from an external API.
+ *
+ * <p>A "not modified" result means the upstream confirmed (via {@code 304 Not Modified})
+ * or the client detected (via an identical body hash) that nothing changed since the
+ * last successful fetch. Callers should skip persistence and cache refresh in that case.
+ *
+ * @param data     the fetched data, or null when not modified
+ * @param modified whether the upstream data changed since the last fetch
+ * @param <T>      the type of data returned by the client
+ */
+public record FetchResult<T>(T data, boolean modified) {
+
+    /**
+     * Creates a result carrying freshly fetched data.
+     *
+     * @param data the fetched data
+     * @param <T>  the data type
+     * @return a modified result
+     */
+    public static <T> FetchResult<T> modified(T data) {
+        return new FetchResult<>(data, true);
+    }
+
+    /**
+     * Creates a result signalling that the upstream data is unchanged.
+     *
+     * @param <T> the data type
+     * @return a not-modified result with no data
+     */
+    public static <T> FetchResult<T> notModified() {
+        return new FetchResult<>(null, false);
+    }
+}
@@ -2,9 +2,11 @@ package io.nextskip.common.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.model.Activation;
 import io.nextskip.activations.persistence.entity.ActivationEntity;
 import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.common.jfr.CacheLoadEvent;
 import io.nextskip.contests.model.Contest;
 import io.nextskip.contests.persistence.entity.ContestEntity;
 import io.nextskip.contests.persistence.repository.ContestRepository;
@@ -45,6 +47,11 @@ import java.util.Optional;
  * request from blocking on a cache reload. A hard {@code expireAfterWrite}
  * at 2x the refresh interval evicts truly abandoned entries.
  *
+ * <p>Every cache records Caffeine statistics, which {@link CacheMetrics} publishes to
+ * Micrometer, and reports value replacements to the {@link CacheRefreshTracker} so the
+ * lag between a database commit and the cache serving it is measured. Each load is
+ * recorded as a {@link CacheLoadEvent} while a JFR recording has it enabled.
+ *
  * <p>Data flow:
  * <pre>
  * External API → db-scheduler task → Database → cache.refresh("all")
@@ -61,6 +68,15 @@ public class CacheConfig {
      */
     public static final String CACHE_KEY = "all";
 
+    // Cache names, as used in refresh events, metrics and the admin UI. Each bean is
+    // named after its cache, so CacheRefreshTracker.cacheName(beanName) maps back to it.
+    public static final String ACTIVATIONS = "activations";
+    public static final String SOLAR_INDICES = "solarIndices";
+    public static final String BAND_CONDITIONS = "bandConditions";
+    public static final String CONTESTS = "contests";
+    public static final String METEOR_SHOWERS = "meteorShowers";
+    public static final String BAND_ACTIVITY = "bandActivity";
+
     private static final Logger LOG = LoggerFactory.getLogger(CacheConfig.class);
 
     // Async refresh TTLs - serve stale data immediately while refreshing in background.
@@ -85,29 +101,35 @@ public class CacheConfig {
     private static final Duration BAND_CONDITIONS_RETENTION = Duration.ofHours(1);
 
     private final Clock clock;
+    private final CacheRefreshTracker refreshTracker;
 
-    public CacheConfig(Clock clock) {
+    public CacheConfig(Clock clock, CacheRefreshTracker refreshTracker) {
         this.clock = clock;
+        this.refreshTracker = refreshTracker;
     }
 
     /**
      * LoadingCache for activations (POTA and SOTA combined).
      *
-     * <p>Loads recent activations from the database. Both PotaRefreshTask and
-     * SotaRefreshTask trigger refresh after saving their data.
+     * <p>Loads recent activations from the database and precomputes their read model
+     * (per-type lists, counts, groupings and the dashboard response) once per load.
+     * Both PotaRefreshTask and SotaRefreshTask trigger refresh after saving their data.
      *
      * @param repository the activation repository
      * @return LoadingCache for activations
      */
-    @Bean
-    public LoadingCache<String, List<Activation>> activationsCache(ActivationRepository repository) {
+    @Bean(ACTIVATIONS + CacheRefreshTracker.BEAN_SUFFIX)
+    public LoadingCache<String, ActivationsReadModel> activationsCache(ActivationRepository repository) {
         LOG.info("Creating activations LoadingCache with {} refresh, {} expiry",
                 ACTIVATIONS_REFRESH, ACTIVATIONS_EXPIRY);
         return Caffeine.newBuilder()
                 .refreshAfterWrite(ACTIVATIONS_REFRESH)
                 .expireAfterWrite(ACTIVATIONS_EXPIRY)
                 .recordStats()
-                .build(key -> loadActivations(repository));
+                .removalListener(refreshTracker.replacementListener(ACTIVATIONS))
+                .build(key -> CacheLoadEvent.record(ACTIVATIONS,
+                        () -> ActivationsReadModel.of(loadActivations(repository), Instant.now(clock)),
+                        model -> model.activations().size()));
     }
 
     /**
@@ -141,7 +163,7 @@ public class CacheConfig {
      * @param repository the solar indices repository
      * @return LoadingCache for solar indices
      */
-    @Bean
+    @Bean(SOLAR_INDICES + CacheRefreshTracker.BEAN_SUFFIX)
     public LoadingCache<String, SolarIndices> solarIndicesCache(SolarIndicesRepository repository) {
         LOG.info("Creating solarIndices LoadingCache with {} refresh, {} expiry",
                 SOLAR_INDICES_REFRESH, SOLAR_INDICES_EXPIRY);
@@ -149,9 +171,11 @@ public class CacheConfig {
                 .refreshAfterWrite(SOLAR_INDICES_REFRESH)
                 .expireAfterWrite(SOLAR_INDICES_EXPIRY)
                 .recordStats()
+                .removalListener(refreshTracker.replacementListener(SOLAR_INDICES))
                 .build(key -> {
                     LOG.debug("Loading solar indices from database");
-                    return loadAndMergeSolarIndices(repository);
+                    return CacheLoadEvent.record(SOLAR_INDICES, () -> loadAndMergeSolarIndices(repository),
+                            indices -> 1);
                 });
     }
 
@@ -198,7 +222,7 @@ public class CacheConfig {
      * @param repository the band condition repository
      * @return LoadingCache for band conditions
      */
-    @Bean
+    @Bean(BAND_CONDITIONS + CacheRefreshTracker.BEAN_SUFFIX)
     public LoadingCache<String, List<BandCondition>> bandConditionsCache(BandConditionRepository repository) {
         LOG.info("Creating bandConditions LoadingCache with {} refresh, {} expiry",
                 BAND_CONDITIONS_REFRESH, BAND_CONDITIONS_EXPIRY);
@@ -206,7 +230,9 @@ public class CacheConfig {
                 .refreshAfterWrite(BAND_CONDITIONS_REFRESH)
                 .expireAfterWrite(BAND_CONDITIONS_EXPIRY)
                 .recordStats()
-                .build(key -> loadBandConditions(repository));
+                .removalListener(refreshTracker.replacementListener(BAND_CONDITIONS))
+                .build(key -> CacheLoadEvent.record(BAND_CONDITIONS, () -> loadBandConditions(repository),
+                        List::size));
     }
 
     /**
@@ -233,7 +259,7 @@ public class CacheConfig {
      * @param repository the contest repository
      * @return LoadingCache for contests
      */
-    @Bean
+    @Bean(CONTESTS + CacheRefreshTracker.BEAN_SUFFIX)
     public LoadingCache<String, List<Contest>> contestsCache(ContestRepository repository) {
         LOG.info("Creating contests LoadingCache with {} refresh, {} expiry",
                 CONTESTS_REFRESH, CONTESTS_EXPIRY);
@@ -241,7 +267,8 @@ public class CacheConfig {
                 .refreshAfterWrite(CONTESTS_REFRESH)
                 .expireAfterWrite(CONTESTS_EXPIRY)
                 .recordStats()
-                .build(key -> loadContests(repository));
+                .removalListener(refreshTracker.replacementListener(CONTESTS))
+                .build(key -> CacheLoadEvent.record(CONTESTS, () -> loadContests(repository), List::size));
     }
 
     /**
@@ -268,7 +295,7 @@ public class CacheConfig {
      * @param repository the meteor shower repository
      * @return LoadingCache for meteor showers
      */
-    @Bean
+    @Bean(METEOR_SHOWERS + CacheRefreshTracker.BEAN_SUFFIX)
     public LoadingCache<String, List<MeteorShower>> meteorShowersCache(MeteorShowerRepository repository) {
         LOG.info("Creating meteorShowers LoadingCache with {} refresh, {} expiry",
                 METEOR_SHOWERS_REFRESH, METEOR_SHOWERS_EXPIRY);
@@ -276,7 +303,9 @@ public class CacheConfig {
                 .refreshAfterWrite(METEOR_SHOWERS_REFRESH)
                 .expireAfterWrite(METEOR_SHOWERS_EXPIRY)
                 .recordStats()
-                .build(key -> loadMeteorShowers(repository));
+                .removalListener(refreshTracker.replacementListener(METEOR_SHOWERS))
+                .build(key -> CacheLoadEvent.record(METEOR_SHOWERS, () -> loadMeteorShowers(repository),
+                        List::size));
     }
 
     /**
@@ -309,7 +338,7 @@ public class CacheConfig {
      * @param aggregator the band activity aggregator service
      * @return LoadingCache for band activity by band name
      */
-    @Bean
+    @Bean(BAND_ACTIVITY + CacheRefreshTracker.BEAN_SUFFIX)
     @ConditionalOnBean(BandActivityAggregator.class)
     public LoadingCache<String, Map<String, BandActivity>> bandActivityCache(
             BandActivityAggregator aggregator) {
@@ -319,9 +348,11 @@ public class CacheConfig {
                 .refreshAfterWrite(BAND_ACTIVITY_REFRESH)
                 .expireAfterWrite(BAND_ACTIVITY_EXPIRY)
                 .recordStats()
+                .removalListener(refreshTracker.replacementListener(BAND_ACTIVITY))
                 .build(key -> {
                     LOG.debug("Loading band activity from aggregator");
-                    Map<String, BandActivity> activities = aggregator.aggregateAllBands();
+                    Map<String, BandActivity> activities = CacheLoadEvent.record(BAND_ACTIVITY,
+                            aggregator::aggregateAllBands, Map::size);
                     LOG.info("Loaded {} band activities from aggregator", activities.size());
                     return activities;
                 });
@@ -0,0 +1,29 @@
+package io.nextskip.common.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Publishes the statistics of every {@link LoadingCache} bean to Micrometer.
+ *
+ * <p>Caches are plain Caffeine beans rather than Spring {@code CacheManager} caches, so
+ * Spring Boot does not bind them itself. Each one is registered with Micrometer's
+ * Caffeine binder under its {@link CacheRefreshTracker#cacheName(String) cache name},
+ * giving {@code cache.gets} (hits and misses), {@code cache.size},
+ * {@code cache.evictions} and {@code cache.load.duration} (loader latency) per cache.
+ *
+ * <p>The registry is optional so the application still starts when metrics are unavailable.
+ */
+@Component
+public class CacheMetrics {
+
+    public CacheMetrics(Map<String, LoadingCache<String, ?>> caches, ObjectProvider<MeterRegistry> registry) {
+        registry.ifAvailable(meterRegistry -> caches.forEach((beanName, cache) ->
+                CaffeineCacheMetrics.monitor(meterRegistry, cache, CacheRefreshTracker.cacheName(beanName))));
+    }
+}
@@ -0,0 +1,171 @@
+package io.nextskip.common.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures how long each cache serves stale data after the database write that
+ * invalidated it.
+ *
+ * <p>The clock starts when a committed write runs its refresh action (see
+ * {@code CacheRefreshEventListener}) and stops when the cache replaces its value,
+ * which Caffeine reports to the {@link #replacementListener(String) replacement
+ * listener} only once the new value is visible to readers. Each lag is published as
+ * the {@code nextskip.cache.refresh.lag} timer, tagged by cache, and the latest one is
+ * kept for the admin UI.
+ *
+ * <p>If a reload fails the lag keeps running from the first unapplied commit, so the
+ * next successful reload reports the full staleness.
+ */
+@Component
+public class CacheRefreshTracker {
+
+    /**
+     * Suffix of every cache bean name; the cache name is the bean name without it.
+     */
+    public static final String BEAN_SUFFIX = "Cache";
+
+    private final Clock clock;
+    private final MeterRegistry registry;
+    private final Map<String, RefreshState> states = new ConcurrentHashMap<>();
+
+    public CacheRefreshTracker(Clock clock, ObjectProvider<MeterRegistry> registry) {
+        this.clock = clock;
+        this.registry = registry.getIfAvailable();
+    }
+
+    /**
+     * Returns the display name for a cache bean, e.g. {@code activations} for
+     * {@code activationsCache}.
+     *
+     * @param beanName the LoadingCache bean name
+     * @return the cache name used in metrics and the admin UI
+     */
+    public static String cacheName(String beanName) {
+        return beanName.endsWith(BEAN_SUFFIX) && beanName.length() > BEAN_SUFFIX.length()
+                ? beanName.substring(0, beanName.length() - BEAN_SUFFIX.length())
+                : beanName;
+    }
+
+    /**
+     * Returns a removal listener that stops the lag clock when {@code cacheName}
+     * replaces its value.
+     *
+     * @param cacheName the cache name
+     * @param <K>       the cache key type
+     * @param <V>       the cache value type
+     * @return a listener to pass to {@code Caffeine.removalListener}
+     */
+    public <K, V> RemovalListener<K, V> replacementListener(String cacheName) {
+        return (key, value, cause) -> {
+            if (cause == RemovalCause.REPLACED) {
+                valueReplaced(cacheName);
+            }
+        };
+    }
+
+    /**
+     * Runs a post-commit refresh action and starts the lag clock for the caches it
+     * reloads.
+     *
+     * <p>The targets are the caches the {@code CacheRefreshEvent} declares, so caches the
+     * action does not touch are never inspected. If the action throws, the clocks it
+     * started are stopped again.
+     *
+     * @param targets       the caches the action reloads, keyed by cache name
+     * @param refreshAction the refresh action from a {@code CacheRefreshEvent}
+     */
+    public void track(Map<String, LoadingCache<String, ?>> targets, Runnable refreshAction) {
+        Instant committedAt = Instant.now(clock);
+        targets.forEach((name, cache) -> {
+            if (cache.policy().getIfPresentQuietly(CacheConfig.CACHE_KEY) != null) {
+                // Started up front: a fast reload may be applied before the action returns.
+                // An empty cache serves nothing stale, so its first load is not a lag.
+                state(name).pendingSince.compareAndSet(null, committedAt);
+            }
+        });
+
+        boolean ran = false;
+        try {
+            refreshAction.run();
+            ran = true;
+        } finally {
+            if (!ran) {
+                targets.keySet().forEach(name -> state(name).pendingSince.compareAndSet(committedAt, null));
+            }
+        }
+    }
+
+    /**
+     * Returns how long the most recent refresh took to become visible.
+     *
+     * @param cacheName the cache name
+     * @return the last commit-to-visible lag, or null if none has been measured
+     */
+    public Duration getLastLag(String cacheName) {
+        RefreshState state = states.get(cacheName);
+        return state != null ? state.lastLag : null;
+    }
+
+    /**
+     * Returns when the cache last replaced its value after a committed write.
+     *
+     * @param cacheName the cache name
+     * @return the time the last refreshed value became visible, or null if never
+     */
+    public Instant getLastRefreshedAt(String cacheName) {
+        RefreshState state = states.get(cacheName);
+        return state != null ? state.lastRefreshedAt : null;
+    }
+
+    void valueReplaced(String cacheName) {
+        RefreshState state = state(cacheName);
+        Instant committedAt = state.pendingSince.getAndSet(null);
+        if (committedAt == null) {
+            // Scheduled refreshAfterWrite reloads and explicit puts are not commit-driven
+            return;
+        }
+        Instant visibleAt = Instant.now(clock);
+        Duration lag = Duration.between(committedAt, visibleAt);
+        state.lastLag = lag;
+        state.lastRefreshedAt = visibleAt;
+        if (state.timer != null) {
+            state.timer.record(lag);
+        }
+    }
+
+    private RefreshState state(String cacheName) {
+        return states.computeIfAbsent(cacheName, name -> new RefreshState(registry == null ? null
+                : Timer.builder("nextskip.cache.refresh.lag")
+                        .description("Time from a committed database write until the cache serves the new value")
+                        .tag("cache", name)
+                        .register(registry)));
+    }
+
+    /**
+     * Lag bookkeeping for one cache.
+     */
+    private static final class RefreshState {
+
+        private final AtomicReference<Instant> pendingSince = new AtomicReference<>();
+        private final Timer timer;
+        private volatile Duration lastLag;
+        private volatile Instant lastRefreshedAt;
+
+        RefreshState(Timer timer) {
+            this.timer = timer;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * JFR event for one band activity aggregation query.
+ */
+@Name("io.nextskip.AggregationQuery")
+@Label("Aggregation Query")
+@Category({NextSkipEvents.CATEGORY, "Spots"})
+@Description("Band activity aggregation query against the spots table")
+@StackTrace(false)
+public class AggregationQueryEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    public String query;
+
+    @Label("Mode")
+    @Description("Aggregation mode: multi-query, single-scan or sharded-scan")
+    public String mode;
+
+    @Label("Rows")
+    public int rows;
+
+    /**
+     * Runs a query and records it as an event.
+     *
+     * <p>A query that throws is not recorded.
+     *
+     * @param query query name (e.g., "buckets", "shard")
+     * @param mode  aggregation mode
+     * @param call  the query
+     * @return the query rows
+     */
+    public static List<Object[]> record(String query, String mode, Supplier<List<Object[]>> call) {
+        AggregationQueryEvent event = new AggregationQueryEvent();
+        event.begin();
+        List<Object[]> rows = call.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.query = query;
+            event.mode = mode;
+            event.rows = rows.size();
+            event.commit();
+        }
+        return rows;
+    }
+}
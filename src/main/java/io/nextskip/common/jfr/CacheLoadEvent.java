@@ -0,0 +1,52 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * JFR event for one load or reload of an in-memory cache.
+ */
+@Name("io.nextskip.CacheLoad")
+@Label("Cache Load")
+@Category({NextSkipEvents.CATEGORY, "Cache"})
+@Description("Cache entry loaded or reloaded from the database")
+@StackTrace(false)
+public class CacheLoadEvent extends jdk.jfr.Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Entries")
+    @Description("Items in the loaded value, such as activations or band+mode pairs")
+    public int entries;
+
+    /**
+     * Runs a cache loader and records it as an event.
+     *
+     * <p>A loader that throws is not recorded; Caffeine counts it as a load failure.
+     *
+     * @param cache   cache name (e.g., "activations")
+     * @param loader  the loader
+     * @param entries counts the items in a loaded value, which may be null
+     * @param <V>     value type
+     * @return the loaded value
+     */
+    public static <V> V record(String cache, Supplier<V> loader, ToIntFunction<V> entries) {
+        CacheLoadEvent event = new CacheLoadEvent();
+        event.begin();
+        V value = loader.get();
+        event.end();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.entries = value == null ? 0 : entries.applyAsInt(value);
+            event.commit();
+        }
+        return value;
+    }
+}
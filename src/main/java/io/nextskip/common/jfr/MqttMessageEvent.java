@@ -0,0 +1,29 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one MQTT message received from PSKReporter.
+ *
+ * <p>The duration covers decoding the payload and handing it to the stream buffer.
+ * One event is emitted per message, so the event count per second is the raw spot rate.
+ */
+@Name("io.nextskip.MqttMessage")
+@Label("MQTT Message")
+@Category({NextSkipEvents.CATEGORY, "Spots"})
+@Description("MQTT message received from a spot source")
+@StackTrace(false)
+public class MqttMessageEvent extends jdk.jfr.Event {
+
+    @Label("Topic")
+    public String topic;
+
+    @Label("Payload Size")
+    @DataAmount
+    public int payloadBytes;
+}
@@ -0,0 +1,36 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Event;
+
+import java.util.List;
+
+/**
+ * The application's JFR event types.
+ *
+ * <p>Each event is committed only when a recording has it enabled, so outside a
+ * recording the instrumented code pays little more than an allocation the JIT removes.
+ * A dump can be inspected with {@code jfr print --categories NextSkip}.
+ */
+public final class NextSkipEvents {
+
+    /**
+     * Top-level category shared by all event types.
+     */
+    public static final String CATEGORY = "NextSkip";
+
+    /**
+     * All event types, for enabling in a recording.
+     */
+    public static final List<Class<? extends Event>> TYPES = List.of(
+            MqttMessageEvent.class,
+            SpotParseBatchEvent.class,
+            SpotPersistEvent.class,
+            AggregationQueryEvent.class,
+            RefreshTaskEvent.class,
+            CacheLoadEvent.class
+    );
+
+    private NextSkipEvents() {
+        // Constants holder
+    }
+}
@@ -0,0 +1,28 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one scheduled feed refresh, from upstream fetch to commit.
+ */
+@Name("io.nextskip.RefreshTask")
+@Label("Refresh Task")
+@Category({NextSkipEvents.CATEGORY, "Scheduler"})
+@Description("Refresh of a data feed by a scheduled task")
+@StackTrace(false)
+public class RefreshTaskEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Changed")
+    @Description("Whether the upstream had new data and the database was written")
+    public boolean changed;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,42 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event summarizing the parse and enrich stages over a window of stream messages.
+ *
+ * <p>The event duration is the wall-clock span of the window; {@link #parseTime} and
+ * {@link #enrichTime} are the time actually spent in each stage within it.
+ */
+@Name("io.nextskip.SpotParseBatch")
+@Label("Spot Parse Batch")
+@Category({NextSkipEvents.CATEGORY, "Spots"})
+@Description("Messages parsed and spots enriched by the spot stream")
+@StackTrace(false)
+public class SpotParseBatchEvent extends jdk.jfr.Event {
+
+    @Label("Messages")
+    public int messages;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long payloadBytes;
+
+    @Label("Spots")
+    @Description("Messages that parsed into a spot")
+    public int spots;
+
+    @Label("Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseTime;
+
+    @Label("Enrich Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long enrichTime;
+}
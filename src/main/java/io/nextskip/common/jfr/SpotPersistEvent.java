@@ -0,0 +1,30 @@
+package io.nextskip.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one batch insert of spots.
+ */
+@Name("io.nextskip.SpotPersist")
+@Label("Spot Persist")
+@Category({NextSkipEvents.CATEGORY, "Spots"})
+@Description("Batch of spots written to the database")
+@StackTrace(false)
+public class SpotPersistEvent extends jdk.jfr.Event {
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Estimated Size")
+    @Description("Approximate column data of the inserted rows")
+    @DataAmount
+    public long estimatedBytes;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -28,7 +28,8 @@ import java.util.regex.Pattern;
  * new Callsign("F/W1AW/P").getSuffix()        // "P"
  * </pre>
  *
- * <p>Provides foundation for cty.dat-based DXCC lookup in Phase 2.
+ * <p>DXCC and continent lookup by cty.dat prefix lives in the spots module's
+ * {@code CallsignEnricher}.
  *
  * @param value the full callsign string (case-insensitive)
  */
@@ -4,13 +4,10 @@ import java.util.Locale;
 import java.util.Map;
 
 /**
- * Utility for determining continent codes from grid squares and callsigns.
+ * Utility for determining continent codes from grid squares.
  *
- * <p>Provides two lookup methods:
- * <ul>
- *   <li>{@link #fromGridSquare(String)} - Uses Maidenhead field (first letter) for ~80% accuracy</li>
- *   <li>{@link #fromCallsign(Callsign)} - Placeholder for future cty.dat-based lookup</li>
- * </ul>
+ * <p>{@link #fromGridSquare(String)} uses the Maidenhead field (first letter) for
+ * about 80% accuracy.
  *
  * <p>Continent codes follow the standard 2-letter abbreviations:
  * <ul>
@@ -23,7 +20,9 @@ import java.util.Map;
  *   <li>SA - South America</li>
  * </ul>
  *
- * <p>Phase 2 will add accurate cty.dat-based lookup for callsign prefixes.
+ * <p>For a callsign's continent, use the cty.dat prefix trie through
+ * {@code io.nextskip.spots.internal.enrichment.CallsignEnricher#lookup(String)},
+ * which spot enrichment prefers over this grid lookup when the loaded file is complete.
  */
 public final class ContinentLookup {
 
@@ -110,26 +109,6 @@ public final class ContinentLookup {
         return GRID_FIELD_TO_CONTINENT.get(field);
     }
 
-    /**
-     * Determines continent from a callsign.
-     *
-     * <p><b>Note:</b> This is a placeholder for Phase 2 cty.dat integration.
-     * Currently returns null. Future implementation will:
-     * <ul>
-     *   <li>Extract callsign prefix via {@link Callsign#getPrefix()}</li>
-     *   <li>Look up prefix in cty.dat database</li>
-     *   <li>Return accurate continent based on DXCC entity</li>
-     * </ul>
-     *
-     * @param callsign the parsed callsign
-     * @return continent code, or null (Phase 2 will implement)
-     */
-    public static String fromCallsign(Callsign callsign) {
-        // Phase 2: Implement cty.dat-based lookup
-        // For now, return null to indicate "unknown"
-        return null;
-    }
-
     /**
      * Validates a continent code.
      *
@@ -77,4 +77,28 @@ public interface Event extends Scoreable {
      * @return true if the event is active and will end soon, false otherwise
      */
     boolean isEndingSoon();
+
+    /**
+     * Returns the status of this event at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return the event status at {@code asOf}
+     */
+    EventStatus getStatus(Instant asOf);
+
+    /**
+     * Calculates the time remaining at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return the duration until the event ends (active) or starts (upcoming)
+     */
+    Duration getTimeRemaining(Instant asOf);
+
+    /**
+     * Determines if this event is active and ending soon at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return true if the event is active and will end soon, false otherwise
+     */
+    boolean isEndingSoon(Instant asOf);
 }
@@ -0,0 +1,259 @@
+package io.nextskip.common.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable time index over a list of {@link Event}s.
+ *
+ * <p>Answers the questions the dashboard asks of scheduled events - what is active at
+ * an instant, what starts or ends within a window - without evaluating every event's
+ * status. Events are kept in two orders: by start time, augmented with the latest end
+ * time of each implicit subtree (a static interval tree), and by end time. Every
+ * query is a binary search or a pruned tree walk, O(log n + k) for k matches.
+ *
+ * <p>Status boundaries match {@link Event#getStatus(Instant)}: an event is active from
+ * its start time through its end time inclusive. Results are returned in the order the
+ * events were supplied, so a calendar over a cache's sorted list preserves that sort.
+ * Events without a start or end time cannot be placed and are never returned.
+ *
+ * <p>A calendar is built from one cache value and reused until the cache hands out a
+ * different list; see {@link #refreshedFrom(List)}.
+ *
+ * @param <E> the event type
+ */
+public final class EventCalendar<E extends Event> {
+
+    private static final EventCalendar<?> EMPTY = new EventCalendar<>(List.of());
+
+    private final List<E> events;
+    private final int[] byStart;
+    private final Instant[] starts;
+    private final Instant[] endsInStartOrder;
+    private final Instant[] subtreeMaxEnds;
+    private final int[] byEnd;
+    private final Instant[] ends;
+
+    private EventCalendar(List<E> events) {
+        this.events = events;
+        int[] placeable = IntStream.range(0, events.size())
+                .filter(i -> events.get(i).getStartTime() != null && events.get(i).getEndTime() != null)
+                .toArray();
+
+        this.byStart = sortBy(placeable, i -> events.get(i).getStartTime());
+        this.starts = times(byStart, i -> events.get(i).getStartTime());
+        this.endsInStartOrder = times(byStart, i -> events.get(i).getEndTime());
+        this.subtreeMaxEnds = new Instant[byStart.length];
+        buildSubtreeMaxEnds(0, byStart.length);
+
+        this.byEnd = sortBy(placeable, i -> events.get(i).getEndTime());
+        this.ends = times(byEnd, i -> events.get(i).getEndTime());
+    }
+
+    /**
+     * Builds a calendar over the given events.
+     *
+     * @param events the events, typically a cache value; not copied
+     * @param <E>    the event type
+     * @return a calendar over {@code events}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Event> EventCalendar<E> of(List<E> events) {
+        if (events == null || events.isEmpty()) {
+            return (EventCalendar<E>) EMPTY;
+        }
+        return new EventCalendar<>(events);
+    }
+
+    /**
+     * Returns this calendar if it was built from {@code events}, otherwise a new one.
+     *
+     * <p>Lists are compared by identity: a cache refresh replaces its value with a new
+     * list, which is exactly when the index needs rebuilding.
+     *
+     * @param events the current cache value
+     * @return a calendar over {@code events}
+     */
+    public EventCalendar<E> refreshedFrom(List<E> events) {
+        return isBuiltFrom(events) ? this : of(events);
+    }
+
+    /**
+     * Returns whether this calendar indexes exactly the given list instance.
+     *
+     * @param events the list to compare
+     * @return true if this calendar was built from {@code events}
+     */
+    public boolean isBuiltFrom(List<? extends Event> events) {
+        return this.events == events || this.events.isEmpty() && (events == null || events.isEmpty());
+    }
+
+    /**
+     * Returns the events active at the given time (start &le; t &le; end).
+     *
+     * @param asOf the reference time
+     * @return the active events
+     */
+    public List<E> activeAt(Instant asOf) {
+        return overlapping(asOf, asOf);
+    }
+
+    /**
+     * Returns the events whose span intersects {@code [from, to]}.
+     *
+     * @param from the start of the window, inclusive
+     * @param to   the end of the window, inclusive
+     * @return the events active at any point in the window
+     */
+    public List<E> overlapping(Instant from, Instant to) {
+        IntStream.Builder hits = IntStream.builder();
+        collectOverlapping(0, byStart.length, from, to, hits);
+        return toEvents(hits.build());
+    }
+
+    /**
+     * Returns the events that have not ended at the given time (end &ge; t).
+     *
+     * @param asOf the reference time
+     * @return the active and upcoming events
+     */
+    public List<E> notEndedAt(Instant asOf) {
+        return toEvents(IntStream.range(firstAtOrAfter(ends, asOf), ends.length).map(i -> byEnd[i]));
+    }
+
+    /**
+     * Returns the events that have not started at the given time (start &gt; t).
+     *
+     * @param asOf the reference time
+     * @return the upcoming events
+     */
+    public List<E> upcomingAt(Instant asOf) {
+        return toEvents(IntStream.range(firstAfter(starts, asOf), starts.length).map(i -> byStart[i]));
+    }
+
+    /**
+     * Returns the upcoming events that start within the window (t &lt; start &le; t + window).
+     *
+     * @param asOf   the reference time
+     * @param window how far ahead to look
+     * @return the events starting soon
+     */
+    public List<E> startingWithin(Instant asOf, Duration window) {
+        return toEvents(IntStream.range(firstAfter(starts, asOf), firstAfter(starts, asOf.plus(window)))
+                .map(i -> byStart[i]));
+    }
+
+    /**
+     * Returns the active events that end within the window (start &le; t &le; end &le; t + window).
+     *
+     * @param asOf   the reference time
+     * @param window how far ahead to look
+     * @return the events ending soon
+     */
+    public List<E> endingWithin(Instant asOf, Duration window) {
+        return toEvents(IntStream.range(firstAtOrAfter(ends, asOf), firstAfter(ends, asOf.plus(window)))
+                .map(i -> byEnd[i])
+                .filter(i -> !events.get(i).getStartTime().isAfter(asOf)));
+    }
+
+    /**
+     * Returns the number of events that can be placed on the calendar.
+     *
+     * @return the number of indexed events
+     */
+    public int size() {
+        return byStart.length;
+    }
+
+    private Instant buildSubtreeMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Instant.MIN;
+        }
+        int mid = (lo + hi) >>> 1;
+        Instant max = endsInStartOrder[mid];
+        Instant left = buildSubtreeMaxEnds(lo, mid);
+        Instant right = buildSubtreeMaxEnds(mid + 1, hi);
+        if (left.isAfter(max)) {
+            max = left;
+        }
+        if (right.isAfter(max)) {
+            max = right;
+        }
+        subtreeMaxEnds[mid] = max;
+        return max;
+    }
+
+    private void collectOverlapping(int lo, int hi, Instant from, Instant to, IntStream.Builder hits) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // Nothing in this subtree lasts until the window
+        if (subtreeMaxEnds[mid].isBefore(from)) {
+            return;
+        }
+        collectOverlapping(lo, mid, from, to, hits);
+        // This event and everything to its right start after the window
+        if (starts[mid].isAfter(to)) {
+            return;
+        }
+        if (!endsInStartOrder[mid].isBefore(from)) {
+            hits.add(byStart[mid]);
+        }
+        collectOverlapping(mid + 1, hi, from, to, hits);
+    }
+
+    private List<E> toEvents(IntStream indices) {
+        return indices.sorted().mapToObj(events::get).toList();
+    }
+
+    private static int[] sortBy(int[] indices, IntFunction<Instant> time) {
+        return Arrays.stream(indices).boxed()
+                .sorted(Comparator.comparing(time::apply))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static Instant[] times(int[] indices, IntFunction<Instant> time) {
+        Instant[] result = new Instant[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            result[i] = time.apply(indices[i]);
+        }
+        return result;
+    }
+
+    /** Index of the first element not before {@code key}. */
+    private static int firstAtOrAfter(Instant[] sorted, Instant key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].isBefore(key)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** Index of the first element after {@code key}. */
+    private static int firstAfter(Instant[] sorted, Instant key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].isAfter(key)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+}
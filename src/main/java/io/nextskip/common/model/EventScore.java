@@ -0,0 +1,46 @@
+package io.nextskip.common.model;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * The time-dependent values of an {@link Event}, computed once against a fixed instant.
+ *
+ * <p>An event's status, score and countdown all follow the clock. Evaluating them once
+ * per dashboard snapshot and carrying the result keeps every field of a serialized
+ * event consistent with the others and with the rest of the snapshot.
+ *
+ * @param evaluatedAt   The reference time the values were computed against
+ * @param status        Event status at {@code evaluatedAt}
+ * @param score         Score from 0-100 at {@code evaluatedAt}
+ * @param favorable     Whether conditions were favorable at {@code evaluatedAt}
+ * @param endingSoon    Whether the event was active and ending soon at {@code evaluatedAt}
+ * @param timeRemaining Time until the event ends (active) or starts (upcoming)
+ */
+public record EventScore(
+        Instant evaluatedAt,
+        EventStatus status,
+        int score,
+        boolean favorable,
+        boolean endingSoon,
+        Duration timeRemaining
+) {
+
+    /**
+     * Evaluates an event at the given reference time.
+     *
+     * @param event the event to evaluate
+     * @param asOf  the reference time
+     * @return the event's values at {@code asOf}
+     */
+    public static EventScore of(Event event, Instant asOf) {
+        return new EventScore(
+                asOf,
+                event.getStatus(asOf),
+                event.getScore(asOf),
+                event.isFavorable(asOf),
+                event.isEndingSoon(asOf),
+                event.getTimeRemaining(asOf)
+        );
+    }
+}
@@ -1,8 +1,12 @@
 package io.nextskip.common.scheduler;
 
+import io.nextskip.common.client.FetchResult;
+import io.nextskip.common.jfr.RefreshTaskEvent;
 import org.slf4j.Logger;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Abstract base class for data refresh services.
@@ -13,10 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>This class exists to solve the Spring AOP proxy limitation with db-scheduler:
  * when a {@code @Configuration} class calls its own {@code @Transactional} method
  * via a lambda, the call bypasses the Spring proxy and the transaction is not applied.
- * By extracting the transactional logic to a separate {@code @Service} bean,
- * the proxy is properly invoked.
+ * The transaction is therefore opened explicitly through {@link TransactionOperations},
+ * which also lets {@link #fetchUpdates()} run before it so that an unchanged upstream
+ * never touches the database. The fetched data is handed to {@link #doRefresh(Object)}
+ * as a parameter, so a service holds no per-run state between the two.
  *
- * <p>Cache refresh is handled via Spring's event system. After {@link #doRefresh()}
+ * <p>Cache refresh is handled via Spring's event system. After {@link #doRefresh(Object)}
  * completes, a {@link CacheRefreshEvent} is published. The {@link CacheRefreshEventListener}
  * uses {@code @TransactionalEventListener(phase = AFTER_COMMIT)} to execute the cache
  * refresh only after the transaction commits. This prevents the race condition where
@@ -25,7 +31,9 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>Subclasses implement:
  * <ul>
  *   <li>{@link #getServiceName()} - identifier for logging</li>
- *   <li>{@link #doRefresh()} - domain-specific fetch, convert, save, cleanup logic</li>
+ *   <li>{@link #fetchUpdates()} - optional: fetch outside the transaction and skip if unchanged</li>
+ *   <li>{@link #fetchUpdatesAsync()} - optional: non-blocking form used by {@link #executeRefreshAsync()}</li>
+ *   <li>{@link #doRefresh(Object)} - domain-specific convert, save, cleanup logic</li>
  *   <li>{@link #createCacheRefreshEvent()} - event with cache refresh action</li>
  *   <li>{@link #getSuccessMessage()} - formatted success log message</li>
  *   <li>{@link #getLog()} - logger instance for the subclass</li>
@@ -33,25 +41,33 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>The base class provides:
  * <ul>
- *   <li>Transaction management via {@code @Transactional}</li>
+ *   <li>Transaction management via {@link TransactionOperations}</li>
  *   <li>Post-commit cache refresh via event publishing</li>
  *   <li>Consistent logging pattern</li>
+ *   <li>A {@link RefreshTaskEvent} per {@link #executeRefresh()} for JFR recordings</li>
  * </ul>
  *
  * <p>Exception handling is delegated to subclasses, which should catch domain-specific
  * exceptions and wrap them in {@link DataRefreshException} as appropriate.
+ *
+ * @param <T> the data fetched by {@link #fetchUpdates()}; {@link Void} for services that do not fetch
  */
-public abstract class AbstractRefreshService {
+public abstract class AbstractRefreshService<T> {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     /**
      * Creates a new refresh service with the given event publisher.
      *
      * @param eventPublisher Spring's event publisher for cache refresh events
+     * @param transactionOperations transaction template wrapping {@link #doRefresh(Object)}
      */
-    protected AbstractRefreshService(ApplicationEventPublisher eventPublisher) {
+    protected AbstractRefreshService(
+            ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations) {
         this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
     /**
@@ -63,14 +79,16 @@ public abstract class AbstractRefreshService {
      * <p>The method:
      * <ol>
      *   <li>Logs the start of the refresh</li>
-     *   <li>Calls {@link #doRefresh()} for domain-specific logic</li>
+     *   <li>Calls {@link #fetchUpdates()}; returns early if the upstream is unchanged</li>
+     *   <li>Calls {@link #doRefresh(Object)} with the fetched data</li>
      *   <li>Publishes {@link CacheRefreshEvent} (executed after commit)</li>
      *   <li>Logs success via {@link #getSuccessMessage()}</li>
      * </ol>
      *
      * <p>Transaction behavior:
      * <ul>
-     *   <li>All database operations in {@link #doRefresh()} are atomic</li>
+     *   <li>No transaction is opened when {@link #fetchUpdates()} reports no changes</li>
+     *   <li>All database operations in {@link #doRefresh(Object)} are atomic</li>
      *   <li>Any {@link RuntimeException} causes automatic rollback</li>
      *   <li>Subclasses should throw {@link DataRefreshException} for domain errors</li>
      *   <li>Cache refresh is deferred until after transaction commits</li>
@@ -78,12 +96,61 @@ public abstract class AbstractRefreshService {
      *
      * @throws DataRefreshException if the refresh operation fails
      */
-    @Transactional
     public void executeRefresh() {
         getLog().debug("Executing {} refresh", getServiceName());
+        RefreshTaskEvent event = new RefreshTaskEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            FetchResult<T> fetched = fetchUpdates();
+            event.changed = fetched.modified();
+            persistIfChanged(fetched);
+            succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = getServiceName();
+                event.failed = !succeeded;
+                event.commit();
+            }
+        }
+    }
 
-        doRefresh();
-        eventPublisher.publishEvent(createCacheRefreshEvent());
+    /**
+     * Non-blocking form of {@link #executeRefresh()}.
+     *
+     * <p>Fetches via {@link #fetchUpdatesAsync()}, then runs {@link #doRefresh(Object)} and its
+     * transaction on the bounded elastic scheduler. Used by the startup warm-up to load
+     * several feeds concurrently; the recurring tasks keep using {@link #executeRefresh()}.
+     *
+     * @return a {@link Mono} completing when the refresh has committed or was skipped
+     */
+    public Mono<Void> executeRefreshAsync() {
+        return Mono.defer(() -> {
+                    getLog().debug("Executing {} refresh (async)", getServiceName());
+                    return fetchUpdatesAsync();
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(this::persistIfChanged)
+                .then();
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // Rethrown after onRefreshFailed()
+    private void persistIfChanged(FetchResult<T> fetched) {
+        if (!fetched.modified()) {
+            getLog().debug("{} refresh skipped: upstream data unchanged", getServiceName());
+            return;
+        }
+
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                doRefresh(fetched.data());
+                eventPublisher.publishEvent(createCacheRefreshEvent());
+            });
+        } catch (RuntimeException e) {
+            onRefreshFailed();
+            throw e;
+        }
 
         getLog().info(getSuccessMessage());
     }
@@ -95,26 +162,64 @@ public abstract class AbstractRefreshService {
      */
     protected abstract String getServiceName();
 
+    /**
+     * Fetches upstream data before the transaction is opened.
+     *
+     * <p>Services backed by an external feed override this to return
+     * {@code fetchIfModified()} from their client. A not-modified result skips the
+     * transaction and the {@link CacheRefreshEvent} entirely; a modified one passes its
+     * data to {@link #doRefresh(Object)}.
+     *
+     * @return the fetch outcome (default: modified, with no data)
+     */
+    protected FetchResult<T> fetchUpdates() {
+        return FetchResult.modified(null);
+    }
+
+    /**
+     * Non-blocking form of {@link #fetchUpdates()}.
+     *
+     * <p>The default runs {@link #fetchUpdates()} on the bounded elastic scheduler. Services
+     * backed by an external feed override this to call {@code fetchIfModifiedAsync()}.
+     *
+     * @return a {@link Mono} emitting the fetch outcome
+     */
+    protected Mono<FetchResult<T>> fetchUpdatesAsync() {
+        return Mono.fromCallable(this::fetchUpdates).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Called when {@link #doRefresh(Object)} or the surrounding commit fails.
+     *
+     * <p>Services that override {@link #fetchUpdates()} reset their client's conditional
+     * fetch state here, so the data that failed to persist is not reported as unchanged
+     * on the next run.
+     */
+    protected void onRefreshFailed() {
+        // No-op by default
+    }
+
     /**
      * Performs the domain-specific refresh logic.
      *
      * <p>Implementations should:
      * <ul>
-     *   <li>Fetch data from the external API client</li>
-     *   <li>Convert domain models to entities</li>
+     *   <li>Convert the fetched domain models to entities</li>
      *   <li>Persist entities to the database</li>
      *   <li>Clean up old/stale data if applicable</li>
      * </ul>
      *
-     * <p>This method runs within the transaction started by {@link #executeRefresh()}.
+     * <p>This method runs within the transaction started by {@link #executeRefresh()},
+     * after {@link #fetchUpdates()} reported changes.
      *
      * <p>Exception handling: Implementations should catch domain-specific exceptions
      * (e.g., {@link org.springframework.dao.DataAccessException}) and wrap them in
      * {@link DataRefreshException} with a descriptive message.
      *
+     * @param fetched the data from {@link #fetchUpdates()}; null for services that do not fetch
      * @throws DataRefreshException if the refresh operation fails
      */
-    protected abstract void doRefresh();
+    protected abstract void doRefresh(T fetched);
 
     /**
      * Creates the cache refresh event with service-specific refresh action.
@@ -127,7 +232,7 @@ public abstract class AbstractRefreshService {
      * <pre>{@code
      * @Override
      * protected CacheRefreshEvent createCacheRefreshEvent() {
-     *     return new CacheRefreshEvent("activations",
+     *     return new CacheRefreshEvent(CacheConfig.ACTIVATIONS,
      *         () -> activationsCache.refresh(CacheConfig.CACHE_KEY));
      * }
      * }</pre>
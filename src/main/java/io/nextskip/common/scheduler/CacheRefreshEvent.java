@@ -1,5 +1,7 @@
 package io.nextskip.common.scheduler;
 
+import java.util.Set;
+
 /**
  * Event published after data refresh to trigger cache reload.
  *
@@ -14,8 +16,26 @@ package io.nextskip.common.scheduler;
  * <p>This solves the race condition where cache refresh triggered within a transaction
  * would query the database before data was committed.
  *
- * @param cacheName descriptive name for logging (e.g., "activations", "solarIndices")
+ * @param cacheNames    the caches the action reloads (e.g., "activations", "solarIndices"),
+ *                      as named in {@code CacheConfig}; only these have their refresh lag timed
  * @param refreshAction the cache refresh operation to execute post-commit
  */
-public record CacheRefreshEvent(String cacheName, Runnable refreshAction) {
+public record CacheRefreshEvent(Set<String> cacheNames, Runnable refreshAction) {
+
+    /**
+     * Compact constructor with defensive copying for collections.
+     */
+    public CacheRefreshEvent {
+        cacheNames = Set.copyOf(cacheNames);
+    }
+
+    /**
+     * Creates an event whose action reloads a single cache.
+     *
+     * @param cacheName     the cache the action reloads
+     * @param refreshAction the cache refresh operation to execute post-commit
+     */
+    public CacheRefreshEvent(String cacheName, Runnable refreshAction) {
+        this(Set.of(cacheName), refreshAction);
+    }
 }
@@ -1,11 +1,18 @@
 package io.nextskip.common.scheduler;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.common.config.CacheRefreshTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Listener that executes cache refresh actions after database transactions commit.
  *
@@ -17,12 +24,36 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * <p>The listener is completely generic - it simply executes the {@link Runnable} provided
  * by the {@link CacheRefreshEvent}. This follows the Open/Closed Principle: adding new
  * cache types requires no changes to this listener.
+ *
+ * <p>Each action runs under the {@link CacheRefreshTracker}, which times how long the
+ * caches the event declares take to serve the committed data.
  */
 @Component
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
 public class CacheRefreshEventListener {
 
+    /**
+     * Listener order; listeners that need the reload started run after this.
+     */
+    public static final int ORDER = 0;
+
     private static final Logger LOG = LoggerFactory.getLogger(CacheRefreshEventListener.class);
 
+    private final Map<String, LoadingCache<String, ?>> caches = new LinkedHashMap<>();
+    private final CacheRefreshTracker refreshTracker;
+
+    /**
+     * Creates the listener.
+     *
+     * @param caches         all LoadingCache beans, keyed by bean name
+     * @param refreshTracker the tracker that times each refresh
+     */
+    public CacheRefreshEventListener(Map<String, LoadingCache<String, ?>> caches,
+                                     CacheRefreshTracker refreshTracker) {
+        caches.forEach((beanName, cache) -> this.caches.put(CacheRefreshTracker.cacheName(beanName), cache));
+        this.refreshTracker = refreshTracker;
+    }
+
     /**
      * Handles cache refresh events after transaction commit.
      *
@@ -36,8 +67,16 @@ public class CacheRefreshEventListener {
      * @param event the cache refresh event containing the refresh action
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(ORDER)
     public void onCacheRefresh(CacheRefreshEvent event) {
-        LOG.debug("Refreshing {} cache after transaction commit", event.cacheName());
-        event.refreshAction().run();
+        LOG.debug("Refreshing {} after transaction commit", event.cacheNames());
+        Map<String, LoadingCache<String, ?>> targets = new LinkedHashMap<>();
+        for (String name : event.cacheNames()) {
+            LoadingCache<String, ?> cache = caches.get(name);
+            if (cache != null) {
+                targets.put(name, cache);
+            }
+        }
+        refreshTracker.track(targets, event.refreshAction());
     }
 }
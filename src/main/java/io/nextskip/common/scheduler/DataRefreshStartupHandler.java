@@ -2,27 +2,45 @@ package io.nextskip.common.scheduler;
 
 import com.github.kagkarlsson.scheduler.Scheduler;
 import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
 /**
- * Handles conditional startup execution of data refresh tasks.
+ * Warms up empty data repositories on startup.
  *
- * <p>On application startup, checks each data repository for recent data.
- * If a repository is empty (cold start), the corresponding refresh task
- * is rescheduled for immediate execution.
+ * <p>On application startup, checks every data repository for recent data, all
+ * coordinators at once. Each repository that is empty (cold start) is loaded right away
+ * through {@link RefreshTaskCoordinator#executeInitialLoad()}, at most
+ * {@code nextskip.startup.warm-up-concurrency} at a time, instead of waiting for
+ * db-scheduler to work through the tasks on its small thread pool. Each load holds the
+ * task's db-scheduler execution through {@link ScheduledTaskLock}, so it never overlaps a
+ * scheduled run of the same task on this or another instance; a task db-scheduler is
+ * already running is left to it. A load that fails is rescheduled for immediate execution
+ * so db-scheduler retries it.
  *
  * <p>This ensures the application has fresh data available immediately
  * after a cold start (e.g., new deployment, database migration), while
  * avoiding redundant API calls when data is already present (e.g., restart).
  *
+ * <p>When the warm-up finishes, the time from application start until every feed held
+ * data is recorded as {@code nextskip.startup.dashboard.ready}, tagged {@code outcome}
+ * {@code complete} or {@code partial} (some load failed).
+ *
  * <p>Uses the {@link RefreshTaskCoordinator} interface to automatically discover
  * and coordinate all refresh tasks. New tasks are automatically included without
  * modifying this class (Open-Closed Principle).
@@ -33,8 +51,13 @@ public class DataRefreshStartupHandler {
 
     private static final Logger LOG = LoggerFactory.getLogger(DataRefreshStartupHandler.class);
 
+    private static final String DASHBOARD_READY_METRIC = "nextskip.startup.dashboard.ready";
+
     private final Scheduler scheduler;
+    private final ScheduledTaskLock taskLock;
     private final List<RefreshTaskCoordinator> coordinators;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int concurrency;
 
     /**
      * Creates a new startup handler.
@@ -42,46 +65,119 @@ public class DataRefreshStartupHandler {
      * <p>Coordinators are automatically discovered via Spring's component scanning.
      * Each coordinator encapsulates its task, repository check, and task name.
      *
-     * @param scheduler    the db-scheduler Scheduler
-     * @param coordinators all registered refresh task coordinators
+     * @param scheduler     the db-scheduler Scheduler
+     * @param taskLock      claims each task's execution while its initial load runs
+     * @param coordinators  all registered refresh task coordinators
+     * @param meterRegistry registry for the dashboard-ready timer, if metrics are enabled
+     * @param concurrency   maximum number of initial loads running at once
      */
     public DataRefreshStartupHandler(
             Scheduler scheduler,
-            List<RefreshTaskCoordinator> coordinators) {
+            ScheduledTaskLock taskLock,
+            List<RefreshTaskCoordinator> coordinators,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${nextskip.startup.warm-up-concurrency:4}") int concurrency) {
 
         this.scheduler = scheduler;
+        this.taskLock = taskLock;
         this.coordinators = List.copyOf(coordinators);
+        this.meterRegistry = meterRegistry;
+        this.concurrency = Math.max(1, concurrency);
     }
 
     /**
-     * Handles the ApplicationReadyEvent to check for empty repositories.
-     *
-     * <p>For each coordinator, checks if initial data load is needed.
-     * If so, reschedules the corresponding task for immediate execution.
+     * Handles the ApplicationReadyEvent by starting the warm-up in the background.
      *
      * @param event the application ready event
      */
     @EventListener
     public void onApplicationReady(ApplicationReadyEvent event) {
-        LOG.info("Checking for required startup data refreshes ({} coordinators)...",
-                coordinators.size());
-
-        int tasksScheduled = 0;
-
-        for (RefreshTaskCoordinator coordinator : coordinators) {
-            if (coordinator.needsInitialLoad()) {
-                rescheduleForImmediateExecution(
-                        coordinator.getRecurringTask(),
-                        coordinator.getTaskName());
-                tasksScheduled++;
-            }
-        }
+        Duration startupTime = event.getTimeTaken() != null ? event.getTimeTaken() : Duration.ZERO;
+        warmUp(startupTime).subscribe();
+    }
 
-        if (tasksScheduled > 0) {
-            LOG.info("Scheduled {} tasks for immediate execution due to empty data", tasksScheduled);
-        } else {
+    /**
+     * Checks all coordinators and runs the initial loads that are needed.
+     *
+     * @param startupTime time from application start until it was ready
+     * @return a {@link Mono} emitting the time until every feed held data
+     */
+    Mono<Duration> warmUp(Duration startupTime) {
+        return Mono.defer(() -> {
+            LOG.info("Checking for required startup data refreshes ({} coordinators)...",
+                    coordinators.size());
+            long started = System.nanoTime();
+
+            return Flux.fromIterable(coordinators)
+                    .flatMap(this::checkInitialLoad)
+                    .flatMap(this::load, concurrency)
+                    .collectList()
+                    .map(loaded -> {
+                        Duration dashboardReady = startupTime.plusNanos(System.nanoTime() - started);
+                        report(loaded, dashboardReady);
+                        return dashboardReady;
+                    });
+        });
+    }
+
+    /**
+     * Emits the coordinator if it needs an initial load.
+     *
+     * <p>A failed check counts as needing a load; refreshes are idempotent.
+     */
+    private Mono<RefreshTaskCoordinator> checkInitialLoad(RefreshTaskCoordinator coordinator) {
+        return Mono.fromCallable(coordinator::needsInitialLoad)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    LOG.warn("Could not check {} for recent data: {}", coordinator.getTaskName(), e.getMessage());
+                    return Mono.just(true);
+                })
+                .filter(Boolean::booleanValue)
+                .map(needed -> coordinator);
+    }
+
+    /**
+     * Runs one initial load under the task's db-scheduler claim, emitting whether it succeeded.
+     *
+     * <p>A task db-scheduler is already running counts as loaded.
+     */
+    private Mono<Boolean> load(RefreshTaskCoordinator coordinator) {
+        String taskName = coordinator.getTaskName();
+        Mono<Void> initialLoad = Mono.defer(() -> {
+            LOG.info("Running immediate {} data refresh - database appears empty", taskName);
+            return coordinator.executeInitialLoad();
+        });
+        return Mono.defer(() -> taskLock.runClaimed(
+                        coordinator.getRecurringTask().instance(RecurringTask.INSTANCE), initialLoad))
+                .map(ran -> {
+                    if (!ran) {
+                        LOG.info("{} data refresh already running under db-scheduler - not loading twice", taskName);
+                    }
+                    return true;
+                })
+                .onErrorResume(e -> {
+                    LOG.warn("Initial {} data refresh failed: {}", taskName, e.getMessage());
+                    rescheduleForImmediateExecution(coordinator.getRecurringTask(), taskName);
+                    return Mono.just(false);
+                });
+    }
+
+    private void report(List<Boolean> loaded, Duration dashboardReady) {
+        long failed = loaded.stream().filter(ok -> !ok).count();
+        String outcome = failed == 0 ? "complete" : "partial";
+        if (loaded.isEmpty()) {
             LOG.info("All data repositories have recent data - no immediate refresh needed");
+        } else {
+            LOG.info("Warm-up loaded {} of {} empty data repositories; dashboard {} after {} ms",
+                    loaded.size() - failed, loaded.size(), outcome,
+                    dashboardReady.toMillis());
         }
+
+        meterRegistry.ifAvailable(registry -> Timer.builder(DASHBOARD_READY_METRIC)
+                .description("Time from application start until every feed held data")
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(dashboardReady));
     }
 
     /**
@@ -92,7 +188,7 @@ public class DataRefreshStartupHandler {
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException") // Scheduler can throw various runtime exceptions
     private void rescheduleForImmediateExecution(RecurringTask<Void> task, String taskName) {
-        LOG.info("Scheduling immediate {} data refresh - database appears empty", taskName);
+        LOG.info("Scheduling immediate {} data refresh for retry", taskName);
         try {
             scheduler.reschedule(
                     task.instance(RecurringTask.INSTANCE),
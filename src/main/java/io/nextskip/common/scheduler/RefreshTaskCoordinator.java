@@ -1,6 +1,7 @@
 package io.nextskip.common.scheduler;
 
 import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
+import reactor.core.publisher.Mono;
 
 /**
  * Coordinates a recurring refresh task with its startup behavior.
@@ -9,6 +10,7 @@ import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
  * <ul>
  *   <li>The RecurringTask bean for db-scheduler</li>
  *   <li>Logic to determine if initial data load is needed</li>
+ *   <li>The initial load itself, run by the startup warm-up</li>
  *   <li>Task name for logging and identification</li>
  * </ul>
  *
@@ -36,6 +38,19 @@ public interface RefreshTaskCoordinator {
      */
     boolean needsInitialLoad();
 
+    /**
+     * Runs one refresh immediately, outside db-scheduler's threads.
+     *
+     * <p>Called by {@link DataRefreshStartupHandler} for each coordinator that
+     * {@link #needsInitialLoad() needs an initial load}, concurrently with the others,
+     * while it holds the {@link #getRecurringTask() task's} execution through
+     * {@link ScheduledTaskLock}.
+     * Nothing runs until the returned {@link Mono} is subscribed.
+     *
+     * @return a {@link Mono} completing when the refresh has finished
+     */
+    Mono<Void> executeInitialLoad();
+
     /**
      * Returns a human-readable name for logging.
      *
@@ -0,0 +1,88 @@
+package io.nextskip.common.scheduler;
+
+import com.github.kagkarlsson.scheduler.task.TaskInstanceId;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Claims a db-scheduler execution so its task can run outside the scheduler's threads.
+ *
+ * <p>db-scheduler marks the execution it is running as {@code picked} and only picks
+ * executions that are not. A claim sets the same flag and bumps {@code version}, which
+ * db-scheduler's optimistic pick checks, so no scheduler thread on any instance starts the
+ * task while the claim is held, and the claim fails while one is running it. Releasing
+ * clears the flag again.
+ *
+ * <p>A claim that is never released (the instance died mid-run) stops heartbeating, so
+ * db-scheduler's dead-execution detection revives the task as it would its own.
+ */
+@Component
+@ConditionalOnProperty(value = "db-scheduler.enabled", havingValue = "true")
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class ScheduledTaskLock {
+
+    static final String CLAIM_SQL = """
+            UPDATE scheduled_tasks
+               SET picked = true, picked_by = :pickedBy, last_heartbeat = :now, version = version + 1
+             WHERE task_name = :taskName AND task_instance = :taskInstance AND picked = false
+            """;
+
+    static final String RELEASE_SQL = """
+            UPDATE scheduled_tasks
+               SET picked = false, picked_by = NULL, last_heartbeat = NULL, version = version + 1
+             WHERE task_name = :taskName AND task_instance = :taskInstance AND picked_by = :pickedBy
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final String owner = "nextskip-warm-up-" + UUID.randomUUID();
+
+    public ScheduledTaskLock(NamedParameterJdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs {@code work} while holding the claim on {@code execution}.
+     *
+     * <p>The claim is released however {@code work} ends, including cancellation.
+     *
+     * @param execution the db-scheduler execution to claim
+     * @param work      the work to run; not subscribed when the claim fails
+     * @return a {@link Mono} emitting true once {@code work} completed, or false if
+     *         db-scheduler was already running the task
+     */
+    public Mono<Boolean> runClaimed(TaskInstanceId execution, Mono<Void> work) {
+        return Mono.usingWhen(
+                Mono.fromCallable(() -> claim(execution)).subscribeOn(Schedulers.boundedElastic()),
+                claimed -> claimed ? work.thenReturn(true) : Mono.just(false),
+                claimed -> claimed
+                        ? Mono.fromRunnable(() -> release(execution)).subscribeOn(Schedulers.boundedElastic())
+                        : Mono.empty());
+    }
+
+    boolean claim(TaskInstanceId execution) {
+        return jdbcTemplate.update(CLAIM_SQL, parameters(execution)
+                .addValue("now", Timestamp.from(clock.instant()))) == 1;
+    }
+
+    void release(TaskInstanceId execution) {
+        jdbcTemplate.update(RELEASE_SQL, parameters(execution));
+    }
+
+    private MapSqlParameterSource parameters(TaskInstanceId execution) {
+        return new MapSqlParameterSource()
+                .addValue("taskName", execution.getTaskName())
+                .addValue("taskInstance", execution.getId())
+                .addValue("pickedBy", owner);
+    }
+}
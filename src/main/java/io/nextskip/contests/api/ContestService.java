@@ -2,6 +2,7 @@ package io.nextskip.contests.api;
 
 import io.nextskip.contests.model.Contest;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -33,4 +34,15 @@ public interface ContestService {
      * @return ContestsResponse with upcoming contests and metadata
      */
     ContestsResponse getContestsResponse();
+
+    /**
+     * Get contest data for dashboard display, evaluated at a fixed instant.
+     *
+     * <p>Each contest's status, score and countdown are computed once against
+     * {@code asOf} and pinned, so the whole response agrees on the time.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return ContestsResponse with evaluated contests and metadata
+     */
+    ContestsResponse getContestsResponse(Instant asOf);
 }
@@ -2,7 +2,7 @@ package io.nextskip.contests.internal;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.nextskip.common.config.CacheConfig;
-import io.nextskip.common.model.EventStatus;
+import io.nextskip.common.model.EventCalendar;
 import io.nextskip.contests.api.ContestService;
 import io.nextskip.contests.api.ContestsResponse;
 import io.nextskip.contests.model.Contest;
@@ -22,14 +22,19 @@ import java.util.List;
  * <p>Reads contest data from the LoadingCache backed by the database.
  * Cache is populated by ContestRefreshTask which fetches from the
  * WA7BNM iCal feed, saves to DB, then triggers async cache refresh.
+ *
+ * <p>Status counts are answered from an {@link EventCalendar} over the cached list,
+ * rebuilt only when a cache refresh replaces that list.
  */
 @Service
 public class ContestServiceImpl implements ContestService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContestServiceImpl.class);
+    private static final Duration STARTING_SOON = Duration.ofHours(24);
 
     private final LoadingCache<String, List<Contest>> contestsCache;
     private final Clock clock;
+    private volatile EventCalendar<Contest> calendar = EventCalendar.of(List.of());
 
     @Autowired
     public ContestServiceImpl(LoadingCache<String, List<Contest>> contestsCache, Clock clock) {
@@ -52,19 +57,24 @@ public class ContestServiceImpl implements ContestService {
 
     @Override
     public ContestsResponse getContestsResponse() {
+        return getContestsResponse(Instant.now(clock));
+    }
+
+    @Override
+    public ContestsResponse getContestsResponse(Instant asOf) {
         LOG.debug("Building contests response for dashboard");
 
-        List<Contest> contests = getUpcomingContests();
+        List<Contest> upcoming = getUpcomingContests();
+        EventCalendar<Contest> current = calendar.refreshedFrom(upcoming);
+        calendar = current;
 
-        // Calculate counts by status (business logic in service layer)
-        int activeCount = (int) contests.stream()
-                .filter(c -> c.getStatus() == EventStatus.ACTIVE)
-                .count();
+        List<Contest> contests = upcoming.stream()
+                .map(c -> c.evaluatedAt(asOf))
+                .toList();
 
-        int upcomingCount = (int) contests.stream()
-                .filter(c -> c.getStatus() == EventStatus.UPCOMING)
-                .filter(c -> c.getTimeRemaining().compareTo(Duration.ofHours(24)) <= 0)
-                .count();
+        // Calculate counts by status (business logic in service layer)
+        int activeCount = current.activeAt(asOf).size();
+        int upcomingCount = current.startingWithin(asOf, STARTING_SOON).size();
 
         int totalCount = contests.size();
 
@@ -73,7 +83,7 @@ public class ContestServiceImpl implements ContestService {
                 activeCount,
                 upcomingCount,
                 totalCount,
-                Instant.now(clock)
+                asOf
         );
 
         LOG.debug("Returning contests response: {} active, {} upcoming soon, {} total",
@@ -1,6 +1,7 @@
 package io.nextskip.contests.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.AbstractRefreshService;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -15,6 +16,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Set;
@@ -30,7 +33,7 @@ import java.util.Set;
  * and consistent logging patterns.
  */
 @Service
-public class ContestRefreshService extends AbstractRefreshService {
+public class ContestRefreshService extends AbstractRefreshService<List<ContestICalDto>> {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContestRefreshService.class);
     private static final String SERVICE_NAME = "Contest";
@@ -44,10 +47,11 @@ public class ContestRefreshService extends AbstractRefreshService {
 
     public ContestRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             ContestCalendarClient contestClient,
             ContestRepository repository,
             LoadingCache<String, List<Contest>> contestsCache) {
-        super(eventPublisher);
+        super(eventPublisher, transactionOperations);
         this.contestClient = contestClient;
         this.repository = repository;
         this.contestsCache = contestsCache;
@@ -59,10 +63,18 @@ public class ContestRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected FetchResult<List<ContestICalDto>> fetchUpdates() {
         // Fetch fresh data from API (returns ContestICalDto list)
-        List<ContestICalDto> dtos = contestClient.fetch();
+        return contestClient.fetchIfModified();
+    }
+
+    @Override
+    protected Mono<FetchResult<List<ContestICalDto>>> fetchUpdatesAsync() {
+        return contestClient.fetchIfModifiedAsync();
+    }
 
+    @Override
+    protected void doRefresh(List<ContestICalDto> dtos) {
         // Convert DTOs to domain model, then to entities
         List<ContestEntity> entities = dtos.stream()
                 .map(this::convertToContest)
@@ -80,9 +92,14 @@ public class ContestRefreshService extends AbstractRefreshService {
         }
     }
 
+    @Override
+    protected void onRefreshFailed() {
+        contestClient.resetConditionalFetch();
+    }
+
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        return new CacheRefreshEvent("contests",
+        return new CacheRefreshEvent(CacheConfig.CONTESTS,
                 () -> contestsCache.refresh(CacheConfig.CACHE_KEY));
     }
 
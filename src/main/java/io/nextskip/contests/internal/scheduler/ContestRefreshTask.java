@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -34,15 +35,18 @@ public class ContestRefreshTask implements RefreshTaskCoordinator {
     private static final Duration REFRESH_INTERVAL = Duration.ofHours(12);
 
     private final ContestRepository repository;
+    private final ContestRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
      * Creates a new contest refresh task coordinator.
      *
      * @param repository the contest repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
-    public ContestRefreshTask(ContestRepository repository) {
+    public ContestRefreshTask(ContestRepository repository, ContestRefreshService refreshService) {
         this.repository = repository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -80,6 +84,11 @@ public class ContestRefreshTask implements RefreshTaskCoordinator {
         return repository.findByEndTimeAfterOrderByStartTimeAsc(now).isEmpty();
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
@@ -1,6 +1,8 @@
 package io.nextskip.contests.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.nextskip.common.model.Event;
+import io.nextskip.common.model.EventScore;
 import io.nextskip.common.model.EventStatus;
 import io.nextskip.common.model.FrequencyBand;
 
@@ -18,6 +20,11 @@ import java.util.Set;
  * <p>This record encapsulates both the core event timing and contest-specific metadata
  * such as bands, modes, sponsor organization, and reference URLs.
  *
+ * <p>Status, score and countdown depend on the time. The {@code asOf} methods compute
+ * them against an explicit instant; the no-argument getters, which are what gets
+ * serialized, return the values pinned by {@link #evaluatedAt(Instant)}, or compute
+ * them against the current time if the contest has not been evaluated.
+ *
  * @param name Contest name (e.g., "ARRL 10-Meter Contest", "CQ WW DX Contest")
  * @param startTime When the contest begins (UTC)
  * @param endTime When the contest ends (UTC)
@@ -26,6 +33,7 @@ import java.util.Set;
  * @param sponsor Sponsoring organization (ARRL, CQ, etc.)
  * @param calendarSourceUrl URL to contest details on calendar source (contestcalendar.com)
  * @param officialRulesUrl URL to official contest rules from sponsor
+ * @param evaluation Time-dependent values pinned to a snapshot instant, or null
  */
 public record Contest(
         String name,
@@ -35,7 +43,8 @@ public record Contest(
         Set<String> modes,
         String sponsor,
         String calendarSourceUrl,
-        String officialRulesUrl
+        String officialRulesUrl,
+        @JsonIgnore EventScore evaluation
 ) implements Event {
 
     // Scoring thresholds for upcoming contests (hours until start)
@@ -51,6 +60,26 @@ public record Contest(
         modes = modes != null ? Set.copyOf(modes) : Set.of();
     }
 
+    /**
+     * Creates a contest that has not been evaluated.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Mirrors the record components
+    public Contest(String name, Instant startTime, Instant endTime, Set<FrequencyBand> bands, Set<String> modes,
+                   String sponsor, String calendarSourceUrl, String officialRulesUrl) {
+        this(name, startTime, endTime, bands, modes, sponsor, calendarSourceUrl, officialRulesUrl, null);
+    }
+
+    /**
+     * Returns a copy with its status, score and countdown pinned to the given instant.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return the evaluated contest
+     */
+    public Contest evaluatedAt(Instant asOf) {
+        return new Contest(name, startTime, endTime, bands, modes, sponsor, calendarSourceUrl, officialRulesUrl,
+                EventScore.of(this, asOf));
+    }
+
     /**
      * Returns the event name.
      *
@@ -82,16 +111,26 @@ public record Contest(
     }
 
     /**
-     * Determines the current status of this contest relative to the current time.
+     * Determines the status of this contest, as evaluated or relative to the current time.
      *
      * @return UPCOMING if contest hasn't started, ACTIVE if ongoing, ENDED if finished
      */
     @Override
     public EventStatus getStatus() {
-        Instant now = Instant.now();
-        if (now.isBefore(startTime)) {
+        return evaluation != null ? evaluation.status() : getStatus(Instant.now());
+    }
+
+    /**
+     * Determines the status of this contest at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return UPCOMING if contest hasn't started, ACTIVE if ongoing, ENDED if finished
+     */
+    @Override
+    public EventStatus getStatus(Instant asOf) {
+        if (asOf.isBefore(startTime)) {
             return EventStatus.UPCOMING;
-        } else if (now.isAfter(endTime)) {
+        } else if (asOf.isAfter(endTime)) {
             return EventStatus.ENDED;
         } else {
             return EventStatus.ACTIVE;
@@ -105,13 +144,21 @@ public record Contest(
      */
     @Override
     public Duration getTimeRemaining() {
-        Instant now = Instant.now();
-        EventStatus status = getStatus();
+        return evaluation != null ? evaluation.timeRemaining() : getTimeRemaining(Instant.now());
+    }
 
-        return switch (status) {
-            case UPCOMING -> Duration.between(now, startTime);
-            case ACTIVE -> Duration.between(now, endTime);
-            case ENDED -> Duration.between(endTime, now).negated();
+    /**
+     * Calculates time remaining at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return duration until end (if active) or start (if upcoming), negative if ended
+     */
+    @Override
+    public Duration getTimeRemaining(Instant asOf) {
+        return switch (getStatus(asOf)) {
+            case UPCOMING -> Duration.between(asOf, startTime);
+            case ACTIVE -> Duration.between(asOf, endTime);
+            case ENDED -> Duration.between(endTime, asOf).negated();
         };
     }
 
@@ -132,7 +179,18 @@ public record Contest(
      */
     @Override
     public boolean isEndingSoon() {
-        return getStatus() == EventStatus.ACTIVE && getTimeRemaining().toHours() < 1;
+        return evaluation != null ? evaluation.endingSoon() : isEndingSoon(Instant.now());
+    }
+
+    /**
+     * Determines if this contest is active and ends within 1 hour of the given reference time.
+     *
+     * @param asOf the reference time
+     * @return true if contest is active and will end within 1 hour
+     */
+    @Override
+    public boolean isEndingSoon(Instant asOf) {
+        return getStatus(asOf) == EventStatus.ACTIVE && getTimeRemaining(asOf).toHours() < 1;
     }
 
     /**
@@ -142,12 +200,23 @@ public record Contest(
      */
     @Override
     public boolean isFavorable() {
-        EventStatus status = getStatus();
+        return evaluation != null ? evaluation.favorable() : isFavorable(Instant.now());
+    }
+
+    /**
+     * A contest is favorable if it is active or starts within 6 hours of the given reference time.
+     *
+     * @param asOf the reference time
+     * @return true if the contest is active or starting soon
+     */
+    @Override
+    public boolean isFavorable(Instant asOf) {
+        EventStatus status = getStatus(asOf);
         if (status == EventStatus.ACTIVE) {
             return true;
         }
         if (status == EventStatus.UPCOMING) {
-            Duration timeToStart = getTimeRemaining();
+            Duration timeToStart = getTimeRemaining(asOf);
             return timeToStart.toHours() <= 6;
         }
         return false;
@@ -156,6 +225,17 @@ public record Contest(
     /**
      * Calculate score based on contest status and timing.
      *
+     * @return score from 0-100 based on status and timing
+     * @see #getScore(Instant)
+     */
+    @Override
+    public int getScore() {
+        return evaluation != null ? evaluation.score() : getScore(Instant.now());
+    }
+
+    /**
+     * Calculate score based on contest status and timing at the given reference time.
+     *
      * <p>Scoring algorithm:
      * <ul>
      *   <li>ACTIVE: 100 points (contest happening now)</li>
@@ -166,16 +246,17 @@ public record Contest(
      *   <li>ENDED: 0 points</li>
      * </ul>
      *
+     * @param asOf the reference time
      * @return score from 0-100 based on status and timing
      */
     @Override
-    public int getScore() {
-        EventStatus status = getStatus();
+    public int getScore(Instant asOf) {
+        EventStatus status = getStatus(asOf);
 
         return switch (status) {
             case ACTIVE -> 100;
             case UPCOMING -> {
-                Duration timeToStart = getTimeRemaining();
+                Duration timeToStart = getTimeRemaining(asOf);
                 long hours = timeToStart.toHours();
 
                 if (hours <= IMMINENT_HOURS) {
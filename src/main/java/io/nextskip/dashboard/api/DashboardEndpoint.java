@@ -0,0 +1,42 @@
+package io.nextskip.dashboard.api;
+
+import com.vaadin.flow.server.auth.AnonymousAllowed;
+import com.vaadin.hilla.BrowserCallable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hilla endpoint for the composite dashboard snapshot.
+ *
+ * <p>Provides browser-callable methods for the React dashboard.
+ * Hilla automatically generates TypeScript clients for these methods.
+ *
+ * <p>All methods are marked @AnonymousAllowed since this is a public dashboard.
+ */
+@BrowserCallable
+@AnonymousAllowed
+public class DashboardEndpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardEndpoint.class);
+
+    private final DashboardService dashboardService;
+
+    public DashboardEndpoint(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * Get the data for every dashboard card in one call.
+     *
+     * <p>This is the endpoint polled by the React dashboard. Pass the version of
+     * the last snapshot received; while it is still current the reply carries no
+     * card data.
+     *
+     * @param sinceVersion version the client already holds, or null on first load
+     * @return the current snapshot, or an unchanged reply
+     */
+    public DashboardSnapshot getSnapshot(Long sinceVersion) {
+        LOG.debug("Fetching dashboard snapshot since version {}", sinceVersion);
+        return dashboardService.getSnapshot(sinceVersion);
+    }
+}
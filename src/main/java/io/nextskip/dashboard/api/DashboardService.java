@@ -0,0 +1,22 @@
+package io.nextskip.dashboard.api;
+
+/**
+ * Public API for the composite dashboard snapshot.
+ *
+ * <p>Combines the card data of every module into one versioned payload so the
+ * dashboard can refresh with a single call.
+ */
+public interface DashboardService {
+
+    /**
+     * Get the current dashboard snapshot.
+     *
+     * <p>The snapshot is assembled once per change in the underlying caches and
+     * shared by every caller until the next change.
+     *
+     * @param sinceVersion version the caller already holds, or null for a full snapshot
+     * @return the current snapshot, or an {@link DashboardSnapshot#unchanged(long) unchanged}
+     *         reply when {@code sinceVersion} is still current
+     */
+    DashboardSnapshot getSnapshot(Long sinceVersion);
+}
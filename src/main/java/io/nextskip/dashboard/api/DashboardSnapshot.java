@@ -0,0 +1,60 @@
+package io.nextskip.dashboard.api;
+
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.contests.api.ContestsResponse;
+import io.nextskip.dashboard.model.ScoredOpportunity;
+import io.nextskip.meteors.api.MeteorShowersResponse;
+import io.nextskip.propagation.api.PropagationResponse;
+import io.nextskip.spots.api.BandActivityResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO holding the data for every dashboard card at one version.
+ *
+ * <p>When the client already holds the current version the snapshot is returned
+ * {@code unchanged}: only the version is set and every card field is null.
+ *
+ * <p>Every time-dependent value, from contest countdowns to the opportunity ranking,
+ * is computed against {@code generatedAt}.
+ *
+ * @param version       Monotonically increasing version of the card data
+ * @param unchanged     True if the client's version is current and no data was sent
+ * @param generatedAt   When the card data was assembled, or null if unchanged
+ * @param propagation   Solar indices and band conditions, or null if unchanged
+ * @param activations   POTA and SOTA activations, or null if unchanged
+ * @param contests      Active and upcoming contests, or null if unchanged
+ * @param meteorShowers Active and upcoming meteor showers, or null if unchanged
+ * @param spots         Band activity, or null if unchanged or the spots module is disabled
+ * @param opportunities Best activities across all cards, best first, or null if unchanged
+ */
+public record DashboardSnapshot(
+        long version,
+        boolean unchanged,
+        Instant generatedAt,
+        PropagationResponse propagation,
+        ActivationsResponse activations,
+        ContestsResponse contests,
+        MeteorShowersResponse meteorShowers,
+        BandActivityResponse spots,
+        List<ScoredOpportunity> opportunities
+) {
+
+    /**
+     * Compact constructor for defensive copying of mutable collections.
+     */
+    public DashboardSnapshot {
+        opportunities = opportunities != null ? List.copyOf(opportunities) : null;
+    }
+
+    /**
+     * Creates the reply for a client that already holds {@code version}.
+     *
+     * @param version the client's current version
+     * @return a snapshot carrying only the version
+     */
+    public static DashboardSnapshot unchanged(long version) {
+        return new DashboardSnapshot(version, true, null, null, null, null, null, null, null);
+    }
+}
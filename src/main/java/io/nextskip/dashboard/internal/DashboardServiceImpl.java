@@ -0,0 +1,192 @@
+package io.nextskip.dashboard.internal;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.activations.api.ActivationsService;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.contests.api.ContestService;
+import io.nextskip.contests.api.ContestsResponse;
+import io.nextskip.dashboard.api.DashboardService;
+import io.nextskip.dashboard.api.DashboardSnapshot;
+import io.nextskip.meteors.api.MeteorService;
+import io.nextskip.meteors.api.MeteorShowersResponse;
+import io.nextskip.propagation.api.PropagationResponse;
+import io.nextskip.propagation.api.PropagationService;
+import io.nextskip.spots.api.BandActivityResponse;
+import io.nextskip.spots.api.SpotsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of DashboardService.
+ *
+ * <p>Holds one assembled {@link DashboardSnapshot} shared by every poll. Each call
+ * compares the entries currently held by the data caches with those seen when the
+ * snapshot was built; only when one of them was replaced (a refresh task reloaded it,
+ * or {@code refreshAfterWrite} kicked in) is the snapshot rebuilt and its version
+ * bumped. A poll therefore costs a handful of cache lookups rather than rebuilding
+ * every card response.
+ *
+ * <p>A snapshot is evaluated against a single instant read from the injected clock:
+ * activations, contests and meteor showers are pinned to it, and the {@link ScoringEngine} ranks
+ * every activity against it. Since those values follow the clock, a snapshot is also
+ * rebuilt once it is older than {@code nextskip.dashboard.snapshot-max-age}.
+ *
+ * <p>Versions start from the wall clock in milliseconds, so a client holding a version
+ * from before a restart never mistakes the new snapshot for the one it has.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    private final PropagationService propagationService;
+    private final ActivationsService activationsService;
+    private final ContestService contestService;
+    private final MeteorService meteorService;
+    private final ObjectProvider<SpotsService> spotsService;
+    private final ScoringEngine scoringEngine;
+    private final List<LoadingCache<String, ?>> caches;
+    private final Clock clock;
+    private final Duration maxAge;
+
+    private volatile Assembled current;
+
+    /**
+     * Creates the dashboard service.
+     *
+     * @param propagationService propagation card data
+     * @param activationsService activations card data
+     * @param contestService     contests card data
+     * @param meteorService      meteor showers card data
+     * @param spotsService       band activity card data, absent when the spots module is disabled
+     * @param scoringEngine      ranks the activities in each snapshot
+     * @param caches             every data cache backing the cards
+     * @param clock              clock for snapshot age and versions
+     * @param maxAge             maximum age of a snapshot before it is rebuilt anyway
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Spring constructor injection, one service per card
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+    public DashboardServiceImpl(
+            PropagationService propagationService,
+            ActivationsService activationsService,
+            ContestService contestService,
+            MeteorService meteorService,
+            ObjectProvider<SpotsService> spotsService,
+            ScoringEngine scoringEngine,
+            List<LoadingCache<String, ?>> caches,
+            Clock clock,
+            @Value("${nextskip.dashboard.snapshot-max-age:1m}") Duration maxAge) {
+        this.propagationService = propagationService;
+        this.activationsService = activationsService;
+        this.contestService = contestService;
+        this.meteorService = meteorService;
+        this.spotsService = spotsService;
+        this.scoringEngine = scoringEngine;
+        this.caches = List.copyOf(caches);
+        this.clock = clock;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public DashboardSnapshot getSnapshot(Long sinceVersion) {
+        Assembled assembled = current;
+        if (assembled == null || isStale(assembled)) {
+            assembled = rebuildIfStale();
+        }
+
+        DashboardSnapshot snapshot = assembled.snapshot();
+        if (sinceVersion != null && sinceVersion == snapshot.version()) {
+            return DashboardSnapshot.unchanged(snapshot.version());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds the snapshot unless a concurrent caller already did.
+     */
+    private synchronized Assembled rebuildIfStale() {
+        Assembled assembled = current;
+        if (assembled != null && !isStale(assembled)) {
+            return assembled;
+        }
+
+        // Capture the cache entries before reading them, so a refresh landing
+        // mid-build is picked up by the next poll instead of being missed
+        Object[] entries = cacheEntries();
+        Instant now = Instant.now(clock);
+        long version = assembled == null
+                ? now.toEpochMilli()
+                : Math.max(assembled.snapshot().version() + 1, now.toEpochMilli());
+
+        PropagationResponse propagation = propagationService.getPropagationResponse();
+        ActivationsResponse activations = activationsService.getActivationsResponse(now);
+        ContestsResponse contests = contestService.getContestsResponse(now);
+        MeteorShowersResponse meteorShowers = meteorService.getMeteorShowersResponse(now);
+        BandActivityResponse spots = bandActivity();
+
+        DashboardSnapshot snapshot = new DashboardSnapshot(
+                version,
+                false,
+                now,
+                propagation,
+                activations,
+                contests,
+                meteorShowers,
+                spots,
+                scoringEngine.rank(now, propagation, activations, contests, meteorShowers, spots)
+        );
+        LOG.debug("Assembled dashboard snapshot version {}", version);
+
+        assembled = new Assembled(snapshot, entries);
+        current = assembled;
+        return assembled;
+    }
+
+    private BandActivityResponse bandActivity() {
+        SpotsService spots = spotsService.getIfAvailable();
+        return spots != null ? spots.getBandActivityResponse() : null;
+    }
+
+    private boolean isStale(Assembled assembled) {
+        if (Instant.now(clock).isAfter(assembled.snapshot().generatedAt().plus(maxAge))) {
+            return true;
+        }
+        Object[] entries = cacheEntries();
+        for (int i = 0; i < entries.length; i++) {
+            // Refreshes replace the cached value, so identity is enough to spot a change
+            if (entries[i] != assembled.cacheEntries()[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the current entry of every cache without triggering a load or refresh.
+     */
+    private Object[] cacheEntries() {
+        Object[] entries = new Object[caches.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = caches.get(i).policy().getIfPresentQuietly(CacheConfig.CACHE_KEY);
+        }
+        return entries;
+    }
+
+    /**
+     * A snapshot with the cache entries it was built from.
+     */
+    @SuppressFBWarnings(value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+            justification = "Private holder; the array is never modified")
+    private record Assembled(DashboardSnapshot snapshot, Object[] cacheEntries) {
+    }
+}
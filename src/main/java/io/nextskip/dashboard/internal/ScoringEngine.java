@@ -0,0 +1,117 @@
+package io.nextskip.dashboard.internal;
+
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.common.api.Scoreable;
+import io.nextskip.contests.api.ContestsResponse;
+import io.nextskip.contests.model.Contest;
+import io.nextskip.dashboard.model.OpportunityType;
+import io.nextskip.dashboard.model.ScoredOpportunity;
+import io.nextskip.meteors.api.MeteorShowersResponse;
+import io.nextskip.meteors.model.MeteorShower;
+import io.nextskip.propagation.api.PropagationResponse;
+import io.nextskip.propagation.model.BandCondition;
+import io.nextskip.spots.api.BandActivityResponse;
+import io.nextskip.spots.model.BandActivity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Scores every {@link Scoreable} in a dashboard snapshot once and ranks them.
+ *
+ * <p>All activities are evaluated against the same snapshot instant, so an activation
+ * and a contest are compared as of one moment. The result is the global "next best
+ * opportunity" ranking: favorable activities first, then by descending score, trimmed
+ * to {@code nextskip.dashboard.ranking-limit} entries.
+ */
+@Component
+public class ScoringEngine {
+
+    static final Comparator<ScoredOpportunity> RANKING = Comparator
+            .comparing(ScoredOpportunity::favorable).reversed()
+            .thenComparing(Comparator.comparingInt(ScoredOpportunity::score).reversed())
+            .thenComparing(ScoredOpportunity::type)
+            .thenComparing(ScoredOpportunity::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final int rankingLimit;
+
+    public ScoringEngine(@Value("${nextskip.dashboard.ranking-limit:20}") int rankingLimit) {
+        this.rankingLimit = Math.max(1, rankingLimit);
+    }
+
+    /**
+     * Scores every activity in the card responses and returns the best ones.
+     *
+     * <p>Any response may be null when its module has no data or is disabled.
+     *
+     * @param asOf          the snapshot time every score is computed against
+     * @param propagation   solar indices and band conditions
+     * @param activations   POTA and SOTA activations
+     * @param contests      contests, already evaluated at {@code asOf}
+     * @param meteorShowers meteor showers, already evaluated at {@code asOf}
+     * @param bandActivity  band activity from spots
+     * @return the top opportunities, best first
+     */
+    public List<ScoredOpportunity> rank(
+            Instant asOf,
+            PropagationResponse propagation,
+            ActivationsResponse activations,
+            ContestsResponse contests,
+            MeteorShowersResponse meteorShowers,
+            BandActivityResponse bandActivity) {
+
+        List<ScoredOpportunity> scored = new ArrayList<>();
+        if (propagation != null) {
+            if (propagation.solarIndices() != null) {
+                scored.add(score(OpportunityType.SOLAR_CONDITIONS, "Solar conditions",
+                        propagation.solarIndices(), asOf));
+            }
+            for (BandCondition condition : propagation.bandConditions()) {
+                scored.add(score(OpportunityType.BAND_CONDITION, condition.band().getName(), condition, asOf));
+            }
+        }
+        if (activations != null) {
+            for (Activation activation : activations.potaActivations()) {
+                scored.add(score(OpportunityType.ACTIVATION, activationName(activation), activation, asOf));
+            }
+            for (Activation activation : activations.sotaActivations()) {
+                scored.add(score(OpportunityType.ACTIVATION, activationName(activation), activation, asOf));
+            }
+        }
+        if (contests != null) {
+            for (Contest contest : contests.contests()) {
+                scored.add(score(OpportunityType.CONTEST, contest.name(), contest, asOf));
+            }
+        }
+        if (meteorShowers != null) {
+            for (MeteorShower shower : meteorShowers.showers()) {
+                scored.add(score(OpportunityType.METEOR_SHOWER, shower.name(), shower, asOf));
+            }
+        }
+        if (bandActivity != null) {
+            for (BandActivity activity : bandActivity.bandActivities().values()) {
+                scored.add(score(OpportunityType.BAND_ACTIVITY, activity.band() + " " + activity.mode(),
+                        activity, asOf));
+            }
+        }
+
+        scored.sort(RANKING);
+        return List.copyOf(scored.subList(0, Math.min(rankingLimit, scored.size())));
+    }
+
+    private static ScoredOpportunity score(OpportunityType type, String name, Scoreable scoreable, Instant asOf) {
+        return new ScoredOpportunity(type, name, scoreable.getScore(asOf), scoreable.isFavorable(asOf));
+    }
+
+    private static String activationName(Activation activation) {
+        if (activation.location() == null || activation.location().reference() == null) {
+            return activation.activatorCallsign();
+        }
+        return activation.activatorCallsign() + " @ " + activation.location().reference();
+    }
+}
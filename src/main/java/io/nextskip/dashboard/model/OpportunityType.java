@@ -0,0 +1,25 @@
+package io.nextskip.dashboard.model;
+
+/**
+ * Kind of activity a {@link ScoredOpportunity} refers to.
+ */
+public enum OpportunityType {
+
+    /** Overall HF conditions from the solar indices. */
+    SOLAR_CONDITIONS,
+
+    /** Forecast conditions on one band. */
+    BAND_CONDITION,
+
+    /** Observed spot activity on one band and mode. */
+    BAND_ACTIVITY,
+
+    /** A POTA or SOTA activator on the air. */
+    ACTIVATION,
+
+    /** An active or upcoming contest. */
+    CONTEST,
+
+    /** An active or upcoming meteor shower. */
+    METEOR_SHOWER
+}
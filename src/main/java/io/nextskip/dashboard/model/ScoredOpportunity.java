@@ -0,0 +1,19 @@
+package io.nextskip.dashboard.model;
+
+/**
+ * One activity's precomputed score within a dashboard snapshot.
+ *
+ * <p>Scores are computed once, against the snapshot time, and never change afterwards.
+ *
+ * @param type      Kind of activity
+ * @param name      Display name (e.g., "20m FT8", "W1AW @ US-0001", "Perseids 2026")
+ * @param score     Score from 0-100 at the snapshot time
+ * @param favorable Whether conditions were favorable at the snapshot time
+ */
+public record ScoredOpportunity(
+        OpportunityType type,
+        String name,
+        int score,
+        boolean favorable
+) {
+}
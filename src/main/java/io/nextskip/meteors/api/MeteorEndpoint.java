@@ -2,15 +2,9 @@ package io.nextskip.meteors.api;
 
 import com.vaadin.flow.server.auth.AnonymousAllowed;
 import com.vaadin.hilla.BrowserCallable;
-import io.nextskip.common.model.EventStatus;
-import io.nextskip.meteors.model.MeteorShower;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Instant;
-import java.util.Comparator;
-import java.util.List;
-
 /**
  * Hilla endpoint for meteor shower data.
  *
@@ -36,32 +30,6 @@ public class MeteorEndpoint {
      */
     public MeteorShowersResponse getMeteorShowers() {
         LOG.debug("Fetching meteor shower data for dashboard");
-
-        List<MeteorShower> showers = meteorService.getMeteorShowers();
-
-        int activeCount = (int) showers.stream()
-                .filter(s -> s.getStatus() == EventStatus.ACTIVE)
-                .count();
-
-        int upcomingCount = (int) showers.stream()
-                .filter(s -> s.getStatus() == EventStatus.UPCOMING)
-                .count();
-
-        MeteorShower primary = showers.stream()
-                .max(Comparator.comparingInt(MeteorShower::getScore))
-                .orElse(null);
-
-        MeteorShowersResponse response = new MeteorShowersResponse(
-                showers,
-                activeCount,
-                upcomingCount,
-                primary,
-                Instant.now()
-        );
-
-        LOG.debug("Returning meteor data: {} active, {} upcoming",
-                activeCount, upcomingCount);
-
-        return response;
+        return meteorService.getMeteorShowersResponse();
     }
 }
@@ -2,6 +2,7 @@ package io.nextskip.meteors.api;
 
 import io.nextskip.meteors.model.MeteorShower;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -32,4 +33,25 @@ public interface MeteorService {
      * @return list of upcoming meteor showers
      */
     List<MeteorShower> getUpcomingShowers();
+
+    /**
+     * Get the complete meteor shower response for the dashboard.
+     *
+     * <p>Counts active and upcoming showers and picks the highest-scoring one
+     * as the primary shower.
+     *
+     * @return MeteorShowersResponse with active and upcoming showers
+     */
+    MeteorShowersResponse getMeteorShowersResponse();
+
+    /**
+     * Get the meteor shower response for the dashboard, evaluated at a fixed instant.
+     *
+     * <p>Each shower's status, score, ZHR and countdowns are computed against
+     * {@code asOf}, so the counts, the primary shower and every serialized field agree.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return MeteorShowersResponse with evaluated active and upcoming showers
+     */
+    MeteorShowersResponse getMeteorShowersResponse(Instant asOf);
 }
@@ -2,13 +2,17 @@ package io.nextskip.meteors.internal;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.nextskip.common.config.CacheConfig;
-import io.nextskip.common.model.EventStatus;
+import io.nextskip.common.model.EventCalendar;
 import io.nextskip.meteors.api.MeteorService;
+import io.nextskip.meteors.api.MeteorShowersResponse;
 import io.nextskip.meteors.model.MeteorShower;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -17,6 +21,9 @@ import java.util.List;
  * <p>Reads meteor shower data from the LoadingCache backed by the database.
  * Cache is populated by MeteorRefreshTask which loads from the JSON data file,
  * saves to DB, then triggers async cache refresh.
+ *
+ * <p>Status queries are answered from an {@link EventCalendar} over the cached list,
+ * rebuilt only when a cache refresh replaces that list.
  */
 @Service
 public class MeteorServiceImpl implements MeteorService {
@@ -24,40 +31,76 @@ public class MeteorServiceImpl implements MeteorService {
     private static final Logger LOG = LoggerFactory.getLogger(MeteorServiceImpl.class);
 
     private final LoadingCache<String, List<MeteorShower>> meteorShowersCache;
+    private final Clock clock;
+    private volatile EventCalendar<MeteorShower> calendar = EventCalendar.of(List.of());
 
-    public MeteorServiceImpl(LoadingCache<String, List<MeteorShower>> meteorShowersCache) {
+    public MeteorServiceImpl(LoadingCache<String, List<MeteorShower>> meteorShowersCache, Clock clock) {
         this.meteorShowersCache = meteorShowersCache;
+        this.clock = clock;
     }
 
     @Override
     public List<MeteorShower> getMeteorShowers() {
-        LOG.debug("Fetching meteor showers from cache");
-
-        List<MeteorShower> showers = meteorShowersCache.get(CacheConfig.CACHE_KEY);
-        if (showers == null) {
-            showers = List.of();
-        }
-
-        // Filter out ended showers (cache contains all current showers from DB)
-        List<MeteorShower> relevant = showers.stream()
-                .filter(s -> s.getStatus() != EventStatus.ENDED)
-                .toList();
-
-        LOG.info("Retrieved {} relevant meteor showers from cache", relevant.size());
-        return relevant;
+        return relevantShowers(calendar(), Instant.now(clock));
     }
 
     @Override
     public List<MeteorShower> getActiveShowers() {
-        return getMeteorShowers().stream()
-                .filter(s -> s.getStatus() == EventStatus.ACTIVE)
-                .toList();
+        return calendar().activeAt(Instant.now(clock));
     }
 
     @Override
     public List<MeteorShower> getUpcomingShowers() {
-        return getMeteorShowers().stream()
-                .filter(s -> s.getStatus() == EventStatus.UPCOMING)
+        return calendar().upcomingAt(Instant.now(clock));
+    }
+
+    @Override
+    public MeteorShowersResponse getMeteorShowersResponse() {
+        return getMeteorShowersResponse(Instant.now(clock));
+    }
+
+    @Override
+    public MeteorShowersResponse getMeteorShowersResponse(Instant asOf) {
+        LOG.debug("Building meteor shower response for dashboard");
+
+        EventCalendar<MeteorShower> current = calendar();
+        List<MeteorShower> showers = relevantShowers(current, asOf).stream()
+                .map(s -> s.evaluatedAt(asOf))
                 .toList();
+
+        int activeCount = current.activeAt(asOf).size();
+        int upcomingCount = current.upcomingAt(asOf).size();
+
+        MeteorShower primary = showers.stream()
+                .max(Comparator.comparingInt(MeteorShower::getScore))
+                .orElse(null);
+
+        LOG.debug("Returning meteor data: {} active, {} upcoming",
+                activeCount, upcomingCount);
+
+        return new MeteorShowersResponse(
+                showers,
+                activeCount,
+                upcomingCount,
+                primary,
+                asOf
+        );
+    }
+
+    private EventCalendar<MeteorShower> calendar() {
+        LOG.debug("Fetching meteor showers from cache");
+
+        EventCalendar<MeteorShower> current = calendar.refreshedFrom(
+                meteorShowersCache.get(CacheConfig.CACHE_KEY));
+        calendar = current;
+        return current;
+    }
+
+    private List<MeteorShower> relevantShowers(EventCalendar<MeteorShower> current, Instant asOf) {
+        // Filter out ended showers (cache contains all current showers from DB)
+        List<MeteorShower> relevant = current.notEndedAt(asOf);
+
+        LOG.info("Retrieved {} relevant meteor showers from cache", relevant.size());
+        return relevant;
     }
 }
@@ -3,6 +3,7 @@ package io.nextskip.meteors.internal;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nextskip.common.model.EventCalendar;
 import io.nextskip.meteors.model.MeteorShower;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
@@ -30,6 +31,9 @@ import java.util.List;
  *   <li>The current year (if not yet ended)</li>
  *   <li>The next year (for year-end planning)</li>
  * </ul>
+ *
+ * <p>Both years' instances are computed once per calendar year and kept in an
+ * {@link EventCalendar}; each refresh only queries it for the relevant window.
  */
 @Component
 public class MeteorShowerDataLoader {
@@ -39,6 +43,7 @@ public class MeteorShowerDataLoader {
 
     private final ObjectMapper objectMapper;
     private List<MeteorShowerTemplate> templates;
+    private volatile ShowerYears showerYears;
 
     public MeteorShowerDataLoader(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
@@ -81,26 +86,13 @@ public class MeteorShowerDataLoader {
      * @return list of MeteorShower instances with computed dates
      */
     public List<MeteorShower> getShowers(int lookaheadDays) {
-        List<MeteorShower> result = new ArrayList<>();
         Instant now = Instant.now();
         Instant cutoffFuture = now.plus(Duration.ofDays(lookaheadDays));
         Instant cutoffPast = now.minus(Duration.ofDays(7)); // Include recently ended
 
-        int currentYear = Year.now().getValue();
-
-        for (MeteorShowerTemplate template : templates) {
-            // Generate for current year
-            MeteorShower currentYearShower = createShowerForYear(template, currentYear);
-            if (isRelevant(currentYearShower, cutoffPast, cutoffFuture)) {
-                result.add(currentYearShower);
-            }
-
-            // Generate for next year (for lookahead and year-end showers)
-            MeteorShower nextYearShower = createShowerForYear(template, currentYear + 1);
-            if (isRelevant(nextYearShower, cutoffPast, cutoffFuture)) {
-                result.add(nextYearShower);
-            }
-        }
+        // Include if visibility window overlaps with our range
+        List<MeteorShower> result = new ArrayList<>(
+                showersFor(Year.now().getValue()).overlapping(cutoffPast, cutoffFuture));
 
         // Sort by peak start time
         result.sort((a, b) -> a.peakStart().compareTo(b.peakStart()));
@@ -108,10 +100,19 @@ public class MeteorShowerDataLoader {
         return List.copyOf(result);
     }
 
-    private boolean isRelevant(MeteorShower shower, Instant cutoffPast, Instant cutoffFuture) {
-        // Include if visibility window overlaps with our range
-        return !shower.visibilityEnd().isBefore(cutoffPast)
-                && !shower.visibilityStart().isAfter(cutoffFuture);
+    private EventCalendar<MeteorShower> showersFor(int currentYear) {
+        ShowerYears current = showerYears;
+        if (current == null || current.year() != currentYear) {
+            List<MeteorShower> showers = new ArrayList<>(templates.size() * 2);
+            for (MeteorShowerTemplate template : templates) {
+                // Current year, plus next year for lookahead and year-end showers
+                showers.add(createShowerForYear(template, currentYear));
+                showers.add(createShowerForYear(template, currentYear + 1));
+            }
+            current = new ShowerYears(currentYear, EventCalendar.of(List.copyOf(showers)));
+            showerYears = current;
+        }
+        return current.calendar();
     }
 
     private MeteorShower createShowerForYear(MeteorShowerTemplate template, int year) {
@@ -158,4 +159,7 @@ public class MeteorShowerDataLoader {
     List<MeteorShowerTemplate> getTemplates() {
         return List.copyOf(templates);
     }
+
+    private record ShowerYears(int year, EventCalendar<MeteorShower> calendar) {
+    }
 }
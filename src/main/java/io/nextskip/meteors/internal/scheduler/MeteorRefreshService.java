@@ -14,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.List;
 
@@ -28,7 +29,7 @@ import java.util.List;
  * and consistent logging patterns.
  */
 @Service
-public class MeteorRefreshService extends AbstractRefreshService {
+public class MeteorRefreshService extends AbstractRefreshService<Void> {
 
     private static final Logger LOG = LoggerFactory.getLogger(MeteorRefreshService.class);
     private static final String SERVICE_NAME = "Meteor";
@@ -43,10 +44,11 @@ public class MeteorRefreshService extends AbstractRefreshService {
 
     public MeteorRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             MeteorShowerDataLoader dataLoader,
             MeteorShowerRepository repository,
             LoadingCache<String, List<MeteorShower>> meteorShowersCache) {
-        super(eventPublisher);
+        super(eventPublisher, transactionOperations);
         this.dataLoader = dataLoader;
         this.repository = repository;
         this.meteorShowersCache = meteorShowersCache;
@@ -58,7 +60,7 @@ public class MeteorRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected void doRefresh(Void fetched) {
         // Load shower data with computed dates for current period
         List<MeteorShower> showers = dataLoader.getShowers(LOOKAHEAD_DAYS);
 
@@ -80,7 +82,7 @@ public class MeteorRefreshService extends AbstractRefreshService {
 
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        return new CacheRefreshEvent("meteorShowers",
+        return new CacheRefreshEvent(CacheConfig.METEOR_SHOWERS,
                 () -> meteorShowersCache.refresh(CacheConfig.CACHE_KEY));
     }
 
@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -34,15 +35,18 @@ public class MeteorRefreshTask implements RefreshTaskCoordinator {
     private static final Duration REFRESH_INTERVAL = Duration.ofHours(1);
 
     private final MeteorShowerRepository repository;
+    private final MeteorRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
      * Creates a new meteor refresh task coordinator.
      *
      * @param repository the meteor shower repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
-    public MeteorRefreshTask(MeteorShowerRepository repository) {
+    public MeteorRefreshTask(MeteorShowerRepository repository, MeteorRefreshService refreshService) {
         this.repository = repository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -82,6 +86,11 @@ public class MeteorRefreshTask implements RefreshTaskCoordinator {
                 && repository.findByVisibilityStartAfterOrderByVisibilityStartAsc(now).isEmpty();
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
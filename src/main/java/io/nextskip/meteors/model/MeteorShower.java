@@ -1,6 +1,8 @@
 package io.nextskip.meteors.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.nextskip.common.model.Event;
+import io.nextskip.common.model.EventScore;
 import io.nextskip.common.model.EventStatus;
 
 import java.time.Duration;
@@ -16,6 +18,11 @@ import java.time.Instant;
  * <p>The visibility window represents the broader active period during which MS contacts
  * are possible, while the peak window represents optimal activity.
  *
+ * <p>Every derived value follows the clock. The no-argument getters, which are what
+ * gets serialized, read the values pinned by {@link #evaluatedAt(Instant)} (or compute
+ * against the pinned instant), so all fields of an evaluated shower agree; an
+ * unevaluated shower computes them against the current time.
+ *
  * @param name Display name with year (e.g., "Perseids 2025")
  * @param code Unique shower code (e.g., "PER")
  * @param peakStart Start of peak activity window (UTC)
@@ -25,6 +32,7 @@ import java.time.Instant;
  * @param peakZhr Zenithal Hourly Rate at peak
  * @param parentBody Parent comet or asteroid
  * @param infoUrl URL for more information
+ * @param evaluation Time-dependent values pinned to a snapshot instant, or null
  */
 public record MeteorShower(
         String name,
@@ -35,7 +43,8 @@ public record MeteorShower(
         Instant visibilityEnd,
         int peakZhr,
         String parentBody,
-        String infoUrl
+        String infoUrl,
+        @JsonIgnore EventScore evaluation
 ) implements Event {
 
     /**
@@ -48,6 +57,26 @@ public record MeteorShower(
     private static final long IMMINENT_HOURS = 24;
     private static final long UPCOMING_HOURS = 72;
 
+    /**
+     * Creates a meteor shower that has not been evaluated.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Mirrors the record components
+    public MeteorShower(String name, String code, Instant peakStart, Instant peakEnd, Instant visibilityStart,
+                        Instant visibilityEnd, int peakZhr, String parentBody, String infoUrl) {
+        this(name, code, peakStart, peakEnd, visibilityStart, visibilityEnd, peakZhr, parentBody, infoUrl, null);
+    }
+
+    /**
+     * Returns a copy with its derived values pinned to the given instant.
+     *
+     * @param asOf the reference time, typically the dashboard snapshot time
+     * @return the evaluated meteor shower
+     */
+    public MeteorShower evaluatedAt(Instant asOf) {
+        return new MeteorShower(name, code, peakStart, peakEnd, visibilityStart, visibilityEnd, peakZhr,
+                parentBody, infoUrl, EventScore.of(this, asOf));
+    }
+
     @Override
     public String getName() {
         return name;
@@ -71,16 +100,26 @@ public record MeteorShower(
     }
 
     /**
-     * Determines the current status of this meteor shower.
+     * Determines the status of this meteor shower, as evaluated or relative to the current time.
      *
      * @return UPCOMING if before visibility window, ACTIVE if within window, ENDED if past
      */
     @Override
     public EventStatus getStatus() {
-        Instant now = Instant.now();
-        if (now.isBefore(visibilityStart)) {
+        return evaluation != null ? evaluation.status() : getStatus(Instant.now());
+    }
+
+    /**
+     * Determines the status of this meteor shower at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return UPCOMING if before visibility window, ACTIVE if within window, ENDED if past
+     */
+    @Override
+    public EventStatus getStatus(Instant asOf) {
+        if (asOf.isBefore(visibilityStart)) {
             return EventStatus.UPCOMING;
-        } else if (now.isAfter(visibilityEnd)) {
+        } else if (asOf.isAfter(visibilityEnd)) {
             return EventStatus.ENDED;
         } else {
             return EventStatus.ACTIVE;
@@ -92,13 +131,18 @@ public record MeteorShower(
      */
     @Override
     public Duration getTimeRemaining() {
-        Instant now = Instant.now();
-        EventStatus status = getStatus();
+        return evaluation != null ? evaluation.timeRemaining() : getTimeRemaining(Instant.now());
+    }
 
-        return switch (status) {
-            case UPCOMING -> Duration.between(now, visibilityStart);
-            case ACTIVE -> Duration.between(now, visibilityEnd);
-            case ENDED -> Duration.between(visibilityEnd, now).negated();
+    /**
+     * Calculates time remaining at the given reference time.
+     */
+    @Override
+    public Duration getTimeRemaining(Instant asOf) {
+        return switch (getStatus(asOf)) {
+            case UPCOMING -> Duration.between(asOf, visibilityStart);
+            case ACTIVE -> Duration.between(asOf, visibilityEnd);
+            case ENDED -> Duration.between(visibilityEnd, asOf).negated();
         };
     }
 
@@ -115,40 +159,56 @@ public record MeteorShower(
      */
     @Override
     public boolean isEndingSoon() {
-        if (getStatus() != EventStatus.ACTIVE) {
+        return evaluation != null ? evaluation.endingSoon() : isEndingSoon(Instant.now());
+    }
+
+    /**
+     * Returns true if the shower is active and its peak ends within 6 hours of the given time.
+     */
+    @Override
+    public boolean isEndingSoon(Instant asOf) {
+        if (getStatus(asOf) != EventStatus.ACTIVE) {
             return false;
         }
         // Check if peak is ending soon (within 6 hours)
-        Instant now = Instant.now();
-        return now.isAfter(peakEnd.minus(Duration.ofHours(6))) && now.isBefore(peakEnd);
+        return asOf.isAfter(peakEnd.minus(Duration.ofHours(6))) && asOf.isBefore(peakEnd);
     }
 
     /**
-     * Determines if conditions are currently favorable for MS contacts.
+     * Determines if conditions are favorable for MS contacts.
+     *
+     * @see #isFavorable(Instant)
+     */
+    @Override
+    public boolean isFavorable() {
+        return evaluation != null ? evaluation.favorable() : isFavorable(Instant.now());
+    }
+
+    /**
+     * Determines if conditions are favorable for MS contacts at the given reference time.
      *
      * <p>Favorable when:
      * <ul>
-     *   <li>Currently at peak (between peakStart and peakEnd), OR</li>
+     *   <li>At peak (between peakStart and peakEnd), OR</li>
      *   <li>Peak starts within the next 12 hours</li>
      * </ul>
      */
     @Override
-    public boolean isFavorable() {
-        Instant now = Instant.now();
-        EventStatus status = getStatus();
+    public boolean isFavorable(Instant asOf) {
+        EventStatus status = getStatus(asOf);
 
         if (status == EventStatus.ACTIVE) {
             // During peak is most favorable
-            if (!now.isBefore(peakStart) && !now.isAfter(peakEnd)) {
+            if (isAtPeak(asOf)) {
                 return true;
             }
             // Near peak (within 12 hours) is also favorable
-            Duration timeToPeak = Duration.between(now, peakStart);
+            Duration timeToPeak = Duration.between(asOf, peakStart);
             return timeToPeak.toHours() >= 0 && timeToPeak.toHours() <= 12;
         }
 
         if (status == EventStatus.UPCOMING) {
-            Duration timeToVisibility = Duration.between(now, visibilityStart);
+            Duration timeToVisibility = Duration.between(asOf, visibilityStart);
             return timeToVisibility.toHours() <= 12;
         }
 
@@ -158,6 +218,16 @@ public record MeteorShower(
     /**
      * Calculate score based on proximity to peak and ZHR.
      *
+     * @see #getScore(Instant)
+     */
+    @Override
+    public int getScore() {
+        return evaluation != null ? evaluation.score() : getScore(Instant.now());
+    }
+
+    /**
+     * Calculate score based on proximity to peak and ZHR at the given reference time.
+     *
      * <p>Scoring algorithm:
      * <ul>
      *   <li>During peak: 85-100 (higher ZHR = higher score)</li>
@@ -169,27 +239,24 @@ public record MeteorShower(
      * </ul>
      */
     @Override
-    public int getScore() {
-        EventStatus status = getStatus();
-        Instant now = Instant.now();
-
-        return switch (status) {
+    public int getScore(Instant asOf) {
+        return switch (getStatus(asOf)) {
             case ACTIVE -> {
                 // During peak window - score 85-100 based on ZHR
-                if (!now.isBefore(peakStart) && !now.isAfter(peakEnd)) {
+                if (isAtPeak(asOf)) {
                     // Higher ZHR showers score higher
                     // Map ZHR 10-150 to score 85-100
                     int zhrBonus = (int) Math.min(15, peakZhr / 10.0);
                     yield 85 + zhrBonus;
                 }
                 // Active but not at peak - use Gaussian decay
-                int currentZhr = getCurrentZhr();
+                int currentZhr = getCurrentZhr(asOf);
                 // Map current ZHR to score 40-84
                 double zhrRatio = (double) currentZhr / peakZhr;
                 yield (int) (40 + (zhrRatio * 44));
             }
             case UPCOMING -> {
-                Duration timeToStart = Duration.between(now, visibilityStart);
+                Duration timeToStart = Duration.between(asOf, visibilityStart);
                 long hours = timeToStart.toHours();
 
                 if (hours <= IMMINENT_HOURS) {
@@ -210,14 +277,24 @@ public record MeteorShower(
     /**
      * Calculate the current ZHR based on Gaussian decay from peak.
      *
+     * @return calculated current ZHR (minimum 1 if within visibility window)
+     * @see #getCurrentZhr(Instant)
+     */
+    public int getCurrentZhr() {
+        return getCurrentZhr(referenceTime());
+    }
+
+    /**
+     * Calculate the ZHR at the given reference time based on Gaussian decay from peak.
+     *
      * <p>Uses a bell curve centered on the peak midpoint:
      * ZHR(t) = peakZhr * exp(-0.5 * ((t - peak) / sigma)^2)
      *
-     * @return calculated current ZHR (minimum 1 if within visibility window)
+     * @param asOf the reference time
+     * @return calculated ZHR (minimum 1 if within visibility window)
      */
-    public int getCurrentZhr() {
-        Instant now = Instant.now();
-        EventStatus status = getStatus();
+    public int getCurrentZhr(Instant asOf) {
+        EventStatus status = getStatus(asOf);
 
         if (status == EventStatus.ENDED) {
             return 0;
@@ -232,7 +309,7 @@ public record MeteorShower(
         Instant peakMidpoint = peakStart.plus(Duration.between(peakStart, peakEnd).dividedBy(2));
 
         // Hours from peak midpoint
-        double hoursFromPeak = Math.abs(Duration.between(now, peakMidpoint).toHours());
+        double hoursFromPeak = Math.abs(Duration.between(asOf, peakMidpoint).toHours());
 
         // Gaussian decay
         double decay = Math.exp(-0.5 * Math.pow(hoursFromPeak / SIGMA_HOURS, 2));
@@ -246,19 +323,28 @@ public record MeteorShower(
      * Returns true if currently at peak activity.
      */
     public boolean isAtPeak() {
-        Instant now = Instant.now();
-        return !now.isBefore(peakStart) && !now.isAfter(peakEnd);
+        return isAtPeak(referenceTime());
+    }
+
+    /**
+     * Returns true if at peak activity at the given reference time.
+     *
+     * @param asOf the reference time
+     * @return true if {@code asOf} falls within the peak window
+     */
+    public boolean isAtPeak(Instant asOf) {
+        return !asOf.isBefore(peakStart) && !asOf.isAfter(peakEnd);
     }
 
     /**
      * Returns the duration until peak starts (or negative if past peak).
      */
     public Duration getTimeToPeak() {
-        Instant now = Instant.now();
-        if (now.isBefore(peakStart)) {
-            return Duration.between(now, peakStart);
-        } else if (now.isAfter(peakEnd)) {
-            return Duration.between(peakEnd, now).negated();
+        Instant asOf = referenceTime();
+        if (asOf.isBefore(peakStart)) {
+            return Duration.between(asOf, peakStart);
+        } else if (asOf.isAfter(peakEnd)) {
+            return Duration.between(peakEnd, asOf).negated();
         } else {
             // Currently at peak
             return Duration.ZERO;
@@ -271,4 +357,11 @@ public record MeteorShower(
     public long getTimeToPeakSeconds() {
         return getTimeToPeak().getSeconds();
     }
+
+    /**
+     * The instant derived values are computed against: the pinned one, else now.
+     */
+    private Instant referenceTime() {
+        return evaluation != null ? evaluation.evaluatedAt() : Instant.now();
+    }
 }
@@ -1,8 +1,5 @@
 package io.nextskip.propagation.internal;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.dataformat.xml.XmlMapper;
-import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.retry.RetryRegistry;
 import io.nextskip.common.client.AbstractExternalDataClient;
@@ -16,7 +13,7 @@ import io.nextskip.propagation.model.SolarIndices;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import javax.xml.stream.XMLInputFactory;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -43,7 +40,8 @@ import java.util.Locale;
  *   <li>Freshness tracking for UI display</li>
  * </ul>
  *
- * <p>Security: Disables DTD processing to prevent XXE attacks.
+ * <p>The XML is parsed in a single streaming pass by {@link HamQslStaxParser}, which
+ * disables DTD processing to prevent XXE attacks.
  */
 @Component
 @SuppressWarnings("PMD.AvoidCatchingGenericException") // Intentional: wrap parsing exceptions
@@ -66,11 +64,6 @@ public class HamQslClient extends AbstractExternalDataClient<HamQslFetchResult>
     // Band condition time period (day vs night)
     private static final String DAY_TIME_PERIOD = "day";
 
-    // Pre-initialized XmlMapper for secure XML parsing
-    private static final XmlMapper SHARED_XML_MAPPER = createXmlMapper();
-
-    private final XmlMapper xmlMapper;
-
     @org.springframework.beans.factory.annotation.Autowired
     public HamQslClient(
             WebClient.Builder webClientBuilder,
@@ -85,7 +78,6 @@ public class HamQslClient extends AbstractExternalDataClient<HamQslFetchResult>
             RetryRegistry retryRegistry,
             String baseUrl) {
         super(webClientBuilder, circuitBreakerRegistry, retryRegistry, baseUrl);
-        this.xmlMapper = SHARED_XML_MAPPER;
     }
 
     // ========== AbstractExternalDataClient implementation ==========
@@ -109,19 +101,15 @@ public class HamQslClient extends AbstractExternalDataClient<HamQslFetchResult>
     protected HamQslFetchResult doFetch() {
         getLog().debug("Fetching solar and band data from HamQSL");
 
-        String xml = getWebClient().get()
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(getRequestTimeout())
-                .block();
+        InputStream body = fetchBodyStream();
 
-        if (xml == null || xml.isBlank()) {
+        if (body == null) {
             getLog().warn("No data received from HamQSL");
             throw new InvalidApiResponseException(SOURCE_NAME, "Empty response from HamQSL API");
         }
 
-        try {
-            HamQslData data = xmlMapper.readValue(xml, HamQslData.class);
+        try (body) {
+            HamQslData data = HamQslStaxParser.parse(body);
 
             if (data == null || data.getSolardata() == null) {
                 throw new InvalidApiResponseException(SOURCE_NAME, "Missing solardata element in XML response");
@@ -222,36 +210,4 @@ public class HamQslClient extends AbstractExternalDataClient<HamQslFetchResult>
             default -> BandConditionRating.UNKNOWN;
         };
     }
-
-    // ========== XML Security Configuration ==========
-
-    /**
-     * Creates an XmlMapper configured for robust and secure XML parsing.
-     *
-     * <p>Disables DTD processing to prevent XXE attacks and handle malformed DOCTYPE declarations.
-     * Configured to ignore unknown XML elements for forward compatibility.
-     */
-    private static XmlMapper createXmlMapper() {
-        // Create XMLInputFactory with security settings
-        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
-
-        // Disable DTD processing entirely to:
-        // 1. Prevent XXE (XML External Entity) attacks
-        // 2. Handle malformed DOCTYPE declarations gracefully
-        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-
-        // Create XmlMapper with the secure factory
-        XmlMapper mapper = XmlMapper.builder()
-                .defaultUseWrapper(false)
-                .build();
-
-        mapper.getFactory().setXMLInputFactory(xmlInputFactory);
-
-        // Configure deserialization features for robustness
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        mapper.configure(FromXmlParser.Feature.EMPTY_ELEMENT_AS_NULL, false);
-
-        return mapper;
-    }
 }
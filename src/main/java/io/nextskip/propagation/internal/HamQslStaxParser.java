@@ -0,0 +1,155 @@
+package io.nextskip.propagation.internal;
+
+import io.nextskip.propagation.internal.dto.HamQslDto.BandConditionEntry;
+import io.nextskip.propagation.internal.dto.HamQslDto.CalculatedConditions;
+import io.nextskip.propagation.internal.dto.HamQslDto.HamQslData;
+import io.nextskip.propagation.internal.dto.HamQslDto.SolarData;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass StAX parser for the HamQSL solar XML feed.
+ *
+ * <p>The feed carries far more than the client uses (VHF conditions, geomagnetic field,
+ * signal noise, X-ray flux, ...). Rather than buffering the document into a {@code String}
+ * and data-binding all of it, this parser reads events straight off the response stream,
+ * fills the four solar indices and the {@code calculatedconditions} bands, and skips every
+ * other subtree without materializing it.
+ *
+ * <p>Security: DTD processing and external entities are disabled to prevent XXE attacks
+ * and to tolerate the feed's DOCTYPE declaration.
+ */
+final class HamQslStaxParser {
+
+    private static final String SOLAR_DATA = "solardata";
+    private static final String CALCULATED_CONDITIONS = "calculatedconditions";
+    private static final String BAND = "band";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private HamQslStaxParser() {
+        // Utility class
+    }
+
+    /**
+     * Parses the feed into the HamQSL DTOs.
+     *
+     * @param body the response body
+     * @return the parsed data; {@code getSolardata()} is null if the element was absent
+     * @throws XMLStreamException if the XML is malformed
+     * @throws NumberFormatException if an index is not numeric
+     */
+    static HamQslData parse(InputStream body) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(body);
+        try {
+            HamQslData data = new HamQslData();
+            int depth = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    // solardata sits directly under the root element
+                    if (depth == 1 && SOLAR_DATA.equals(reader.getLocalName())) {
+                        data.setSolardata(readSolarData(reader));
+                    } else {
+                        depth++;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+            return data;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static SolarData readSolarData(XMLStreamReader reader) throws XMLStreamException {
+        SolarData solarData = new SolarData();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "solarflux" -> solarData.setSolarFlux(parseDouble(reader.getElementText()));
+                case "aindex" -> solarData.setAIndex(parseInteger(reader.getElementText()));
+                case "kindex" -> solarData.setKIndex(parseInteger(reader.getElementText()));
+                case "sunspots" -> solarData.setSunspots(parseInteger(reader.getElementText()));
+                case CALCULATED_CONDITIONS -> solarData.setCalculatedConditions(readConditions(reader));
+                default -> skipElement(reader);
+            }
+        }
+        return solarData;
+    }
+
+    private static CalculatedConditions readConditions(XMLStreamReader reader) throws XMLStreamException {
+        List<BandConditionEntry> bands = new ArrayList<>();
+        while (nextChild(reader)) {
+            if (BAND.equals(reader.getLocalName())) {
+                BandConditionEntry entry = new BandConditionEntry();
+                entry.setName(reader.getAttributeValue(null, "name"));
+                entry.setTime(reader.getAttributeValue(null, "time"));
+                entry.setValue(reader.getElementText());
+                bands.add(entry);
+            } else {
+                skipElement(reader);
+            }
+        }
+        CalculatedConditions conditions = new CalculatedConditions();
+        conditions.setBands(bands);
+        return conditions;
+    }
+
+    /**
+     * Advances to the next child element of the current element.
+     *
+     * @return true if positioned on a child's start tag, false at the parent's end tag
+     */
+    private static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        throw new XMLStreamException("Unexpected end of document");
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Double parseDouble(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? null : Double.valueOf(trimmed);
+    }
+
+    private static Integer parseInteger(String text) {
+        String trimmed = text.trim();
+        return trimmed.isEmpty() ? null : Integer.valueOf(trimmed);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+
+        // Disable DTD processing entirely to:
+        // 1. Prevent XXE (XML External Entity) attacks
+        // 2. Handle malformed DOCTYPE declarations gracefully
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
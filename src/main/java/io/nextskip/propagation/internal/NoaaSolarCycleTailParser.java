@@ -0,0 +1,174 @@
+package io.nextskip.propagation.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.nextskip.common.client.InvalidApiResponseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Token-stream parser that returns only the most recent NOAA solar cycle entry.
+ *
+ * <p>The observed solar cycle feed is a JSON array holding every monthly observation
+ * since 1749, oldest first, and the client only needs the last one. Binding the whole
+ * array allocates one record per month just to discard all but one. This parser walks
+ * the tokens, copies the raw text of the three fields it needs into reusable buffers and
+ * skips everything else; values are decoded once, for the final entry, so memory use
+ * stays constant however long the history grows.
+ *
+ * <p>Field coercion matches the previous Jackson data binding: numbers may be quoted,
+ * blank strings and {@code null} map to null, and fractional sunspot numbers are truncated.
+ */
+final class NoaaSolarCycleTailParser {
+
+    private static final String SOURCE_NAME = "NOAA";
+    private static final String TIME_TAG = "time-tag";
+    private static final String SOLAR_FLUX = "f10.7";
+    private static final String SUNSPOT_NUMBER = "ssn";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private NoaaSolarCycleTailParser() {
+        // Utility class
+    }
+
+    /**
+     * Parses the feed and returns its last entry.
+     *
+     * @param body the response body
+     * @return the last entry, or null if the array is empty
+     * @throws IOException if the JSON is malformed
+     * @throws InvalidApiResponseException if the document is not an array of objects
+     *                                     or the last entry has a non-scalar field
+     */
+    static NoaaSolarCycleEntry parseLast(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return null;
+            }
+            EntryFields last = new EntryFields();
+            if (token == JsonToken.START_OBJECT) {
+                // A single observation rather than an array
+                last.read(parser);
+                return last.toEntry();
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new InvalidApiResponseException(SOURCE_NAME, "Expected a JSON array, found " + token);
+            }
+
+            boolean found = false;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                // Overwrite in place; only the final entry survives the loop
+                last.read(parser);
+                found = true;
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new InvalidApiResponseException(SOURCE_NAME,
+                        "Expected an object in JSON array, found " + token);
+            }
+            return found ? last.toEntry() : null;
+        }
+    }
+
+    /**
+     * Reusable holder for the fields of the entry currently being read.
+     */
+    private static final class EntryFields {
+
+        private final RawValue timeTag = new RawValue(TIME_TAG);
+        private final RawValue solarFlux = new RawValue(SOLAR_FLUX);
+        private final RawValue sunspotNumber = new RawValue(SUNSPOT_NUMBER);
+
+        void read(JsonParser parser) throws IOException {
+            timeTag.clear();
+            solarFlux.clear();
+            sunspotNumber.clear();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case TIME_TAG -> timeTag.capture(parser);
+                    case SOLAR_FLUX -> solarFlux.capture(parser);
+                    case SUNSPOT_NUMBER -> sunspotNumber.capture(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        NoaaSolarCycleEntry toEntry() {
+            return new NoaaSolarCycleEntry(timeTag.asText(), solarFlux.asDouble(), sunspotNumber.asInteger());
+        }
+    }
+
+    /**
+     * Undecoded text of one scalar field, copied out of the parser's buffer.
+     */
+    private static final class RawValue {
+
+        private final String name;
+        private char[] chars = new char[16];
+        private int length;
+        private JsonToken token;
+
+        RawValue(String name) {
+            this.name = name;
+        }
+
+        void clear() {
+            token = null;
+        }
+
+        void capture(JsonParser parser) throws IOException {
+            token = parser.currentToken();
+            if (!token.isScalarValue()) {
+                parser.skipChildren();
+                return;
+            }
+            length = parser.getTextLength();
+            if (length > chars.length) {
+                chars = Arrays.copyOf(chars, Math.max(length, chars.length * 2));
+            }
+            System.arraycopy(parser.getTextCharacters(), parser.getTextOffset(), chars, 0, length);
+        }
+
+        String asText() {
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            requireScalar();
+            return new String(chars, 0, length);
+        }
+
+        Double asDouble() {
+            String text = numericText();
+            return text == null ? null : Double.valueOf(text);
+        }
+
+        Integer asInteger() {
+            String text = numericText();
+            return text == null ? null : (int) Double.parseDouble(text);
+        }
+
+        private String numericText() {
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (!token.isNumeric() && token != JsonToken.VALUE_STRING) {
+                throw new InvalidApiResponseException(SOURCE_NAME,
+                        "Expected a number for " + name + ", found " + token);
+            }
+            String text = new String(chars, 0, length).trim();
+            return text.isEmpty() ? null : text;
+        }
+
+        private void requireScalar() {
+            if (!token.isScalarValue()) {
+                throw new InvalidApiResponseException(SOURCE_NAME, "Expected a scalar " + name + ", found " + token);
+            }
+        }
+    }
+}
@@ -8,19 +8,21 @@ import io.nextskip.propagation.model.SolarIndices;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 
 /**
  * Client for NOAA Space Weather Prediction Center (SWPC) solar data.
  *
  * <p>Fetches current solar indices (SFI, sunspot number) from NOAA's
- * observed solar cycle indices JSON endpoint.
+ * observed solar cycle indices JSON endpoint. The feed holds the full monthly
+ * history; {@link NoaaSolarCycleTailParser} streams it and keeps only the last entry.
  *
  * <p>Extends {@link AbstractExternalDataClient} to inherit:
  * <ul>
@@ -84,21 +86,19 @@ public class NoaaSwpcClient extends AbstractExternalDataClient<SolarIndices> {
     protected SolarIndices doFetch() {
         getLog().debug("Fetching solar indices from NOAA SWPC");
 
-        List<NoaaSolarCycleEntry> data = getWebClient().get()
-                .retrieve()
-                .bodyToFlux(NoaaSolarCycleEntry.class)
-                .timeout(getRequestTimeout())
-                .collectList()
-                .block();
+        // Stream the tokens and keep only the most recent observation
+        NoaaSolarCycleEntry latest;
+        try (InputStream body = fetchBodyStream()) {
+            latest = body == null ? null : NoaaSolarCycleTailParser.parseLast(body);
+        } catch (IOException e) {
+            throw new InvalidApiResponseException(SOURCE_NAME, "Failed to parse NOAA data: " + e.getMessage(), e);
+        }
 
-        if (data == null || data.isEmpty()) {
+        if (latest == null) {
             getLog().warn("No data received from NOAA SWPC");
             throw new InvalidApiResponseException(SOURCE_NAME, "Empty response from NOAA API");
         }
 
-        // Get the most recent observation (last entry)
-        NoaaSolarCycleEntry latest = data.get(data.size() - 1);
-
         // Validate the data
         latest.validate();
 
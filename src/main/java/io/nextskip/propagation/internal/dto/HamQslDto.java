@@ -11,6 +11,9 @@ import java.util.List;
 /**
  * DTOs for parsing HamQSL XML response.
  *
+ * <p>Populated by {@code HamQslStaxParser}. The Jackson XML annotations document the
+ * element mapping and still support data binding.
+ *
  * <p>These classes map to the XML structure returned by hamqsl.com/solarxml.php:
  * <pre>{@code
  * <solar>
@@ -1,6 +1,7 @@
 package io.nextskip.propagation.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.AbstractRefreshService;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -18,9 +19,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Unified service for refreshing HamQSL solar and band condition data.
@@ -34,7 +38,7 @@ import java.util.List;
  * and consistent logging patterns.
  */
 @Service
-public class HamQslRefreshService extends AbstractRefreshService {
+public class HamQslRefreshService extends AbstractRefreshService<HamQslFetchResult> {
 
     private static final Logger LOG = LoggerFactory.getLogger(HamQslRefreshService.class);
     private static final String SERVICE_NAME = "HamQSL";
@@ -53,12 +57,13 @@ public class HamQslRefreshService extends AbstractRefreshService {
 
     public HamQslRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             HamQslClient hamQslClient,
             SolarIndicesRepository solarRepository,
             BandConditionRepository bandRepository,
             LoadingCache<String, SolarIndices> solarIndicesCache,
             LoadingCache<String, List<BandCondition>> bandConditionsCache) {
-        super(eventPublisher);
+        super(eventPublisher, transactionOperations);
         this.hamQslClient = hamQslClient;
         this.solarRepository = solarRepository;
         this.bandRepository = bandRepository;
@@ -72,10 +77,18 @@ public class HamQslRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected FetchResult<HamQslFetchResult> fetchUpdates() {
         // Fetch all data from API in a single HTTP request
-        HamQslFetchResult result = hamQslClient.fetch();
+        return hamQslClient.fetchIfModified();
+    }
+
+    @Override
+    protected Mono<FetchResult<HamQslFetchResult>> fetchUpdatesAsync() {
+        return hamQslClient.fetchIfModifiedAsync();
+    }
 
+    @Override
+    protected void doRefresh(HamQslFetchResult result) {
         if (result == null) {
             LOG.warn("HamQSL client returned null - skipping save");
             this.skipped = true;
@@ -112,13 +125,18 @@ public class HamQslRefreshService extends AbstractRefreshService {
         }
     }
 
+    @Override
+    protected void onRefreshFailed() {
+        hamQslClient.resetConditionalFetch();
+    }
+
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
         if (skipped) {
-            return new CacheRefreshEvent("solarIndices+bandConditions (skipped)", () -> { });
+            return new CacheRefreshEvent(Set.of(), () -> { });
         }
         // Refresh both caches
-        return new CacheRefreshEvent("solarIndices+bandConditions", () -> {
+        return new CacheRefreshEvent(Set.of(CacheConfig.SOLAR_INDICES, CacheConfig.BAND_CONDITIONS), () -> {
             solarIndicesCache.refresh(CacheConfig.CACHE_KEY);
             bandConditionsCache.refresh(CacheConfig.CACHE_KEY);
         });
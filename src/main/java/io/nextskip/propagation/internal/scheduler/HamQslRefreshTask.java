@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -39,6 +40,7 @@ public class HamQslRefreshTask implements RefreshTaskCoordinator {
 
     private final SolarIndicesRepository solarRepository;
     private final BandConditionRepository bandRepository;
+    private final HamQslRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
@@ -46,12 +48,15 @@ public class HamQslRefreshTask implements RefreshTaskCoordinator {
      *
      * @param solarRepository the solar indices repository
      * @param bandRepository the band condition repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
     public HamQslRefreshTask(
             SolarIndicesRepository solarRepository,
-            BandConditionRepository bandRepository) {
+            BandConditionRepository bandRepository,
+            HamQslRefreshService refreshService) {
         this.solarRepository = solarRepository;
         this.bandRepository = bandRepository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -97,6 +102,11 @@ public class HamQslRefreshTask implements RefreshTaskCoordinator {
         return !hasSolarData || !hasBandData;
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
@@ -1,6 +1,7 @@
 package io.nextskip.propagation.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.AbstractRefreshService;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -14,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 /**
  * Service for refreshing NOAA SWPC solar indices data.
@@ -26,7 +29,7 @@ import org.springframework.stereotype.Service;
  * and consistent logging patterns.
  */
 @Service
-public class NoaaRefreshService extends AbstractRefreshService {
+public class NoaaRefreshService extends AbstractRefreshService<SolarIndices> {
 
     private static final Logger LOG = LoggerFactory.getLogger(NoaaRefreshService.class);
     private static final String SERVICE_NAME = "NOAA";
@@ -41,10 +44,11 @@ public class NoaaRefreshService extends AbstractRefreshService {
 
     public NoaaRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             NoaaSwpcClient noaaClient,
             SolarIndicesRepository repository,
             LoadingCache<String, SolarIndices> solarIndicesCache) {
-        super(eventPublisher);
+        super(eventPublisher, transactionOperations);
         this.noaaClient = noaaClient;
         this.repository = repository;
         this.solarIndicesCache = solarIndicesCache;
@@ -56,10 +60,18 @@ public class NoaaRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected FetchResult<SolarIndices> fetchUpdates() {
         // Fetch fresh data from API (client handles circuit breaker/retry)
-        SolarIndices indices = noaaClient.fetch();
+        return noaaClient.fetchIfModified();
+    }
+
+    @Override
+    protected Mono<FetchResult<SolarIndices>> fetchUpdatesAsync() {
+        return noaaClient.fetchIfModifiedAsync();
+    }
 
+    @Override
+    protected void doRefresh(SolarIndices indices) {
         // Store metrics for success message
         this.solarFluxIndex = indices.solarFluxIndex();
         this.sunspotNumber = indices.sunspotNumber();
@@ -74,9 +86,14 @@ public class NoaaRefreshService extends AbstractRefreshService {
         }
     }
 
+    @Override
+    protected void onRefreshFailed() {
+        noaaClient.resetConditionalFetch();
+    }
+
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        return new CacheRefreshEvent("solarIndices",
+        return new CacheRefreshEvent(CacheConfig.SOLAR_INDICES,
                 () -> solarIndicesCache.refresh(CacheConfig.CACHE_KEY));
     }
 
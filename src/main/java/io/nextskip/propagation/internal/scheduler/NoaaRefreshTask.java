@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -36,15 +37,18 @@ public class NoaaRefreshTask implements RefreshTaskCoordinator {
     private static final Duration STALE_THRESHOLD = Duration.ofHours(1);
 
     private final SolarIndicesRepository repository;
+    private final NoaaRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
      * Creates a new NOAA refresh task coordinator.
      *
      * @param repository the solar indices repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
-    public NoaaRefreshTask(SolarIndicesRepository repository) {
+    public NoaaRefreshTask(SolarIndicesRepository repository, NoaaRefreshService refreshService) {
         this.repository = repository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -85,6 +89,11 @@ public class NoaaRefreshTask implements RefreshTaskCoordinator {
                 .noneMatch(e -> NOAA_SOURCE.equals(e.getSource()));
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
@@ -0,0 +1,54 @@
+package io.nextskip.spots.api;
+
+import io.nextskip.spots.model.ContinentPath;
+
+import java.time.Instant;
+
+/**
+ * Event published when the live spot rate on a band, mode and path changes significantly.
+ *
+ * <p>Emitted by {@link io.nextskip.spots.internal.detect.BandOpeningDetector} as
+ * soon as a CUSUM change-point test on the per-path spot rate crosses its
+ * threshold - typically within seconds of an opening, rather than after the
+ * next minute-level aggregation that drives {@link BandActivityChangedEvent}.
+ *
+ * <p>Events are published on the spot stream thread. Listeners that do more
+ * than record the event should hand off with {@code @Async}.
+ *
+ * @param band           the band name (e.g., "20m")
+ * @param mode           the mode (e.g., "FT8")
+ * @param path           the continent path whose rate changed
+ * @param direction      whether the path opened (rate rose) or closed (rate fell)
+ * @param ratePerMin     observed spot rate that triggered the event, per minute
+ * @param baselinePerMin smoothed spot rate before the change, per minute
+ * @param detectedAt     when the change was detected
+ */
+public record BandOpeningEvent(
+        String band,
+        String mode,
+        ContinentPath path,
+        Direction direction,
+        double ratePerMin,
+        double baselinePerMin,
+        Instant detectedAt
+) {
+
+    /**
+     * Direction of a detected change in spot rate.
+     */
+    public enum Direction {
+        /** Spot rate rose significantly above its baseline. */
+        OPENING,
+        /** Spot rate fell significantly below its baseline. */
+        CLOSING
+    }
+
+    /**
+     * Checks whether this event reports an opening.
+     *
+     * @return true if the rate rose
+     */
+    public boolean isOpening() {
+        return direction == Direction.OPENING;
+    }
+}
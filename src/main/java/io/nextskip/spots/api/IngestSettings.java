@@ -0,0 +1,73 @@
+package io.nextskip.spots.api;
+
+import java.util.List;
+
+/**
+ * Tunable settings of the spot ingest pipeline.
+ *
+ * <p>Each numeric setting is bounded above as well as below, so a mistyped value in the
+ * admin UI cannot allocate an unbounded buffer or open more persistence threads than the
+ * database pool can serve.
+ *
+ * @param batchSize              spots per persistence batch
+ * @param batchTimeoutMillis     maximum wait before a partial batch is persisted
+ * @param bufferSize             messages buffered ahead of parsing (oldest dropped on overflow)
+ * @param persistenceThreads     threads in the persistence pool
+ * @param persistenceParallelism batches persisted concurrently
+ * @param topics                 MQTT topic filters subscribed to
+ */
+public record IngestSettings(
+        int batchSize,
+        long batchTimeoutMillis,
+        int bufferSize,
+        int persistenceThreads,
+        int persistenceParallelism,
+        List<String> topics
+) {
+
+    /**
+     * Largest batch; bigger JDBC batches only hold a connection longer.
+     */
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    /**
+     * Longest wait for a partial batch.
+     */
+    public static final long MAX_BATCH_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * Largest message buffer, ten times the default; at a few hundred bytes per
+     * message this stays in the tens of megabytes.
+     */
+    public static final int MAX_BUFFER_SIZE = 100_000;
+
+    /**
+     * Most persistence threads or concurrent batches, matching the default database
+     * connection pool; beyond it threads only queue for connections.
+     */
+    public static final int MAX_PERSISTENCE_CONCURRENCY = 10;
+
+    public IngestSettings {
+        requireInRange("batchSize", batchSize, MAX_BATCH_SIZE);
+        requireInRange("batchTimeoutMillis", batchTimeoutMillis, MAX_BATCH_TIMEOUT_MILLIS);
+        requireInRange("bufferSize", bufferSize, MAX_BUFFER_SIZE);
+        requireInRange("persistenceThreads", persistenceThreads, MAX_PERSISTENCE_CONCURRENCY);
+        requireInRange("persistenceParallelism", persistenceParallelism, MAX_PERSISTENCE_CONCURRENCY);
+        if (topics == null || topics.isEmpty()) {
+            throw new IllegalArgumentException("At least one topic is required");
+        }
+        if (topics.stream().anyMatch(topic -> topic == null || topic.isBlank())) {
+            throw new IllegalArgumentException("Topics must not be blank");
+        }
+        topics = List.copyOf(topics);
+    }
+
+    private static void requireInRange(String name, long value, long max) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be at least 1, was " + value);
+        }
+        if (value > max) {
+            throw new IllegalArgumentException(name + " must be at most " + max + ", was " + value);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.nextskip.spots.api;
+
+import java.time.Instant;
+
+/**
+ * Audit record of one change to the ingest settings.
+ *
+ * @param changedAt when the change was applied
+ * @param actor     who made the change (admin email or principal name)
+ * @param previous  settings before the change
+ * @param current   settings after the change
+ */
+public record IngestSettingsChange(
+        Instant changedAt,
+        String actor,
+        IngestSettings previous,
+        IngestSettings current
+) {
+}
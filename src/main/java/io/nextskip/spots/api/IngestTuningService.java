@@ -0,0 +1,43 @@
+package io.nextskip.spots.api;
+
+import java.util.List;
+
+/**
+ * Public API for reading and changing the spot ingest settings at runtime.
+ *
+ * <p>Changes take effect without a redeploy and are audited, but are not persisted:
+ * a restart returns to the configured {@code nextskip.spots} properties.
+ *
+ * <p>Implementation is provided by
+ * {@link io.nextskip.spots.internal.IngestTuningServiceImpl}.
+ */
+public interface IngestTuningService {
+
+    /**
+     * Returns the settings the pipeline is running with.
+     *
+     * @return current ingest settings
+     */
+    IngestSettings getIngestSettings();
+
+    /**
+     * Applies new settings to the running pipeline.
+     *
+     * <p>Only the parts that differ are changed: topics are re-subscribed on the live
+     * connection, the persistence pool is resized, and the stream is rematerialized
+     * when a batching, buffer or parallelism setting changes.
+     *
+     * @param settings new settings
+     * @param actor    who is making the change, recorded in the audit log
+     * @return the settings now in effect
+     * @throws IllegalStateException if a change could not be applied
+     */
+    IngestSettings updateIngestSettings(IngestSettings settings, String actor);
+
+    /**
+     * Returns the most recent settings changes, newest first.
+     *
+     * @return recent changes since startup
+     */
+    List<IngestSettingsChange> getRecentChanges();
+}
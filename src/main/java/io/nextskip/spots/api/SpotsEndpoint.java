@@ -2,8 +2,17 @@ package io.nextskip.spots.api;
 
 import com.vaadin.flow.server.auth.AnonymousAllowed;
 import com.vaadin.hilla.BrowserCallable;
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.ActivityHistory;
 import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.SignalQuantiles;
+import io.nextskip.spots.model.TopStations;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -56,6 +65,93 @@ public class SpotsEndpoint {
         return spotsService.getBandActivity(band);
     }
 
+    /**
+     * Get where a station has been heard recently.
+     *
+     * <p>Answers "who has heard my signal in the last 15 minutes and how far"
+     * from the in-memory callsign index, returning total spots, maximum distance,
+     * continents heard on, and a per-band breakdown.
+     *
+     * @param callsign the transmitting station callsign (e.g., "W1AW")
+     * @return reach summary, empty when the callsign has not been heard
+     */
+    public CallsignReach getCallsignReach(String callsign) {
+        LOG.debug("Fetching reach for callsign: {}", callsign);
+        return spotsService.getCallsignReach(callsign);
+    }
+
+    /**
+     * Get the most-spotted stations per band and mode right now.
+     *
+     * <p>Feeds the "most spotted DX" dashboard card. Counts are estimates
+     * from a heavy-hitters sketch and may overcount by each station's
+     * {@code maxError}.
+     *
+     * @return top stations for each active band and mode
+     */
+    public List<TopStations> getTopStations() {
+        LOG.debug("Fetching top spotted stations");
+        return spotsService.getTopStations();
+    }
+
+    /**
+     * Get where a band and mode is open, by Maidenhead grid.
+     *
+     * <p>Returns transmitter and receiver layers run-length encoded over empty
+     * cells, so a sparse 180 × 180 map costs a few kilobytes.
+     *
+     * @param band       the band name (e.g., "20m")
+     * @param mode       the mode (e.g., "FT8")
+     * @param resolution FIELD (18 × 18) or SQUARE (180 × 180)
+     * @return the encoded heatmap
+     */
+    public ActivityHeatmap getActivityHeatmap(String band, String mode, HeatmapResolution resolution) {
+        LOG.debug("Fetching {} heatmap for {} {}", resolution, band, mode);
+        return spotsService.getActivityHeatmap(band, mode, resolution);
+    }
+
+    /**
+     * Get median and 90th percentile SNR and distance per continent path.
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (e.g., "FT8")
+     * @return percentiles keyed by path, empty if no recent spots
+     */
+    public Map<ContinentPath, SignalQuantiles> getPathQuantiles(String band, String mode) {
+        LOG.debug("Fetching path quantiles for {} {}", band, mode);
+        return spotsService.getPathQuantiles(band, mode);
+    }
+
+    /**
+     * Get band and mode activity over a past time range.
+     *
+     * <p>Served from history rollups kept for 90 days: minute resolution for the
+     * last day, hourly before that.
+     *
+     * @param band  the band name (e.g., "20m")
+     * @param mode  the mode (e.g., "FT8")
+     * @param from  start of the range, inclusive
+     * @param until end of the range, exclusive
+     * @return activity buckets and per-path totals for the range
+     */
+    public ActivityHistory getActivityHistory(String band, String mode, Instant from, Instant until) {
+        LOG.debug("Fetching {} {} history for [{}, {})", band, mode, from, until);
+        return spotsService.getActivityHistory(band, mode, from, until);
+    }
+
+    /**
+     * Get band and mode activity in the hour around a past instant.
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (e.g., "FT8")
+     * @param at   the instant to look around
+     * @return activity from 30 minutes before to 30 minutes after {@code at}
+     */
+    public ActivityHistory getActivityAt(String band, String mode, Instant at) {
+        LOG.debug("Fetching {} {} activity around {}", band, mode, at);
+        return spotsService.getActivityAt(band, mode, at);
+    }
+
     /**
      * Get system status information.
      *
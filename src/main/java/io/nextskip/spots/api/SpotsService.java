@@ -1,6 +1,13 @@
 package io.nextskip.spots.api;
 
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.ActivityHistory;
 import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.SignalQuantiles;
+import io.nextskip.spots.model.TopStations;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -16,6 +23,7 @@ import java.util.Optional;
  *   <li>MQTT connection status and processing statistics</li>
  *   <li>Aggregated band activity data</li>
  *   <li>Recent spot queries</li>
+ *   <li>In-memory views over the live spot stream</li>
  * </ul>
  *
  * <p>Implementation is provided by
@@ -119,4 +127,85 @@ public interface SpotsService {
      * @return list of recent spots, most recent first
      */
     List<io.nextskip.spots.model.Spot> getRecentSpots(String band, Duration window);
+
+    // ========================================================================
+    // Live stream views (in-memory, no hypertable access)
+    // ========================================================================
+
+    /**
+     * Returns where a station has been heard recently ("where am I heard").
+     *
+     * <p>Served from an in-memory callsign index maintained on the live spot
+     * stream, so the lookup never scans the {@code spots} hypertable.
+     *
+     * @param callsign the transmitting station callsign (case-insensitive)
+     * @return reach summary with spot count, max distance, continents and per-band detail
+     */
+    CallsignReach getCallsignReach(String callsign);
+
+    /**
+     * Returns the most-spotted stations per band and mode right now.
+     *
+     * <p>Served from a periodically published snapshot of per-band heavy-hitter
+     * sketches, windowed by each mode's {@link io.nextskip.spots.model.ModeWindow}.
+     * Counts are upper-bound estimates; see {@link io.nextskip.spots.model.TopStation}.
+     *
+     * @return top stations for each active band and mode, ordered by band then mode
+     */
+    List<TopStations> getTopStations();
+
+    /**
+     * Returns where a band and mode is active, by Maidenhead grid.
+     *
+     * <p>Served from fixed-size matrices maintained on the live spot stream and
+     * returned run-length encoded; see {@link ActivityHeatmap} for the format.
+     *
+     * @param band       the band name (e.g., "20m")
+     * @param mode       the mode (e.g., "FT8", case-insensitive)
+     * @param resolution field (18 × 18) or square (180 × 180) resolution
+     * @return the heatmap, empty when the band and mode have no recent spots
+     */
+    ActivityHeatmap getActivityHeatmap(String band, String mode, HeatmapResolution resolution);
+
+    /**
+     * Returns SNR and distance percentiles per continent path for a band and mode.
+     *
+     * <p>Served from streaming histograms over the mode's current window. The
+     * all-path figures are attached to {@link BandActivity#quantiles()}.
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (e.g., "FT8", case-insensitive)
+     * @return percentiles for each path with spots in the window, empty if none
+     */
+    Map<ContinentPath, SignalQuantiles> getPathQuantiles(String band, String mode);
+
+    // ========================================================================
+    // History (rollups, no raw spot access)
+    // ========================================================================
+
+    /**
+     * Returns band and mode activity over a past time range.
+     *
+     * <p>Served from per-minute rollups for the last day and hourly rollups for
+     * up to 90 days, so ranges older than the six-hour spot retention still
+     * resolve without touching the {@code spots} hypertable.
+     *
+     * @param band  the band name (e.g., "20m")
+     * @param mode  the mode (e.g., "FT8", case-insensitive)
+     * @param from  start of the range, inclusive
+     * @param until end of the range, exclusive
+     * @return activity buckets and per-path totals, empty if no history in range
+     * @throws IllegalArgumentException if {@code until} is not after {@code from}
+     */
+    ActivityHistory getActivityHistory(String band, String mode, Instant from, Instant until);
+
+    /**
+     * Returns band and mode activity around a past instant ("what was 20m doing then").
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (e.g., "FT8", case-insensitive)
+     * @param at   the instant to look around
+     * @return activity in the hour centred on {@code at}
+     */
+    ActivityHistory getActivityAt(String band, String mode, Instant at);
 }
@@ -0,0 +1,149 @@
+package io.nextskip.spots.internal;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.api.IngestSettings;
+import io.nextskip.spots.api.IngestSettingsChange;
+import io.nextskip.spots.api.IngestTuningService;
+import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.stream.SpotStreamProcessor;
+import io.nextskip.spots.internal.stream.StreamSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Implementation of {@link IngestTuningService}.
+ *
+ * <p>Every applied change is written to the {@code io.nextskip.audit} logger with the
+ * actor and the fields that changed, and kept in a short in-memory history for the
+ * admin UI. Rejected changes are logged there too. A change that fails part-way
+ * (say, the broker accepted the topics but the stream could not be rebuilt) is not
+ * rolled back; the settings actually in effect are audited and recorded instead.
+ */
+@Service
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class IngestTuningServiceImpl implements IngestTuningService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IngestTuningServiceImpl.class);
+    private static final Logger AUDIT = LoggerFactory.getLogger("io.nextskip.audit");
+
+    /**
+     * Number of changes kept for {@link #getRecentChanges()}.
+     */
+    static final int HISTORY_SIZE = 50;
+
+    private final SpotStreamProcessor streamProcessor;
+    private final SpotSource spotSource;
+    private final Clock clock;
+
+    private final Deque<IngestSettingsChange> history = new ArrayDeque<>();
+
+    public IngestTuningServiceImpl(SpotStreamProcessor streamProcessor, SpotSource spotSource, Clock clock) {
+        this.streamProcessor = streamProcessor;
+        this.spotSource = spotSource;
+        this.clock = clock;
+    }
+
+    @Override
+    public IngestSettings getIngestSettings() {
+        StreamSettings stream = streamProcessor.getStreamSettings();
+        return new IngestSettings(
+                stream.batchSize(),
+                stream.batchTimeout().toMillis(),
+                stream.bufferSize(),
+                streamProcessor.getPersistenceThreads(),
+                stream.persistenceParallelism(),
+                spotSource.getTopics()
+        );
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // Audit failed changes before rethrowing
+    public synchronized IngestSettings updateIngestSettings(IngestSettings settings, String actor) {
+        IngestSettings previous = getIngestSettings();
+        List<String> changes = describeChanges(previous, settings);
+        if (changes.isEmpty()) {
+            return previous;
+        }
+
+        try {
+            apply(previous, settings);
+        } catch (RuntimeException e) {
+            AUDIT.warn("Ingest settings change by {} failed ({}): {}", actor, String.join(", ", changes),
+                    e.getMessage());
+            IngestSettings applied = getIngestSettings();
+            List<String> appliedChanges = describeChanges(previous, applied);
+            if (!appliedChanges.isEmpty()) {
+                AUDIT.warn("Ingest settings partially changed by {}: {}", actor, String.join(", ", appliedChanges));
+                record(actor, previous, applied);
+            }
+            throw e;
+        }
+
+        IngestSettings current = getIngestSettings();
+        AUDIT.info("Ingest settings changed by {}: {}", actor, String.join(", ", changes));
+        record(actor, previous, current);
+        return current;
+    }
+
+    @Override
+    public synchronized List<IngestSettingsChange> getRecentChanges() {
+        return List.copyOf(history);
+    }
+
+    private void record(String actor, IngestSettings previous, IngestSettings current) {
+        history.addFirst(new IngestSettingsChange(clock.instant(), actor, previous, current));
+        if (history.size() > HISTORY_SIZE) {
+            history.removeLast();
+        }
+    }
+
+    /**
+     * Applies topics first, since the broker may reject them, then the thread pool, then
+     * the stream, so a stream with higher parallelism starts with its threads in place.
+     */
+    private void apply(IngestSettings previous, IngestSettings next) {
+        if (!previous.topics().equals(next.topics())) {
+            spotSource.updateTopics(next.topics());
+        }
+        if (previous.persistenceThreads() != next.persistenceThreads()) {
+            streamProcessor.setPersistenceThreads(next.persistenceThreads());
+        }
+        StreamSettings stream = new StreamSettings(
+                next.batchSize(),
+                Duration.ofMillis(next.batchTimeoutMillis()),
+                next.bufferSize(),
+                next.persistenceParallelism());
+        if (!stream.equals(streamProcessor.getStreamSettings())) {
+            streamProcessor.reconfigure(stream);
+            LOG.debug("Ingest stream rematerialized with {}", stream);
+        }
+    }
+
+    private static List<String> describeChanges(IngestSettings previous, IngestSettings next) {
+        List<String> changes = new ArrayList<>();
+        addChange(changes, "batchSize", previous.batchSize(), next.batchSize());
+        addChange(changes, "batchTimeoutMillis", previous.batchTimeoutMillis(), next.batchTimeoutMillis());
+        addChange(changes, "bufferSize", previous.bufferSize(), next.bufferSize());
+        addChange(changes, "persistenceThreads", previous.persistenceThreads(), next.persistenceThreads());
+        addChange(changes, "persistenceParallelism",
+                previous.persistenceParallelism(), next.persistenceParallelism());
+        addChange(changes, "topics", previous.topics(), next.topics());
+        return changes;
+    }
+
+    private static void addChange(List<String> changes, String field, Object before, Object after) {
+        if (!before.equals(after)) {
+            changes.add(field + " " + before + " -> " + after);
+        }
+    }
+}
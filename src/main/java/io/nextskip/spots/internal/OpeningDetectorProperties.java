@@ -0,0 +1,114 @@
+package io.nextskip.spots.internal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Tuning parameters for the streaming band opening detector.
+ *
+ * <p>The detector counts spots per band, mode and continent path in fixed bins,
+ * tracks an EWMA baseline of the bin counts, and runs a two-sided CUSUM on the
+ * standardized deviation from that baseline. Defaults are tuned so that
+ * stationary traffic raises fewer than one false alarm per path per day.
+ *
+ * <p>Configured via {@code nextskip.spots.opening-detector} in application.yml:
+ * <pre>
+ * nextskip:
+ *   spots:
+ *     opening-detector:
+ *       bin-duration: 30s
+ *       alpha: 0.1
+ *       drift: 0.5
+ *       threshold: 6.0
+ *       warmup-bins: 10
+ *       sweep-interval: PT5S
+ *       sweep-initial-delay: PT30S
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "nextskip.spots.opening-detector")
+public class OpeningDetectorProperties {
+
+    /** Width of each counting bin; closings are detected at bin boundaries. */
+    private Duration binDuration = Duration.ofSeconds(30);
+
+    /** EWMA weight of the newest bin in the baseline mean and variance. */
+    private double alpha = 0.1;
+
+    /** CUSUM allowance (k), in standard deviations, absorbed per bin before drift accumulates. */
+    private double drift = 0.5;
+
+    /** CUSUM decision threshold (h), in standard deviations. */
+    private double threshold = 6.0;
+
+    /** Bins observed before alarms are allowed, so the baseline can settle. */
+    private int warmupBins = 10;
+
+    /**
+     * Delay between sweeps that close elapsed bins on quiet paths.
+     *
+     * <p>Read by the detector's {@code @Scheduled} trigger; declared here for binding and metadata.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(5);
+
+    /** Delay before the first sweep after startup. */
+    private Duration sweepInitialDelay = Duration.ofSeconds(30);
+
+    public Duration getBinDuration() {
+        return binDuration;
+    }
+
+    public void setBinDuration(Duration binDuration) {
+        this.binDuration = binDuration;
+    }
+
+    public double getAlpha() {
+        return alpha;
+    }
+
+    public void setAlpha(double alpha) {
+        this.alpha = alpha;
+    }
+
+    public double getDrift() {
+        return drift;
+    }
+
+    public void setDrift(double drift) {
+        this.drift = drift;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getWarmupBins() {
+        return warmupBins;
+    }
+
+    public void setWarmupBins(int warmupBins) {
+        this.warmupBins = warmupBins;
+    }
+
+    public Duration getSweepInterval() {
+        return sweepInterval;
+    }
+
+    public void setSweepInterval(Duration sweepInterval) {
+        this.sweepInterval = sweepInterval;
+    }
+
+    public Duration getSweepInitialDelay() {
+        return sweepInitialDelay;
+    }
+
+    public void setSweepInitialDelay(Duration sweepInitialDelay) {
+        this.sweepInitialDelay = sweepInitialDelay;
+    }
+}
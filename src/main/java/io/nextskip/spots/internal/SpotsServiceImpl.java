@@ -6,9 +6,21 @@ import io.nextskip.common.config.CacheConfig;
 import io.nextskip.spots.api.BandActivityResponse;
 import io.nextskip.spots.api.SpotsService;
 import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.heatmap.ActivityHeatmapTracker;
+import io.nextskip.spots.internal.history.ActivityHistoryService;
+import io.nextskip.spots.internal.index.CallsignReachIndex;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
+import io.nextskip.spots.internal.sketch.TopStationsTracker;
 import io.nextskip.spots.internal.stream.SpotStreamProcessor;
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.ActivityHistory;
 import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.SignalQuantiles;
 import io.nextskip.spots.model.Spot;
+import io.nextskip.spots.model.TopStations;
 import io.nextskip.spots.persistence.repository.SpotRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +51,11 @@ public class SpotsServiceImpl implements SpotsService {
     private final SpotRepository spotRepository;
     private final SpotStreamProcessor streamProcessor;
     private final LoadingCache<String, Map<String, BandActivity>> bandActivityCache;
+    private final CallsignReachIndex callsignReachIndex;
+    private final TopStationsTracker topStationsTracker;
+    private final ActivityHeatmapTracker heatmapTracker;
+    private final SignalQuantileTracker quantileTracker;
+    private final ActivityHistoryService historyService;
     private final Clock clock;
 
     /**
@@ -48,18 +65,34 @@ public class SpotsServiceImpl implements SpotsService {
      * @param spotRepository the repository for spot data
      * @param streamProcessor the stream processor for spot statistics
      * @param bandActivityCache the cache for band activity aggregations (optional, may be null)
+     * @param callsignReachIndex the in-memory callsign index fed by the spot stream
+     * @param topStationsTracker the per-band heavy-hitters sketch fed by the spot stream
+     * @param heatmapTracker the per-band grid heatmaps fed by the spot stream
+     * @param quantileTracker the SNR and distance percentile sketches fed by the spot stream
+     * @param historyService the long-term activity history rollups
      * @param clock the clock for time-based operations
      */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Spring constructor injection with required dependencies
     public SpotsServiceImpl(
             SpotSource spotSource,
             SpotRepository spotRepository,
             SpotStreamProcessor streamProcessor,
             @org.springframework.lang.Nullable LoadingCache<String, Map<String, BandActivity>> bandActivityCache,
+            CallsignReachIndex callsignReachIndex,
+            TopStationsTracker topStationsTracker,
+            ActivityHeatmapTracker heatmapTracker,
+            SignalQuantileTracker quantileTracker,
+            ActivityHistoryService historyService,
             Clock clock) {
         this.spotSource = spotSource;
         this.spotRepository = spotRepository;
         this.streamProcessor = streamProcessor;
         this.bandActivityCache = bandActivityCache;
+        this.callsignReachIndex = callsignReachIndex;
+        this.topStationsTracker = topStationsTracker;
+        this.heatmapTracker = heatmapTracker;
+        this.quantileTracker = quantileTracker;
+        this.historyService = historyService;
         this.clock = clock;
     }
 
@@ -148,4 +181,39 @@ public class SpotsServiceImpl implements SpotsService {
                 .map(entity -> entity.toDomain())
                 .toList();
     }
+
+    // ========================================================================
+    // Live stream views
+    // ========================================================================
+
+    @Override
+    public CallsignReach getCallsignReach(String callsign) {
+        LOG.debug("Looking up reach for callsign {}", callsign);
+        return callsignReachIndex.lookup(callsign);
+    }
+
+    @Override
+    public List<TopStations> getTopStations() {
+        return topStationsTracker.getSnapshot();
+    }
+
+    @Override
+    public ActivityHeatmap getActivityHeatmap(String band, String mode, HeatmapResolution resolution) {
+        return heatmapTracker.getHeatmap(band, mode, resolution);
+    }
+
+    @Override
+    public Map<ContinentPath, SignalQuantiles> getPathQuantiles(String band, String mode) {
+        return quantileTracker.getPathQuantiles(band, mode);
+    }
+
+    @Override
+    public ActivityHistory getActivityHistory(String band, String mode, Instant from, Instant until) {
+        return historyService.getHistory(band, mode, from, until);
+    }
+
+    @Override
+    public ActivityHistory getActivityAt(String band, String mode, Instant at) {
+        return historyService.getActivityAround(band, mode, at);
+    }
 }
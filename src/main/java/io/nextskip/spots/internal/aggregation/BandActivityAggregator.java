@@ -1,7 +1,9 @@
 package io.nextskip.spots.internal.aggregation;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.nextskip.spots.internal.ScoringProperties;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
 import io.nextskip.spots.model.BandActivity;
 import io.nextskip.spots.model.ContinentPath;
 import io.nextskip.spots.model.ModeWindow;
@@ -9,12 +11,15 @@ import io.nextskip.spots.persistence.entity.SpotEntity;
 import io.nextskip.spots.persistence.repository.SpotRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -33,12 +38,21 @@ import java.util.Set;
  *   <li>Trend analysis comparing current to rolling baseline</li>
  *   <li>Maximum DX distance and path details</li>
  *   <li>Active continent-to-continent propagation paths</li>
+ *   <li>SNR and distance percentiles from the in-stream quantile sketches</li>
  * </ul>
  *
  * <p>The aggregation uses mode-specific windows (FT8/FT4/FT2=15m, CW=30m, SSB=60m)
  * to account for the different activity levels of each mode.
  *
  * <p>Each band can have multiple BandActivity records — one per active mode.
+ *
+ * <p>{@link #aggregateAllBands()} runs in one of two query modes, selected by
+ * {@code nextskip.spots.aggregation.single-scan}: the multi-query mode issues the
+ * bucket, max DX and per-window path queries separately, while the single-scan mode
+ * folds them into one pass over the hypertable. Setting
+ * {@code nextskip.spots.aggregation.parallelism} above one runs the single-scan
+ * query as concurrent time-range shards via {@link ShardedScanExecutor}. See
+ * {@link BulkAggregationQueries} for the per-query timers.
  */
 @Service
 @ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -65,12 +79,40 @@ public class BandActivityAggregator {
     private final SpotRepository repository;
     private final Clock clock;
     private final ScoringProperties scoringProperties;
+    private final SignalQuantileTracker quantileTracker;
+    private final BulkAggregationQueries bulkQueries;
 
+    /**
+     * Creates the aggregator.
+     *
+     * @param repository        spot repository
+     * @param clock             clock for window boundaries
+     * @param scoringProperties rarity multipliers per mode
+     * @param quantileTracker   live SNR and distance percentiles
+     * @param meterRegistry     registry for per-query timers
+     * @param singleScan        whether {@link #aggregateAllBands()} uses the single-scan query
+     * @param shardedScan       parallel shard executor, available when parallelism is above one
+     */
     public BandActivityAggregator(SpotRepository repository, Clock clock,
-                                  ScoringProperties scoringProperties) {
+                                  ScoringProperties scoringProperties,
+                                  SignalQuantileTracker quantileTracker,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${nextskip.spots.aggregation.single-scan:false}") boolean singleScan,
+                                  ObjectProvider<ShardedScanExecutor> shardedScan) {
         this.repository = repository;
         this.clock = clock;
         this.scoringProperties = scoringProperties;
+        this.quantileTracker = quantileTracker;
+        ShardedScanExecutor shards = shardedScan.getIfAvailable();
+        boolean useSingleScan = singleScan;
+        if ((singleScan || shards != null)
+                && !SingleScanRowDecoder.supports(ModeWindow.distinctCurrentWindows().keySet())) {
+            LOG.warn("Single-scan aggregation does not cover mode windows {}; using multi-query mode",
+                    ModeWindow.distinctCurrentWindows().keySet());
+            useSingleScan = false;
+            shards = null;
+        }
+        this.bulkQueries = new BulkAggregationQueries(repository, meterRegistry, useSingleScan, shards);
     }
 
     /**
@@ -84,6 +126,7 @@ public class BandActivityAggregator {
      *   <li>Computes trend percentage</li>
      *   <li>Finds maximum DX spot for the specific mode</li>
      *   <li>Identifies active continent paths for the specific mode</li>
+     *   <li>Attaches SNR and distance percentiles from the live stream</li>
      * </ol>
      *
      * @param band the band to aggregate (e.g., "20m")
@@ -133,7 +176,8 @@ public class BandActivityAggregator {
                 windowStart,
                 now,
                 now,
-                rarityMultiplier
+                rarityMultiplier,
+                quantileTracker.getQuantiles(band, mode)
         );
 
         LOG.debug("Band {} {} activity: {} spots (baseline: {}), trend: {}%, DX: {} km, paths: {}",
@@ -146,35 +190,41 @@ public class BandActivityAggregator {
     /**
      * Aggregates activity data for all band+mode combinations with recent activity.
      *
-     * <p>Uses 3 bulk SQL queries instead of per-pair N+1 queries:
+     * <p>In multi-query mode, uses bulk SQL queries instead of per-pair N+1 queries:
      * <ol>
      *   <li>Spot counts in 15-minute buckets (replaces ~271 COUNT queries)</li>
      *   <li>Max DX per band+mode via window function (replaces ~38 correlated subqueries)</li>
-     *   <li>Continent paths per band+mode (replaces ~38 GROUP BY queries)</li>
+     *   <li>Continent paths per band+mode, once per mode window (replaces ~38 GROUP BY queries)</li>
      * </ol>
      *
+     * <p>In single-scan mode, one {@code GROUPING SETS} query returns all three
+     * result kinds and {@link SingleScanRowDecoder} splits them back apart.
+     *
      * <p>Results are assembled into {@link BandActivity} records in Java.
      *
      * @return map of composite key to aggregated activity
      */
     public Map<String, BandActivity> aggregateAllBands() {
         Instant now = clock.instant();
-        // 3h covers SSB's baseline window (the widest); 1h covers SSB's current window (the widest)
-        Instant baselineLookback = now.minus(Duration.ofHours(3));
-        Instant currentLookback = now.minus(Duration.ofHours(1));
+        String mode = bulkQueries.mode();
 
-        LOG.info("Running bulk aggregation queries");
+        LOG.info("Running bulk aggregation queries ({})", mode);
 
-        List<Object[]> bucketRows = repository.countSpotsByBandModeInBuckets(baselineLookback);
-        List<Object[]> dxRows = repository.findMaxDxSpotPerBandMode(currentLookback);
-        Map<Duration, Map<String, List<Object[]>>> pathsByDuration = queryPathsByWindowDuration(now);
+        long startNanos = System.nanoTime();
+        BulkAggregationRows rows = bulkQueries.run(now);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
 
-        LOG.info("Bulk queries complete: {} bucket rows, {} DX rows, {} path duration groups",
-                bucketRows.size(), dxRows.size(), pathsByDuration.size());
+        List<Object[]> bucketRows = rows.bucketRows();
+        Map<Duration, Map<String, List<Object[]>>> pathsByDuration = new LinkedHashMap<>();
+        rows.pathsByWindow().forEach((window, pathRows) ->
+                pathsByDuration.put(window, indexByBandModeKey(pathRows)));
+
+        LOG.info("Bulk queries complete in {} ms ({}): {} bucket rows, {} DX rows, {} path duration groups",
+                elapsedMillis, mode, bucketRows.size(), rows.dxRows().size(), pathsByDuration.size());
 
         // Index all bulk results by composite "band_mode" key for O(1) lookup during assembly
         Map<String, Object[]> dxByKey = new LinkedHashMap<>();
-        for (Object[] row : dxRows) {
+        for (Object[] row : rows.dxRows()) {
             dxByKey.put(row[0] + "_" + row[1], row);
         }
 
@@ -200,26 +250,6 @@ public class BandActivityAggregator {
         return result;
     }
 
-    /**
-     * Queries continent paths once per distinct mode window duration.
-     *
-     * <p>Instead of a single 1-hour lookback for all modes, this runs one query
-     * per unique window duration (15m, 30m, 60m) so that continent paths
-     * align with each mode's spot counting window.
-     *
-     * @param now current time
-     * @return map from window duration to indexed path results (keyed by band_mode)
-     */
-    private Map<Duration, Map<String, List<Object[]>>> queryPathsByWindowDuration(Instant now) {
-        Map<Duration, Map<String, List<Object[]>>> result = new LinkedHashMap<>();
-        for (Duration duration : ModeWindow.distinctCurrentWindows().keySet()) {
-            Instant since = now.minus(duration);
-            List<Object[]> rows = repository.countContinentPathsPerBandMode(since);
-            result.put(duration, indexByBandModeKey(rows));
-        }
-        return result;
-    }
-
     /**
      * Counts spots within a time window by summing matching 15-minute buckets.
      */
@@ -383,7 +413,8 @@ public class BandActivityAggregator {
         return new BandActivity(band, mode, currentCount, baselineCount, trend,
                 extractDxDistance(dxRow), extractDxPath(dxRow),
                 extractActivePaths(pathsByKey.getOrDefault(key, List.of())),
-                windowStart, now, now, scoringProperties.getMultiplierForMode(mode));
+                windowStart, now, now, scoringProperties.getMultiplierForMode(mode),
+                quantileTracker.getQuantiles(band, mode));
     }
 
     @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") // One list per unique key is intentional
@@ -391,7 +422,7 @@ public class BandActivityAggregator {
         Map<String, List<Object[]>> indexed = new LinkedHashMap<>();
         for (Object[] row : rows) {
             String key = row[0] + "_" + row[1];
-            indexed.computeIfAbsent(key, k -> new java.util.ArrayList<>()).add(row);
+            indexed.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
         }
         return indexed;
     }
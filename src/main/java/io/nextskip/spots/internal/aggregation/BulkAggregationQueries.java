@@ -0,0 +1,155 @@
+package io.nextskip.spots.internal.aggregation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.nextskip.common.jfr.AggregationQueryEvent;
+import io.nextskip.spots.model.ModeWindow;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Runs the bulk band activity queries in multi-query, single-scan or sharded-scan mode.
+ *
+ * <p>Every repository call is timed under {@value #QUERY_TIMER}, tagged with the
+ * query name and mode, so the modes can be compared on live traffic:
+ * <ul>
+ *   <li>{@code multi-query}: {@code buckets}, {@code max-dx} and one
+ *       {@code paths-<N>m} timer per mode window</li>
+ *   <li>{@code single-scan}: one {@code single-scan} timer</li>
+ *   <li>{@code sharded-scan}: one {@code sharded-scan} wall-clock timer, plus a
+ *       {@code shard} timer recorded by {@link ShardedScanExecutor} for each shard</li>
+ * </ul>
+ *
+ * <p>Each call is also recorded as an {@link AggregationQueryEvent} with the same names.
+ */
+final class BulkAggregationQueries {
+
+    static final String QUERY_TIMER = "nextskip.spots.aggregation.query";
+    static final String MODE_MULTI_QUERY = "multi-query";
+    static final String MODE_SINGLE_SCAN = "single-scan";
+    static final String MODE_SHARDED_SCAN = "sharded-scan";
+
+    private final SpotRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final boolean singleScan;
+    @Nullable
+    private final ShardedScanExecutor shardedScan;
+
+    /**
+     * Creates the query runner.
+     *
+     * @param repository    spot repository
+     * @param meterRegistry registry for per-query timers
+     * @param singleScan    whether to use the single-scan query
+     * @param shardedScan   parallel shard executor; when present it takes precedence
+     *                      over both serial modes
+     */
+    BulkAggregationQueries(SpotRepository repository, MeterRegistry meterRegistry, boolean singleScan,
+                           @Nullable ShardedScanExecutor shardedScan) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.singleScan = singleScan;
+        this.shardedScan = shardedScan;
+    }
+
+    /**
+     * Returns the active query mode name, as used in timer tags.
+     *
+     * @return {@value #MODE_SHARDED_SCAN}, {@value #MODE_SINGLE_SCAN} or {@value #MODE_MULTI_QUERY}
+     */
+    String mode() {
+        if (shardedScan != null) {
+            return MODE_SHARDED_SCAN;
+        }
+        return singleScan ? MODE_SINGLE_SCAN : MODE_MULTI_QUERY;
+    }
+
+    /**
+     * Runs the bulk queries for an aggregation pass.
+     *
+     * @param now current time
+     * @return raw rows for assembly
+     */
+    BulkAggregationRows run(Instant now) {
+        if (shardedScan != null) {
+            return queryShardedScan(now);
+        }
+        return singleScan ? querySingleScan(now) : queryMultiPass(now);
+    }
+
+    /**
+     * Runs the bucket, max DX and path queries separately.
+     *
+     * <p>Continent paths are queried once per distinct mode window duration
+     * (15m, 30m, 60m) so that they align with each mode's spot counting window.
+     *
+     * @param now current time
+     * @return raw rows for assembly
+     */
+    private BulkAggregationRows queryMultiPass(Instant now) {
+        Instant baselineLookback = now.minus(SingleScanBounds.BASELINE_LOOKBACK);
+        Instant currentLookback = now.minus(SingleScanBounds.DX_LOOKBACK);
+
+        List<Object[]> bucketRows = timed("buckets", MODE_MULTI_QUERY,
+                () -> repository.countSpotsByBandModeInBuckets(baselineLookback));
+        List<Object[]> dxRows = timed("max-dx", MODE_MULTI_QUERY,
+                () -> repository.findMaxDxSpotPerBandMode(currentLookback));
+
+        Map<Duration, List<Object[]>> pathsByWindow = new LinkedHashMap<>();
+        for (Duration duration : ModeWindow.distinctCurrentWindows().keySet()) {
+            Instant since = now.minus(duration);
+            pathsByWindow.put(duration, timed("paths-" + duration.toMinutes() + "m", MODE_MULTI_QUERY,
+                    () -> repository.countContinentPathsPerBandMode(since)));
+        }
+        return new BulkAggregationRows(bucketRows, dxRows, pathsByWindow);
+    }
+
+    /**
+     * Runs the single-scan query and decodes it into multi-query row shapes.
+     *
+     * @param now current time
+     * @return raw rows for assembly
+     */
+    private BulkAggregationRows querySingleScan(Instant now) {
+        SingleScanBounds bounds = SingleScanBounds.endingAt(now);
+        List<Object[]> rows = timed("single-scan", MODE_SINGLE_SCAN,
+                () -> repository.aggregateBandModeSingleScan(
+                        bounds.since(),
+                        bounds.until(),
+                        bounds.dxSince(),
+                        bounds.pathSince15m(),
+                        bounds.pathSince30m(),
+                        bounds.pathSince60m()));
+        return SingleScanRowDecoder.decode(rows);
+    }
+
+    /**
+     * Runs the single-scan query as parallel time-range shards and decodes the merged rows.
+     *
+     * @param now current time
+     * @return raw rows for assembly
+     */
+    private BulkAggregationRows queryShardedScan(Instant now) {
+        ShardedScanExecutor executor = Objects.requireNonNull(shardedScan);
+        List<Object[]> rows = timed("sharded-scan", MODE_SHARDED_SCAN,
+                () -> executor.scan(SingleScanBounds.endingAt(now), now));
+        return SingleScanRowDecoder.decode(rows);
+    }
+
+    private List<Object[]> timed(String query, String mode, Supplier<List<Object[]>> call) {
+        return Timer.builder(QUERY_TIMER)
+                .description("Time spent in band activity aggregation queries")
+                .tag("query", query)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(() -> AggregationQueryEvent.record(query, mode, call));
+    }
+}
@@ -0,0 +1,33 @@
+package io.nextskip.spots.internal.aggregation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Raw bulk query results consumed by {@link BandActivityAggregator#aggregateAllBands()}.
+ *
+ * <p>Both query modes produce this shape: the multi-query mode fills it directly
+ * from the three bulk repository queries, and the single-scan mode fills it via
+ * {@link SingleScanRowDecoder}. Assembly into {@code BandActivity} records is
+ * shared, so the two modes cannot drift apart.
+ *
+ * @param bucketRows     [band, mode, bucket_start, count] ordered by band, mode, bucket_start
+ * @param dxRows         [band, mode, distance_km, spotted_call, spotter_call], one per pair
+ * @param pathsByWindow  per mode window, [band, mode, spotter_continent, spotted_continent, count]
+ */
+record BulkAggregationRows(
+        List<Object[]> bucketRows,
+        List<Object[]> dxRows,
+        Map<Duration, List<Object[]>> pathsByWindow
+) {
+
+    /**
+     * Compact constructor with defensive copying for collections.
+     */
+    BulkAggregationRows {
+        bucketRows = List.copyOf(bucketRows);
+        dxRows = List.copyOf(dxRows);
+        pathsByWindow = Map.copyOf(pathsByWindow);
+    }
+}
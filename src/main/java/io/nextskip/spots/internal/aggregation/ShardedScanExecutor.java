@@ -0,0 +1,222 @@
+package io.nextskip.spots.internal.aggregation;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.nextskip.common.jfr.AggregationQueryEvent;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the single-scan aggregation query as concurrent time-range shards.
+ *
+ * <p>The scan range is split into {@code nextskip.spots.aggregation.parallelism}
+ * contiguous slices. Each slice runs {@link SpotRepository#SINGLE_SCAN_SQL} on its
+ * own connection from a dedicated pool, so TimescaleDB only opens the chunks for that
+ * slice and Postgres can spread the work across cores even when it would not pick a
+ * parallel plan for the serial query. Partial rows are combined by
+ * {@link SingleScanRowMerger}, giving the same rows as one scan over the whole range.
+ *
+ * <p>Sharding by time rather than by band keeps shards balanced: FT8 on 20m and 40m
+ * dominates volume, so band shards would leave most workers idle.
+ *
+ * <p>The dedicated pool is derived from the primary datasource and capped at the
+ * degree of parallelism, so aggregation can never starve ingestion or request
+ * threads of connections. Only created when parallelism is greater than one.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnExpression("${nextskip.spots.aggregation.parallelism:1} > 1")
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class ShardedScanExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedScanExecutor.class);
+
+    private static final String POOL_NAME = "aggregation-shards";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /**
+     * Maps a row to the same Object[] shape Hibernate returns for the native query,
+     * converting {@code timestamptz} values to {@link Instant}.
+     */
+    private static final RowMapper<Object[]> ROW_MAPPER = (rs, rowNum) -> {
+        ResultSetMetaData meta = rs.getMetaData();
+        Object[] row = new Object[meta.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            Object value = rs.getObject(i + 1);
+            row[i] = value instanceof Timestamp timestamp ? timestamp.toInstant() : value;
+        }
+        return row;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    @Nullable
+    private final HikariDataSource pool;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final Timer shardTimer;
+
+    /**
+     * Creates the executor with a dedicated connection pool derived from the primary datasource.
+     *
+     * @param dataSource    primary datasource to copy connection settings from
+     * @param meterRegistry registry for the per-shard query timer
+     * @param parallelism   number of shards and pooled connections
+     */
+    @Autowired
+    public ShardedScanExecutor(DataSource dataSource, MeterRegistry meterRegistry,
+                               @Value("${nextskip.spots.aggregation.parallelism:1}") int parallelism) {
+        this(createPool(dataSource, parallelism), meterRegistry, parallelism);
+    }
+
+    private ShardedScanExecutor(HikariDataSource pool, MeterRegistry meterRegistry, int parallelism) {
+        this(new NamedParameterJdbcTemplate(pool), pool, meterRegistry, parallelism);
+    }
+
+    ShardedScanExecutor(NamedParameterJdbcTemplate jdbcTemplate, @Nullable HikariDataSource pool,
+                        MeterRegistry meterRegistry, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, POOL_NAME + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.shardTimer = Timer.builder(BulkAggregationQueries.QUERY_TIMER)
+                .description("Time spent in band activity aggregation queries")
+                .tag("query", "shard")
+                .tag("mode", BulkAggregationQueries.MODE_SHARDED_SCAN)
+                .register(meterRegistry);
+        LOG.info("Sharded aggregation enabled with parallelism {}", parallelism);
+    }
+
+    /**
+     * Returns the number of shards each scan is split into.
+     *
+     * @return degree of parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Runs the single-scan query over {@code (bounds.since, now]} in parallel shards.
+     *
+     * <p>The last shard keeps the open upper bound of {@code bounds} so spots stamped
+     * after {@code now} are still counted, exactly as in the serial scan.
+     *
+     * @param bounds window cutoffs and scan range for the whole pass
+     * @param now    current time, where the last shard begins its open end
+     * @return merged rows in query order
+     */
+    List<Object[]> scan(SingleScanBounds bounds, Instant now) {
+        List<SingleScanBounds> shards = split(bounds, now, parallelism);
+        List<CompletableFuture<List<Object[]>>> futures = new ArrayList<>(shards.size());
+        for (SingleScanBounds shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(() -> shardTimer.record(() -> recordedQuery(shard)), executor));
+        }
+        List<List<Object[]>> partials = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<List<Object[]>> future : futures) {
+                partials.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return SingleScanRowMerger.merge(partials);
+    }
+
+    /**
+     * Splits the scan range into contiguous, non-overlapping shards of equal length.
+     *
+     * @param bounds full-pass bounds
+     * @param now    end of the last bounded shard
+     * @param count  number of shards
+     * @return shard bounds, oldest first
+     */
+    static List<SingleScanBounds> split(SingleScanBounds bounds, Instant now, int count) {
+        Duration slice = Duration.between(bounds.since(), now).dividedBy(count);
+        List<SingleScanBounds> shards = new ArrayList<>(count);
+        Instant shardSince = bounds.since();
+        for (int i = 0; i < count; i++) {
+            Instant shardUntil = i == count - 1 ? bounds.until() : shardSince.plus(slice);
+            shards.add(bounds.withRange(shardSince, shardUntil));
+            shardSince = shardUntil;
+        }
+        return shards;
+    }
+
+    private List<Object[]> recordedQuery(SingleScanBounds shard) {
+        return AggregationQueryEvent.record("shard", BulkAggregationQueries.MODE_SHARDED_SCAN, () -> query(shard));
+    }
+
+    private List<Object[]> query(SingleScanBounds shard) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("since", Timestamp.from(shard.since()))
+                .addValue("until", Timestamp.from(shard.until()))
+                .addValue("dxSince", Timestamp.from(shard.dxSince()))
+                .addValue("pathSince15m", Timestamp.from(shard.pathSince15m()))
+                .addValue("pathSince30m", Timestamp.from(shard.pathSince30m()))
+                .addValue("pathSince60m", Timestamp.from(shard.pathSince60m()));
+        return jdbcTemplate.query(SpotRepository.SINGLE_SCAN_SQL, params, ROW_MAPPER);
+    }
+
+    private static HikariDataSource createPool(DataSource dataSource, int parallelism) {
+        HikariDataSource pool = DataSourceBuilder.derivedFrom(dataSource).type(HikariDataSource.class).build();
+        pool.setPoolName(POOL_NAME);
+        pool.setMaximumPoolSize(parallelism);
+        pool.setMinimumIdle(0);
+        return pool;
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Aggregation shard threads did not stop within {}s", SHUTDOWN_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pool != null) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.nextskip.spots.internal.aggregation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Time bounds for one execution of the single-scan aggregation query.
+ *
+ * <p>The scan range {@code (since, until]} can be narrowed to a shard with
+ * {@link #withRange}; the window cutoffs stay fixed so every shard filters
+ * against the same max DX and path windows.
+ *
+ * @param since         start of the scanned range, exclusive
+ * @param until         end of the scanned range, inclusive
+ * @param dxSince       start of the max DX window
+ * @param pathSince15m  start of the 15-minute path window
+ * @param pathSince30m  start of the 30-minute path window
+ * @param pathSince60m  start of the 60-minute path window
+ */
+record SingleScanBounds(
+        Instant since,
+        Instant until,
+        Instant dxSince,
+        Instant pathSince15m,
+        Instant pathSince30m,
+        Instant pathSince60m
+) {
+
+    /**
+     * Upper bound for an unbounded scan; matches the multi-query path, which has
+     * no upper bound and so also counts spots stamped slightly in the future.
+     */
+    static final Instant OPEN_END = Instant.parse("9999-12-31T23:59:59Z");
+
+    /**
+     * 3h covers SSB's baseline window (the widest).
+     */
+    static final Duration BASELINE_LOOKBACK = Duration.ofHours(3);
+
+    /**
+     * 1h covers SSB's current window (the widest).
+     */
+    static final Duration DX_LOOKBACK = Duration.ofHours(1);
+
+    /**
+     * Creates bounds for a full aggregation pass ending now.
+     *
+     * @param now current time
+     * @return bounds scanning the whole baseline range with an open end
+     */
+    static SingleScanBounds endingAt(Instant now) {
+        List<Duration> windows = SingleScanRowDecoder.PATH_WINDOWS;
+        return new SingleScanBounds(
+                now.minus(BASELINE_LOOKBACK),
+                OPEN_END,
+                now.minus(DX_LOOKBACK),
+                now.minus(windows.get(0)),
+                now.minus(windows.get(1)),
+                now.minus(windows.get(2)));
+    }
+
+    /**
+     * Returns these bounds narrowed to a different scan range.
+     *
+     * @param shardSince start of the shard, exclusive
+     * @param shardUntil end of the shard, inclusive
+     * @return bounds with the same window cutoffs
+     */
+    SingleScanBounds withRange(Instant shardSince, Instant shardUntil) {
+        return new SingleScanBounds(shardSince, shardUntil, dxSince, pathSince15m, pathSince30m, pathSince60m);
+    }
+}
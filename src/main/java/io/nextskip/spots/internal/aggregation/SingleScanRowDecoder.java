@@ -0,0 +1,105 @@
+package io.nextskip.spots.internal.aggregation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits the tagged rows of {@code SpotRepository.aggregateBandModeSingleScan}
+ * back into the row shapes of the three multi-query bulk queries.
+ *
+ * <p>The single-scan query returns one row per grouping set, discriminated by
+ * a {@code kind} column:
+ * <ul>
+ *   <li>{@code B} - one 15-minute bucket count</li>
+ *   <li>{@code P} - one continent pair with a count column per path window</li>
+ *   <li>{@code D} - the max DX distance and callsigns for a band+mode pair</li>
+ * </ul>
+ *
+ * <p>Decoding to {@link BulkAggregationRows} keeps assembly identical between
+ * modes: a path row contributes to a window only when its count for that window
+ * is non-zero, and a {@code D} row without distance data is dropped, exactly as
+ * the separate queries would have returned nothing.
+ */
+final class SingleScanRowDecoder {
+
+    /**
+     * Path windows folded into the single-scan query, in column order.
+     */
+    static final List<Duration> PATH_WINDOWS = List.of(
+            Duration.ofMinutes(15), Duration.ofMinutes(30), Duration.ofMinutes(60));
+
+    // Column positions in single-scan rows
+    static final int KIND = 0;
+    static final int BAND = 1;
+    static final int MODE = 2;
+    static final int BUCKET_START = 3;
+    static final int SPOTTER_CONTINENT = 4;
+    static final int SPOTTED_CONTINENT = 5;
+    static final int COUNT = 6;
+    static final int FIRST_PATH_COUNT = 7;
+    static final int MAX_DISTANCE = 10;
+    static final int MAX_DX_SPOTTED_CALL = 11;
+    static final int MAX_DX_SPOTTER_CALL = 12;
+    static final int MAX_DX_RANK = 13;
+
+    private SingleScanRowDecoder() {
+    }
+
+    /**
+     * Checks whether the single-scan query covers every mode window.
+     *
+     * @param windows distinct current-window durations across all modes
+     * @return true if each window has a path count column in the query
+     */
+    static boolean supports(Set<Duration> windows) {
+        return PATH_WINDOWS.containsAll(windows);
+    }
+
+    /**
+     * Decodes single-scan rows into multi-query row shapes.
+     *
+     * @param rows rows from {@code aggregateBandModeSingleScan}
+     * @return bucket, max DX and per-window path rows
+     * @throws IllegalArgumentException if a row carries an unknown kind
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") // One output row per input row is inherent
+    static BulkAggregationRows decode(List<Object[]> rows) {
+        List<Object[]> bucketRows = new ArrayList<>();
+        List<Object[]> dxRows = new ArrayList<>();
+        Map<Duration, List<Object[]>> pathsByWindow = new LinkedHashMap<>();
+        for (Duration window : PATH_WINDOWS) {
+            pathsByWindow.put(window, new ArrayList<>());
+        }
+
+        for (Object[] row : rows) {
+            String kind = String.valueOf(row[KIND]);
+            switch (kind) {
+                case "B" -> bucketRows.add(new Object[]{row[BAND], row[MODE], row[BUCKET_START], row[COUNT]});
+                case "P" -> decodePathRow(row, pathsByWindow);
+                case "D" -> {
+                    if (row[MAX_DISTANCE] != null) {
+                        dxRows.add(new Object[]{row[BAND], row[MODE], row[MAX_DISTANCE],
+                                row[MAX_DX_SPOTTED_CALL], row[MAX_DX_SPOTTER_CALL]});
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown single-scan row kind: " + kind);
+            }
+        }
+        return new BulkAggregationRows(bucketRows, dxRows, pathsByWindow);
+    }
+
+    @SuppressWarnings("PMD.UseVarargs") // Array from native query result, not a varargs call site
+    private static void decodePathRow(Object[] row, Map<Duration, List<Object[]>> pathsByWindow) {
+        for (int i = 0; i < PATH_WINDOWS.size(); i++) {
+            Number count = (Number) row[FIRST_PATH_COUNT + i];
+            if (count != null && count.longValue() > 0) {
+                pathsByWindow.get(PATH_WINDOWS.get(i)).add(new Object[]{
+                        row[BAND], row[MODE], row[SPOTTER_CONTINENT], row[SPOTTED_CONTINENT], count});
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.nextskip.spots.internal.aggregation;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.BAND;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.BUCKET_START;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.COUNT;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.FIRST_PATH_COUNT;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.KIND;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.MAX_DISTANCE;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.MAX_DX_RANK;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.MODE;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.PATH_WINDOWS;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.SPOTTED_CONTINENT;
+import static io.nextskip.spots.internal.aggregation.SingleScanRowDecoder.SPOTTER_CONTINENT;
+
+/**
+ * Merges single-scan rows computed over disjoint time ranges into the rows a
+ * single scan over the combined range would have returned.
+ *
+ * <p>Every aggregate in the single-scan query is decomposable:
+ * <ul>
+ *   <li>Bucket and path counts add up across shards</li>
+ *   <li>Max DX keeps the shard row with the highest {@code max_dx_rank}
+ *       (distance, then time), so the callsigns travel with the winning distance</li>
+ * </ul>
+ *
+ * <p>Merged rows are sorted by kind, band, mode and bucket start, matching the
+ * query's {@code ORDER BY} for the ASCII band and mode names in use.
+ */
+final class SingleScanRowMerger {
+
+    private static final Comparator<Object[]> ROW_ORDER = Comparator
+            .comparing((Object[] row) -> (String) row[KIND])
+            .thenComparing(row -> (String) row[BAND])
+            .thenComparing(row -> (String) row[MODE])
+            .thenComparing(row -> (Instant) row[BUCKET_START], Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private SingleScanRowMerger() {
+    }
+
+    /**
+     * Merges per-shard rows.
+     *
+     * @param shards rows from each shard, in any order
+     * @return merged rows in query order
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") // One grouping key per input row is inherent
+    static List<Object[]> merge(List<List<Object[]>> shards) {
+        Map<List<Object>, Object[]> merged = new HashMap<>();
+        for (List<Object[]> shard : shards) {
+            for (Object[] row : shard) {
+                List<Object> key = Arrays.asList(row[KIND], row[BAND], row[MODE],
+                        row[BUCKET_START], row[SPOTTER_CONTINENT], row[SPOTTED_CONTINENT]);
+                Object[] existing = merged.get(key);
+                if (existing == null) {
+                    merged.put(key, row.clone());
+                } else {
+                    combine(existing, row);
+                }
+            }
+        }
+        List<Object[]> result = new ArrayList<>(merged.values());
+        result.sort(ROW_ORDER);
+        return result;
+    }
+
+    private static void combine(Object[] into, Object[] row) {
+        into[COUNT] = add(into[COUNT], row[COUNT]);
+        for (int i = 0; i < PATH_WINDOWS.size(); i++) {
+            into[FIRST_PATH_COUNT + i] = add(into[FIRST_PATH_COUNT + i], row[FIRST_PATH_COUNT + i]);
+        }
+        if (outranks(row[MAX_DX_RANK], into[MAX_DX_RANK])) {
+            System.arraycopy(row, MAX_DISTANCE, into, MAX_DISTANCE, MAX_DX_RANK - MAX_DISTANCE + 1);
+        }
+    }
+
+    private static Object add(Object a, Object b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return ((Number) a).longValue() + ((Number) b).longValue();
+    }
+
+    private static boolean outranks(Object candidate, Object current) {
+        if (candidate == null) {
+            return false;
+        }
+        return current == null || toDecimal(candidate).compareTo(toDecimal(current)) > 0;
+    }
+
+    private static BigDecimal toDecimal(Object rank) {
+        return rank instanceof BigDecimal decimal ? decimal : new BigDecimal(rank.toString());
+    }
+}
@@ -1,6 +1,7 @@
 package io.nextskip.spots.internal.client;
 
 import io.nextskip.common.api.SubscriptionStatusProvider;
+import io.nextskip.common.jfr.MqttMessageEvent;
 import io.nextskip.spots.internal.MqttProperties;
 import org.eclipse.paho.mqttv5.client.IMqttToken;
 import org.eclipse.paho.mqttv5.client.MqttCallback;
@@ -16,6 +17,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,6 +40,9 @@ import java.util.UUID;
  *   <li>{@code pskr/filter/v2/+/+/+/+/+/291} - All spots received in USA (DXCC 291)</li>
  * </ul>
  *
+ * <p>Topics can be changed at runtime with {@link #updateTopics(List)}, which
+ * subscribes and unsubscribes on the live connection.
+ *
  * @see <a href="https://mqtt.pskreporter.info/">PSKReporter MQTT Documentation</a>
  */
 @Component
@@ -50,15 +55,16 @@ public class PskReporterMqttSource extends AbstractSpotSource
     private static final String DISPLAY_NAME = "PSKReporter MQTT";
 
     private final String brokerUrl;
-    private final List<String> topics;
     private final String clientId;
 
+    private volatile List<String> topics;
+
     private MqttClient client;
 
     public PskReporterMqttSource(MqttProperties mqttProperties) {
         super();
         this.brokerUrl = mqttProperties.getBroker();
-        this.topics = mqttProperties.getTopics();
+        this.topics = List.copyOf(mqttProperties.getTopics());
         this.clientId = "nextskip-" + UUID.randomUUID().toString().substring(0, 8);
     }
 
@@ -102,6 +108,46 @@ public class PskReporterMqttSource extends AbstractSpotSource
         LOG.info("Subscribed to {} topics: {}", topicArray.length, topics);
     }
 
+    @Override
+    public List<String> getTopics() {
+        return topics;
+    }
+
+    /**
+     * Replaces the subscribed topics on the live connection.
+     *
+     * <p>New topics are subscribed before removed ones are unsubscribed, so topics kept
+     * across the change never stop delivering. When disconnected, the new topics are
+     * subscribed on the next connect.
+     *
+     * @param newTopics new topic filters
+     * @throws IllegalStateException if the broker rejects the change
+     */
+    @Override
+    public synchronized void updateTopics(List<String> newTopics) {
+        List<String> current = topics;
+        List<String> added = new ArrayList<>(newTopics);
+        added.removeAll(current);
+        List<String> removed = new ArrayList<>(current);
+        removed.removeAll(newTopics);
+
+        MqttClient activeClient = client;
+        if (activeClient != null && activeClient.isConnected()) {
+            try {
+                if (!added.isEmpty()) {
+                    activeClient.subscribe(added.toArray(String[]::new), new int[added.size()]);
+                }
+                if (!removed.isEmpty()) {
+                    activeClient.unsubscribe(removed.toArray(String[]::new));
+                }
+            } catch (MqttException e) {
+                throw new IllegalStateException("Failed to update MQTT topics: " + e.getMessage(), e);
+            }
+        }
+        topics = List.copyOf(newTopics);
+        LOG.info("MQTT topics updated (added {}, removed {}): {}", added, removed, topics);
+    }
+
     @Override
     protected void doDisconnect() {
         if (client != null && client.isConnected()) {
@@ -144,9 +190,17 @@ public class PskReporterMqttSource extends AbstractSpotSource
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException") // Graceful handling of any message error
     public void messageArrived(String topic, MqttMessage message) {
+        MqttMessageEvent event = new MqttMessageEvent();
+        event.begin();
         try {
-            String payload = new String(message.getPayload(), StandardCharsets.UTF_8);
-            emitMessage(payload);
+            byte[] bytes = message.getPayload();
+            emitMessage(new String(bytes, StandardCharsets.UTF_8));
+            event.end();
+            if (event.shouldCommit()) {
+                event.topic = topic;
+                event.payloadBytes = bytes.length;
+                event.commit();
+            }
         } catch (RuntimeException e) {
             LOG.debug("Error processing MQTT message: {}", e.getMessage());
         }
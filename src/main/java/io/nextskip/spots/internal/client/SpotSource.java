@@ -1,5 +1,6 @@
 package io.nextskip.spots.internal.client;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -67,6 +68,29 @@ public interface SpotSource {
         return isConnected();
     }
 
+    /**
+     * Returns the topics this source subscribes to.
+     *
+     * <p>Default implementation returns an empty list for sources without topics.
+     *
+     * @return current topic filters
+     */
+    default List<String> getTopics() {
+        return List.of();
+    }
+
+    /**
+     * Replaces the subscribed topics without reconnecting.
+     *
+     * <p>Default implementation rejects the change for sources without topics.
+     *
+     * @param topics new topic filters
+     * @throws UnsupportedOperationException if this source has no topics
+     */
+    default void updateTopics(List<String> topics) {
+        throw new UnsupportedOperationException(getSourceName() + " does not support topic changes");
+    }
+
     /**
      * Returns a human-readable name for this source.
      *
@@ -0,0 +1,156 @@
+package io.nextskip.spots.internal.detect;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.api.BandOpeningEvent;
+import io.nextskip.spots.internal.OpeningDetectorProperties;
+import io.nextskip.spots.internal.stream.SpotStreamListener;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.Spot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streaming band opening detector over the live spot stream.
+ *
+ * <p>{@link io.nextskip.spots.model.BandActivity#isFavorable()} and its trend only
+ * change when the minute-level aggregation runs, so an opening can take a couple
+ * of minutes to surface. This detector keeps a {@link RateCusum} per band, mode
+ * and {@link ContinentPath}, updates it on every spot, and publishes a
+ * {@link BandOpeningEvent} as soon as the spot rate rises or falls significantly.
+ *
+ * <p>Latency:
+ * <ul>
+ *   <li>Openings are checked on every spot against the partially filled bin and
+ *       usually fire seconds after the rate jumps</li>
+ *   <li>Closings need a completed bin; a sweep every few seconds closes bins on
+ *       paths that have gone quiet</li>
+ * </ul>
+ *
+ * <p>Events are published on the thread that detected them: openings on the stream
+ * thread, closings on the scheduler thread running the sweep. Listeners must not
+ * assume either.
+ *
+ * <p>Spots whose continents do not form a tracked {@link ContinentPath} are ignored.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class BandOpeningDetector implements SpotStreamListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BandOpeningDetector.class);
+
+    private final OpeningDetectorProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long binMillis;
+    private final Map<PathKey, RateCusum> detectors = new ConcurrentHashMap<>();
+
+    private final AtomicLong eventsPublished = new AtomicLong(0);
+
+    public BandOpeningDetector(
+            OpeningDetectorProperties properties,
+            ApplicationEventPublisher eventPublisher,
+            Clock clock) {
+        if (properties.getBinDuration().isZero() || properties.getBinDuration().isNegative()) {
+            throw new IllegalArgumentException("Bin duration must be positive: " + properties.getBinDuration());
+        }
+        if (properties.getAlpha() <= 0 || properties.getAlpha() > 1) {
+            throw new IllegalArgumentException("Alpha must be in (0, 1]: " + properties.getAlpha());
+        }
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.binMillis = properties.getBinDuration().toMillis();
+    }
+
+    @Override
+    public void onSpot(Spot spot) {
+        if (spot.band() == null || spot.mode() == null) {
+            return;
+        }
+        Optional<ContinentPath> path = ContinentPath.fromContinents(
+                spot.spotterContinent(), spot.spottedContinent());
+        if (path.isEmpty()) {
+            return;
+        }
+
+        long epoch = clock.millis() / binMillis;
+        PathKey key = new PathKey(spot.band(), spot.mode().toUpperCase(Locale.ROOT), path.get());
+        RateCusum detector = detectors.computeIfAbsent(key, k -> newDetector(epoch));
+        publish(key, detector.record(epoch));
+    }
+
+    /**
+     * Closes elapsed bins on all paths so that quiet paths can signal a closing.
+     */
+    @Scheduled(fixedDelayString = "${nextskip.spots.opening-detector.sweep-interval:PT5S}",
+            initialDelayString = "${nextskip.spots.opening-detector.sweep-initial-delay:PT30S}")
+    public void closeElapsedBins() {
+        long epoch = clock.millis() / binMillis;
+        detectors.forEach((key, detector) -> publish(key, detector.advance(epoch)));
+    }
+
+    /**
+     * Returns the number of band/mode/path combinations being tracked.
+     *
+     * @return tracked path count
+     */
+    public int getTrackedPaths() {
+        return detectors.size();
+    }
+
+    /**
+     * Returns the number of opening and closing events published since startup.
+     *
+     * @return published event count
+     */
+    public long getEventsPublished() {
+        return eventsPublished.get();
+    }
+
+    private RateCusum newDetector(long epoch) {
+        return new RateCusum(
+                properties.getAlpha(),
+                properties.getDrift(),
+                properties.getThreshold(),
+                properties.getWarmupBins(),
+                epoch);
+    }
+
+    private void publish(PathKey key, RateCusum.Signal signal) {
+        if (signal == null) {
+            return;
+        }
+        double perMinute = 60_000.0 / binMillis;
+        BandOpeningEvent event = new BandOpeningEvent(
+                key.band(),
+                key.mode(),
+                key.path(),
+                signal.direction(),
+                signal.binCount() * perMinute,
+                signal.baselineCount() * perMinute,
+                clock.instant());
+        eventsPublished.incrementAndGet();
+        LOG.info("Band {} detected: {} {} {} ({} spots/min vs baseline {})",
+                event.direction(), event.band(), event.mode(), event.path().name(),
+                event.ratePerMin(), event.baselinePerMin());
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Identity of a tracked rate series.
+     */
+    private record PathKey(String band, String mode, ContinentPath path) {
+    }
+}
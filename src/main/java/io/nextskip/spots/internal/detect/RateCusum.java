@@ -0,0 +1,144 @@
+package io.nextskip.spots.internal.detect;
+
+import io.nextskip.spots.api.BandOpeningEvent.Direction;
+
+/**
+ * Two-sided CUSUM change-point test on binned spot counts for one path.
+ *
+ * <p>Each closed bin's count {@code x} is standardized against an EWMA baseline,
+ * {@code z = (x - mean) / sigma}, and accumulated into
+ * {@code S+ = max(0, S+ + z - k)} and {@code S- = max(0, S- - z - k)}.
+ * An alarm fires when either sum exceeds {@code h}; both sums then reset.
+ *
+ * <p>Openings are also checked against the partially filled current bin on every
+ * spot. Because a bin count only grows, a partial count that already pushes
+ * {@code S+} over the threshold is guaranteed to do so at bin close, so the alarm
+ * can fire seconds into the bin instead of at its end.
+ *
+ * <p>{@code sigma} is floored at the Poisson level ({@code sqrt(mean)}) and at 1,
+ * so quiet paths do not alarm on a single stray spot.
+ *
+ * <p>Repeated alarms in the same direction are suppressed until the opposite
+ * direction fires, so a sustained opening produces one event while the baseline
+ * catches up.
+ */
+final class RateCusum {
+
+    /** Longest idle gap replayed as empty bins; beyond this the baseline has fully decayed anyway. */
+    private static final int MAX_IDLE_BINS = 120;
+
+    private final double alpha;
+    private final double drift;
+    private final double threshold;
+    private final int warmupBins;
+
+    private long binEpoch;
+    private int binCount;
+    private int binsSeen;
+    private double mean;
+    private double variance;
+    private double upper;
+    private double lower;
+    private Direction lastSignal;
+
+    RateCusum(double alpha, double drift, double threshold, int warmupBins, long startEpoch) {
+        this.alpha = alpha;
+        this.drift = drift;
+        this.threshold = threshold;
+        this.warmupBins = warmupBins;
+        this.binEpoch = startEpoch;
+    }
+
+    /**
+     * Counts one spot in the bin for {@code epoch}, closing any earlier bins first.
+     *
+     * @return a signal if an opening or closing was detected, otherwise null
+     */
+    synchronized Signal record(long epoch) {
+        Signal signal = advance(epoch);
+        binCount++;
+        if (signal == null && isArmed() && lastSignal != Direction.OPENING) {
+            double z = (binCount - mean) / sigma();
+            if (upper + z - drift > threshold) {
+                signal = fire(Direction.OPENING, binCount);
+            }
+        }
+        return signal;
+    }
+
+    /**
+     * Closes all bins before {@code epoch}, treating skipped bins as empty.
+     *
+     * @return the most recent signal raised while closing, otherwise null
+     */
+    synchronized Signal advance(long epoch) {
+        if (epoch <= binEpoch) {
+            return null;
+        }
+        Signal signal = closeBin(binCount);
+        long idle = Math.min(epoch - binEpoch - 1, MAX_IDLE_BINS);
+        for (long i = 0; i < idle; i++) {
+            Signal idleSignal = closeBin(0);
+            if (idleSignal != null) {
+                signal = idleSignal;
+            }
+        }
+        binEpoch = epoch;
+        binCount = 0;
+        return signal;
+    }
+
+    private Signal closeBin(int count) {
+        Signal signal = null;
+        if (isArmed()) {
+            double z = (count - mean) / sigma();
+            upper = Math.max(0, upper + z - drift);
+            lower = Math.max(0, lower - z - drift);
+            if (upper > threshold) {
+                signal = lastSignal == Direction.OPENING ? reset() : fire(Direction.OPENING, count);
+            } else if (lower > threshold) {
+                signal = lastSignal == Direction.CLOSING ? reset() : fire(Direction.CLOSING, count);
+            }
+        }
+        if (binsSeen == 0) {
+            // Seed the baseline with the first bin rather than ramping up from zero
+            mean = count;
+        } else {
+            double diff = count - mean;
+            mean += alpha * diff;
+            variance = (1 - alpha) * (variance + alpha * diff * diff);
+        }
+        binsSeen++;
+        return signal;
+    }
+
+    private boolean isArmed() {
+        return binsSeen >= warmupBins;
+    }
+
+    private double sigma() {
+        return Math.sqrt(Math.max(1.0, Math.max(variance, mean)));
+    }
+
+    private Signal fire(Direction direction, int count) {
+        lastSignal = direction;
+        reset();
+        return new Signal(direction, count, mean);
+    }
+
+    private Signal reset() {
+        upper = 0;
+        lower = 0;
+        return null;
+    }
+
+    /**
+     * A detected change.
+     *
+     * @param direction     opening or closing
+     * @param binCount      spot count in the bin that triggered the alarm
+     * @param baselineCount baseline spots per bin at the time of the alarm
+     */
+    record Signal(Direction direction, int binCount, double baselineCount) {
+    }
+}
@@ -0,0 +1,143 @@
+package io.nextskip.spots.internal.enrichment;
+
+import io.nextskip.spots.model.Spot;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Enriches spots with continent codes derived from callsign prefixes.
+ *
+ * <p>Resolves both callsigns against a {@link CtyPrefixTrie} built from cty.dat at
+ * startup. With a complete file this is exact where {@link ContinentEnricher}'s
+ * grid-field guess is only about 80% accurate, so it runs first and the grid lookup
+ * only fills continents whose callsign is unknown.
+ *
+ * <p>The bundled {@code data/cty.dat} is trimmed to the 128 entities that dominate
+ * digital-mode traffic; the full file has about 340. Longest-prefix matching sends a
+ * callsign from a missing entity to its parent prefix, so FO or KH8 would come out as
+ * France or the United States with the wrong continent. While the loaded file has
+ * fewer than {@value #FULL_FILE_MIN_ENTITIES} entities it is therefore not
+ * {@linkplain #isComplete() complete}, the grid lookup runs first and cty.dat only
+ * fills spots without a grid. Point {@code nextskip.spots.cty.location} at a current
+ * file from <a href="https://www.country-files.com">country-files.com</a> for full
+ * coverage. If the file cannot be loaded the enricher resolves nothing and continents
+ * come from grids only.
+ */
+@Component
+public class CallsignEnricher implements SpotEnricher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CallsignEnricher.class);
+
+    /** Entity count below which a cty.dat is taken to be a trimmed copy. */
+    static final int FULL_FILE_MIN_ENTITIES = 300;
+
+    private final Resource ctyFile;
+    private volatile CtyPrefixTrie trie = CtyPrefixTrie.empty();
+
+    /**
+     * Creates an enricher that loads cty.dat on startup.
+     *
+     * @param ctyFile the cty.dat file
+     */
+    @Autowired
+    public CallsignEnricher(@Value("${nextskip.spots.cty.location:classpath:data/cty.dat}") Resource ctyFile) {
+        this.ctyFile = ctyFile;
+    }
+
+    /**
+     * Creates an enricher over an already-built trie.
+     *
+     * <p>For tests and tools that build the trie themselves.
+     *
+     * @param trie the prefix trie
+     */
+    public CallsignEnricher(CtyPrefixTrie trie) {
+        this.ctyFile = null;
+        this.trie = trie;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (ctyFile == null) {
+            return;
+        }
+        try (Reader reader = new InputStreamReader(ctyFile.getInputStream(), StandardCharsets.ISO_8859_1)) {
+            long started = System.nanoTime();
+            trie = CtyPrefixTrie.parse(reader);
+            LOG.info("Loaded cty.dat from {}: {} entities, {} prefixes, {} exact calls, {} nodes in {} ms",
+                    ctyFile.getDescription(), trie.entityCount(), trie.prefixCount(), trie.exactCount(),
+                    trie.nodeCount(), (System.nanoTime() - started) / 1_000_000);
+            if (trie.entityCount() < FULL_FILE_MIN_ENTITIES) {
+                LOG.warn("cty.dat from {} has only {} of ~340 DXCC entities; continents come from grids and "
+                                + "cty.dat only fills spots without one. Set nextskip.spots.cty.location to a "
+                                + "full file from country-files.com", ctyFile.getDescription(), trie.entityCount());
+            }
+        } catch (IOException e) {
+            LOG.error("Failed to load cty.dat from {}; continents will come from grids only",
+                    ctyFile.getDescription(), e);
+        }
+    }
+
+    /**
+     * Resolves the DXCC entity of a callsign.
+     *
+     * @param callsign the callsign
+     * @return entity with zones and continent, or null if unknown
+     */
+    public DxccEntity lookup(String callsign) {
+        return trie.lookup(callsign);
+    }
+
+    /**
+     * Whether the loaded cty.dat covers enough entities to override grid continents.
+     *
+     * <p>A trimmed file resolves callsigns of missing entities to a broader parent
+     * prefix, which is a confident wrong answer rather than no answer.
+     *
+     * @return true if the file has at least {@value #FULL_FILE_MIN_ENTITIES} entities
+     */
+    public boolean isComplete() {
+        return trie.entityCount() >= FULL_FILE_MIN_ENTITIES;
+    }
+
+    @Override
+    public Spot enrich(Spot spot) {
+        if (spot == null) {
+            return null;
+        }
+
+        // Skip if already enriched
+        if (spot.spotterContinent() != null && spot.spottedContinent() != null) {
+            return spot;
+        }
+
+        String spotterContinent = spot.spotterContinent() != null
+                ? spot.spotterContinent()
+                : continentOf(spot.spotterCall());
+        String spottedContinent = spot.spottedContinent() != null
+                ? spot.spottedContinent()
+                : continentOf(spot.spottedCall());
+
+        if (!Objects.equals(spotterContinent, spot.spotterContinent())
+                || !Objects.equals(spottedContinent, spot.spottedContinent())) {
+            return spot.withContinents(spotterContinent, spottedContinent);
+        }
+        return spot;
+    }
+
+    private String continentOf(String callsign) {
+        DxccEntity entity = trie.lookup(callsign);
+        return entity == null ? null : entity.continent();
+    }
+}
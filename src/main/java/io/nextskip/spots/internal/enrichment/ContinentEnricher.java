@@ -11,7 +11,9 @@ import org.springframework.stereotype.Component;
  * determination. Accuracy is approximately 80% due to grid field boundaries
  * not aligning perfectly with continental boundaries.
  *
- * <p>Phase 2 will enhance accuracy using cty.dat-based callsign prefix lookup.
+ * <p>Runs after {@link CallsignEnricher} when the loaded cty.dat is complete, so it
+ * only fills continents whose callsign was not found there. With a trimmed cty.dat
+ * it runs first instead.
  *
  * <p>Continent codes follow standard 2-letter abbreviations:
  * <ul>
@@ -0,0 +1,455 @@
+package io.nextskip.spots.internal.enrichment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Longest-prefix-match trie over a cty.dat country file.
+ *
+ * <p>cty.dat (maintained by AD1C, <a href="https://www.country-files.com">country-files.com</a>)
+ * lists every DXCC entity with its zones, continent and the prefixes and exact
+ * callsigns that belong to it. Each record is a colon-separated header followed by
+ * a comma-separated list ending in {@code ;}:
+ * <pre>
+ * Canada:                   05:  09:  NA:   44.35:    78.75:     5.0:  VE:
+ *     CF,CG,VA,VE,VE7(3)[2],=VE2ABC/VY2;
+ * </pre>
+ * Entries may carry overrides - {@code (cq)}, {@code [itu]}, {@code {continent}},
+ * {@code <lat/lon>}, {@code ~tz~} - and a leading {@code =} marks an exact callsign.
+ *
+ * <p>Prefixes and exact calls share one trie over the 37 symbols {@code 0-9},
+ * {@code A-Z} and {@code /}. After parsing, nodes are laid out breadth-first in flat
+ * arrays with each node's children contiguous and sorted, and the root's children in
+ * a direct-indexed table. A lookup walks characters of the callsign in place: no
+ * regex, substring or boxing, and the returned {@link DxccEntity} is shared.
+ *
+ * <p>Compound callsigns are resolved the way loggers do: operating suffixes
+ * ({@code /P}, {@code /M}, {@code /QRP}, {@code /A}, {@code /B}, {@code /LH} and
+ * single-digit call areas) are ignored, {@code /MM} and {@code /AM} have no entity,
+ * and of the remaining parts the shortest is taken as the location prefix
+ * ({@code F/W1AW} and {@code W1AW/F} both resolve to France).
+ *
+ * <p>Thread-safe: instances are immutable once parsed.
+ */
+public final class CtyPrefixTrie {
+
+    private static final int SYMBOLS = 37;
+    private static final int SLASH = 36;
+    private static final int HEADER_FIELDS = 8;
+    private static final String[] OPERATING_SUFFIXES = {"P", "M", "QRP", "QRPP", "A", "B", "LH"};
+    private static final String[] NO_ENTITY_SUFFIXES = {"MM", "AM"};
+
+    private static final CtyPrefixTrie EMPTY = new Builder().build();
+
+    private final DxccEntity[] entries;
+    private final int[] rootChildren;
+    private final byte[] labels;
+    private final int[] firstChild;
+    private final byte[] childCount;
+    private final int[] prefixValue;
+    private final int[] exactValue;
+    private final int entityCount;
+    private final int prefixCount;
+    private final int exactCount;
+
+    @SuppressWarnings("checkstyle:ParameterNumber") // Flat arrays produced by the builder
+    private CtyPrefixTrie(DxccEntity[] entries, int[] rootChildren, byte[] labels, int[] firstChild,
+                          byte[] childCount, int[] prefixValue, int[] exactValue,
+                          int entityCount, int prefixCount, int exactCount) {
+        this.entries = entries;
+        this.rootChildren = rootChildren;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.prefixValue = prefixValue;
+        this.exactValue = exactValue;
+        this.entityCount = entityCount;
+        this.prefixCount = prefixCount;
+        this.exactCount = exactCount;
+    }
+
+    /**
+     * Returns a trie that resolves nothing.
+     *
+     * @return the empty trie
+     */
+    public static CtyPrefixTrie empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Parses a cty.dat file.
+     *
+     * @param reader cty.dat content; not closed
+     * @return the compiled trie
+     * @throws IOException if reading fails or a record is malformed
+     */
+    public static CtyPrefixTrie parse(Reader reader) throws IOException {
+        Builder builder = new Builder();
+        StringBuilder record = new StringBuilder();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            int end = line.indexOf(';');
+            record.append(end < 0 ? line : line.substring(0, end)).append('\n');
+            if (end >= 0) {
+                builder.addRecord(record.toString());
+                record.setLength(0);
+            }
+        }
+        if (!record.toString().isBlank()) {
+            throw new IOException("Unterminated cty.dat record: " + record.toString().strip());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Resolves the DXCC entity of a callsign.
+     *
+     * @param callsign callsign in any case, optionally with portable prefix or suffixes
+     * @return the entity with zone and continent overrides applied, or null if unknown
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity") // Single pass over the slash-separated parts
+    public DxccEntity lookup(String callsign) {
+        if (callsign == null || callsign.isEmpty()) {
+            return null;
+        }
+        int length = callsign.length();
+        int exact = exact(callsign, 0, length);
+        if (exact >= 0) {
+            return entries[exact];
+        }
+
+        int homeStart = -1;
+        int homeEnd = -1;
+        int locationStart = -1;
+        int locationEnd = -1;
+        int parts = 0;
+        int start = 0;
+        while (start <= length) {
+            int end = callsign.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (matchesAny(callsign, start, end, NO_ENTITY_SUFFIXES)) {
+                return null;
+            }
+            if (end > start && !isOperatingSuffix(callsign, start, end)) {
+                parts++;
+                if (homeStart < 0 || end - start > homeEnd - homeStart) {
+                    homeStart = start;
+                    homeEnd = end;
+                }
+                if (locationStart < 0 || end - start < locationEnd - locationStart) {
+                    locationStart = start;
+                    locationEnd = end;
+                }
+            }
+            start = end + 1;
+        }
+        if (parts == 0) {
+            return null;
+        }
+        if (parts > 1) {
+            int location = longestPrefix(callsign, locationStart, locationEnd);
+            if (location >= 0) {
+                return entries[location];
+            }
+        } else if (homeEnd - homeStart < length) {
+            int home = exact(callsign, homeStart, homeEnd);
+            if (home >= 0) {
+                return entries[home];
+            }
+        }
+        int home = longestPrefix(callsign, homeStart, homeEnd);
+        return home < 0 ? null : entries[home];
+    }
+
+    /**
+     * Returns the number of DXCC entities parsed.
+     *
+     * @return entity count
+     */
+    public int entityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Returns the number of prefix entries parsed.
+     *
+     * @return prefix count
+     */
+    public int prefixCount() {
+        return prefixCount;
+    }
+
+    /**
+     * Returns the number of exact-callsign entries parsed.
+     *
+     * @return exact call count
+     */
+    public int exactCount() {
+        return exactCount;
+    }
+
+    /**
+     * Returns the number of trie nodes, including the root.
+     *
+     * @return node count
+     */
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int longestPrefix(String callsign, int start, int end) {
+        int node = 0;
+        int best = -1;
+        for (int i = start; i < end; i++) {
+            node = child(node, symbol(callsign.charAt(i)));
+            if (node < 0) {
+                break;
+            }
+            if (prefixValue[node] >= 0) {
+                best = prefixValue[node];
+            }
+        }
+        return best;
+    }
+
+    private int exact(String callsign, int start, int end) {
+        int node = 0;
+        for (int i = start; i < end; i++) {
+            node = child(node, symbol(callsign.charAt(i)));
+            if (node < 0) {
+                return -1;
+            }
+        }
+        return exactValue[node];
+    }
+
+    private int child(int node, int symbol) {
+        if (symbol < 0) {
+            return -1;
+        }
+        if (node == 0) {
+            return rootChildren[symbol];
+        }
+        int first = firstChild[node];
+        int last = first + childCount[node];
+        for (int candidate = first; candidate < last; candidate++) {
+            int label = labels[candidate];
+            if (label == symbol) {
+                return candidate;
+            }
+            if (label > symbol) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static int symbol(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return c == '/' ? SLASH : -1;
+    }
+
+    private static boolean isOperatingSuffix(String callsign, int start, int end) {
+        if (end - start == 1 && Character.isDigit(callsign.charAt(start))) {
+            return true;
+        }
+        return matchesAny(callsign, start, end, OPERATING_SUFFIXES);
+    }
+
+    private static boolean matchesAny(String callsign, int start, int end, String... candidates) {
+        for (String candidate : candidates) {
+            if (end - start == candidate.length()
+                    && callsign.regionMatches(true, start, candidate, 0, candidate.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accumulates cty.dat records into a pointer trie, then flattens it.
+     */
+    private static final class Builder {
+
+        private final List<int[]> children = new ArrayList<>();
+        private final List<int[]> values = new ArrayList<>();
+        private final List<DxccEntity> entries = new ArrayList<>();
+        private final Map<DxccEntity, Integer> entryIndex = new HashMap<>();
+        private int entityCount;
+        private int prefixCount;
+        private int exactCount;
+
+        Builder() {
+            newNode();
+        }
+
+        void addRecord(String record) throws IOException {
+            if (record.isBlank()) {
+                return;
+            }
+            int headerEnd = -1;
+            for (int i = 0; i < HEADER_FIELDS; i++) {
+                headerEnd = record.indexOf(':', headerEnd + 1);
+                if (headerEnd < 0) {
+                    throw new IOException("Malformed cty.dat header: " + record.strip());
+                }
+            }
+            String[] header = record.substring(0, headerEnd).split(":");
+            DxccEntity entity;
+            try {
+                String primary = header[7].strip();
+                entity = new DxccEntity(
+                        header[0].strip(),
+                        primary.startsWith("*") ? primary.substring(1) : primary,
+                        header[3].strip().toUpperCase(Locale.ROOT),
+                        Integer.parseInt(header[1].strip()),
+                        Integer.parseInt(header[2].strip()),
+                        Double.parseDouble(header[4].strip()),
+                        -Double.parseDouble(header[5].strip())); // cty.dat longitudes are west-positive
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed cty.dat header: " + record.strip(), e);
+            }
+            entityCount++;
+            for (String token : record.substring(headerEnd + 1).split("[,\\s]+")) {
+                if (!token.isEmpty()) {
+                    addEntry(token, entity);
+                }
+            }
+        }
+
+        @SuppressWarnings("PMD.AvoidLiteralsInIfCondition") // Override delimiters are the cty.dat syntax
+        private void addEntry(String token, DxccEntity entity) throws IOException {
+            boolean exact = token.charAt(0) == '=';
+            int keyStart = exact ? 1 : 0;
+            int keyEnd = keyStart;
+            while (keyEnd < token.length() && "([<{~".indexOf(token.charAt(keyEnd)) < 0) {
+                keyEnd++;
+            }
+            String key = token.substring(keyStart, keyEnd);
+            int cqZone = entity.cqZone();
+            int ituZone = entity.ituZone();
+            String continent = entity.continent();
+            try {
+                String cq = override(token, '(', ')');
+                String itu = override(token, '[', ']');
+                String cont = override(token, '{', '}');
+                cqZone = cq == null ? cqZone : Integer.parseInt(cq);
+                ituZone = itu == null ? ituZone : Integer.parseInt(itu);
+                continent = cont == null ? continent : cont.toUpperCase(Locale.ROOT);
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed cty.dat zone override: " + token, e);
+            }
+            int value = intern(new DxccEntity(entity.name(), entity.primaryPrefix(), continent,
+                    cqZone, ituZone, entity.latitude(), entity.longitude()));
+            int node = insert(key, token);
+            values.get(node)[exact ? 1 : 0] = value;
+            if (exact) {
+                exactCount++;
+            } else {
+                prefixCount++;
+            }
+        }
+
+        private static String override(String token, char open, char close) {
+            int start = token.indexOf(open);
+            if (start < 0) {
+                return null;
+            }
+            int end = token.indexOf(close, start + 1);
+            return end < 0 ? null : token.substring(start + 1, end);
+        }
+
+        private int intern(DxccEntity entry) {
+            return entryIndex.computeIfAbsent(entry, e -> {
+                entries.add(e);
+                return entries.size() - 1;
+            });
+        }
+
+        private int insert(String key, String token) throws IOException {
+            if (key.isEmpty()) {
+                throw new IOException("Empty cty.dat prefix: " + token);
+            }
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                int symbol = symbol(key.charAt(i));
+                if (symbol < 0) {
+                    throw new IOException("Invalid character in cty.dat prefix: " + token);
+                }
+                int next = children.get(node)[symbol];
+                if (next == 0) {
+                    next = newNode();
+                    children.get(node)[symbol] = next;
+                }
+                node = next;
+            }
+            return node;
+        }
+
+        private int newNode() {
+            children.add(new int[SYMBOLS]);
+            values.add(new int[] {-1, -1});
+            return children.size() - 1;
+        }
+
+        /**
+         * Lays nodes out breadth-first so each node's children occupy one sorted run.
+         */
+        CtyPrefixTrie build() {
+            int size = children.size();
+            int[] order = new int[size];
+            int[] position = new int[size];
+            byte[] labels = new byte[size];
+            int[] firstChild = new int[size];
+            byte[] childCount = new byte[size];
+            int[] prefixValue = new int[size];
+            int[] exactValue = new int[size];
+            int tail = 1;
+            for (int head = 0; head < tail; head++) {
+                int node = order[head];
+                position[node] = head;
+                firstChild[head] = tail;
+                for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+                    int next = children.get(node)[symbol];
+                    if (next != 0) {
+                        order[tail] = next;
+                        labels[tail] = (byte) symbol;
+                        tail++;
+                    }
+                }
+                childCount[head] = (byte) (tail - firstChild[head]);
+                prefixValue[head] = values.get(node)[0];
+                exactValue[head] = values.get(node)[1];
+            }
+            int[] rootChildren = new int[SYMBOLS];
+            Arrays.fill(rootChildren, -1);
+            for (int symbol = 0; symbol < SYMBOLS; symbol++) {
+                int next = children.get(0)[symbol];
+                if (next != 0) {
+                    rootChildren[symbol] = position[next];
+                }
+            }
+            return new CtyPrefixTrie(entries.toArray(new DxccEntity[0]), rootChildren, labels, firstChild,
+                    childCount, prefixValue, exactValue, entityCount, prefixCount, exactCount);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.nextskip.spots.internal.enrichment;
+
+/**
+ * A DXCC entity resolved from a callsign via cty.dat.
+ *
+ * <p>Zones and continent are the values that apply to the matched prefix or
+ * exact call, so they include any per-prefix overrides from cty.dat (e.g. VE7
+ * is CQ zone 3 while the rest of Canada is zone 5).
+ *
+ * @param name          entity name (e.g. "Canada")
+ * @param primaryPrefix entity's primary prefix (e.g. "VE")
+ * @param continent     2-letter continent code (e.g. "NA")
+ * @param cqZone        CQ zone
+ * @param ituZone       ITU zone
+ * @param latitude      latitude in degrees, north positive
+ * @param longitude     longitude in degrees, east positive
+ */
+public record DxccEntity(
+        String name,
+        String primaryPrefix,
+        String continent,
+        int cqZone,
+        int ituZone,
+        double latitude,
+        double longitude
+) {
+}
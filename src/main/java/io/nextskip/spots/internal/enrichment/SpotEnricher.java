@@ -20,6 +20,7 @@ import io.nextskip.spots.model.Spot;
  * by returning the original spot unchanged when enrichment is not possible.
  *
  * @see DistanceEnricher
+ * @see CallsignEnricher
  * @see ContinentEnricher
  */
 @FunctionalInterface
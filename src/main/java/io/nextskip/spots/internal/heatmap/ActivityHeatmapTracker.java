@@ -0,0 +1,205 @@
+package io.nextskip.spots.internal.heatmap;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.internal.stream.SpotStreamListener;
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.ModeWindow;
+import io.nextskip.spots.model.Spot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incrementally maintained activity heatmaps per band and mode.
+ *
+ * <p>Replaces a geographic {@code GROUP BY} over the {@code spots} hypertable with
+ * primitive matrices updated in O(1) per spot from the spot stream. Each band and
+ * mode keeps transmitter and receiver matrices at Maidenhead field (18 × 18) and
+ * square (180 × 180) resolution, split into time panes across the mode's
+ * {@link ModeWindow} current window and rotated in place. A scheduled tick clears
+ * each heatmap's next pane ahead of time, so recording never clears a matrix.
+ *
+ * <p>Memory is fixed regardless of spot volume:
+ * <ul>
+ *   <li>One band/mode costs {@code (panes + 1) × 2 × (324 + 32,400) × 3} bytes,
+ *       about 785 KB at the default 3 panes</li>
+ *   <li>At most {@code max-band-modes} heatmaps exist at once (default 32, about
+ *       25 MB); spots for further band/mode combinations are rejected</li>
+ *   <li>The tick evicts heatmaps with no spot left in their window, so a burst
+ *       of rare modes frees its slots once it goes quiet</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class ActivityHeatmapTracker implements SpotStreamListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivityHeatmapTracker.class);
+
+    private final Clock clock;
+    private final int panes;
+    private final int maxBandModes;
+    private final Map<String, BandHeatmap> heatmaps = new ConcurrentHashMap<>();
+
+    private final AtomicLong rejectedSpots = new AtomicLong(0);
+
+    /**
+     * Creates the tracker.
+     *
+     * @param clock        clock for window expiry
+     * @param panes        panes per window (expiry granularity)
+     * @param maxBandModes maximum number of band/mode heatmaps (memory cap)
+     */
+    public ActivityHeatmapTracker(
+            Clock clock,
+            @Value("${nextskip.spots.heatmap.panes:3}") int panes,
+            @Value("${nextskip.spots.heatmap.max-band-modes:32}") int maxBandModes) {
+        if (panes < 1 || maxBandModes < 1) {
+            throw new IllegalArgumentException(
+                    "panes and maxBandModes must be positive: " + panes + ", " + maxBandModes);
+        }
+        this.clock = clock;
+        this.panes = panes;
+        this.maxBandModes = maxBandModes;
+        LOG.info("Activity heatmaps: {} panes, up to {} band/modes at {} KB each",
+                panes, maxBandModes, BandHeatmap.footprintBytes(panes) / 1024);
+    }
+
+    @Override
+    public void onSpot(Spot spot) {
+        if (spot.band() == null || spot.mode() == null) {
+            return;
+        }
+        BandHeatmap heatmap = heatmapFor(spot.band(), spot.mode().toUpperCase(Locale.ROOT));
+        long now = clock.millis();
+        long time = spot.spottedAt() != null ? Math.min(spot.spottedAt().toEpochMilli(), now) : now;
+        if (heatmap == null || !heatmap.record(spot, time, now)) {
+            rejectedSpots.incrementAndGet();
+        }
+    }
+
+    /**
+     * Prepares each heatmap's next pane and evicts heatmaps that have gone idle.
+     *
+     * <p>Runs well within the shortest pane (5 minutes at the default 3 panes over a
+     * 15-minute window), so the spot path finds the next pane already cleared. A spot racing an
+     * eviction may land in the discarded heatmap; the heatmap was idle for a full
+     * window, so at most a stray spot is lost.
+     */
+    @Scheduled(fixedDelayString = "${nextskip.spots.heatmap.tick-interval:PT10S}")
+    public void tick() {
+        long now = clock.millis();
+        int before = heatmaps.size();
+        heatmaps.values().removeIf(heatmap -> heatmap.isIdle(now));
+        heatmaps.values().forEach(heatmap -> heatmap.prepareNextPane(now));
+        int evicted = before - heatmaps.size();
+        if (evicted > 0) {
+            LOG.debug("Evicted {} idle band/mode heatmaps", evicted);
+        }
+    }
+
+    /**
+     * Returns the run-length encoded heatmap for a band and mode.
+     *
+     * @param band       the band name (e.g., "20m")
+     * @param mode       the mode (case-insensitive)
+     * @param resolution field or square resolution
+     * @return the heatmap; empty when the band and mode have no recent spots
+     */
+    public ActivityHeatmap getHeatmap(String band, String mode, HeatmapResolution resolution) {
+        String normalizedMode = mode != null ? mode.toUpperCase(Locale.ROOT) : "";
+        long windowMinutes = ModeWindow.forMode(normalizedMode).getCurrentWindow().toMinutes();
+        long now = clock.millis();
+        Instant calculatedAt = Instant.ofEpochMilli(now);
+
+        BandHeatmap heatmap = band != null ? heatmaps.get(key(band, normalizedMode)) : null;
+        if (heatmap == null) {
+            return ActivityHeatmap.empty(band, normalizedMode, resolution, windowMinutes, calculatedAt);
+        }
+        BandHeatmap.Merged merged = heatmap.merge(resolution, now);
+        return new ActivityHeatmap(
+                band,
+                normalizedMode,
+                resolution,
+                windowMinutes,
+                merged.spots,
+                encode(merged.txCounts, merged.txSnr),
+                encode(merged.rxCounts, merged.rxSnr),
+                calculatedAt);
+    }
+
+    /**
+     * Returns the number of spots not recorded (stale, or over the band/mode cap).
+     *
+     * @return rejected spot count since startup
+     */
+    public long getRejectedSpots() {
+        return rejectedSpots.get();
+    }
+
+    /**
+     * Returns the number of band/mode heatmaps currently allocated.
+     *
+     * @return tracked band/mode count
+     */
+    public int getTrackedBandModes() {
+        return heatmaps.size();
+    }
+
+    /**
+     * Returns the fixed memory currently allocated to heatmap matrices.
+     *
+     * @return allocated bytes
+     */
+    public long getFootprintBytes() {
+        return heatmaps.size() * BandHeatmap.footprintBytes(panes);
+    }
+
+    /**
+     * Encodes a layer as {@code (skip, count, maxSnr)} triples over non-empty cells.
+     *
+     * <p>Cells without an SNR report encode {@code maxSnr} as {@link GridMatrix#NO_SNR}.
+     */
+    static List<Integer> encode(int[] counts, int[] snr) {
+        List<Integer> encoded = new ArrayList<>();
+        int skip = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                skip++;
+                continue;
+            }
+            encoded.add(skip);
+            encoded.add(counts[i]);
+            encoded.add(snr[i]);
+            skip = 0;
+        }
+        return encoded;
+    }
+
+    private BandHeatmap heatmapFor(String band, String mode) {
+        String key = key(band, mode);
+        BandHeatmap existing = heatmaps.get(key);
+        if (existing != null || heatmaps.size() >= maxBandModes) {
+            return existing;
+        }
+        long windowMillis = ModeWindow.forMode(mode).getCurrentWindow().toMillis();
+        return heatmaps.computeIfAbsent(key, k -> new BandHeatmap(windowMillis, panes));
+    }
+
+    private static String key(String band, String mode) {
+        return band + '|' + mode;
+    }
+}
@@ -0,0 +1,180 @@
+package io.nextskip.spots.internal.heatmap;
+
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.Spot;
+
+import java.util.Arrays;
+
+/**
+ * Rolling transmitter and receiver heatmaps for one band and mode.
+ *
+ * <p>The window is split into panes, each holding four {@link GridMatrix}
+ * instances (transmitter and receiver, at field and square resolution). One
+ * slot more than the window's panes is allocated up front: while the live panes
+ * fill, {@link #prepareNextPane(long)} clears the spare slot for the next pane
+ * from a scheduled tick, so the footprint is fixed from construction and the
+ * spot path never clears a matrix.
+ *
+ * <p>Recording a spot touches at most four cells: O(1) per spot. Only if the
+ * tick has not prepared the next pane in time is it cleared inline. Merging the
+ * panes for a read is O(panes × cells) and happens under the same lock.
+ */
+final class BandHeatmap {
+
+    private final long paneMillis;
+    private final int livePanes;
+    private final long[] paneEpochs;
+    private final int[] paneSpots;
+    private final GridMatrix[][] panes;
+
+    private long lastRecordedEpoch = Long.MIN_VALUE;
+
+    BandHeatmap(long windowMillis, int paneCount) {
+        int slots = paneCount + 1;
+        this.paneMillis = Math.max(1, windowMillis / paneCount);
+        this.livePanes = paneCount;
+        this.paneEpochs = new long[slots];
+        this.paneSpots = new int[slots];
+        this.panes = new GridMatrix[slots][];
+        Arrays.fill(paneEpochs, Long.MIN_VALUE);
+        for (int i = 0; i < slots; i++) {
+            panes[i] = new GridMatrix[] {
+                new GridMatrix(HeatmapResolution.FIELD.getCellCount()),
+                new GridMatrix(HeatmapResolution.SQUARE.getCellCount()),
+                new GridMatrix(HeatmapResolution.FIELD.getCellCount()),
+                new GridMatrix(HeatmapResolution.SQUARE.getCellCount())
+            };
+        }
+    }
+
+    /**
+     * Returns the fixed memory used by one band/mode heatmap, excluding object headers.
+     *
+     * @param paneCount panes per window (one spare slot is added)
+     * @return bytes allocated by the matrices
+     */
+    static long footprintBytes(int paneCount) {
+        long cellsPerPane = 2L * (HeatmapResolution.FIELD.getCellCount() + HeatmapResolution.SQUARE.getCellCount());
+        return (paneCount + 1) * cellsPerPane * GridMatrix.BYTES_PER_CELL;
+    }
+
+    /**
+     * Records a spot at the given time.
+     *
+     * @return false if the spot is older than the window
+     */
+    synchronized boolean record(Spot spot, long timeMillis, long nowMillis) {
+        long epoch = timeMillis / paneMillis;
+        if (!isLive(epoch, nowMillis / paneMillis)) {
+            return false;
+        }
+        int slot = slotOf(epoch);
+        if (paneEpochs[slot] < epoch) {
+            // Tick missed this pane: clear inline rather than mix windows
+            claim(slot, epoch);
+        } else if (paneEpochs[slot] > epoch) {
+            return false;
+        }
+
+        GridMatrix[] pane = panes[slot];
+        paneSpots[slot]++;
+        lastRecordedEpoch = Math.max(lastRecordedEpoch, epoch);
+        add(pane[0], HeatmapResolution.FIELD, spot.spottedGrid(), spot.snr());
+        add(pane[1], HeatmapResolution.SQUARE, spot.spottedGrid(), spot.snr());
+        add(pane[2], HeatmapResolution.FIELD, spot.spotterGrid(), spot.snr());
+        add(pane[3], HeatmapResolution.SQUARE, spot.spotterGrid(), spot.snr());
+        return true;
+    }
+
+    /**
+     * Merges the live panes at one resolution.
+     *
+     * @param resolution which matrices to merge
+     * @param nowMillis  current time
+     * @return merged counts and SNR for both roles
+     */
+    synchronized Merged merge(HeatmapResolution resolution, long nowMillis) {
+        int cells = resolution.getCellCount();
+        int offset = resolution == HeatmapResolution.FIELD ? 0 : 1;
+        Merged merged = new Merged(cells);
+        long nowEpoch = nowMillis / paneMillis;
+        for (int i = 0; i < panes.length; i++) {
+            if (isLive(paneEpochs[i], nowEpoch)) {
+                merged.spots += paneSpots[i];
+                panes[i][offset].mergeInto(merged.txCounts, merged.txSnr);
+                panes[i][2 + offset].mergeInto(merged.rxCounts, merged.rxSnr);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Clears the slot the next pane will use, unless it is already prepared.
+     *
+     * <p>The spare slot holds a pane that left the window, so clearing it never
+     * discards live data.
+     *
+     * @param nowMillis current time
+     */
+    synchronized void prepareNextPane(long nowMillis) {
+        long nextEpoch = nowMillis / paneMillis + 1;
+        int slot = slotOf(nextEpoch);
+        if (paneEpochs[slot] < nextEpoch) {
+            claim(slot, nextEpoch);
+        }
+    }
+
+    /**
+     * Returns whether no live pane holds a spot, so the heatmap can be discarded.
+     *
+     * @param nowMillis current time
+     * @return true if the last spot has left the window
+     */
+    synchronized boolean isIdle(long nowMillis) {
+        return !isLive(lastRecordedEpoch, nowMillis / paneMillis);
+    }
+
+    private void claim(int slot, long epoch) {
+        for (GridMatrix matrix : panes[slot]) {
+            matrix.clear();
+        }
+        paneEpochs[slot] = epoch;
+        paneSpots[slot] = 0;
+    }
+
+    private int slotOf(long epoch) {
+        return (int) Math.floorMod(epoch, (long) panes.length);
+    }
+
+    private boolean isLive(long epoch, long nowEpoch) {
+        return epoch > nowEpoch - livePanes && epoch <= nowEpoch;
+    }
+
+    private static void add(GridMatrix matrix, HeatmapResolution resolution, String grid, Integer snr) {
+        int index = resolution.cellIndex(grid);
+        if (index >= 0) {
+            matrix.add(index, snr);
+        }
+    }
+
+    /**
+     * Merged view of the live panes, owned by the caller.
+     */
+    static final class Merged {
+
+        int spots;
+        final int[] txCounts;
+        final int[] txSnr;
+        final int[] rxCounts;
+        final int[] rxSnr;
+
+        Merged(int cells) {
+            txCounts = new int[cells];
+            txSnr = new int[cells];
+            rxCounts = new int[cells];
+            rxSnr = new int[cells];
+            Arrays.fill(txSnr, GridMatrix.NO_SNR);
+            Arrays.fill(rxSnr, GridMatrix.NO_SNR);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.nextskip.spots.internal.heatmap;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size matrix of spot counts and maximum SNR over Maidenhead cells.
+ *
+ * <p>Uses primitive arrays only - a {@code char} (unsigned 16-bit, saturating)
+ * count and a {@code byte} SNR per cell, three bytes in total - so the
+ * footprint depends on resolution alone, never on spot volume.
+ */
+final class GridMatrix {
+
+    /** Marker for cells that have no SNR report. */
+    static final int NO_SNR = Byte.MIN_VALUE;
+
+    /** Bytes used per cell (count plus max SNR). */
+    static final int BYTES_PER_CELL = Character.BYTES + Byte.BYTES;
+
+    private final char[] counts;
+    private final byte[] maxSnr;
+
+    GridMatrix(int cells) {
+        this.counts = new char[cells];
+        this.maxSnr = new byte[cells];
+        Arrays.fill(maxSnr, (byte) NO_SNR);
+    }
+
+    void add(int index, Integer snr) {
+        if (counts[index] != Character.MAX_VALUE) {
+            counts[index]++;
+        }
+        if (snr != null) {
+            byte clamped = (byte) Math.max(NO_SNR + 1, Math.min(Byte.MAX_VALUE, snr));
+            if (clamped > maxSnr[index]) {
+                maxSnr[index] = clamped;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counts, (char) 0);
+        Arrays.fill(maxSnr, (byte) NO_SNR);
+    }
+
+    /**
+     * Adds this matrix's counts into {@code countsOut} and folds its SNR into {@code snrOut}.
+     */
+    void mergeInto(int[] countsOut, int[] snrOut) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                countsOut[i] += counts[i];
+                snrOut[i] = Math.max(snrOut[i], maxSnr[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.nextskip.spots.internal.history;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.model.ActivityHistory;
+import io.nextskip.spots.model.ActivityHistoryPoint;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.persistence.entity.SpotActivityRollupEntity;
+import io.nextskip.spots.persistence.repository.SpotActivityRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maintains and serves long-term band activity history.
+ *
+ * <p>Raw spots live for only six hours. This service keeps a compact record of
+ * them in {@code spot_activity_rollups}:
+ * <ol>
+ *   <li>Every minute, the last few complete minutes are rolled up into per-minute
+ *       band/mode/path rows, re-covering recent minutes so late spots are counted.
+ *       After downtime, rollups resume from the newest written bucket, as far back
+ *       as raw spots still exist</li>
+ *   <li>Every hour, minute rows older than a day are merged into hourly rows, and
+ *       history older than 90 days is dropped</li>
+ * </ol>
+ *
+ * <p>A 30-day history read touches at most ~2,200 rows per band, mode and path
+ * through the rollup key index, independent of spot volume.
+ */
+@Service
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class ActivityHistoryService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivityHistoryService.class);
+
+    /** Age after which minute rows are downsampled to hourly rows. */
+    static final Duration MINUTE_RETENTION = Duration.ofDays(1);
+
+    /** Half-width of the range returned for a point-in-time lookup. */
+    static final Duration AROUND_WINDOW = Duration.ofMinutes(30);
+
+    /** How long raw spots are kept; see {@code SpotRepository#dropOldChunks()}. */
+    static final Duration SPOT_RETENTION = Duration.ofHours(6);
+
+    /** Largest range rolled up in one statement when catching up. */
+    static final Duration CATCH_UP_CHUNK = Duration.ofHours(1);
+
+    private static final int SECONDS_PER_MINUTE = 60;
+
+    private final SpotActivityRollupRepository repository;
+    private final Clock clock;
+    private final Duration rollupLookback;
+
+    /**
+     * Creates the history service.
+     *
+     * @param repository     rollup repository
+     * @param clock          clock for rollup and downsample boundaries
+     * @param rollupLookback complete minutes re-aggregated on every rollup
+     */
+    public ActivityHistoryService(
+            SpotActivityRollupRepository repository,
+            Clock clock,
+            @Value("${nextskip.spots.history.rollup-lookback:5m}") Duration rollupLookback) {
+        this.repository = repository;
+        this.clock = clock;
+        this.rollupLookback = rollupLookback;
+    }
+
+    // ========================================================================
+    // Maintenance
+    // ========================================================================
+
+    /**
+     * Rolls up complete minutes from the spots table.
+     *
+     * <p>Normally covers the lookback. If the newest written bucket is older than
+     * that (the task was down, or history is empty), starts after that bucket instead,
+     * bounded by the raw spot retention, and rolls up in hour-sized chunks.
+     *
+     * @return number of minute rows written
+     */
+    public int rollupRecentMinutes() {
+        Instant until = clock.instant().truncatedTo(ChronoUnit.MINUTES);
+        Instant from = rollupStart(until);
+        int rows = 0;
+        Instant chunkStart = from;
+        while (chunkStart.isBefore(until)) {
+            Instant chunkEnd = chunkStart.plus(CATCH_UP_CHUNK);
+            if (chunkEnd.isAfter(until)) {
+                chunkEnd = until;
+            }
+            rows += repository.rollupMinutes(chunkStart, chunkEnd);
+            chunkStart = chunkEnd;
+        }
+        LOG.debug("Rolled up {} history rows for [{}, {})", rows, from, until);
+        return rows;
+    }
+
+    private Instant rollupStart(Instant until) {
+        Instant recent = until.minus(rollupLookback);
+        Instant latest = repository.findLatestBucketStart();
+        Instant resumeAt = latest != null ? latest.plus(Duration.ofMinutes(1)) : null;
+        if (resumeAt != null && !resumeAt.isBefore(recent)) {
+            return recent;
+        }
+        Instant oldestSpots = until.minus(SPOT_RETENTION);
+        Instant from = resumeAt != null && resumeAt.isAfter(oldestSpots) ? resumeAt : oldestSpots;
+        LOG.info("Catching up history rollups from {} (newest bucket: {})", from, latest);
+        return from;
+    }
+
+    /**
+     * Downsamples minute rows older than a day into hourly rows.
+     *
+     * <p>The cutoff is hour-aligned so each hour is merged in one run, and the
+     * merge and delete share a transaction so a failure cannot double-count.
+     *
+     * @return number of hourly rows written
+     */
+    @Transactional
+    public int downsample() {
+        Instant cutoff = clock.instant().minus(MINUTE_RETENTION).truncatedTo(ChronoUnit.HOURS);
+        int hourly = repository.downsampleToHours(cutoff);
+        int deleted = repository.deleteMinutesBefore(cutoff);
+        LOG.info("Downsampled {} minute rows into {} hourly rows before {}", deleted, hourly, cutoff);
+        return hourly;
+    }
+
+    /**
+     * Drops history chunks past the retention period.
+     */
+    public void dropExpired() {
+        List<Object> dropped = repository.dropOldChunks();
+        LOG.info("Dropped {} expired history chunks", dropped.size());
+    }
+
+    // ========================================================================
+    // Queries
+    // ========================================================================
+
+    /**
+     * Returns band and mode activity over {@code [from, until)}.
+     *
+     * @param band  the band (e.g., "20m")
+     * @param mode  the mode (e.g., "FT8", case-insensitive)
+     * @param from  start of the range, inclusive
+     * @param until end of the range, exclusive
+     * @return activity buckets and per-path totals for the range
+     * @throws IllegalArgumentException if {@code until} is not after {@code from}
+     */
+    public ActivityHistory getHistory(String band, String mode, Instant from, Instant until) {
+        if (!until.isAfter(from)) {
+            throw new IllegalArgumentException("History range end must be after start: " + from + " - " + until);
+        }
+        String normalizedMode = mode.toUpperCase(Locale.ROOT);
+
+        List<SpotActivityRollupEntity> rows = repository.findSeries(
+                band, normalizedMode, SpotActivityRollupEntity.ALL_PATHS, from, until);
+        List<ActivityHistoryPoint> points = new ArrayList<>(rows.size());
+        long totalSpots = 0;
+        Integer maxDistanceKm = null;
+        for (SpotActivityRollupEntity row : rows) {
+            points.add(toPoint(row));
+            totalSpots += row.getSpotCount();
+            Integer distance = row.getMaxDistanceKm();
+            if (distance != null && (maxDistanceKm == null || distance > maxDistanceKm)) {
+                maxDistanceKm = distance;
+            }
+        }
+
+        Map<ContinentPath, Long> pathSpots = new EnumMap<>(ContinentPath.class);
+        for (Object[] row : repository.sumSpotsByPath(band, normalizedMode, from, until)) {
+            pathSpots.put(ContinentPath.valueOf((String) row[0]), ((Number) row[1]).longValue());
+        }
+
+        return new ActivityHistory(band, normalizedMode, from, until, points, pathSpots, totalSpots, maxDistanceKm);
+    }
+
+    /**
+     * Returns band and mode activity in the hour centred on a past instant.
+     *
+     * @param band the band (e.g., "20m")
+     * @param mode the mode (e.g., "FT8", case-insensitive)
+     * @param at   the instant to look around
+     * @return activity from 30 minutes before to 30 minutes after {@code at}
+     */
+    public ActivityHistory getActivityAround(String band, String mode, Instant at) {
+        return getHistory(band, mode, at.minus(AROUND_WINDOW), at.plus(AROUND_WINDOW));
+    }
+
+    private static ActivityHistoryPoint toPoint(SpotActivityRollupEntity row) {
+        Double avgSnr = row.getSnrSamples() > 0 ? (double) row.getSnrSum() / row.getSnrSamples() : null;
+        return new ActivityHistoryPoint(row.getBucketStart(), row.getBucketSeconds() / SECONDS_PER_MINUTE,
+                row.getSpotCount(), row.getMaxDistanceKm(), avgSnr);
+    }
+}
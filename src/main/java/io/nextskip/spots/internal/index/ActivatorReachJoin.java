@@ -0,0 +1,187 @@
+package io.nextskip.spots.internal.index;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationReach;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.model.Callsign;
+import io.nextskip.common.scheduler.CacheRefreshEvent;
+import io.nextskip.common.scheduler.CacheRefreshEventListener;
+import io.nextskip.spots.model.CallsignReach;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Joins the current POTA/SOTA activators against the {@link CallsignReachIndex}.
+ *
+ * <p>The build side is a table from each activator callsign to the transmitting
+ * callsigns it may be spotted as: the callsign as listed, its base call and the base
+ * call with {@code /P}, so "K7ABC/P" and "K7ABC" join either way. Looking up an
+ * activator probes the reach index with those keys, so reach covers the same window
+ * as every other reach lookup (15 minutes by default) instead of accumulating for as
+ * long as the activation stays listed. This replaces a per-minute SQL join of
+ * {@code activations} against the {@code spots} hypertable, where {@code spotted_call}
+ * is not indexed.
+ *
+ * <p>The table is rebuilt when an activations {@link CacheRefreshEvent} has reloaded
+ * the cache, on the thread completing the reload, so neither the spot stream nor
+ * request threads ever parse callsigns or build tables. Between refreshes, readers
+ * see the last table through a volatile reference.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class ActivatorReachJoin implements ActivationReachProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivatorReachJoin.class);
+
+    private static final String PORTABLE_SUFFIX = "/P";
+
+    private final LoadingCache<String, ActivationsReadModel> activationsCache;
+    private final CallsignReachIndex reachIndex;
+    private volatile JoinTable table = new JoinTable(null, Map.of());
+
+    public ActivatorReachJoin(LoadingCache<String, ActivationsReadModel> activationsCache,
+                              CallsignReachIndex reachIndex) {
+        this.activationsCache = activationsCache;
+        this.reachIndex = reachIndex;
+    }
+
+    /**
+     * Rebuilds the join table once an activations refresh has reloaded the cache.
+     *
+     * <p>Ordered after {@link CacheRefreshEventListener}, which starts the reload. The
+     * table is built from the reload's own result when it completes; if no reload is in
+     * flight any more, from the value it installed.
+     *
+     * @param event the post-commit cache refresh event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Order(CacheRefreshEventListener.ORDER + 1)
+    public void onCacheRefresh(CacheRefreshEvent event) {
+        if (!event.cacheNames().contains(CacheConfig.ACTIVATIONS)) {
+            return;
+        }
+        CompletableFuture<ActivationsReadModel> reload =
+                activationsCache.policy().refreshes().get(CacheConfig.CACHE_KEY);
+        if (reload != null) {
+            reload.thenAccept(this::rebuild);
+        } else {
+            // Quiet read: rebuilding must not trigger a refresh or count as a cache access
+            rebuild(activationsCache.policy().getIfPresentQuietly(CacheConfig.CACHE_KEY));
+        }
+    }
+
+    @Override
+    public ActivationReach getReach(Activation activation) {
+        List<String> keys = table.keys().get(activation.activatorCallsign());
+        if (keys == null) {
+            return null;
+        }
+        int spots = 0;
+        int maxDistanceKm = CallsignReachIndex.BandTally.NO_DISTANCE;
+        Set<String> continents = new TreeSet<>();
+        for (String key : keys) {
+            CallsignReach reach = reachIndex.lookup(key);
+            spots += reach.spotCount();
+            if (reach.maxDistanceKm() != null) {
+                maxDistanceKm = Math.max(maxDistanceKm, reach.maxDistanceKm());
+            }
+            continents.addAll(reach.continents());
+        }
+        if (spots == 0) {
+            return null;
+        }
+        return new ActivationReach(spots,
+                maxDistanceKm == CallsignReachIndex.BandTally.NO_DISTANCE ? null : maxDistanceKm,
+                continents);
+    }
+
+    /**
+     * Returns the number of activators on the build side of the join.
+     *
+     * @return distinct activator callsigns in the current table
+     */
+    public int getActivatorCount() {
+        return table.keys().size();
+    }
+
+    void rebuild(ActivationsReadModel model) {
+        List<Activation> activations = model != null ? model.activations() : null;
+        JoinTable existing = table;
+        if (activations == null || activations == existing.source()) {
+            return;
+        }
+        JoinTable rebuilt = JoinTable.build(activations);
+        table = rebuilt;
+        LOG.debug("Rebuilt activator join table: {} activators", rebuilt.keys().size());
+    }
+
+    /**
+     * Normalizes a callsign to its base call so "W1AW/P", "w1aw" and "F/W1AW" all join.
+     */
+    static String joinKey(String callsign) {
+        if (callsign == null || callsign.isBlank()) {
+            return null;
+        }
+        String normalized = callsign.trim().toUpperCase(Locale.ROOT);
+        if (normalized.indexOf('/') < 0 && normalized.indexOf('-') < 0) {
+            // Fast path for the common case; avoids the SSID regex
+            return normalized;
+        }
+        return new Callsign(normalized).getBaseCall();
+    }
+
+    /**
+     * Returns the reach index keys an activator may be spotted under.
+     */
+    static List<String> lookupKeys(String callsign) {
+        String base = joinKey(callsign);
+        if (base == null) {
+            return List.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(callsign.trim().toUpperCase(Locale.ROOT));
+        keys.add(base);
+        keys.add(base + PORTABLE_SUFFIX);
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Immutable build side of the join: the activation list it was built from and the
+     * lookup keys per activator callsign.
+     */
+    private record JoinTable(List<Activation> source, Map<String, List<String>> keys) {
+
+        static JoinTable build(List<Activation> activations) {
+            Map<String, List<String>> keys = new HashMap<>(activations.size() * 2);
+            for (Activation activation : activations) {
+                String callsign = activation.activatorCallsign();
+                if (callsign != null && !keys.containsKey(callsign)) {
+                    List<String> lookup = lookupKeys(callsign);
+                    if (!lookup.isEmpty()) {
+                        keys.put(callsign, lookup);
+                    }
+                }
+            }
+            return new JoinTable(activations, Map.copyOf(keys));
+        }
+    }
+}
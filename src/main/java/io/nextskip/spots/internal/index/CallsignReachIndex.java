@@ -0,0 +1,289 @@
+package io.nextskip.spots.internal.index;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.internal.stream.SpotStreamListener;
+import io.nextskip.spots.model.BandReach;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.Spot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory inverted index from transmitting callsign to recent reception reports.
+ *
+ * <p>Answers "who has heard my signal in the last 15 minutes and how far" without
+ * scanning the {@code spots} hypertable, where neither {@code spotter_call} nor
+ * {@code spotted_call} is indexed. The index is fed from {@code SpotStreamProcessor}
+ * as a {@link SpotStreamListener}.
+ *
+ * <p>Structure:
+ * <ul>
+ *   <li>A ring of fixed-width time buckets (default 15 × 1 minute)</li>
+ *   <li>Each bucket maps callsign → compact per-band tallies (count, max distance,
+ *       continent bitmask) rather than holding individual spot objects</li>
+ *   <li>Expiry is driven by bucket rotation: when a slot is reused for a newer
+ *       time bucket, the old bucket is replaced wholesale - there are no per-entry
+ *       timers or sweeps</li>
+ * </ul>
+ *
+ * <p>Memory is bounded by {@code max-callsigns-per-bucket}. Each entry costs roughly
+ * 150 bytes (map node, tally arrays for a single band; the callsign string is shared
+ * with the spot), so the default of 10,000 callsigns × 15 buckets caps the index at
+ * about 22 MB. Spots for new callsigns arriving after a bucket is full are counted
+ * in {@link #getRejectedSpots()} and dropped.
+ *
+ * <p>Lookups touch at most one map entry per bucket, keeping them well under a
+ * millisecond at peak FT8 volume.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class CallsignReachIndex implements SpotStreamListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CallsignReachIndex.class);
+
+    private final Clock clock;
+    private final long bucketMillis;
+    private final int windowBuckets;
+    private final int maxCallsignsPerBucket;
+    private final AtomicReferenceArray<ReachBucket> buckets;
+
+    private final AtomicLong rejectedSpots = new AtomicLong(0);
+
+    /**
+     * Creates the index with the given window and memory budget.
+     *
+     * @param clock                 clock used to decide which buckets are still in the window
+     * @param window                how far back lookups reach (default 15 minutes)
+     * @param bucketDuration        width of each rotation bucket (default 1 minute)
+     * @param maxCallsignsPerBucket maximum distinct callsigns tracked per bucket
+     */
+    public CallsignReachIndex(
+            Clock clock,
+            @Value("${nextskip.spots.reach-index.window:15m}") Duration window,
+            @Value("${nextskip.spots.reach-index.bucket-duration:1m}") Duration bucketDuration,
+            @Value("${nextskip.spots.reach-index.max-callsigns-per-bucket:10000}") int maxCallsignsPerBucket) {
+        if (bucketDuration.isZero() || bucketDuration.isNegative()) {
+            throw new IllegalArgumentException("Bucket duration must be positive: " + bucketDuration);
+        }
+        if (window.compareTo(bucketDuration) < 0) {
+            throw new IllegalArgumentException("Window " + window + " is shorter than bucket " + bucketDuration);
+        }
+        this.clock = clock;
+        this.bucketMillis = bucketDuration.toMillis();
+        this.windowBuckets = (int) ((window.toMillis() + bucketMillis - 1) / bucketMillis);
+        this.maxCallsignsPerBucket = maxCallsignsPerBucket;
+        this.buckets = new AtomicReferenceArray<>(windowBuckets);
+        LOG.info("Callsign reach index: {} buckets of {}, max {} callsigns per bucket",
+                windowBuckets, bucketDuration, maxCallsignsPerBucket);
+    }
+
+    /**
+     * Records a spot against its transmitting ({@code spotted}) callsign.
+     *
+     * <p>Spots without a callsign, older than the window, or arriving after the
+     * target bucket has reached its callsign budget are dropped.
+     *
+     * @param spot the enriched spot
+     */
+    @Override
+    public void onSpot(Spot spot) {
+        String callsign = normalize(spot.spottedCall());
+        if (callsign == null || spot.band() == null) {
+            return;
+        }
+
+        long nowEpoch = clock.millis() / bucketMillis;
+        long spotEpoch = spot.spottedAt() != null
+                ? Math.min(spot.spottedAt().toEpochMilli() / bucketMillis, nowEpoch)
+                : nowEpoch;
+
+        ReachBucket bucket = isInWindow(spotEpoch, nowEpoch) ? bucketFor(spotEpoch) : null;
+        if (bucket == null || !bucket.record(callsign, spot, maxCallsignsPerBucket)) {
+            rejectedSpots.incrementAndGet();
+        }
+    }
+
+    /**
+     * Looks up how widely a callsign has been heard within the window.
+     *
+     * @param callsign the transmitting station callsign (case-insensitive)
+     * @return reach summary; empty when the callsign has not been heard
+     */
+    public CallsignReach lookup(String callsign) {
+        String key = normalize(callsign);
+        long windowMinutes = Duration.ofMillis(bucketMillis * windowBuckets).toMinutes();
+        if (key == null) {
+            return CallsignReach.empty("", windowMinutes, clock.instant());
+        }
+
+        long nowEpoch = clock.millis() / bucketMillis;
+        Map<String, BandTally> merged = new LinkedHashMap<>();
+        for (int i = 0; i < windowBuckets; i++) {
+            ReachBucket bucket = buckets.get(i);
+            if (bucket != null && isInWindow(bucket.epoch(), nowEpoch)) {
+                bucket.mergeInto(key, merged);
+            }
+        }
+        return toReach(key, windowMinutes, merged);
+    }
+
+    /**
+     * Returns the number of spots that could not be indexed.
+     *
+     * <p>Includes spots outside the window and spots dropped because a bucket
+     * reached its callsign budget.
+     *
+     * @return rejected spot count since startup
+     */
+    public long getRejectedSpots() {
+        return rejectedSpots.get();
+    }
+
+    /**
+     * Returns the number of callsign entries currently held across live buckets.
+     *
+     * @return indexed entry count (one per callsign per bucket)
+     */
+    public int getIndexedEntries() {
+        long nowEpoch = clock.millis() / bucketMillis;
+        int total = 0;
+        for (int i = 0; i < windowBuckets; i++) {
+            ReachBucket bucket = buckets.get(i);
+            if (bucket != null && isInWindow(bucket.epoch(), nowEpoch)) {
+                total += bucket.size();
+            }
+        }
+        return total;
+    }
+
+    private boolean isInWindow(long epoch, long nowEpoch) {
+        return epoch > nowEpoch - windowBuckets && epoch <= nowEpoch;
+    }
+
+    /**
+     * Returns the bucket for an epoch, rotating out whatever older bucket held the slot.
+     *
+     * @return the bucket, or null if the slot already holds a newer bucket
+     */
+    private ReachBucket bucketFor(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) windowBuckets);
+        while (true) {
+            ReachBucket current = buckets.get(slot);
+            if (current != null && current.epoch() == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch() > epoch) {
+                return null;
+            }
+            ReachBucket fresh = new ReachBucket(epoch);
+            if (buckets.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private CallsignReach toReach(String callsign, long windowMinutes, Map<String, BandTally> merged) {
+        List<BandReach> bands = new ArrayList<>(merged.size());
+        int totalSpots = 0;
+        int maxDistance = BandTally.NO_DISTANCE;
+        int continentMask = 0;
+        for (Map.Entry<String, BandTally> entry : merged.entrySet()) {
+            BandTally tally = entry.getValue();
+            bands.add(tally.toBandReach(entry.getKey()));
+            totalSpots += tally.count;
+            maxDistance = Math.max(maxDistance, tally.maxDistanceKm);
+            continentMask |= tally.continentMask;
+        }
+        bands.sort(Comparator.comparingInt(BandReach::spotCount).reversed());
+        return new CallsignReach(
+                callsign,
+                windowMinutes,
+                totalSpots,
+                maxDistance == BandTally.NO_DISTANCE ? null : maxDistance,
+                Continents.fromMask(continentMask),
+                bands,
+                clock.instant());
+    }
+
+    private static String normalize(String callsign) {
+        if (callsign == null || callsign.isBlank()) {
+            return null;
+        }
+        return callsign.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Mutable per-band accumulator used while merging buckets during a lookup.
+     */
+    static final class BandTally {
+
+        static final int NO_DISTANCE = -1;
+
+        private int count;
+        private int maxDistanceKm = NO_DISTANCE;
+        private int continentMask;
+
+        void add(int spots, int distanceKm, int continents) {
+            count += spots;
+            maxDistanceKm = Math.max(maxDistanceKm, distanceKm);
+            continentMask |= continents;
+        }
+
+        BandReach toBandReach(String band) {
+            Set<String> continents = Continents.fromMask(continentMask);
+            return new BandReach(band, count,
+                    maxDistanceKm == NO_DISTANCE ? null : maxDistanceKm,
+                    continents);
+        }
+    }
+
+    /**
+     * Bit encoding of the seven continent codes used by the enrichers.
+     */
+    static final class Continents {
+
+        private static final String[] CODES = {"AF", "AN", "AS", "EU", "NA", "OC", "SA"};
+
+        private Continents() {
+        }
+
+        static int toBit(String continent) {
+            if (continent == null) {
+                return 0;
+            }
+            for (int i = 0; i < CODES.length; i++) {
+                if (CODES[i].equalsIgnoreCase(continent)) {
+                    return 1 << i;
+                }
+            }
+            return 0;
+        }
+
+        static Set<String> fromMask(int mask) {
+            Set<String> result = new TreeSet<>();
+            for (int i = 0; i < CODES.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    result.add(CODES[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
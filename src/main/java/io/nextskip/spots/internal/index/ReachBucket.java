@@ -0,0 +1,111 @@
+package io.nextskip.spots.internal.index;
+
+import io.nextskip.spots.model.Spot;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One time bucket of the {@link CallsignReachIndex} ring.
+ *
+ * <p>Holds a map from callsign to a compact per-band tally. Buckets are never
+ * cleared in place: when the ring rotates, the owning slot is pointed at a new
+ * bucket and this one becomes garbage, so readers always see a consistent bucket.
+ */
+final class ReachBucket {
+
+    private final long epoch;
+    private final Map<String, ReachCell> cells = new ConcurrentHashMap<>();
+
+    ReachBucket(long epoch) {
+        this.epoch = epoch;
+    }
+
+    long epoch() {
+        return epoch;
+    }
+
+    int size() {
+        return cells.size();
+    }
+
+    /**
+     * Records a spot for a callsign.
+     *
+     * @return false if the callsign is new and the bucket is already at capacity
+     */
+    boolean record(String callsign, Spot spot, int maxCallsigns) {
+        ReachCell cell = cells.get(callsign);
+        if (cell == null) {
+            if (cells.size() >= maxCallsigns) {
+                return false;
+            }
+            cell = cells.computeIfAbsent(callsign, k -> new ReachCell());
+        }
+        int distance = spot.distanceKm() != null ? spot.distanceKm() : CallsignReachIndex.BandTally.NO_DISTANCE;
+        cell.add(spot.band(), distance, CallsignReachIndex.Continents.toBit(spot.spotterContinent()));
+        return true;
+    }
+
+    void mergeInto(String callsign, Map<String, CallsignReachIndex.BandTally> merged) {
+        ReachCell cell = cells.get(callsign);
+        if (cell != null) {
+            cell.mergeInto(merged);
+        }
+    }
+
+    /**
+     * Per-callsign tallies stored as parallel arrays, one slot per band heard.
+     *
+     * <p>Most stations are heard on a single band within a bucket, so the arrays
+     * start at length one and grow only when a second band appears.
+     */
+    private static final class ReachCell {
+
+        private String[] bands = new String[1];
+        private int[] counts = new int[1];
+        private int[] maxDistances = new int[1];
+        private int[] continentMasks = new int[1];
+        private int size;
+
+        synchronized void add(String band, int distanceKm, int continentBit) {
+            int slot = indexOf(band);
+            if (slot < 0) {
+                slot = append(band);
+            }
+            counts[slot]++;
+            maxDistances[slot] = Math.max(maxDistances[slot], distanceKm);
+            continentMasks[slot] |= continentBit;
+        }
+
+        synchronized void mergeInto(Map<String, CallsignReachIndex.BandTally> merged) {
+            for (int i = 0; i < size; i++) {
+                merged.computeIfAbsent(bands[i], b -> new CallsignReachIndex.BandTally())
+                        .add(counts[i], maxDistances[i], continentMasks[i]);
+            }
+        }
+
+        private int indexOf(String band) {
+            for (int i = 0; i < size; i++) {
+                if (bands[i].equals(band)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int append(String band) {
+            if (size == bands.length) {
+                int capacity = size + 1;
+                bands = Arrays.copyOf(bands, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                maxDistances = Arrays.copyOf(maxDistances, capacity);
+                continentMasks = Arrays.copyOf(continentMasks, capacity);
+            }
+            bands[size] = band;
+            maxDistances[size] = CallsignReachIndex.BandTally.NO_DISTANCE;
+            return size++;
+        }
+    }
+}
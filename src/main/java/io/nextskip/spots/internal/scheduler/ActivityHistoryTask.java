@@ -0,0 +1,58 @@
+package io.nextskip.spots.internal.scheduler;
+
+import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
+import com.github.kagkarlsson.scheduler.task.helper.Tasks;
+import com.github.kagkarlsson.scheduler.task.schedule.FixedDelay;
+import io.nextskip.spots.internal.history.ActivityHistoryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Recurring tasks that maintain the long-term band activity history.
+ *
+ * <ul>
+ *   <li>{@code spot-activity-rollup} runs every minute and rolls recent spots up
+ *       into per-minute history rows</li>
+ *   <li>{@code spot-activity-compaction} runs every hour, downsamples minute rows
+ *       older than a day into hourly rows and drops history past 90 days</li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ActivityHistoryTask {
+
+    private static final String ROLLUP_TASK_NAME = "spot-activity-rollup";
+    private static final String COMPACTION_TASK_NAME = "spot-activity-compaction";
+    private static final Duration ROLLUP_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration COMPACTION_INTERVAL = Duration.ofHours(1);
+
+    /**
+     * Creates the recurring task bean for the per-minute history rollup.
+     *
+     * @param historyService the history service
+     * @return the configured recurring task
+     */
+    @Bean
+    public RecurringTask<Void> spotActivityRollupRecurringTask(ActivityHistoryService historyService) {
+        return Tasks.recurring(ROLLUP_TASK_NAME, FixedDelay.of(ROLLUP_INTERVAL))
+                .execute((taskInstance, executionContext) -> historyService.rollupRecentMinutes());
+    }
+
+    /**
+     * Creates the recurring task bean for history downsampling and retention.
+     *
+     * @param historyService the history service
+     * @return the configured recurring task
+     */
+    @Bean
+    public RecurringTask<Void> spotActivityCompactionRecurringTask(ActivityHistoryService historyService) {
+        return Tasks.recurring(COMPACTION_TASK_NAME, FixedDelay.of(COMPACTION_INTERVAL))
+                .execute((taskInstance, executionContext) -> {
+                    historyService.downsample();
+                    historyService.dropExpired();
+                });
+    }
+}
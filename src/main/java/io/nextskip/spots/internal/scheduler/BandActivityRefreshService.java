@@ -12,8 +12,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Service for refreshing band activity aggregations.
@@ -33,7 +35,7 @@ import java.util.Map;
  */
 @Service
 @ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
-public class BandActivityRefreshService extends AbstractRefreshService {
+public class BandActivityRefreshService extends AbstractRefreshService<Void> {
 
     private static final Logger LOG = LoggerFactory.getLogger(BandActivityRefreshService.class);
     private static final String SERVICE_NAME = "Band Activity";
@@ -51,9 +53,10 @@ public class BandActivityRefreshService extends AbstractRefreshService {
 
     public BandActivityRefreshService(
             ApplicationEventPublisher eventPublisher,
+            TransactionOperations transactionOperations,
             BandActivityAggregator aggregator,
             LoadingCache<String, Map<String, BandActivity>> bandActivityCache) {
-        super(eventPublisher);
+        super(eventPublisher, transactionOperations);
         this.eventPublisher = eventPublisher;
         this.aggregator = aggregator;
         this.bandActivityCache = bandActivityCache;
@@ -65,7 +68,7 @@ public class BandActivityRefreshService extends AbstractRefreshService {
     }
 
     @Override
-    protected void doRefresh() {
+    protected void doRefresh(Void fetched) {
         // Aggregate all bands with recent activity
         Map<String, BandActivity> activities = aggregator.aggregateAllBands();
 
@@ -89,8 +92,9 @@ public class BandActivityRefreshService extends AbstractRefreshService {
 
     @Override
     protected CacheRefreshEvent createCacheRefreshEvent() {
-        // Cache is already populated in doRefresh() — no action needed after commit.
-        return new CacheRefreshEvent("bandActivity", () -> { });
+        // Cache is already populated in doRefresh() — nothing to reload after commit,
+        // and no lag to time since readers saw the new value at once.
+        return new CacheRefreshEvent(Set.of(), () -> { });
     }
 
     @Override
@@ -11,6 +11,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -38,15 +39,18 @@ public class BandActivityRefreshTask implements RefreshTaskCoordinator {
     private static final Duration STALE_THRESHOLD = Duration.ofMinutes(5);
 
     private final SpotRepository spotRepository;
+    private final BandActivityRefreshService refreshService;
     private RecurringTask<Void> recurringTask;
 
     /**
      * Creates a new band activity refresh task coordinator.
      *
      * @param spotRepository the spot repository
+     * @param refreshService the service run by the recurring task and the startup warm-up
      */
-    public BandActivityRefreshTask(SpotRepository spotRepository) {
+    public BandActivityRefreshTask(SpotRepository spotRepository, BandActivityRefreshService refreshService) {
         this.spotRepository = spotRepository;
+        this.refreshService = refreshService;
     }
 
     /**
@@ -91,6 +95,11 @@ public class BandActivityRefreshTask implements RefreshTaskCoordinator {
         return spotRepository.countBySpottedAtAfter(recent) > 0;
     }
 
+    @Override
+    public Mono<Void> executeInitialLoad() {
+        return refreshService.executeRefreshAsync();
+    }
+
     @Override
     public String getTaskName() {
         return TASK_NAME;
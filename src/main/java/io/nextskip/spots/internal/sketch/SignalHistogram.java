@@ -0,0 +1,96 @@
+package io.nextskip.spots.internal.sketch;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bin histograms of SNR and distance for one pane and path.
+ *
+ * <p>Both quantities live on small bounded domains, so fixed bins give a
+ * mergeable quantile sketch with a hard error bound and no compaction step:
+ * <ul>
+ *   <li>SNR: one bin per dB from -40 to +60 dB (exact; reports outside the
+ *       range are clamped to the end bins)</li>
+ *   <li>Distance: 50 km bins up to 20,100 km, half the Earth's circumference
+ *       (quantiles reported at bin centres, within 25 km)</li>
+ * </ul>
+ *
+ * <p>Counts are unsigned 16-bit and saturate, keeping a histogram at about 1 KB.
+ */
+final class SignalHistogram {
+
+    static final int SNR_MIN_DB = -40;
+    static final int SNR_BINS = 101;
+    static final int DISTANCE_BIN_KM = 50;
+    static final int DISTANCE_BINS = 402;
+
+    private final char[] snr = new char[SNR_BINS];
+    private final char[] distance = new char[DISTANCE_BINS];
+
+    void add(Integer snrDb, Integer distanceKm) {
+        if (snrDb != null) {
+            increment(snr, Math.max(0, Math.min(SNR_BINS - 1, snrDb - SNR_MIN_DB)));
+        }
+        if (distanceKm != null && distanceKm >= 0) {
+            increment(distance, Math.min(DISTANCE_BINS - 1, distanceKm / DISTANCE_BIN_KM));
+        }
+    }
+
+    void clear() {
+        Arrays.fill(snr, (char) 0);
+        Arrays.fill(distance, (char) 0);
+    }
+
+    void mergeInto(int[] snrOut, int[] distanceOut) {
+        for (int i = 0; i < SNR_BINS; i++) {
+            snrOut[i] += snr[i];
+        }
+        for (int i = 0; i < DISTANCE_BINS; i++) {
+            distanceOut[i] += distance[i];
+        }
+    }
+
+    /**
+     * Returns the SNR at quantile {@code q} of a merged SNR histogram.
+     *
+     * @return SNR in dB, or null if the histogram is empty
+     */
+    static Integer snrQuantile(int[] counts, double q) {
+        int bin = quantileBin(counts, q);
+        return bin < 0 ? null : SNR_MIN_DB + bin;
+    }
+
+    /**
+     * Returns the distance at quantile {@code q} of a merged distance histogram.
+     *
+     * @return bin-centre distance in km, or null if the histogram is empty
+     */
+    static Integer distanceQuantile(int[] counts, double q) {
+        int bin = quantileBin(counts, q);
+        return bin < 0 ? null : bin * DISTANCE_BIN_KM + DISTANCE_BIN_KM / 2;
+    }
+
+    private static int quantileBin(int[] counts, double q) {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return -1;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return i;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    private static void increment(char[] bins, int index) {
+        if (bins[index] != Character.MAX_VALUE) {
+            bins[index]++;
+        }
+    }
+}
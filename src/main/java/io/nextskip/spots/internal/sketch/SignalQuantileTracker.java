@@ -0,0 +1,114 @@
+package io.nextskip.spots.internal.sketch;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.internal.stream.SpotStreamListener;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.ModeWindow;
+import io.nextskip.spots.model.SignalQuantiles;
+import io.nextskip.spots.model.Spot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streaming SNR and distance percentiles per band, mode and continent path.
+ *
+ * <p>Percentiles over the {@code spots} hypertable would need a sort per band
+ * every minute. Instead, each spot is added to fixed-bin histograms (see
+ * {@link SignalHistogram}) held in short panes - one minute by default - that
+ * merge into each mode's {@link ModeWindow} current window on read. Histograms
+ * are exactly mergeable, so the merged result equals a histogram over the
+ * whole window.
+ *
+ * <p>Footprint per band and mode is at most
+ * {@code panes × (paths + 1) × ~1 KB}: about 100 KB for FT8 (15 panes) and
+ * 420 KB for SSB (60 panes) when every path is active.
+ *
+ * <p>Consumed by {@link io.nextskip.spots.internal.aggregation.BandActivityAggregator}
+ * to attach {@link SignalQuantiles} to each {@link io.nextskip.spots.model.BandActivity}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class SignalQuantileTracker implements SpotStreamListener {
+
+    private final Clock clock;
+    private final long paneMillis;
+    private final Map<String, WindowedSignalQuantiles> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the tracker.
+     *
+     * @param clock        clock for window expiry
+     * @param paneDuration width of each sub-window that merges into the mode window
+     */
+    public SignalQuantileTracker(
+            Clock clock,
+            @Value("${nextskip.spots.quantiles.pane-duration:1m}") Duration paneDuration) {
+        if (paneDuration.isZero() || paneDuration.isNegative()) {
+            throw new IllegalArgumentException("Pane duration must be positive: " + paneDuration);
+        }
+        this.clock = clock;
+        this.paneMillis = paneDuration.toMillis();
+    }
+
+    @Override
+    public void onSpot(Spot spot) {
+        if (spot.band() == null || spot.mode() == null) {
+            return;
+        }
+        String mode = spot.mode().toUpperCase(Locale.ROOT);
+        WindowedSignalQuantiles window = windows.computeIfAbsent(key(spot.band(), mode), k -> newWindow(mode));
+        ContinentPath path = ContinentPath.fromContinents(spot.spotterContinent(), spot.spottedContinent())
+                .orElse(null);
+
+        long now = clock.millis();
+        long time = spot.spottedAt() != null ? Math.min(spot.spottedAt().toEpochMilli(), now) : now;
+        window.record(path, spot.snr(), spot.distanceKm(), time, now);
+    }
+
+    /**
+     * Returns SNR and distance percentiles over all spots for a band and mode.
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (case-insensitive)
+     * @return percentiles over the mode's current window, or null if no spots
+     */
+    public SignalQuantiles getQuantiles(String band, String mode) {
+        WindowedSignalQuantiles window = find(band, mode);
+        return window != null ? window.overall(clock.millis()) : null;
+    }
+
+    /**
+     * Returns SNR and distance percentiles per continent path for a band and mode.
+     *
+     * @param band the band name (e.g., "20m")
+     * @param mode the mode (case-insensitive)
+     * @return percentiles for each path with spots in the window, empty if none
+     */
+    public Map<ContinentPath, SignalQuantiles> getPathQuantiles(String band, String mode) {
+        WindowedSignalQuantiles window = find(band, mode);
+        return window != null ? window.byPath(clock.millis()) : Map.of();
+    }
+
+    private WindowedSignalQuantiles find(String band, String mode) {
+        if (band == null || mode == null) {
+            return null;
+        }
+        return windows.get(key(band, mode.toUpperCase(Locale.ROOT)));
+    }
+
+    private WindowedSignalQuantiles newWindow(String mode) {
+        return new WindowedSignalQuantiles(ModeWindow.forMode(mode).getCurrentWindow().toMillis(), paneMillis);
+    }
+
+    private static String key(String band, String mode) {
+        return band + '|' + mode;
+    }
+}
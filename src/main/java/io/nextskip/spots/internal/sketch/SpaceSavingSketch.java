@@ -0,0 +1,129 @@
+package io.nextskip.spots.internal.sketch;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy-hitters sketch (Metwally, Agrawal and El Abbadi, 2005).
+ *
+ * <p>Tracks approximate counts for the most frequent keys in a stream using a
+ * fixed number of counters. When a new key arrives and all counters are in use,
+ * the counter with the smallest count is reassigned to the new key, which
+ * inherits that count as its overestimation error.
+ *
+ * <p>Guarantees, for a stream of {@code N} items and {@code m} counters:
+ * <ul>
+ *   <li>Estimates never undercount: {@code true ≤ estimate ≤ true + N/m}</li>
+ *   <li>Each counter's {@code error} is an upper bound on its own overcount,
+ *       so {@code estimate - error} is a guaranteed lower bound</li>
+ *   <li>Any key with true frequency above {@code N/m} is always tracked</li>
+ * </ul>
+ *
+ * <p>Eviction scans the counters for the minimum, so {@link #offer} is O(m) once
+ * the sketch is full. With the small capacities used per band and mode this is
+ * cheaper than maintaining a linked stream-summary and allocates nothing per
+ * offer for keys already tracked.
+ *
+ * <p>Not thread-safe; callers synchronize externally.
+ */
+final class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private long total;
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     *
+     * @param key the item to count
+     */
+    void offer(String key) {
+        total++;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count++;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, 1, 0));
+            return;
+        }
+        Counter min = minCounter();
+        counters.remove(min.key);
+        min.error = min.count;
+        min.count++;
+        min.key = key;
+        counters.put(key, min);
+    }
+
+    /**
+     * Returns the smallest tracked count, or 0 when the sketch is not yet full.
+     *
+     * <p>Any key not currently tracked occurred at most this many times.
+     *
+     * @return upper bound on the count of untracked keys
+     */
+    long minCount() {
+        return counters.size() < capacity ? 0 : minCounter().count;
+    }
+
+    long total() {
+        return total;
+    }
+
+    Collection<Counter> counters() {
+        return counters.values();
+    }
+
+    private Counter minCounter() {
+        Counter min = null;
+        for (Counter counter : counters.values()) {
+            if (min == null || counter.count < min.count) {
+                min = counter;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * A tracked key with its estimated count and overestimation bound.
+     */
+    static final class Counter {
+
+        static final Comparator<Counter> BY_COUNT_DESC = Comparator
+                .comparingLong((Counter c) -> c.count).reversed()
+                .thenComparing(c -> c.key);
+
+        private String key;
+        private long count;
+        private long error;
+
+        Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        String key() {
+            return key;
+        }
+
+        long count() {
+            return count;
+        }
+
+        long error() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.nextskip.spots.internal.sketch;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.spots.internal.stream.SpotStreamListener;
+import io.nextskip.spots.model.ModeWindow;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.spots.model.TopStation;
+import io.nextskip.spots.model.TopStations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the most-spotted stations per band and mode from the live spot stream.
+ *
+ * <p>Replaces a {@code GROUP BY spotted_call ORDER BY count DESC} scan of the
+ * {@code spots} hypertable with one {@link WindowedTopK} per band and mode,
+ * windowed by the mode's {@link ModeWindow} current window.
+ *
+ * <p>Bounds:
+ * <ul>
+ *   <li>Memory: {@code panes × capacity} counters per band and mode
+ *       (default 5 × 64, about 30 KB per band/mode)</li>
+ *   <li>Error: reported counts overestimate by at most {@code N / capacity} for
+ *       {@code N} spots on that band and mode in the window; each
+ *       {@link TopStation} carries its own tighter {@code maxError}</li>
+ *   <li>Recall: every station with more than {@code N / capacity} spots appears
+ *       in the sketch, so the reported top stations are reliable whenever
+ *       {@code limit} is well below {@code capacity}</li>
+ * </ul>
+ *
+ * <p>Readers never touch the sketches directly. A snapshot is rebuilt on a
+ * fixed delay and published through a volatile field, so dashboard requests
+ * cost a field read.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
+@SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "Spring-managed beans are intentionally shared")
+public class TopStationsTracker implements SpotStreamListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TopStationsTracker.class);
+
+    private static final Comparator<TopStations> BY_BAND_AND_MODE = Comparator
+            .comparing(TopStations::band)
+            .thenComparing(TopStations::mode);
+
+    private final Clock clock;
+    private final int capacity;
+    private final int panes;
+    private final int limit;
+    private final Map<String, WindowedTopK> sketches = new ConcurrentHashMap<>();
+
+    private volatile List<TopStations> snapshot = List.of();
+
+    /**
+     * Creates the tracker.
+     *
+     * @param clock    clock for window expiry and snapshot timestamps
+     * @param capacity Space-Saving counters per pane (controls error bound)
+     * @param panes    number of panes each window is split into (controls expiry granularity)
+     * @param limit    number of stations reported per band and mode
+     */
+    public TopStationsTracker(
+            Clock clock,
+            @Value("${nextskip.spots.top-stations.capacity:64}") int capacity,
+            @Value("${nextskip.spots.top-stations.panes:5}") int panes,
+            @Value("${nextskip.spots.top-stations.limit:10}") int limit) {
+        if (capacity < 1 || panes < 1 || limit < 1) {
+            throw new IllegalArgumentException(
+                    "capacity, panes and limit must be positive: " + capacity + ", " + panes + ", " + limit);
+        }
+        this.clock = clock;
+        this.capacity = capacity;
+        this.panes = panes;
+        this.limit = limit;
+    }
+
+    @Override
+    public void onSpot(Spot spot) {
+        if (spot.band() == null || spot.mode() == null || spot.spottedCall() == null) {
+            return;
+        }
+        String mode = spot.mode().toUpperCase(Locale.ROOT);
+        WindowedTopK sketch = sketches.computeIfAbsent(spot.band() + '|' + mode, k -> newSketch(mode));
+
+        long now = clock.millis();
+        long time = spot.spottedAt() != null ? Math.min(spot.spottedAt().toEpochMilli(), now) : now;
+        sketch.offer(spot.spottedCall().toUpperCase(Locale.ROOT), time, now);
+    }
+
+    /**
+     * Returns the most recently published snapshot.
+     *
+     * @return top stations per band and mode, ordered by band then mode
+     */
+    public List<TopStations> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds and publishes the snapshot from the current sketches.
+     *
+     * <p>Band/mode combinations with no spots in their window are omitted.
+     */
+    @Scheduled(fixedDelayString = "${nextskip.spots.top-stations.snapshot-interval:PT15S}")
+    public void refreshSnapshot() {
+        long now = clock.millis();
+        Instant calculatedAt = Instant.ofEpochMilli(now);
+        List<TopStations> result = new ArrayList<>(sketches.size());
+        for (Map.Entry<String, WindowedTopK> entry : sketches.entrySet()) {
+            WindowedTopK.Result top = entry.getValue().top(limit, now);
+            if (top.total() == 0) {
+                continue;
+            }
+            String key = entry.getKey();
+            int separator = key.indexOf('|');
+            String mode = key.substring(separator + 1);
+            result.add(new TopStations(
+                    key.substring(0, separator),
+                    mode,
+                    ModeWindow.forMode(mode).getCurrentWindow().toMinutes(),
+                    top.total(),
+                    top.entries().stream()
+                            .map(c -> new TopStation(c.key(), c.count(), c.error()))
+                            .toList(),
+                    calculatedAt));
+        }
+        result.sort(BY_BAND_AND_MODE);
+        snapshot = List.copyOf(result);
+        LOG.debug("Published top-stations snapshot for {} band/mode combinations", result.size());
+    }
+
+    private WindowedTopK newSketch(String mode) {
+        return new WindowedTopK(ModeWindow.forMode(mode).getCurrentWindow().toMillis(), panes, capacity);
+    }
+}
@@ -0,0 +1,129 @@
+package io.nextskip.spots.internal.sketch;
+
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.SignalQuantiles;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * SNR and distance histograms for one band and mode, kept per {@link ContinentPath}
+ * in a ring of short panes that merge into the mode's window.
+ *
+ * <p>Each pane has one slot per path plus an "all spots" slot. Slot histograms are
+ * allocated the first time a path is seen and cleared in place when the pane
+ * rotates, so the footprint stops growing once every active path has appeared.
+ */
+final class WindowedSignalQuantiles {
+
+    private static final ContinentPath[] PATHS = ContinentPath.values();
+    private static final int ALL_SLOT = PATHS.length;
+
+    private final long paneMillis;
+    private final long[] paneEpochs;
+    private final int[][] slotSpots;
+    private final SignalHistogram[][] panes;
+
+    WindowedSignalQuantiles(long windowMillis, long paneMillis) {
+        this.paneMillis = paneMillis;
+        int paneCount = (int) Math.max(1, (windowMillis + paneMillis - 1) / paneMillis);
+        this.paneEpochs = new long[paneCount];
+        this.slotSpots = new int[paneCount][PATHS.length + 1];
+        this.panes = new SignalHistogram[paneCount][PATHS.length + 1];
+        Arrays.fill(paneEpochs, Long.MIN_VALUE);
+    }
+
+    /**
+     * Records a spot's SNR and distance under its path and the "all spots" slot.
+     *
+     * @param path the spot's continent path, or null if it has none
+     * @return false if the spot is older than the window
+     */
+    synchronized boolean record(ContinentPath path, Integer snr, Integer distanceKm, long timeMillis, long nowMillis) {
+        long epoch = timeMillis / paneMillis;
+        if (!isLive(epoch, nowMillis / paneMillis)) {
+            return false;
+        }
+        int index = (int) Math.floorMod(epoch, (long) panes.length);
+        if (paneEpochs[index] < epoch) {
+            for (SignalHistogram histogram : panes[index]) {
+                if (histogram != null) {
+                    histogram.clear();
+                }
+            }
+            paneEpochs[index] = epoch;
+            Arrays.fill(slotSpots[index], 0);
+        } else if (paneEpochs[index] > epoch) {
+            return false;
+        }
+
+        add(index, ALL_SLOT, snr, distanceKm);
+        if (path != null) {
+            add(index, path.ordinal(), snr, distanceKm);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the quantiles over all spots in the window.
+     *
+     * @return quantiles, or null if there were no spots in the window
+     */
+    synchronized SignalQuantiles overall(long nowMillis) {
+        return merge(ALL_SLOT, nowMillis);
+    }
+
+    /**
+     * Returns the quantiles per continent path.
+     *
+     * @return quantiles for each path with spots in the window
+     */
+    synchronized Map<ContinentPath, SignalQuantiles> byPath(long nowMillis) {
+        Map<ContinentPath, SignalQuantiles> result = new EnumMap<>(ContinentPath.class);
+        for (ContinentPath path : PATHS) {
+            SignalQuantiles quantiles = merge(path.ordinal(), nowMillis);
+            if (quantiles != null) {
+                result.put(path, quantiles);
+            }
+        }
+        return result;
+    }
+
+    private SignalQuantiles merge(int slot, long nowMillis) {
+        long nowEpoch = nowMillis / paneMillis;
+        int[] snr = new int[SignalHistogram.SNR_BINS];
+        int[] distance = new int[SignalHistogram.DISTANCE_BINS];
+        int samples = 0;
+        for (int i = 0; i < panes.length; i++) {
+            SignalHistogram histogram = panes[i][slot];
+            if (histogram != null && isLive(paneEpochs[i], nowEpoch)) {
+                histogram.mergeInto(snr, distance);
+                samples += slotSpots[i][slot];
+            }
+        }
+        if (samples == 0) {
+            return null;
+        }
+        return new SignalQuantiles(
+                samples,
+                SignalHistogram.snrQuantile(snr, 0.5),
+                SignalHistogram.snrQuantile(snr, 0.9),
+                SignalHistogram.distanceQuantile(distance, 0.5),
+                SignalHistogram.distanceQuantile(distance, 0.9));
+    }
+
+    private void add(int pane, int slot, Integer snr, Integer distanceKm) {
+        SignalHistogram histogram = panes[pane][slot];
+        if (histogram == null) {
+            histogram = new SignalHistogram();
+            panes[pane][slot] = histogram;
+        }
+        histogram.add(snr, distanceKm);
+        slotSpots[pane][slot]++;
+    }
+
+    private boolean isLive(long epoch, long nowEpoch) {
+        return epoch > nowEpoch - panes.length && epoch <= nowEpoch;
+    }
+}
@@ -0,0 +1,122 @@
+package io.nextskip.spots.internal.sketch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sliding-window top-K built from a ring of {@link SpaceSavingSketch} panes.
+ *
+ * <p>The window is split into equal panes; each pane has its own sketch and
+ * whole panes expire as time advances. Queries merge the live panes using the
+ * standard mergeable-summary rule: a key missing from a pane is charged that
+ * pane's minimum count as both estimate and error, which keeps the merged
+ * estimate an upper bound with error at most {@code N/m} for {@code N} spots
+ * in the window and {@code m} counters per pane.
+ *
+ * <p>The window covers the current (partial) pane plus the preceding full panes,
+ * so its effective length varies between {@code window - pane} and {@code window}.
+ *
+ * <p>All methods synchronize on the instance; contention is limited to the
+ * stream thread and the periodic snapshot.
+ */
+final class WindowedTopK {
+
+    private final long paneMillis;
+    private final int capacity;
+    private final SpaceSavingSketch[] panes;
+    private final long[] paneEpochs;
+
+    WindowedTopK(long windowMillis, int paneCount, int capacity) {
+        this.paneMillis = Math.max(1, windowMillis / paneCount);
+        this.capacity = capacity;
+        this.panes = new SpaceSavingSketch[paneCount];
+        this.paneEpochs = new long[paneCount];
+    }
+
+    long paneMillis() {
+        return paneMillis;
+    }
+
+    /**
+     * Counts a key at the given time.
+     *
+     * @param key        the item to count
+     * @param timeMillis event time, already clamped to now by the caller
+     * @param nowMillis  current time
+     * @return false if the event is older than the window and was dropped
+     */
+    synchronized boolean offer(String key, long timeMillis, long nowMillis) {
+        long epoch = timeMillis / paneMillis;
+        if (!isLive(epoch, nowMillis / paneMillis)) {
+            return false;
+        }
+        int slot = (int) Math.floorMod(epoch, (long) panes.length);
+        if (panes[slot] == null || paneEpochs[slot] < epoch) {
+            panes[slot] = new SpaceSavingSketch(capacity);
+            paneEpochs[slot] = epoch;
+        } else if (paneEpochs[slot] > epoch) {
+            return false;
+        }
+        panes[slot].offer(key);
+        return true;
+    }
+
+    /**
+     * Merges the live panes and returns the top entries.
+     *
+     * @param limit     maximum number of entries
+     * @param nowMillis current time
+     * @return merged result; empty when nothing is in the window
+     */
+    synchronized Result top(int limit, long nowMillis) {
+        long nowEpoch = nowMillis / paneMillis;
+        List<SpaceSavingSketch> live = new ArrayList<>(panes.length);
+        for (int i = 0; i < panes.length; i++) {
+            if (panes[i] != null && isLive(paneEpochs[i], nowEpoch)) {
+                live.add(panes[i]);
+            }
+        }
+
+        long total = 0;
+        long minTotal = 0;
+        for (SpaceSavingSketch pane : live) {
+            total += pane.total();
+            minTotal += pane.minCount();
+        }
+        long minSum = minTotal;
+        Map<String, long[]> merged = new HashMap<>();
+        for (SpaceSavingSketch pane : live) {
+            long paneMin = pane.minCount();
+            for (SpaceSavingSketch.Counter counter : pane.counters()) {
+                // Start each key at the "absent everywhere" bound, then swap in real counts
+                long[] acc = merged.computeIfAbsent(counter.key(), k -> new long[] {minSum, minSum});
+                acc[0] += counter.count() - paneMin;
+                acc[1] += counter.error() - paneMin;
+            }
+        }
+
+        List<SpaceSavingSketch.Counter> ranked = new ArrayList<>(merged.size());
+        for (Map.Entry<String, long[]> entry : merged.entrySet()) {
+            long[] acc = entry.getValue();
+            ranked.add(new SpaceSavingSketch.Counter(entry.getKey(), acc[0], acc[1]));
+        }
+        ranked.sort(SpaceSavingSketch.Counter.BY_COUNT_DESC);
+        List<SpaceSavingSketch.Counter> topEntries = ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+        return new Result(total, List.copyOf(topEntries));
+    }
+
+    private boolean isLive(long epoch, long nowEpoch) {
+        return epoch > nowEpoch - panes.length && epoch <= nowEpoch;
+    }
+
+    /**
+     * Merged top entries with the exact number of items in the window.
+     *
+     * @param total   exact count of items offered within the window
+     * @param entries top entries, highest estimated count first
+     */
+    record Result(long total, List<SpaceSavingSketch.Counter> entries) {
+    }
+}
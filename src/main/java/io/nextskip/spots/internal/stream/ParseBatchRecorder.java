@@ -0,0 +1,86 @@
+package io.nextskip.spots.internal.stream;
+
+import io.nextskip.common.jfr.SpotParseBatchEvent;
+
+import java.time.Duration;
+
+/**
+ * Groups the parse and enrich timings of consecutive stream messages into
+ * {@link SpotParseBatchEvent}s.
+ *
+ * <p>A window closes after {@code batchSize} messages or, at the next message, once
+ * {@code batchTimeout} has passed, mirroring the persistence batches. Whether a window
+ * is recorded is decided when it opens, so outside a JFR recording a message costs
+ * only a counter decrement.
+ *
+ * <p>Not thread-safe: the stream runs its fused map stages one element at a time.
+ */
+final class ParseBatchRecorder {
+
+    private final int batchSize;
+    private final long batchTimeoutNanos;
+
+    private SpotParseBatchEvent event;
+    private long openedNanos;
+    private int remaining;
+
+    ParseBatchRecorder(int batchSize, Duration batchTimeout) {
+        this.batchSize = batchSize;
+        this.batchTimeoutNanos = batchTimeout.toNanos();
+    }
+
+    /**
+     * Counts a message into the current window, rolling over to a new window when due.
+     *
+     * @return true if the window is being recorded and the message should be timed
+     */
+    boolean nextMessage() {
+        if (remaining == 0 || event != null && System.nanoTime() - openedNanos >= batchTimeoutNanos) {
+            close();
+            open();
+        }
+        remaining--;
+        return event != null;
+    }
+
+    /**
+     * Adds a timed message to the current window.
+     *
+     * @param payloadLength message length in characters
+     * @param parsed        whether the message parsed into a spot
+     * @param parseNanos    time spent parsing
+     * @param enrichNanos   time spent enriching
+     */
+    void record(int payloadLength, boolean parsed, long parseNanos, long enrichNanos) {
+        event.messages++;
+        event.payloadBytes += payloadLength;
+        if (parsed) {
+            event.spots++;
+        }
+        event.parseTime += parseNanos;
+        event.enrichTime += enrichNanos;
+    }
+
+    /**
+     * Commits the current window, if it is being recorded.
+     */
+    void close() {
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+            event = null;
+        }
+    }
+
+    private void open() {
+        remaining = batchSize;
+        SpotParseBatchEvent candidate = new SpotParseBatchEvent();
+        if (candidate.isEnabled()) {
+            candidate.begin();
+            openedNanos = System.nanoTime();
+            event = candidate;
+        }
+    }
+}
@@ -47,6 +47,8 @@ public class SpotStreamConfig {
      *
      * <p>Default is 2 threads, optimized for single-core production where
      * DB operations are I/O-bound (allows overlap while waiting for I/O).
+     * The pool can be resized at runtime through
+     * {@link SpotStreamProcessor#setPersistenceThreads(int)}.
      *
      * @param threads number of threads in the pool (default: 2)
      * @return the ExecutorService for spot persistence
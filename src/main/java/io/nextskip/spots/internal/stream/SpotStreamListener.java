@@ -0,0 +1,32 @@
+package io.nextskip.spots.internal.stream;
+
+import io.nextskip.spots.model.Spot;
+
+/**
+ * Receives every enriched spot as it flows through {@link SpotStreamProcessor}.
+ *
+ * <p>Listeners maintain in-memory views over the live spot stream (indexes,
+ * sketches, detectors) without touching the {@code spots} hypertable. They are
+ * invoked synchronously from the stream's enrichment stage, after distance and
+ * continent enrichment and before batching for persistence.
+ *
+ * <p>Implementations must:
+ * <ul>
+ *   <li>Return quickly - the call sits on the hot path of every spot</li>
+ *   <li>Never block on I/O</li>
+ *   <li>Be safe for concurrent reads from request threads while the stream writes</li>
+ * </ul>
+ *
+ * <p>Exceptions thrown by a listener are logged and swallowed by the processor
+ * so that one faulty view cannot stall ingestion or persistence.
+ */
+@FunctionalInterface
+public interface SpotStreamListener {
+
+    /**
+     * Called once for each enriched spot.
+     *
+     * @param spot the enriched spot (never null)
+     */
+    void onSpot(Spot spot);
+}
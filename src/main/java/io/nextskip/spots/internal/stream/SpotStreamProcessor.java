@@ -1,7 +1,9 @@
 package io.nextskip.spots.internal.stream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.nextskip.common.jfr.SpotPersistEvent;
 import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.enrichment.CallsignEnricher;
 import io.nextskip.spots.internal.enrichment.ContinentEnricher;
 import io.nextskip.spots.internal.enrichment.DistanceEnricher;
 import io.nextskip.spots.internal.parser.PskReporterJsonParser;
@@ -33,13 +35,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Pekko Streams processor for PSKReporter spots.
@@ -49,13 +56,21 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li><b>Source</b>: MQTT messages from {@link SpotSource}</li>
  *   <li><b>Buffer</b>: 10K elements with dropHead overflow strategy</li>
  *   <li><b>Parse</b>: JSON to Spot via {@link PskReporterJsonParser}</li>
- *   <li><b>Enrich</b>: Add distance and continent via enrichers</li>
+ *   <li><b>Enrich</b>: Add distance, then continent from callsign (cty.dat) with a grid fallback</li>
+ *   <li><b>Observe</b>: Notify {@link SpotStreamListener}s (in-memory indexes and sketches)</li>
  *   <li><b>Batch</b>: Group 100 spots or 1 second timeout</li>
  *   <li><b>Persist</b>: Async batch insert via {@link SpotRepository}</li>
  * </ol>
  *
  * <p>Backpressure is handled at the buffer stage. When the buffer fills,
  * oldest messages are dropped to prioritize recent data.
+ *
+ * <p>The batching, buffer and parallelism settings can be changed at runtime with
+ * {@link #reconfigure(StreamSettings)}, which materializes a new stream and lets the
+ * previous one drain its buffer, so no accepted message is lost.
+ *
+ * <p>Parse and enrich timings are recorded as {@code SpotParseBatchEvent}s and each batch
+ * insert as a {@link SpotPersistEvent} while a JFR recording has them enabled.
  */
 @Component
 @ConditionalOnProperty(prefix = "nextskip.spots", name = "enabled", havingValue = "true", matchIfMissing = true)
@@ -65,25 +80,32 @@ public class SpotStreamProcessor {
     private static final Logger LOG = LoggerFactory.getLogger(SpotStreamProcessor.class);
     private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
 
+    /**
+     * Fixed-width columns of a spot row: id, frequency, SNR, timestamp and distance.
+     */
+    private static final int FIXED_ROW_BYTES = 32;
+
     private final ActorSystem actorSystem;
     private final SpotSource spotSource;
     private final PskReporterJsonParser parser;
     private final DistanceEnricher distanceEnricher;
+    private final CallsignEnricher callsignEnricher;
     private final ContinentEnricher continentEnricher;
     private final SpotRepository spotRepository;
     private final ExecutorService persistenceExecutor;
+    private final List<SpotStreamListener> listeners;
 
-    private final int batchSize;
-    private final Duration batchTimeout;
-    private final int bufferSize;
-    private final int persistenceParallelism;
+    private final AtomicReference<SourceQueueWithComplete<String>> queue = new AtomicReference<>();
 
     private final AtomicLong spotsProcessed = new AtomicLong(0);
     private final AtomicLong batchesPersisted = new AtomicLong(0);
     private final AtomicLong droppedMessages = new AtomicLong(0);
 
+    private volatile StreamSettings settings;
     private volatile UniqueKillSwitch killSwitch;
     private volatile CompletionStage<Done> streamCompletion;
+    // Completions of streams replaced by reconfigure() that are still draining
+    private final Set<CompletableFuture<Done>> draining = ConcurrentHashMap.newKeySet();
 
     /**
      * Supervision strategy that resumes processing on transient errors.
@@ -100,9 +122,11 @@ public class SpotStreamProcessor {
             SpotSource spotSource,
             PskReporterJsonParser parser,
             DistanceEnricher distanceEnricher,
+            CallsignEnricher callsignEnricher,
             ContinentEnricher continentEnricher,
             SpotRepository spotRepository,
             ExecutorService spotPersistenceExecutor,
+            List<SpotStreamListener> listeners,
             @Value("${nextskip.spots.processing.batch-size:100}") int batchSize,
             @Value("${nextskip.spots.processing.batch-timeout:1s}") Duration batchTimeout,
             @Value("${nextskip.spots.processing.buffer-size:10000}") int bufferSize,
@@ -111,71 +135,169 @@ public class SpotStreamProcessor {
         this.spotSource = spotSource;
         this.parser = parser;
         this.distanceEnricher = distanceEnricher;
+        this.callsignEnricher = callsignEnricher;
         this.continentEnricher = continentEnricher;
         this.spotRepository = spotRepository;
         this.persistenceExecutor = spotPersistenceExecutor;
-        this.batchSize = batchSize;
-        this.batchTimeout = batchTimeout;
-        this.bufferSize = bufferSize;
-        this.persistenceParallelism = persistenceParallelism;
+        this.listeners = List.copyOf(listeners);
+        this.settings = new StreamSettings(batchSize, batchTimeout, bufferSize, persistenceParallelism);
     }
 
     @PostConstruct
     public void start() {
-        LOG.info("Starting spot stream processor (batchSize={}, timeout={}, buffer={}, parallelism={})",
-                batchSize, batchTimeout, bufferSize, persistenceParallelism);
+        StreamSettings initial = settings;
+        LOG.info("Starting spot stream processor (batchSize={}, timeout={}, buffer={}, parallelism={}, listeners={})",
+                initial.batchSize(), initial.batchTimeout(), initial.bufferSize(),
+                initial.persistenceParallelism(), listeners.size());
 
-        // Create Pekko queue source with dropHead overflow strategy
-        Pair<SourceQueueWithComplete<String>, Source<String, NotUsed>> queuePair =
-                Source.<String>queue(bufferSize, OverflowStrategy.dropHead())
-                        .preMaterialize(actorSystem);
-
-        SourceQueueWithComplete<String> queue = queuePair.first();
+        materialize(initial);
 
-        // Set up message handler to offer to queue with drop tracking
-        spotSource.setMessageHandler(message -> {
-            queue.offer(message).whenComplete((result, error) -> {
-                if (error != null) {
-                    LOG.debug("Failed to offer message to queue: {}", error.getMessage());
-                } else if (QueueOfferResult.dropped().equals(result)) {
-                    droppedMessages.incrementAndGet();
-                }
-            });
-        });
+        // Offer each message to whichever stream is current, with drop tracking
+        spotSource.setMessageHandler(this::offer);
 
         // Connect to the spot source
         spotSource.connect();
 
+        LOG.info("Spot stream processor started");
+    }
+
+    /**
+     * Replaces the running stream with one built from new settings.
+     *
+     * <p>The new stream is materialized first and receives all further messages. The
+     * previous stream's queue is then completed rather than killed, so it parses and
+     * persists everything it had buffered, including a final partial batch, and stops.
+     *
+     * @param next settings for the new stream
+     * @return completes when the previous stream has drained
+     */
+    public synchronized CompletionStage<Done> reconfigure(StreamSettings next) {
+        StreamSettings previous = settings;
+        settings = next;
+        if (queue.get() == null) {
+            // Not started yet: start() materializes with the new settings
+            return CompletableFuture.completedFuture(Done.getInstance());
+        }
+        CompletionStage<Done> previousCompletion = streamCompletion;
+        SourceQueueWithComplete<String> previousQueue = materialize(next);
+        previousQueue.complete();
+        CompletableFuture<Done> drain = previousCompletion.toCompletableFuture();
+        draining.add(drain);
+        drain.whenComplete((done, failure) -> draining.remove(drain));
+        LOG.info("Spot stream reconfigured from {} to {}; draining previous stream", previous, next);
+        return previousCompletion;
+    }
+
+    /**
+     * Returns the settings of the running stream.
+     *
+     * @return current stream settings
+     */
+    public StreamSettings getStreamSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns the number of persistence threads.
+     *
+     * @return core size of the persistence pool
+     */
+    public int getPersistenceThreads() {
+        return persistencePool().getCorePoolSize();
+    }
+
+    /**
+     * Resizes the persistence thread pool.
+     *
+     * <p>Idle threads above a lowered size exit; busy ones finish their batch first.
+     *
+     * @param threads new pool size
+     */
+    public synchronized void setPersistenceThreads(int threads) {
+        ThreadPoolExecutor pool = persistencePool();
+        if (threads > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(threads);
+            pool.setCorePoolSize(threads);
+        } else {
+            pool.setCorePoolSize(threads);
+            pool.setMaximumPoolSize(threads);
+        }
+        LOG.info("Spot persistence pool resized to {} threads", threads);
+    }
+
+    private ThreadPoolExecutor persistencePool() {
+        if (persistenceExecutor instanceof ThreadPoolExecutor pool) {
+            return pool;
+        }
+        throw new IllegalStateException("Persistence executor cannot be resized: "
+                + persistenceExecutor.getClass().getSimpleName());
+    }
+
+    /**
+     * Builds and runs a stream, making its queue the target for new messages.
+     *
+     * @return the previous stream's queue, or null on first start
+     */
+    private SourceQueueWithComplete<String> materialize(StreamSettings streamSettings) {
+        // Create Pekko queue source with dropHead overflow strategy
+        Pair<SourceQueueWithComplete<String>, Source<String, NotUsed>> queuePair =
+                Source.<String>queue(streamSettings.bufferSize(), OverflowStrategy.dropHead())
+                        .preMaterialize(actorSystem);
+
+        // Each stream gets its own recorder: a draining stream runs alongside its successor
+        ParseBatchRecorder parseBatches =
+                new ParseBatchRecorder(streamSettings.batchSize(), streamSettings.batchTimeout());
+
         // Build the processing pipeline with supervision strategy and KillSwitch
         Pair<UniqueKillSwitch, CompletionStage<Done>> materialized = queuePair.second()
                 // Apply supervision strategy to resume on transient errors
                 .withAttributes(ActorAttributes.withSupervisionStrategy(supervisionDecider))
                 // Add KillSwitch for graceful shutdown
                 .viaMat(KillSwitches.single(), Keep.right())
-                // Parse JSON to Spot
-                .map(parser::parse)
+                // Parse JSON to Spot and enrich with distance and continent
+                .map(message -> parseAndEnrich(message, parseBatches))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                // Enrich with distance and continent
-                .map(distanceEnricher::enrich)
-                .map(continentEnricher::enrich)
-                // Count processed spots
+                // Count processed spots and feed in-memory views
                 .map(spot -> {
                     spotsProcessed.incrementAndGet();
+                    notifyListeners(spot);
                     return spot;
                 })
                 // Batch for efficient persistence
-                .groupedWithin(batchSize, batchTimeout)
+                .groupedWithin(streamSettings.batchSize(), streamSettings.batchTimeout())
                 // Async persist each batch with configurable parallelism (unordered for throughput)
-                .mapAsyncUnordered(persistenceParallelism, this::persistBatchAsync)
+                .mapAsyncUnordered(streamSettings.persistenceParallelism(), this::persistBatchAsync)
                 // Run the stream and capture both KillSwitch and completion
                 .toMat(Sink.ignore(), Keep.both())
                 .run(actorSystem);
 
         this.killSwitch = materialized.first();
         this.streamCompletion = materialized.second();
+        return queue.getAndSet(queuePair.first());
+    }
 
-        LOG.info("Spot stream processor started");
+    /**
+     * Offers a message to the current stream's queue.
+     *
+     * <p>A message that lands on a queue completed by {@link #reconfigure(StreamSettings)}
+     * between lookup and offer is re-offered to its successor.
+     */
+    private void offer(String message) {
+        SourceQueueWithComplete<String> target = queue.get();
+        target.offer(message).whenComplete((result, error) -> {
+            if (error != null) {
+                if (queue.get() != target) {
+                    offer(message);
+                } else {
+                    LOG.debug("Failed to offer message to queue: {}", error.getMessage());
+                }
+            } else if (QueueOfferResult.dropped().equals(result)) {
+                droppedMessages.incrementAndGet();
+            } else if (result instanceof QueueOfferResult.Failure && queue.get() != target) {
+                offer(message);
+            }
+        });
     }
 
     @PreDestroy
@@ -189,10 +311,12 @@ public class SpotStreamProcessor {
             LOG.debug("Initiating graceful stream shutdown");
             killSwitch.shutdown();
 
-            // Wait for in-flight elements to complete
+            // Wait for in-flight elements to complete, including every stream still draining
             if (streamCompletion != null) {
+                List<CompletableFuture<Done>> pending = new ArrayList<>(draining);
+                pending.add(streamCompletion.toCompletableFuture());
                 try {
-                    streamCompletion.toCompletableFuture()
+                    CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
                             .get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
                     LOG.debug("Stream shutdown completed gracefully");
                 } catch (Exception e) {
@@ -203,6 +327,52 @@ public class SpotStreamProcessor {
         }
     }
 
+    /**
+     * Parses a message and enriches the spot, timing both stages while a
+     * {@code SpotParseBatchEvent} is recording.
+     */
+    private Optional<Spot> parseAndEnrich(String message, ParseBatchRecorder parseBatches) {
+        if (!parseBatches.nextMessage()) {
+            return parser.parse(message).map(this::enrich);
+        }
+        long startNanos = System.nanoTime();
+        Optional<Spot> spot = parser.parse(message);
+        long parsedNanos = System.nanoTime();
+        Optional<Spot> enriched = spot.map(this::enrich);
+        parseBatches.record(message.length(), spot.isPresent(),
+                parsedNanos - startNanos, System.nanoTime() - parsedNanos);
+        return enriched;
+    }
+
+    /**
+     * Adds distance, then continent from the callsign prefix with the grid field for the rest,
+     * or from the grid field first while the loaded cty.dat is trimmed.
+     */
+    private Spot enrich(Spot spot) {
+        Spot located = distanceEnricher.enrich(spot);
+        if (callsignEnricher.isComplete()) {
+            return continentEnricher.enrich(callsignEnricher.enrich(located));
+        }
+        return callsignEnricher.enrich(continentEnricher.enrich(located));
+    }
+
+    /**
+     * Hands an enriched spot to every registered listener.
+     *
+     * <p>Failures are isolated per listener: a throwing listener is logged and
+     * skipped so the spot still reaches the remaining listeners and persistence.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // Listener faults must not stall ingestion
+    private void notifyListeners(Spot spot) {
+        for (SpotStreamListener listener : listeners) {
+            try {
+                listener.onSpot(spot);
+            } catch (RuntimeException e) {
+                LOG.warn("Spot listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
     private CompletionStage<List<Spot>> persistBatchAsync(List<Spot> spots) {
         return CompletableFuture.supplyAsync(() -> {
             persistBatch(spots);
@@ -216,6 +386,8 @@ public class SpotStreamProcessor {
             return;
         }
 
+        SpotPersistEvent event = new SpotPersistEvent();
+        event.begin();
         try {
             List<SpotEntity> entities = spots.stream()
                     .map(SpotEntity::fromDomain)
@@ -228,8 +400,36 @@ public class SpotStreamProcessor {
                 LOG.debug("Persisted batch of {} spots", spots.size());
             }
         } catch (org.springframework.dao.DataAccessException e) {
+            event.failed = true;
             LOG.error("Failed to persist batch of {} spots: {}", spots.size(), e.getMessage());
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = spots.size();
+            event.estimatedBytes = estimatedBytes(spots);
+            event.commit();
+        }
+    }
+
+    /**
+     * Approximates the column data of the spot rows, counting one byte per character.
+     *
+     * @param spots spots in the batch
+     * @return estimated bytes written
+     */
+    static long estimatedBytes(List<Spot> spots) {
+        long bytes = 0;
+        for (Spot spot : spots) {
+            bytes += FIXED_ROW_BYTES
+                    + length(spot.source()) + length(spot.band()) + length(spot.mode())
+                    + length(spot.spotterCall()) + length(spot.spotterGrid()) + length(spot.spotterContinent())
+                    + length(spot.spottedCall()) + length(spot.spottedGrid()) + length(spot.spottedContinent());
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
     }
 
     /**
@@ -0,0 +1,22 @@
+package io.nextskip.spots.internal.stream;
+
+import java.time.Duration;
+
+/**
+ * Parameters fixed when the spot stream is materialized.
+ *
+ * <p>Changing any of them means materializing a new stream; see
+ * {@link SpotStreamProcessor#reconfigure(StreamSettings)}.
+ *
+ * @param batchSize              spots per persistence batch
+ * @param batchTimeout           maximum wait before a partial batch is persisted
+ * @param bufferSize             messages buffered ahead of parsing (oldest dropped on overflow)
+ * @param persistenceParallelism batches persisted concurrently
+ */
+public record StreamSettings(
+        int batchSize,
+        Duration batchTimeout,
+        int bufferSize,
+        int persistenceParallelism
+) {
+}
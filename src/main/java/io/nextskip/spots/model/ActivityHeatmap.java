@@ -0,0 +1,66 @@
+package io.nextskip.spots.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Rolling spot activity by Maidenhead grid for one band and mode.
+ *
+ * <p>Built from the in-memory heatmap matrices maintained on the live spot
+ * stream, windowed by the mode's {@link ModeWindow}. Cell numbering follows
+ * {@link HeatmapResolution}.
+ *
+ * <p>To keep the payload small, each layer is run-length encoded over empty
+ * cells as a flat sequence of {@code (skip, count, maxSnr)} triples:
+ * <ul>
+ *   <li>{@code skip} - number of empty cells before this cell (from the previous
+ *       non-empty cell, or from cell 0 for the first triple)</li>
+ *   <li>{@code count} - spots in this cell within the window</li>
+ *   <li>{@code maxSnr} - strongest SNR reported for this cell, in dB</li>
+ * </ul>
+ * A map with {@code n} active cells costs {@code 3n} integers regardless of
+ * resolution.
+ *
+ * @param band          the band name (e.g., "20m")
+ * @param mode          the mode (e.g., "FT8")
+ * @param resolution    matrix resolution
+ * @param windowMinutes length of the window the counts cover
+ * @param totalSpots    spots on this band and mode in the window
+ * @param transmitters  RLE cells by transmitting ({@code spotted}) station grid
+ * @param receivers     RLE cells by receiving ({@code spotter}) station grid
+ * @param calculatedAt  when the heatmap was computed
+ */
+public record ActivityHeatmap(
+        String band,
+        String mode,
+        HeatmapResolution resolution,
+        long windowMinutes,
+        int totalSpots,
+        List<Integer> transmitters,
+        List<Integer> receivers,
+        Instant calculatedAt
+) {
+
+    /**
+     * Compact constructor with defensive copying for the encoded layers.
+     */
+    public ActivityHeatmap {
+        transmitters = transmitters != null ? List.copyOf(transmitters) : List.of();
+        receivers = receivers != null ? List.copyOf(receivers) : List.of();
+    }
+
+    /**
+     * Creates an empty heatmap for a band and mode with no recent activity.
+     *
+     * @param band          the band name
+     * @param mode          the mode
+     * @param resolution    matrix resolution
+     * @param windowMinutes length of the window
+     * @param calculatedAt  when the lookup ran
+     * @return heatmap with no active cells
+     */
+    public static ActivityHeatmap empty(
+            String band, String mode, HeatmapResolution resolution, long windowMinutes, Instant calculatedAt) {
+        return new ActivityHeatmap(band, mode, resolution, windowMinutes, 0, List.of(), List.of(), calculatedAt);
+    }
+}
@@ -0,0 +1,37 @@
+package io.nextskip.spots.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Band and mode activity over a past time range, read from the history rollups.
+ *
+ * @param band          the band (e.g., "20m")
+ * @param mode          the mode (e.g., "FT8")
+ * @param from          start of the range, inclusive
+ * @param until         end of the range, exclusive
+ * @param points        activity buckets, oldest first; empty buckets are omitted
+ * @param pathSpots     spots per continent path over the whole range
+ * @param totalSpots    spots over the whole range
+ * @param maxDistanceKm longest spot distance over the range, null if no distance data
+ */
+public record ActivityHistory(
+        String band,
+        String mode,
+        Instant from,
+        Instant until,
+        List<ActivityHistoryPoint> points,
+        Map<ContinentPath, Long> pathSpots,
+        long totalSpots,
+        Integer maxDistanceKm
+) {
+
+    /**
+     * Compact constructor with defensive copying for collections.
+     */
+    public ActivityHistory {
+        points = points != null ? List.copyOf(points) : List.of();
+        pathSpots = pathSpots != null ? Map.copyOf(pathSpots) : Map.of();
+    }
+}
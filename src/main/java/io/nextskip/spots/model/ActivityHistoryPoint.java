@@ -0,0 +1,34 @@
+package io.nextskip.spots.model;
+
+import java.time.Instant;
+
+/**
+ * One bucket of long-term band activity history.
+ *
+ * <p>Buckets are a minute wide for the last day and an hour wide after that,
+ * so a series spanning both carries mixed widths; compare buckets by
+ * {@link #spotsPerMinute()} rather than {@link #spotCount()}.
+ *
+ * @param bucketStart   start of the bucket
+ * @param bucketMinutes bucket width in minutes (1 or 60)
+ * @param spotCount     spots in the bucket
+ * @param maxDistanceKm longest spot distance in km, null if no distance data
+ * @param avgSnr        mean reported SNR in dB, null if no SNR reports
+ */
+public record ActivityHistoryPoint(
+        Instant bucketStart,
+        int bucketMinutes,
+        int spotCount,
+        Integer maxDistanceKm,
+        Double avgSnr
+) {
+
+    /**
+     * Returns the spot rate, normalizing minute and hourly buckets.
+     *
+     * @return spots per minute over the bucket
+     */
+    public double spotsPerMinute() {
+        return (double) spotCount / bucketMinutes;
+    }
+}
@@ -33,6 +33,7 @@ import java.util.Set;
  * @param windowEnd end of the current aggregation window
  * @param calculatedAt timestamp when this aggregation was computed
  * @param rarityMultiplier multiplier applied to activity score for less popular modes (1.0 = no boost)
+ * @param quantiles SNR and distance percentiles from the live spot stream, null if unavailable
  */
 public record BandActivity(
         String band,
@@ -46,7 +47,8 @@ public record BandActivity(
         Instant windowStart,
         Instant windowEnd,
         Instant calculatedAt,
-        double rarityMultiplier
+        double rarityMultiplier,
+        SignalQuantiles quantiles
 ) implements Scoreable {
 
     // Scoring thresholds
@@ -68,6 +70,19 @@ public record BandActivity(
     private static final double DX_WEIGHT = 0.20;
     private static final double PATH_WEIGHT = 0.10;
 
+    /**
+     * Convenience constructor without signal quantiles.
+     */
+    public BandActivity(
+            String band, String mode, int spotCount, int baselineSpotCount,
+            double trendPercentage, Integer maxDxKm, String maxDxPath,
+            Set<ContinentPath> activePaths, Instant windowStart,
+            Instant windowEnd, Instant calculatedAt, double rarityMultiplier) {
+        this(band, mode, spotCount, baselineSpotCount, trendPercentage,
+                maxDxKm, maxDxPath, activePaths, windowStart, windowEnd,
+                calculatedAt, rarityMultiplier, null);
+    }
+
     /**
      * Convenience constructor without rarity multiplier (defaults to 1.0).
      */
@@ -91,6 +106,18 @@ public record BandActivity(
         }
     }
 
+    /**
+     * Returns a copy of this activity with signal quantiles attached.
+     *
+     * @param signalQuantiles SNR and distance percentiles for the same window
+     * @return new BandActivity with the given quantiles
+     */
+    public BandActivity withQuantiles(SignalQuantiles signalQuantiles) {
+        return new BandActivity(band, mode, spotCount, baselineSpotCount, trendPercentage,
+                maxDxKm, maxDxPath, activePaths, windowStart, windowEnd, calculatedAt,
+                rarityMultiplier, signalQuantiles);
+    }
+
     /**
      * Band conditions are favorable when there's high activity with positive trend
      * and at least one active DX path.
@@ -111,7 +138,7 @@ public record BandActivity(
      * <ul>
      *   <li>40% - Activity (spot count)</li>
      *   <li>30% - Trend (positive momentum)</li>
-     *   <li>20% - DX reach (distance)</li>
+     *   <li>20% - DX reach (90th percentile distance, or max DX without quantiles)</li>
      *   <li>10% - Path diversity</li>
      * </ul>
      *
@@ -203,6 +230,10 @@ public record BandActivity(
     /**
      * Normalize DX distance to 0-100 score using band-specific thresholds.
      *
+     * <p>Uses the 90th percentile distance when {@link #quantiles()} are available,
+     * so one exceptional decode does not max out the DX component; otherwise falls
+     * back to {@link #maxDxKm()}.
+     *
      * <p>Scoring uses band-specific thresholds from {@link FrequencyBand.DxThresholds}
      * because different bands have vastly different propagation characteristics:
      * <ul>
@@ -221,7 +252,8 @@ public record BandActivity(
      * </ul>
      */
     private int normalizeDx() {
-        if (maxDxKm == null || maxDxKm <= 0) {
+        Integer dxKm = quantiles != null && quantiles.hasDistance() ? quantiles.distanceP90Km() : maxDxKm;
+        if (dxKm == null || dxKm <= 0) {
             return 0;
         }
 
@@ -230,16 +262,16 @@ public record BandActivity(
         int good = thresholds.goodKm();
         int moderate = thresholds.moderateKm();
 
-        if (maxDxKm >= excellent) {
+        if (dxKm >= excellent) {
             return 100;
-        } else if (maxDxKm >= good) {
-            double ratio = (double) (maxDxKm - good) / (excellent - good);
+        } else if (dxKm >= good) {
+            double ratio = (double) (dxKm - good) / (excellent - good);
             return (int) (70 + ratio * 30);
-        } else if (maxDxKm >= moderate) {
-            double ratio = (double) (maxDxKm - moderate) / (good - moderate);
+        } else if (dxKm >= moderate) {
+            double ratio = (double) (dxKm - moderate) / (good - moderate);
             return (int) (40 + ratio * 30);
         } else {
-            double ratio = (double) maxDxKm / moderate;
+            double ratio = (double) dxKm / moderate;
             return (int) (ratio * 40);
         }
     }
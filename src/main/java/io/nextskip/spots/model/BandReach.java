@@ -0,0 +1,29 @@
+package io.nextskip.spots.model;
+
+import java.util.Set;
+
+/**
+ * How far a station's signal reached on a single band.
+ *
+ * <p>Part of {@link CallsignReach}. Counts come from the in-memory callsign
+ * index over the live spot stream, not from the {@code spots} hypertable.
+ *
+ * @param band          the band name (e.g., "20m")
+ * @param spotCount     number of times the station was heard on this band
+ * @param maxDistanceKm farthest spotter distance in km, null if no distance data
+ * @param continents    continent codes of the stations that heard the signal
+ */
+public record BandReach(
+        String band,
+        int spotCount,
+        Integer maxDistanceKm,
+        Set<String> continents
+) {
+
+    /**
+     * Compact constructor with defensive copying for the continents set.
+     */
+    public BandReach {
+        continents = continents != null ? Set.copyOf(continents) : Set.of();
+    }
+}
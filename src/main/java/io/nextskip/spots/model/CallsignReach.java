@@ -0,0 +1,61 @@
+package io.nextskip.spots.model;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * "Where am I heard" summary for a single callsign over a recent time window.
+ *
+ * <p>Answers "who has heard my signal in the last N minutes and how far" from
+ * the in-memory callsign index maintained on the live spot stream. The window
+ * is bucket-aligned, so it may cover up to one bucket more than
+ * {@code windowMinutes}.
+ *
+ * @param callsign      the normalized (upper-case) callsign that was looked up
+ * @param windowMinutes length of the lookback window in minutes
+ * @param spotCount     total number of times the callsign was heard across all bands
+ * @param maxDistanceKm farthest spotter distance across all bands, null if unknown
+ * @param continents    continent codes of all stations that heard the signal
+ * @param bands         per-band reach, ordered by spot count (most heard first)
+ * @param calculatedAt  when this summary was computed
+ */
+public record CallsignReach(
+        String callsign,
+        long windowMinutes,
+        int spotCount,
+        Integer maxDistanceKm,
+        Set<String> continents,
+        List<BandReach> bands,
+        Instant calculatedAt
+) {
+
+    /**
+     * Compact constructor with defensive copying for collections.
+     */
+    public CallsignReach {
+        continents = continents != null ? Set.copyOf(continents) : Set.of();
+        bands = bands != null ? List.copyOf(bands) : List.of();
+    }
+
+    /**
+     * Creates an empty reach result for a callsign that has not been heard.
+     *
+     * @param callsign      the normalized callsign
+     * @param windowMinutes length of the lookback window in minutes
+     * @param calculatedAt  when the lookup ran
+     * @return reach with zero spots and no bands
+     */
+    public static CallsignReach empty(String callsign, long windowMinutes, Instant calculatedAt) {
+        return new CallsignReach(callsign, windowMinutes, 0, null, Set.of(), List.of(), calculatedAt);
+    }
+
+    /**
+     * Checks whether the callsign was heard at all in the window.
+     *
+     * @return true if at least one spot was recorded
+     */
+    public boolean isHeard() {
+        return spotCount > 0;
+    }
+}
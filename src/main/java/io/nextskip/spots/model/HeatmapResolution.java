@@ -0,0 +1,73 @@
+package io.nextskip.spots.model;
+
+/**
+ * Grid resolution of an {@link ActivityHeatmap}.
+ *
+ * <p>Both resolutions cover the whole globe on the Maidenhead lattice. Cells are
+ * numbered row-major from the south-west corner: {@code index = lat * size + lon},
+ * where {@code lon} and {@code lat} count fields (or squares) east from 180°W and
+ * north from 90°S.
+ */
+public enum HeatmapResolution {
+
+    /** Maidenhead fields (e.g., "FN"), 20° × 10°, an 18 × 18 matrix. */
+    FIELD(18),
+
+    /** Maidenhead squares (e.g., "FN31"), 2° × 1°, a 180 × 180 matrix. */
+    SQUARE(180);
+
+    private final int size;
+
+    HeatmapResolution(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of cells along each side of the matrix.
+     *
+     * @return matrix width and height
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the total number of cells in the matrix.
+     *
+     * @return {@code size × size}
+     */
+    public int getCellCount() {
+        return size * size;
+    }
+
+    /**
+     * Returns the cell index of a grid locator at this resolution.
+     *
+     * <p>Case-insensitive. Locators longer than needed are truncated; a 2-character
+     * field locator has no {@link #SQUARE} cell.
+     *
+     * @param grid Maidenhead locator (e.g., "FN31pr")
+     * @return the cell index, or -1 if the locator is missing, too short or malformed
+     */
+    public int cellIndex(String grid) {
+        int minLength = this == FIELD ? 2 : 4;
+        if (grid == null || grid.length() < minLength) {
+            return -1;
+        }
+        int lon = Character.toUpperCase(grid.charAt(0)) - 'A';
+        int lat = Character.toUpperCase(grid.charAt(1)) - 'A';
+        if (lon < 0 || lon >= 18 || lat < 0 || lat >= 18) {
+            return -1;
+        }
+        if (this == SQUARE) {
+            int lonDigit = grid.charAt(2) - '0';
+            int latDigit = grid.charAt(3) - '0';
+            if (lonDigit < 0 || lonDigit > 9 || latDigit < 0 || latDigit > 9) {
+                return -1;
+            }
+            lon = lon * 10 + lonDigit;
+            lat = lat * 10 + latDigit;
+        }
+        return lat * size + lon;
+    }
+}
@@ -0,0 +1,33 @@
+package io.nextskip.spots.model;
+
+/**
+ * Median and 90th percentile of SNR and distance over a band activity window.
+ *
+ * <p>Computed from streaming histograms maintained on the live spot stream, so
+ * a single lucky long-haul decode cannot skew them the way it skews
+ * {@link BandActivity#maxDxKm()}. SNR percentiles are exact to the dB;
+ * distance percentiles are accurate to within 25 km.
+ *
+ * @param sampleCount   number of spots the percentiles were computed from
+ * @param snrP50        median SNR in dB, null if no SNR reports
+ * @param snrP90        90th percentile SNR in dB, null if no SNR reports
+ * @param distanceP50Km median spotter distance in km, null if no distance data
+ * @param distanceP90Km 90th percentile spotter distance in km, null if no distance data
+ */
+public record SignalQuantiles(
+        int sampleCount,
+        Integer snrP50,
+        Integer snrP90,
+        Integer distanceP50Km,
+        Integer distanceP90Km
+) {
+
+    /**
+     * Checks whether distance percentiles are available.
+     *
+     * @return true if the 90th percentile distance is populated
+     */
+    public boolean hasDistance() {
+        return distanceP90Km != null;
+    }
+}
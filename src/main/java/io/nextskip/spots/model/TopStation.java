@@ -0,0 +1,28 @@
+package io.nextskip.spots.model;
+
+/**
+ * A frequently spotted station within a band and mode.
+ *
+ * <p>Counts come from a heavy-hitters sketch over the live spot stream, so
+ * {@code spotCount} is an estimate that may overcount by at most
+ * {@code maxError}; it never undercounts.
+ *
+ * @param callsign  the spotted (transmitting) callsign
+ * @param spotCount estimated number of spots in the window (upper bound)
+ * @param maxError  maximum overcount included in {@code spotCount}
+ */
+public record TopStation(
+        String callsign,
+        long spotCount,
+        long maxError
+) {
+
+    /**
+     * Returns the number of spots the station is certain to have received.
+     *
+     * @return lower bound on the true spot count
+     */
+    public long guaranteedCount() {
+        return spotCount - maxError;
+    }
+}
@@ -0,0 +1,34 @@
+package io.nextskip.spots.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Most-spotted stations for a single band and mode over its {@link ModeWindow}.
+ *
+ * <p>Served from a periodically published snapshot of the top-stations sketch,
+ * not from the {@code spots} hypertable.
+ *
+ * @param band          the band name (e.g., "20m")
+ * @param mode          the mode (e.g., "FT8")
+ * @param windowMinutes length of the window the counts cover
+ * @param totalSpots    exact number of spots on this band and mode in the window
+ * @param stations      most-spotted stations, highest estimated count first
+ * @param calculatedAt  when the snapshot was taken
+ */
+public record TopStations(
+        String band,
+        String mode,
+        long windowMinutes,
+        long totalSpots,
+        List<TopStation> stations,
+        Instant calculatedAt
+) {
+
+    /**
+     * Compact constructor with defensive copying for the stations list.
+     */
+    public TopStations {
+        stations = stations != null ? List.copyOf(stations) : List.of();
+    }
+}
@@ -0,0 +1,138 @@
+package io.nextskip.spots.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * JPA entity for one band activity history bucket.
+ *
+ * <p>Rows are written only by native upserts in
+ * {@link io.nextskip.spots.persistence.repository.SpotActivityRollupRepository}
+ * and read back as history. Each row aggregates the spots of one band, mode and
+ * path over a minute ({@code bucketSeconds = 60}) or, once older than a day, an
+ * hour ({@code bucketSeconds = 3600}). {@code path} is a
+ * {@link io.nextskip.spots.model.ContinentPath} name, or {@link #ALL_PATHS} for
+ * the band and mode total.
+ *
+ * <p>Like {@link SpotEntity}, the {@code id} column has no database-level PK
+ * constraint because the table is a TimescaleDB hypertable.
+ */
+@Entity
+@Table(name = "spot_activity_rollups")
+public class SpotActivityRollupEntity {
+
+    /** Path value of rows that count every spot for the band and mode. */
+    public static final String ALL_PATHS = "ALL";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", insertable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private Instant bucketStart;
+
+    @Column(name = "bucket_seconds", nullable = false)
+    private int bucketSeconds;
+
+    @Column(name = "band", nullable = false, length = 10)
+    private String band;
+
+    @Column(name = "mode", nullable = false, length = 10)
+    private String mode;
+
+    @Column(name = "path", nullable = false, length = 10)
+    private String path;
+
+    @Column(name = "spot_count", nullable = false)
+    private int spotCount;
+
+    @Column(name = "max_distance_km")
+    private Integer maxDistanceKm;
+
+    @Column(name = "snr_sum", nullable = false)
+    private long snrSum;
+
+    @Column(name = "snr_samples", nullable = false)
+    private int snrSamples;
+
+    /**
+     * Required by JPA.
+     */
+    protected SpotActivityRollupEntity() {
+    }
+
+    /**
+     * Creates a rollup entity from all field values.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber") // Mirrors the table columns
+    public SpotActivityRollupEntity(
+            Instant bucketStart,
+            int bucketSeconds,
+            String band,
+            String mode,
+            String path,
+            int spotCount,
+            Integer maxDistanceKm,
+            long snrSum,
+            int snrSamples
+    ) {
+        this.bucketStart = bucketStart;
+        this.bucketSeconds = bucketSeconds;
+        this.band = band;
+        this.mode = mode;
+        this.path = path;
+        this.spotCount = spotCount;
+        this.maxDistanceKm = maxDistanceKm;
+        this.snrSum = snrSum;
+        this.snrSamples = snrSamples;
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getBucketStart() {
+        return bucketStart;
+    }
+
+    public int getBucketSeconds() {
+        return bucketSeconds;
+    }
+
+    public String getBand() {
+        return band;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getSpotCount() {
+        return spotCount;
+    }
+
+    public Integer getMaxDistanceKm() {
+        return maxDistanceKm;
+    }
+
+    public long getSnrSum() {
+        return snrSum;
+    }
+
+    public int getSnrSamples() {
+        return snrSamples;
+    }
+}
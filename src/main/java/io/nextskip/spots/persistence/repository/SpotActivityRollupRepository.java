@@ -0,0 +1,233 @@
+package io.nextskip.spots.persistence.repository;
+
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.persistence.entity.SpotActivityRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Spring Data JPA repository for long-term band activity history.
+ *
+ * <p>The {@code spot_activity_rollups} table is a TimescaleDB hypertable partitioned
+ * by {@code bucket_start} in 7-day chunks. It is maintained entirely by native SQL:
+ * <ul>
+ *   <li>{@link #rollupMinutes} aggregates raw spots into per-minute rows</li>
+ *   <li>{@link #downsampleToHours} and {@link #deleteMinutesBefore} compact
+ *       rows older than a day into hourly rows</li>
+ *   <li>{@link #dropOldChunks} enforces the 90-day retention</li>
+ * </ul>
+ *
+ * <p>Reads never touch the {@code spots} table, so history queries stay fast
+ * regardless of ingest volume.
+ */
+@Repository
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Query parameter names are intentionally repeated
+public interface SpotActivityRollupRepository extends JpaRepository<SpotActivityRollupEntity, Long> {
+
+    /** Bucket length of rows written by {@link #rollupMinutes}. */
+    int MINUTE_SECONDS = 60;
+
+    /** Bucket length of rows written by {@link #downsampleToHours}. */
+    int HOUR_SECONDS = 3600;
+
+    // ========================================================================
+    // Writes
+    // ========================================================================
+
+    /**
+     * Aggregates raw spots in {@code [from, until)} into per-minute rollup rows.
+     *
+     * <p>Each minute gets one {@code ALL} row per band and mode plus one row per
+     * {@link ContinentPath} with spots on it. Paths are resolved through the
+     * mapping built by {@link #continentPairs()} from the enum itself.
+     *
+     * <p>Existing rows are overwritten, so re-running over the same minutes (to
+     * pick up late spots) is idempotent. {@code from} and {@code until} should be
+     * minute-aligned.
+     *
+     * @param from  first minute to roll up, inclusive
+     * @param until end of the last complete minute, exclusive
+     * @return number of rows inserted or updated
+     */
+    default int rollupMinutes(Instant from, Instant until) {
+        return rollupMinutes(from, until, continentPairs());
+    }
+
+    /**
+     * Builds the continent-pair mapping used by {@link #rollupMinutes(Instant, Instant)}.
+     *
+     * <p>Each {@link ContinentPath} contributes both orderings of its continents, as
+     * in {@link ContinentPath#matches(String, String)}, e.g. {@code NAEU:NA_EU,EUNA:NA_EU}.
+     *
+     * @return comma-separated {@code continents:path} entries
+     */
+    static String continentPairs() {
+        StringJoiner pairs = new StringJoiner(",");
+        for (ContinentPath path : ContinentPath.values()) {
+            pairs.add(path.getContinent1() + path.getContinent2() + ':' + path.name());
+            pairs.add(path.getContinent2() + path.getContinent1() + ':' + path.name());
+        }
+        return pairs.toString();
+    }
+
+    /**
+     * Aggregates raw spots into per-minute rollup rows with an explicit path mapping.
+     *
+     * <p>Use {@link #rollupMinutes(Instant, Instant)}, which supplies the mapping.
+     *
+     * @param from           first minute to roll up, inclusive
+     * @param until          end of the last complete minute, exclusive
+     * @param continentPairs mapping from {@link #continentPairs()}
+     * @return number of rows inserted or updated
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO spot_activity_rollups
+                (bucket_start, bucket_seconds, band, mode, path,
+                 spot_count, max_distance_km, snr_sum, snr_samples)
+            SELECT minute, 60, band, mode,
+                   CASE WHEN GROUPING(path) = 1 THEN 'ALL' ELSE path END,
+                   COUNT(*), MAX(distance_km), COALESCE(SUM(snr), 0), COUNT(snr)
+            FROM (
+                SELECT time_bucket('1 minute', sp.spotted_at) AS minute, sp.band, sp.mode,
+                       sp.distance_km, sp.snr, cp.path
+                FROM spots sp
+                LEFT JOIN (
+                    SELECT split_part(pair, ':', 1) AS continents, split_part(pair, ':', 2) AS path
+                    FROM unnest(string_to_array(:continentPairs, ',')) AS pair
+                ) cp ON cp.continents = UPPER(sp.spotter_continent || sp.spotted_continent)
+                WHERE sp.spotted_at >= :from AND sp.spotted_at < :until
+            ) s
+            GROUP BY GROUPING SETS ((minute, band, mode), (minute, band, mode, path))
+            HAVING GROUPING(path) = 1 OR path IS NOT NULL
+            ON CONFLICT (band, mode, path, bucket_start, bucket_seconds) DO UPDATE SET
+                spot_count = EXCLUDED.spot_count,
+                max_distance_km = EXCLUDED.max_distance_km,
+                snr_sum = EXCLUDED.snr_sum,
+                snr_samples = EXCLUDED.snr_samples
+            """, nativeQuery = true)
+    int rollupMinutes(
+            @Param("from") Instant from,
+            @Param("until") Instant until,
+            @Param("continentPairs") String continentPairs);
+
+    /**
+     * Finds the start of the newest rollup bucket, so rollups can resume after downtime.
+     *
+     * @return newest bucket start, or null if no history has been written
+     */
+    @Query("SELECT MAX(r.bucketStart) FROM SpotActivityRollupEntity r")
+    Instant findLatestBucketStart();
+
+    /**
+     * Merges minute rows older than {@code cutoff} into hourly rows.
+     *
+     * <p>Counts and SNR sums add to any existing hourly row, so this must run in
+     * the same transaction as {@link #deleteMinutesBefore} with the same cutoff.
+     * {@code cutoff} should be hour-aligned so no hour is split across runs.
+     *
+     * @param cutoff minute rows starting before this time are downsampled
+     * @return number of hourly rows inserted or updated
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO spot_activity_rollups AS r
+                (bucket_start, bucket_seconds, band, mode, path,
+                 spot_count, max_distance_km, snr_sum, snr_samples)
+            SELECT time_bucket('1 hour', bucket_start), 3600, band, mode, path,
+                   SUM(spot_count), MAX(max_distance_km), SUM(snr_sum), SUM(snr_samples)
+            FROM spot_activity_rollups
+            WHERE bucket_seconds = 60 AND bucket_start < :cutoff
+            GROUP BY 1, band, mode, path
+            ON CONFLICT (band, mode, path, bucket_start, bucket_seconds) DO UPDATE SET
+                spot_count = r.spot_count + EXCLUDED.spot_count,
+                max_distance_km = GREATEST(r.max_distance_km, EXCLUDED.max_distance_km),
+                snr_sum = r.snr_sum + EXCLUDED.snr_sum,
+                snr_samples = r.snr_samples + EXCLUDED.snr_samples
+            """, nativeQuery = true)
+    int downsampleToHours(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Deletes minute rows older than {@code cutoff} after they have been downsampled.
+     *
+     * @param cutoff minute rows starting before this time are deleted
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM spot_activity_rollups WHERE bucket_seconds = 60 AND bucket_start < :cutoff",
+            nativeQuery = true)
+    int deleteMinutesBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Drops history chunks older than 90 days.
+     *
+     * <p>See {@link SpotRepository#dropOldChunks()} for why the interval is
+     * hardcoded and why this is not a {@code @Modifying} query.
+     *
+     * @return names of the dropped chunks
+     */
+    @Transactional
+    @Query(value = "SELECT drop_chunks('spot_activity_rollups', INTERVAL '90 days')", nativeQuery = true)
+    List<Object> dropOldChunks();
+
+    // ========================================================================
+    // Reads
+    // ========================================================================
+
+    /**
+     * Finds the rollup rows of one band, mode and path in {@code [from, until)}.
+     *
+     * <p>Minute and hourly rows are returned together, oldest first; they never
+     * overlap because minute rows are deleted as they are downsampled.
+     *
+     * @param band  the band (e.g., "20m")
+     * @param mode  the mode (e.g., "FT8")
+     * @param path  a ContinentPath name or {@code ALL}
+     * @param from  earliest bucket start, inclusive
+     * @param until latest bucket start, exclusive
+     * @return rollup rows ordered by bucket start
+     */
+    @Query("""
+            SELECT r FROM SpotActivityRollupEntity r
+            WHERE r.band = :band AND r.mode = :mode AND r.path = :path
+              AND r.bucketStart >= :from AND r.bucketStart < :until
+            ORDER BY r.bucketStart
+            """)
+    List<SpotActivityRollupEntity> findSeries(
+            @Param("band") String band,
+            @Param("mode") String mode,
+            @Param("path") String path,
+            @Param("from") Instant from,
+            @Param("until") Instant until);
+
+    /**
+     * Totals spots per continent path for one band and mode in {@code [from, until)}.
+     *
+     * @param band  the band (e.g., "20m")
+     * @param mode  the mode (e.g., "FT8")
+     * @param from  earliest bucket start, inclusive
+     * @param until latest bucket start, exclusive
+     * @return list of [path, spot_count] tuples, excluding the {@code ALL} rows
+     */
+    @Query(value = """
+            SELECT path, SUM(spot_count) AS spots
+            FROM spot_activity_rollups
+            WHERE band = :band AND mode = :mode AND path <> 'ALL'
+              AND bucket_start >= :from AND bucket_start < :until
+            GROUP BY path
+            """, nativeQuery = true)
+    List<Object[]> sumSpotsByPath(
+            @Param("band") String band,
+            @Param("mode") String mode,
+            @Param("from") Instant from,
+            @Param("until") Instant until);
+}
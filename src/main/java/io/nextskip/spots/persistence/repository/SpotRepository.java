@@ -158,6 +158,90 @@ public interface SpotRepository extends JpaRepository<SpotEntity, Long> {
             """, nativeQuery = true)
     List<Object[]> countContinentPathsPerBandMode(@Param("since") Instant since);
 
+    /**
+     * Single-scan aggregation SQL, shared with the sharded executor that runs it
+     * over a dedicated connection pool.
+     *
+     * <p>See {@link #aggregateBandModeSingleScan} for the row layout. Parameters use
+     * named {@code :param} syntax accepted by both Spring Data and
+     * {@code NamedParameterJdbcTemplate}.
+     */
+    String SINGLE_SCAN_SQL = """
+            SELECT CASE GROUPING(bucket_start, spotter_continent, spotted_continent)
+                     WHEN 3 THEN 'B' WHEN 4 THEN 'P' ELSE 'D' END AS kind,
+                   band, mode, bucket_start, spotter_continent, spotted_continent,
+                   COUNT(*) AS cnt,
+                   COUNT(*) FILTER (WHERE is_path AND spotted_at > :pathSince15m) AS path_15m,
+                   COUNT(*) FILTER (WHERE is_path AND spotted_at > :pathSince30m) AS path_30m,
+                   COUNT(*) FILTER (WHERE is_path AND spotted_at > :pathSince60m) AS path_60m,
+                   MAX(distance_km) FILTER (WHERE spotted_at > :dxSince) AS max_distance_km,
+                   last(spotted_call, dx_rank)
+                     FILTER (WHERE spotted_at > :dxSince AND dx_rank IS NOT NULL) AS max_dx_spotted_call,
+                   last(spotter_call, dx_rank)
+                     FILTER (WHERE spotted_at > :dxSince AND dx_rank IS NOT NULL) AS max_dx_spotter_call,
+                   MAX(dx_rank) FILTER (WHERE spotted_at > :dxSince) AS max_dx_rank
+            FROM (
+              SELECT band, mode, spotted_at, spotter_continent, spotted_continent,
+                     spotted_call, spotter_call, distance_km,
+                     time_bucket('15 minutes', spotted_at) AS bucket_start,
+                     spotter_continent <> spotted_continent AS is_path,
+                     distance_km::numeric * 10000000000 + EXTRACT(EPOCH FROM spotted_at) AS dx_rank
+              FROM spots
+              WHERE spotted_at > :since AND spotted_at <= :until
+            ) recent
+            GROUP BY GROUPING SETS (
+              (band, mode, bucket_start),
+              (band, mode, spotter_continent, spotted_continent),
+              (band, mode)
+            )
+            HAVING GROUPING(spotter_continent) = 1
+                OR COUNT(*) FILTER (WHERE is_path AND spotted_at > :pathSince60m) > 0
+            ORDER BY kind, band, mode, bucket_start
+            """;
+
+    /**
+     * Computes bucket counts, max DX and per-window continent paths in one scan.
+     *
+     * <p>Single-pass replacement for {@link #countSpotsByBandModeInBuckets},
+     * {@link #findMaxDxSpotPerBandMode} and one {@link #countContinentPathsPerBandMode}
+     * call per mode window. The hypertable is read once over {@code (since, until]} and
+     * {@code GROUPING SETS} emit three row kinds from the same aggregation:
+     * <ul>
+     *   <li>{@code B} - (band, mode, bucket_start): 15-minute bucket count in {@code cnt}</li>
+     *   <li>{@code P} - (band, mode, continents): cross-continent path counts for the
+     *       15, 30 and 60 minute windows via {@code FILTER} clauses</li>
+     *   <li>{@code D} - (band, mode): max distance and its callsigns within {@code dxSince}</li>
+     * </ul>
+     *
+     * <p>The max DX callsigns use TimescaleDB's {@code last(value, key)} aggregate keyed by
+     * distance then time, which matches the {@code distance_km DESC, spotted_at DESC}
+     * ordering of the multi-query path without sorting each partition. The key itself is
+     * returned as {@code max_dx_rank} so partial results over disjoint time ranges can be
+     * merged.
+     *
+     * <p>Path rows with no cross-continent spots in the widest window are dropped by
+     * the {@code HAVING} clause. {@code D} rows for pairs with no distance data in
+     * {@code dxSince} carry a null {@code max_distance_km}.
+     *
+     * @param since         earliest time to include, exclusive (widest baseline window)
+     * @param until         latest time to include, inclusive
+     * @param dxSince       start of the max DX window
+     * @param pathSince15m  start of the 15-minute path window
+     * @param pathSince30m  start of the 30-minute path window
+     * @param pathSince60m  start of the 60-minute path window
+     * @return rows of [kind, band, mode, bucket_start, spotter_continent, spotted_continent, cnt,
+     *         path_15m, path_30m, path_60m, max_distance_km, max_dx_spotted_call, max_dx_spotter_call,
+     *         max_dx_rank]
+     */
+    @Query(value = SINGLE_SCAN_SQL, nativeQuery = true)
+    List<Object[]> aggregateBandModeSingleScan(
+            @Param("since") Instant since,
+            @Param("until") Instant until,
+            @Param("dxSince") Instant dxSince,
+            @Param("pathSince15m") Instant pathSince15m,
+            @Param("pathSince30m") Instant pathSince30m,
+            @Param("pathSince60m") Instant pathSince60m);
+
     // ========================================================================
     // Per-band+mode queries (used by single-pair aggregation path)
     // ========================================================================
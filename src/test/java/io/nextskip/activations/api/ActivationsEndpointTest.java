@@ -235,6 +235,18 @@ class ActivationsEndpointTest {
         verify(activationsService).getActivationsResponse();
     }
 
+    @Test
+    void should_DelegateProximitySearchToService() {
+        NearbyActivationsResponse serviceResponse = new NearbyActivationsResponse(
+                "FN31", 500, List.of(), Instant.now());
+        when(activationsService.getActivationsNear("FN31", 500)).thenReturn(serviceResponse);
+
+        NearbyActivationsResponse response = endpoint.getActivationsNear("FN31", 500);
+
+        assertSame(serviceResponse, response);
+        verify(activationsService).getActivationsNear("FN31", 500);
+    }
+
     @Test
     void should_HandleMixedActivationsWithCorrectCounts() {
         // Given: Uneven distribution of POTA and SOTA
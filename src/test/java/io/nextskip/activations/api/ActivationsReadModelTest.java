@@ -0,0 +1,91 @@
+package io.nextskip.activations.api;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.common.model.FrequencyBand;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.park;
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static io.nextskip.test.fixtures.ActivationFixtures.summit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ActivationsReadModel.
+ */
+class ActivationsReadModelTest {
+
+    private static final Instant BUILT_AT = Instant.parse("2025-01-15T12:00:00Z");
+
+    @Test
+    void testOf_MixedActivations_SplitsAndCountsByType() {
+        Activation park1 = pota().spotId("1").build();
+        Activation summit1 = sota().spotId("2").build();
+        Activation park2 = pota().spotId("3").build();
+
+        ActivationsReadModel model = ActivationsReadModel.of(List.of(park1, summit1, park2), BUILT_AT);
+
+        assertThat(model.activations()).containsExactly(park1, summit1, park2);
+        assertThat(model.summary().potaCount()).isEqualTo(2);
+        assertThat(model.summary().sotaCount()).isEqualTo(1);
+        assertThat(model.response().potaActivations()).containsExactly(park1, park2);
+        assertThat(model.response().sotaActivations()).containsExactly(summit1);
+        assertThat(model.response().totalCount()).isEqualTo(3);
+        assertThat(model.summary().lastUpdated()).isEqualTo(BUILT_AT);
+        assertThat(model.response().lastUpdated()).isEqualTo(BUILT_AT);
+    }
+
+    @Test
+    void testOf_GroupsByBandModeAndRegion() {
+        Activation fortyCw = pota().spotId("1").frequency(7030.0).mode("CW")
+                .location(park().regionCode("MA").build()).build();
+        Activation twentySsb = pota().spotId("2").frequency(14285.0).mode("SSB")
+                .location(park().regionCode("CO").build()).build();
+        Activation fortyCwLower = sota().spotId("3").frequency(7032.0).mode(" cw ")
+                .location(summit().regionCode("MA").build()).build();
+        Activation outOfBand = pota().spotId("4").frequency(1.0).mode(null)
+                .location(park().regionCode(" ").build()).build();
+
+        ActivationsReadModel model = ActivationsReadModel.of(
+                List.of(twentySsb, fortyCw, fortyCwLower, outOfBand), BUILT_AT);
+
+        assertThat(model.byBand()).containsOnlyKeys(FrequencyBand.BAND_40M, FrequencyBand.BAND_20M);
+        assertThat(model.byBand().keySet()).containsExactly(FrequencyBand.BAND_40M, FrequencyBand.BAND_20M);
+        assertThat(model.byBand().get(FrequencyBand.BAND_40M)).containsExactly(fortyCw, fortyCwLower);
+        assertThat(model.byMode().keySet()).containsExactly("SSB", "CW");
+        assertThat(model.byMode().get("CW")).containsExactly(fortyCw, fortyCwLower);
+        assertThat(model.byRegion().keySet()).containsExactly("CO", "MA");
+        assertThat(model.byRegion().get("MA")).containsExactly(fortyCw, fortyCwLower);
+    }
+
+    @Test
+    void testOf_NullActivations_EmptyModel() {
+        ActivationsReadModel model = ActivationsReadModel.of(null, BUILT_AT);
+
+        assertThat(model.activations()).isEmpty();
+        assertThat(model.response().totalCount()).isZero();
+        assertThat(model.byBand()).isEmpty();
+        assertThat(model.byMode()).isEmpty();
+        assertThat(model.byRegion()).isEmpty();
+        assertThat(model.summary().lastUpdated()).isEqualTo(BUILT_AT);
+    }
+
+    @Test
+    void testOf_SourceListMutatedAfterBuild_ModelUnaffected() {
+        List<Activation> loaded = new ArrayList<>(List.of(pota().spotId("1").build()));
+
+        ActivationsReadModel model = ActivationsReadModel.of(loaded, BUILT_AT);
+        loaded.add(sota().spotId("2").build());
+
+        assertThat(model.activations()).hasSize(1);
+        assertThat(model.response().sotaActivations()).isEmpty();
+        assertThatThrownBy(() -> model.byMode().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> model.byBand().values().iterator().next().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package io.nextskip.activations.internal;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.NearbyActivation;
+import io.nextskip.common.model.Coordinates;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * "Activations within 500 km of my grid" served from {@link ActivationIndex} versus
+ * a linear haversine scan, at ten times a busy afternoon's activation count.
+ *
+ * <p>Parks are clustered over North America and Europe like real POTA traffic, and
+ * queries are centered on the same regions, so the index has to prune inside dense
+ * clusters rather than skip empty ocean.
+ *
+ * <p>Tagged {@code benchmark}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ActivationIndexBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivationIndexBenchmarkTest.class);
+
+    private static final int ACTIVATIONS = 6_000;
+    private static final int QUERIES = 2_000;
+    private static final double RADIUS_KM = 500;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    void benchmarkWithin_TenTimesCurrentLoad_FasterThanLinearScan() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Activation> activations = new ArrayList<>(ACTIVATIONS);
+        for (int i = 0; i < ACTIVATIONS; i++) {
+            Coordinates at = clustered(random);
+            activations.add(ActivationIndexTest.parkAt("spot-" + i, at.latitude(), at.longitude()));
+        }
+        Coordinates[] centers = new Coordinates[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            centers[i] = clustered(random);
+        }
+
+        long buildStarted = System.nanoTime();
+        ActivationIndex index = ActivationIndex.of(activations);
+        long buildNanos = System.nanoTime() - buildStarted;
+
+        long indexHits = 0;
+        long linearHits = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            indexHits = runIndex(index, centers);
+            linearHits = runLinear(activations, centers);
+        }
+        assertThat(indexHits).isEqualTo(linearHits);
+
+        long indexStarted = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            runIndex(index, centers);
+        }
+        long indexNanos = (System.nanoTime() - indexStarted) / ((long) MEASURED_ROUNDS * QUERIES);
+
+        long linearStarted = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            runLinear(activations, centers);
+        }
+        long linearNanos = (System.nanoTime() - linearStarted) / ((long) MEASURED_ROUNDS * QUERIES);
+
+        LOG.info("Activations within {} km, {} parks: index {} us/query, linear scan {} us/query, "
+                        + "{} matches/query, index build {} ms",
+                (int) RADIUS_KM, ACTIVATIONS, indexNanos / 1000, linearNanos / 1000,
+                indexHits / QUERIES, buildNanos / 1_000_000);
+        assertThat(indexNanos).isLessThan(linearNanos);
+    }
+
+    private static long runIndex(ActivationIndex index, Coordinates[] centers) {
+        long hits = 0;
+        for (Coordinates center : centers) {
+            hits += index.within(center, RADIUS_KM).size();
+        }
+        return hits;
+    }
+
+    private static long runLinear(List<Activation> activations, Coordinates[] centers) {
+        long hits = 0;
+        for (Coordinates center : centers) {
+            List<NearbyActivation> nearby = new ArrayList<>();
+            for (Activation activation : activations) {
+                Coordinates location = ActivationIndex.locate(activation);
+                double distance = center.distanceTo(location);
+                if (distance <= RADIUS_KM) {
+                    nearby.add(new NearbyActivation(activation, (int) Math.round(distance)));
+                }
+            }
+            nearby.sort(Comparator.comparingInt(NearbyActivation::distanceKm));
+            hits += nearby.size();
+        }
+        return hits;
+    }
+
+    private static Coordinates clustered(SplittableRandom random) {
+        if (random.nextInt(3) < 2) {
+            // Continental US and southern Canada
+            return new Coordinates(random.nextDouble(26, 50), random.nextDouble(-124, -67));
+        }
+        // Europe
+        return new Coordinates(random.nextDouble(36, 62), random.nextDouble(-10, 30));
+    }
+}
@@ -0,0 +1,119 @@
+package io.nextskip.activations.internal;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.NearbyActivation;
+import io.nextskip.common.model.Coordinates;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.park;
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static io.nextskip.test.fixtures.ActivationFixtures.summit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ActivationIndex.
+ */
+class ActivationIndexTest {
+
+    @Test
+    void testWithin_RandomParks_MatchesLinearScan() {
+        Random random = new Random(7);
+        List<Activation> activations = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            activations.add(parkAt("spot-" + i, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180));
+        }
+        ActivationIndex index = ActivationIndex.of(activations);
+
+        for (int probe = 0; probe < 50; probe++) {
+            Coordinates center = new Coordinates(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180);
+            double radiusKm = 200 + random.nextDouble() * 3000;
+
+            assertThat(index.within(center, radiusKm))
+                    .extracting(NearbyActivation::activation)
+                    .containsExactlyInAnyOrderElementsOf(linearScan(activations, center, radiusKm));
+        }
+    }
+
+    @Test
+    void testWithin_AcrossAntimeridian_Found() {
+        Activation fiji = parkAt("fiji", -17.7, 179.9);
+        Activation samoa = parkAt("samoa", -13.8, -171.8);
+        ActivationIndex index = ActivationIndex.of(List.of(fiji, samoa));
+
+        assertThat(index.within(new Coordinates(-17.7, -179.9), 100))
+                .extracting(NearbyActivation::activation)
+                .containsExactly(fiji);
+    }
+
+    @Test
+    void testWithin_SortedNearestFirst() {
+        Activation far = parkAt("far", 45.0, -71.0);
+        Activation near = parkAt("near", 42.1, -71.0);
+        Activation middle = parkAt("middle", 43.5, -71.0);
+        ActivationIndex index = ActivationIndex.of(List.of(far, near, middle));
+
+        List<NearbyActivation> result = index.within(new Coordinates(42.0, -71.0), 1000);
+
+        assertThat(result).extracting(NearbyActivation::activation).containsExactly(near, middle, far);
+        assertThat(result).isSortedAccordingTo(Comparator.comparingInt(NearbyActivation::distanceKm));
+    }
+
+    @Test
+    void testOf_UnlocatedActivations_NotIndexed() {
+        Activation gridOnly = pota().spotId("grid")
+                .location(park().latitude(null).longitude(null).grid("FN31").build()).build();
+        Activation badGrid = pota().spotId("bad")
+                .location(park().latitude(null).longitude(null).grid("??").build()).build();
+        Activation summit = sota().spotId("summit").build();
+
+        ActivationIndex index = ActivationIndex.of(List.of(gridOnly, badGrid, summit));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.within(new Coordinates(41.5, -73.0), 10))
+                .extracting(NearbyActivation::activation)
+                .containsExactly(gridOnly);
+    }
+
+    @Test
+    void testWithin_LocatedSummit_Found() {
+        Activation summit = sota().spotId("summit")
+                .location(summit().latitude(34.8742).longitude(-83.8097).build()).build();
+        Activation park = parkAt("park", 35.0, -84.0);
+
+        ActivationIndex index = ActivationIndex.of(List.of(summit, park));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.within(new Coordinates(34.87, -83.81), 5))
+                .extracting(NearbyActivation::activation)
+                .containsExactly(summit);
+    }
+
+    @Test
+    void testRefreshedFrom_SameList_ReusesIndex() {
+        List<Activation> activations = List.of(parkAt("one", 42.0, -71.0));
+        ActivationIndex index = ActivationIndex.of(activations);
+
+        assertThat(index.refreshedFrom(activations)).isSameAs(index);
+        assertThat(index.refreshedFrom(List.copyOf(new ArrayList<>(activations)))).isNotSameAs(index);
+        assertThat(ActivationIndex.of(null).refreshedFrom(List.of())).isSameAs(ActivationIndex.of(List.of()));
+    }
+
+    static Activation parkAt(String spotId, double latitude, double longitude) {
+        return pota().spotId(spotId).location(park().latitude(latitude).longitude(longitude).build()).build();
+    }
+
+    static List<Activation> linearScan(List<Activation> activations, Coordinates center, double radiusKm) {
+        return activations.stream()
+                .filter(a -> {
+                    Coordinates location = ActivationIndex.locate(a);
+                    return location != null && center.distanceTo(location) <= radiusKm;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,214 @@
+package io.nextskip.activations.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.ActivationsSummary;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.scheduler.CacheRefreshEvent;
+import io.nextskip.spots.internal.index.ActivatorReachJoin;
+import io.nextskip.spots.internal.index.CallsignReachIndex;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serving the activations card from the precomputed {@link ActivationsReadModel} versus
+ * re-filtering and re-counting the cached list on every request, as the service did
+ * before the read model, at ten times a busy afternoon's activation count.
+ *
+ * <p>Each request is one summary plus one dashboard response, which is what a card
+ * render costs. Both throughput and per-request allocation are reported.
+ *
+ * <p>The default configuration, with spot processing enabled, is measured as well:
+ * reach served from the prebuilt response versus attached to every activation on
+ * every request, with reach read from a real {@link ActivatorReachJoin}.
+ *
+ * <p>Tagged {@code benchmark}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class ActivationsReadModelBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ActivationsReadModelBenchmarkTest.class);
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int ACTIVATIONS = 6_000;
+    private static final int REQUESTS = 2_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void benchmarkCardRequest_ReadModel_FasterAndLeanerThanPerRequestStreams() {
+        List<Activation> activations = new ArrayList<>(ACTIVATIONS);
+        for (int i = 0; i < ACTIVATIONS; i++) {
+            activations.add(i % 4 == 0
+                    ? sota().spotId("spot-" + i).build()
+                    : pota().spotId("spot-" + i).build());
+        }
+        List<Activation> cached = List.copyOf(activations);
+        LoadingCache<String, ActivationsReadModel> cache = Caffeine.newBuilder()
+                .build(key -> ActivationsReadModel.of(cached, NOW));
+        ActivationsServiceImpl service = new ActivationsServiceImpl(cache, CLOCK,
+                new StaticListableBeanFactory().getBeanProvider(ActivationReachProvider.class));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runReadModel(service);
+            runPerRequest(cached);
+        }
+        assertThat(service.getActivationsResponse()).isEqualTo(perRequestResponse(cached));
+
+        long readModelAllocated = THREADS.getCurrentThreadAllocatedBytes();
+        long readModelStarted = System.nanoTime();
+        runReadModel(service);
+        long readModelNanos = (System.nanoTime() - readModelStarted) / REQUESTS;
+        readModelAllocated = (THREADS.getCurrentThreadAllocatedBytes() - readModelAllocated) / REQUESTS;
+
+        long perRequestAllocated = THREADS.getCurrentThreadAllocatedBytes();
+        long perRequestStarted = System.nanoTime();
+        runPerRequest(cached);
+        long perRequestNanos = (System.nanoTime() - perRequestStarted) / REQUESTS;
+        perRequestAllocated = (THREADS.getCurrentThreadAllocatedBytes() - perRequestAllocated) / REQUESTS;
+
+        long buildStarted = System.nanoTime();
+        ActivationsReadModel.of(cached, NOW);
+        long buildMicros = (System.nanoTime() - buildStarted) / 1000;
+
+        LOG.info("Activations card, {} activations: read model {} ns/request ({} B), "
+                        + "per-request streams {} ns/request ({} B), read model build {} us per refresh",
+                ACTIVATIONS, readModelNanos, readModelAllocated, perRequestNanos, perRequestAllocated, buildMicros);
+        assertThat(readModelNanos).isLessThan(perRequestNanos);
+        assertThat(readModelAllocated).isLessThan(perRequestAllocated);
+    }
+
+    @Test
+    void benchmarkCardRequest_DefaultConfiguration_ReachServedPrebuilt() {
+        List<Activation> cached = activations();
+        LoadingCache<String, ActivationsReadModel> cache = Caffeine.newBuilder()
+                .build(key -> ActivationsReadModel.of(cached, NOW));
+        cache.get(CacheConfig.CACHE_KEY);
+        CallsignReachIndex reachIndex = new CallsignReachIndex(CLOCK, Duration.ofMinutes(15),
+                Duration.ofMinutes(1), 10_000);
+        for (int i = 0; i < ACTIVATIONS; i += 3) {
+            reachIndex.onSpot(SpotFixtures.spot()
+                    .spottedCall(cached.get(i).activatorCallsign())
+                    .distanceKm(1000 + i)
+                    .spotterContinent("EU")
+                    .spottedAt(NOW)
+                    .build());
+        }
+        ActivatorReachJoin join = new ActivatorReachJoin(cache, reachIndex);
+        join.onCacheRefresh(new CacheRefreshEvent(CacheConfig.ACTIVATIONS, () -> { }));
+        ActivationsServiceImpl service = new ActivationsServiceImpl(cache, CLOCK,
+                new StaticListableBeanFactory(Map.of("reachProvider", join))
+                        .getBeanProvider(ActivationReachProvider.class));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runReadModel(service);
+            runPerRequestReach(cache, join);
+        }
+        assertThat(service.getActivationsResponse()).isEqualTo(perRequestReach(cache, join));
+
+        long prebuiltAllocated = THREADS.getCurrentThreadAllocatedBytes();
+        long prebuiltStarted = System.nanoTime();
+        runReadModel(service);
+        long prebuiltNanos = (System.nanoTime() - prebuiltStarted) / REQUESTS;
+        prebuiltAllocated = (THREADS.getCurrentThreadAllocatedBytes() - prebuiltAllocated) / REQUESTS;
+
+        long perRequestAllocated = THREADS.getCurrentThreadAllocatedBytes();
+        long perRequestStarted = System.nanoTime();
+        runPerRequestReach(cache, join);
+        long perRequestNanos = (System.nanoTime() - perRequestStarted) / REQUESTS;
+        perRequestAllocated = (THREADS.getCurrentThreadAllocatedBytes() - perRequestAllocated) / REQUESTS;
+
+        long refreshStarted = System.nanoTime();
+        service.refreshReach();
+        long refreshMicros = (System.nanoTime() - refreshStarted) / 1000;
+
+        LOG.info("Activations card with reach, {} activations: prebuilt {} ns/request ({} B), "
+                        + "per-request reach {} ns/request ({} B), timer refresh {} us",
+                ACTIVATIONS, prebuiltNanos, prebuiltAllocated, perRequestNanos, perRequestAllocated, refreshMicros);
+        assertThat(prebuiltNanos).isLessThan(perRequestNanos);
+        assertThat(prebuiltAllocated).isLessThan(perRequestAllocated);
+    }
+
+    private static List<Activation> activations() {
+        List<Activation> activations = new ArrayList<>(ACTIVATIONS);
+        for (int i = 0; i < ACTIVATIONS; i++) {
+            activations.add(i % 4 == 0
+                    ? sota().spotId("spot-" + i).activatorCallsign("K" + i + "ABC/P").build()
+                    : pota().spotId("spot-" + i).activatorCallsign("W" + i + "XYZ").build());
+        }
+        return List.copyOf(activations);
+    }
+
+    private static void runPerRequestReach(LoadingCache<String, ActivationsReadModel> cache,
+                                           ActivatorReachJoin join) {
+        for (int i = 0; i < REQUESTS; i++) {
+            cache.get(CacheConfig.CACHE_KEY).summary();
+            perRequestReach(cache, join);
+        }
+    }
+
+    /** The dashboard response as the service built it per request before reach was prebuilt. */
+    private static ActivationsResponse perRequestReach(LoadingCache<String, ActivationsReadModel> cache,
+                                                       ActivatorReachJoin join) {
+        ActivationsResponse response = cache.get(CacheConfig.CACHE_KEY).response();
+        return new ActivationsResponse(
+                response.potaActivations().stream().map(a -> a.withReach(join.getReach(a))).toList(),
+                response.sotaActivations().stream().map(a -> a.withReach(join.getReach(a))).toList(),
+                response.totalCount(),
+                response.lastUpdated());
+    }
+
+    private static void runReadModel(ActivationsServiceImpl service) {
+        for (int i = 0; i < REQUESTS; i++) {
+            service.getActivationsSummary();
+            service.getActivationsResponse();
+        }
+    }
+
+    private static void runPerRequest(List<Activation> cached) {
+        for (int i = 0; i < REQUESTS; i++) {
+            perRequestSummary(cached);
+            perRequestResponse(cached);
+        }
+    }
+
+    /** The summary as the service built it per request before the read model. */
+    private static ActivationsSummary perRequestSummary(List<Activation> cached) {
+        int potaCount = (int) cached.stream().filter(a -> a.type() == ActivationType.POTA).count();
+        int sotaCount = (int) cached.stream().filter(a -> a.type() == ActivationType.SOTA).count();
+        return new ActivationsSummary(cached, potaCount, sotaCount, Instant.now(CLOCK));
+    }
+
+    /** The dashboard response as the service built it per request before the read model. */
+    private static ActivationsResponse perRequestResponse(List<Activation> cached) {
+        ActivationsSummary summary = perRequestSummary(cached);
+        List<Activation> pota = summary.activations().stream().filter(a -> a.type() == ActivationType.POTA).toList();
+        List<Activation> sota = summary.activations().stream().filter(a -> a.type() == ActivationType.SOTA).toList();
+        return new ActivationsResponse(pota, sota, pota.size() + sota.size(), summary.lastUpdated());
+    }
+}
@@ -1,12 +1,18 @@
 package io.nextskip.activations.internal;
 
+import static io.nextskip.test.fixtures.ActivationFixtures.park;
 import static io.nextskip.test.fixtures.ActivationFixtures.pota;
 import static io.nextskip.test.fixtures.ActivationFixtures.sota;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.activations.api.NearbyActivationsResponse;
 import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationReach;
 import io.nextskip.activations.model.ActivationsSummary;
 import io.nextskip.activations.model.ActivationType;
 import io.nextskip.common.config.CacheConfig;
@@ -14,11 +20,14 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 
 /**
  * Unit tests for ActivationsServiceImpl.
@@ -34,13 +43,14 @@ class ActivationsServiceImplTest {
     private static final Clock FIXED_CLOCK = Clock.fixed(FIXED_TIME, ZoneOffset.UTC);
 
     @Mock
-    private LoadingCache<String, List<Activation>> activationsCache;
+    private LoadingCache<String, ActivationsReadModel> activationsCache;
 
     private ActivationsServiceImpl service;
 
     @BeforeEach
     void setUp() {
-        service = new ActivationsServiceImpl(activationsCache, FIXED_CLOCK);
+        service = new ActivationsServiceImpl(activationsCache, FIXED_CLOCK,
+                new StaticListableBeanFactory().getBeanProvider(ActivationReachProvider.class));
     }
 
     @Test
@@ -52,7 +62,7 @@ class ActivationsServiceImplTest {
                 createSotaActivation("3", TEST_CALLSIGN_SOTA)
         );
 
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(allActivations);
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(allActivations));
 
         // When
         ActivationsSummary summary = service.getActivationsSummary();
@@ -71,7 +81,7 @@ class ActivationsServiceImplTest {
     @Test
     void shouldHandle_EmptyCache() {
         // Given: Cache returns empty list
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of());
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(List.of()));
 
         // When
         ActivationsSummary summary = service.getActivationsSummary();
@@ -103,7 +113,7 @@ class ActivationsServiceImplTest {
     @Test
     void shouldSet_RecentLastUpdatedTimestamp() {
         // Given: Fixed clock is injected
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of());
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(List.of()));
 
         // When
         ActivationsSummary summary = service.getActivationsSummary();
@@ -123,10 +133,10 @@ class ActivationsServiceImplTest {
                 createSotaActivation("3", TEST_CALLSIGN_SOTA)
         );
 
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(allActivations);
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(allActivations));
 
         // When
-        io.nextskip.activations.api.ActivationsResponse response = service.getActivationsResponse();
+        ActivationsResponse response = service.getActivationsResponse();
 
         // Then: Should separate by type
         assertNotNull(response);
@@ -153,10 +163,10 @@ class ActivationsServiceImplTest {
                 createSotaActivation("5", "K5LMN/P")
         );
 
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(allActivations);
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(allActivations));
 
         // When
-        io.nextskip.activations.api.ActivationsResponse response = service.getActivationsResponse();
+        ActivationsResponse response = service.getActivationsResponse();
 
         // Then
         assertEquals(5, response.totalCount(), "Total count should be sum of POTA and SOTA");
@@ -168,15 +178,140 @@ class ActivationsServiceImplTest {
     @Test
     void testGetActivationsResponse_IncludesLastUpdated() {
         // Given: Fixed clock is injected
-        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of());
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(List.of()));
 
         // When
-        io.nextskip.activations.api.ActivationsResponse response = service.getActivationsResponse();
+        ActivationsResponse response = service.getActivationsResponse();
 
         // Then: Timestamp should match the fixed clock time exactly
         assertEquals(FIXED_TIME, response.lastUpdated(), "lastUpdated should match fixed clock time");
     }
 
+    @Test
+    void testGetActivationsResponse_NoReachProvider_ServesPrebuiltResponse() {
+        // Given: A read model built at an earlier refresh
+        Instant refreshedAt = FIXED_TIME.minusSeconds(300);
+        ActivationsReadModel model = ActivationsReadModel.of(
+                List.of(createPotaActivation("1", TEST_CALLSIGN_POTA)), refreshedAt);
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(model);
+
+        // When
+        ActivationsResponse first = service.getActivationsResponse();
+        ActivationsResponse second = service.getActivationsResponse();
+
+        // Then: Both requests read the same prebuilt response, stamped with the refresh time
+        assertSame(model.response(), first);
+        assertSame(first, second);
+        assertSame(model.summary(), service.getActivationsSummary());
+        assertEquals(refreshedAt, first.lastUpdated());
+    }
+
+    @Test
+    void testGetActivationsResponse_ReachProvider_AttachesReach() {
+        // Given: The spot stream has heard the POTA activator but not the SOTA one
+        Activation heard = createPotaActivation("1", TEST_CALLSIGN_POTA);
+        Activation unheard = createSotaActivation("2", TEST_CALLSIGN_SOTA);
+        ActivationReach reach = new ActivationReach(12, 2400, Set.of("EU", "NA"));
+        ActivationReachProvider provider = activation -> activation == heard ? reach : null;
+        service = new ActivationsServiceImpl(activationsCache, FIXED_CLOCK,
+                new StaticListableBeanFactory(Map.of("reachProvider", provider))
+                        .getBeanProvider(ActivationReachProvider.class));
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(List.of(heard, unheard)));
+
+        // When
+        ActivationsResponse response = service.getActivationsResponse();
+
+        // Then
+        assertEquals(reach, response.potaActivations().get(0).reach());
+        assertNull(response.sotaActivations().get(0).reach());
+    }
+
+    @Test
+    void testGetActivationsResponse_ReachProvider_ServesPrebuiltUntilTimerRefresh() {
+        // Given: Reach changes between requests
+        Activation heard = createPotaActivation("1", TEST_CALLSIGN_POTA);
+        ActivationReach early = new ActivationReach(1, 800, Set.of("NA"));
+        ActivationReach later = new ActivationReach(5, 5200, Set.of("EU", "NA"));
+        ActivationReach[] current = {early};
+        ActivationReachProvider provider = activation -> current[0];
+        service = new ActivationsServiceImpl(activationsCache, FIXED_CLOCK,
+                new StaticListableBeanFactory(Map.of("reachProvider", provider))
+                        .getBeanProvider(ActivationReachProvider.class));
+        ActivationsReadModel model = readModel(List.of(heard));
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(model);
+        when(activationsCache.getIfPresent(CacheConfig.CACHE_KEY)).thenReturn(model);
+
+        // When: Two requests, then the timer, then another request
+        ActivationsResponse first = service.getActivationsResponse();
+        current[0] = later;
+        ActivationsResponse second = service.getActivationsResponse();
+        service.refreshReach();
+        ActivationsResponse third = service.getActivationsResponse();
+
+        // Then: Requests reuse one response; only the timer re-reads reach
+        assertSame(first, second);
+        assertEquals(early, second.potaActivations().get(0).reach());
+        assertEquals(later, third.potaActivations().get(0).reach());
+    }
+
+    @Test
+    void testRefreshReach_NoProvider_DoesNothing() {
+        service.refreshReach();
+
+        verifyNoInteractions(activationsCache);
+    }
+
+    @Test
+    void testGetActivationsResponseAsOf_PinsScoresToTheGivenInstant() {
+        // Given: An activation spotted 20 minutes before the snapshot instant
+        Instant snapshot = FIXED_TIME.minusSeconds(3600);
+        Activation activation = pota().spotId("1").spottedAt(snapshot.minusSeconds(20 * 60)).build();
+        when(activationsCache.get(CacheConfig.CACHE_KEY)).thenReturn(readModel(List.of(activation)));
+
+        // When
+        Activation served = service.getActivationsResponse(snapshot).potaActivations().get(0);
+
+        // Then: Serialized getters report the values at the snapshot instant, not now
+        assertEquals(activation.getScore(snapshot), served.getScore());
+        assertEquals(activation.isFavorable(snapshot), served.isFavorable());
+        assertEquals(snapshot, served.evaluation().evaluatedAt());
+    }
+
+    @Test
+    void testGetActivationsNear_ReturnsNearestFirstWithinRadius() {
+        // Given: Parks in Boston, Hartford and Denver, plus an unlocated SOTA summit
+        Activation boston = pota().spotId("1").location(park().latitude(42.36).longitude(-71.06).build()).build();
+        Activation hartford = pota().spotId("2").location(park().latitude(41.76).longitude(-72.68).build()).build();
+        Activation denver = pota().spotId("3").location(park().latitude(39.74).longitude(-104.99).build()).build();
+        Activation summit = createSotaActivation("4", TEST_CALLSIGN_SOTA);
+        when(activationsCache.get(CacheConfig.CACHE_KEY))
+                .thenReturn(readModel(List.of(denver, hartford, summit, boston)));
+
+        // When: Search 300 km around FN31 (central Connecticut)
+        NearbyActivationsResponse response = service.getActivationsNear("fn31", 300);
+
+        // Then
+        assertEquals("FN31", response.grid());
+        assertEquals(List.of(hartford, boston), response.activations().stream()
+                .map(nearby -> nearby.activation()).toList());
+        assertTrue(response.activations().get(0).distanceKm() < response.activations().get(1).distanceKm());
+        assertEquals(FIXED_TIME, response.lastUpdated());
+    }
+
+    @Test
+    void testGetActivationsNear_InvalidArguments_Throw() {
+        assertThrows(IllegalArgumentException.class, () -> service.getActivationsNear("FN3", 100));
+        assertThrows(IllegalArgumentException.class, () -> service.getActivationsNear("FN31", 0));
+        verifyNoInteractions(activationsCache);
+    }
+
+    /**
+     * Helper method to build the cached read model at the fixed clock time.
+     */
+    private static ActivationsReadModel readModel(List<Activation> activations) {
+        return ActivationsReadModel.of(activations, FIXED_TIME);
+    }
+
     /**
      * Helper method to create a test POTA activation.
      */
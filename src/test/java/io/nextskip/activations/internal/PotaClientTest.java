@@ -126,6 +126,29 @@ class PotaClientTest {
         assertEquals("K2DEF", second.activatorCallsign());
     }
 
+    @Test
+    void shouldFetchAsync_PotaActivationsWithoutBlocking() {
+        // Given: Mock POTA API response with one activation
+        wireMockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
+                        .withBody("""
+                            [{"spotId": 123456, "activator": "W1ABC", "reference": "US-0001",
+                              "name": "Test Park", "frequency": "14250", "mode": "SSB", "grid6": "FN42",
+                              "latitude": "42.5", "longitude": "-71.3", "spotTime": "2025-12-14T12:30:00",
+                              "qsos": 15}]
+                            """)));
+
+        // When: Fetch through the reactive path
+        List<Activation> result = potaClient.fetchAsync().block();
+
+        // Then: Same parsing as the blocking path
+        assertNotNull(result);
+        assertEquals(1, result.size());
+        assertEquals(W1ABC_CALLSIGN, result.get(0).activatorCallsign());
+    }
+
     @Test
     void shouldHandle_EmptyResponseGracefully() {
         // Given: Empty array response
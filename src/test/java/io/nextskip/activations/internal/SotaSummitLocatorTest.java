@@ -0,0 +1,150 @@
+package io.nextskip.activations.internal;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.Summit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static io.nextskip.test.fixtures.ActivationFixtures.summit;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SotaSummitLocator using WireMock to simulate the SOTA summit API.
+ */
+class SotaSummitLocatorTest {
+
+    private static final String SUMMIT_PATH = "/W4G/NG-001";
+
+    private WireMockServer wireMockServer;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SotaSummitLocator locator;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        locator = locator(SotaSummitLocator.LOCATE_BUDGET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testLocate_KnownSummit_FillsCoordinates() {
+        stubSummit(200, """
+                {"summitCode": "W4G/NG-001", "name": "Brasstown Bald", "latitude": 34.8742, "longitude": -83.8097}
+                """);
+        Activation park = pota().build();
+
+        List<Activation> result = locator.locate(List.of(activation(), park));
+
+        Summit located = (Summit) result.get(0).location();
+        assertThat(located.latitude()).isEqualTo(34.8742);
+        assertThat(located.longitude()).isEqualTo(-83.8097);
+        assertThat(result.get(1)).isSameAs(park);
+    }
+
+    @Test
+    void testLocate_RepeatedSummit_LooksUpOnce() {
+        stubSummit(200, """
+                {"latitude": 34.8742, "longitude": -83.8097}
+                """);
+
+        locator.locate(List.of(activation(), activation()));
+        List<Activation> second = locator.locate(List.of(activation()));
+
+        assertThat(((Summit) second.get(0).location()).latitude()).isEqualTo(34.8742);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo(SUMMIT_PATH)));
+    }
+
+    @Test
+    void testLocate_UnknownSummit_CachedAsUnlocated() {
+        stubSummit(404, "");
+
+        locator.locate(List.of(activation()));
+        List<Activation> result = locator.locate(List.of(activation()));
+
+        assertThat(((Summit) result.get(0).location()).latitude()).isNull();
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo(SUMMIT_PATH)));
+    }
+
+    @Test
+    void testLocate_LookupFails_LeavesUnlocatedAndRemembersFailure() {
+        stubSummit(503, "");
+        Activation activation = activation();
+
+        List<Activation> result = locator.locate(List.of(activation));
+        locator.locate(List.of(activation));
+
+        assertThat(result).containsExactly(activation);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo(SUMMIT_PATH)));
+    }
+
+    @Test
+    void testLocate_CircuitOpen_SkipsLookup() {
+        stubSummit(200, """
+                {"latitude": 34.8742, "longitude": -83.8097}
+                """);
+        circuitBreakerRegistry.circuitBreaker(SotaSummitLocator.RESILIENCE_NAME).transitionToOpenState();
+        Activation activation = activation();
+
+        List<Activation> result = locator.locate(List.of(activation));
+
+        assertThat(result).containsExactly(activation);
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo(SUMMIT_PATH)));
+    }
+
+    @Test
+    void testLocate_SlowApi_ReturnsWithinBudget() {
+        wireMockServer.stubFor(get(urlEqualTo(SUMMIT_PATH))
+                .willReturn(aResponse()
+                        .withFixedDelay(3_000)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"latitude\": 34.8742, \"longitude\": -83.8097}")));
+        SotaSummitLocator budgeted = locator(Duration.ofMillis(200));
+        Activation activation = activation();
+
+        long started = System.nanoTime();
+        List<Activation> result = budgeted.locate(List.of(activation));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(2));
+        assertThat(result).containsExactly(activation);
+    }
+
+    private SotaSummitLocator locator(Duration locateBudget) {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build());
+        return new SotaSummitLocator(WebClient.builder(), circuitBreakerRegistry, retryRegistry,
+                wireMockServer.baseUrl(), locateBudget);
+    }
+
+    private void stubSummit(int status, String body) {
+        wireMockServer.stubFor(get(urlEqualTo(SUMMIT_PATH))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    private static Activation activation() {
+        return sota().location(summit().reference("W4G/NG-001").build()).build();
+    }
+}
@@ -0,0 +1,115 @@
+package io.nextskip.activations.internal.scheduler;
+
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.persistence.entity.ActivationEntity;
+import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.test.AbstractPersistenceTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ActivationUpsertWriter} against the real
+ * {@code ON CONFLICT ... WHERE ... IS DISTINCT FROM} statement.
+ */
+class ActivationUpsertWriterIntegrationTest extends AbstractPersistenceTest {
+
+    private static final String POTA_SOURCE = "POTA API";
+    private static final String SOTA_SOURCE = "SOTA API";
+
+    @Autowired
+    private ActivationUpsertWriter writer;
+
+    @Autowired
+    private ActivationRepository repository;
+
+    @Override
+    protected Collection<JpaRepository<?, ?>> getRepositoriesToClean() {
+        return List.of(repository);
+    }
+
+    @Test
+    void testUpsert_NewActivations_InsertsAll() {
+        List<ActivationEntity> batch = List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).seenNow().build()),
+                entity(pota().spotId("p-2").source(POTA_SOURCE).seenNow().build()));
+
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(batch);
+
+        assertThat(result).isEqualTo(new ActivationUpsertWriter.UpsertResult(2, 0));
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpsert_SameContentRecentlySeen_LeavesRowsUnchanged() {
+        Instant spottedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).seenNow().build()),
+                entity(sota().spotId("s-1").source(SOTA_SOURCE).spottedAt(spottedAt).seenNow().build())));
+
+        // SOTA rows carry NULL park columns; IS DISTINCT FROM must treat them as equal
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).seenNow().build()),
+                entity(sota().spotId("s-1").source(SOTA_SOURCE).spottedAt(spottedAt).seenNow().build())));
+
+        assertThat(result).isEqualTo(new ActivationUpsertWriter.UpsertResult(0, 2));
+    }
+
+    @Test
+    void testUpsert_ChangedContent_UpdatesOnlyChangedRow() {
+        Instant spottedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).qsoCount(5).seenNow().build()),
+                entity(pota().spotId("p-2").source(POTA_SOURCE).spottedAt(spottedAt).qsoCount(5).seenNow().build())));
+
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).qsoCount(12).seenNow().build()),
+                entity(pota().spotId("p-2").source(POTA_SOURCE).spottedAt(spottedAt).qsoCount(5).seenNow().build())));
+        clearPersistenceContext();
+
+        assertThat(result).isEqualTo(new ActivationUpsertWriter.UpsertResult(1, 1));
+        assertThat(repository.findBySpotIdAndSource("p-1", POTA_SOURCE).orElseThrow().getQsoCount()).isEqualTo(12);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpsert_UnchangedButStaleLastSeen_RefreshesLastSeen() {
+        Instant spottedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Instant stale = Instant.now().minus(ActivationUpsertWriter.LAST_SEEN_REFRESH).minusSeconds(60)
+                .truncatedTo(ChronoUnit.MICROS);
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).lastSeenAt(stale).build())));
+
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(List.of(
+                entity(pota().spotId("p-1").source(POTA_SOURCE).spottedAt(spottedAt).lastSeenAt(now).build())));
+        clearPersistenceContext();
+
+        assertThat(result).isEqualTo(new ActivationUpsertWriter.UpsertResult(1, 0));
+        assertThat(repository.findBySpotIdAndSource("p-1", POTA_SOURCE).orElseThrow().getLastSeenAt())
+                .isEqualTo(now);
+    }
+
+    @Test
+    void testUpsert_SameSpotIdDifferentSource_InsertsSeparateRows() {
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(List.of(
+                entity(pota().spotId("shared").source(POTA_SOURCE).seenNow().build()),
+                entity(sota().spotId("shared").source(SOTA_SOURCE).seenNow().build())));
+
+        assertThat(result.written()).isEqualTo(2);
+        assertThat(repository.count()).isEqualTo(2);
+    }
+
+    private static ActivationEntity entity(Activation activation) {
+        return ActivationEntity.fromDomain(activation);
+    }
+}
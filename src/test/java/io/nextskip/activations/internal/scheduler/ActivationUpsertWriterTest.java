@@ -0,0 +1,107 @@
+package io.nextskip.activations.internal.scheduler;
+
+import io.nextskip.activations.persistence.entity.ActivationEntity;
+import io.nextskip.activations.persistence.repository.ActivationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ActivationUpsertWriter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivationUpsertWriterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ActivationUpsertWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ActivationUpsertWriter(jdbcTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testUpsert_EmptyList_SkipsDatabase() {
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(List.of());
+
+        assertThat(result).isEqualTo(new ActivationUpsertWriter.UpsertResult(0, 0));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testUpsert_MixedCounts_SplitsWrittenAndUnchanged() {
+        List<ActivationEntity> entities = List.of(
+                ActivationEntity.fromDomain(pota().spotId("1").build()),
+                ActivationEntity.fromDomain(pota().spotId("2").build()),
+                ActivationEntity.fromDomain(pota().spotId("3").build()),
+                ActivationEntity.fromDomain(pota().spotId("4").build()));
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenReturn(new int[] {1, 0, 0, Statement.SUCCESS_NO_INFO});
+
+        ActivationUpsertWriter.UpsertResult result = writer.upsert(entities);
+
+        assertThat(result.written()).isEqualTo(2);
+        assertThat(result.unchanged()).isEqualTo(2);
+    }
+
+    @Test
+    void testUpsert_SendsOneBatchOfUpsertStatements() {
+        List<ActivationEntity> entities = List.of(
+                ActivationEntity.fromDomain(pota().spotId("1").build()),
+                ActivationEntity.fromDomain(sota().spotId("2").build()));
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] {1, 1});
+
+        writer.upsert(entities);
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(eq(ActivationRepository.UPSERT_SQL), captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+    }
+
+    @Test
+    void testUpsert_Parameters_MapEntityColumnsWithSqlTypes() {
+        ActivationEntity entity = ActivationEntity.fromDomain(sota().spotId("s-1").build());
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] {1});
+
+        writer.upsert(List.of(entity));
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        SqlParameterSource params = captor.getValue()[0];
+        assertThat(params.getValue("spotId")).isEqualTo("s-1");
+        assertThat(params.getValue("type")).isEqualTo("SOTA");
+        assertThat(params.getValue("spottedAt")).isEqualTo(Timestamp.from(entity.getSpottedAt()));
+        // SOTA leaves park columns NULL; the declared type binds them without metadata lookups
+        assertThat(params.getValue("parkLatitude")).isNull();
+        assertThat(params.getSqlType("parkLatitude")).isEqualTo(Types.DOUBLE);
+        assertThat(((Timestamp) params.getValue("lastSeenBefore")).toInstant())
+                .isEqualTo(NOW.minus(ActivationUpsertWriter.LAST_SEEN_REFRESH));
+    }
+}
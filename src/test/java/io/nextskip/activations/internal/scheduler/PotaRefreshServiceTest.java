@@ -11,14 +11,15 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.internal.PotaClient;
 import io.nextskip.activations.model.Activation;
-import io.nextskip.activations.model.ActivationType;
 import io.nextskip.activations.persistence.entity.ActivationEntity;
 import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
-import java.time.Instant;
+import io.nextskip.common.scheduler.DataRefreshException;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 /**
  * Unit tests for PotaRefreshService.
@@ -47,52 +51,56 @@ class PotaRefreshServiceTest {
     private ActivationRepository repository;
 
     @Mock
-    private LoadingCache<String, List<Activation>> activationsCache;
+    private ActivationUpsertWriter upsertWriter;
+
+    @Mock
+    private LoadingCache<String, ActivationsReadModel> activationsCache;
 
     private PotaRefreshService service;
 
     @BeforeEach
     void setUp() {
-        service = new PotaRefreshService(eventPublisher, potaClient, repository, activationsCache);
+        service = new PotaRefreshService(eventPublisher, TransactionOperations.withoutTransaction(),
+                potaClient, repository, upsertWriter, activationsCache);
     }
 
     @Test
     void testExecuteRefresh_CallsClientFetch() {
         Activation activation = createTestActivation();
-        when(potaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_POTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
-        verify(potaClient).fetch();
+        verify(potaClient).fetchIfModified();
     }
 
     @Test
-    void testExecuteRefresh_CallsRepositorySaveAll() {
+    void testExecuteRefresh_UpsertsConvertedEntities() {
         Activation activation = createTestActivation();
-        when(potaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_POTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(captor.capture());
 
-        List<ActivationEntity> saved = captor.getValue();
-        assertThat(saved).hasSize(1);
+        List<ActivationEntity> upserted = captor.getValue();
+        assertThat(upserted).hasSize(1);
+        assertThat(upserted.get(0).getSpotId()).isEqualTo("spot-1234");
+        assertThat(upserted.get(0).getSource()).isEqualTo(activation.source());
+        verify(repository, never()).saveAll(any());
     }
 
     @Test
     void testExecuteRefresh_CallsRepositoryDeleteOld() {
         Activation activation = createTestActivation();
-        when(potaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_POTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(5);
 
         service.executeRefresh();
@@ -103,9 +111,8 @@ class PotaRefreshServiceTest {
     @Test
     void testExecuteRefresh_PublishesCacheRefreshEvent() {
         Activation activation = createTestActivation();
-        when(potaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_POTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
@@ -115,86 +122,113 @@ class PotaRefreshServiceTest {
         verify(eventPublisher).publishEvent(captor.capture());
 
         CacheRefreshEvent event = captor.getValue();
-        assertThat(event.cacheName()).isEqualTo("activations");
+        assertThat(event.cacheNames()).containsExactly("activations");
 
         // Verify the refresh action calls the cache
         event.refreshAction().run();
         verify(activationsCache).refresh(CacheConfig.CACHE_KEY);
     }
 
+    @Test
+    void testExecuteRefresh_NotModified_SkipsPersistenceAndCacheRefresh() {
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.notModified());
+
+        service.executeRefresh();
+
+        verify(upsertWriter, never()).upsert(any());
+        verify(repository, never()).deleteBySourceAndLastSeenAtBefore(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void testExecuteRefresh_ClientThrowsException_PropagatesException() {
-        when(potaClient.fetch()).thenThrow(new RuntimeException("POTA API error"));
+        when(potaClient.fetchIfModified()).thenThrow(new RuntimeException("POTA API error"));
 
         assertThatThrownBy(() -> service.executeRefresh())
                 .isInstanceOf(RuntimeException.class);
 
-        verify(repository, never()).saveAll(any());
+        verify(upsertWriter, never()).upsert(any());
     }
 
     @Test
-    void testExecuteRefresh_EmptyList_SavesNothing() {
-        when(potaClient.fetch()).thenReturn(Collections.emptyList());
+    void testExecuteRefresh_EmptyList_UpsertsNothing() {
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(Collections.emptyList()));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(0, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(captor.capture());
 
         assertThat(captor.getValue()).isEmpty();
     }
 
     @Test
-    void testExecuteRefresh_ExistingActivation_SetsIdForUpdate() {
-        // Given: An activation that already exists in the database
-        Activation activation = createTestActivation();
-        ActivationEntity existingEntity = createTestEntity();
-        existingEntity.setId(42L);
+    void testExecuteRefresh_UpsertResult_ReportedInSuccessMessage() {
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(createTestActivation())));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(3, 40));
+        when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(2);
+
+        service.executeRefresh();
+
+        assertThat(service.getSuccessMessage())
+                .isEqualTo("POTA refresh complete: 3 activations written, 40 unchanged, 2 old records deleted");
+    }
+
+    @Test
+    void testExecuteRefresh_UpsertFails_ThrowsDataRefreshException() {
+        when(potaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(createTestActivation())));
+        when(upsertWriter.upsert(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> service.executeRefresh())
+                .isInstanceOf(DataRefreshException.class)
+                .hasMessageContaining("POTA");
 
-        when(potaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_POTA_API), anyList()))
-                .thenReturn(List.of(existingEntity));
+        verify(repository, never()).deleteBySourceAndLastSeenAtBefore(any(), any());
+
+        // The next run must not treat the unpersisted data as unchanged
+        verify(potaClient).resetConditionalFetch();
+    }
+
+    @Test
+    void testExecuteRefreshAsync_Modified_PersistsAndPublishesEvent() {
+        when(potaClient.fetchIfModifiedAsync())
+                .thenReturn(Mono.just(FetchResult.modified(List.of(createTestActivation()))));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_POTA_API), any())).thenReturn(0);
 
-        // When: Executing the refresh
-        service.executeRefresh();
+        service.executeRefreshAsync().block();
 
-        // Then: The saved entity should have the existing ID (for UPDATE)
-        @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(anyList());
+        verify(eventPublisher).publishEvent(any(CacheRefreshEvent.class));
+        verify(potaClient, never()).fetchIfModified();
+    }
+
+    @Test
+    void testExecuteRefreshAsync_NotModified_SkipsPersistence() {
+        when(potaClient.fetchIfModifiedAsync()).thenReturn(Mono.just(FetchResult.notModified()));
+
+        service.executeRefreshAsync().block();
 
-        List<ActivationEntity> saved = captor.getValue();
-        assertThat(saved).hasSize(1);
-        assertThat(saved.get(0).getId()).isEqualTo(42L);
+        verify(upsertWriter, never()).upsert(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
-    private Activation createTestActivation() {
-        return pota().spotId("spot-1234").build();
+    @Test
+    void testExecuteRefreshAsync_UpsertFails_ErrorsAndResetsConditionalFetch() {
+        when(potaClient.fetchIfModifiedAsync())
+                .thenReturn(Mono.just(FetchResult.modified(List.of(createTestActivation()))));
+        when(upsertWriter.upsert(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> service.executeRefreshAsync().block())
+                .isInstanceOf(DataRefreshException.class);
+
+        verify(potaClient).resetConditionalFetch();
     }
 
-    private ActivationEntity createTestEntity() {
-        Instant now = Instant.now();
-        return new ActivationEntity(
-                "spot-1234",
-                "W1ABC",
-                ActivationType.POTA,
-                14074.0,
-                "FT8",
-                now,
-                now, // lastSeenAt
-                5,
-                "POTA",
-                "K-1234",
-                "Test Park",
-                "CO",
-                "US",
-                "DM79",
-                40.0,
-                -105.0,
-                null
-        );
+    private Activation createTestActivation() {
+        return pota().spotId("spot-1234").build();
     }
 }
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -40,7 +41,7 @@ class PotaRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new PotaRefreshTask(repository);
+        task = new PotaRefreshTask(repository, refreshService);
     }
 
     @Test
@@ -63,6 +64,14 @@ class PotaRefreshTaskTest {
         verify(refreshService).executeRefresh();
     }
 
+    @Test
+    void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+        Mono<Void> refresh = Mono.empty();
+        when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+        assertThat(task.executeInitialLoad()).isSameAs(refresh);
+    }
+
     @Test
     void testNeedsInitialLoad_EmptyRepository_ReturnsTrue() {
         when(repository.findByTypeAndSpottedAtAfterOrderBySpottedAtDesc(
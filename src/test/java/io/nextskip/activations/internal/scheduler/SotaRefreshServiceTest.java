@@ -6,19 +6,23 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.internal.SotaClient;
+import io.nextskip.activations.internal.SotaSummitLocator;
 import io.nextskip.activations.model.Activation;
-import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.Summit;
 import io.nextskip.activations.persistence.entity.ActivationEntity;
 import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
-import java.time.Instant;
+import io.nextskip.common.scheduler.DataRefreshException;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +32,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Mono;
 
 /**
  * Unit tests for SotaRefreshService.
@@ -47,52 +54,61 @@ class SotaRefreshServiceTest {
     private ActivationRepository repository;
 
     @Mock
-    private LoadingCache<String, List<Activation>> activationsCache;
+    private ActivationUpsertWriter upsertWriter;
+
+    @Mock
+    private LoadingCache<String, ActivationsReadModel> activationsCache;
+
+    @Mock
+    private SotaSummitLocator summitLocator;
 
     private SotaRefreshService service;
 
     @BeforeEach
     void setUp() {
-        service = new SotaRefreshService(eventPublisher, sotaClient, repository, activationsCache);
+        service = new SotaRefreshService(eventPublisher, TransactionOperations.withoutTransaction(),
+                sotaClient, repository, upsertWriter, activationsCache, summitLocator);
+        // Summits stay unlocated unless a test says otherwise
+        lenient().when(summitLocator.locate(anyList())).thenAnswer(inv -> inv.getArgument(0));
     }
 
     @Test
     void testExecuteRefresh_CallsClientFetch() {
         Activation activation = createTestActivation();
-        when(sotaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_SOTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
-        verify(sotaClient).fetch();
+        verify(sotaClient).fetchIfModified();
     }
 
     @Test
-    void testExecuteRefresh_CallsRepositorySaveAll() {
+    void testExecuteRefresh_UpsertsConvertedEntities() {
         Activation activation = createTestActivation();
-        when(sotaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_SOTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(captor.capture());
 
-        List<ActivationEntity> saved = captor.getValue();
-        assertThat(saved).hasSize(1);
+        List<ActivationEntity> upserted = captor.getValue();
+        assertThat(upserted).hasSize(1);
+        assertThat(upserted.get(0).getSpotId()).isEqualTo("spot-5678");
+        assertThat(upserted.get(0).getSource()).isEqualTo(activation.source());
+        verify(repository, never()).saveAll(any());
     }
 
     @Test
     void testExecuteRefresh_CallsRepositoryDeleteOld() {
         Activation activation = createTestActivation();
-        when(sotaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_SOTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(3);
 
         service.executeRefresh();
@@ -103,9 +119,8 @@ class SotaRefreshServiceTest {
     @Test
     void testExecuteRefresh_PublishesCacheRefreshEvent() {
         Activation activation = createTestActivation();
-        when(sotaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_SOTA_API), anyList()))
-                .thenReturn(Collections.emptyList());
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
@@ -115,86 +130,108 @@ class SotaRefreshServiceTest {
         verify(eventPublisher).publishEvent(captor.capture());
 
         CacheRefreshEvent event = captor.getValue();
-        assertThat(event.cacheName()).isEqualTo("activations");
+        assertThat(event.cacheNames()).containsExactly("activations");
 
         // Verify the refresh action calls the cache
         event.refreshAction().run();
         verify(activationsCache).refresh(CacheConfig.CACHE_KEY);
     }
 
+    @Test
+    void testExecuteRefresh_NotModified_SkipsPersistenceAndCacheRefresh() {
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.notModified());
+
+        service.executeRefresh();
+
+        verify(upsertWriter, never()).upsert(any());
+        verify(repository, never()).deleteBySourceAndLastSeenAtBefore(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void testExecuteRefresh_ClientThrowsException_PropagatesException() {
-        when(sotaClient.fetch()).thenThrow(new RuntimeException("SOTA API error"));
+        when(sotaClient.fetchIfModified()).thenThrow(new RuntimeException("SOTA API error"));
 
         assertThatThrownBy(() -> service.executeRefresh())
                 .isInstanceOf(RuntimeException.class);
 
-        verify(repository, never()).saveAll(any());
+        verify(upsertWriter, never()).upsert(any());
     }
 
     @Test
-    void testExecuteRefresh_EmptyList_SavesNothing() {
-        when(sotaClient.fetch()).thenReturn(Collections.emptyList());
+    void testExecuteRefresh_EmptyList_UpsertsNothing() {
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(Collections.emptyList()));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(0, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(0);
 
         service.executeRefresh();
 
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(captor.capture());
 
         assertThat(captor.getValue()).isEmpty();
     }
 
     @Test
-    void testExecuteRefresh_ExistingActivation_SetsIdForUpdate() {
-        // Given: An activation that already exists in the database
-        Activation activation = createTestActivation();
-        ActivationEntity existingEntity = createTestEntity();
-        existingEntity.setId(99L);
+    void testExecuteRefresh_UpsertResult_ReportedInSuccessMessage() {
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(createTestActivation())));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(3, 40));
+        when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(2);
+
+        service.executeRefresh();
+
+        assertThat(service.getSuccessMessage())
+                .isEqualTo("SOTA refresh complete: 3 activations written, 40 unchanged, 2 old records deleted");
+    }
+
+    @Test
+    void testExecuteRefresh_UpsertFails_ThrowsDataRefreshException() {
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(createTestActivation())));
+        when(upsertWriter.upsert(anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> service.executeRefresh())
+                .isInstanceOf(DataRefreshException.class)
+                .hasMessageContaining("SOTA");
+
+        verify(repository, never()).deleteBySourceAndLastSeenAtBefore(any(), any());
+
+        // The next run must not treat the unpersisted data as unchanged
+        verify(sotaClient).resetConditionalFetch();
+    }
 
-        when(sotaClient.fetch()).thenReturn(List.of(activation));
-        when(repository.findBySourceAndSpotIdIn(eq(SOURCE_SOTA_API), anyList()))
-                .thenReturn(List.of(existingEntity));
+    @Test
+    void testExecuteRefresh_PersistsLocatedSummits() {
+        Activation activation = createTestActivation();
+        Summit summit = (Summit) activation.location();
+        Activation located = sota().spotId("spot-5678").activatorCallsign("W4ABC")
+                .location(summit.withCoordinates(34.8742, -83.8097))
+                .build();
+        when(sotaClient.fetchIfModified()).thenReturn(FetchResult.modified(List.of(activation)));
+        when(summitLocator.locate(List.of(activation))).thenReturn(List.of(located));
+        when(upsertWriter.upsert(anyList())).thenReturn(new ActivationUpsertWriter.UpsertResult(1, 0));
         when(repository.deleteBySourceAndLastSeenAtBefore(eq(SOURCE_SOTA_API), any())).thenReturn(0);
 
-        // When: Executing the refresh
         service.executeRefresh();
 
-        // Then: The saved entity should have the existing ID (for UPDATE)
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<ActivationEntity>> captor = ArgumentCaptor.forClass(List.class);
-        verify(repository).saveAll(captor.capture());
+        verify(upsertWriter).upsert(captor.capture());
+        assertThat(captor.getValue().get(0).getSummitLatitude()).isEqualTo(34.8742);
+        assertThat(captor.getValue().get(0).getSummitLongitude()).isEqualTo(-83.8097);
+    }
+
+    @Test
+    void testExecuteRefreshAsync_NotModified_SkipsLocating() {
+        when(sotaClient.fetchIfModifiedAsync()).thenReturn(Mono.just(FetchResult.notModified()));
+
+        service.executeRefreshAsync().block();
 
-        List<ActivationEntity> saved = captor.getValue();
-        assertThat(saved).hasSize(1);
-        assertThat(saved.get(0).getId()).isEqualTo(99L);
+        verify(summitLocator, never()).locateAsync(anyList());
+        verify(upsertWriter, never()).upsert(anyList());
     }
 
     private Activation createTestActivation() {
         return sota().spotId("spot-5678").activatorCallsign("W4ABC").build();
     }
-
-    private ActivationEntity createTestEntity() {
-        Instant now = Instant.now();
-        return new ActivationEntity(
-                "spot-5678",
-                "W4ABC",
-                ActivationType.SOTA,
-                14285.0,
-                "SSB",
-                now,
-                now, // lastSeenAt
-                10,
-                "SOTA",
-                "W4C/WM-001",
-                "Test Summit",
-                "NC",
-                null,
-                null,
-                null,
-                null,
-                "W4C"
-        );
-    }
 }
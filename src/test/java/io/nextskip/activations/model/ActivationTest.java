@@ -7,6 +7,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static io.nextskip.test.TestConstants.*;
 import static io.nextskip.test.fixtures.ActivationFixtures.pota;
@@ -283,6 +284,40 @@ class ActivationTest {
         }
     }
 
+    // =========================================================================
+    // evaluatedAt(Instant) Tests
+    // =========================================================================
+
+    @Nested
+    class EvaluatedAtTests {
+
+        @Test
+        void testEvaluatedAt_PinsScoreAndFavorable() {
+            // Given: Spotted 20 minutes before the reference time, long before the current time
+            Instant snapshot = Instant.parse(REFERENCE_TIME_STRING);
+            Activation activation = createActivationWithSpottedAt(snapshot.minus(20, ChronoUnit.MINUTES));
+
+            Activation evaluated = activation.evaluatedAt(snapshot);
+
+            // Then: The no-argument getters return the values at the reference time
+            assertThat(evaluated.getScore()).isEqualTo(activation.getScore(snapshot));
+            assertThat(evaluated.isFavorable()).isEqualTo(activation.isFavorable(snapshot));
+            assertThat(evaluated.evaluation().evaluatedAt()).isEqualTo(snapshot);
+            assertThat(activation.evaluation()).isNull();
+        }
+
+        @Test
+        void testEvaluatedAt_KeepsReach() {
+            ActivationReach reach = new ActivationReach(3, 1200, Set.of("EU"));
+            Activation activation = pota().build().withReach(reach);
+
+            Activation evaluated = activation.evaluatedAt(Instant.parse(REFERENCE_TIME_STRING));
+
+            assertThat(evaluated.reach()).isEqualTo(reach);
+            assertThat(evaluated.withReach(null).evaluation()).isEqualTo(evaluated.evaluation());
+        }
+    }
+
     // =========================================================================
     // SpottedAt Behavior Tests
     // =========================================================================
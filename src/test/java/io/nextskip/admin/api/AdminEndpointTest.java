@@ -1,18 +1,32 @@
 package io.nextskip.admin.api;
 
+import io.nextskip.admin.internal.CacheStatusService;
 import io.nextskip.admin.internal.FeedStatusService;
+import io.nextskip.admin.internal.FlightRecorderService;
+import io.nextskip.admin.model.CacheStatus;
 import io.nextskip.admin.model.FeedStatus;
 import io.nextskip.admin.model.FeedType;
+import io.nextskip.admin.model.FlightRecordingDump;
+import io.nextskip.spots.api.IngestSettings;
+import io.nextskip.spots.api.IngestSettingsChange;
+import io.nextskip.spots.api.IngestTuningService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,15 +38,33 @@ class AdminEndpointTest {
 
     private static final String FEED_ID = "test-feed";
     private static final String FEED_NAME = "Test Feed";
+    private static final IngestSettings SETTINGS =
+            new IngestSettings(100, 1000, 10_000, 2, 2, List.of("pskr/filter/v2/+/FT8/#"));
 
     @Mock
     private FeedStatusService feedStatusService;
 
+    @Mock
+    private CacheStatusService cacheStatusService;
+
+    @Mock
+    private FlightRecorderService flightRecorderService;
+
+    @Mock
+    private IngestTuningService ingestTuningService;
+
     private AdminEndpoint endpoint;
 
     @BeforeEach
     void setUp() {
-        endpoint = new AdminEndpoint(feedStatusService);
+        endpoint = new AdminEndpoint(feedStatusService, cacheStatusService, flightRecorderService,
+                new StaticListableBeanFactory(Map.of("ingestTuningService", ingestTuningService))
+                        .getBeanProvider(IngestTuningService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -94,4 +126,71 @@ class AdminEndpointTest {
 
         assertThat(result).isFalse();
     }
+
+    @Test
+    void testGetCacheStatuses_DelegatesToService() {
+        List<CacheStatus> expected = List.of(
+                new CacheStatus("activations", 1, 0.95, 19, 1, 0, 12.5, 180L, Instant.now())
+        );
+        when(cacheStatusService.getCacheStatuses()).thenReturn(expected);
+
+        List<CacheStatus> result = endpoint.getCacheStatuses();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void testDumpFlightRecording_DelegatesToService() {
+        FlightRecordingDump expected = new FlightRecordingDump("/tmp/nextskip-20250115-120000.jfr", 4096,
+                Instant.now());
+        when(flightRecorderService.dump()).thenReturn(expected);
+
+        FlightRecordingDump result = endpoint.dumpFlightRecording();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetIngestSettings_DelegatesToService() {
+        when(ingestTuningService.getIngestSettings()).thenReturn(SETTINGS);
+
+        assertThat(endpoint.getIngestSettings()).isEqualTo(SETTINGS);
+    }
+
+    @Test
+    void testUpdateIngestSettings_OAuth2Admin_AuditedUnderEmail() {
+        DefaultOAuth2User admin = new DefaultOAuth2User(List.of(),
+                Map.of("login", "w1aw", "email", "admin@example.com"), "login");
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(admin, null));
+        when(ingestTuningService.updateIngestSettings(SETTINGS, "admin@example.com")).thenReturn(SETTINGS);
+
+        assertThat(endpoint.updateIngestSettings(SETTINGS)).isEqualTo(SETTINGS);
+    }
+
+    @Test
+    void testUpdateIngestSettings_NoAuthentication_AuditedAsUnknown() {
+        when(ingestTuningService.updateIngestSettings(SETTINGS, "unknown")).thenReturn(SETTINGS);
+
+        assertThat(endpoint.updateIngestSettings(SETTINGS)).isEqualTo(SETTINGS);
+    }
+
+    @Test
+    void testGetIngestSettingsHistory_DelegatesToService() {
+        List<IngestSettingsChange> expected = List.of(new IngestSettingsChange(
+                Instant.parse("2025-01-15T12:00:00Z"), "admin@example.com", SETTINGS, SETTINGS));
+        when(ingestTuningService.getRecentChanges()).thenReturn(expected);
+
+        assertThat(endpoint.getIngestSettingsHistory()).isEqualTo(expected);
+    }
+
+    @Test
+    void testIngestSettings_SpotsDisabled_ReadsEmptyAndRejectsUpdates() {
+        AdminEndpoint withoutSpots = new AdminEndpoint(feedStatusService, cacheStatusService, flightRecorderService,
+                new StaticListableBeanFactory().getBeanProvider(IngestTuningService.class));
+
+        assertThat(withoutSpots.getIngestSettings()).isNull();
+        assertThat(withoutSpots.getIngestSettingsHistory()).isEmpty();
+        assertThatThrownBy(() -> withoutSpots.updateIngestSettings(SETTINGS))
+                .isInstanceOf(IllegalStateException.class);
+    }
 }
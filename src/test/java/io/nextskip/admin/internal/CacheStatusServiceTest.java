@@ -0,0 +1,66 @@
+package io.nextskip.admin.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nextskip.admin.model.CacheStatus;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.config.CacheRefreshTracker;
+import io.nextskip.test.MutableClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for CacheStatusService.
+ */
+class CacheStatusServiceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-15T12:00:00Z"));
+    private final CacheRefreshTracker refreshTracker = new CacheRefreshTracker(clock,
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+
+    @Test
+    void testGetCacheStatuses_ReportsStatsAndLagSortedByName() {
+        LoadingCache<String, String> contests = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .recordStats()
+                .removalListener(refreshTracker.replacementListener("contests"))
+                .build(key -> {
+                    clock.advance(Duration.ofMillis(40));
+                    return key + "@" + clock.instant();
+                });
+        LoadingCache<String, String> activations = Caffeine.newBuilder().recordStats().build(key -> key);
+        contests.get(CacheConfig.CACHE_KEY);
+        contests.get(CacheConfig.CACHE_KEY);
+        contests.get(CacheConfig.CACHE_KEY);
+        refreshTracker.track(Map.of("contests", contests), () -> contests.refresh(CacheConfig.CACHE_KEY));
+
+        CacheStatusService service = new CacheStatusService(
+                Map.of("contestsCache", contests, "activationsCache", activations), refreshTracker);
+        List<CacheStatus> statuses = service.getCacheStatuses();
+
+        assertThat(statuses).extracting(CacheStatus::name).containsExactly("activations", "contests");
+        CacheStatus activationsStatus = statuses.get(0);
+        assertThat(activationsStatus.size()).isZero();
+        assertThat(activationsStatus.lastRefreshLagMillis()).isNull();
+        assertThat(activationsStatus.lastRefreshed()).isNull();
+
+        CacheStatus contestsStatus = statuses.get(1);
+        assertThat(contestsStatus.size()).isEqualTo(1);
+        assertThat(contestsStatus.hits()).isEqualTo(2);
+        assertThat(contestsStatus.misses()).isEqualTo(1);
+        assertThat(contestsStatus.hitRate()).isCloseTo(2.0 / 3, within(1e-9));
+        assertThat(contestsStatus.loadFailures()).isZero();
+        assertThat(contestsStatus.averageLoadMillis()).isGreaterThanOrEqualTo(0.0);
+        assertThat(contestsStatus.lastRefreshLagMillis()).isEqualTo(40L);
+        assertThat(contestsStatus.lastRefreshed()).isEqualTo(clock.instant());
+    }
+}
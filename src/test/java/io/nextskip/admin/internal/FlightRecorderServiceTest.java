@@ -0,0 +1,83 @@
+package io.nextskip.admin.internal;
+
+import io.nextskip.admin.model.FlightRecordingDump;
+import io.nextskip.common.jfr.CacheLoadEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FlightRecorderService.
+ */
+class FlightRecorderServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @TempDir
+    private Path dumpDirectory;
+
+    private FlightRecorderService service;
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void testDump_Recording_WritesApplicationEvents() throws IOException {
+        service = create(true);
+        service.start();
+        CacheLoadEvent.record("contests", () -> List.of("a", "b"), List::size);
+
+        FlightRecordingDump dump = service.dump();
+
+        assertThat(dump.path()).isEqualTo(dumpDirectory.resolve("nextskip-20250115-120000.jfr").toString());
+        assertThat(dump.sizeBytes()).isPositive();
+        assertThat(dump.dumpedAt()).isEqualTo(NOW);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(dump.path()));
+        assertThat(events)
+                .filteredOn(event -> "io.nextskip.CacheLoad".equals(event.getEventType().getName()))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getString("cache")).isEqualTo("contests"));
+    }
+
+    @Test
+    void testDump_Disabled_ReturnsNull() {
+        service = create(false);
+        service.start();
+
+        assertThat(service.isRecording()).isFalse();
+        assertThat(service.dump()).isNull();
+    }
+
+    @Test
+    void testStop_ClosesRecording() {
+        service = create(true);
+        service.start();
+        assertThat(service.isRecording()).isTrue();
+
+        service.stop();
+
+        assertThat(service.isRecording()).isFalse();
+        assertThat(service.dump()).isNull();
+    }
+
+    private FlightRecorderService create(boolean enabled) {
+        return new FlightRecorderService(CLOCK, enabled, Duration.ofMinutes(10), DataSize.ofMegabytes(8),
+                dumpDirectory);
+    }
+}
@@ -0,0 +1,255 @@
+package io.nextskip.common;
+
+import io.nextskip.activations.persistence.repository.ActivationRepository;
+import io.nextskip.propagation.persistence.repository.BandConditionRepository;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import io.nextskip.test.AbstractIntegrationTest;
+import io.nextskip.test.QueryPlan;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.lang.Nullable;
+
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression guard for every native query in the spot, activation and band
+ * condition repositories.
+ *
+ * <p>Seeds a realistic dataset - six hours of spots across seven hourly hypertable
+ * chunks, a week of activations and months of band conditions - then runs each
+ * native query under {@code EXPLAIN (ANALYZE, BUFFERS)} with the parameters the
+ * application uses and checks:
+ * <ul>
+ *   <li><b>Chunk exclusion</b> - spot queries only scan the chunks their window overlaps</li>
+ *   <li><b>Index usage</b> - selective lookups use the index that migrations created for them</li>
+ *   <li><b>Buffers</b> - shared buffers touched stay within a share of the table's total
+ *       size, which catches nested-loop and correlated-subquery plans that revisit pages</li>
+ * </ul>
+ *
+ * <p>Queries are discovered reflectively, so adding a native query without a plan
+ * budget fails {@link #testEveryNativeQuery_HasPlanBudget()}. Budgets are shares of
+ * table size rather than absolute counts so they hold on any host; a dropped index,
+ * a migration that changes chunking or a rewritten query that loses a range predicate
+ * all fail the build.
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Parameter names repeat across budgets
+class QueryPlanRegressionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            SpotRepository.class, ActivationRepository.class, BandConditionRepository.class);
+
+    /** Native queries that are maintenance commands rather than reads; EXPLAIN ANALYZE would execute them. */
+    private static final Set<String> NOT_PLANNED = Set.of("SpotRepository.dropOldChunks");
+
+    private static final int SPOTS_PER_HOUR = 50_000;
+    private static final int SPOT_HOURS = 6;
+    private static final int ACTIVATIONS = 20_000;
+    private static final int BAND_CONDITION_HOURS = 2_000;
+    private static final long BYTES_PER_PAGE = 8192;
+
+    /** Upper bound used by the single-scan query, as in {@code SingleScanBounds.OPEN_END}. */
+    private static final Instant OPEN_END = Instant.parse("9999-12-31T23:59:59Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    private Instant now;
+
+    /**
+     * Budget for one native query.
+     *
+     * @param query          repository simple name and method, e.g. {@code SpotRepository.findMaxDxSpotPerBandMode}
+     * @param table          table or hypertable the query reads
+     * @param params         query parameters for a given "now"
+     * @param maxChunks      maximum hypertable chunks scanned, or 0 for plain tables
+     * @param maxBufferShare maximum shared buffers touched as a share of the table's total pages
+     * @param requiredIndex  index the plan must use, or null if the planner may choose
+     */
+    private record PlanBudget(
+            String query,
+            String table,
+            Function<Instant, Map<String, Object>> params,
+            int maxChunks,
+            double maxBufferShare,
+            @Nullable String requiredIndex
+    ) {
+        @Override
+        public String toString() {
+            return query;
+        }
+    }
+
+    private static List<PlanBudget> budgets() {
+        return List.of(
+                // 3h baseline: 3 full chunks plus the partial chunk at each end of the window
+                new PlanBudget("SpotRepository.countSpotsByBandModeInBuckets", "spots",
+                        now -> Map.of("since", now.minus(Duration.ofHours(3))), 4, 0.55, null),
+                new PlanBudget("SpotRepository.findMaxDxSpotPerBandMode", "spots",
+                        now -> Map.of("since", now.minus(Duration.ofHours(1))), 2, 0.3, null),
+                new PlanBudget("SpotRepository.countContinentPathsPerBandMode", "spots",
+                        now -> Map.of("since", now.minus(Duration.ofHours(1))), 2, 0.3, null),
+                new PlanBudget("SpotRepository.aggregateBandModeSingleScan", "spots",
+                        now -> Map.of(
+                                "since", now.minus(Duration.ofHours(3)),
+                                "until", OPEN_END,
+                                "dxSince", now.minus(Duration.ofHours(1)),
+                                "pathSince15m", now.minus(Duration.ofMinutes(15)),
+                                "pathSince30m", now.minus(Duration.ofMinutes(30)),
+                                "pathSince60m", now.minus(Duration.ofMinutes(60))), 4, 0.55, null),
+                new PlanBudget("ActivationRepository.findLatestPerCallsignAndLocation", "activations",
+                        now -> Map.of("cutoff", now.minus(Duration.ofMinutes(30))), 0, 0.1,
+                        "idx_activations_spotted_at"),
+                new PlanBudget("BandConditionRepository.findLatestPerBandSince", "band_conditions",
+                        now -> Map.of("since", now.minus(Duration.ofHours(3))), 0, 0.1,
+                        "idx_band_conditions_recorded_at"));
+    }
+
+    @BeforeAll
+    void seed() {
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        int spots = SPOTS_PER_HOUR * SPOT_HOURS;
+        jdbcTemplate.update("""
+                INSERT INTO spots (source, band, mode, spotted_at, snr,
+                                   spotter_call, spotter_continent, spotted_call, spotted_continent, distance_km)
+                SELECT 'PSKReporter',
+                       (ARRAY['160m','80m','40m','30m','20m','17m','15m','12m','10m','6m'])[1 + g % 10],
+                       (ARRAY['FT8','FT8','FT8','FT4','FT2'])[1 + (g / 10) % 5],
+                       ?::timestamptz - (g * ? / ?) * INTERVAL '1 microsecond',
+                       -24 + g % 40,
+                       'S' || (g % 5000),
+                       (ARRAY['NA','EU','AS','OC','SA','AF'])[1 + (g / 7) % 6],
+                       'T' || (g % 20000),
+                       (ARRAY['NA','EU','AS','OC','SA','AF'])[1 + (g / 11) % 6],
+                       CASE WHEN g % 13 = 0 THEN NULL ELSE (g * 7919) % 19000 END
+                FROM generate_series(1, ?) AS g
+                """, Timestamp.from(now), Duration.ofHours(SPOT_HOURS).toNanos() / 1000, spots, spots);
+        jdbcTemplate.update("""
+                INSERT INTO activations (spot_id, activator_callsign, type, frequency, mode, spotted_at,
+                                         last_seen_at, qso_count, source, location_reference, location_name)
+                SELECT 'PLAN-' || g,
+                       'A' || (g % 2000),
+                       (ARRAY['POTA','SOTA'])[1 + g % 2],
+                       14074.0, 'FT8',
+                       ?::timestamptz - g * INTERVAL '30 seconds',
+                       ?::timestamptz - g * INTERVAL '30 seconds',
+                       g % 50,
+                       (ARRAY['POTA API','SOTA API'])[1 + g % 2],
+                       'K-' || (g % 3000),
+                       'Park ' || (g % 3000)
+                FROM generate_series(1, ?) AS g
+                """, Timestamp.from(now), Timestamp.from(now), ACTIVATIONS);
+        jdbcTemplate.update("""
+                INSERT INTO band_conditions (band, rating, confidence, recorded_at)
+                SELECT b, (ARRAY['GOOD','FAIR','POOR'])[1 + h % 3], 0.8, ?::timestamptz - h * INTERVAL '1 hour'
+                FROM generate_series(0, ?) AS h,
+                     unnest(ARRAY['BAND_160M','BAND_80M','BAND_40M','BAND_30M','BAND_20M','BAND_17M',
+                                  'BAND_15M','BAND_12M','BAND_10M','BAND_6M']) AS b
+                """, Timestamp.from(now), BAND_CONDITION_HOURS);
+        // VACUUM sets the visibility map so index-only scans do not fall back to heap fetches
+        jdbcTemplate.execute("VACUUM ANALYZE spots");
+        jdbcTemplate.execute("VACUUM ANALYZE activations");
+        jdbcTemplate.execute("VACUUM ANALYZE band_conditions");
+    }
+
+    @AfterAll
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE spots");
+        jdbcTemplate.execute("TRUNCATE activations");
+        jdbcTemplate.execute("TRUNCATE band_conditions");
+    }
+
+    @Test
+    void testEveryNativeQuery_HasPlanBudget() {
+        Set<String> budgeted = budgets().stream().map(PlanBudget::query).collect(Collectors.toSet());
+
+        assertThat(nativeQueries().keySet())
+                .as("Every native query needs a PlanBudget (or a NOT_PLANNED entry)")
+                .containsExactlyInAnyOrderElementsOf(Stream.concat(budgeted.stream(), NOT_PLANNED.stream()).toList());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void testNativeQueryPlan_WithinBudget(PlanBudget budget) {
+        // Given
+        String sql = nativeQueries().get(budget.query());
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        budget.params().apply(now).forEach((name, value) ->
+                params.addValue(name, value instanceof Instant instant ? Timestamp.from(instant) : value));
+
+        // When
+        QueryPlan plan = QueryPlan.parse(
+                namedJdbcTemplate.queryForObject(QueryPlan.EXPLAIN_PREFIX + sql, params, String.class));
+
+        // Then
+        if (budget.maxChunks() > 0) {
+            List<String> chunks = jdbcTemplate.queryForList(
+                    "SELECT chunk_name FROM timescaledb_information.chunks WHERE hypertable_name = ?",
+                    String.class, budget.table());
+            assertThat(plan.scannedRelationsIn(chunks))
+                    .as("chunks scanned (of %d) by %s%n%s", chunks.size(), budget.query(), plan)
+                    .isNotEmpty()
+                    .hasSizeLessThanOrEqualTo(budget.maxChunks());
+        }
+        if (budget.requiredIndex() != null) {
+            assertThat(plan.usedIndexes())
+                    .as("indexes used by %s%n%s", budget.query(), plan)
+                    .anyMatch(index -> index.endsWith(budget.requiredIndex()));
+            assertThat(plan.seqScans(budget.table()))
+                    .as("seq scan on %s by %s%n%s", budget.table(), budget.query(), plan)
+                    .isFalse();
+        }
+        long budgetBuffers = (long) (tablePages(budget) * budget.maxBufferShare());
+        assertThat(plan.sharedBuffers())
+                .as("shared buffers touched by %s (budget %d)%n%s", budget.query(), budgetBuffers, plan)
+                .isLessThanOrEqualTo(budgetBuffers);
+    }
+
+    private long tablePages(PlanBudget budget) {
+        String sizeSql = budget.maxChunks() > 0
+                ? "SELECT hypertable_size(?::regclass)"
+                : "SELECT pg_total_relation_size(?::regclass)";
+        Long bytes = jdbcTemplate.queryForObject(sizeSql, Long.class, budget.table());
+        return bytes == null ? 0 : bytes / BYTES_PER_PAGE;
+    }
+
+    private static Map<String, String> nativeQueries() {
+        Map<String, String> queries = new TreeMap<>();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query != null && query.nativeQuery()) {
+                    queries.put(repository.getSimpleName() + "." + method.getName(), query.value());
+                }
+            }
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,270 @@
+package io.nextskip.common.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the conditional fetch support in {@link AbstractExternalDataClient},
+ * using WireMock as the upstream.
+ */
+class AbstractExternalDataClientTest {
+
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 21 Oct 2026 07:28:00 GMT";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    private WireMockServer wireMockServer;
+    private TestClient client;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        wireMockServer.start();
+
+        // Single attempt keeps failure tests fast
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build());
+        client = new TestClient(WebClient.builder(), CircuitBreakerRegistry.ofDefaults(), retryRegistry,
+                wireMockServer.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void testFetchIfModified_EtagUnchanged_ReturnsNotModified() {
+        wireMockServer.stubFor(get(urlEqualTo("/")).atPriority(1)
+                .withHeader(IF_NONE_MATCH, equalTo(ETAG))
+                .willReturn(aResponse().withStatus(304)));
+        wireMockServer.stubFor(get(urlEqualTo("/")).atPriority(5)
+                .willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG).withBody("payload")));
+
+        FetchResult<String> first = client.fetchIfModified();
+        FetchResult<String> second = client.fetchIfModified();
+
+        assertThat(first).isEqualTo(FetchResult.modified("payload"));
+        assertThat(second.modified()).isFalse();
+        assertThat(second.data()).isNull();
+        assertThat(client.parseCount).isEqualTo(1);
+        wireMockServer.verify(getRequestedFor(urlEqualTo("/")).withHeader(IF_NONE_MATCH, equalTo(ETAG)));
+    }
+
+    @Test
+    void testFetchIfModified_LastModified_SentAsIfModifiedSince() {
+        wireMockServer.stubFor(get(urlEqualTo("/")).atPriority(1)
+                .withHeader(IF_MODIFIED_SINCE, equalTo(LAST_MODIFIED))
+                .willReturn(aResponse().withStatus(304)));
+        wireMockServer.stubFor(get(urlEqualTo("/")).atPriority(5)
+                .willReturn(aResponse().withStatus(200).withHeader("Last-Modified", LAST_MODIFIED)
+                        .withBody("payload")));
+
+        client.fetchIfModified();
+        FetchResult<String> second = client.fetchIfModified();
+
+        assertThat(second.modified()).isFalse();
+    }
+
+    @Test
+    void testFetchIfModified_NoValidatorsSameBody_ShortCircuitsOnHash() {
+        stubBody("same body");
+
+        client.fetchIfModified();
+        FetchResult<String> second = client.fetchIfModified();
+
+        assertThat(second.modified()).isFalse();
+        assertThat(client.parseCount).isEqualTo(1);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo("/")).withHeader(IF_NONE_MATCH, absent()));
+    }
+
+    @Test
+    void testFetchIfModified_ValidatorsPresent_SkipsHashing() {
+        // Upstream sends an ETag but ignores If-None-Match
+        wireMockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(200).withHeader("ETag", ETAG).withBody("same body")));
+
+        client.fetchIfModified();
+        FetchResult<String> second = client.fetchIfModified();
+
+        assertThat(second).isEqualTo(FetchResult.modified("same body"));
+        assertThat(client.parseCount).isEqualTo(2);
+    }
+
+    @Test
+    void testFetchIfModified_BodyChanged_ReturnsNewData() {
+        stubBody("first");
+        client.fetchIfModified();
+
+        stubBody("second");
+        FetchResult<String> result = client.fetchIfModified();
+
+        assertThat(result).isEqualTo(FetchResult.modified("second"));
+        assertThat(client.parseCount).isEqualTo(2);
+    }
+
+    @Test
+    void testFetchIfModified_ParseFailure_NextFetchNotShortCircuited() {
+        stubBody("bad");
+        client.failParse = true;
+        assertThatThrownBy(() -> client.fetchIfModified()).isInstanceOf(InvalidApiResponseException.class);
+
+        client.failParse = false;
+        FetchResult<String> retry = client.fetchIfModified();
+
+        assertThat(retry).isEqualTo(FetchResult.modified("bad"));
+    }
+
+    @Test
+    void testFetch_AlwaysReturnsData() {
+        stubBody("same body");
+
+        client.fetchIfModified();
+        String data = client.fetch();
+
+        assertThat(data).isEqualTo("same body");
+        assertThat(client.parseCount).isEqualTo(2);
+    }
+
+    @Test
+    void testResetConditionalFetch_NextFetchReturnsData() {
+        stubBody("same body");
+        client.fetchIfModified();
+
+        client.resetConditionalFetch();
+        FetchResult<String> result = client.fetchIfModified();
+
+        assertThat(result.modified()).isTrue();
+    }
+
+    @Test
+    void testFetchIfModified_CountsOutcomesAndUpdatesFreshness() {
+        stubBody("same body");
+
+        client.fetchIfModified();
+        client.fetchIfModified();
+        client.fetchIfModified();
+
+        assertThat(client.getModifiedFetchCount()).isEqualTo(1);
+        assertThat(client.getUnmodifiedFetchCount()).isEqualTo(2);
+        assertThat(FeedFetchMetrics.skipRatio(client)).isEqualTo(2.0 / 3);
+        assertThat(client.isStale()).isFalse();
+    }
+
+    @Test
+    void testFetchIfModifiedAsync_SameBody_EmitsNotModified() {
+        stubBody("same body");
+
+        FetchResult<String> first = client.fetchIfModifiedAsync().block();
+        FetchResult<String> second = client.fetchIfModifiedAsync().block();
+
+        assertThat(first).isEqualTo(FetchResult.modified("same body"));
+        assertThat(second.modified()).isFalse();
+        assertThat(client.getUnmodifiedFetchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFetchAsync_AlwaysEmitsData() {
+        stubBody("same body");
+
+        client.fetchIfModifiedAsync().block();
+        String data = client.fetchAsync().block();
+
+        assertThat(data).isEqualTo("same body");
+        assertThat(client.parseCount).isEqualTo(2);
+    }
+
+    @Test
+    void testFetchAsync_NotSubscribed_NoRequest() {
+        stubBody("payload");
+
+        client.fetchAsync();
+
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/")));
+    }
+
+    @Test
+    void testFetchIfModifiedAsync_HttpError_MapsToExternalApiException() {
+        wireMockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(503)));
+
+        assertThatThrownBy(() -> client.fetchIfModifiedAsync().block())
+                .isInstanceOf(ExternalApiException.class)
+                .hasMessageContaining("HTTP 503");
+    }
+
+    @Test
+    void testFetchIfModifiedAsync_InvalidResponse_PropagatesUnwrapped() {
+        stubBody("bad");
+        client.failParse = true;
+
+        assertThatThrownBy(() -> client.fetchIfModifiedAsync().block())
+                .isInstanceOf(InvalidApiResponseException.class);
+    }
+
+    private void stubBody(String body) {
+        wireMockServer.stubFor(get(urlEqualTo("/"))
+                .willReturn(aResponse().withStatus(200).withBody(body)));
+    }
+
+    /**
+     * Minimal client that returns the body as a string.
+     */
+    private static final class TestClient extends AbstractExternalDataClient<String> {
+
+        private int parseCount;
+        private boolean failParse;
+
+        TestClient(WebClient.Builder builder, CircuitBreakerRegistry circuitBreakerRegistry,
+                   RetryRegistry retryRegistry, String baseUrl) {
+            super(builder, circuitBreakerRegistry, retryRegistry, baseUrl);
+        }
+
+        @Override
+        protected String getClientName() {
+            return "test";
+        }
+
+        @Override
+        public String getSourceName() {
+            return "Test API";
+        }
+
+        @Override
+        public Duration getRefreshInterval() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        protected String doFetch() {
+            String body = getWebClient().get()
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(getRequestTimeout())
+                    .block();
+            if (failParse) {
+                throw new InvalidApiResponseException(getSourceName(), "unparseable");
+            }
+            parseCount++;
+            return body;
+        }
+    }
+}
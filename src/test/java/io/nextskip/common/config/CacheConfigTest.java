@@ -1,6 +1,8 @@
 package io.nextskip.common.config;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nextskip.activations.api.ActivationsReadModel;
 import io.nextskip.activations.model.Activation;
 import io.nextskip.activations.model.ActivationType;
 import io.nextskip.activations.model.Park;
@@ -25,6 +27,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -75,7 +79,8 @@ class CacheConfigTest {
 
     @BeforeEach
     void setUp() {
-        config = new CacheConfig(FIXED_CLOCK);
+        ObjectProvider<MeterRegistry> noRegistry = new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class);
+        config = new CacheConfig(FIXED_CLOCK, new CacheRefreshTracker(FIXED_CLOCK, noRegistry));
     }
 
     @Test
@@ -90,12 +95,14 @@ class CacheConfigTest {
                 .thenReturn(Collections.emptyList());
 
         // When: Create cache and get data
-        LoadingCache<String, List<Activation>> cache = config.activationsCache(activationRepository);
+        LoadingCache<String, ActivationsReadModel> cache = config.activationsCache(activationRepository);
 
-        // Then: Cache should be created and load from repository
+        // Then: Cache should be created and load a read model stamped with the load time
         assertNotNull(cache);
-        List<Activation> result = cache.get(CacheConfig.CACHE_KEY);
+        ActivationsReadModel result = cache.get(CacheConfig.CACHE_KEY);
         assertNotNull(result);
+        assertTrue(result.activations().isEmpty());
+        assertEquals(FIXED_TIME, result.response().lastUpdated());
     }
 
     @Test
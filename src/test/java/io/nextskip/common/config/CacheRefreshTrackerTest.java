@@ -0,0 +1,124 @@
+package io.nextskip.common.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nextskip.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CacheRefreshTracker.
+ *
+ * <p>Caches run their reloads and removal notifications on the calling thread, and the
+ * loader advances the clock, so each refresh has a deterministic lag.
+ */
+class CacheRefreshTrackerTest {
+
+    private static final String CACHE = "contests";
+    private static final Duration LOAD_TIME = Duration.ofSeconds(3);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-15T12:00:00Z"));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicBoolean failNextLoad = new AtomicBoolean();
+
+    private CacheRefreshTracker tracker;
+    private LoadingCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new CacheRefreshTracker(clock,
+                new StaticListableBeanFactory(Map.of("registry", registry)).getBeanProvider(MeterRegistry.class));
+        cache = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .recordStats()
+                .removalListener(tracker.replacementListener(CACHE))
+                .build(key -> {
+                    clock.advance(LOAD_TIME);
+                    if (failNextLoad.getAndSet(false)) {
+                        throw new IllegalStateException("database unavailable");
+                    }
+                    return loads.incrementAndGet();
+                });
+    }
+
+    @Test
+    void testTrack_RefreshAction_RecordsCommitToVisibleLag() {
+        cache.get(CacheConfig.CACHE_KEY);
+        Instant committedAt = clock.instant();
+
+        tracker.track(Map.of(CACHE, cache), () -> cache.refresh(CacheConfig.CACHE_KEY));
+
+        assertThat(cache.get(CacheConfig.CACHE_KEY)).isEqualTo(2);
+        assertThat(tracker.getLastLag(CACHE)).isEqualTo(LOAD_TIME);
+        assertThat(tracker.getLastRefreshedAt(CACHE)).isEqualTo(committedAt.plus(LOAD_TIME));
+        Timer timer = registry.get("nextskip.cache.refresh.lag").tag("cache", CACHE).timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.SECONDS)).isEqualTo(3.0);
+    }
+
+    @Test
+    void testTrack_CacheNotTargeted_LaterReplacementNotAttributed() {
+        cache.get(CacheConfig.CACHE_KEY);
+
+        tracker.track(Map.of(), () -> { });
+        cache.put(CacheConfig.CACHE_KEY, 42);
+
+        assertThat(tracker.getLastLag(CACHE)).isNull();
+        assertThat(tracker.getLastRefreshedAt(CACHE)).isNull();
+    }
+
+    @Test
+    void testTrack_EmptyCache_FirstLoadIsNotALag() {
+        tracker.track(Map.of(CACHE, cache), () -> cache.refresh(CacheConfig.CACHE_KEY));
+        cache.refresh(CacheConfig.CACHE_KEY);
+
+        assertThat(tracker.getLastLag(CACHE)).isNull();
+    }
+
+    @Test
+    void testTrack_FailedReload_NextReloadReportsFullStaleness() {
+        cache.get(CacheConfig.CACHE_KEY);
+        failNextLoad.set(true);
+
+        tracker.track(Map.of(CACHE, cache), () -> cache.refresh(CacheConfig.CACHE_KEY));
+        assertThat(tracker.getLastLag(CACHE)).isNull();
+
+        tracker.track(Map.of(CACHE, cache), () -> cache.refresh(CacheConfig.CACHE_KEY));
+
+        assertThat(tracker.getLastLag(CACHE)).isEqualTo(LOAD_TIME.multipliedBy(2));
+    }
+
+    @Test
+    void testTrack_ActionThrows_PropagatesAndStopsClock() {
+        cache.get(CacheConfig.CACHE_KEY);
+
+        assertThatThrownBy(() -> tracker.track(Map.of(CACHE, cache), () -> {
+            throw new IllegalStateException("refresh failed");
+        })).isInstanceOf(IllegalStateException.class);
+        cache.put(CacheConfig.CACHE_KEY, 42);
+
+        assertThat(tracker.getLastLag(CACHE)).isNull();
+    }
+
+    @Test
+    void testCacheName_StripsBeanSuffix() {
+        assertThat(CacheRefreshTracker.cacheName("activationsCache")).isEqualTo("activations");
+        assertThat(CacheRefreshTracker.cacheName("Cache")).isEqualTo("Cache");
+        assertThat(CacheRefreshTracker.cacheName("spots")).isEqualTo("spots");
+    }
+}
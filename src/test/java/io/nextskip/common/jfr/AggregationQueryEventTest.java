@@ -0,0 +1,31 @@
+package io.nextskip.common.jfr;
+
+import io.nextskip.test.JfrEvents;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AggregationQueryEvent.
+ */
+class AggregationQueryEventTest {
+
+    @Test
+    void testRecord_Enabled_CommitsQueryModeAndRows() {
+        List<Object[]> rows = List.of(new Object[]{"20m", "FT8"}, new Object[]{"40m", "FT8"});
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(AggregationQueryEvent.class, () ->
+                assertThat(AggregationQueryEvent.record("buckets", "multi-query", () -> rows)).isSameAs(rows));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("query")).isEqualTo("buckets");
+            assertThat(event.getString("mode")).isEqualTo("multi-query");
+            assertThat(event.getInt("rows")).isEqualTo(2);
+            assertThat(event.getDuration()).isGreaterThanOrEqualTo(Duration.ZERO);
+        });
+    }
+}
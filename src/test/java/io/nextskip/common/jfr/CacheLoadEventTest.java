@@ -0,0 +1,51 @@
+package io.nextskip.common.jfr;
+
+import io.nextskip.test.JfrEvents;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CacheLoadEvent.
+ */
+class CacheLoadEventTest {
+
+    @Test
+    void testRecord_Enabled_CommitsCacheAndEntries() {
+        List<RecordedEvent> events = JfrEvents.recordedDuring(CacheLoadEvent.class, () ->
+                assertThat(CacheLoadEvent.record("contests", () -> List.of("a", "b", "c"), List::size))
+                        .containsExactly("a", "b", "c"));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("cache")).isEqualTo("contests");
+            assertThat(event.getInt("entries")).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void testRecord_NullValue_CommitsZeroEntries() {
+        List<RecordedEvent> events = JfrEvents.recordedDuring(CacheLoadEvent.class, () ->
+                CacheLoadEvent.record("solarIndices", () -> null, value -> 1));
+
+        assertThat(events).singleElement().satisfies(event -> assertThat(event.getInt("entries")).isZero());
+    }
+
+    @Test
+    void testRecord_LoaderThrows_PropagatesWithoutEvent() {
+        List<RecordedEvent> events = JfrEvents.recordedDuring(CacheLoadEvent.class, () ->
+                assertThatThrownBy(() -> CacheLoadEvent.record("contests", () -> {
+                    throw new IllegalStateException("database unavailable");
+                }, value -> 1)).isInstanceOf(IllegalStateException.class));
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void testRecord_NoRecording_ReturnsValue() {
+        assertThat(CacheLoadEvent.record("contests", () -> List.of("a"), List::size)).containsExactly("a");
+    }
+}
@@ -1,6 +1,5 @@
 package io.nextskip.common.model;
 
-import io.nextskip.test.fixtures.CallsignFixtures;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.ForAll;
@@ -128,30 +127,6 @@ class ContinentLookupTest {
         assertThat(continent).isNull();
     }
 
-    // ===========================================
-    // fromCallsign tests (placeholder for Phase 2)
-    // ===========================================
-
-    @Test
-    void testFromCallsign_AnyCallsign_ReturnsNull() {
-        // Phase 2 placeholder - currently always returns null
-        Callsign callsign = CallsignFixtures.usCallsign();
-
-        String continent = ContinentLookup.fromCallsign(callsign);
-
-        assertThat(continent).isNull();
-    }
-
-    @Test
-    void testFromCallsign_JapanCallsign_ReturnsNull() {
-        // Even for obviously identifiable callsigns, Phase 2 will implement
-        Callsign callsign = CallsignFixtures.japanCallsign();
-
-        String continent = ContinentLookup.fromCallsign(callsign);
-
-        assertThat(continent).isNull();
-    }
-
     // ===========================================
     // isValidContinent tests
     // ===========================================
@@ -0,0 +1,123 @@
+package io.nextskip.common.model;
+
+import io.nextskip.contests.model.Contest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EventCalendar.
+ *
+ * <p>Contests stand in for any {@link Event}; every query is checked against the
+ * event's own {@link Event#getStatus(Instant)} so the index and the model agree on
+ * boundaries.
+ */
+class EventCalendarTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    private static final Contest ENDED = contest("Ended", -48, -24);
+    private static final Contest ACTIVE_LONG = contest("Active long", -24, 48);
+    private static final Contest ACTIVE_ENDING = contest("Active ending", -2, 1);
+    private static final Contest STARTING_SOON = contest("Starting soon", 6, 30);
+    private static final Contest STARTING_LATER = contest("Starting later", 72, 96);
+
+    private static final List<Contest> CONTESTS =
+            List.of(ENDED, ACTIVE_LONG, ACTIVE_ENDING, STARTING_SOON, STARTING_LATER);
+
+    private final EventCalendar<Contest> calendar = EventCalendar.of(CONTESTS);
+
+    @Test
+    void testActiveAt_ReturnsOnlyActiveInSuppliedOrder() {
+        assertThat(calendar.activeAt(NOW)).containsExactly(ACTIVE_LONG, ACTIVE_ENDING);
+    }
+
+    @Test
+    void testActiveAt_BoundariesInclusive() {
+        assertThat(calendar.activeAt(STARTING_SOON.startTime())).contains(STARTING_SOON);
+        assertThat(calendar.activeAt(ACTIVE_ENDING.endTime())).contains(ACTIVE_ENDING);
+        assertThat(calendar.activeAt(ACTIVE_ENDING.endTime().plusNanos(1))).doesNotContain(ACTIVE_ENDING);
+    }
+
+    @Test
+    void testStartingWithin_ExcludesActiveAndLater() {
+        assertThat(calendar.startingWithin(NOW, Duration.ofHours(24))).containsExactly(STARTING_SOON);
+    }
+
+    @Test
+    void testEndingWithin_OnlyActiveEvents() {
+        assertThat(calendar.endingWithin(NOW, Duration.ofHours(2))).containsExactly(ACTIVE_ENDING);
+    }
+
+    @Test
+    void testNotEndedAndUpcoming() {
+        assertThat(calendar.notEndedAt(NOW))
+                .containsExactly(ACTIVE_LONG, ACTIVE_ENDING, STARTING_SOON, STARTING_LATER);
+        assertThat(calendar.upcomingAt(NOW)).containsExactly(STARTING_SOON, STARTING_LATER);
+    }
+
+    @Test
+    void testOverlapping_WindowSpansStartAndEnd() {
+        assertThat(calendar.overlapping(NOW.plus(Duration.ofHours(2)), NOW.plus(Duration.ofHours(7))))
+                .containsExactly(ACTIVE_LONG, STARTING_SOON);
+    }
+
+    @Test
+    void testRefreshedFrom_SameList_ReusesCalendar() {
+        assertThat(calendar.refreshedFrom(CONTESTS)).isSameAs(calendar);
+        assertThat(calendar.refreshedFrom(List.copyOf(new ArrayList<>(CONTESTS)))).isNotSameAs(calendar);
+    }
+
+    @Test
+    void testOf_NullOrEmpty_EmptyCalendar() {
+        EventCalendar<Contest> empty = EventCalendar.of(null);
+
+        assertThat(empty.size()).isZero();
+        assertThat(empty.activeAt(NOW)).isEmpty();
+        assertThat(empty.refreshedFrom(List.of())).isSameAs(empty);
+    }
+
+    @Test
+    void testOf_EventWithoutTimes_NotIndexed() {
+        Contest unscheduled = new Contest("Unscheduled", null, null, Set.of(), Set.of(), null, null, null);
+
+        EventCalendar<Contest> withUnscheduled = EventCalendar.of(List.of(unscheduled, ACTIVE_LONG));
+
+        assertThat(withUnscheduled.size()).isEqualTo(1);
+        assertThat(withUnscheduled.notEndedAt(NOW)).containsExactly(ACTIVE_LONG);
+    }
+
+    @Test
+    void testQueries_RandomEvents_MatchEventStatus() {
+        Random random = new Random(42);
+        List<Contest> contests = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int start = random.nextInt(2000) - 1000;
+            contests.add(contest("Contest " + i, start, start + 1 + random.nextInt(200)));
+        }
+        EventCalendar<Contest> large = EventCalendar.of(contests);
+
+        for (int probe = -1100; probe <= 1300; probe += 37) {
+            Instant asOf = NOW.plus(Duration.ofHours(probe));
+            assertThat(large.activeAt(asOf)).containsExactlyElementsOf(contests.stream()
+                    .filter(c -> c.getStatus(asOf) == EventStatus.ACTIVE).toList());
+            assertThat(large.notEndedAt(asOf)).containsExactlyElementsOf(contests.stream()
+                    .filter(c -> c.getStatus(asOf) != EventStatus.ENDED).toList());
+            assertThat(large.startingWithin(asOf, Duration.ofHours(24))).containsExactlyElementsOf(contests.stream()
+                    .filter(c -> c.getStatus(asOf) == EventStatus.UPCOMING)
+                    .filter(c -> c.getTimeRemaining(asOf).compareTo(Duration.ofHours(24)) <= 0).toList());
+        }
+    }
+
+    private static Contest contest(String name, int startHours, int endHours) {
+        return new Contest(name, NOW.plus(Duration.ofHours(startHours)), NOW.plus(Duration.ofHours(endHours)),
+                Set.of(), Set.of(), null, null, null);
+    }
+}
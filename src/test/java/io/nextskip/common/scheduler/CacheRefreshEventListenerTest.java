@@ -1,10 +1,21 @@
 package io.nextskip.common.scheduler;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.config.CacheRefreshTracker;
+import io.nextskip.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -12,12 +23,28 @@ import static org.mockito.Mockito.verify;
 /**
  * Unit tests for CacheRefreshEventListener.
  */
-@ExtendWith(MockitoExtension.class)
 class CacheRefreshEventListenerTest {
 
-    @InjectMocks
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-15T12:00:00Z"));
+
+    private CacheRefreshTracker refreshTracker;
+    private LoadingCache<String, Instant> contestsCache;
     private CacheRefreshEventListener listener;
 
+    @BeforeEach
+    void setUp() {
+        refreshTracker = new CacheRefreshTracker(clock,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        contestsCache = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .removalListener(refreshTracker.replacementListener("contests"))
+                .build(key -> {
+                    clock.advance(Duration.ofMillis(250));
+                    return clock.instant();
+                });
+        listener = new CacheRefreshEventListener(Map.of("contestsCache", contestsCache), refreshTracker);
+    }
+
     @Test
     void testOnCacheRefresh_ExecutesRefreshAction() {
         // Given: A mock refresh action
@@ -34,10 +61,37 @@ class CacheRefreshEventListenerTest {
     @Test
     void testOnCacheRefresh_HandlesNoOpAction_DoesNotThrow() {
         // Given: A no-op refresh action (as used when data is skipped)
-        CacheRefreshEvent event = new CacheRefreshEvent("testCache (skipped)", () -> { });
+        CacheRefreshEvent event = new CacheRefreshEvent(Set.of(), () -> { });
 
         // When/Then: The event is handled without error
         assertThatCode(() -> listener.onCacheRefresh(event))
                 .doesNotThrowAnyException();
     }
+
+    @Test
+    void testOnCacheRefresh_RefreshesCache_TracksLagUnderCacheName() {
+        // Given: The contests cache is serving a value
+        contestsCache.get(CacheConfig.CACHE_KEY);
+
+        // When: A committed contest write refreshes it
+        listener.onCacheRefresh(new CacheRefreshEvent(CacheConfig.CONTESTS,
+                () -> contestsCache.refresh(CacheConfig.CACHE_KEY)));
+
+        // Then: The lag is the reload time, keyed by the bean name without its suffix
+        assertThat(refreshTracker.getLastLag("contests")).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void testOnCacheRefresh_CacheNotDeclared_NotTimed() {
+        // Given: The contests cache is serving a value
+        contestsCache.get(CacheConfig.CACHE_KEY);
+
+        // When: An event for another cache runs, and contests is replaced later
+        listener.onCacheRefresh(new CacheRefreshEvent(CacheConfig.METEOR_SHOWERS, () -> { }));
+        clock.advance(Duration.ofMinutes(5));
+        contestsCache.refresh(CacheConfig.CACHE_KEY);
+
+        // Then: The replacement is not attributed to the unrelated commit
+        assertThat(refreshTracker.getLastLag(CacheConfig.CONTESTS)).isNull();
+    }
 }
@@ -3,16 +3,29 @@ package io.nextskip.common.scheduler;
 import com.github.kagkarlsson.scheduler.Scheduler;
 import com.github.kagkarlsson.scheduler.task.TaskInstance;
 import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,15 +34,21 @@ import static org.mockito.Mockito.when;
 /**
  * Unit tests for DataRefreshStartupHandler.
  *
- * <p>Tests the coordinator-based startup handling that automatically discovers
+ * <p>Tests the coordinator-based startup warm-up that automatically discovers
  * and processes all RefreshTaskCoordinator implementations.
  */
 @ExtendWith(MockitoExtension.class)
 class DataRefreshStartupHandlerTest {
 
+    private static final Duration STARTUP_TIME = Duration.ofSeconds(5);
+    private static final String DASHBOARD_READY = "nextskip.startup.dashboard.ready";
+
     @Mock
     private Scheduler scheduler;
 
+    @Mock
+    private ScheduledTaskLock taskLock;
+
     @Mock
     private RefreshTaskCoordinator coordinator1;
 
@@ -43,125 +62,208 @@ class DataRefreshStartupHandlerTest {
     private RecurringTask<Void> recurringTask1;
 
     @Mock
-    private RecurringTask<Void> recurringTask2;
-
-    @Mock
-    private RecurringTask<Void> recurringTask3;
+    private TaskInstance<Void> taskInstance;
 
-    @Mock
-    private ApplicationReadyEvent applicationReadyEvent;
+    private MeterRegistry meterRegistry;
 
-    @Mock
-    private TaskInstance<Void> taskInstance;
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
 
     @Test
-    void testOnApplicationReady_NoCoordinators_NoReschedules() {
-        DataRefreshStartupHandler handler = createHandler(List.of());
+    void testWarmUp_NoCoordinators_DashboardReadyAtStartup() {
+        DataRefreshStartupHandler handler = createHandler(List.of(), 4);
 
-        handler.onApplicationReady(applicationReadyEvent);
+        Duration dashboardReady = handler.warmUp(STARTUP_TIME).block();
 
+        assertThat(dashboardReady).isBetween(STARTUP_TIME, STARTUP_TIME.plusSeconds(1));
         verify(scheduler, never()).reschedule(any(), any(Instant.class));
     }
 
     @Test
-    void testOnApplicationReady_AllCoordinatorsHaveData_NoReschedules() {
+    void testWarmUp_AllCoordinatorsHaveData_NoLoads() {
         when(coordinator1.needsInitialLoad()).thenReturn(false);
         when(coordinator2.needsInitialLoad()).thenReturn(false);
 
-        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2));
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2), 4);
 
-        handler.onApplicationReady(applicationReadyEvent);
+        handler.warmUp(STARTUP_TIME).block();
 
-        verify(coordinator1).needsInitialLoad();
-        verify(coordinator2).needsInitialLoad();
+        verify(coordinator1, never()).executeInitialLoad();
+        verify(coordinator2, never()).executeInitialLoad();
         verify(scheduler, never()).reschedule(any(), any(Instant.class));
+        assertThat(dashboardTimer("complete").count()).isEqualTo(1);
     }
 
     @Test
-    void testOnApplicationReady_SingleCoordinatorNeedsLoad_Reschedules() {
-        when(coordinator1.needsInitialLoad()).thenReturn(true);
-        when(coordinator1.getRecurringTask()).thenReturn(recurringTask1);
-        when(coordinator1.getTaskName()).thenReturn("Test Task");
-        when(recurringTask1.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    void testWarmUp_MixedCoordinatorStates_LoadsOnlyNeeded() {
+        AtomicInteger loads = new AtomicInteger();
+        when(coordinator1.needsInitialLoad()).thenReturn(false);
+        needsLoad(coordinator2, "Needs Load", Mono.fromRunnable(loads::incrementAndGet));
+        claimsSucceed();
+        when(coordinator3.needsInitialLoad()).thenReturn(false);
 
-        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1));
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2, coordinator3), 4);
 
-        handler.onApplicationReady(applicationReadyEvent);
+        Duration dashboardReady = handler.warmUp(STARTUP_TIME).block();
 
-        verify(scheduler).reschedule(any(), any(Instant.class));
+        assertThat(loads).hasValue(1);
+        assertThat(dashboardReady).isGreaterThanOrEqualTo(STARTUP_TIME);
+        verify(coordinator1, never()).executeInitialLoad();
+        verify(coordinator3, never()).executeInitialLoad();
+        verify(scheduler, never()).reschedule(any(), any(Instant.class));
+        assertThat(dashboardTimer("complete").count()).isEqualTo(1);
     }
 
     @Test
-    void testOnApplicationReady_MultipleCoordinatorsNeedLoad_ReschedulesAll() {
-        when(coordinator1.needsInitialLoad()).thenReturn(true);
-        when(coordinator1.getRecurringTask()).thenReturn(recurringTask1);
-        when(coordinator1.getTaskName()).thenReturn("Task 1");
-        when(recurringTask1.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    void testWarmUp_LoadFails_ReschedulesAndReportsPartial() {
+        needsLoad(coordinator1, "Failing Task", Mono.error(new IllegalStateException("upstream down")));
+        needsLoad(coordinator2, "Second Task", Mono.empty());
+        claimsSucceed();
 
-        when(coordinator2.needsInitialLoad()).thenReturn(false);
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2), 4);
+
+        handler.warmUp(STARTUP_TIME).block();
+
+        verify(scheduler, times(1)).reschedule(any(), any(Instant.class));
+        assertThat(dashboardTimer("partial").count()).isEqualTo(1);
+    }
 
-        when(coordinator3.needsInitialLoad()).thenReturn(true);
-        when(coordinator3.getRecurringTask()).thenReturn(recurringTask3);
-        when(coordinator3.getTaskName()).thenReturn("Task 3");
-        when(recurringTask3.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    @Test
+    void testWarmUp_RescheduleThrowsException_StillCompletes() {
+        needsLoad(coordinator1, "Failing Task", Mono.error(new IllegalStateException("upstream down")));
+        claimsSucceed();
+        when(scheduler.reschedule(any(), any(Instant.class)))
+                .thenThrow(new RuntimeException("Scheduler error"));
 
-        DataRefreshStartupHandler handler = createHandler(
-                List.of(coordinator1, coordinator2, coordinator3));
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1), 4);
 
-        handler.onApplicationReady(applicationReadyEvent);
+        // Should not throw - exception is caught and logged
+        Duration dashboardReady = handler.warmUp(STARTUP_TIME).block();
 
-        // Verify reschedule was called twice (coordinator1 and coordinator3)
-        verify(scheduler, times(2)).reschedule(any(), any(Instant.class));
+        assertThat(dashboardReady).isNotNull();
     }
 
     @Test
-    void testOnApplicationReady_RescheduleThrowsException_ContinuesProcessing() {
-        when(coordinator1.needsInitialLoad()).thenReturn(true);
+    void testWarmUp_CheckThrowsException_TreatedAsNeedingLoad() {
+        when(coordinator1.needsInitialLoad()).thenThrow(new IllegalStateException("database unavailable"));
+        when(coordinator1.getTaskName()).thenReturn("Unchecked Task");
+        when(coordinator1.executeInitialLoad()).thenReturn(Mono.empty());
         when(coordinator1.getRecurringTask()).thenReturn(recurringTask1);
-        when(coordinator1.getTaskName()).thenReturn("Failing Task");
         when(recurringTask1.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
-        when(scheduler.reschedule(any(), any(Instant.class)))
-                .thenThrow(new RuntimeException("Scheduler error"));
+        claimsSucceed();
+
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1), 4);
+
+        handler.warmUp(STARTUP_TIME).block();
+
+        verify(coordinator1).executeInitialLoad();
+    }
 
-        when(coordinator2.needsInitialLoad()).thenReturn(true);
-        when(coordinator2.getRecurringTask()).thenReturn(recurringTask2);
-        when(coordinator2.getTaskName()).thenReturn("Second Task");
-        when(recurringTask2.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    @Test
+    void testWarmUp_MultipleLoads_RunConcurrently() {
+        // Each load waits for the other to start, so a serial warm-up fails both
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        needsLoad(coordinator1, "Task 1", awaitPeer(bothStarted));
+        needsLoad(coordinator2, "Task 2", awaitPeer(bothStarted));
+        claimsSucceed();
 
-        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2));
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2), 2);
 
-        // Should not throw - exception is caught and logged, then continues to next coordinator
-        handler.onApplicationReady(applicationReadyEvent);
+        Duration dashboardReady = handler.warmUp(STARTUP_TIME).block(Duration.ofSeconds(5));
 
-        // Both coordinators should have been attempted
-        verify(scheduler, times(2)).reschedule(any(), any(Instant.class));
+        assertThat(dashboardReady).isNotNull();
+        assertThat(dashboardTimer("complete").count()).isEqualTo(1);
     }
 
     @Test
-    void testOnApplicationReady_MixedCoordinatorStates_ReschedulesOnlyNeeded() {
-        // First coordinator has data
-        when(coordinator1.needsInitialLoad()).thenReturn(false);
+    void testWarmUp_ConcurrencyLimit_BoundsRunningLoads() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (RefreshTaskCoordinator coordinator : List.of(coordinator1, coordinator2, coordinator3)) {
+            needsLoad(coordinator, "Task", Mono.fromRunnable(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleepQuietly();
+                running.decrementAndGet();
+            }).subscribeOn(Schedulers.boundedElastic()).then());
+        }
+        claimsSucceed();
+
+        DataRefreshStartupHandler handler = createHandler(List.of(coordinator1, coordinator2, coordinator3), 1);
+
+        handler.warmUp(STARTUP_TIME).block(Duration.ofSeconds(5));
+
+        assertThat(maxRunning).hasValue(1);
+    }
 
-        // Second coordinator needs load
-        when(coordinator2.needsInitialLoad()).thenReturn(true);
-        when(coordinator2.getRecurringTask()).thenReturn(recurringTask2);
-        when(coordinator2.getTaskName()).thenReturn("Needs Load");
-        when(recurringTask2.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    @Test
+    void testWarmUp_LoadRunsUnderTaskClaim() {
+        needsLoad(coordinator1, "Claimed Task", Mono.empty());
+        claimsSucceed();
 
-        // Third coordinator has data
-        when(coordinator3.needsInitialLoad()).thenReturn(false);
+        createHandler(List.of(coordinator1), 4).warmUp(STARTUP_TIME).block();
 
-        DataRefreshStartupHandler handler = createHandler(
-                List.of(coordinator1, coordinator2, coordinator3));
+        verify(taskLock).runClaimed(eq(taskInstance), any());
+    }
 
-        handler.onApplicationReady(applicationReadyEvent);
+    @Test
+    void testWarmUp_TaskAlreadyPicked_SkipsLoadAndReportsComplete() {
+        when(coordinator1.needsInitialLoad()).thenReturn(true);
+        when(coordinator1.getTaskName()).thenReturn("Running Task");
+        when(coordinator1.getRecurringTask()).thenReturn(recurringTask1);
+        when(recurringTask1.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+        when(taskLock.runClaimed(any(), any())).thenReturn(Mono.just(false));
 
-        // Only coordinator2 should trigger reschedule
-        verify(scheduler, times(1)).reschedule(any(), any(Instant.class));
-        verify(coordinator2).getRecurringTask();
+        createHandler(List.of(coordinator1), 4).warmUp(STARTUP_TIME).block();
+
+        verify(coordinator1, never()).executeInitialLoad();
+        verify(scheduler, never()).reschedule(any(), any(Instant.class));
+        assertThat(dashboardTimer("complete").count()).isEqualTo(1);
+    }
+
+    private void needsLoad(RefreshTaskCoordinator coordinator, String taskName, Mono<Void> load) {
+        when(coordinator.needsInitialLoad()).thenReturn(true);
+        when(coordinator.getTaskName()).thenReturn(taskName);
+        when(coordinator.executeInitialLoad()).thenReturn(load);
+        when(coordinator.getRecurringTask()).thenReturn(recurringTask1);
+        when(recurringTask1.instance(RecurringTask.INSTANCE)).thenReturn(taskInstance);
+    }
+
+    /** Lets every claim succeed, running the initial load it guards. */
+    private void claimsSucceed() {
+        when(taskLock.runClaimed(any(), any()))
+                .thenAnswer(invocation -> invocation.<Mono<Void>>getArgument(1).thenReturn(true));
+    }
+
+    private Timer dashboardTimer(String outcome) {
+        return meterRegistry.get(DASHBOARD_READY).tag("outcome", outcome).timer();
+    }
+
+    private static Mono<Void> awaitPeer(CountDownLatch bothStarted) {
+        return Mono.fromRunnable(() -> {
+            bothStarted.countDown();
+            try {
+                if (!bothStarted.await(2, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Initial loads ran one at a time");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
-    private DataRefreshStartupHandler createHandler(List<RefreshTaskCoordinator> coordinators) {
-        return new DataRefreshStartupHandler(scheduler, coordinators);
+    private DataRefreshStartupHandler createHandler(List<RefreshTaskCoordinator> coordinators, int concurrency) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new DataRefreshStartupHandler(scheduler, taskLock, coordinators,
+                beanFactory.getBeanProvider(MeterRegistry.class), concurrency);
     }
 }
@@ -0,0 +1,97 @@
+package io.nextskip.common.scheduler;
+
+import com.github.kagkarlsson.scheduler.task.TaskInstanceId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import reactor.core.publisher.Mono;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ScheduledTaskLock}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ScheduledTaskLockTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+    private static final TaskInstanceId EXECUTION = TaskInstanceId.of("pota-refresh", "recurring");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private ScheduledTaskLock lock;
+
+    @BeforeEach
+    void setUp() {
+        lock = new ScheduledTaskLock(jdbcTemplate, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testRunClaimed_Unpicked_RunsWorkAndReleases() {
+        when(jdbcTemplate.update(eq(ScheduledTaskLock.CLAIM_SQL), any(SqlParameterSource.class))).thenReturn(1);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        Boolean result = lock.runClaimed(EXECUTION, Mono.fromRunnable(() -> ran.set(true))).block();
+
+        assertThat(result).isTrue();
+        assertThat(ran).isTrue();
+        verify(jdbcTemplate).update(eq(ScheduledTaskLock.RELEASE_SQL), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void testRunClaimed_AlreadyPicked_SkipsWork() {
+        when(jdbcTemplate.update(eq(ScheduledTaskLock.CLAIM_SQL), any(SqlParameterSource.class))).thenReturn(0);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        Boolean result = lock.runClaimed(EXECUTION, Mono.fromRunnable(() -> ran.set(true))).block();
+
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verify(jdbcTemplate, never()).update(eq(ScheduledTaskLock.RELEASE_SQL), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void testRunClaimed_WorkFails_StillReleases() {
+        when(jdbcTemplate.update(eq(ScheduledTaskLock.CLAIM_SQL), any(SqlParameterSource.class))).thenReturn(1);
+
+        assertThatThrownBy(() -> lock.runClaimed(EXECUTION, Mono.error(new IllegalStateException("down"))).block())
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(jdbcTemplate).update(eq(ScheduledTaskLock.RELEASE_SQL), any(SqlParameterSource.class));
+    }
+
+    @Test
+    void testRunClaimed_ClaimAndReleaseTargetSameExecutionAndOwner() {
+        when(jdbcTemplate.update(eq(ScheduledTaskLock.CLAIM_SQL), any(SqlParameterSource.class))).thenReturn(1);
+
+        lock.runClaimed(EXECUTION, Mono.empty()).block();
+
+        ArgumentCaptor<MapSqlParameterSource> claim = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        ArgumentCaptor<MapSqlParameterSource> release = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).update(eq(ScheduledTaskLock.CLAIM_SQL), claim.capture());
+        verify(jdbcTemplate).update(eq(ScheduledTaskLock.RELEASE_SQL), release.capture());
+        assertThat(claim.getValue().getValue("taskName")).isEqualTo("pota-refresh");
+        assertThat(claim.getValue().getValue("taskInstance")).isEqualTo("recurring");
+        assertThat(claim.getValue().getValue("now")).isEqualTo(Timestamp.from(NOW));
+        assertThat(release.getValue().getValue("pickedBy")).isEqualTo(claim.getValue().getValue("pickedBy"));
+    }
+}
@@ -2,6 +2,8 @@ package io.nextskip.contests.internal;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.model.EventStatus;
+import io.nextskip.contests.api.ContestsResponse;
 import io.nextskip.contests.model.Contest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -123,7 +125,7 @@ class ContestServiceImplTest {
 
     @Test
     void testGetContestsResponse_CountsActiveContests() {
-        Instant now = Instant.now();
+        Instant now = FIXED_TIME;
         List<Contest> contests = List.of(
                 // Active contest (started 1 hour ago, ends in 23 hours)
                 createContest("Active Contest 1",
@@ -141,7 +143,7 @@ class ContestServiceImplTest {
 
         when(contestsCache.get(CacheConfig.CACHE_KEY)).thenReturn(contests);
 
-        io.nextskip.contests.api.ContestsResponse response = service.getContestsResponse();
+        ContestsResponse response = service.getContestsResponse();
 
         assertNotNull(response);
         assertEquals(2, response.activeCount(), "Should count 2 active contests");
@@ -150,7 +152,7 @@ class ContestServiceImplTest {
 
     @Test
     void testGetContestsResponse_CountsUpcomingWithin24Hours() {
-        Instant now = Instant.now();
+        Instant now = FIXED_TIME;
         List<Contest> contests = List.of(
                 // Upcoming within 24 hours (starts in 2 hours)
                 createContest("Upcoming Soon 1",
@@ -172,7 +174,7 @@ class ContestServiceImplTest {
 
         when(contestsCache.get(CacheConfig.CACHE_KEY)).thenReturn(contests);
 
-        io.nextskip.contests.api.ContestsResponse response = service.getContestsResponse();
+        ContestsResponse response = service.getContestsResponse();
 
         assertNotNull(response);
         assertEquals(2, response.upcomingCount(), "Should count 2 upcoming contests within 24 hours");
@@ -193,7 +195,7 @@ class ContestServiceImplTest {
 
         when(contestsCache.get(CacheConfig.CACHE_KEY)).thenReturn(contests);
 
-        io.nextskip.contests.api.ContestsResponse response = service.getContestsResponse();
+        ContestsResponse response = service.getContestsResponse();
 
         assertNotNull(response);
         assertEquals(5, response.totalCount(), "Total should match contest list size");
@@ -206,13 +208,52 @@ class ContestServiceImplTest {
         when(contestsCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of());
 
         // When
-        io.nextskip.contests.api.ContestsResponse response = service.getContestsResponse();
+        ContestsResponse response = service.getContestsResponse();
 
         // Then: Timestamp should match the fixed clock time exactly
         assertNotNull(response);
         assertEquals(FIXED_TIME, response.lastUpdated(), "lastUpdated should match fixed clock time");
     }
 
+    @Test
+    void testGetContestsResponse_AsOf_PinsContestsToSnapshotTime() {
+        Instant snapshotTime = FIXED_TIME.plus(3, ChronoUnit.HOURS);
+        Contest contest = createContest("Evening Contest",
+                FIXED_TIME.plus(2, ChronoUnit.HOURS),
+                FIXED_TIME.plus(4, ChronoUnit.HOURS));
+
+        when(contestsCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of(contest));
+
+        ContestsResponse response = service.getContestsResponse(snapshotTime);
+
+        Contest served = response.contests().get(0);
+        assertEquals(EventStatus.ACTIVE, served.getStatus());
+        assertEquals(3600, served.getTimeRemainingSeconds());
+        assertEquals(1, response.activeCount());
+        assertEquals(snapshotTime, response.lastUpdated());
+    }
+
+    @Test
+    void testGetContestsResponse_CacheRefreshed_CountsFromNewList() {
+        Contest active = createContest("Active Contest",
+                FIXED_TIME.minus(1, ChronoUnit.HOURS),
+                FIXED_TIME.plus(1, ChronoUnit.HOURS));
+        Contest upcoming = createContest("Upcoming Contest",
+                FIXED_TIME.plus(1, ChronoUnit.HOURS),
+                FIXED_TIME.plus(5, ChronoUnit.HOURS));
+
+        when(contestsCache.get(CacheConfig.CACHE_KEY))
+                .thenReturn(List.of(active))
+                .thenReturn(List.of(active, upcoming));
+
+        ContestsResponse before = service.getContestsResponse();
+        ContestsResponse after = service.getContestsResponse();
+
+        assertEquals(0, before.upcomingCount());
+        assertEquals(1, after.activeCount());
+        assertEquals(1, after.upcomingCount());
+    }
+
     /**
      * Helper method to create a test Contest.
      */
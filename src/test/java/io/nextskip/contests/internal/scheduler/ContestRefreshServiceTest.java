@@ -1,13 +1,17 @@
 package io.nextskip.contests.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.jfr.RefreshTaskEvent;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
 import io.nextskip.contests.internal.ContestCalendarClient;
 import io.nextskip.contests.internal.dto.ContestICalDto;
 import io.nextskip.contests.model.Contest;
 import io.nextskip.contests.persistence.entity.ContestEntity;
 import io.nextskip.contests.persistence.repository.ContestRepository;
+import io.nextskip.test.JfrEvents;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +19,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -50,23 +55,24 @@ class ContestRefreshServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new ContestRefreshService(eventPublisher, contestClient, repository, contestsCache);
+        service = new ContestRefreshService(eventPublisher, TransactionOperations.withoutTransaction(),
+                contestClient, repository, contestsCache);
     }
 
     @Test
     void testExecuteRefresh_CallsClientFetch() {
         List<ContestICalDto> dtos = createTestDtos();
-        when(contestClient.fetch()).thenReturn(dtos);
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.modified(dtos));
 
         service.executeRefresh();
 
-        verify(contestClient).fetch();
+        verify(contestClient).fetchIfModified();
     }
 
     @Test
     void testExecuteRefresh_CallsRepositoryDeleteAll() {
         List<ContestICalDto> dtos = createTestDtos();
-        when(contestClient.fetch()).thenReturn(dtos);
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.modified(dtos));
 
         service.executeRefresh();
 
@@ -76,7 +82,7 @@ class ContestRefreshServiceTest {
     @Test
     void testExecuteRefresh_CallsRepositorySaveAll() {
         List<ContestICalDto> dtos = createTestDtos();
-        when(contestClient.fetch()).thenReturn(dtos);
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.modified(dtos));
 
         service.executeRefresh();
 
@@ -92,7 +98,7 @@ class ContestRefreshServiceTest {
     @Test
     void testExecuteRefresh_PublishesCacheRefreshEvent() {
         List<ContestICalDto> dtos = createTestDtos();
-        when(contestClient.fetch()).thenReturn(dtos);
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.modified(dtos));
 
         service.executeRefresh();
 
@@ -101,16 +107,55 @@ class ContestRefreshServiceTest {
         verify(eventPublisher).publishEvent(captor.capture());
 
         CacheRefreshEvent event = captor.getValue();
-        assertThat(event.cacheName()).isEqualTo("contests");
+        assertThat(event.cacheNames()).containsExactly("contests");
 
         // Verify the refresh action calls the cache
         event.refreshAction().run();
         verify(contestsCache).refresh(CacheConfig.CACHE_KEY);
     }
 
+    @Test
+    void testExecuteRefresh_NotModified_SkipsPersistenceAndCacheRefresh() {
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.notModified());
+
+        service.executeRefresh();
+
+        verify(repository, never()).deleteAll();
+        verify(repository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testExecuteRefresh_Recording_CommitsRefreshTaskEvent() {
+        when(contestClient.fetchIfModified())
+                .thenReturn(FetchResult.modified(createTestDtos()))
+                .thenReturn(FetchResult.notModified());
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(RefreshTaskEvent.class, () -> {
+            service.executeRefresh();
+            service.executeRefresh();
+        });
+
+        assertThat(events).extracting(event -> event.getBoolean("changed")).containsExactly(true, false);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getString("service")).isEqualTo("Contest");
+            assertThat(event.getBoolean("failed")).isFalse();
+        });
+    }
+
+    @Test
+    void testExecuteRefresh_RecordingAndClientThrows_CommitsFailedEvent() {
+        when(contestClient.fetchIfModified()).thenThrow(new RuntimeException("Contest API error"));
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(RefreshTaskEvent.class, () ->
+                assertThatThrownBy(() -> service.executeRefresh()).isInstanceOf(RuntimeException.class));
+
+        assertThat(events).singleElement().satisfies(event -> assertThat(event.getBoolean("failed")).isTrue());
+    }
+
     @Test
     void testExecuteRefresh_ClientThrowsException_PropagatesException() {
-        when(contestClient.fetch()).thenThrow(new RuntimeException("Contest API error"));
+        when(contestClient.fetchIfModified()).thenThrow(new RuntimeException("Contest API error"));
 
         assertThatThrownBy(() -> service.executeRefresh())
                 .isInstanceOf(RuntimeException.class);
@@ -121,7 +166,7 @@ class ContestRefreshServiceTest {
 
     @Test
     void testExecuteRefresh_EmptyList_DeletesAllAndSavesNothing() {
-        when(contestClient.fetch()).thenReturn(Collections.emptyList());
+        when(contestClient.fetchIfModified()).thenReturn(FetchResult.modified(Collections.emptyList()));
 
         service.executeRefresh();
 
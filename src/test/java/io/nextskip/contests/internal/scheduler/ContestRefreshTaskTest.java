@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -41,7 +42,7 @@ class ContestRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new ContestRefreshTask(repository);
+        task = new ContestRefreshTask(repository, refreshService);
     }
 
     @Test
@@ -64,6 +65,14 @@ class ContestRefreshTaskTest {
         verify(refreshService).executeRefresh();
     }
 
+    @Test
+    void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+        Mono<Void> refresh = Mono.empty();
+        when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+        assertThat(task.executeInitialLoad()).isSameAs(refresh);
+    }
+
     @Test
     void testNeedsInitialLoad_EmptyRepository_ReturnsTrue() {
         when(repository.findByEndTimeAfterOrderByStartTimeAsc(any(Instant.class)))
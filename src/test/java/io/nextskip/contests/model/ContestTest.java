@@ -319,6 +319,55 @@ class ContestTest {
         }
     }
 
+    // ==========================================================================
+    // Snapshot Evaluation Tests
+    // ==========================================================================
+
+    @Nested
+    class EvaluationTests {
+
+        @Test
+        void testAsOfMethods_UseReferenceTime() {
+            Instant start = Instant.parse("2026-10-18T12:00:00Z");
+            Contest contest = createContest(TEST_CONTEST, start, start.plus(24, ChronoUnit.HOURS));
+            Instant twoHoursBefore = start.minus(2, ChronoUnit.HOURS);
+
+            assertThat(contest.getStatus(twoHoursBefore)).isEqualTo(EventStatus.UPCOMING);
+            assertThat(contest.getTimeRemaining(twoHoursBefore)).isEqualTo(Duration.ofHours(2));
+            assertThat(contest.isFavorable(twoHoursBefore)).isTrue();
+            assertThat(contest.getScore(start.plusSeconds(1))).isEqualTo(100);
+            assertThat(contest.isEndingSoon(start.plus(23, ChronoUnit.HOURS).plusSeconds(1))).isTrue();
+        }
+
+        @Test
+        void testEvaluatedAt_PinsStatusScoreAndCountdown() {
+            Instant start = Instant.now().plus(2, ChronoUnit.HOURS);
+            Contest contest = createContest(UPCOMING_CONTEST, start, start.plus(24, ChronoUnit.HOURS));
+            Instant duringContest = start.plus(1, ChronoUnit.HOURS);
+
+            Contest evaluated = contest.evaluatedAt(duringContest);
+
+            // Pinned to the reference time, not the current time
+            assertThat(evaluated.getStatus()).isEqualTo(EventStatus.ACTIVE);
+            assertThat(evaluated.getScore()).isEqualTo(100);
+            assertThat(evaluated.isFavorable()).isTrue();
+            assertThat(evaluated.getTimeRemainingSeconds()).isEqualTo(Duration.ofHours(23).getSeconds());
+            assertThat(contest.getStatus()).isEqualTo(EventStatus.UPCOMING);
+        }
+
+        @Test
+        void testEvaluatedAt_KeepsContestData() {
+            Contest contest = createContest(TEST_CONTEST, Instant.now(), Instant.now().plus(1, ChronoUnit.DAYS));
+
+            Contest evaluated = contest.evaluatedAt(Instant.now());
+
+            assertThat(evaluated.name()).isEqualTo(contest.name());
+            assertThat(evaluated.bands()).isEqualTo(contest.bands());
+            assertThat(evaluated.evaluation()).isNotNull();
+            assertThat(contest.evaluation()).isNull();
+        }
+    }
+
     // ==========================================================================
     // Defensive Copy Tests
     // ==========================================================================
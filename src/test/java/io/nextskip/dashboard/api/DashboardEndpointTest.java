@@ -0,0 +1,50 @@
+package io.nextskip.dashboard.api;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DashboardEndpoint.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardEndpointTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private DashboardEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new DashboardEndpoint(dashboardService);
+    }
+
+    @Test
+    void testGetSnapshot_DelegatesToService() {
+        DashboardSnapshot unchanged = DashboardSnapshot.unchanged(42L);
+        when(dashboardService.getSnapshot(42L)).thenReturn(unchanged);
+
+        DashboardSnapshot snapshot = endpoint.getSnapshot(42L);
+
+        assertThat(snapshot).isSameAs(unchanged);
+    }
+
+    @Test
+    void testUnchanged_CarriesOnlyVersion() {
+        DashboardSnapshot snapshot = DashboardSnapshot.unchanged(7L);
+
+        assertThat(snapshot.version()).isEqualTo(7L);
+        assertThat(snapshot.unchanged()).isTrue();
+        assertThat(snapshot.propagation()).isNull();
+        assertThat(snapshot.activations()).isNull();
+        assertThat(snapshot.contests()).isNull();
+        assertThat(snapshot.meteorShowers()).isNull();
+        assertThat(snapshot.spots()).isNull();
+    }
+}
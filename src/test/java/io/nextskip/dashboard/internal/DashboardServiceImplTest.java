@@ -0,0 +1,236 @@
+package io.nextskip.dashboard.internal;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.api.ActivationsService;
+import io.nextskip.activations.internal.ActivationsServiceImpl;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.contests.api.ContestService;
+import io.nextskip.contests.api.ContestsResponse;
+import io.nextskip.contests.model.Contest;
+import io.nextskip.dashboard.api.DashboardSnapshot;
+import io.nextskip.dashboard.model.OpportunityType;
+import io.nextskip.dashboard.model.ScoredOpportunity;
+import io.nextskip.meteors.api.MeteorService;
+import io.nextskip.propagation.api.PropagationService;
+import io.nextskip.spots.api.BandActivityResponse;
+import io.nextskip.spots.api.SpotsService;
+import io.nextskip.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DashboardServiceImpl.
+ *
+ * <p>Uses real Caffeine caches so snapshot invalidation sees entries being replaced
+ * exactly as a refresh would replace them.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceImplTest {
+
+    private static final Instant START = Instant.parse("2026-10-18T12:00:00Z");
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    @Mock
+    private PropagationService propagationService;
+
+    @Mock
+    private ActivationsService activationsService;
+
+    @Mock
+    private ContestService contestService;
+
+    @Mock
+    private MeteorService meteorService;
+
+    @Mock
+    private SpotsService spotsService;
+
+    private MutableClock clock;
+    private LoadingCache<String, List<String>> activationsCache;
+    private LoadingCache<String, List<String>> contestsCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        activationsCache = Caffeine.newBuilder().build(key -> List.of("W1AW"));
+        contestsCache = Caffeine.newBuilder().build(key -> List.of("CQ WW"));
+        activationsCache.get(CacheConfig.CACHE_KEY);
+        contestsCache.get(CacheConfig.CACHE_KEY);
+    }
+
+    @Test
+    void testGetSnapshot_FirstCall_AssemblesEveryCard() {
+        DashboardServiceImpl service = createService(false);
+
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        assertThat(snapshot.unchanged()).isFalse();
+        assertThat(snapshot.version()).isEqualTo(START.toEpochMilli());
+        assertThat(snapshot.generatedAt()).isEqualTo(START);
+        verify(propagationService).getPropagationResponse();
+        verify(activationsService).getActivationsResponse(START);
+        verify(contestService).getContestsResponse(START);
+        verify(meteorService).getMeteorShowersResponse(START);
+    }
+
+    @Test
+    void testGetSnapshot_RepeatedPollsWithoutChange_AssemblesOnce() {
+        DashboardServiceImpl service = createService(false);
+
+        DashboardSnapshot first = service.getSnapshot(null);
+        clock.advance(Duration.ofSeconds(30));
+        DashboardSnapshot second = service.getSnapshot(null);
+
+        assertThat(second).isSameAs(first);
+        verify(activationsService, times(1)).getActivationsResponse(any(Instant.class));
+    }
+
+    @Test
+    void testGetSnapshot_SinceCurrentVersion_ReturnsUnchanged() {
+        DashboardServiceImpl service = createService(false);
+        long version = service.getSnapshot(null).version();
+
+        DashboardSnapshot snapshot = service.getSnapshot(version);
+
+        assertThat(snapshot.unchanged()).isTrue();
+        assertThat(snapshot.version()).isEqualTo(version);
+        assertThat(snapshot.activations()).isNull();
+        assertThat(snapshot.generatedAt()).isNull();
+    }
+
+    @Test
+    void testGetSnapshot_SinceOlderVersion_ReturnsFullSnapshot() {
+        DashboardServiceImpl service = createService(false);
+        long version = service.getSnapshot(null).version();
+
+        DashboardSnapshot snapshot = service.getSnapshot(version - 1);
+
+        assertThat(snapshot.unchanged()).isFalse();
+        assertThat(snapshot.generatedAt()).isEqualTo(START);
+    }
+
+    @Test
+    void testGetSnapshot_CacheEntryReplaced_RebuildsWithHigherVersion() {
+        DashboardServiceImpl service = createService(false);
+        long version = service.getSnapshot(null).version();
+
+        // Same content, new instance: what a refresh leaves behind
+        contestsCache.put(CacheConfig.CACHE_KEY, List.of("CQ WW"));
+        DashboardSnapshot snapshot = service.getSnapshot(version);
+
+        assertThat(snapshot.unchanged()).isFalse();
+        assertThat(snapshot.version()).isGreaterThan(version);
+        verify(contestService, times(2)).getContestsResponse(any(Instant.class));
+    }
+
+    @Test
+    void testGetSnapshot_OlderThanMaxAge_Rebuilds() {
+        DashboardServiceImpl service = createService(false);
+        long version = service.getSnapshot(null).version();
+
+        clock.advance(MAX_AGE.plusSeconds(1));
+        DashboardSnapshot snapshot = service.getSnapshot(version);
+
+        assertThat(snapshot.unchanged()).isFalse();
+        assertThat(snapshot.version()).isEqualTo(START.plus(MAX_AGE).plusSeconds(1).toEpochMilli());
+        verify(meteorService, times(2)).getMeteorShowersResponse(any(Instant.class));
+    }
+
+    @Test
+    void testGetSnapshot_ClockBehindLastVersion_VersionStillIncreases() {
+        DashboardServiceImpl service = createService(false);
+        long version = service.getSnapshot(null).version();
+
+        activationsCache.put(CacheConfig.CACHE_KEY, List.of("K1ABC"));
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        assertThat(snapshot.version()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void testGetSnapshot_SpotsEnabled_IncludesBandActivity() {
+        BandActivityResponse bandActivity = new BandActivityResponse(Map.of(), START, true);
+        when(spotsService.getBandActivityResponse()).thenReturn(bandActivity);
+        DashboardServiceImpl service = createService(true);
+
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        assertThat(snapshot.spots()).isSameAs(bandActivity);
+    }
+
+    @Test
+    void testGetSnapshot_RanksOpportunitiesAtSnapshotTime() {
+        Contest contest = new Contest("CQ WW", START.minusSeconds(3600), START.plusSeconds(3600),
+                Set.of(), Set.of(), "CQ", null, null);
+        when(contestService.getContestsResponse(START)).thenReturn(
+                new ContestsResponse(List.of(contest.evaluatedAt(START)), 1, 0, 1, START));
+        DashboardServiceImpl service = createService(false);
+
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        assertThat(snapshot.opportunities())
+                .containsExactly(new ScoredOpportunity(OpportunityType.CONTEST, "CQ WW", 100, true));
+    }
+
+    @Test
+    void testGetSnapshot_ActivationCardScoreMatchesRankedScore() {
+        // Given: A real activations service over a cached activation spotted 20 minutes before the snapshot
+        Activation activation = pota().activatorCallsign("W1AW").spottedAt(START.minusSeconds(20 * 60)).build();
+        LoadingCache<String, ActivationsReadModel> readModels = Caffeine.newBuilder()
+                .build(key -> ActivationsReadModel.of(List.of(activation), START));
+        ActivationsService activations = new ActivationsServiceImpl(readModels, clock,
+                new StaticListableBeanFactory().getBeanProvider(ActivationReachProvider.class));
+        DashboardServiceImpl service = new DashboardServiceImpl(propagationService, activations, contestService,
+                meteorService, new StaticListableBeanFactory().getBeanProvider(SpotsService.class),
+                new ScoringEngine(20), List.of(readModels), clock, MAX_AGE);
+
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        // Then: The card's serialized getters agree with the ranking, whenever they are read
+        Activation card = snapshot.activations().potaActivations().get(0);
+        ScoredOpportunity ranked = snapshot.opportunities().get(0);
+        assertThat(ranked.type()).isEqualTo(OpportunityType.ACTIVATION);
+        assertThat(card.getScore()).isEqualTo(ranked.score());
+        assertThat(card.isFavorable()).isEqualTo(ranked.favorable());
+    }
+
+    @Test
+    void testGetSnapshot_SpotsDisabled_SpotsNull() {
+        DashboardServiceImpl service = createService(false);
+
+        DashboardSnapshot snapshot = service.getSnapshot(null);
+
+        assertThat(snapshot.spots()).isNull();
+    }
+
+    private DashboardServiceImpl createService(boolean spotsEnabled) {
+        StaticListableBeanFactory beanFactory = spotsEnabled
+                ? new StaticListableBeanFactory(Map.of("spotsService", spotsService))
+                : new StaticListableBeanFactory();
+        return new DashboardServiceImpl(propagationService, activationsService, contestService, meteorService,
+                beanFactory.getBeanProvider(SpotsService.class), new ScoringEngine(20),
+                List.of(activationsCache, contestsCache),
+                clock, MAX_AGE);
+    }
+}
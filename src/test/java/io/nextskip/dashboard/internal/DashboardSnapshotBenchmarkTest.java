@@ -0,0 +1,218 @@
+package io.nextskip.dashboard.internal;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationReachProvider;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.api.ActivationsService;
+import io.nextskip.activations.internal.ActivationsServiceImpl;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.Park;
+import io.nextskip.activations.model.Summit;
+import io.nextskip.common.model.FrequencyBand;
+import io.nextskip.contests.api.ContestService;
+import io.nextskip.contests.internal.ContestServiceImpl;
+import io.nextskip.contests.model.Contest;
+import io.nextskip.dashboard.api.DashboardSnapshot;
+import io.nextskip.meteors.api.MeteorService;
+import io.nextskip.meteors.internal.MeteorServiceImpl;
+import io.nextskip.meteors.model.MeteorShower;
+import io.nextskip.propagation.api.PropagationService;
+import io.nextskip.propagation.internal.PropagationServiceImpl;
+import io.nextskip.propagation.model.BandCondition;
+import io.nextskip.propagation.model.BandConditionRating;
+import io.nextskip.propagation.model.SolarIndices;
+import io.nextskip.spots.api.SpotsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Server-side cost of one dashboard poll with hundreds of activations.
+ *
+ * <p>Compares the five per-card RPCs the dashboard used to make (each building and
+ * serializing its response, with time-derived fields computed during serialization)
+ * against the composite snapshot: the cost of assembling and scoring a new snapshot,
+ * and the cost of a poll that finds its version still current.
+ *
+ * <p>Tagged {@code benchmark}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class DashboardSnapshotBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DashboardSnapshotBenchmarkTest.class);
+
+    private static final int ACTIVATIONS = 600;
+    private static final int CONTESTS = 40;
+    private static final int METEOR_SHOWERS = 12;
+    private static final int WARMUP_ROUNDS = 300;
+    private static final int MEASURED_ROUNDS = 300;
+
+    private static final List<Class<?>> CHATTY_SERVICES = List.of(PropagationServiceImpl.class,
+            ActivationsServiceImpl.class, ContestServiceImpl.class, MeteorServiceImpl.class,
+            DashboardServiceImpl.class);
+
+    private final Instant now = Instant.now();
+    private final Clock clock = Clock.systemUTC();
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @BeforeAll
+    static void quietServiceLogging() {
+        // The services log every cache read; at console DEBUG that would dominate the timings
+        CHATTY_SERVICES.forEach(service -> logger(service).setLevel(Level.WARN));
+    }
+
+    @AfterAll
+    static void restoreServiceLogging() {
+        CHATTY_SERVICES.forEach(service -> logger(service).setLevel(null));
+    }
+
+    private static ch.qos.logback.classic.Logger logger(Class<?> type) {
+        return (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(type);
+    }
+
+    @Test
+    void benchmarkDashboardPoll_Snapshot_CheaperThanPerCardRequests() throws Exception {
+        LoadingCache<String, ActivationsReadModel> activationsCache =
+                cache(ActivationsReadModel.of(activations(), now));
+        LoadingCache<String, List<Contest>> contestsCache = cache(contests());
+        LoadingCache<String, List<MeteorShower>> meteorShowersCache = cache(meteorShowers());
+        LoadingCache<String, SolarIndices> solarIndicesCache =
+                cache(new SolarIndices(145.0, 8, 3, 115, now, "NOAA SWPC"));
+        LoadingCache<String, List<BandCondition>> bandConditionsCache = cache(bandConditions());
+
+        PropagationService propagation = new PropagationServiceImpl(solarIndicesCache, bandConditionsCache, clock);
+        ActivationsService activations = new ActivationsServiceImpl(activationsCache, clock,
+                new StaticListableBeanFactory().getBeanProvider(ActivationReachProvider.class));
+        ContestService contests = new ContestServiceImpl(contestsCache, clock);
+        MeteorService meteors = new MeteorServiceImpl(meteorShowersCache, clock);
+        List<LoadingCache<String, ?>> caches = List.of(activationsCache, contestsCache, meteorShowersCache,
+                solarIndicesCache, bandConditionsCache);
+
+        Sample perCard = measure(() -> mapper.writeValueAsBytes(propagation.getPropagationResponse()).length
+                + mapper.writeValueAsBytes(activations.getActivationsResponse()).length
+                + mapper.writeValueAsBytes(contests.getContestsResponse()).length
+                + mapper.writeValueAsBytes(meteors.getMeteorShowersResponse()).length);
+
+        Sample rebuild = measure(() -> {
+            DashboardServiceImpl fresh = new DashboardServiceImpl(propagation, activations, contests, meteors,
+                    new StaticListableBeanFactory().getBeanProvider(SpotsService.class), new ScoringEngine(20),
+                    caches, clock, Duration.ofMinutes(1));
+            return mapper.writeValueAsBytes(fresh.getSnapshot(null)).length;
+        });
+
+        DashboardServiceImpl shared = new DashboardServiceImpl(propagation, activations, contests, meteors,
+                new StaticListableBeanFactory().getBeanProvider(SpotsService.class), new ScoringEngine(20),
+                caches, clock, Duration.ofHours(1));
+        long version = shared.getSnapshot(null).version();
+        Sample unchanged = measure(() -> {
+            DashboardSnapshot snapshot = shared.getSnapshot(version);
+            assertThat(snapshot.unchanged()).isTrue();
+            return mapper.writeValueAsBytes(snapshot).length;
+        });
+
+        LOG.info(String.format(Locale.ROOT,
+                "Dashboard poll with %d activations: per-card RPCs %d us/%d KiB, snapshot rebuild %d us/%d KiB, "
+                        + "unchanged snapshot %d us/%d B",
+                ACTIVATIONS,
+                perCard.nanosPerPoll() / 1000, perCard.bytes() / 1024,
+                rebuild.nanosPerPoll() / 1000, rebuild.bytes() / 1024,
+                unchanged.nanosPerPoll() / 1000, unchanged.bytes()));
+
+        assertThat(unchanged.nanosPerPoll()).isLessThan(perCard.nanosPerPoll());
+        assertThat(unchanged.bytes()).isLessThan(perCard.bytes());
+    }
+
+    private static Sample measure(Poll poll) throws Exception {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            poll.run();
+        }
+        long bytes = 0;
+        long started = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            bytes = poll.run();
+        }
+        return new Sample((System.nanoTime() - started) / MEASURED_ROUNDS, bytes);
+    }
+
+    private static <V> LoadingCache<String, V> cache(V value) {
+        LoadingCache<String, V> cache = Caffeine.newBuilder().build(key -> value);
+        cache.get("all");
+        return cache;
+    }
+
+    private List<Activation> activations() {
+        List<Activation> activations = new ArrayList<>(ACTIVATIONS);
+        for (int i = 0; i < ACTIVATIONS; i++) {
+            Instant spottedAt = now.minus(Duration.ofMinutes(i % 45));
+            if (i % 4 == 0) {
+                activations.add(new Activation("sota-" + i, "K" + i + "SOT", ActivationType.SOTA, 14_285.0, "SSB",
+                        spottedAt, spottedAt, null, "SOTA API",
+                        new Summit("W7W/NG-" + i, "Summit " + i, "WA", "W7W")));
+            } else {
+                activations.add(new Activation("pota-" + i, "W" + i + "POT", ActivationType.POTA, 7_040.0, "CW",
+                        spottedAt, spottedAt, i % 30, "POTA API",
+                        new Park("US-" + (1000 + i), "Park " + i, "US-CT", "US", "FN31pr", 41.7, -72.7)));
+            }
+        }
+        return activations;
+    }
+
+    private List<Contest> contests() {
+        List<Contest> contests = new ArrayList<>(CONTESTS);
+        for (int i = 0; i < CONTESTS; i++) {
+            Instant start = now.plus(Duration.ofHours(i * 4L - 12));
+            contests.add(new Contest("Contest " + i, start, start.plus(Duration.ofHours(24)),
+                    Set.of(FrequencyBand.BAND_20M, FrequencyBand.BAND_40M), Set.of("CW", "SSB"), "ARRL",
+                    "https://example.com/" + i, "https://example.com/rules/" + i));
+        }
+        return contests;
+    }
+
+    private List<MeteorShower> meteorShowers() {
+        List<MeteorShower> showers = new ArrayList<>(METEOR_SHOWERS);
+        for (int i = 0; i < METEOR_SHOWERS; i++) {
+            Instant peak = now.plus(Duration.ofDays(i * 3L - 2));
+            showers.add(new MeteorShower("Shower " + i, "S" + i, peak, peak.plus(Duration.ofHours(12)),
+                    peak.minus(Duration.ofDays(5)), peak.plus(Duration.ofDays(5)), 20 + i * 10,
+                    "Comet " + i, "https://imo.net"));
+        }
+        return showers;
+    }
+
+    private static List<BandCondition> bandConditions() {
+        List<BandCondition> conditions = new ArrayList<>();
+        BandConditionRating[] ratings = BandConditionRating.values();
+        FrequencyBand[] bands = FrequencyBand.values();
+        for (int i = 0; i < bands.length; i++) {
+            conditions.add(new BandCondition(bands[i], ratings[i % ratings.length]));
+        }
+        return conditions;
+    }
+
+    @FunctionalInterface
+    private interface Poll {
+        long run() throws Exception;
+    }
+
+    private record Sample(long nanosPerPoll, long bytes) {
+    }
+}
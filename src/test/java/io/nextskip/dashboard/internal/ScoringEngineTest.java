@@ -0,0 +1,101 @@
+package io.nextskip.dashboard.internal;
+
+import io.nextskip.activations.api.ActivationsResponse;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationType;
+import io.nextskip.activations.model.Park;
+import io.nextskip.common.model.FrequencyBand;
+import io.nextskip.contests.api.ContestsResponse;
+import io.nextskip.contests.model.Contest;
+import io.nextskip.dashboard.model.OpportunityType;
+import io.nextskip.dashboard.model.ScoredOpportunity;
+import io.nextskip.propagation.api.PropagationResponse;
+import io.nextskip.propagation.model.BandCondition;
+import io.nextskip.propagation.model.BandConditionRating;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * Unit tests for ScoringEngine.
+ */
+class ScoringEngineTest {
+
+    private static final Instant SNAPSHOT = Instant.parse("2026-10-18T12:00:00Z");
+
+    private final ScoringEngine engine = new ScoringEngine(20);
+
+    @Test
+    void testRank_FavorableFirstThenByScore() {
+        PropagationResponse propagation = new PropagationResponse(null, List.of(
+                new BandCondition(FrequencyBand.BAND_20M, BandConditionRating.FAIR),
+                new BandCondition(FrequencyBand.BAND_10M, BandConditionRating.GOOD)), SNAPSHOT);
+        ActivationsResponse activations = new ActivationsResponse(List.of(
+                activation("W1AW", "US-0001", SNAPSHOT.minus(Duration.ofMinutes(2))),
+                activation("K1ABC", "US-0002", SNAPSHOT.minus(Duration.ofMinutes(45)))), List.of(), 2, SNAPSHOT);
+        ContestsResponse contests = new ContestsResponse(List.of(
+                contest("CQ WW", SNAPSHOT.minus(Duration.ofHours(1)))), 1, 0, 1, SNAPSHOT);
+
+        List<ScoredOpportunity> ranking = engine.rank(SNAPSHOT, propagation, activations, contests, null, null);
+
+        assertThat(ranking)
+                .extracting(ScoredOpportunity::type, ScoredOpportunity::name, ScoredOpportunity::favorable)
+                .containsExactly(
+                        tuple(OpportunityType.BAND_CONDITION, "10m", true),
+                        tuple(OpportunityType.ACTIVATION, "W1AW @ US-0001", true),
+                        tuple(OpportunityType.CONTEST, "CQ WW", true),
+                        tuple(OpportunityType.BAND_CONDITION, "20m", false),
+                        tuple(OpportunityType.ACTIVATION, "K1ABC @ US-0002", false));
+    }
+
+    @Test
+    void testRank_ScoresAgainstSnapshotTimeNotNow() {
+        // Spotted 20 minutes before the snapshot, which is far from now
+        ActivationsResponse activations = new ActivationsResponse(List.of(
+                activation("W1AW", "US-0001", SNAPSHOT.minus(Duration.ofMinutes(20)))), List.of(), 1, SNAPSHOT);
+
+        List<ScoredOpportunity> ranking = engine.rank(SNAPSHOT, null, activations, null, null, null);
+
+        Activation spotted = activations.potaActivations().get(0);
+        assertThat(ranking).containsExactly(new ScoredOpportunity(OpportunityType.ACTIVATION, "W1AW @ US-0001",
+                spotted.getScore(SNAPSHOT), false));
+    }
+
+    @Test
+    void testRank_MoreThanLimit_KeepsBest() {
+        List<Activation> pota = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            pota.add(activation("W" + i + "AW", null, SNAPSHOT.minus(Duration.ofMinutes(i))));
+        }
+        ActivationsResponse activations = new ActivationsResponse(pota, List.of(), pota.size(), SNAPSHOT);
+
+        List<ScoredOpportunity> ranking = engine.rank(SNAPSHOT, null, activations, null, null, null);
+
+        assertThat(ranking).hasSize(20);
+        assertThat(ranking).isSortedAccordingTo(ScoringEngine.RANKING);
+        assertThat(ranking).extracting(ScoredOpportunity::name).doesNotContain("W29AW");
+    }
+
+    @Test
+    void testRank_NoData_EmptyRanking() {
+        assertThat(engine.rank(SNAPSHOT, null, null, null, null, null)).isEmpty();
+    }
+
+    private static Activation activation(String callsign, String reference, Instant spottedAt) {
+        Park park = reference == null ? null : new Park(reference, "Test Park", "CT", "US", "FN31", 41.7, -72.7);
+        return new Activation(callsign + "-spot", callsign, ActivationType.POTA, 14_062.0, "CW",
+                spottedAt, spottedAt, 0, "POTA API", park);
+    }
+
+    private static Contest contest(String name, Instant start) {
+        return new Contest(name, start, start.plus(Duration.ofHours(48)), Set.of(), Set.of(), "CQ", null, null)
+                .evaluatedAt(SNAPSHOT);
+    }
+}
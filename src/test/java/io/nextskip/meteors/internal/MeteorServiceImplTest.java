@@ -2,6 +2,7 @@ package io.nextskip.meteors.internal;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.nextskip.common.config.CacheConfig;
+import io.nextskip.meteors.api.MeteorShowersResponse;
 import io.nextskip.meteors.model.MeteorShower;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,12 +10,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,7 +40,7 @@ class MeteorServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        service = new MeteorServiceImpl(meteorShowersCache);
+        service = new MeteorServiceImpl(meteorShowersCache, Clock.systemUTC());
     }
 
     @Test
@@ -110,6 +114,35 @@ class MeteorServiceImplTest {
         verify(meteorShowersCache).get(CacheConfig.CACHE_KEY);
     }
 
+    @Test
+    void getMeteorShowersResponse_countsByStatusAndPicksPrimary() {
+        Instant now = Instant.now();
+        MeteorShower active = createShower(ACTIVE_SHOWER, now.minus(Duration.ofDays(1)), now.plus(Duration.ofDays(1)));
+        MeteorShower upcoming = createShower("Upcoming", now.plus(Duration.ofDays(5)), now.plus(Duration.ofDays(10)));
+
+        when(meteorShowersCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of(active, upcoming));
+
+        MeteorShowersResponse response = service.getMeteorShowersResponse();
+
+        assertEquals(2, response.showers().size());
+        assertEquals(1, response.activeCount());
+        assertEquals(1, response.upcomingCount());
+        assertEquals(ACTIVE_SHOWER, response.primaryShower().name());
+        assertNotNull(response.lastUpdated());
+    }
+
+    @Test
+    void getMeteorShowersResponse_noShowers() {
+        when(meteorShowersCache.get(CacheConfig.CACHE_KEY)).thenReturn(List.of());
+
+        MeteorShowersResponse response = service.getMeteorShowersResponse();
+
+        assertTrue(response.showers().isEmpty());
+        assertEquals(0, response.activeCount());
+        assertEquals(0, response.upcomingCount());
+        assertNull(response.primaryShower());
+    }
+
     private MeteorShower createShower(String name, Instant visStart, Instant visEnd) {
         return new MeteorShower(
                 name, name.substring(0, Math.min(3, name.length())).toUpperCase(Locale.ROOT),
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MeteorShowerDataLoaderTest {
@@ -71,4 +73,21 @@ class MeteorShowerDataLoaderTest {
             );
         }
     }
+
+    @Test
+    void getShowers_repeatedRefresh_reusesComputedDates() {
+        List<MeteorShower> first = dataLoader.getShowers(365);
+        List<MeteorShower> second = dataLoader.getShowers(365);
+
+        assertEquals(first, second);
+        assertSame(first.get(0), second.get(0), "Dates should be computed once per year");
+    }
+
+    @Test
+    void getShowers_shortLookahead_returnsSubsetOfFullYear() {
+        List<MeteorShower> week = dataLoader.getShowers(7);
+        List<MeteorShower> year = dataLoader.getShowers(365);
+
+        assertTrue(year.containsAll(week));
+    }
 }
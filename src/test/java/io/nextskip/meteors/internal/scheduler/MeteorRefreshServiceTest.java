@@ -14,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -50,7 +51,8 @@ class MeteorRefreshServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new MeteorRefreshService(eventPublisher, dataLoader, repository, meteorShowersCache);
+        service = new MeteorRefreshService(eventPublisher, TransactionOperations.withoutTransaction(),
+                dataLoader, repository, meteorShowersCache);
     }
 
     @Test
@@ -101,7 +103,7 @@ class MeteorRefreshServiceTest {
         verify(eventPublisher).publishEvent(captor.capture());
 
         CacheRefreshEvent event = captor.getValue();
-        assertThat(event.cacheName()).isEqualTo("meteorShowers");
+        assertThat(event.cacheNames()).containsExactly("meteorShowers");
 
         // Verify the refresh action calls the cache
         event.refreshAction().run();
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -40,7 +41,7 @@ class MeteorRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new MeteorRefreshTask(repository);
+        task = new MeteorRefreshTask(repository, refreshService);
     }
 
     @Test
@@ -63,6 +64,14 @@ class MeteorRefreshTaskTest {
         verify(refreshService).executeRefresh();
     }
 
+    @Test
+    void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+        Mono<Void> refresh = Mono.empty();
+        when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+        assertThat(task.executeInitialLoad()).isSameAs(refresh);
+    }
+
     @Test
     void testNeedsInitialLoad_NoActiveOrUpcoming_ReturnsTrue() {
         when(repository.findByVisibilityStartBeforeAndVisibilityEndAfterOrderByPeakStartAsc(
@@ -520,4 +520,49 @@ class MeteorShowerTest {
             assertThat(shower.getEndTime()).isEqualTo(shower.visibilityEnd());
         }
     }
+
+    // =========================================================================
+    // Snapshot Evaluation Tests
+    // =========================================================================
+
+    @Nested
+    class EvaluationTests {
+        @Test
+        void testGetStatus_AsOf_UsesReferenceTime() {
+            MeteorShower shower = createActiveAtPeak();
+
+            assertThat(shower.getStatus(shower.visibilityStart().minusSeconds(1))).isEqualTo(EventStatus.UPCOMING);
+            assertThat(shower.getStatus(shower.peakStart())).isEqualTo(EventStatus.ACTIVE);
+            assertThat(shower.getStatus(shower.visibilityEnd().plusSeconds(1))).isEqualTo(EventStatus.ENDED);
+        }
+
+        @Test
+        void testEvaluatedAt_PinsDerivedValuesToInstant() {
+            MeteorShower shower = createActiveAtPeak();
+            Instant beforeVisibility = shower.visibilityStart().minus(Duration.ofHours(30));
+
+            MeteorShower evaluated = shower.evaluatedAt(beforeVisibility);
+
+            // Pinned before the visibility window, although the shower is at peak now
+            assertThat(evaluated.getStatus()).isEqualTo(EventStatus.UPCOMING);
+            assertThat(evaluated.getScore()).isEqualTo(shower.getScore(beforeVisibility));
+            assertThat(evaluated.isFavorable()).isFalse();
+            assertThat(evaluated.isAtPeak()).isFalse();
+            assertThat(evaluated.getCurrentZhr()).isEqualTo(1);
+            assertThat(evaluated.getTimeRemaining()).isEqualTo(Duration.ofHours(30));
+            assertThat(evaluated.getTimeToPeak()).isEqualTo(Duration.between(beforeVisibility, shower.peakStart()));
+        }
+
+        @Test
+        void testEvaluatedAt_KeepsShowerData() {
+            MeteorShower shower = createActiveAtPeak();
+
+            MeteorShower evaluated = shower.evaluatedAt(Instant.now());
+
+            assertThat(evaluated.name()).isEqualTo(shower.name());
+            assertThat(evaluated.peakZhr()).isEqualTo(shower.peakZhr());
+            assertThat(evaluated.evaluation()).isNotNull();
+            assertThat(shower.evaluation()).isNull();
+        }
+    }
 }
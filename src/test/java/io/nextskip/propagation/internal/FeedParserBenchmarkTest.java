@@ -0,0 +1,179 @@
+package io.nextskip.propagation.internal;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
+import io.nextskip.propagation.internal.dto.HamQslDto.HamQslData;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-fetch heap allocation and parse time of the streaming NOAA and HamQSL parsers,
+ * compared with the data-binding approach they replaced.
+ *
+ * <p>The NOAA baseline binds the whole observed-solar-cycle array into a list of entries;
+ * the HamQSL baseline decodes the body into a {@code String} and hands it to a secured
+ * {@link XmlMapper}. Both payloads are synthetic but shaped like the live feeds.
+ *
+ * <p>Tagged {@code benchmark}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class FeedParserBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FeedParserBenchmarkTest.class);
+
+    /** Monthly observations since January 1749, as in the live feed. */
+    private static final int NOAA_ENTRIES = 3_322;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 200;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void benchmarkNoaaParse_TailOnly_AllocatesLessThanListBinding() throws Exception {
+        byte[] body = noaaFeed();
+        ObjectMapper mapper = new ObjectMapper();
+        TypeReference<List<NoaaSolarCycleEntry>> listType = new TypeReference<>() { };
+
+        Sample baseline = measure(() -> {
+            List<NoaaSolarCycleEntry> entries = mapper.readValue(body, listType);
+            return entries.get(entries.size() - 1);
+        });
+        Sample streaming = measure(() -> NoaaSolarCycleTailParser.parseLast(new ByteArrayInputStream(body)));
+
+        report("NOAA", body.length, baseline, streaming);
+        assertThat(streaming.result()).isEqualTo(baseline.result());
+        assertThat(streaming.bytesPerFetch()).isLessThan(baseline.bytesPerFetch());
+    }
+
+    @Test
+    void benchmarkHamQslParse_Stax_AllocatesLessThanStringBinding() throws Exception {
+        byte[] body = hamQslFeed();
+        XmlMapper mapper = legacyXmlMapper();
+
+        Sample baseline = measure(() -> {
+            HamQslData data = mapper.readValue(new String(body, StandardCharsets.UTF_8), HamQslData.class);
+            return data.getSolarFlux() + "/" + data.getSolardata().getCalculatedConditions().getBands().size();
+        });
+        Sample streaming = measure(() -> {
+            HamQslData data = HamQslStaxParser.parse(new ByteArrayInputStream(body));
+            return data.getSolarFlux() + "/" + data.getSolardata().getCalculatedConditions().getBands().size();
+        });
+
+        report("HamQSL", body.length, baseline, streaming);
+        assertThat(streaming.result()).isEqualTo(baseline.result());
+        assertThat(streaming.bytesPerFetch()).isLessThan(baseline.bytesPerFetch());
+    }
+
+    private static Sample measure(Parse parse) throws Exception {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            parse.run();
+        }
+        Object result = null;
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            result = parse.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Sample(result, allocated / MEASURED_ROUNDS, elapsed / MEASURED_ROUNDS);
+    }
+
+    private static void report(String feed, int bodyBytes, Sample baseline, Sample streaming) {
+        LOG.info(String.format(Locale.ROOT,
+                "%s (%d KiB body): binding %d KiB/%d us per fetch, streaming %d KiB/%d us per fetch",
+                feed, bodyBytes / 1024,
+                baseline.bytesPerFetch() / 1024, baseline.nanosPerFetch() / 1000,
+                streaming.bytesPerFetch() / 1024, streaming.nanosPerFetch() / 1000));
+    }
+
+    private static byte[] noaaFeed() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < NOAA_ENTRIES; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            int year = 1749 + i / 12;
+            int month = 1 + i % 12;
+            json.append(String.format(Locale.ROOT,
+                    "{\"time-tag\":\"%d-%02d\",\"ssn\":%.1f,\"smoothed_ssn\":%.1f,"
+                            + "\"observed_swpc_ssn\":%.1f,\"smoothed_swpc_ssn\":%.1f,"
+                            + "\"f10.7\":%.1f,\"smoothed_f10.7\":%.1f}",
+                    year, month, 80.0 + i % 150, 81.5 + i % 150, -1.0, -1.0,
+                    year < 1947 ? -1.0 : 70.0 + i % 200, -1.0));
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] hamQslFeed() {
+        StringBuilder bands = new StringBuilder();
+        for (String band : new String[] {"80m-40m", "30m-20m", "17m-15m", "12m-10m"}) {
+            bands.append("<band name=\"").append(band).append("\" time=\"day\">Good</band>")
+                    .append("<band name=\"").append(band).append("\" time=\"night\">Fair</band>");
+        }
+        StringBuilder vhf = new StringBuilder();
+        for (String location : new String[] {"northern_hemi", "europe", "north_america", "europe_6m", "europe_4m"}) {
+            vhf.append("<phenomenon name=\"E-Skip\" location=\"").append(location)
+                    .append("\">Band Closed</phenomenon>");
+        }
+        String xml = """
+                <?xml version="1.0" encoding="ISO-8859-1"?>
+                <solar>
+                <solardata>
+                <source url="http://www.hamqsl.com/solar.html">N0NBH</source>
+                <updated> 18 Oct 2026 1200 GMT</updated>
+                <solarflux>145</solarflux><aindex> 8</aindex><kindex> 3</kindex>
+                <kindexnt>No Report</kindexnt><xray>B5.2</xray><sunspots>115</sunspots>
+                <heliumline>132.4</heliumline><protonflux>32</protonflux><electonflux>1550</electonflux>
+                <aurora> 1</aurora><normalization>1.99</normalization><latdegree>67.5</latdegree>
+                <solarwind>380.6</solarwind><magneticfield> -1.2</magneticfield>
+                <calculatedconditions>%s</calculatedconditions>
+                <calculatedvhfconditions>%s</calculatedvhfconditions>
+                <geomagfield>QUIET</geomagfield><signalnoise>S1-S2</signalnoise><fof2>6.43</fof2>
+                <muffactor>3.11</muffactor><muf>21.34</muf>
+                </solardata>
+                </solar>
+                """.formatted(bands, vhf);
+        return xml.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The secured mapper {@link HamQslClient} used before switching to StAX.
+     */
+    private static XmlMapper legacyXmlMapper() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        XmlMapper mapper = XmlMapper.builder()
+                .defaultUseWrapper(false)
+                .build();
+        mapper.getFactory().setXMLInputFactory(xmlInputFactory);
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(FromXmlParser.Feature.EMPTY_ELEMENT_AS_NULL, false);
+        return mapper;
+    }
+
+    @FunctionalInterface
+    private interface Parse {
+        Object run() throws Exception;
+    }
+
+    private record Sample(Object result, long bytesPerFetch, long nanosPerFetch) {
+    }
+}
@@ -0,0 +1,122 @@
+package io.nextskip.propagation.internal;
+
+import io.nextskip.propagation.internal.dto.HamQslDto.BandConditionEntry;
+import io.nextskip.propagation.internal.dto.HamQslDto.HamQslData;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+/**
+ * Unit tests for {@link HamQslStaxParser}.
+ */
+class HamQslStaxParserTest {
+
+    @Test
+    void testParse_FullFeed_ExtractsIndicesAndBands() throws XMLStreamException {
+        String xml = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <solar>
+                <solardata>
+                    <source url="http://www.hamqsl.com/solar.html">N0NBH</source>
+                    <updated> 18 Oct 2026 1200 GMT</updated>
+                    <solarflux> 145</solarflux>
+                    <aindex> 8</aindex>
+                    <kindex> 3</kindex>
+                    <xray>B5.2</xray>
+                    <sunspots>115</sunspots>
+                    <calculatedconditions>
+                        <band name="80m-40m" time="day">Fair</band>
+                        <band name="80m-40m" time="night">Good</band>
+                    </calculatedconditions>
+                    <calculatedvhfconditions>
+                        <phenomenon name="vhf-aurora" location="northern_hemi">Band Closed</phenomenon>
+                    </calculatedvhfconditions>
+                </solardata>
+            </solar>
+            """;
+
+        HamQslData data = HamQslStaxParser.parse(stream(xml));
+
+        assertThat(data.getSolarFlux()).isEqualTo(145.0);
+        assertThat(data.getAIndex()).isEqualTo(8);
+        assertThat(data.getKIndex()).isEqualTo(3);
+        assertThat(data.getSunspots()).isEqualTo(115);
+        List<BandConditionEntry> bands = data.getSolardata().getCalculatedConditions().getBands();
+        assertThat(bands).extracting(BandConditionEntry::getName, BandConditionEntry::getTime,
+                        BandConditionEntry::getValue)
+                .containsExactly(
+                        tuple("80m-40m", "day", "Fair"),
+                        tuple("80m-40m", "night", "Good"));
+    }
+
+    @Test
+    void testParse_BandOutsideCalculatedConditions_Ignored() throws XMLStreamException {
+        String xml = """
+            <solar><solardata>
+                <other><band name="80m-40m" time="day">Poor</band></other>
+                <calculatedconditions><band name="30m-20m" time="day">Good</band></calculatedconditions>
+            </solardata></solar>
+            """;
+
+        HamQslData data = HamQslStaxParser.parse(stream(xml));
+
+        assertThat(data.getSolardata().getCalculatedConditions().getBands())
+                .extracting(BandConditionEntry::getName)
+                .containsExactly("30m-20m");
+    }
+
+    @Test
+    void testParse_MissingValues_LeftNull() throws XMLStreamException {
+        HamQslData data = HamQslStaxParser.parse(stream("<solar><solardata><aindex></aindex></solardata></solar>"));
+
+        assertThat(data.getSolardata()).isNotNull();
+        assertThat(data.getAIndex()).isNull();
+        assertThat(data.getSolarFlux()).isNull();
+        assertThat(data.getSolardata().getCalculatedConditions()).isNull();
+    }
+
+    @Test
+    void testParse_NoSolarData_ReturnsEmptyRoot() throws XMLStreamException {
+        HamQslData data = HamQslStaxParser.parse(stream("<solar><other><solardata/></other></solar>"));
+
+        assertThat(data.getSolardata()).isNull();
+    }
+
+    @Test
+    void testParse_NonNumericIndex_ThrowsNumberFormatException() {
+        assertThatThrownBy(() -> HamQslStaxParser.parse(
+                stream("<solar><solardata><kindex>high</kindex></solardata></solar>")))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void testParse_MalformedXml_ThrowsXmlStreamException() {
+        assertThatThrownBy(() -> HamQslStaxParser.parse(stream("<invalid>xml")))
+                .isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    void testParse_ExternalEntity_NotResolved() {
+        String xml = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE solar [<!ENTITY xxe SYSTEM "file:///etc/passwd">]>
+            <solar><solardata><source>&xxe;</source><kindex>3</kindex></solardata></solar>
+            """;
+
+        // With DTD support off the entity is undeclared, so the reader refuses the document
+        assertThatThrownBy(() -> HamQslStaxParser.parse(stream(xml)))
+                .isInstanceOf(XMLStreamException.class);
+    }
+
+    private static InputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,113 @@
+package io.nextskip.propagation.internal;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.nextskip.common.client.InvalidApiResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link NoaaSolarCycleTailParser}.
+ */
+class NoaaSolarCycleTailParserTest {
+
+    @Test
+    void testParseLast_Array_ReturnsLastEntry() throws IOException {
+        String json = """
+            [
+              {"time-tag": "2025-09", "ssn": 130, "f10.7": 150.1},
+              {"time-tag": "2025-10", "ssn": 120, "f10.7": 140.2},
+              {"time-tag": "2025-11", "ssn": 110, "f10.7": 130.3}
+            ]
+            """;
+
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(stream(json));
+
+        assertThat(entry).isEqualTo(new NoaaSolarCycleEntry("2025-11", 130.3, 110));
+    }
+
+    @Test
+    void testParseLast_UnknownAndNestedFields_Skipped() throws IOException {
+        String json = """
+            [
+              {"time-tag": "2025-10", "smoothed_ssn": -1, "meta": {"ssn": 999, "list": [1, 2]},
+               "ssn": 120, "f10.7": 140.2, "smoothed_f10.7": -1.0}
+            ]
+            """;
+
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(stream(json));
+
+        assertThat(entry).isEqualTo(new NoaaSolarCycleEntry("2025-10", 140.2, 120));
+    }
+
+    @Test
+    void testParseLast_LastEntryMissingField_DoesNotInheritPreviousValue() throws IOException {
+        String json = """
+            [
+              {"time-tag": "2025-10", "ssn": 120, "f10.7": 140.2},
+              {"time-tag": "2025-11", "ssn": 110}
+            ]
+            """;
+
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(stream(json));
+
+        assertThat(entry.solarFlux()).isNull();
+    }
+
+    @Test
+    void testParseLast_QuotedAndFractionalNumbers_Coerced() throws IOException {
+        String json = """
+            [{"time-tag": "2025-11", "ssn": "104.7", "f10.7": " 133.5 "}]
+            """;
+
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(stream(json));
+
+        assertThat(entry).isEqualTo(new NoaaSolarCycleEntry("2025-11", 133.5, 104));
+    }
+
+    @Test
+    void testParseLast_NullAndBlankValues_MapToNull() throws IOException {
+        String json = """
+            [{"time-tag": null, "ssn": "", "f10.7": null}]
+            """;
+
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(stream(json));
+
+        assertThat(entry).isEqualTo(new NoaaSolarCycleEntry(null, null, null));
+    }
+
+    @Test
+    void testParseLast_EmptyArray_ReturnsNull() throws IOException {
+        assertThat(NoaaSolarCycleTailParser.parseLast(stream("[]"))).isNull();
+    }
+
+    @Test
+    void testParseLast_SingleObject_ReturnsIt() throws IOException {
+        NoaaSolarCycleEntry entry = NoaaSolarCycleTailParser.parseLast(
+                stream("{\"time-tag\": \"2025-11\", \"ssn\": 110, \"f10.7\": 130.3}"));
+
+        assertThat(entry).isEqualTo(new NoaaSolarCycleEntry("2025-11", 130.3, 110));
+    }
+
+    @Test
+    void testParseLast_ArrayOfScalars_ThrowsInvalidResponse() {
+        assertThatThrownBy(() -> NoaaSolarCycleTailParser.parseLast(stream("[1, 2]")))
+                .isInstanceOf(InvalidApiResponseException.class);
+    }
+
+    @Test
+    void testParseLast_MalformedJson_ThrowsParseException() {
+        assertThatThrownBy(() -> NoaaSolarCycleTailParser.parseLast(stream("[{ invalid json }]")))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
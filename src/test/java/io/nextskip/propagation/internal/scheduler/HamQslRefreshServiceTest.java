@@ -1,6 +1,7 @@
 package io.nextskip.propagation.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.model.FrequencyBand;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
@@ -21,6 +22,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.List;
@@ -66,6 +68,7 @@ class HamQslRefreshServiceTest {
     void setUp() {
         service = new HamQslRefreshService(
                 eventPublisher,
+                TransactionOperations.withoutTransaction(),
                 hamQslClient,
                 solarRepository,
                 bandRepository,
@@ -77,17 +80,17 @@ class HamQslRefreshServiceTest {
     @Test
     void testExecuteRefresh_CallsClientFetch() {
         HamQslFetchResult result = createTestFetchResult();
-        when(hamQslClient.fetch()).thenReturn(result);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(result));
 
         service.executeRefresh();
 
-        verify(hamQslClient).fetch();
+        verify(hamQslClient).fetchIfModified();
     }
 
     @Test
     void testExecuteRefresh_SavesSolarIndices() {
         HamQslFetchResult result = createTestFetchResult();
-        when(hamQslClient.fetch()).thenReturn(result);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(result));
 
         service.executeRefresh();
 
@@ -105,7 +108,7 @@ class HamQslRefreshServiceTest {
     @SuppressWarnings("unchecked")
     void testExecuteRefresh_SavesBandConditions() {
         HamQslFetchResult result = createTestFetchResult();
-        when(hamQslClient.fetch()).thenReturn(result);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(result));
 
         service.executeRefresh();
 
@@ -119,14 +122,14 @@ class HamQslRefreshServiceTest {
     @Test
     void testExecuteRefresh_PublishesCacheRefreshEvent() {
         HamQslFetchResult result = createTestFetchResult();
-        when(hamQslClient.fetch()).thenReturn(result);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(result));
 
         service.executeRefresh();
 
         verify(eventPublisher).publishEvent(eventCaptor.capture());
 
         CacheRefreshEvent event = eventCaptor.getValue();
-        assertThat(event.cacheName()).isEqualTo("solarIndices+bandConditions");
+        assertThat(event.cacheNames()).containsExactlyInAnyOrder("solarIndices", "bandConditions");
 
         // Verify the refresh action calls both caches
         event.refreshAction().run();
@@ -136,7 +139,7 @@ class HamQslRefreshServiceTest {
 
     @Test
     void testExecuteRefresh_NullResult_SkipsSave() {
-        when(hamQslClient.fetch()).thenReturn(null);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(null));
 
         service.executeRefresh();
 
@@ -146,14 +149,14 @@ class HamQslRefreshServiceTest {
         // Should still publish event but with skipped indication
         verify(eventPublisher).publishEvent(eventCaptor.capture());
         CacheRefreshEvent event = eventCaptor.getValue();
-        assertThat(event.cacheName()).contains("skipped");
+        assertThat(event.cacheNames()).isEmpty();
     }
 
     @Test
     void testExecuteRefresh_EmptyBandConditions_SavesSolarOnly() {
         SolarIndices solarIndices = createTestSolarIndices();
         HamQslFetchResult result = new HamQslFetchResult(solarIndices, List.of());
-        when(hamQslClient.fetch()).thenReturn(result);
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.modified(result));
 
         service.executeRefresh();
 
@@ -161,9 +164,20 @@ class HamQslRefreshServiceTest {
         verify(bandRepository, never()).saveAll(anyList());
     }
 
+    @Test
+    void testExecuteRefresh_NotModified_SkipsPersistenceAndCacheRefresh() {
+        when(hamQslClient.fetchIfModified()).thenReturn(FetchResult.notModified());
+
+        service.executeRefresh();
+
+        verify(solarRepository, never()).save(any());
+        verify(bandRepository, never()).saveAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void testExecuteRefresh_ClientThrowsException_PropagatesException() {
-        when(hamQslClient.fetch()).thenThrow(new RuntimeException("HamQSL API error"));
+        when(hamQslClient.fetchIfModified()).thenThrow(new RuntimeException("HamQSL API error"));
 
         assertThatThrownBy(() -> service.executeRefresh())
                 .isInstanceOf(RuntimeException.class);
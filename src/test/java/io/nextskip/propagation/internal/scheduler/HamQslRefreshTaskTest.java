@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -47,7 +48,7 @@ class HamQslRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new HamQslRefreshTask(solarRepository, bandRepository);
+        task = new HamQslRefreshTask(solarRepository, bandRepository, refreshService);
     }
 
     @Test
@@ -70,6 +71,14 @@ class HamQslRefreshTaskTest {
         verify(refreshService).executeRefresh();
     }
 
+    @Test
+    void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+        Mono<Void> refresh = Mono.empty();
+        when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+        assertThat(task.executeInitialLoad()).isSameAs(refresh);
+    }
+
     @Test
     void testNeedsInitialLoad_EmptyRepositories_ReturnsTrue() {
         when(solarRepository.findByTimestampAfterOrderByTimestampDesc(any(Instant.class)))
@@ -1,6 +1,7 @@
 package io.nextskip.propagation.internal.scheduler;
 
 import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.common.client.FetchResult;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.common.scheduler.CacheRefreshEvent;
 import io.nextskip.propagation.internal.NoaaSwpcClient;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 
@@ -46,23 +48,24 @@ class NoaaRefreshServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new NoaaRefreshService(eventPublisher, noaaClient, repository, solarIndicesCache);
+        service = new NoaaRefreshService(eventPublisher, TransactionOperations.withoutTransaction(),
+                noaaClient, repository, solarIndicesCache);
     }
 
     @Test
     void testExecuteRefresh_CallsClientFetch() {
         SolarIndices indices = createTestSolarIndices();
-        when(noaaClient.fetch()).thenReturn(indices);
+        when(noaaClient.fetchIfModified()).thenReturn(FetchResult.modified(indices));
 
         service.executeRefresh();
 
-        verify(noaaClient).fetch();
+        verify(noaaClient).fetchIfModified();
     }
 
     @Test
     void testExecuteRefresh_CallsRepositorySave() {
         SolarIndices indices = createTestSolarIndices();
-        when(noaaClient.fetch()).thenReturn(indices);
+        when(noaaClient.fetchIfModified()).thenReturn(FetchResult.modified(indices));
 
         service.executeRefresh();
 
@@ -77,7 +80,7 @@ class NoaaRefreshServiceTest {
     @Test
     void testExecuteRefresh_PublishesCacheRefreshEvent() {
         SolarIndices indices = createTestSolarIndices();
-        when(noaaClient.fetch()).thenReturn(indices);
+        when(noaaClient.fetchIfModified()).thenReturn(FetchResult.modified(indices));
 
         service.executeRefresh();
 
@@ -86,16 +89,26 @@ class NoaaRefreshServiceTest {
         verify(eventPublisher).publishEvent(captor.capture());
 
         CacheRefreshEvent event = captor.getValue();
-        assertThat(event.cacheName()).isEqualTo("solarIndices");
+        assertThat(event.cacheNames()).containsExactly("solarIndices");
 
         // Verify the refresh action calls the cache
         event.refreshAction().run();
         verify(solarIndicesCache).refresh(CacheConfig.CACHE_KEY);
     }
 
+    @Test
+    void testExecuteRefresh_NotModified_SkipsPersistenceAndCacheRefresh() {
+        when(noaaClient.fetchIfModified()).thenReturn(FetchResult.notModified());
+
+        service.executeRefresh();
+
+        verify(repository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void testExecuteRefresh_ClientThrowsException_PropagatesException() {
-        when(noaaClient.fetch()).thenThrow(new RuntimeException("NOAA API error"));
+        when(noaaClient.fetchIfModified()).thenThrow(new RuntimeException("NOAA API error"));
 
         assertThatThrownBy(() -> service.executeRefresh())
                 .isInstanceOf(RuntimeException.class);
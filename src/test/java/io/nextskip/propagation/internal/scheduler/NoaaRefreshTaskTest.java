@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.util.Collections;
@@ -39,7 +40,7 @@ class NoaaRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new NoaaRefreshTask(repository);
+        task = new NoaaRefreshTask(repository, refreshService);
     }
 
     @Test
@@ -62,6 +63,14 @@ class NoaaRefreshTaskTest {
         verify(refreshService).executeRefresh();
     }
 
+    @Test
+    void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+        Mono<Void> refresh = Mono.empty();
+        when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+        assertThat(task.executeInitialLoad()).isSameAs(refresh);
+    }
+
     @Test
     void testNeedsInitialLoad_EmptyRepository_ReturnsTrue() {
         when(repository.findByTimestampAfterOrderByTimestampDesc(any(Instant.class)))
@@ -0,0 +1,100 @@
+package io.nextskip.spots.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link IngestSettings}.
+ */
+class IngestSettingsTest {
+
+    private static final List<String> TOPICS = List.of("pskr/filter/v2/+/FT8/#");
+
+    @Test
+    void testConstructor_ValidSettings_CopiesTopics() {
+        List<String> topics = new ArrayList<>(TOPICS);
+
+        IngestSettings settings = new IngestSettings(100, 1000, 10_000, 2, 2, topics);
+        topics.add("pskr/filter/v2/+/FT4/#");
+
+        assertThat(settings.topics()).isEqualTo(TOPICS);
+    }
+
+    @Test
+    void testConstructor_ZeroBatchSize_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(0, 1000, 10_000, 2, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchSize");
+    }
+
+    @Test
+    void testConstructor_ZeroTimeout_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 0, 10_000, 2, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchTimeoutMillis");
+    }
+
+    @Test
+    void testConstructor_NegativeThreads_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, 10_000, -1, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("persistenceThreads");
+    }
+
+    @Test
+    void testConstructor_AtUpperBounds_Accepted() {
+        IngestSettings settings = new IngestSettings(IngestSettings.MAX_BATCH_SIZE,
+                IngestSettings.MAX_BATCH_TIMEOUT_MILLIS, IngestSettings.MAX_BUFFER_SIZE,
+                IngestSettings.MAX_PERSISTENCE_CONCURRENCY, IngestSettings.MAX_PERSISTENCE_CONCURRENCY, TOPICS);
+
+        assertThat(settings.bufferSize()).isEqualTo(IngestSettings.MAX_BUFFER_SIZE);
+    }
+
+    @Test
+    void testConstructor_BufferAboveBound_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, IngestSettings.MAX_BUFFER_SIZE + 1, 2, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("bufferSize");
+    }
+
+    @Test
+    void testConstructor_ThreadsAboveBound_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, 10_000,
+                IngestSettings.MAX_PERSISTENCE_CONCURRENCY + 1, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("persistenceThreads");
+    }
+
+    @Test
+    void testConstructor_ParallelismAboveBound_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, 10_000, 2,
+                IngestSettings.MAX_PERSISTENCE_CONCURRENCY + 1, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("persistenceParallelism");
+    }
+
+    @Test
+    void testConstructor_BatchSizeAboveBound_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(IngestSettings.MAX_BATCH_SIZE + 1, 1000, 10_000, 2, 2, TOPICS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("batchSize");
+    }
+
+    @Test
+    void testConstructor_NoTopics_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, 10_000, 2, 2, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConstructor_BlankTopic_Throws() {
+        assertThatThrownBy(() -> new IngestSettings(100, 1000, 10_000, 2, 2, Arrays.asList("a/#", " ")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,6 +1,15 @@
 package io.nextskip.spots.api;
 
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.ActivityHistory;
 import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.model.BandReach;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.SignalQuantiles;
+import io.nextskip.spots.model.TopStation;
+import io.nextskip.spots.model.TopStations;
 import io.nextskip.spots.model.ContinentPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -166,6 +175,153 @@ class SpotsEndpointTest {
         }
     }
 
+    // =========================================================================
+    // getCallsignReach() Tests
+    // =========================================================================
+
+    @Nested
+    class GetCallsignReachTests {
+
+        @Test
+        void testGetCallsignReach_HeardStation_ReturnsReach() {
+            // Given
+            CallsignReach expected = new CallsignReach(
+                    "W1AW", 15, 42, 9500, Set.of("EU", "AS"),
+                    List.of(new BandReach(BAND_20M, 42, 9500, Set.of("EU", "AS"))),
+                    NOW
+            );
+            when(spotsService.getCallsignReach("W1AW")).thenReturn(expected);
+
+            // When
+            CallsignReach result = endpoint.getCallsignReach("W1AW");
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            assertThat(result.isHeard()).isTrue();
+            verify(spotsService).getCallsignReach("W1AW");
+        }
+
+        @Test
+        void testGetCallsignReach_UnheardStation_ReturnsEmpty() {
+            // Given
+            when(spotsService.getCallsignReach("K1ABC"))
+                    .thenReturn(CallsignReach.empty("K1ABC", 15, NOW));
+
+            // When
+            CallsignReach result = endpoint.getCallsignReach("K1ABC");
+
+            // Then
+            assertThat(result.isHeard()).isFalse();
+            assertThat(result.bands()).isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // getTopStations() Tests
+    // =========================================================================
+
+    @Nested
+    class GetTopStationsTests {
+
+        @Test
+        void testGetTopStations_DelegatesToService() {
+            // Given
+            List<TopStations> expected = List.of(new TopStations(
+                    BAND_20M, "FT8", 15, 500,
+                    List.of(new TopStation("JA1XYZ", 80, 3), new TopStation("VK2ABC", 55, 3)),
+                    NOW));
+            when(spotsService.getTopStations()).thenReturn(expected);
+
+            // When
+            List<TopStations> result = endpoint.getTopStations();
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+            assertThat(result.get(0).stations().get(0).guaranteedCount()).isEqualTo(77);
+        }
+    }
+
+    // =========================================================================
+    // getActivityHeatmap() Tests
+    // =========================================================================
+
+    @Nested
+    class GetActivityHeatmapTests {
+
+        @Test
+        void testGetActivityHeatmap_DelegatesToService() {
+            // Given
+            ActivityHeatmap expected = new ActivityHeatmap(
+                    BAND_20M, "FT8", HeatmapResolution.SQUARE, 15, 3,
+                    List.of(12, 3, -5), List.of(0, 2, -5, 40, 1, -12), NOW);
+            when(spotsService.getActivityHeatmap(BAND_20M, "FT8", HeatmapResolution.SQUARE)).thenReturn(expected);
+
+            // When
+            ActivityHeatmap result = endpoint.getActivityHeatmap(BAND_20M, "FT8", HeatmapResolution.SQUARE);
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    // =========================================================================
+    // getPathQuantiles() Tests
+    // =========================================================================
+
+    @Nested
+    class GetPathQuantilesTests {
+
+        @Test
+        void testGetPathQuantiles_DelegatesToService() {
+            // Given
+            Map<ContinentPath, SignalQuantiles> expected = Map.of(
+                    ContinentPath.NA_AS, new SignalQuantiles(12, -18, -9, 9_025, 10_475));
+            when(spotsService.getPathQuantiles(BAND_20M, "FT8")).thenReturn(expected);
+
+            // When
+            Map<ContinentPath, SignalQuantiles> result = endpoint.getPathQuantiles(BAND_20M, "FT8");
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
+    // =========================================================================
+    // getActivityHistory() / getActivityAt() Tests
+    // =========================================================================
+
+    @Nested
+    class ActivityHistoryTests {
+
+        @Test
+        void testGetActivityHistory_DelegatesToService() {
+            // Given
+            Instant from = NOW.minusSeconds(86_400);
+            ActivityHistory expected = new ActivityHistory(BAND_20M, "FT8", from, NOW, List.of(), Map.of(), 0, null);
+            when(spotsService.getActivityHistory(BAND_20M, "FT8", from, NOW)).thenReturn(expected);
+
+            // When
+            ActivityHistory result = endpoint.getActivityHistory(BAND_20M, "FT8", from, NOW);
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        void testGetActivityAt_DelegatesToService() {
+            // Given
+            Instant at = NOW.minusSeconds(3_600);
+            ActivityHistory expected = new ActivityHistory(BAND_20M, "FT8", at, NOW, List.of(), Map.of(), 0, null);
+            when(spotsService.getActivityAt(BAND_20M, "FT8", at)).thenReturn(expected);
+
+            // When
+            ActivityHistory result = endpoint.getActivityAt(BAND_20M, "FT8", at);
+
+            // Then
+            assertThat(result).isEqualTo(expected);
+        }
+    }
+
     // =========================================================================
     // getStatus() Tests
     // =========================================================================
@@ -4,10 +4,22 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import io.nextskip.common.config.CacheConfig;
 import io.nextskip.spots.internal.SpotsServiceImpl;
 import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.heatmap.ActivityHeatmapTracker;
+import io.nextskip.spots.internal.history.ActivityHistoryService;
+import io.nextskip.spots.internal.index.CallsignReachIndex;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
+import io.nextskip.spots.internal.sketch.TopStationsTracker;
 import io.nextskip.spots.internal.stream.SpotStreamProcessor;
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.ActivityHistory;
 import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.model.CallsignReach;
 import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.SignalQuantiles;
 import io.nextskip.spots.model.Spot;
+import io.nextskip.spots.model.TopStation;
+import io.nextskip.spots.model.TopStations;
 import io.nextskip.spots.persistence.entity.SpotEntity;
 import io.nextskip.spots.persistence.repository.SpotRepository;
 import io.nextskip.test.fixtures.SpotFixtures;
@@ -58,12 +70,28 @@ class SpotsServiceTest {
     @Mock
     private LoadingCache<String, Map<String, BandActivity>> bandActivityCache;
 
+    @Mock
+    private CallsignReachIndex callsignReachIndex;
+
+    @Mock
+    private TopStationsTracker topStationsTracker;
+
+    @Mock
+    private ActivityHeatmapTracker heatmapTracker;
+
+    @Mock
+    private SignalQuantileTracker quantileTracker;
+
+    @Mock
+    private ActivityHistoryService historyService;
+
     private SpotsService spotsService;
 
     @BeforeEach
     void setUp() {
         spotsService = new SpotsServiceImpl(spotSource, spotRepository, streamProcessor,
-                bandActivityCache, FIXED_CLOCK);
+                bandActivityCache, callsignReachIndex, topStationsTracker, heatmapTracker, quantileTracker,
+                historyService, FIXED_CLOCK);
     }
 
     // ===========================================
@@ -238,7 +266,8 @@ class SpotsServiceTest {
     @Test
     void testConstructor_AllDependenciesProvided_CreatesService() {
         SpotsService service = new SpotsServiceImpl(spotSource, spotRepository, streamProcessor,
-                bandActivityCache, FIXED_CLOCK);
+                bandActivityCache, callsignReachIndex, topStationsTracker, heatmapTracker, quantileTracker,
+                historyService, FIXED_CLOCK);
 
         // Verify service can call methods without NullPointerException
         when(spotSource.isConnected()).thenReturn(true);
@@ -279,7 +308,9 @@ class SpotsServiceTest {
         void testGetCurrentActivity_NullCache_ReturnsEmptyMap() {
             // Create service with null cache
             SpotsService serviceWithNullCache = new SpotsServiceImpl(
-                    spotSource, spotRepository, streamProcessor, null, FIXED_CLOCK);
+                    spotSource, spotRepository, streamProcessor, null,
+                    callsignReachIndex, topStationsTracker, heatmapTracker, quantileTracker, historyService,
+                    FIXED_CLOCK);
 
             Map<String, BandActivity> result = serviceWithNullCache.getCurrentActivity();
 
@@ -415,4 +446,111 @@ class SpotsServiceTest {
                 BASE_TIME
         );
     }
+
+    // ===========================================
+    // Live stream views: getCallsignReach tests
+    // ===========================================
+
+    @Nested
+    class GetCallsignReachTests {
+
+        @Test
+        void testGetCallsignReach_DelegatesToIndex() {
+            CallsignReach expected = CallsignReach.empty("W1AW", 15, BASE_TIME);
+            when(callsignReachIndex.lookup("w1aw")).thenReturn(expected);
+
+            CallsignReach result = spotsService.getCallsignReach("w1aw");
+
+            assertThat(result).isSameAs(expected);
+            verify(callsignReachIndex).lookup("w1aw");
+        }
+    }
+
+    // ===========================================
+    // Live stream views: getTopStations tests
+    // ===========================================
+
+    @Nested
+    class GetTopStationsTests {
+
+        @Test
+        void testGetTopStations_ReturnsTrackerSnapshot() {
+            List<TopStations> snapshot = List.of(new TopStations(
+                    BAND_20M, "FT8", 15, 120, List.of(new TopStation("JA1XYZ", 40, 2)), BASE_TIME));
+            when(topStationsTracker.getSnapshot()).thenReturn(snapshot);
+
+            List<TopStations> result = spotsService.getTopStations();
+
+            assertThat(result).isSameAs(snapshot);
+        }
+    }
+
+    // ===========================================
+    // Live stream views: getActivityHeatmap tests
+    // ===========================================
+
+    @Nested
+    class GetActivityHeatmapTests {
+
+        @Test
+        void testGetActivityHeatmap_DelegatesToTracker() {
+            ActivityHeatmap expected = ActivityHeatmap.empty(BAND_20M, "FT8", HeatmapResolution.FIELD, 15, BASE_TIME);
+            when(heatmapTracker.getHeatmap(BAND_20M, "FT8", HeatmapResolution.FIELD)).thenReturn(expected);
+
+            ActivityHeatmap result = spotsService.getActivityHeatmap(BAND_20M, "FT8", HeatmapResolution.FIELD);
+
+            assertThat(result).isSameAs(expected);
+        }
+    }
+
+    // ===========================================
+    // Live stream views: getPathQuantiles tests
+    // ===========================================
+
+    @Nested
+    class GetPathQuantilesTests {
+
+        @Test
+        void testGetPathQuantiles_DelegatesToTracker() {
+            Map<ContinentPath, SignalQuantiles> expected = Map.of(
+                    ContinentPath.NA_EU, new SignalQuantiles(40, -14, -4, 5_925, 7_025));
+            when(quantileTracker.getPathQuantiles(BAND_20M, "FT8")).thenReturn(expected);
+
+            Map<ContinentPath, SignalQuantiles> result = spotsService.getPathQuantiles(BAND_20M, "FT8");
+
+            assertThat(result).isSameAs(expected);
+        }
+    }
+
+    // ===========================================
+    // History: getActivityHistory / getActivityAt tests
+    // ===========================================
+
+    @Nested
+    class ActivityHistoryTests {
+
+        @Test
+        void testGetActivityHistory_DelegatesToHistoryService() {
+            Instant from = BASE_TIME.minus(Duration.ofDays(30));
+            ActivityHistory expected = new ActivityHistory(BAND_20M, "FT8", from, BASE_TIME,
+                    List.of(), Map.of(), 0, null);
+            when(historyService.getHistory(BAND_20M, "FT8", from, BASE_TIME)).thenReturn(expected);
+
+            ActivityHistory result = spotsService.getActivityHistory(BAND_20M, "FT8", from, BASE_TIME);
+
+            assertThat(result).isSameAs(expected);
+        }
+
+        @Test
+        void testGetActivityAt_DelegatesToHistoryService() {
+            Instant at = BASE_TIME.minus(Duration.ofDays(7));
+            ActivityHistory expected = new ActivityHistory(BAND_20M, "FT8", at, at.plusSeconds(1),
+                    List.of(), Map.of(), 0, null);
+            when(historyService.getActivityAround(BAND_20M, "FT8", at)).thenReturn(expected);
+
+            ActivityHistory result = spotsService.getActivityAt(BAND_20M, "FT8", at);
+
+            assertThat(result).isSameAs(expected);
+        }
+    }
 }
@@ -0,0 +1,166 @@
+package io.nextskip.spots.internal;
+
+import io.nextskip.spots.api.IngestSettings;
+import io.nextskip.spots.api.IngestSettingsChange;
+import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.stream.SpotStreamProcessor;
+import io.nextskip.spots.internal.stream.StreamSettings;
+import io.nextskip.test.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link IngestTuningServiceImpl}.
+ *
+ * <p>The processor and source mocks hold their settings in references so each update
+ * is visible to the next read, as with the real beans.
+ */
+@ExtendWith(MockitoExtension.class)
+class IngestTuningServiceImplTest {
+
+    private static final String ACTOR = "admin@example.com";
+    private static final List<String> TOPICS = List.of("pskr/filter/v2/+/FT8/#");
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+
+    @Mock
+    private SpotStreamProcessor streamProcessor;
+
+    @Mock
+    private SpotSource spotSource;
+
+    private final AtomicReference<StreamSettings> stream =
+            new AtomicReference<>(new StreamSettings(100, Duration.ofSeconds(1), 10_000, 2));
+    private final AtomicReference<Integer> threads = new AtomicReference<>(2);
+    private final AtomicReference<List<String>> topics = new AtomicReference<>(TOPICS);
+
+    private IngestTuningServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(streamProcessor.getStreamSettings()).thenAnswer(inv -> stream.get());
+        lenient().when(streamProcessor.getPersistenceThreads()).thenAnswer(inv -> threads.get());
+        lenient().when(spotSource.getTopics()).thenAnswer(inv -> topics.get());
+        lenient().doAnswer(inv -> {
+            stream.set(inv.getArgument(0));
+            return null;
+        }).when(streamProcessor).reconfigure(any());
+        lenient().doAnswer(inv -> {
+            threads.set(inv.getArgument(0));
+            return null;
+        }).when(streamProcessor).setPersistenceThreads(anyInt());
+        lenient().doAnswer(inv -> {
+            topics.set(inv.getArgument(0));
+            return null;
+        }).when(spotSource).updateTopics(any());
+
+        service = new IngestTuningServiceImpl(streamProcessor, spotSource, new MutableClock(NOW));
+    }
+
+    @Test
+    void testGetIngestSettings_CombinesProcessorAndSource() {
+        assertThat(service.getIngestSettings()).isEqualTo(new IngestSettings(100, 1000, 10_000, 2, 2, TOPICS));
+    }
+
+    @Test
+    void testUpdate_BatchSizeChanged_RematerializesStreamOnly() {
+        IngestSettings next = new IngestSettings(500, 1000, 10_000, 2, 2, TOPICS);
+
+        IngestSettings result = service.updateIngestSettings(next, ACTOR);
+
+        assertThat(result).isEqualTo(next);
+        verify(streamProcessor).reconfigure(new StreamSettings(500, Duration.ofSeconds(1), 10_000, 2));
+        verify(streamProcessor, never()).setPersistenceThreads(anyInt());
+        verify(spotSource, never()).updateTopics(any());
+    }
+
+    @Test
+    void testUpdate_ThreadsAndTopicsChanged_StreamNotRematerialized() {
+        List<String> newTopics = List.of("pskr/filter/v2/+/FT8/#", "pskr/filter/v2/+/FT4/#");
+        IngestSettings next = new IngestSettings(100, 1000, 10_000, 4, 2, newTopics);
+
+        service.updateIngestSettings(next, ACTOR);
+
+        verify(streamProcessor).setPersistenceThreads(4);
+        verify(spotSource).updateTopics(newTopics);
+        verify(streamProcessor, never()).reconfigure(any());
+    }
+
+    @Test
+    void testUpdate_Applied_RecordedNewestFirst() {
+        IngestSettings initial = service.getIngestSettings();
+        IngestSettings first = new IngestSettings(200, 1000, 10_000, 2, 2, TOPICS);
+        IngestSettings second = new IngestSettings(200, 500, 10_000, 2, 2, TOPICS);
+
+        service.updateIngestSettings(first, ACTOR);
+        service.updateIngestSettings(second, "other@example.com");
+
+        assertThat(service.getRecentChanges()).containsExactly(
+                new IngestSettingsChange(NOW, "other@example.com", first, second),
+                new IngestSettingsChange(NOW, ACTOR, initial, first));
+    }
+
+    @Test
+    void testUpdate_NoChange_NotRecorded() {
+        service.updateIngestSettings(service.getIngestSettings(), ACTOR);
+
+        assertThat(service.getRecentChanges()).isEmpty();
+        verify(streamProcessor, never()).reconfigure(any());
+    }
+
+    @Test
+    void testUpdate_HistoryFull_DropsOldest() {
+        for (int i = 1; i <= IngestTuningServiceImpl.HISTORY_SIZE + 5; i++) {
+            service.updateIngestSettings(new IngestSettings(100 + i, 1000, 10_000, 2, 2, TOPICS), ACTOR);
+        }
+
+        List<IngestSettingsChange> changes = service.getRecentChanges();
+        assertThat(changes).hasSize(IngestTuningServiceImpl.HISTORY_SIZE);
+        assertThat(changes.get(0).current().batchSize()).isEqualTo(100 + IngestTuningServiceImpl.HISTORY_SIZE + 5);
+    }
+
+    @Test
+    void testUpdate_TopicsRejected_NothingElseAppliedOrRecorded() {
+        List<String> newTopics = List.of("bad/#");
+        doThrow(new IllegalStateException("broker refused")).when(spotSource).updateTopics(newTopics);
+
+        assertThatThrownBy(() -> service.updateIngestSettings(
+                new IngestSettings(500, 1000, 10_000, 4, 2, newTopics), ACTOR))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(streamProcessor, never()).setPersistenceThreads(anyInt());
+        verify(streamProcessor, never()).reconfigure(any());
+        assertThat(service.getRecentChanges()).isEmpty();
+    }
+
+    @Test
+    void testUpdate_ReconfigureFails_RecordsWhatWasApplied() {
+        List<String> newTopics = List.of("pskr/filter/v2/+/FT4/#");
+        IngestSettings initial = service.getIngestSettings();
+        doThrow(new IllegalStateException("materialization failed")).when(streamProcessor).reconfigure(any());
+
+        assertThatThrownBy(() -> service.updateIngestSettings(
+                new IngestSettings(500, 1000, 10_000, 4, 2, newTopics), ACTOR))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(service.getRecentChanges()).containsExactly(new IngestSettingsChange(NOW, ACTOR, initial,
+                new IngestSettings(100, 1000, 10_000, 4, 2, newTopics)));
+    }
+}
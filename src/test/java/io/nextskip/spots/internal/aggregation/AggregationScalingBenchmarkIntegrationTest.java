@@ -0,0 +1,190 @@
+package io.nextskip.spots.internal.aggregation;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.config.CacheRefreshTracker;
+import io.nextskip.spots.internal.ScoringProperties;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
+import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import io.nextskip.test.AbstractIntegrationTest;
+import io.nextskip.test.SpotBulkLoader;
+import io.nextskip.test.fixtures.SyntheticSpotGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times band activity aggregation, the cache loader and status queries as the
+ * {@code spots} table grows.
+ *
+ * <p>Fills the hypertable with {@link SyntheticSpotGenerator} data spread over the
+ * six-hour retention window, growing through each scale in
+ * {@code -Dnextskip.benchmark.scales} (default {@value #DEFAULT_SCALES} rows). At
+ * every scale each operation is run once to warm up, then timed over
+ * {@value #MEASURED_RUNS} runs.
+ *
+ * <p>Results are appended to a CSV scaling curve - one row per scale and operation -
+ * at {@code -Dnextskip.benchmark.output} (default {@value #DEFAULT_OUTPUT}), tagged
+ * with {@code -Dnextskip.benchmark.label} (e.g. a release version) so curves from
+ * different releases can be plotted together.
+ *
+ * <p>Tagged {@code benchmark}; run with
+ * {@code ./gradlew benchmark -Dnextskip.benchmark.scales=1000000,10000000,30000000}.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AggregationScalingBenchmarkIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AggregationScalingBenchmarkIntegrationTest.class);
+
+    private static final String DEFAULT_SCALES = "1000000,3000000,10000000";
+    private static final String DEFAULT_OUTPUT = "build/reports/benchmarks/aggregation-scaling.csv";
+    private static final String CSV_HEADER = "run_at,label,spots,operation,min_ms,mean_ms,max_ms";
+    private static final long SEED = 20_250_115L;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int MEASURED_RUNS = 3;
+    private static final Duration RETENTION = Duration.ofHours(6);
+
+    @Autowired
+    private SpotRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterAll
+    void truncateSpots() {
+        jdbcTemplate.execute("TRUNCATE spots");
+    }
+
+    @Test
+    void benchmarkAggregation_AcrossScales() throws IOException {
+        List<Integer> scales = Arrays.stream(System.getProperty("nextskip.benchmark.scales", DEFAULT_SCALES)
+                        .split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .sorted()
+                .toList();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        SyntheticSpotGenerator generator = new SyntheticSpotGenerator(SEED, now.minus(RETENTION), now);
+        SpotBulkLoader loader = new SpotBulkLoader(jdbcTemplate);
+
+        BandActivityAggregator multiQuery = aggregator(clock, false);
+        BandActivityAggregator singleScan = aggregator(clock, true);
+        CacheRefreshTracker refreshTracker = new CacheRefreshTracker(clock,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        LoadingCache<String, Map<String, BandActivity>> cache =
+                new CacheConfig(clock, refreshTracker).bandActivityCache(multiQuery);
+        Map<String, Supplier<?>> operations = new LinkedHashMap<>();
+        operations.put("aggregateAllBands[multi-query]", multiQuery::aggregateAllBands);
+        operations.put("aggregateAllBands[single-scan]", singleScan::aggregateAllBands);
+        operations.put("bandActivityCache.load", () -> {
+            cache.invalidateAll();
+            return cache.get(CacheConfig.CACHE_KEY);
+        });
+        operations.put("status.count", repository::count);
+        operations.put("status.lastSpotTime", repository::findTopByOrderBySpottedAtDesc);
+        operations.put("status.countSince15m",
+                () -> repository.countBySpottedAtAfter(now.minus(Duration.ofMinutes(15))));
+
+        String runAt = Instant.now().toString();
+        String label = System.getProperty("nextskip.benchmark.label", "local");
+        List<String> rows = new ArrayList<>();
+        long loaded = 0;
+        for (int scale : scales) {
+            long started = System.nanoTime();
+            while (loaded < scale) {
+                loaded += loader.load(generator.nextBatch((int) Math.min(BATCH_SIZE, scale - loaded)));
+            }
+            jdbcTemplate.execute("VACUUM ANALYZE spots");
+            LOG.info("Grew spots to {} rows in {} ms", scale,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+            assertThat(multiQuery.aggregateAllBands()).isNotEmpty();
+            for (Map.Entry<String, Supplier<?>> operation : operations.entrySet()) {
+                String row = String.join(",", runAt, label, String.valueOf(scale), operation.getKey(),
+                        time(operation.getValue()));
+                LOG.info("scaling {}", row);
+                rows.add(row);
+            }
+        }
+        Path output = writeCsv(rows);
+        LOG.info("Scaling curve appended to {}", output.toAbsolutePath());
+    }
+
+    /**
+     * Runs an operation once to warm up, then {@value #MEASURED_RUNS} times.
+     *
+     * @return "min,mean,max" in milliseconds
+     */
+    @SuppressWarnings("PMD.UnusedAssignment") // Result is kept so the JIT cannot discard the call
+    private static String time(Supplier<?> operation) {
+        Object result = operation.get();
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        long total = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long started = System.nanoTime();
+            result = operation.get();
+            long elapsed = System.nanoTime() - started;
+            min = Math.min(min, elapsed);
+            max = Math.max(max, elapsed);
+            total += elapsed;
+        }
+        assertThat(result).isNotNull();
+        return String.format(Locale.ROOT, "%.1f,%.1f,%.1f",
+                min / 1e6, total / 1e6 / MEASURED_RUNS, max / 1e6);
+    }
+
+    private static Path writeCsv(List<String> rows) throws IOException {
+        Path output = Path.of(System.getProperty("nextskip.benchmark.output", DEFAULT_OUTPUT));
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(output)) {
+            lines.add(CSV_HEADER);
+        }
+        lines.addAll(rows);
+        Files.write(output, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return output;
+    }
+
+    private BandActivityAggregator aggregator(Clock clock, boolean singleScan) {
+        return new BandActivityAggregator(repository, clock, new ScoringProperties(),
+                new SignalQuantileTracker(clock, Duration.ofMinutes(1)), new SimpleMeterRegistry(), singleScan,
+                new StaticListableBeanFactory().getBeanProvider(ShardedScanExecutor.class));
+    }
+}
@@ -0,0 +1,171 @@
+package io.nextskip.spots.internal.aggregation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nextskip.spots.internal.ScoringProperties;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
+import io.nextskip.spots.model.BandActivity;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import io.nextskip.test.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the multi-query, single-scan and sharded-scan aggregation modes.
+ *
+ * <p>Seeds the {@code spots} hypertable with a multi-million-row dataset spread over
+ * the 3-hour baseline range (default 3,000,000 rows; override with
+ * {@code -Dnextskip.benchmark.spots=N}), then runs {@link BandActivityAggregator#aggregateAllBands()}
+ * in each mode. Serial modes report the summed {@code nextskip.spots.aggregation.query}
+ * timer totals; the sharded mode (default 4 shards; override with
+ * {@code -Dnextskip.benchmark.parallelism=N}) reports wall-clock time, since its
+ * shard timers overlap.
+ *
+ * <p>Tagged {@code benchmark} and excluded from the default test task; run with
+ * {@code ./gradlew benchmark}. The only assertion is that all modes produce identical
+ * results - timings are logged rather than asserted, since they depend on the host.
+ */
+@SpringBootTest
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BandActivityAggregationBenchmarkIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BandActivityAggregationBenchmarkIntegrationTest.class);
+
+    private static final int DEFAULT_SPOTS = 3_000_000;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    @Autowired
+    private SpotRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Instant now;
+
+    @BeforeAll
+    void seedSpots() {
+        now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        int spots = Integer.getInteger("nextskip.benchmark.spots", DEFAULT_SPOTS);
+        long started = System.nanoTime();
+        // Timestamps are unique per row so max-DX tie-breaking is deterministic in both modes
+        jdbcTemplate.update("""
+                INSERT INTO spots (source, band, mode, spotted_at, snr,
+                                   spotter_call, spotter_continent, spotted_call, spotted_continent, distance_km)
+                SELECT 'PSKReporter',
+                       (ARRAY['160m','80m','40m','30m','20m','17m','15m','12m','10m','6m'])[1 + g % 10],
+                       (ARRAY['FT8','FT8','FT8','FT4','FT2','CW','SSB'])[1 + (g / 10) % 7],
+                       ?::timestamptz - (g * 10800000000 / ?) * INTERVAL '1 microsecond',
+                       -24 + g % 40,
+                       'S' || (g % 5000),
+                       (ARRAY['NA','EU','AS','OC','SA','AF'])[1 + (g / 7) % 6],
+                       'T' || (g % 20000),
+                       (ARRAY['NA','EU','AS','OC','SA','AF'])[1 + (g / 11) % 6],
+                       CASE WHEN g % 13 = 0 THEN NULL ELSE (g * 7919) % 19000 END
+                FROM generate_series(1, ?) AS g
+                """, Timestamp.from(now), spots, spots);
+        jdbcTemplate.execute("ANALYZE spots");
+        LOG.info("Seeded {} spots in {} ms", spots,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    @AfterAll
+    void truncateSpots() {
+        jdbcTemplate.execute("TRUNCATE spots");
+    }
+
+    @Test
+    void benchmarkAggregateAllBands_ComparesQueryModes() {
+        int parallelism = Integer.getInteger("nextskip.benchmark.parallelism", DEFAULT_PARALLELISM);
+        SimpleMeterRegistry multiRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry singleRegistry = new SimpleMeterRegistry();
+        SimpleMeterRegistry shardedRegistry = new SimpleMeterRegistry();
+        ShardedScanExecutor shards = new ShardedScanExecutor(dataSource, shardedRegistry, parallelism);
+        try {
+            BandActivityAggregator multiQuery = aggregator(multiRegistry, false, null);
+            BandActivityAggregator singleScan = aggregator(singleRegistry, true, null);
+            BandActivityAggregator shardedScan = aggregator(shardedRegistry, false, shards);
+
+            Map<String, BandActivity> multiResult = Map.of();
+            Map<String, BandActivity> singleResult = Map.of();
+            Map<String, BandActivity> shardedResult = Map.of();
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                multiResult = multiQuery.aggregateAllBands();
+                singleResult = singleScan.aggregateAllBands();
+                shardedResult = shardedScan.aggregateAllBands();
+            }
+            multiRegistry.clear();
+            singleRegistry.clear();
+            shardedRegistry.clear();
+
+            long shardedWallNanos = 0;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                multiQuery.aggregateAllBands();
+                singleScan.aggregateAllBands();
+                long started = System.nanoTime();
+                shardedScan.aggregateAllBands();
+                shardedWallNanos += System.nanoTime() - started;
+            }
+
+            multiRegistry.get(BulkAggregationQueries.QUERY_TIMER).timers().forEach(timer ->
+                    LOG.info("multi-query {}: {} ms/run", timer.getId().getTag("query"),
+                            String.format("%.1f", timer.mean(TimeUnit.MILLISECONDS))));
+            LOG.info("Aggregation DB time over {} runs: multi-query {} ms/run, single-scan {} ms/run",
+                    MEASURED_RUNS,
+                    String.format("%.1f", totalMillis(multiRegistry) / MEASURED_RUNS),
+                    String.format("%.1f", totalMillis(singleRegistry) / MEASURED_RUNS));
+            LOG.info("Sharded scan x{}: {} ms/run wall clock",
+                    parallelism,
+                    String.format("%.1f", TimeUnit.NANOSECONDS.toMicros(shardedWallNanos) / 1000.0 / MEASURED_RUNS));
+
+            assertThat(multiResult).isNotEmpty();
+            assertThat(singleResult).containsExactlyEntriesOf(multiResult);
+            assertThat(shardedResult).containsExactlyEntriesOf(multiResult);
+        } finally {
+            shards.stop();
+        }
+    }
+
+    private BandActivityAggregator aggregator(SimpleMeterRegistry registry, boolean singleScan,
+                                              ShardedScanExecutor shards) {
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (shards != null) {
+            beans.addBean("shardedScanExecutor", shards);
+        }
+        return new BandActivityAggregator(repository, clock, new ScoringProperties(),
+                new SignalQuantileTracker(clock, Duration.ofMinutes(1)), registry, singleScan,
+                beans.getBeanProvider(ShardedScanExecutor.class));
+    }
+
+    private static double totalMillis(SimpleMeterRegistry registry) {
+        return registry.get(BulkAggregationQueries.QUERY_TIMER).timers().stream()
+                .mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS))
+                .sum();
+    }
+}
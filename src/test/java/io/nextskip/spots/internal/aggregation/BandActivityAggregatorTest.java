@@ -1,6 +1,8 @@
 package io.nextskip.spots.internal.aggregation;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.nextskip.spots.internal.ScoringProperties;
+import io.nextskip.spots.internal.sketch.SignalQuantileTracker;
 import io.nextskip.spots.model.BandActivity;
 import io.nextskip.spots.model.ContinentPath;
 import io.nextskip.spots.model.Spot;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.time.Clock;
 import java.time.Duration;
@@ -27,6 +30,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -50,8 +55,13 @@ class BandActivityAggregatorTest {
     @Mock
     private SpotRepository repository;
 
+    @Mock
+    private ObjectProvider<ShardedScanExecutor> shardedScanProvider;
+
     private Clock clock;
     private ScoringProperties scoringProperties;
+    private SignalQuantileTracker quantileTracker;
+    private SimpleMeterRegistry meterRegistry;
     private BandActivityAggregator aggregator;
 
     @BeforeEach
@@ -61,7 +71,10 @@ class BandActivityAggregatorTest {
         scoringProperties.setRarityMultipliers(java.util.Map.of(
                 "FT8", 1.0, "FT4", 1.5, "FT2", 3.0
         ));
-        aggregator = new BandActivityAggregator(repository, clock, scoringProperties);
+        quantileTracker = new SignalQuantileTracker(clock, Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+        aggregator = new BandActivityAggregator(repository, clock, scoringProperties, quantileTracker,
+                meterRegistry, false, shardedScanProvider);
     }
 
     // =========================================================================
@@ -86,6 +99,29 @@ class BandActivityAggregatorTest {
             assertThat(activity.mode()).isEqualTo(MODE_FT8);
             assertThat(activity.spotCount()).isEqualTo(100);
             assertThat(activity.windowEnd()).isEqualTo(FIXED_TIME);
+            assertThat(activity.quantiles()).isNull();
+        }
+
+        @Test
+        void testAggregateBandMode_StreamedSpots_AttachesQuantiles() {
+            // Given: Spots seen by the in-stream quantile tracker
+            setupSpotCount(BAND_20M, MODE_FT8, 3);
+            setupNoDxData(BAND_20M, MODE_FT8);
+            setupNoPaths(BAND_20M, MODE_FT8);
+            for (int distance : new int[] {1000, 2000, 12_000}) {
+                quantileTracker.onSpot(SpotFixtures.spot()
+                        .band(BAND_20M).mode(MODE_FT8).snr(-10).distanceKm(distance)
+                        .spottedAt(FIXED_TIME).build());
+            }
+
+            // When
+            BandActivity activity = aggregator.aggregateBandMode(BAND_20M, MODE_FT8);
+
+            // Then
+            assertThat(activity.quantiles()).isNotNull();
+            assertThat(activity.quantiles().sampleCount()).isEqualTo(3);
+            assertThat(activity.quantiles().snrP50()).isEqualTo(-10);
+            assertThat(activity.quantiles().distanceP50Km()).isEqualTo(2025);
         }
 
         @Test
@@ -637,6 +673,151 @@ class BandActivityAggregatorTest {
         }
     }
 
+    // =========================================================================
+    // Single-scan and sharded-scan mode Tests
+    // =========================================================================
+
+    @Nested
+    class SingleScanModeTests {
+
+        private BandActivityAggregator singleScanAggregator;
+
+        @BeforeEach
+        void setUpSingleScan() {
+            singleScanAggregator = new BandActivityAggregator(repository, clock, scoringProperties,
+                    quantileTracker, meterRegistry, true, shardedScanProvider);
+        }
+
+        @Test
+        void testAggregateAllBands_SingleScan_MatchesMultiQueryResult() {
+            // Given: the same data served through both query modes
+            Instant current = FIXED_TIME.minus(Duration.ofMinutes(5));
+            Instant prior = FIXED_TIME.minus(Duration.ofMinutes(20));
+            setupBulkBuckets(List.of(
+                    new Object[]{BAND_20M, MODE_FT8, prior, 40L},
+                    new Object[]{BAND_20M, MODE_FT8, current, 80L},
+                    new Object[]{BAND_40M, MODE_CW, current, 12L}
+            ));
+            setupBulkDx(java.util.Collections.singletonList(
+                    new Object[]{BAND_20M, MODE_FT8, 9500, "ja1abc", "w6xyz"}));
+            when(repository.countContinentPathsPerBandMode(eq(FIXED_TIME.minus(Duration.ofMinutes(15)))))
+                    .thenReturn(java.util.Collections.singletonList(
+                            new Object[]{BAND_20M, MODE_FT8, "NA", "AS", 7L}));
+            when(repository.countContinentPathsPerBandMode(eq(FIXED_TIME.minus(Duration.ofMinutes(30)))))
+                    .thenReturn(java.util.Collections.singletonList(
+                            new Object[]{BAND_40M, MODE_CW, "NA", "EU", 6L}));
+            when(repository.countContinentPathsPerBandMode(eq(FIXED_TIME.minus(Duration.ofMinutes(60)))))
+                    .thenReturn(emptyBulkRows());
+            when(repository.aggregateBandModeSingleScan(any(), any(), any(), any(), any(), any())).thenReturn(List.of(
+                    bucketRow(BAND_20M, MODE_FT8, prior, 40L),
+                    bucketRow(BAND_20M, MODE_FT8, current, 80L),
+                    bucketRow(BAND_40M, MODE_CW, current, 12L),
+                    dxRow(BAND_20M, MODE_FT8, 9500, "ja1abc", "w6xyz"),
+                    dxRow(BAND_40M, MODE_CW, null, null, null),
+                    pathRow(BAND_20M, MODE_FT8, "NA", "AS", 7L, 9L, 9L),
+                    pathRow(BAND_40M, MODE_CW, "NA", "EU", 2L, 6L, 6L)
+            ));
+
+            // When
+            Map<String, BandActivity> multiQuery = aggregator.aggregateAllBands();
+            Map<String, BandActivity> singleScan = singleScanAggregator.aggregateAllBands();
+
+            // Then
+            assertThat(singleScan).containsExactlyEntriesOf(multiQuery);
+            assertThat(singleScan.get("20m_FT8").activePaths()).containsExactly(ContinentPath.NA_AS);
+            assertThat(singleScan.get("40m_CW").activePaths()).containsExactly(ContinentPath.NA_EU);
+            assertThat(singleScan.get("20m_FT8").maxDxPath()).isEqualTo("JA1ABC → W6XYZ");
+        }
+
+        @Test
+        void testAggregateAllBands_SingleScan_IssuesOneQuery() {
+            // Given
+            when(repository.aggregateBandModeSingleScan(
+                    FIXED_TIME.minus(Duration.ofHours(3)),
+                    SingleScanBounds.OPEN_END,
+                    FIXED_TIME.minus(Duration.ofHours(1)),
+                    FIXED_TIME.minus(Duration.ofMinutes(15)),
+                    FIXED_TIME.minus(Duration.ofMinutes(30)),
+                    FIXED_TIME.minus(Duration.ofMinutes(60))))
+                    .thenReturn(emptyBulkRows());
+
+            // When
+            Map<String, BandActivity> result = singleScanAggregator.aggregateAllBands();
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(repository, never()).countSpotsByBandModeInBuckets(any());
+            verify(repository, never()).findMaxDxSpotPerBandMode(any());
+            verify(repository, never()).countContinentPathsPerBandMode(any());
+            assertThat(meterRegistry.get(BulkAggregationQueries.QUERY_TIMER)
+                    .tag("mode", BulkAggregationQueries.MODE_SINGLE_SCAN)
+                    .tag("query", "single-scan")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        void testAggregateAllBands_MultiQuery_TimesEachQuery() {
+            // Given
+            setupBulkBuckets(emptyBulkRows());
+            setupBulkDx(emptyBulkRows());
+            setupBulkPaths(emptyBulkRows());
+
+            // When
+            aggregator.aggregateAllBands();
+
+            // Then
+            assertThat(meterRegistry.get(BulkAggregationQueries.QUERY_TIMER)
+                    .tag("mode", BulkAggregationQueries.MODE_MULTI_QUERY)
+                    .timers())
+                    .extracting(timer -> timer.getId().getTag("query"))
+                    .containsExactlyInAnyOrder("buckets", "max-dx", "paths-15m", "paths-30m", "paths-60m");
+        }
+
+        @Test
+        void testAggregateAllBands_ShardedScan_UsesExecutorInsteadOfRepository() {
+            // Given: a shard executor is available
+            ShardedScanExecutor executor = org.mockito.Mockito.mock(ShardedScanExecutor.class);
+            when(shardedScanProvider.getIfAvailable()).thenReturn(executor);
+            Instant current = FIXED_TIME.minus(Duration.ofMinutes(5));
+            when(executor.scan(SingleScanBounds.endingAt(FIXED_TIME), FIXED_TIME)).thenReturn(List.of(
+                    bucketRow(BAND_20M, MODE_FT8, current, 80L),
+                    dxRow(BAND_20M, MODE_FT8, 9500, "ja1abc", "w6xyz"),
+                    pathRow(BAND_20M, MODE_FT8, "NA", "AS", 7L, 9L, 9L)));
+            BandActivityAggregator sharded = new BandActivityAggregator(repository, clock, scoringProperties,
+                    quantileTracker, meterRegistry, false, shardedScanProvider);
+
+            // When
+            Map<String, BandActivity> result = sharded.aggregateAllBands();
+
+            // Then
+            assertThat(result.get("20m_FT8").spotCount()).isEqualTo(80);
+            assertThat(result.get("20m_FT8").maxDxKm()).isEqualTo(9500);
+            assertThat(result.get("20m_FT8").activePaths()).containsExactly(ContinentPath.NA_AS);
+            verify(repository, never()).aggregateBandModeSingleScan(any(), any(), any(), any(), any(), any());
+            assertThat(meterRegistry.get(BulkAggregationQueries.QUERY_TIMER)
+                    .tag("mode", BulkAggregationQueries.MODE_SHARDED_SCAN)
+                    .tag("query", "sharded-scan")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        private static Object[] bucketRow(String band, String mode, Instant bucketStart, long count) {
+            return new Object[]{"B", band, mode, bucketStart, null, null, count,
+                    null, null, null, null, null, null, null};
+        }
+
+        private static Object[] dxRow(String band, String mode, Integer distanceKm,
+                                      String spottedCall, String spotterCall) {
+            return new Object[]{"D", band, mode, null, null, null, 1L,
+                    0L, 0L, 0L, distanceKm, spottedCall, spotterCall, null};
+        }
+
+        private static Object[] pathRow(String band, String mode, String c1, String c2,
+                                        long count15m, long count30m, long count60m) {
+            return new Object[]{"P", band, mode, null, c1, c2, count60m,
+                    count15m, count30m, count60m, null, null, null, null};
+        }
+    }
+
     // =========================================================================
     // Rarity Multiplier Passthrough Tests (T020)
     // =========================================================================
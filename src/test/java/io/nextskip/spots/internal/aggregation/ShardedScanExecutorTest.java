@@ -0,0 +1,162 @@
+package io.nextskip.spots.internal.aggregation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.nextskip.spots.persistence.repository.SpotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ShardedScanExecutor}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedScanExecutorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+    private static final Instant BUCKET = Instant.parse("2025-01-15T11:45:00Z");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ShardedScanExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new ShardedScanExecutor(jdbcTemplate, null, meterRegistry, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    // =========================================================================
+    // split() Tests
+    // =========================================================================
+
+    @Nested
+    class SplitTests {
+
+        @Test
+        void testSplit_ThreeShards_ContiguousAndEqual() {
+            SingleScanBounds bounds = SingleScanBounds.endingAt(NOW);
+
+            List<SingleScanBounds> shards = ShardedScanExecutor.split(bounds, NOW, 3);
+
+            assertThat(shards).hasSize(3);
+            assertThat(shards.get(0).since()).isEqualTo(NOW.minus(Duration.ofHours(3)));
+            assertThat(shards.get(0).until()).isEqualTo(NOW.minus(Duration.ofHours(2)));
+            assertThat(shards.get(1).since()).isEqualTo(shards.get(0).until());
+            assertThat(shards.get(1).until()).isEqualTo(NOW.minus(Duration.ofHours(1)));
+            assertThat(shards.get(2).since()).isEqualTo(shards.get(1).until());
+        }
+
+        @Test
+        void testSplit_LastShard_KeepsOpenEnd() {
+            List<SingleScanBounds> shards = ShardedScanExecutor.split(SingleScanBounds.endingAt(NOW), NOW, 4);
+
+            assertThat(shards.get(3).until()).isEqualTo(SingleScanBounds.OPEN_END);
+        }
+
+        @Test
+        void testSplit_WindowCutoffs_SharedByAllShards() {
+            SingleScanBounds bounds = SingleScanBounds.endingAt(NOW);
+
+            List<SingleScanBounds> shards = ShardedScanExecutor.split(bounds, NOW, 3);
+
+            assertThat(shards).allSatisfy(shard -> {
+                assertThat(shard.dxSince()).isEqualTo(bounds.dxSince());
+                assertThat(shard.pathSince15m()).isEqualTo(bounds.pathSince15m());
+                assertThat(shard.pathSince60m()).isEqualTo(bounds.pathSince60m());
+            });
+        }
+    }
+
+    // =========================================================================
+    // scan() Tests
+    // =========================================================================
+
+    @Nested
+    class ScanTests {
+
+        @Test
+        void testScan_EachShardQueried_ResultsMerged() {
+            // Given: every shard reports part of the same bucket
+            when(jdbcTemplate.query(eq(SpotRepository.SINGLE_SCAN_SQL), any(SqlParameterSource.class),
+                    org.mockito.ArgumentMatchers.<RowMapper<Object[]>>any()))
+                    .thenAnswer(invocation -> List.<Object[]>of(new Object[]{
+                            "B", "20m", "FT8", BUCKET, null, null, 10L,
+                            null, null, null, null, null, null, null}));
+
+            // When
+            List<Object[]> rows = executor.scan(SingleScanBounds.endingAt(NOW), NOW);
+
+            // Then
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0)[SingleScanRowDecoder.COUNT]).isEqualTo(30L);
+            assertThat(meterRegistry.get(BulkAggregationQueries.QUERY_TIMER)
+                    .tag("query", "shard")
+                    .timer().count()).isEqualTo(3);
+        }
+
+        @Test
+        void testScan_ShardParameters_BoundEachRange() {
+            // Given: capture the since parameter of every shard
+            List<Object> sinceValues = new java.util.concurrent.CopyOnWriteArrayList<>();
+            when(jdbcTemplate.query(eq(SpotRepository.SINGLE_SCAN_SQL), any(SqlParameterSource.class),
+                    org.mockito.ArgumentMatchers.<RowMapper<Object[]>>any()))
+                    .thenAnswer(invocation -> {
+                        SqlParameterSource params = invocation.getArgument(1);
+                        sinceValues.add(params.getValue("since"));
+                        return List.of();
+                    });
+
+            // When
+            executor.scan(SingleScanBounds.endingAt(NOW), NOW);
+
+            // Then
+            assertThat(sinceValues).containsExactlyInAnyOrder(
+                    Timestamp.from(NOW.minus(Duration.ofHours(3))),
+                    Timestamp.from(NOW.minus(Duration.ofHours(2))),
+                    Timestamp.from(NOW.minus(Duration.ofHours(1))));
+        }
+
+        @Test
+        void testScan_ShardFails_PropagatesCause() {
+            when(jdbcTemplate.query(eq(SpotRepository.SINGLE_SCAN_SQL), any(SqlParameterSource.class),
+                    org.mockito.ArgumentMatchers.<RowMapper<Object[]>>any()))
+                    .thenThrow(new DataAccessResourceFailureException("shard down"));
+
+            assertThatThrownBy(() -> executor.scan(SingleScanBounds.endingAt(NOW), NOW))
+                    .isInstanceOf(DataAccessResourceFailureException.class)
+                    .hasMessageContaining("shard down");
+        }
+    }
+
+    @Test
+    void testConstructor_NonPositiveParallelism_Throws() {
+        assertThatThrownBy(() -> new ShardedScanExecutor(jdbcTemplate, null, meterRegistry, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package io.nextskip.spots.internal.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SingleScanRowDecoder}.
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Test data intentionally repeats band/mode values
+class SingleScanRowDecoderTest {
+
+    private static final Instant BUCKET = Instant.parse("2025-01-15T11:45:00Z");
+    private static final Duration WINDOW_15M = Duration.ofMinutes(15);
+    private static final Duration WINDOW_30M = Duration.ofMinutes(30);
+    private static final Duration WINDOW_60M = Duration.ofMinutes(60);
+
+    @Test
+    void testDecode_BucketRow_ProducesBucketTuple() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{
+                "B", "20m", "FT8", BUCKET, null, null, 42L, null, null, null, null, null, null});
+
+        BulkAggregationRows decoded = SingleScanRowDecoder.decode(rows);
+
+        assertThat(decoded.bucketRows()).containsExactly(new Object[]{"20m", "FT8", BUCKET, 42L});
+        assertThat(decoded.dxRows()).isEmpty();
+    }
+
+    @Test
+    void testDecode_DxRow_ProducesDxTuple() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{
+                "D", "20m", "FT8", null, null, null, 42L, 0L, 0L, 0L, 9500, "JA1ABC", "W6XYZ"});
+
+        BulkAggregationRows decoded = SingleScanRowDecoder.decode(rows);
+
+        assertThat(decoded.dxRows()).containsExactly(new Object[]{"20m", "FT8", 9500, "JA1ABC", "W6XYZ"});
+    }
+
+    @Test
+    void testDecode_DxRowWithoutDistance_Dropped() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{
+                "D", "40m", "CW", null, null, null, 3L, 0L, 0L, 0L, null, null, null});
+
+        BulkAggregationRows decoded = SingleScanRowDecoder.decode(rows);
+
+        assertThat(decoded.dxRows()).isEmpty();
+    }
+
+    @Test
+    void testDecode_PathRow_SplitsIntoNonZeroWindows() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{
+                "P", "20m", "FT8", null, "NA", "EU", 9L, 0L, 4L, 9L, null, null, null});
+
+        BulkAggregationRows decoded = SingleScanRowDecoder.decode(rows);
+
+        assertThat(decoded.pathsByWindow().get(WINDOW_15M)).isEmpty();
+        assertThat(decoded.pathsByWindow().get(WINDOW_30M))
+                .containsExactly(new Object[]{"20m", "FT8", "NA", "EU", 4L});
+        assertThat(decoded.pathsByWindow().get(WINDOW_60M))
+                .containsExactly(new Object[]{"20m", "FT8", "NA", "EU", 9L});
+    }
+
+    @Test
+    void testDecode_Empty_HasEmptyListPerWindow() {
+        BulkAggregationRows decoded = SingleScanRowDecoder.decode(List.of());
+
+        assertThat(decoded.bucketRows()).isEmpty();
+        assertThat(decoded.pathsByWindow()).containsOnlyKeys(WINDOW_15M, WINDOW_30M, WINDOW_60M);
+    }
+
+    @Test
+    void testDecode_UnknownKind_Throws() {
+        List<Object[]> rows = List.<Object[]>of(new Object[]{
+                "X", "20m", "FT8", null, null, null, 1L, null, null, null, null, null, null});
+
+        assertThatThrownBy(() -> SingleScanRowDecoder.decode(rows))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("X");
+    }
+
+    @Test
+    void testSupports_CurrentModeWindows_True() {
+        assertThat(SingleScanRowDecoder.supports(Set.of(WINDOW_15M, WINDOW_30M, WINDOW_60M))).isTrue();
+    }
+
+    @Test
+    void testSupports_UncoveredWindow_False() {
+        assertThat(SingleScanRowDecoder.supports(Set.of(WINDOW_15M, Duration.ofMinutes(45)))).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package io.nextskip.spots.internal.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SingleScanRowMerger}.
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Test data intentionally repeats band/mode values
+class SingleScanRowMergerTest {
+
+    private static final Instant BUCKET_A = Instant.parse("2025-01-15T11:30:00Z");
+    private static final Instant BUCKET_B = Instant.parse("2025-01-15T11:45:00Z");
+
+    @Test
+    void testMerge_SameBucketInTwoShards_SumsCounts() {
+        List<Object[]> merged = SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(bucket("20m", "FT8", BUCKET_A, 10L)),
+                List.<Object[]>of(bucket("20m", "FT8", BUCKET_A, 5L))));
+
+        assertThat(merged).hasSize(1);
+        assertThat(merged.get(0)[SingleScanRowDecoder.COUNT]).isEqualTo(15L);
+    }
+
+    @Test
+    void testMerge_PathRows_SumsEveryWindow() {
+        List<Object[]> merged = SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(path("20m", "FT8", "NA", "EU", 0L, 2L, 6L)),
+                List.<Object[]>of(path("20m", "FT8", "NA", "EU", 3L, 3L, 3L))));
+
+        assertThat(merged).hasSize(1);
+        Object[] row = merged.get(0);
+        assertThat(row[SingleScanRowDecoder.FIRST_PATH_COUNT]).isEqualTo(3L);
+        assertThat(row[SingleScanRowDecoder.FIRST_PATH_COUNT + 1]).isEqualTo(5L);
+        assertThat(row[SingleScanRowDecoder.FIRST_PATH_COUNT + 2]).isEqualTo(9L);
+    }
+
+    @Test
+    void testMerge_DxRows_KeepsHighestRankWithItsCallsigns() {
+        List<Object[]> merged = SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(dx("20m", "FT8", 9000, "JA1ABC", "W6XYZ", "90000000001700000000")),
+                List.<Object[]>of(dx("20m", "FT8", 12000, "VK2AAA", "G4BBB", "120000000001700000100"))));
+
+        assertThat(merged).hasSize(1);
+        Object[] row = merged.get(0);
+        assertThat(row[SingleScanRowDecoder.MAX_DISTANCE]).isEqualTo(12000);
+        assertThat(row[SingleScanRowDecoder.MAX_DX_SPOTTED_CALL]).isEqualTo("VK2AAA");
+        assertThat(row[SingleScanRowDecoder.MAX_DX_SPOTTER_CALL]).isEqualTo("G4BBB");
+    }
+
+    @Test
+    void testMerge_DxRowWithoutDistance_DoesNotReplaceRankedRow() {
+        List<Object[]> merged = SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(dx("20m", "FT8", 9000, "JA1ABC", "W6XYZ", "90000000001700000000")),
+                List.<Object[]>of(dx("20m", "FT8", null, null, null, null))));
+
+        assertThat(merged.get(0)[SingleScanRowDecoder.MAX_DISTANCE]).isEqualTo(9000);
+    }
+
+    @Test
+    void testMerge_RowsFromLaterShard_SortedInQueryOrder() {
+        List<Object[]> merged = SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(bucket("40m", "CW", BUCKET_A, 1L)),
+                List.<Object[]>of(bucket("20m", "FT8", BUCKET_B, 1L), bucket("20m", "FT8", BUCKET_A, 1L))));
+
+        assertThat(merged)
+                .extracting(row -> row[SingleScanRowDecoder.BAND] + "@" + row[SingleScanRowDecoder.BUCKET_START])
+                .containsExactly("20m@" + BUCKET_A, "20m@" + BUCKET_B, "40m@" + BUCKET_A);
+    }
+
+    @Test
+    void testMerge_DoesNotMutateInputRows() {
+        Object[] first = bucket("20m", "FT8", BUCKET_A, 10L);
+
+        SingleScanRowMerger.merge(List.of(
+                List.<Object[]>of(first),
+                List.<Object[]>of(bucket("20m", "FT8", BUCKET_A, 5L))));
+
+        assertThat(first[SingleScanRowDecoder.COUNT]).isEqualTo(10L);
+    }
+
+    private static Object[] bucket(String band, String mode, Instant bucketStart, long count) {
+        return new Object[]{"B", band, mode, bucketStart, null, null, count,
+                null, null, null, null, null, null, null};
+    }
+
+    private static Object[] path(String band, String mode, String c1, String c2,
+                                 long count15m, long count30m, long count60m) {
+        return new Object[]{"P", band, mode, null, c1, c2, count60m,
+                count15m, count30m, count60m, null, null, null, null};
+    }
+
+    private static Object[] dx(String band, String mode, Integer distanceKm,
+                               String spottedCall, String spotterCall, String rank) {
+        return new Object[]{"D", band, mode, null, null, null, 1L, 0L, 0L, 0L,
+                distanceKm, spottedCall, spotterCall, rank == null ? null : new BigDecimal(rank)};
+    }
+}
@@ -7,14 +7,18 @@ import org.eclipse.paho.mqttv5.common.MqttException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -141,6 +145,47 @@ class PskReporterMqttSourceTest {
         verify(mockClient).disconnect();
     }
 
+    // ===========================================
+    // updateTopics() tests
+    // ===========================================
+
+    @Test
+    void testUpdateTopics_Connected_SubscribesAddedThenUnsubscribesRemoved() throws MqttException {
+        injectMockClient();
+        when(mockClient.isConnected()).thenReturn(true);
+
+        source.updateTopics(List.of("test/topic2", "test/topic3"));
+
+        InOrder inOrder = inOrder(mockClient);
+        inOrder.verify(mockClient).subscribe(new String[] {"test/topic3"}, new int[] {0});
+        inOrder.verify(mockClient).unsubscribe(new String[] {"test/topic1"});
+        assertThat(source.getTopics()).containsExactly("test/topic2", "test/topic3");
+    }
+
+    @Test
+    void testUpdateTopics_Disconnected_UsedOnNextConnect() throws MqttException {
+        source.updateTopics(List.of("test/topic3"));
+        injectMockClient();
+
+        source.connectComplete(false, BROKER_URL);
+
+        verify(mockClient).subscribe(new String[] {"test/topic3"}, new int[] {0});
+    }
+
+    @Test
+    void testUpdateTopics_SubscribeFails_KeepsCurrentTopics() throws MqttException {
+        injectMockClient();
+        when(mockClient.isConnected()).thenReturn(true);
+        doThrow(new MqttException(MqttException.REASON_CODE_CLIENT_EXCEPTION))
+                .when(mockClient).subscribe(any(String[].class), any(int[].class));
+
+        assertThatThrownBy(() -> source.updateTopics(List.of("test/topic3")))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(mockClient, never()).unsubscribe(any(String[].class));
+        assertThat(source.getTopics()).isEqualTo(TOPICS);
+    }
+
     // ===========================================
     // getSourceName() tests
     // ===========================================
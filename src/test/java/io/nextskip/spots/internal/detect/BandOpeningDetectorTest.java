@@ -0,0 +1,137 @@
+package io.nextskip.spots.internal.detect;
+
+import io.nextskip.spots.api.BandOpeningEvent;
+import io.nextskip.spots.internal.OpeningDetectorProperties;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link BandOpeningDetector}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BandOpeningDetectorTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:00Z");
+    private static final Duration BIN = Duration.ofSeconds(30);
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private OpeningDetectorProperties properties;
+    private BandOpeningDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        properties = new OpeningDetectorProperties();
+        detector = new BandOpeningDetector(properties, eventPublisher, clock);
+    }
+
+    private Spot pathSpot(String band, String spotterContinent, String spottedContinent) {
+        return SpotFixtures.spot()
+                .band(band)
+                .mode("ft8")
+                .spotterContinent(spotterContinent)
+                .spottedContinent(spottedContinent)
+                .build();
+    }
+
+    /** Feeds {@code perBin} NA-AS spots on 20m into each of {@code bins} consecutive bins. */
+    private void feed(int bins, int perBin) {
+        for (int b = 0; b < bins; b++) {
+            for (int i = 0; i < perBin; i++) {
+                detector.onSpot(pathSpot("20m", "NA", "AS"));
+            }
+            clock.advance(BIN);
+        }
+    }
+
+    @Test
+    void testOnSpot_RateJump_PublishesOpeningEvent() {
+        // Given - Quiet baseline of 2 spots per bin
+        feed(20, 2);
+
+        // When - 20m to JA opens
+        feed(1, 25);
+
+        // Then
+        ArgumentCaptor<BandOpeningEvent> captor = ArgumentCaptor.forClass(BandOpeningEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        BandOpeningEvent event = captor.getValue();
+        assertThat(event.isOpening()).isTrue();
+        assertThat(event.band()).isEqualTo("20m");
+        assertThat(event.mode()).isEqualTo("FT8");
+        assertThat(event.path()).isEqualTo(ContinentPath.NA_AS);
+        assertThat(event.baselinePerMin()).isLessThan(event.ratePerMin());
+        assertThat(detector.getEventsPublished()).isEqualTo(1);
+    }
+
+    @Test
+    void testCloseElapsedBins_PathGoesQuiet_PublishesClosingEvent() {
+        // Given - Busy path
+        feed(20, 20);
+
+        // When - No spots arrive; sweep runs a few bins later
+        clock.advance(BIN.multipliedBy(3));
+        detector.closeElapsedBins();
+
+        // Then
+        ArgumentCaptor<BandOpeningEvent> captor = ArgumentCaptor.forClass(BandOpeningEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().direction()).isEqualTo(BandOpeningEvent.Direction.CLOSING);
+    }
+
+    @Test
+    void testOnSpot_SteadyTraffic_PublishesNothing() {
+        feed(40, 8);
+
+        verify(eventPublisher, never()).publishEvent(any(BandOpeningEvent.class));
+    }
+
+    @Test
+    void testOnSpot_PathsTrackedSeparately() {
+        // Given
+        detector.onSpot(pathSpot("20m", "NA", "AS"));
+        detector.onSpot(pathSpot("20m", "AS", "NA"));
+        detector.onSpot(pathSpot("20m", "NA", "EU"));
+        detector.onSpot(pathSpot("40m", "NA", "EU"));
+
+        // Then - NA-AS in either direction is one path
+        assertThat(detector.getTrackedPaths()).isEqualTo(3);
+    }
+
+    @Test
+    void testOnSpot_NoMajorPath_Ignored() {
+        detector.onSpot(pathSpot("20m", "NA", "NA"));
+        detector.onSpot(pathSpot("20m", null, "EU"));
+
+        assertThat(detector.getTrackedPaths()).isZero();
+    }
+
+    @Test
+    void testConstructor_InvalidAlpha_Throws() {
+        properties.setAlpha(0);
+
+        assertThatThrownBy(() -> new BandOpeningDetector(properties, eventPublisher, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
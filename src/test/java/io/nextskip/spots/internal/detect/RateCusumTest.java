@@ -0,0 +1,197 @@
+package io.nextskip.spots.internal.detect;
+
+import io.nextskip.spots.api.BandOpeningEvent.Direction;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link RateCusum}.
+ *
+ * <p>Traffic is replayed from a seeded Poisson model with a slow diurnal swing,
+ * matching the shape of per-path FT8 spot counts over a day.
+ */
+class RateCusumTest {
+
+    private static final double ALPHA = 0.1;
+    private static final double DRIFT = 0.5;
+    private static final double THRESHOLD = 6.0;
+    private static final int WARMUP = 10;
+
+    /** 30-second bins in a day. */
+    private static final int BINS_PER_DAY = 2880;
+
+    private static RateCusum newCusum() {
+        return new RateCusum(ALPHA, DRIFT, THRESHOLD, WARMUP, 0);
+    }
+
+    /**
+     * Feeds {@code count} spots into bin {@code epoch} and returns the first signal.
+     */
+    private static RateCusum.Signal feedBin(RateCusum cusum, long epoch, int count) {
+        RateCusum.Signal first = cusum.advance(epoch);
+        for (int i = 0; i < count; i++) {
+            RateCusum.Signal signal = cusum.record(epoch);
+            if (first == null) {
+                first = signal;
+            }
+        }
+        return first;
+    }
+
+    private static RateCusum warmUp(int perBin) {
+        RateCusum cusum = newCusum();
+        for (long epoch = 0; epoch < WARMUP * 3; epoch++) {
+            feedBin(cusum, epoch, perBin);
+        }
+        return cusum;
+    }
+
+    static int poisson(double lambda, Random random) {
+        double limit = Math.exp(-lambda);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    // =========================================================================
+    // Detection Tests
+    // =========================================================================
+
+    @Nested
+    class DetectionTests {
+
+        @Test
+        void testRecord_StepIncrease_FiresOpeningWithinBin() {
+            // Given - Steady 5 spots per bin
+            RateCusum cusum = warmUp(5);
+            long epoch = WARMUP * 3;
+
+            // When - Rate jumps to 30 per bin; count spots until alarm
+            cusum.advance(epoch);
+            RateCusum.Signal signal = null;
+            int spotsUntilAlarm = 0;
+            while (signal == null && spotsUntilAlarm < 30) {
+                signal = cusum.record(epoch);
+                spotsUntilAlarm++;
+            }
+
+            // Then - Fires mid-bin, before the bin closes
+            assertThat(signal).isNotNull();
+            assertThat(signal.direction()).isEqualTo(Direction.OPENING);
+            assertThat(spotsUntilAlarm).isLessThan(30);
+            assertThat(signal.baselineCount()).isCloseTo(5.0, within(0.5));
+        }
+
+        @Test
+        void testAdvance_StepDecrease_FiresClosing() {
+            // Given - Steady 20 spots per bin
+            RateCusum cusum = warmUp(20);
+            long epoch = WARMUP * 3;
+
+            // When - Path goes quiet
+            RateCusum.Signal signal = null;
+            int bins = 0;
+            while (signal == null && bins < 5) {
+                signal = feedBin(cusum, epoch + bins, 0);
+                bins++;
+            }
+
+            // Then
+            assertThat(signal).isNotNull();
+            assertThat(signal.direction()).isEqualTo(Direction.CLOSING);
+        }
+
+        @Test
+        void testRecord_SustainedOpening_FiresOnce() {
+            // Given
+            RateCusum cusum = warmUp(5);
+            int openings = 0;
+
+            // When - Rate stays high long enough for baseline to adapt
+            for (long epoch = WARMUP * 3; epoch < WARMUP * 3 + 60; epoch++) {
+                RateCusum.Signal signal = feedBin(cusum, epoch, 30);
+                if (signal != null && signal.direction() == Direction.OPENING) {
+                    openings++;
+                }
+            }
+
+            // Then
+            assertThat(openings).isEqualTo(1);
+        }
+
+        @Test
+        void testRecord_DuringWarmup_NeverFires() {
+            // Given
+            RateCusum cusum = newCusum();
+
+            // When / Then
+            for (long epoch = 0; epoch < WARMUP; epoch++) {
+                assertThat(feedBin(cusum, epoch, epoch % 2 == 0 ? 0 : 50)).isNull();
+            }
+        }
+
+        @Test
+        void testAdvance_IdleGap_ClosesMissedBinsAsEmpty() {
+            // Given
+            RateCusum cusum = warmUp(20);
+
+            // When - Next spot arrives ten bins later
+            RateCusum.Signal signal = cusum.advance(WARMUP * 3 + 10);
+
+            // Then
+            assertThat(signal).isNotNull();
+            assertThat(signal.direction()).isEqualTo(Direction.CLOSING);
+        }
+    }
+
+    // =========================================================================
+    // False Positive Tests (replayed traffic)
+    // =========================================================================
+
+    @Nested
+    class FalsePositiveTests {
+
+        /**
+         * Replays one day of Poisson traffic whose mean drifts sinusoidally
+         * between {@code meanPerBin / 2} and {@code 1.5 × meanPerBin}.
+         *
+         * @return number of alarms raised
+         */
+        private int replayDay(double meanPerBin, long seed) {
+            RateCusum cusum = newCusum();
+            Random random = new Random(seed);
+            int alarms = 0;
+            for (int epoch = 0; epoch < BINS_PER_DAY; epoch++) {
+                double lambda = meanPerBin * (1 + 0.5 * Math.sin(2 * Math.PI * epoch / BINS_PER_DAY));
+                if (feedBin(cusum, epoch, poisson(lambda, random)) != null) {
+                    alarms++;
+                }
+            }
+            return alarms;
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {0.5, 3.0, 12.0, 40.0})
+        void testReplay_DiurnalTraffic_AtMostOneFalseAlarmPerPathDay(double meanPerBin) {
+            // Given - 20 independent path-days at this volume
+            int alarms = 0;
+            for (long seed = 1; seed <= 20; seed++) {
+                alarms += replayDay(meanPerBin, seed);
+            }
+
+            // Then
+            assertThat(alarms).isLessThanOrEqualTo(20);
+        }
+    }
+}
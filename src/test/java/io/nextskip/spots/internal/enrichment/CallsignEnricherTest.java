@@ -0,0 +1,170 @@
+package io.nextskip.spots.internal.enrichment;
+
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CallsignEnricher}.
+ *
+ * <p>Uses the bundled {@code data/cty.dat}.
+ */
+class CallsignEnricherTest {
+
+    private CallsignEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        enricher = new CallsignEnricher(new ClassPathResource("data/cty.dat"));
+        enricher.init();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "W1AW, United States, NA, 5",
+            "K6ABC, United States, NA, 3",
+            "VE7ABC, Canada, NA, 3",
+            "KL7ABC, Alaska, NA, 1",
+            "G4ABC, England, EU, 14",
+            "GM4ABC, Scotland, EU, 14",
+            "DL1ABC, Germany, EU, 14",
+            "EA8ABC, Canary Islands, AF, 33",
+            "UA9ABC, Asiatic Russia, AS, 17",
+            "UA3ABC, European Russia, EU, 16",
+            "JA1ABC, Japan, AS, 25",
+            "BV2ABC, Taiwan, AS, 24",
+            "VK6ABC, Australia, OC, 29",
+            "PY2ABC, Brazil, SA, 11",
+            "ZS6ABC, South Africa, AF, 38"
+    })
+    void testLookup_BundledCtyDat_ResolvesEntity(String callsign, String entity, String continent, int cqZone) {
+        DxccEntity result = enricher.lookup(callsign);
+
+        assertThat(result.name()).isEqualTo(entity);
+        assertThat(result.continent()).isEqualTo(continent);
+        assertThat(result.cqZone()).isEqualTo(cqZone);
+    }
+
+    @Test
+    void testEnrich_KnownCallsigns_AddsContinents() {
+        // FN31 would guess NA for both; the callsigns say otherwise
+        Spot spot = SpotFixtures.spot()
+                .spotterCall("EA8ABC")
+                .spotterGrid("FN31")
+                .spottedCall("JA1ABC")
+                .spottedGrid("FN31")
+                .spotterContinent(null)
+                .spottedContinent(null)
+                .build();
+
+        Spot enriched = enricher.enrich(spot);
+
+        assertThat(enriched.spotterContinent()).isEqualTo("AF");
+        assertThat(enriched.spottedContinent()).isEqualTo("AS");
+    }
+
+    @Test
+    void testEnrich_UnknownCallsign_LeavesContinentForGridFallback() {
+        Spot spot = SpotFixtures.spot()
+                .spotterCall("W1AW")
+                .spottedCall("W1AW/MM")
+                .spotterContinent(null)
+                .spottedContinent(null)
+                .build();
+
+        Spot enriched = enricher.enrich(spot);
+
+        assertThat(enriched.spotterContinent()).isEqualTo("NA");
+        assertThat(enriched.spottedContinent()).isNull();
+    }
+
+    @Test
+    void testEnrich_ExistingContinent_Preserved() {
+        Spot spot = SpotFixtures.spot()
+                .spotterCall("W1AW")
+                .spottedCall("DL1ABC")
+                .spotterContinent("SA")
+                .spottedContinent(null)
+                .build();
+
+        Spot enriched = enricher.enrich(spot);
+
+        assertThat(enriched.spotterContinent()).isEqualTo("SA");
+        assertThat(enriched.spottedContinent()).isEqualTo("EU");
+    }
+
+    @Test
+    void testEnrich_AlreadyEnriched_ReturnsUnchanged() {
+        Spot spot = SpotFixtures.spot()
+                .spotterContinent("NA")
+                .spottedContinent("EU")
+                .build();
+
+        assertThat(enricher.enrich(spot)).isSameAs(spot);
+    }
+
+    @Test
+    void testEnrich_NothingResolved_ReturnsSameInstance() {
+        Spot spot = SpotFixtures.spot()
+                .spotterCall("QRZ")
+                .spottedCall("QRZ")
+                .spotterContinent(null)
+                .spottedContinent(null)
+                .build();
+
+        assertThat(enricher.enrich(spot)).isSameAs(spot);
+    }
+
+    @Test
+    void testEnrich_NullSpot_ReturnsNull() {
+        assertThat(enricher.enrich(null)).isNull();
+    }
+
+    @Test
+    void testInit_MalformedFile_FallsBackToEmptyTrie() {
+        CallsignEnricher broken = new CallsignEnricher(
+                new ByteArrayResource("Nowhere: 1:\n".getBytes(StandardCharsets.ISO_8859_1)));
+
+        broken.init();
+
+        assertThat(broken.lookup("W1AW")).isNull();
+    }
+
+    @Test
+    void testConstructor_PrebuiltTrie_UsedWithoutLoading() {
+        CallsignEnricher prebuilt = new CallsignEnricher(CtyPrefixTrie.empty());
+
+        prebuilt.init();
+
+        assertThat(prebuilt.lookup("W1AW")).isNull();
+    }
+
+    @Test
+    void testIsComplete_BundledTrimmedFile_False() {
+        assertThat(enricher.isComplete()).isFalse();
+    }
+
+    @Test
+    void testIsComplete_FullEntityCount_True() {
+        StringBuilder cty = new StringBuilder();
+        for (int i = 0; i < CallsignEnricher.FULL_FILE_MIN_ENTITIES; i++) {
+            cty.append("Entity ").append(i).append(": 1: 1: EU: 0.0: 0.0: 0.0: E").append(i)
+                    .append(":\n    E").append(i).append(";\n");
+        }
+        CallsignEnricher full = new CallsignEnricher(
+                new ByteArrayResource(cty.toString().getBytes(StandardCharsets.ISO_8859_1)));
+
+        full.init();
+
+        assertThat(full.isComplete()).isTrue();
+    }
+}
@@ -0,0 +1,93 @@
+package io.nextskip.spots.internal.enrichment;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Single-thread throughput of {@link CtyPrefixTrie#lookup(String)} over the bundled
+ * cty.dat.
+ *
+ * <p>Ingest enriches two callsigns per spot, so the trie must sustain at least
+ * {@value #MIN_LOOKUPS_PER_SECOND} lookups per second on one core to stay well
+ * clear of peak PSKReporter rates.
+ *
+ * <p>Tagged {@code benchmark}; run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class CtyPrefixTrieBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CtyPrefixTrieBenchmarkTest.class);
+
+    private static final long MIN_LOOKUPS_PER_SECOND = 1_000_000;
+    private static final int CALLSIGNS = 100_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final String[] PREFIXES = {
+            "W", "K", "N", "VE", "KL7", "KH6", "G", "M", "2E", "GM", "DL", "F", "I", "EA", "EA8",
+            "SP", "OK", "PA", "ON", "UA", "UA9", "R", "UR", "JA", "7K", "BV", "BY", "HL", "VU",
+            "YB", "DU", "VK", "ZL", "PY", "LU", "CE", "ZS", "CN", "SU", "5Z", "QQ"
+    };
+    private static final String[] SUFFIXES = {"", "", "", "", "/P", "/M", "/QRP", "/4", "-4"};
+
+    @Test
+    void benchmarkLookup_SingleThread_MeetsThroughputBudget() throws IOException {
+        CtyPrefixTrie trie;
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource("data/cty.dat").getInputStream(), StandardCharsets.ISO_8859_1)) {
+            trie = CtyPrefixTrie.parse(reader);
+        }
+        String[] callsigns = callsigns();
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(trie, callsigns);
+        }
+        long resolved = 0;
+        long started = System.nanoTime();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            resolved += run(trie, callsigns);
+        }
+        long elapsed = System.nanoTime() - started;
+
+        long lookups = (long) CALLSIGNS * MEASURED_ROUNDS;
+        long perSecond = lookups * 1_000_000_000L / elapsed;
+        LOG.info("cty.dat trie: {} lookups/s ({} ns/lookup, {}% resolved, {} nodes)",
+                perSecond, elapsed / lookups, resolved * 100 / lookups, trie.nodeCount());
+        assertThat(perSecond).isGreaterThanOrEqualTo(MIN_LOOKUPS_PER_SECOND);
+    }
+
+    private static long run(CtyPrefixTrie trie, String[] callsigns) {
+        long resolved = 0;
+        for (String callsign : callsigns) {
+            if (trie.lookup(callsign) != null) {
+                resolved++;
+            }
+        }
+        return resolved;
+    }
+
+    private static String[] callsigns() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] callsigns = new String[CALLSIGNS];
+        for (int i = 0; i < CALLSIGNS; i++) {
+            StringBuilder call = new StringBuilder(PREFIXES[random.nextInt(PREFIXES.length)])
+                    .append(random.nextInt(10));
+            int letters = 1 + random.nextInt(3);
+            for (int j = 0; j < letters; j++) {
+                call.append((char) ('A' + random.nextInt(26)));
+            }
+            callsigns[i] = call.append(SUFFIXES[random.nextInt(SUFFIXES.length)]).toString();
+        }
+        return callsigns;
+    }
+}
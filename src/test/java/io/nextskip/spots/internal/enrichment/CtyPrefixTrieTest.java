@@ -0,0 +1,250 @@
+package io.nextskip.spots.internal.enrichment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CtyPrefixTrie}.
+ */
+class CtyPrefixTrieTest {
+
+    private static final String CTY = """
+            Canada:                   05:  09:  NA:   44.35:    78.75:     5.0:  VE:
+                CF,CG,VA,VE,VE7(3)[2],VY1(1)[2],=VE2XYZ/VY2;
+            Alaska:                   01:  01:  NA:   61.40:   148.87:     9.0:  KL:
+                AL,KL,NL,WL;
+            Hawaii:                   31:  61:  OC:   21.12:   157.48:    10.0:  KH6:
+                AH6,KH6,NH6,WH6;
+            United States:            05:  08:  NA:   37.53:    91.67:     5.0:  K:
+                AA,K,N,W,K6(3)[6],=KH6ZZ,=W1XYZ{AS};
+            France:                   14:  27:  EU:   46.00:    -2.00:    -1.0:  F:
+                F,TM;
+            Germany:                  14:  28:  EU:   51.00:   -10.00:    -1.0:  *DL:
+                DA,DL;
+            """;
+
+    private CtyPrefixTrie trie;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        trie = CtyPrefixTrie.parse(new StringReader(CTY));
+    }
+
+    // ==========================================================================
+    // Parsing
+    // ==========================================================================
+
+    @Nested
+    class ParseTests {
+
+        @Test
+        void testParse_ValidFile_CountsEntitiesPrefixesAndExactCalls() {
+            assertThat(trie.entityCount()).isEqualTo(6);
+            assertThat(trie.prefixCount()).isEqualTo(23);
+            assertThat(trie.exactCount()).isEqualTo(3);
+            assertThat(trie.nodeCount()).isGreaterThan(1);
+        }
+
+        @Test
+        void testParse_Header_ConvertsWestPositiveLongitude() {
+            DxccEntity entity = trie.lookup("VE3ABC");
+
+            assertThat(entity).isEqualTo(new DxccEntity("Canada", "VE", "NA", 5, 9, 44.35, -78.75));
+        }
+
+        @Test
+        void testParse_WaeOnlyPrimaryPrefix_StripsMarker() {
+            assertThat(trie.lookup("DL1ABC").primaryPrefix()).isEqualTo("DL");
+        }
+
+        @Test
+        void testParse_Empty_ResolvesNothing() throws IOException {
+            CtyPrefixTrie empty = CtyPrefixTrie.parse(new StringReader(""));
+
+            assertThat(empty.lookup("W1AW")).isNull();
+            assertThat(CtyPrefixTrie.empty().lookup("W1AW")).isNull();
+        }
+
+        @Test
+        void testParse_UnterminatedRecord_Throws() {
+            String cty = "France: 14: 27: EU: 46.00: -2.00: -1.0: F:\n    F,TM\n";
+
+            assertThatThrownBy(() -> CtyPrefixTrie.parse(new StringReader(cty)))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Unterminated");
+        }
+
+        @Test
+        void testParse_ShortHeader_Throws() {
+            assertThatThrownBy(() -> CtyPrefixTrie.parse(new StringReader("France: 14: 27: EU:\n    F;\n")))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("header");
+        }
+
+        @Test
+        void testParse_BadZoneOverride_Throws() {
+            String cty = "France: 14: 27: EU: 46.00: -2.00: -1.0: F:\n    F(x);\n";
+
+            assertThatThrownBy(() -> CtyPrefixTrie.parse(new StringReader(cty)))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("F(x)");
+        }
+
+        @Test
+        void testParse_InvalidPrefixCharacter_Throws() {
+            String cty = "France: 14: 27: EU: 46.00: -2.00: -1.0: F:\n    F-1;\n";
+
+            assertThatThrownBy(() -> CtyPrefixTrie.parse(new StringReader(cty)))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("F-1");
+        }
+    }
+
+    // ==========================================================================
+    // Prefix matching
+    // ==========================================================================
+
+    @Nested
+    class PrefixTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "W1AW, United States",
+                "K2DEF, United States",
+                "KL7ABC, Alaska",
+                "KH6ABC, Hawaii",
+                "AA1AA, United States",
+                "AL7X, Alaska",
+                "VA3XYZ, Canada",
+                "F4ABC, France",
+                "TM5X, France"
+        })
+        void testLookup_Prefix_LongestMatchWins(String callsign, String expected) {
+            assertThat(trie.lookup(callsign).name()).isEqualTo(expected);
+        }
+
+        @Test
+        void testLookup_ZoneOverride_AppliesToMatchedPrefixOnly() {
+            DxccEntity bc = trie.lookup("VE7ABC");
+            DxccEntity ontario = trie.lookup("VE3ABC");
+
+            assertThat(bc.cqZone()).isEqualTo(3);
+            assertThat(bc.ituZone()).isEqualTo(2);
+            assertThat(ontario.cqZone()).isEqualTo(5);
+            assertThat(ontario.ituZone()).isEqualTo(9);
+        }
+
+        @Test
+        void testLookup_SameOverride_SharesInstance() {
+            assertThat(trie.lookup("VE7ABC")).isSameAs(trie.lookup("VE7XYZ"));
+            assertThat(trie.lookup("VE3ABC")).isSameAs(trie.lookup("VA2ABC"));
+        }
+
+        @Test
+        void testLookup_LowerCase_Matches() {
+            assertThat(trie.lookup("kl7abc").name()).isEqualTo("Alaska");
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"1ABC", "QRZ", "<...>"})
+        void testLookup_Unknown_ReturnsNull(String callsign) {
+            assertThat(trie.lookup(callsign)).isNull();
+        }
+
+        @Test
+        void testLookup_SsidSuffix_MatchesPrefixBeforeIt() {
+            assertThat(trie.lookup("K9TRV-4").name()).isEqualTo("United States");
+        }
+    }
+
+    // ==========================================================================
+    // Exact calls
+    // ==========================================================================
+
+    @Nested
+    class ExactCallTests {
+
+        @Test
+        void testLookup_ExactCall_OverridesPrefix() {
+            // KH6ZZ would be Hawaii by prefix, but is listed under the United States
+            assertThat(trie.lookup("KH6ZZ").name()).isEqualTo("United States");
+            assertThat(trie.lookup("KH6ZY").name()).isEqualTo("Hawaii");
+        }
+
+        @Test
+        void testLookup_ExactCallWithContinentOverride_AppliesOverride() {
+            assertThat(trie.lookup("W1XYZ").continent()).isEqualTo("AS");
+            assertThat(trie.lookup("W1XY").continent()).isEqualTo("NA");
+        }
+
+        @Test
+        void testLookup_ExactCompoundCall_Matches() {
+            assertThat(trie.lookup("VE2XYZ/VY2").name()).isEqualTo("Canada");
+        }
+
+        @Test
+        void testLookup_ExactCallWithOperatingSuffix_Matches() {
+            assertThat(trie.lookup("KH6ZZ/P").name()).isEqualTo("United States");
+        }
+
+        @Test
+        void testLookup_ExactCallIsPrefixOfCallsign_UsesPrefix() {
+            assertThat(trie.lookup("KH6ZZZ").name()).isEqualTo("Hawaii");
+        }
+    }
+
+    // ==========================================================================
+    // Compound callsigns
+    // ==========================================================================
+
+    @Nested
+    class CompoundCallsignTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "F/W1AW, France",
+                "W1AW/F, France",
+                "KH6/W1AW, Hawaii",
+                "W1AW/KH6, Hawaii",
+                "DL/VE3ABC/P, Germany",
+                "VE3ABC/W1, United States"
+        })
+        void testLookup_PortablePrefix_UsesShortestPart(String callsign, String expected) {
+            assertThat(trie.lookup(callsign).name()).isEqualTo(expected);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"VE3ABC/P", "VE3ABC/M", "VE3ABC/QRP", "VE3ABC/4", "VE3ABC/p", "VE3ABC/"})
+        void testLookup_OperatingSuffix_Ignored(String callsign) {
+            assertThat(trie.lookup(callsign).name()).isEqualTo("Canada");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"W1AW/MM", "W1AW/AM", "W1AW/mm"})
+        void testLookup_MaritimeOrAeronauticalMobile_ReturnsNull(String callsign) {
+            assertThat(trie.lookup(callsign)).isNull();
+        }
+
+        @Test
+        void testLookup_UnknownPortablePrefix_FallsBackToHomeCall() {
+            assertThat(trie.lookup("ZZ9/W1AW").name()).isEqualTo("United States");
+        }
+
+        @Test
+        void testLookup_OnlySuffixes_ReturnsNull() {
+            assertThat(trie.lookup("/P")).isNull();
+        }
+    }
+}
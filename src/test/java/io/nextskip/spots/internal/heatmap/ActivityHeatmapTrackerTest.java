@@ -0,0 +1,252 @@
+package io.nextskip.spots.internal.heatmap;
+
+import io.nextskip.spots.model.ActivityHeatmap;
+import io.nextskip.spots.model.HeatmapResolution;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ActivityHeatmapTracker}.
+ */
+class ActivityHeatmapTrackerTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:00Z");
+    private static final String BAND_20M = "20m";
+    private static final String FT8 = "FT8";
+
+    private MutableClock clock;
+    private ActivityHeatmapTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        tracker = new ActivityHeatmapTracker(clock, 3, 4);
+    }
+
+    private Spot spotOf(String spottedGrid, String spotterGrid, Integer snr) {
+        return SpotFixtures.spot()
+                .band(BAND_20M)
+                .mode(FT8)
+                .spottedGrid(spottedGrid)
+                .spotterGrid(spotterGrid)
+                .snr(snr)
+                .spottedAt(clock.instant())
+                .build();
+    }
+
+    /** Decodes RLE triples back into a dense count matrix. */
+    private static int[] decodeCounts(List<Integer> encoded, int cells) {
+        int[] counts = new int[cells];
+        int index = -1;
+        for (int i = 0; i < encoded.size(); i += 3) {
+            index += encoded.get(i) + 1;
+            counts[index] = encoded.get(i + 1);
+        }
+        return counts;
+    }
+
+    // =========================================================================
+    // Recording Tests
+    // =========================================================================
+
+    @Nested
+    class RecordingTests {
+
+        @Test
+        void testGetHeatmap_FieldResolution_CountsTransmitterAndReceiver() {
+            // Given - FN31 (New England) heard by JO01 (UK) twice
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+            tracker.onSpot(spotOf("FN31pr", "JO01", 3));
+
+            // When
+            ActivityHeatmap heatmap = tracker.getHeatmap(BAND_20M, "ft8", HeatmapResolution.FIELD);
+
+            // Then
+            assertThat(heatmap.totalSpots()).isEqualTo(2);
+            assertThat(heatmap.mode()).isEqualTo(FT8);
+            int fn = HeatmapResolution.FIELD.cellIndex("FN");
+            int jo = HeatmapResolution.FIELD.cellIndex("JO");
+            assertThat(heatmap.transmitters()).containsExactly(fn, 2, 3);
+            assertThat(heatmap.receivers()).containsExactly(jo, 2, 3);
+        }
+
+        @Test
+        void testGetHeatmap_SquareResolution_SeparatesSquares() {
+            // Given
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+            tracker.onSpot(spotOf("FN42", "JO01", -4));
+            tracker.onSpot(spotOf("FN42", "JO01", -20));
+
+            // When
+            ActivityHeatmap heatmap = tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.SQUARE);
+
+            // Then
+            int[] counts = decodeCounts(heatmap.transmitters(), HeatmapResolution.SQUARE.getCellCount());
+            assertThat(counts[HeatmapResolution.SQUARE.cellIndex("FN31")]).isEqualTo(1);
+            assertThat(counts[HeatmapResolution.SQUARE.cellIndex("FN42")]).isEqualTo(2);
+            assertThat(heatmap.transmitters()).hasSize(6);
+            assertThat(heatmap.transmitters().get(5)).isEqualTo(-4);
+        }
+
+        @Test
+        void testGetHeatmap_MissingGridOrSnr_CountsWhatIsKnown() {
+            // Given
+            tracker.onSpot(spotOf(null, "JO01", null));
+
+            // When
+            ActivityHeatmap heatmap = tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.FIELD);
+
+            // Then
+            assertThat(heatmap.totalSpots()).isEqualTo(1);
+            assertThat(heatmap.transmitters()).isEmpty();
+            assertThat(heatmap.receivers()).containsExactly(
+                    HeatmapResolution.FIELD.cellIndex("JO"), 1, GridMatrix.NO_SNR);
+        }
+
+        @Test
+        void testGetHeatmap_UnknownBand_ReturnsEmpty() {
+            ActivityHeatmap heatmap = tracker.getHeatmap("6m", FT8, HeatmapResolution.FIELD);
+
+            assertThat(heatmap.totalSpots()).isZero();
+            assertThat(heatmap.transmitters()).isEmpty();
+            assertThat(heatmap.windowMinutes()).isEqualTo(15);
+        }
+    }
+
+    // =========================================================================
+    // Rotation and Memory Tests
+    // =========================================================================
+
+    @Nested
+    class RotationTests {
+
+        @Test
+        void testGetHeatmap_AfterWindow_CellsExpire() {
+            // Given
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+
+            // When
+            clock.advance(Duration.ofMinutes(16));
+
+            // Then
+            assertThat(tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.FIELD).totalSpots()).isZero();
+        }
+
+        @Test
+        void testOnSpot_PaneReused_ClearedBeforeWrite() {
+            // Given - Same pane slot one full window plus the spare pane later
+            tracker.onSpot(spotOf("FN31", "JO01", 10));
+            clock.advance(Duration.ofMinutes(20));
+
+            // When
+            tracker.onSpot(spotOf("PM95", "JO01", -20));
+
+            // Then - Old FN cell and its SNR are gone
+            ActivityHeatmap heatmap = tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.FIELD);
+            assertThat(heatmap.totalSpots()).isEqualTo(1);
+            assertThat(heatmap.transmitters()).containsExactly(HeatmapResolution.FIELD.cellIndex("PM"), 1, -20);
+            assertThat(heatmap.receivers()).containsExactly(HeatmapResolution.FIELD.cellIndex("JO"), 1, -20);
+        }
+
+        @Test
+        void testOnSpot_BandModeCapReached_RejectsNewCombinations() {
+            // Given
+            String[] bands = {"10m", "15m", "20m", "40m", "80m"};
+
+            // When
+            for (String band : bands) {
+                tracker.onSpot(SpotFixtures.spot().band(band).mode(FT8).spottedAt(clock.instant()).build());
+            }
+
+            // Then - Footprint fixed at four heatmaps
+            assertThat(tracker.getRejectedSpots()).isEqualTo(1);
+            assertThat(tracker.getFootprintBytes()).isEqualTo(4 * BandHeatmap.footprintBytes(3));
+        }
+
+        @Test
+        void testFootprint_IndependentOfVolume() {
+            // Given
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+            long before = tracker.getFootprintBytes();
+
+            // When
+            for (int i = 0; i < 10_000; i++) {
+                tracker.onSpot(spotOf("FN31", "JO01", -10));
+            }
+
+            // Then
+            assertThat(tracker.getFootprintBytes()).isEqualTo(before);
+            assertThat(BandHeatmap.footprintBytes(3)).isEqualTo(4L * 2 * (324 + 32_400) * 3);
+        }
+
+        @Test
+        void testTick_AllPanesLive_PreparingNextPaneKeepsWindow() {
+            // Given - One spot in each of the three live 5-minute panes
+            for (int i = 0; i < 3; i++) {
+                tracker.onSpot(spotOf("FN31", "JO01", -10));
+                clock.advance(Duration.ofMinutes(5));
+            }
+            clock.advance(Duration.ofMinutes(-1));
+
+            // When
+            tracker.tick();
+            clock.advance(Duration.ofMinutes(1));
+            tracker.onSpot(spotOf("PM95", "JO01", -10));
+
+            // Then - The prepared pane takes the new spot; the oldest pane has just left the window
+            ActivityHeatmap heatmap = tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.FIELD);
+            assertThat(heatmap.totalSpots()).isEqualTo(3);
+            int[] counts = decodeCounts(heatmap.transmitters(), HeatmapResolution.FIELD.getCellCount());
+            assertThat(counts[HeatmapResolution.FIELD.cellIndex("FN")]).isEqualTo(2);
+            assertThat(counts[HeatmapResolution.FIELD.cellIndex("PM")]).isEqualTo(1);
+        }
+
+        @Test
+        void testTick_IdleBandModes_EvictedToFreeCap() {
+            // Given - A burst of rare band/modes fills the cap
+            for (String band : new String[] {"10m", "15m", "40m", "80m"}) {
+                tracker.onSpot(SpotFixtures.spot().band(band).mode("FT4").spottedAt(clock.instant()).build());
+            }
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+            assertThat(tracker.getRejectedSpots()).isEqualTo(1);
+
+            // When - The burst goes quiet for a full window
+            clock.advance(Duration.ofMinutes(16));
+            tracker.tick();
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+
+            // Then
+            assertThat(tracker.getTrackedBandModes()).isEqualTo(1);
+            assertThat(tracker.getHeatmap(BAND_20M, FT8, HeatmapResolution.FIELD).totalSpots()).isEqualTo(1);
+        }
+
+        @Test
+        void testTick_ActiveBandMode_NotEvicted() {
+            tracker.onSpot(spotOf("FN31", "JO01", -10));
+            clock.advance(Duration.ofMinutes(14));
+
+            tracker.tick();
+
+            assertThat(tracker.getTrackedBandModes()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testConstructor_NonPositiveSettings_Throws() {
+        assertThatThrownBy(() -> new ActivityHeatmapTracker(clock, 0, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ActivityHeatmapTracker(clock, 3, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
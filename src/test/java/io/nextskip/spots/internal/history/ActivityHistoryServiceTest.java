@@ -0,0 +1,183 @@
+package io.nextskip.spots.internal.history;
+
+import io.nextskip.spots.model.ActivityHistory;
+import io.nextskip.spots.model.ActivityHistoryPoint;
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.persistence.entity.SpotActivityRollupEntity;
+import io.nextskip.spots.persistence.repository.SpotActivityRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ActivityHistoryService}.
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Test data uses repeated band/mode values
+class ActivityHistoryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:34:56Z");
+    private static final Instant FROM = Instant.parse("2024-12-16T12:00:00Z");
+    private static final Instant UNTIL = Instant.parse("2025-01-15T12:00:00Z");
+
+    @Mock
+    private SpotActivityRollupRepository repository;
+
+    private ActivityHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ActivityHistoryService(repository, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMinutes(5));
+    }
+
+    // =========================================================================
+    // Maintenance Tests
+    // =========================================================================
+
+    @Nested
+    class MaintenanceTests {
+
+        @Test
+        void testRollupRecentMinutes_CoversLookbackOfCompleteMinutes() {
+            Instant until = Instant.parse("2025-01-15T12:34:00Z");
+            when(repository.findLatestBucketStart()).thenReturn(until.minus(Duration.ofMinutes(1)));
+            when(repository.rollupMinutes(until.minus(Duration.ofMinutes(5)), until)).thenReturn(42);
+
+            assertThat(service.rollupRecentMinutes()).isEqualTo(42);
+        }
+
+        @Test
+        void testRollupRecentMinutes_AfterDowntime_ResumesFromNewestBucketInChunks() {
+            Instant until = Instant.parse("2025-01-15T12:34:00Z");
+            Instant latest = Instant.parse("2025-01-15T10:49:00Z");
+            when(repository.findLatestBucketStart()).thenReturn(latest);
+            when(repository.rollupMinutes(any(), any())).thenReturn(10);
+
+            assertThat(service.rollupRecentMinutes()).isEqualTo(20);
+
+            InOrder order = inOrder(repository);
+            order.verify(repository).rollupMinutes(Instant.parse("2025-01-15T10:50:00Z"),
+                    Instant.parse("2025-01-15T11:50:00Z"));
+            order.verify(repository).rollupMinutes(Instant.parse("2025-01-15T11:50:00Z"), until);
+        }
+
+        @Test
+        void testRollupRecentMinutes_NoHistory_BackfillsRawSpotRetention() {
+            Instant until = Instant.parse("2025-01-15T12:34:00Z");
+            when(repository.rollupMinutes(any(), any())).thenReturn(1);
+
+            assertThat(service.rollupRecentMinutes()).isEqualTo(6);
+
+            verify(repository).rollupMinutes(Instant.parse("2025-01-15T06:34:00Z"),
+                    Instant.parse("2025-01-15T07:34:00Z"));
+        }
+
+        @Test
+        void testContinentPairs_CoversBothOrderingsOfEveryPath() {
+            String pairs = SpotActivityRollupRepository.continentPairs();
+
+            for (ContinentPath path : ContinentPath.values()) {
+                assertThat(pairs).contains(path.getContinent1() + path.getContinent2() + ":" + path.name(),
+                        path.getContinent2() + path.getContinent1() + ":" + path.name());
+            }
+            assertThat(pairs.split(",")).hasSize(2 * ContinentPath.values().length);
+        }
+
+        @Test
+        void testDownsample_HourAlignedCutoff_MergesBeforeDeleting() {
+            Instant cutoff = Instant.parse("2025-01-14T12:00:00Z");
+            when(repository.downsampleToHours(cutoff)).thenReturn(7);
+
+            int hourly = service.downsample();
+
+            assertThat(hourly).isEqualTo(7);
+            InOrder order = inOrder(repository);
+            order.verify(repository).downsampleToHours(cutoff);
+            order.verify(repository).deleteMinutesBefore(cutoff);
+        }
+
+        @Test
+        void testDropExpired_DropsChunks() {
+            when(repository.dropOldChunks()).thenReturn(List.of("_hyper_2_1_chunk"));
+
+            service.dropExpired();
+
+            verify(repository).dropOldChunks();
+        }
+    }
+
+    // =========================================================================
+    // getHistory() Tests
+    // =========================================================================
+
+    @Nested
+    class GetHistoryTests {
+
+        @Test
+        void testGetHistory_MixedBuckets_MapsPointsAndTotals() {
+            // Given: one hourly bucket and one minute bucket
+            when(repository.findSeries("20m", "FT8", "ALL", FROM, UNTIL)).thenReturn(List.of(
+                    new SpotActivityRollupEntity(FROM, 3600, "20m", "FT8", "ALL", 600, 9000, -1200, 120),
+                    new SpotActivityRollupEntity(UNTIL.minusSeconds(60), 60, "20m", "FT8", "ALL", 12, null, 0, 0)));
+            when(repository.sumSpotsByPath("20m", "FT8", FROM, UNTIL))
+                    .thenReturn(List.<Object[]>of(new Object[]{"NA_EU", 250L}));
+
+            // When
+            ActivityHistory history = service.getHistory("20m", "ft8", FROM, UNTIL);
+
+            // Then
+            assertThat(history.mode()).isEqualTo("FT8");
+            assertThat(history.totalSpots()).isEqualTo(612);
+            assertThat(history.maxDistanceKm()).isEqualTo(9000);
+            assertThat(history.pathSpots()).containsEntry(ContinentPath.NA_EU, 250L);
+            assertThat(history.points()).extracting(ActivityHistoryPoint::bucketMinutes).containsExactly(60, 1);
+            assertThat(history.points().get(0).avgSnr()).isEqualTo(-10.0);
+            assertThat(history.points().get(0).spotsPerMinute()).isEqualTo(10.0);
+            assertThat(history.points().get(1).avgSnr()).isNull();
+        }
+
+        @Test
+        void testGetHistory_NoRows_ReturnsEmptyHistory() {
+            ActivityHistory history = service.getHistory("20m", "FT8", FROM, UNTIL);
+
+            assertThat(history.points()).isEmpty();
+            assertThat(history.pathSpots()).isEmpty();
+            assertThat(history.totalSpots()).isZero();
+            assertThat(history.maxDistanceKm()).isNull();
+        }
+
+        @Test
+        void testGetHistory_EndNotAfterStart_Throws() {
+            assertThatThrownBy(() -> service.getHistory("20m", "FT8", UNTIL, UNTIL))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void testGetActivityAround_QueriesHourCentredOnInstant() {
+            Instant at = Instant.parse("2025-01-01T18:00:00Z");
+
+            ActivityHistory history = service.getActivityAround("20m", "FT8", at);
+
+            assertThat(history.from()).isEqualTo(Instant.parse("2025-01-01T17:30:00Z"));
+            assertThat(history.until()).isEqualTo(Instant.parse("2025-01-01T18:30:00Z"));
+            verify(repository).findSeries("20m", "FT8", "ALL", history.from(), history.until());
+        }
+    }
+}
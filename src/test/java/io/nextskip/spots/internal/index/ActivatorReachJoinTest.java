@@ -0,0 +1,164 @@
+package io.nextskip.spots.internal.index;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.nextskip.activations.api.ActivationsReadModel;
+import io.nextskip.activations.model.Activation;
+import io.nextskip.activations.model.ActivationReach;
+import io.nextskip.common.config.CacheConfig;
+import io.nextskip.common.scheduler.CacheRefreshEvent;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.nextskip.test.fixtures.ActivationFixtures.pota;
+import static io.nextskip.test.fixtures.ActivationFixtures.sota;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ActivatorReachJoin}.
+ *
+ * <p>Uses a real Caffeine cache and reach index so the join sees reloads and window
+ * expiry exactly as in production.
+ */
+class ActivatorReachJoinTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:30Z");
+    private static final Activation PARK_ACTIVATION = pota().spotId("1").activatorCallsign("W1AW").build();
+    private static final Activation SUMMIT_ACTIVATION = sota().spotId("2").activatorCallsign("K7ABC/P").build();
+
+    private final AtomicReference<ActivationsReadModel> database = new AtomicReference<>();
+    private final List<Runnable> pendingReloads = new ArrayList<>();
+    private MutableClock clock;
+    private CallsignReachIndex reachIndex;
+    private LoadingCache<String, ActivationsReadModel> activationsCache;
+    private ActivatorReachJoin join;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        reachIndex = new CallsignReachIndex(clock, Duration.ofMinutes(15), Duration.ofMinutes(1), 100);
+        database.set(readModel(PARK_ACTIVATION, SUMMIT_ACTIVATION));
+        activationsCache = Caffeine.newBuilder()
+                .executor(pendingReloads::add)
+                .build(key -> database.get());
+        activationsCache.get(CacheConfig.CACHE_KEY);
+        join = new ActivatorReachJoin(activationsCache, reachIndex);
+        join.onCacheRefresh(activationsRefreshed());
+    }
+
+    @Test
+    void testGetReach_ActivatorHeard_MergesReach() {
+        reachIndex.onSpot(spotOf("W1AW", 5200, "EU"));
+        reachIndex.onSpot(spotOf("w1aw", 800, "NA"));
+        reachIndex.onSpot(spotOf("W1AW", null, null));
+
+        assertThat(join.getReach(PARK_ACTIVATION)).isEqualTo(new ActivationReach(3, 5200, Set.of("EU", "NA")));
+    }
+
+    @Test
+    void testGetReach_PortableVariants_JoinOnBaseCall() {
+        reachIndex.onSpot(spotOf("K7ABC", 300, "NA"));
+        reachIndex.onSpot(spotOf("K7ABC/P", 400, "NA"));
+        reachIndex.onSpot(spotOf("W1AW/P", 100, "NA"));
+
+        assertThat(join.getReach(SUMMIT_ACTIVATION).spotCount()).isEqualTo(2);
+        assertThat(join.getReach(PARK_ACTIVATION).spotCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testGetReach_SpotsOutsideWindow_NotCounted() {
+        reachIndex.onSpot(spotOf("W1AW", 5200, "EU"));
+        clock.advance(Duration.ofMinutes(20));
+
+        assertThat(join.getReach(PARK_ACTIVATION)).isNull();
+    }
+
+    @Test
+    void testGetReach_NotAnActivator_Null() {
+        Activation stranger = pota().spotId("9").activatorCallsign("DL1XYZ").build();
+        reachIndex.onSpot(spotOf("DL1XYZ", 6000, "EU"));
+
+        assertThat(join.getReach(stranger)).isNull();
+        assertThat(join.getActivatorCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testOnCacheRefresh_RebuildsFromReloadedActivations() {
+        Activation newcomer = pota().spotId("3").activatorCallsign("N0CALL").build();
+        reachIndex.onSpot(spotOf("N0CALL", 100, "NA"));
+        database.set(readModel(PARK_ACTIVATION, newcomer));
+
+        // The reload is still in flight when the event arrives
+        CompletableFuture<ActivationsReadModel> reload = activationsCache.refresh(CacheConfig.CACHE_KEY);
+        join.onCacheRefresh(activationsRefreshed());
+        assertThat(join.getReach(newcomer)).isNull();
+
+        runPendingReloads();
+        reload.join();
+
+        assertThat(join.getReach(newcomer).spotCount()).isEqualTo(1);
+        assertThat(join.getReach(SUMMIT_ACTIVATION)).isNull();
+        assertThat(join.getActivatorCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testOnCacheRefresh_OtherCache_Ignored() {
+        database.set(readModel(PARK_ACTIVATION));
+        CompletableFuture<ActivationsReadModel> reload = activationsCache.refresh(CacheConfig.CACHE_KEY);
+        runPendingReloads();
+        reload.join();
+
+        join.onCacheRefresh(new CacheRefreshEvent(CacheConfig.CONTESTS, () -> { }));
+
+        assertThat(join.getActivatorCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testJoinKey_NormalizesToBaseCall() {
+        assertThat(ActivatorReachJoin.joinKey(" w1aw ")).isEqualTo("W1AW");
+        assertThat(ActivatorReachJoin.joinKey("F/W1AW/P")).isEqualTo("W1AW");
+        assertThat(ActivatorReachJoin.joinKey("K9TRV-4")).isEqualTo("K9TRV");
+        assertThat(ActivatorReachJoin.joinKey(" ")).isNull();
+    }
+
+    @Test
+    void testLookupKeys_ListedBaseAndPortable() {
+        assertThat(ActivatorReachJoin.lookupKeys("k7abc/p")).containsExactly("K7ABC/P", "K7ABC");
+        assertThat(ActivatorReachJoin.lookupKeys("W1AW")).containsExactly("W1AW", "W1AW/P");
+        assertThat(ActivatorReachJoin.lookupKeys(" ")).isEmpty();
+    }
+
+    private void runPendingReloads() {
+        List<Runnable> tasks = new ArrayList<>(pendingReloads);
+        pendingReloads.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static CacheRefreshEvent activationsRefreshed() {
+        return new CacheRefreshEvent(CacheConfig.ACTIVATIONS, () -> { });
+    }
+
+    private static ActivationsReadModel readModel(Activation... activations) {
+        return ActivationsReadModel.of(List.of(activations), Instant.EPOCH);
+    }
+
+    private Spot spotOf(String callsign, Integer distanceKm, String spotterContinent) {
+        return SpotFixtures.spot()
+                .spottedCall(callsign)
+                .distanceKm(distanceKm)
+                .spotterContinent(spotterContinent)
+                .spottedAt(clock.instant())
+                .build();
+    }
+}
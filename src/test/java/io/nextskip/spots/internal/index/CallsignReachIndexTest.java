@@ -0,0 +1,272 @@
+package io.nextskip.spots.internal.index;
+
+import io.nextskip.spots.model.BandReach;
+import io.nextskip.spots.model.CallsignReach;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CallsignReachIndex}.
+ */
+class CallsignReachIndexTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:30Z");
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+    private static final Duration BUCKET = Duration.ofMinutes(1);
+    private static final String CALLSIGN = "W1AW";
+
+    private MutableClock clock;
+    private CallsignReachIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        index = new CallsignReachIndex(clock, WINDOW, BUCKET, 100);
+    }
+
+    private Spot spotOf(String callsign, String band, Integer distanceKm, String spotterContinent) {
+        return SpotFixtures.spot()
+                .spottedCall(callsign)
+                .band(band)
+                .distanceKm(distanceKm)
+                .spotterContinent(spotterContinent)
+                .spottedAt(clock.instant())
+                .build();
+    }
+
+    // =========================================================================
+    // lookup() Tests
+    // =========================================================================
+
+    @Nested
+    class LookupTests {
+
+        @Test
+        void testLookup_SpotsOnTwoBands_GroupsByBandOrderedByCount() {
+            // Given
+            index.onSpot(spotOf(CALLSIGN, "20m", 5000, "EU"));
+            index.onSpot(spotOf(CALLSIGN, "20m", 8000, "AS"));
+            index.onSpot(spotOf(CALLSIGN, "40m", 1200, "NA"));
+
+            // When
+            CallsignReach reach = index.lookup(CALLSIGN);
+
+            // Then
+            assertThat(reach.callsign()).isEqualTo(CALLSIGN);
+            assertThat(reach.spotCount()).isEqualTo(3);
+            assertThat(reach.maxDistanceKm()).isEqualTo(8000);
+            assertThat(reach.continents()).containsExactlyInAnyOrder("EU", "AS", "NA");
+            assertThat(reach.bands()).extracting(BandReach::band).containsExactly("20m", "40m");
+
+            BandReach twenty = reach.bands().get(0);
+            assertThat(twenty.spotCount()).isEqualTo(2);
+            assertThat(twenty.maxDistanceKm()).isEqualTo(8000);
+            assertThat(twenty.continents()).containsExactlyInAnyOrder("EU", "AS");
+        }
+
+        @Test
+        void testLookup_LowerCaseQuery_MatchesNormalizedCallsign() {
+            // Given
+            index.onSpot(spotOf("w1aw", "20m", 5000, "EU"));
+
+            // When
+            CallsignReach reach = index.lookup(" w1Aw ");
+
+            // Then
+            assertThat(reach.callsign()).isEqualTo(CALLSIGN);
+            assertThat(reach.spotCount()).isEqualTo(1);
+        }
+
+        @Test
+        void testLookup_NoDistanceData_ReturnsNullDistance() {
+            // Given
+            index.onSpot(spotOf(CALLSIGN, "20m", null, null));
+
+            // When
+            CallsignReach reach = index.lookup(CALLSIGN);
+
+            // Then
+            assertThat(reach.isHeard()).isTrue();
+            assertThat(reach.maxDistanceKm()).isNull();
+            assertThat(reach.continents()).isEmpty();
+        }
+
+        @Test
+        void testLookup_UnknownCallsign_ReturnsEmpty() {
+            // Given
+            index.onSpot(spotOf(CALLSIGN, "20m", 5000, "EU"));
+
+            // When
+            CallsignReach reach = index.lookup("K1ABC");
+
+            // Then
+            assertThat(reach.isHeard()).isFalse();
+            assertThat(reach.bands()).isEmpty();
+            assertThat(reach.windowMinutes()).isEqualTo(15);
+        }
+
+        @Test
+        void testLookup_BlankCallsign_ReturnsEmpty() {
+            assertThat(index.lookup("  ").isHeard()).isFalse();
+            assertThat(index.lookup(null).isHeard()).isFalse();
+        }
+    }
+
+    // =========================================================================
+    // Expiry Tests
+    // =========================================================================
+
+    @Nested
+    class ExpiryTests {
+
+        @Test
+        void testLookup_SpotsSpreadAcrossBuckets_AccumulatesWithinWindow() {
+            // Given
+            for (int minute = 0; minute < 10; minute++) {
+                index.onSpot(spotOf(CALLSIGN, "20m", 5000, "EU"));
+                clock.advance(BUCKET);
+            }
+
+            // When
+            CallsignReach reach = index.lookup(CALLSIGN);
+
+            // Then
+            assertThat(reach.spotCount()).isEqualTo(10);
+        }
+
+        @Test
+        void testLookup_AfterWindowElapses_SpotsExpire() {
+            // Given
+            index.onSpot(spotOf(CALLSIGN, "20m", 5000, "EU"));
+
+            // When
+            clock.advance(WINDOW.plus(BUCKET));
+
+            // Then
+            assertThat(index.lookup(CALLSIGN).isHeard()).isFalse();
+            assertThat(index.getIndexedEntries()).isZero();
+        }
+
+        @Test
+        void testOnSpot_SlotReused_OldBucketReplaced() {
+            // Given
+            index.onSpot(spotOf(CALLSIGN, "20m", 5000, "EU"));
+            clock.advance(WINDOW);
+
+            // When - Same ring slot, newer epoch
+            index.onSpot(spotOf("K1ABC", "40m", 800, "NA"));
+
+            // Then
+            assertThat(index.lookup(CALLSIGN).isHeard()).isFalse();
+            assertThat(index.lookup("K1ABC").spotCount()).isEqualTo(1);
+            assertThat(index.getIndexedEntries()).isEqualTo(1);
+        }
+
+        @Test
+        void testOnSpot_SpotOlderThanWindow_Rejected() {
+            // Given
+            Spot stale = SpotFixtures.spot()
+                    .spottedCall(CALLSIGN)
+                    .spottedAt(START.minus(WINDOW).minus(BUCKET))
+                    .build();
+
+            // When
+            index.onSpot(stale);
+
+            // Then
+            assertThat(index.lookup(CALLSIGN).isHeard()).isFalse();
+            assertThat(index.getRejectedSpots()).isEqualTo(1);
+        }
+
+        @Test
+        void testOnSpot_FutureTimestamp_ClampedToCurrentBucket() {
+            // Given
+            Spot future = SpotFixtures.spot()
+                    .spottedCall(CALLSIGN)
+                    .spottedAt(START.plus(Duration.ofHours(1)))
+                    .build();
+
+            // When
+            index.onSpot(future);
+
+            // Then
+            assertThat(index.lookup(CALLSIGN).spotCount()).isEqualTo(1);
+        }
+    }
+
+    // =========================================================================
+    // Memory Budget Tests
+    // =========================================================================
+
+    @Nested
+    class BudgetTests {
+
+        @Test
+        void testOnSpot_BucketFull_RejectsNewCallsigns() {
+            // Given
+            CallsignReachIndex small = new CallsignReachIndex(clock, WINDOW, BUCKET, 2);
+            small.onSpot(spotOf("K1AAA", "20m", 100, "NA"));
+            small.onSpot(spotOf("K1BBB", "20m", 100, "NA"));
+
+            // When
+            small.onSpot(spotOf("K1CCC", "20m", 100, "NA"));
+            small.onSpot(spotOf("K1AAA", "40m", 100, "NA"));
+
+            // Then - Existing callsigns still update, new ones are rejected
+            assertThat(small.lookup("K1CCC").isHeard()).isFalse();
+            assertThat(small.lookup("K1AAA").spotCount()).isEqualTo(2);
+            assertThat(small.getRejectedSpots()).isEqualTo(1);
+            assertThat(small.getIndexedEntries()).isEqualTo(2);
+        }
+
+        @Test
+        void testOnSpot_MissingCallsignOrBand_Ignored() {
+            // When
+            index.onSpot(spotOf(null, "20m", 100, "NA"));
+            index.onSpot(spotOf(CALLSIGN, null, 100, "NA"));
+
+            // Then
+            assertThat(index.getIndexedEntries()).isZero();
+            assertThat(index.getRejectedSpots()).isZero();
+        }
+    }
+
+    // =========================================================================
+    // Constructor Validation Tests
+    // =========================================================================
+
+    @Nested
+    class ConstructorTests {
+
+        @Test
+        void testConstructor_ZeroBucket_Throws() {
+            assertThatThrownBy(() -> new CallsignReachIndex(clock, WINDOW, Duration.ZERO, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void testConstructor_WindowShorterThanBucket_Throws() {
+            assertThatThrownBy(() -> new CallsignReachIndex(clock, Duration.ofSeconds(30), BUCKET, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void testConstructor_UnevenWindow_RoundsUpToWholeBuckets() {
+            // When
+            CallsignReachIndex uneven = new CallsignReachIndex(clock, Duration.ofSeconds(150), BUCKET, 10);
+
+            // Then
+            assertThat(uneven.lookup(CALLSIGN).windowMinutes()).isEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.nextskip.spots.internal.scheduler;
+
+import com.github.kagkarlsson.scheduler.task.ExecutionContext;
+import com.github.kagkarlsson.scheduler.task.TaskInstance;
+import com.github.kagkarlsson.scheduler.task.helper.RecurringTask;
+import io.nextskip.spots.internal.history.ActivityHistoryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link ActivityHistoryTask}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityHistoryTaskTest {
+
+    @Mock
+    private ActivityHistoryService historyService;
+
+    private final ActivityHistoryTask task = new ActivityHistoryTask();
+
+    @Test
+    void testRollupTask_HasCorrectName() {
+        RecurringTask<Void> recurringTask = task.spotActivityRollupRecurringTask(historyService);
+
+        assertThat(recurringTask.getName()).isEqualTo("spot-activity-rollup");
+    }
+
+    @Test
+    void testCompactionTask_HasCorrectName() {
+        RecurringTask<Void> recurringTask = task.spotActivityCompactionRecurringTask(historyService);
+
+        assertThat(recurringTask.getName()).isEqualTo("spot-activity-compaction");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRollupTask_Execute_RollsUpRecentMinutes() throws Exception {
+        RecurringTask<Void> recurringTask = task.spotActivityRollupRecurringTask(historyService);
+
+        recurringTask.execute(mock(TaskInstance.class), mock(ExecutionContext.class));
+
+        verify(historyService).rollupRecentMinutes();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCompactionTask_Execute_DownsamplesThenDropsExpired() throws Exception {
+        RecurringTask<Void> recurringTask = task.spotActivityCompactionRecurringTask(historyService);
+
+        recurringTask.execute(mock(TaskInstance.class), mock(ExecutionContext.class));
+
+        InOrder order = inOrder(historyService);
+        order.verify(historyService).downsample();
+        order.verify(historyService).dropExpired();
+    }
+}
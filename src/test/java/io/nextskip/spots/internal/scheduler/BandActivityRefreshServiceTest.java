@@ -14,6 +14,7 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.Map;
@@ -59,7 +60,7 @@ class BandActivityRefreshServiceTest {
     @BeforeEach
     void setUp() {
         refreshService = new BandActivityRefreshService(
-                eventPublisher, aggregator, bandActivityCache);
+                eventPublisher, TransactionOperations.withoutTransaction(), aggregator, bandActivityCache);
     }
 
     // =========================================================================
@@ -124,7 +125,7 @@ class BandActivityRefreshServiceTest {
             // Then: CacheRefreshEvent runnable puts the result into cache
             verify(eventPublisher).publishEvent(cacheEventCaptor.capture());
             CacheRefreshEvent cacheEvent = cacheEventCaptor.getValue();
-            assertThat(cacheEvent.cacheName()).isEqualTo("bandActivity");
+            assertThat(cacheEvent.cacheNames()).isEmpty();
 
             // Simulate post-commit: run the refresh action
             cacheEvent.refreshAction().run();
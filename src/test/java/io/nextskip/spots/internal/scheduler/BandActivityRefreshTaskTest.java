@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 
@@ -36,7 +37,7 @@ class BandActivityRefreshTaskTest {
 
     @BeforeEach
     void setUp() {
-        task = new BandActivityRefreshTask(spotRepository);
+        task = new BandActivityRefreshTask(spotRepository, refreshService);
     }
 
     // =========================================================================
@@ -151,5 +152,15 @@ class BandActivityRefreshTaskTest {
             assertThat(createdTask).isNotNull();
             assertThat(createdTask.getName()).isEqualTo("band-activity-refresh");
         }
+
+        @Test
+        void testExecuteInitialLoad_DelegatesToAsyncRefresh() {
+            // Given
+            Mono<Void> refresh = Mono.empty();
+            when(refreshService.executeRefreshAsync()).thenReturn(refresh);
+
+            // Then
+            assertThat(task.executeInitialLoad()).isSameAs(refresh);
+        }
     }
 }
@@ -0,0 +1,196 @@
+package io.nextskip.spots.internal.sketch;
+
+import io.nextskip.spots.model.ContinentPath;
+import io.nextskip.spots.model.SignalQuantiles;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link SignalQuantileTracker}.
+ */
+class SignalQuantileTrackerTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:00Z");
+    private static final String BAND_20M = "20m";
+    private static final String FT8 = "FT8";
+
+    private MutableClock clock;
+    private SignalQuantileTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        tracker = new SignalQuantileTracker(clock, Duration.ofMinutes(1));
+    }
+
+    private Spot spotOf(Integer snr, Integer distanceKm, String spotterContinent, String spottedContinent) {
+        return SpotFixtures.spot()
+                .band(BAND_20M)
+                .mode(FT8)
+                .snr(snr)
+                .distanceKm(distanceKm)
+                .spotterContinent(spotterContinent)
+                .spottedContinent(spottedContinent)
+                .spottedAt(clock.instant())
+                .build();
+    }
+
+    /** Exact nearest-rank quantile of a sample. */
+    private static int exactQuantile(List<Integer> values, double q) {
+        List<Integer> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.max(1, Math.ceil(q * sorted.size()));
+        return sorted.get(rank - 1);
+    }
+
+    // =========================================================================
+    // Quantile Accuracy Tests
+    // =========================================================================
+
+    @Nested
+    class AccuracyTests {
+
+        @Test
+        void testGetQuantiles_SmallSample_ExactSnrAndBinnedDistance() {
+            // Given
+            int[] snrs = {-20, -15, -10, -5, 0, 5, 10, 15, 20, 25};
+            for (int i = 0; i < snrs.length; i++) {
+                tracker.onSpot(spotOf(snrs[i], (i + 1) * 1000, "NA", "EU"));
+            }
+
+            // When
+            SignalQuantiles quantiles = tracker.getQuantiles(BAND_20M, "ft8");
+
+            // Then
+            assertThat(quantiles.sampleCount()).isEqualTo(10);
+            assertThat(quantiles.snrP50()).isEqualTo(0);
+            assertThat(quantiles.snrP90()).isEqualTo(20);
+            assertThat(quantiles.distanceP50Km()).isEqualTo(5025);
+            assertThat(quantiles.distanceP90Km()).isEqualTo(9025);
+        }
+
+        @Test
+        void testGetQuantiles_ReplayedSpotsAcrossPanes_MatchExactWithinBinWidth() {
+            // Given - 5,000 spots spread over 14 minutes
+            Random random = new Random(42);
+            List<Integer> snrs = new ArrayList<>();
+            List<Integer> distances = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                int snr = (int) Math.round(-12 + random.nextGaussian() * 6);
+                int distance = (int) Math.min(19_000, Math.abs(random.nextGaussian() * 4_000) + 300);
+                snrs.add(snr);
+                distances.add(distance);
+                tracker.onSpot(spotOf(snr, distance, "NA", "EU"));
+                if (i % 360 == 359) {
+                    clock.advance(Duration.ofMinutes(1));
+                }
+            }
+
+            // When
+            SignalQuantiles quantiles = tracker.getQuantiles(BAND_20M, FT8);
+
+            // Then
+            assertThat(quantiles.sampleCount()).isEqualTo(5_000);
+            assertThat(quantiles.snrP50()).isEqualTo(exactQuantile(snrs, 0.5));
+            assertThat(quantiles.snrP90()).isEqualTo(exactQuantile(snrs, 0.9));
+            assertThat((double) quantiles.distanceP50Km()).isCloseTo(exactQuantile(distances, 0.5), within(25.0));
+            assertThat((double) quantiles.distanceP90Km()).isCloseTo(exactQuantile(distances, 0.9), within(25.0));
+        }
+
+        @Test
+        void testGetQuantiles_OutOfRangeSnr_Clamped() {
+            tracker.onSpot(spotOf(-99, null, null, null));
+            tracker.onSpot(spotOf(99, null, null, null));
+
+            SignalQuantiles quantiles = tracker.getQuantiles(BAND_20M, FT8);
+
+            assertThat(quantiles.snrP50()).isEqualTo(-40);
+            assertThat(quantiles.snrP90()).isEqualTo(60);
+            assertThat(quantiles.hasDistance()).isFalse();
+        }
+    }
+
+    // =========================================================================
+    // Path and Window Tests
+    // =========================================================================
+
+    @Nested
+    class PathAndWindowTests {
+
+        @Test
+        void testGetPathQuantiles_SeparatesPaths() {
+            // Given
+            tracker.onSpot(spotOf(-5, 6_000, "NA", "EU"));
+            tracker.onSpot(spotOf(-18, 9_000, "AS", "NA"));
+            tracker.onSpot(spotOf(-20, 9_500, "NA", "AS"));
+            tracker.onSpot(spotOf(0, 50, "NA", "NA"));
+
+            // When
+            Map<ContinentPath, SignalQuantiles> byPath = tracker.getPathQuantiles(BAND_20M, FT8);
+
+            // Then - Domestic spot counts only toward the overall quantiles
+            assertThat(byPath).containsOnlyKeys(ContinentPath.NA_EU, ContinentPath.NA_AS);
+            assertThat(byPath.get(ContinentPath.NA_AS).sampleCount()).isEqualTo(2);
+            assertThat(byPath.get(ContinentPath.NA_AS).snrP90()).isEqualTo(-18);
+            assertThat(tracker.getQuantiles(BAND_20M, FT8).sampleCount()).isEqualTo(4);
+        }
+
+        @Test
+        void testGetQuantiles_AfterModeWindow_Expired() {
+            // Given
+            tracker.onSpot(spotOf(-5, 6_000, "NA", "EU"));
+
+            // When - FT8 window is 15 minutes
+            clock.advance(Duration.ofMinutes(15));
+
+            // Then
+            assertThat(tracker.getQuantiles(BAND_20M, FT8)).isNull();
+            assertThat(tracker.getPathQuantiles(BAND_20M, FT8)).isEmpty();
+        }
+
+        @Test
+        void testGetQuantiles_PaneReused_OldValuesCleared() {
+            // Given
+            tracker.onSpot(spotOf(20, 10_000, "NA", "EU"));
+            clock.advance(Duration.ofMinutes(15));
+
+            // When - Same pane slot, one window later
+            tracker.onSpot(spotOf(-20, 500, "NA", "EU"));
+
+            // Then
+            SignalQuantiles quantiles = tracker.getQuantiles(BAND_20M, FT8);
+            assertThat(quantiles.sampleCount()).isEqualTo(1);
+            assertThat(quantiles.snrP90()).isEqualTo(-20);
+            assertThat(quantiles.distanceP90Km()).isEqualTo(525);
+        }
+
+        @Test
+        void testGetQuantiles_UnknownBand_ReturnsNull() {
+            assertThat(tracker.getQuantiles("6m", FT8)).isNull();
+            assertThat(tracker.getQuantiles(null, FT8)).isNull();
+            assertThat(tracker.getPathQuantiles("6m", FT8)).isEmpty();
+        }
+    }
+
+    @Test
+    void testConstructor_ZeroPane_Throws() {
+        assertThatThrownBy(() -> new SignalQuantileTracker(clock, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
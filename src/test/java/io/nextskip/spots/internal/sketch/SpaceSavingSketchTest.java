@@ -0,0 +1,146 @@
+package io.nextskip.spots.internal.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SpaceSavingSketch}.
+ *
+ * <p>Accuracy tests replay a seeded Zipf-like stream and compare against exact counts.
+ */
+class SpaceSavingSketchTest {
+
+    private static final int CAPACITY = 32;
+
+    @Test
+    void testOffer_FewerKeysThanCapacity_CountsExactly() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            sketch.offer("W1AW");
+        }
+        sketch.offer("K1ABC");
+
+        // Then
+        Map<String, Long> counts = toMap(sketch);
+        assertThat(counts).containsEntry("W1AW", 5L).containsEntry("K1ABC", 1L);
+        assertThat(sketch.counters()).allMatch(c -> c.error() == 0);
+        assertThat(sketch.minCount()).isZero();
+        assertThat(sketch.total()).isEqualTo(6);
+    }
+
+    @Test
+    void testOffer_FullSketch_EvictsMinimumAndCarriesError() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.offer("A");
+        sketch.offer("A");
+        sketch.offer("B");
+
+        // When
+        sketch.offer("C");
+
+        // Then - C replaced B and inherited its count as error
+        Map<String, SpaceSavingSketch.Counter> byKey = new HashMap<>();
+        sketch.counters().forEach(c -> byKey.put(c.key(), c));
+        assertThat(byKey).containsOnlyKeys("A", "C");
+        assertThat(byKey.get("C").count()).isEqualTo(2);
+        assertThat(byKey.get("C").error()).isEqualTo(1);
+    }
+
+    @Test
+    void testOffer_ReplayedZipfStream_StaysWithinErrorBound() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        Map<String, Long> exact = replay(sketch, 50_000, 2_000, 42L);
+        long bound = sketch.total() / CAPACITY;
+
+        // Then - Never undercounts, never overcounts by more than N/m or its own error
+        for (SpaceSavingSketch.Counter counter : sketch.counters()) {
+            long truth = exact.getOrDefault(counter.key(), 0L);
+            assertThat(counter.count()).isGreaterThanOrEqualTo(truth);
+            assertThat(counter.count() - truth).isLessThanOrEqualTo(counter.error());
+            assertThat(counter.error()).isLessThanOrEqualTo(bound);
+        }
+    }
+
+    @Test
+    void testOffer_ReplayedZipfStream_TracksAllHeavyHitters() {
+        // Given
+        SpaceSavingSketch sketch = new SpaceSavingSketch(CAPACITY);
+        Map<String, Long> exact = replay(sketch, 50_000, 2_000, 7L);
+        long threshold = sketch.total() / CAPACITY;
+
+        // Then - Every key above N/m must be present
+        Map<String, Long> tracked = toMap(sketch);
+        exact.entrySet().stream()
+                .filter(e -> e.getValue() > threshold)
+                .forEach(e -> assertThat(tracked).containsKey(e.getKey()));
+    }
+
+    @Test
+    void testConstructor_ZeroCapacity_Throws() {
+        assertThatThrownBy(() -> new SpaceSavingSketch(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Replays a skewed stream into the sketch and returns exact counts.
+     *
+     * <p>Keys are drawn with probability proportional to {@code 1 / rank}, the
+     * classic shape of spot counts where a few DX stations dominate.
+     */
+    static Map<String, Long> replay(SpaceSavingSketch sketch, int items, int keys, long seed) {
+        double[] cumulative = zipfCumulative(keys);
+        Random random = new Random(seed);
+        Map<String, Long> exact = new HashMap<>();
+        for (int i = 0; i < items; i++) {
+            String key = "K" + sample(cumulative, random);
+            sketch.offer(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+        return exact;
+    }
+
+    static double[] zipfCumulative(int keys) {
+        double[] cumulative = new double[keys];
+        double sum = 0;
+        for (int rank = 1; rank <= keys; rank++) {
+            sum += 1.0 / rank;
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < keys; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    static int sample(double[] cumulative, Random random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Map<String, Long> toMap(SpaceSavingSketch sketch) {
+        Map<String, Long> result = new HashMap<>();
+        sketch.counters().forEach(c -> result.put(c.key(), c.count()));
+        return result;
+    }
+}
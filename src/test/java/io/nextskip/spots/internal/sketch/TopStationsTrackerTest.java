@@ -0,0 +1,267 @@
+package io.nextskip.spots.internal.sketch;
+
+import io.nextskip.spots.model.Spot;
+import io.nextskip.spots.model.TopStation;
+import io.nextskip.spots.model.TopStations;
+import io.nextskip.test.MutableClock;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for {@link TopStationsTracker}.
+ */
+class TopStationsTrackerTest {
+
+    private static final Instant START = Instant.parse("2025-06-15T12:00:00Z");
+    private static final String BAND_20M = "20m";
+    private static final String FT8 = "FT8";
+
+    private MutableClock clock;
+    private TopStationsTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+        tracker = new TopStationsTracker(clock, 64, 5, 10);
+    }
+
+    private Spot spotOf(String band, String mode, String callsign) {
+        return SpotFixtures.spot()
+                .band(band)
+                .mode(mode)
+                .spottedCall(callsign)
+                .spottedAt(clock.instant())
+                .build();
+    }
+
+    private TopStations only(List<TopStations> snapshot) {
+        assertThat(snapshot).hasSize(1);
+        return snapshot.get(0);
+    }
+
+    // =========================================================================
+    // Snapshot Tests
+    // =========================================================================
+
+    @Nested
+    class SnapshotTests {
+
+        @Test
+        void testGetSnapshot_BeforeRefresh_Empty() {
+            tracker.onSpot(spotOf(BAND_20M, FT8, "JA1XYZ"));
+
+            assertThat(tracker.getSnapshot()).isEmpty();
+        }
+
+        @Test
+        void testRefreshSnapshot_SeparatesBandsAndModes() {
+            // Given
+            tracker.onSpot(spotOf(BAND_20M, FT8, "JA1XYZ"));
+            tracker.onSpot(spotOf(BAND_20M, "cw", "JA1XYZ"));
+            tracker.onSpot(spotOf("40m", FT8, "VK2ABC"));
+
+            // When
+            tracker.refreshSnapshot();
+
+            // Then - Ordered by band, then mode; mode normalized
+            assertThat(tracker.getSnapshot())
+                    .extracting(t -> t.band() + "/" + t.mode())
+                    .containsExactly("20m/CW", "20m/FT8", "40m/FT8");
+            assertThat(tracker.getSnapshot())
+                    .extracting(TopStations::windowMinutes)
+                    .containsExactly(30L, 15L, 15L);
+        }
+
+        @Test
+        void testRefreshSnapshot_RanksByCountAndLimits() {
+            // Given
+            TopStationsTracker small = new TopStationsTracker(clock, 64, 5, 2);
+            for (int i = 0; i < 3; i++) {
+                small.onSpot(spotOf(BAND_20M, FT8, "JA1XYZ"));
+            }
+            small.onSpot(spotOf(BAND_20M, FT8, "vk2abc"));
+            small.onSpot(spotOf(BAND_20M, FT8, "VK2ABC"));
+            small.onSpot(spotOf(BAND_20M, FT8, "ZL1AAA"));
+
+            // When
+            small.refreshSnapshot();
+
+            // Then
+            TopStations top = only(small.getSnapshot());
+            assertThat(top.totalSpots()).isEqualTo(6);
+            assertThat(top.stations())
+                    .extracting(TopStation::callsign, TopStation::spotCount, TopStation::maxError)
+                    .containsExactly(
+                            tuple("JA1XYZ", 3L, 0L),
+                            tuple("VK2ABC", 2L, 0L));
+        }
+
+        @Test
+        void testOnSpot_MissingFields_Ignored() {
+            tracker.onSpot(spotOf(null, FT8, "JA1XYZ"));
+            tracker.onSpot(spotOf(BAND_20M, null, "JA1XYZ"));
+            tracker.onSpot(spotOf(BAND_20M, FT8, null));
+
+            tracker.refreshSnapshot();
+
+            assertThat(tracker.getSnapshot()).isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // Window Tests
+    // =========================================================================
+
+    @Nested
+    class WindowTests {
+
+        @Test
+        void testRefreshSnapshot_AfterModeWindow_SpotsExpire() {
+            // Given
+            tracker.onSpot(spotOf(BAND_20M, FT8, "JA1XYZ"));
+            tracker.onSpot(spotOf(BAND_20M, "SSB", "JA1XYZ"));
+
+            // When - Past FT8's 15m window but inside SSB's 60m window
+            clock.advance(Duration.ofMinutes(20));
+            tracker.refreshSnapshot();
+
+            // Then
+            assertThat(only(tracker.getSnapshot()).mode()).isEqualTo("SSB");
+        }
+
+        @Test
+        void testRefreshSnapshot_SpotsAcrossPanes_MergedIntoWindow() {
+            // Given - One spot every 3 minute pane
+            for (int i = 0; i < 5; i++) {
+                tracker.onSpot(spotOf(BAND_20M, FT8, "JA1XYZ"));
+                clock.advance(Duration.ofMinutes(3));
+            }
+            clock.advance(Duration.ofMinutes(-3));
+
+            // When
+            tracker.refreshSnapshot();
+
+            // Then
+            TopStation top = only(tracker.getSnapshot()).stations().get(0);
+            assertThat(top.spotCount()).isEqualTo(5);
+            assertThat(top.maxError()).isZero();
+        }
+
+        @Test
+        void testOnSpot_StaleSpot_NotCounted() {
+            // Given
+            Spot stale = SpotFixtures.spot()
+                    .band(BAND_20M)
+                    .mode(FT8)
+                    .spottedCall("JA1XYZ")
+                    .spottedAt(START.minus(Duration.ofMinutes(30)))
+                    .build();
+
+            // When
+            tracker.onSpot(stale);
+            tracker.refreshSnapshot();
+
+            // Then
+            assertThat(tracker.getSnapshot()).isEmpty();
+        }
+    }
+
+    // =========================================================================
+    // Accuracy Tests (replayed stream vs exact counts)
+    // =========================================================================
+
+    @Nested
+    class AccuracyTests {
+
+        private static final int SPOTS = 40_000;
+        private static final int STATIONS = 3_000;
+
+        /**
+         * Replays a seeded Zipf-like stream spread across the FT8 window and
+         * returns exact per-station counts.
+         */
+        private Map<String, Long> replay(long seed) {
+            double[] cumulative = SpaceSavingSketchTest.zipfCumulative(STATIONS);
+            Random random = new Random(seed);
+            Map<String, Long> exact = new HashMap<>();
+            long stepMillis = Duration.ofMinutes(14).toMillis() / SPOTS;
+            for (int i = 0; i < SPOTS; i++) {
+                String call = "DX" + SpaceSavingSketchTest.sample(cumulative, random);
+                tracker.onSpot(spotOf(BAND_20M, FT8, call));
+                exact.merge(call, 1L, Long::sum);
+                clock.advance(Duration.ofMillis(stepMillis));
+            }
+            return exact;
+        }
+
+        @Test
+        void testReplay_EstimatesBracketExactCounts() {
+            // Given
+            Map<String, Long> exact = replay(42L);
+
+            // When
+            tracker.refreshSnapshot();
+            TopStations top = only(tracker.getSnapshot());
+
+            // Then - true count within [spotCount - maxError, spotCount], error under N/m
+            assertThat(top.totalSpots()).isEqualTo(SPOTS);
+            for (TopStation station : top.stations()) {
+                long truth = exact.getOrDefault(station.callsign(), 0L);
+                assertThat(truth).isBetween(station.guaranteedCount(), station.spotCount());
+                assertThat(station.maxError()).isLessThanOrEqualTo(SPOTS / 64);
+            }
+        }
+
+        @Test
+        void testReplay_TopFiveMatchesExactTopFive() {
+            // Given
+            Map<String, Long> exact = replay(7L);
+
+            // When
+            tracker.refreshSnapshot();
+            TopStations top = only(tracker.getSnapshot());
+
+            // Then - The heaviest hitters are well separated and must match exactly
+            Set<String> exactTop = exact.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                    .limit(5)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+            Set<String> sketchTop = top.stations().stream()
+                    .limit(5)
+                    .map(TopStation::callsign)
+                    .collect(Collectors.toSet());
+            assertThat(sketchTop).isEqualTo(exactTop);
+        }
+    }
+
+    // =========================================================================
+    // Constructor Validation Tests
+    // =========================================================================
+
+    @Test
+    void testConstructor_NonPositiveSettings_Throws() {
+        assertThatThrownBy(() -> new TopStationsTracker(clock, 0, 5, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TopStationsTracker(clock, 64, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TopStationsTracker(clock, 64, 5, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package io.nextskip.spots.internal.stream;
+
+import io.nextskip.common.jfr.SpotParseBatchEvent;
+import io.nextskip.test.JfrEvents;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ParseBatchRecorder.
+ */
+class ParseBatchRecorderTest {
+
+    private static final Duration LONG_TIMEOUT = Duration.ofHours(1);
+
+    @Test
+    void testNextMessage_Recording_SumsWindowIntoOneEvent() {
+        ParseBatchRecorder recorder = new ParseBatchRecorder(10, LONG_TIMEOUT);
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(SpotParseBatchEvent.class, () -> {
+            for (int i = 0; i < 3; i++) {
+                assertThat(recorder.nextMessage()).isTrue();
+                recorder.record(100, i != 1, 1_000, 500);
+            }
+            recorder.close();
+        });
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getInt("messages")).isEqualTo(3);
+            assertThat(event.getLong("payloadBytes")).isEqualTo(300);
+            assertThat(event.getInt("spots")).isEqualTo(2);
+            assertThat(event.getDuration("parseTime")).isEqualTo(Duration.ofNanos(3_000));
+            assertThat(event.getDuration("enrichTime")).isEqualTo(Duration.ofNanos(1_500));
+        });
+    }
+
+    @Test
+    void testNextMessage_BatchSizeReached_CommitsAndOpensNextWindow() {
+        ParseBatchRecorder recorder = new ParseBatchRecorder(2, LONG_TIMEOUT);
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(SpotParseBatchEvent.class, () -> {
+            for (int i = 0; i < 5; i++) {
+                recorder.nextMessage();
+                recorder.record(10, true, 1, 1);
+            }
+            recorder.close();
+        });
+
+        assertThat(events).extracting(event -> event.getInt("messages")).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void testNextMessage_TimeoutElapsed_CommitsPartialWindow() {
+        ParseBatchRecorder recorder = new ParseBatchRecorder(100, Duration.ZERO);
+
+        List<RecordedEvent> events = JfrEvents.recordedDuring(SpotParseBatchEvent.class, () -> {
+            for (int i = 0; i < 3; i++) {
+                recorder.nextMessage();
+                recorder.record(10, true, 1, 1);
+            }
+            recorder.close();
+        });
+
+        assertThat(events).extracting(event -> event.getInt("messages")).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void testNextMessage_NotRecording_ReturnsFalse() {
+        ParseBatchRecorder recorder = new ParseBatchRecorder(10, LONG_TIMEOUT);
+
+        assertThat(recorder.nextMessage()).isFalse();
+        recorder.close();
+    }
+}
@@ -0,0 +1,148 @@
+package io.nextskip.spots.internal.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nextskip.spots.internal.enrichment.CallsignEnricher;
+import io.nextskip.spots.internal.enrichment.ContinentEnricher;
+import io.nextskip.spots.internal.enrichment.DistanceEnricher;
+import io.nextskip.spots.internal.parser.PskReporterJsonParser;
+import io.nextskip.spots.model.Spot;
+import io.nextskip.spots.persistence.entity.SpotEntity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Heap allocation budgets for each per-spot stage of the ingest pipeline.
+ *
+ * <p>Replays {@code spots/replay.jsonl}, 64 PSKReporter messages across bands, modes and
+ * continents, through parse, the three enrichers and entity conversion, and measures the
+ * bytes each stage allocates per message with the thread allocation counter. Each stage
+ * is warmed up first so the JIT has compiled it, as in production.
+ *
+ * <p>Budgets leave less headroom over the baseline in {@code docs/TESTING.md} than one
+ * extra {@link Spot} copy (72 bytes) for the enrich and entity stages, so a new per-spot
+ * copy fails the build; parse leaves about 20% for JDK and Jackson differences, which
+ * still catches a formatted log argument. When a change lowers a stage's allocation,
+ * lower its budget and the baseline with it.
+ */
+class SpotPipelineAllocationTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpotPipelineAllocationTest.class);
+
+    private static final long PARSE_BUDGET = 2_560;
+    private static final long DISTANCE_BUDGET = 240;
+    private static final long CALLSIGN_BUDGET = 112;
+    private static final long CONTINENT_BUDGET = 48;
+    private static final long ENTITY_BUDGET = 96;
+
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static PskReporterJsonParser parser;
+    private static DistanceEnricher distanceEnricher;
+    private static CallsignEnricher callsignEnricher;
+    private static ContinentEnricher continentEnricher;
+
+    private static List<String> messages;
+    private static List<Spot> parsed;
+    private static List<Spot> distanced;
+    private static List<Spot> callsigned;
+    private static List<Spot> enriched;
+
+    /**
+     * Keeps stage results reachable so the JIT cannot discard the measured work.
+     */
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        parser = new PskReporterJsonParser(new ObjectMapper());
+        distanceEnricher = new DistanceEnricher();
+        callsignEnricher = new CallsignEnricher(new ClassPathResource("data/cty.dat"));
+        callsignEnricher.init();
+        continentEnricher = new ContinentEnricher();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("spots/replay.jsonl").getInputStream(), StandardCharsets.UTF_8))) {
+            messages = reader.lines()
+                    .filter(line -> !line.isBlank())
+                    .toList();
+        }
+        parsed = messages.stream().map(parser::parse).flatMap(Optional::stream).toList();
+        distanced = parsed.stream().map(distanceEnricher::enrich).toList();
+        callsigned = distanced.stream().map(callsignEnricher::enrich).toList();
+        enriched = callsigned.stream().map(continentEnricher::enrich).toList();
+    }
+
+    @Test
+    void testParse_ReplayedMessages_WithinBudget() {
+        assertThat(parsed).hasSameSizeAs(messages);
+
+        assertWithinBudget("parse", messages, parser::parse, PARSE_BUDGET);
+    }
+
+    @Test
+    void testDistanceEnrich_ReplayedSpots_WithinBudget() {
+        assertThat(distanced).anySatisfy(spot -> assertThat(spot.distanceKm()).isNotNull());
+
+        assertWithinBudget("distance", parsed, distanceEnricher::enrich, DISTANCE_BUDGET);
+    }
+
+    @Test
+    void testCallsignEnrich_ReplayedSpots_WithinBudget() {
+        assertThat(callsigned).anySatisfy(spot -> assertThat(spot.spotterContinent()).isNotNull());
+
+        assertWithinBudget("callsign", distanced, callsignEnricher::enrich, CALLSIGN_BUDGET);
+    }
+
+    @Test
+    void testContinentEnrich_ReplayedSpots_WithinBudget() {
+        assertWithinBudget("continent", callsigned, continentEnricher::enrich, CONTINENT_BUDGET);
+    }
+
+    @Test
+    void testEntityConversion_ReplayedSpots_WithinBudget() {
+        assertWithinBudget("entity", enriched, SpotEntity::fromDomain, ENTITY_BUDGET);
+    }
+
+    private static <T> void assertWithinBudget(String stage, List<T> inputs, Function<T, ?> step, long budget) {
+        long bytesPerSpot = bytesPerSpot(inputs, step);
+        LOG.info("Stage {}: {} bytes per spot (budget {})", stage, bytesPerSpot, budget);
+        assertThat(bytesPerSpot)
+                .as("bytes allocated per spot by the %s stage", stage)
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private static <T> long bytesPerSpot(List<T> inputs, Function<T, ?> step) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (T input : inputs) {
+                sink = step.apply(input);
+            }
+        }
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            for (T input : inputs) {
+                sink = step.apply(input);
+            }
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return allocated / ((long) MEASURED_ROUNDS * inputs.size());
+    }
+}
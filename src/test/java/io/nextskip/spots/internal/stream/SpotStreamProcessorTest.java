@@ -1,27 +1,35 @@
 package io.nextskip.spots.internal.stream;
 
 import io.nextskip.spots.internal.client.SpotSource;
+import io.nextskip.spots.internal.enrichment.CallsignEnricher;
 import io.nextskip.spots.internal.enrichment.ContinentEnricher;
 import io.nextskip.spots.internal.enrichment.DistanceEnricher;
 import io.nextskip.spots.internal.parser.PskReporterJsonParser;
 import io.nextskip.spots.model.Spot;
 import io.nextskip.spots.persistence.repository.SpotRepository;
+import org.apache.pekko.Done;
 import org.apache.pekko.actor.ActorSystem;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -31,6 +39,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +52,7 @@ import static org.mockito.Mockito.when;
  *   <li>Supervision strategy resumes on parse errors</li>
  *   <li>Buffer overflow drops oldest messages</li>
  *   <li>Graceful shutdown drains in-flight elements</li>
+ *   <li>Reconfiguration drains the previous stream</li>
  * </ul>
  */
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +80,9 @@ class SpotStreamProcessorTest {
     @Mock
     private DistanceEnricher distanceEnricher;
 
+    @Mock
+    private CallsignEnricher callsignEnricher;
+
     @Mock
     private ContinentEnricher continentEnricher;
 
@@ -78,11 +91,14 @@ class SpotStreamProcessorTest {
 
     private AtomicReference<Consumer<String>> messageHandlerRef;
 
+    private List<SpotStreamListener> listeners;
+
     @BeforeEach
     void setUp() {
         actorSystem = ActorSystem.create("test-spots");
         persistenceExecutor = Executors.newFixedThreadPool(2);
         messageHandlerRef = new AtomicReference<>();
+        listeners = List.of();
 
         // Capture the message handler when set (void method requires doAnswer)
         doAnswer(invocation -> {
@@ -141,6 +157,52 @@ class SpotStreamProcessorTest {
                 .untilAsserted(() -> assertThat(processor.getSpotsProcessed()).isGreaterThanOrEqualTo(10));
     }
 
+    @Test
+    void testProcess_CompleteCtyFile_EnrichesCallsignBeforeGridContinent() {
+        // Given
+        processor = createProcessor();
+        Spot testSpot = createTestSpot();
+        setupParserToReturnSpot(testSpot);
+        setupEnrichersToPassThrough();
+        when(callsignEnricher.isComplete()).thenReturn(true);
+
+        processor.start();
+
+        // When
+        messageHandlerRef.get().accept(createValidJson());
+
+        // Then - Grid-derived continents only fill what cty.dat could not resolve
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(processor.getSpotsProcessed()).isEqualTo(1));
+        InOrder order = inOrder(distanceEnricher, callsignEnricher, continentEnricher);
+        order.verify(distanceEnricher).enrich(testSpot);
+        order.verify(callsignEnricher).enrich(testSpot);
+        order.verify(continentEnricher).enrich(testSpot);
+    }
+
+    @Test
+    void testProcess_TrimmedCtyFile_EnrichesGridContinentBeforeCallsign() {
+        // Given
+        processor = createProcessor();
+        Spot testSpot = createTestSpot();
+        setupParserToReturnSpot(testSpot);
+        setupEnrichersToPassThrough();
+        when(callsignEnricher.isComplete()).thenReturn(false);
+
+        processor.start();
+
+        // When
+        messageHandlerRef.get().accept(createValidJson());
+
+        // Then - A trimmed cty.dat only fills what the grid could not resolve
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(processor.getSpotsProcessed()).isEqualTo(1));
+        InOrder order = inOrder(distanceEnricher, continentEnricher, callsignEnricher);
+        order.verify(distanceEnricher).enrich(testSpot);
+        order.verify(continentEnricher).enrich(testSpot);
+        order.verify(callsignEnricher).enrich(testSpot);
+    }
+
     @Test
     void testProcess_BatchPersistence_IncrementsBatchCounter() {
         // Given
@@ -242,6 +304,56 @@ class SpotStreamProcessorTest {
         assertThat(processor.getSpotsProcessed()).isGreaterThanOrEqualTo(5);
     }
 
+    @Test
+    void testProcess_Listeners_ReceiveEnrichedSpots() {
+        // Given
+        List<Spot> observed = new CopyOnWriteArrayList<>();
+        listeners = List.of(observed::add);
+        processor = createProcessor();
+        Spot testSpot = createTestSpot();
+        setupParserToReturnSpot(testSpot);
+        setupEnrichersToPassThrough();
+
+        processor.start();
+        Consumer<String> handler = messageHandlerRef.get();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            handler.accept(createValidJson());
+        }
+
+        // Then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(observed).hasSize(3).allMatch(testSpot::equals));
+    }
+
+    @Test
+    void testProcess_FailingListener_DoesNotStopPipeline() {
+        // Given
+        List<Spot> observed = new CopyOnWriteArrayList<>();
+        SpotStreamListener failing = spot -> {
+            throw new IllegalStateException("boom");
+        };
+        listeners = List.of(failing, observed::add);
+        processor = createProcessor();
+        setupParserToReturnSpot(createTestSpot());
+        setupEnrichersToPassThrough();
+
+        processor.start();
+        Consumer<String> handler = messageHandlerRef.get();
+
+        // When
+        handler.accept(createValidJson());
+        handler.accept(createValidJson());
+
+        // Then - Later listeners and counters still see every spot
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> {
+                    assertThat(observed).hasSize(2);
+                    assertThat(processor.getSpotsProcessed()).isEqualTo(2);
+                });
+    }
+
     @Test
     void testGetDroppedMessages_InitiallyZero() {
         // Given
@@ -264,15 +376,117 @@ class SpotStreamProcessorTest {
         assertThat(processor.getDroppedMessages()).isGreaterThanOrEqualTo(0);
     }
 
+    @Test
+    void testReconfigure_BufferedSpots_PersistedAndNewSettingsApplied() throws Exception {
+        // Given - Count persisted spots across both streams
+        processor = createProcessor();
+        setupParserToReturnSpot(createTestSpot());
+        setupEnrichersToPassThrough();
+        AtomicInteger persisted = new AtomicInteger();
+        when(spotRepository.saveAll(anyList())).thenAnswer(inv -> {
+            persisted.addAndGet(inv.<List<?>>getArgument(0).size());
+            return inv.getArgument(0);
+        });
+        processor.start();
+        Consumer<String> handler = messageHandlerRef.get();
+        for (int i = 0; i < 3; i++) {
+            handler.accept(createValidJson());
+        }
+
+        // When - Reconfigure with a partial batch in flight
+        StreamSettings next = new StreamSettings(10, Duration.ofMillis(50), 200, 1);
+        CompletionStage<Done> drained = processor.reconfigure(next);
+        for (int i = 0; i < 4; i++) {
+            handler.accept(createValidJson());
+        }
+
+        // Then - The previous stream drains and the new one keeps processing
+        drained.toCompletableFuture().get(5, TimeUnit.SECONDS);
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(persisted.get()).isEqualTo(7));
+        assertThat(processor.getStreamSettings()).isEqualTo(next);
+        assertThat(processor.getSpotsProcessed()).isEqualTo(7);
+    }
+
+    @Test
+    void testStop_AfterTwoReconfigures_WaitsForEveryDrainingStream() {
+        // Given - The first stream's batch persists slowly
+        processor = createProcessor();
+        setupParserToReturnSpot(createTestSpot());
+        setupEnrichersToPassThrough();
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger persisted = new AtomicInteger();
+        when(spotRepository.saveAll(anyList())).thenAnswer(inv -> {
+            if (calls.getAndIncrement() == 0) {
+                Thread.sleep(1000);
+            }
+            persisted.addAndGet(inv.<List<?>>getArgument(0).size());
+            return inv.getArgument(0);
+        });
+        processor.start();
+        Consumer<String> handler = messageHandlerRef.get();
+
+        // When - Two reconfigures each leave a stream draining, then the processor stops
+        for (int i = 0; i < 3; i++) {
+            handler.accept(createValidJson());
+        }
+        processor.reconfigure(new StreamSettings(10, Duration.ofMillis(50), 200, 1));
+        for (int i = 0; i < 3; i++) {
+            handler.accept(createValidJson());
+        }
+        processor.reconfigure(new StreamSettings(20, Duration.ofMillis(50), 200, 1));
+        processor.stop();
+
+        // Then - Both drained streams finished persisting before stop returned
+        assertThat(persisted.get()).isEqualTo(6);
+    }
+
+    @Test
+    void testReconfigure_BeforeStart_UsedByStart() {
+        processor = createProcessor();
+        StreamSettings next = new StreamSettings(10, Duration.ofMillis(50), 200, 1);
+
+        assertThat(processor.reconfigure(next).toCompletableFuture()).isCompleted();
+        processor.start();
+
+        assertThat(processor.getStreamSettings()).isEqualTo(next);
+    }
+
+    @Test
+    void testSetPersistenceThreads_GrowAndShrink_ResizesPool() {
+        processor = createProcessor();
+        processor.start();
+
+        processor.setPersistenceThreads(4);
+        assertThat(processor.getPersistenceThreads()).isEqualTo(4);
+        assertThat(((ThreadPoolExecutor) persistenceExecutor).getMaximumPoolSize()).isEqualTo(4);
+
+        processor.setPersistenceThreads(1);
+        assertThat(processor.getPersistenceThreads()).isEqualTo(1);
+        assertThat(((ThreadPoolExecutor) persistenceExecutor).getMaximumPoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void testEstimatedBytes_SumsFixedColumnsAndStringLengths() {
+        processor = createProcessor();
+        processor.start();
+        Spot spot = createTestSpot();
+
+        // 32 fixed bytes plus 39 characters across the non-null string columns
+        assertThat(SpotStreamProcessor.estimatedBytes(List.of(spot, spot))).isEqualTo(142);
+    }
+
     private SpotStreamProcessor createProcessor() {
         return new SpotStreamProcessor(
                 actorSystem,
                 spotSource,
                 parser,
                 distanceEnricher,
+                callsignEnricher,
                 continentEnricher,
                 spotRepository,
                 persistenceExecutor,
+                listeners,
                 TEST_BATCH_SIZE,
                 TEST_BATCH_TIMEOUT,
                 TEST_BUFFER_SIZE,
@@ -310,6 +524,7 @@ class SpotStreamProcessorTest {
 
     private void setupEnrichersToPassThrough() {
         when(distanceEnricher.enrich(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(callsignEnricher.enrich(any())).thenAnswer(inv -> inv.getArgument(0));
         when(continentEnricher.enrich(any())).thenAnswer(inv -> inv.getArgument(0));
     }
 }
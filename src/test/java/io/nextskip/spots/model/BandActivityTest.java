@@ -495,6 +495,28 @@ class BandActivityTest {
                     .as("Some DX should score higher than null DX")
                     .isGreaterThan(nullDx.getScore());
         }
+
+        @Test
+        void testDxScore_WithQuantiles_UsesP90InsteadOfMax() {
+            // One lucky 15,000 km decode on an otherwise short-haul band
+            BandActivity maxOnly = createBandActivityWithOnlyDx(15_000);
+            BandActivity withQuantiles = maxOnly.withQuantiles(
+                    new SignalQuantiles(200, -12, -3, 800, 1_500));
+
+            assertThat(withQuantiles.getScore())
+                    .as("p90 distance should temper a single outlier")
+                    .isLessThan(maxOnly.getScore());
+            assertThat(withQuantiles.maxDxKm()).isEqualTo(15_000);
+        }
+
+        @Test
+        void testDxScore_QuantilesWithoutDistance_FallsBackToMax() {
+            BandActivity maxOnly = createBandActivityWithOnlyDx(8_000);
+            BandActivity snrOnly = maxOnly.withQuantiles(new SignalQuantiles(50, -12, -3, null, null));
+
+            assertThat(snrOnly.getScore()).isEqualTo(maxOnly.getScore());
+            assertThat(snrOnly.quantiles().hasDistance()).isFalse();
+        }
     }
 
     // =========================================================================
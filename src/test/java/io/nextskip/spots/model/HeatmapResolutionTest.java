@@ -0,0 +1,52 @@
+package io.nextskip.spots.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HeatmapResolution} enum.
+ */
+class HeatmapResolutionTest {
+
+    @Test
+    void testSizes_FieldAndSquare() {
+        assertThat(HeatmapResolution.FIELD.getCellCount()).isEqualTo(324);
+        assertThat(HeatmapResolution.SQUARE.getCellCount()).isEqualTo(32_400);
+    }
+
+    @Test
+    void testCellIndex_SouthWestCorner_IsZero() {
+        assertThat(HeatmapResolution.FIELD.cellIndex("AA")).isZero();
+        assertThat(HeatmapResolution.SQUARE.cellIndex("AA00")).isZero();
+    }
+
+    @Test
+    void testCellIndex_NorthEastCorner_IsLastCell() {
+        assertThat(HeatmapResolution.FIELD.cellIndex("RR")).isEqualTo(323);
+        assertThat(HeatmapResolution.SQUARE.cellIndex("RR99")).isEqualTo(32_399);
+    }
+
+    @Test
+    void testCellIndex_RowMajorByLatitude() {
+        // FN31: field F=5 (lon), N=13 (lat); square 3 (lon), 1 (lat)
+        assertThat(HeatmapResolution.FIELD.cellIndex("FN31pr")).isEqualTo(13 * 18 + 5);
+        assertThat(HeatmapResolution.SQUARE.cellIndex("fn31")).isEqualTo(131 * 180 + 53);
+    }
+
+    @Test
+    void testCellIndex_FieldOnlyLocator_HasNoSquareCell() {
+        assertThat(HeatmapResolution.FIELD.cellIndex("FN")).isGreaterThanOrEqualTo(0);
+        assertThat(HeatmapResolution.SQUARE.cellIndex("FN")).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"F", "SZ", "ZZ00", "FNab", "F#31"})
+    void testCellIndex_Malformed_ReturnsMinusOne(String grid) {
+        assertThat(HeatmapResolution.SQUARE.cellIndex(grid)).isEqualTo(-1);
+    }
+}
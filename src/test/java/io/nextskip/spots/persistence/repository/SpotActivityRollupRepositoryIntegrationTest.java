@@ -0,0 +1,168 @@
+package io.nextskip.spots.persistence.repository;
+
+import io.nextskip.spots.persistence.entity.SpotActivityRollupEntity;
+import io.nextskip.spots.persistence.entity.SpotEntity;
+import io.nextskip.test.AbstractPersistenceTest;
+import io.nextskip.test.fixtures.SpotFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link SpotActivityRollupRepository}.
+ *
+ * <p>Exercises the native rollup, downsample and read queries against
+ * TimescaleDB, where {@code spot_activity_rollups} is a hypertable.
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Test data uses repeated band/mode values
+class SpotActivityRollupRepositoryIntegrationTest extends AbstractPersistenceTest {
+
+    private static final Instant MINUTE = Instant.parse("2023-06-15T12:00:00Z");
+
+    @Autowired
+    private SpotActivityRollupRepository repository;
+
+    @Autowired
+    private SpotRepository spotRepository;
+
+    @Override
+    protected Collection<JpaRepository<?, ?>> getRepositoriesToClean() {
+        return List.of(repository, spotRepository);
+    }
+
+    // ===========================================
+    // rollupMinutes tests
+    // ===========================================
+
+    @Test
+    void testRollupMinutes_SpotsInMinute_WritesAllAndPathRows() {
+        spotRepository.saveAllAndFlush(List.of(
+                spot(MINUTE.plusSeconds(5), "NA", "EU", -10, 5500),
+                spot(MINUTE.plusSeconds(20), "EU", "NA", -20, 6200),
+                spot(MINUTE.plusSeconds(40), "EU", "EU", null, 800)));
+
+        int rows = repository.rollupMinutes(MINUTE, MINUTE.plus(Duration.ofMinutes(1)));
+        clearPersistenceContext();
+
+        assertThat(rows).isEqualTo(2);
+        SpotActivityRollupEntity all = single("ALL");
+        assertThat(all.getBucketSeconds()).isEqualTo(SpotActivityRollupRepository.MINUTE_SECONDS);
+        assertThat(all.getSpotCount()).isEqualTo(3);
+        assertThat(all.getMaxDistanceKm()).isEqualTo(6200);
+        assertThat(all.getSnrSum()).isEqualTo(-30);
+        assertThat(all.getSnrSamples()).isEqualTo(2);
+        assertThat(single("NA_EU").getSpotCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testRollupMinutes_RunTwice_OverwritesInsteadOfAdding() {
+        spotRepository.saveAndFlush(spot(MINUTE.plusSeconds(5), "NA", "EU", -10, 5500));
+        repository.rollupMinutes(MINUTE, MINUTE.plus(Duration.ofMinutes(1)));
+        spotRepository.saveAndFlush(spot(MINUTE.plusSeconds(50), "NA", "EU", -12, 5600));
+
+        repository.rollupMinutes(MINUTE, MINUTE.plus(Duration.ofMinutes(1)));
+        clearPersistenceContext();
+
+        assertThat(single("ALL").getSpotCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testFindLatestBucketStart_AfterRollup_ReturnsNewestMinute() {
+        assertThat(repository.findLatestBucketStart()).isNull();
+        spotRepository.saveAndFlush(spot(MINUTE.plusSeconds(65), "NA", "AS", -10, 9000));
+
+        repository.rollupMinutes(MINUTE, MINUTE.plus(Duration.ofMinutes(2)));
+
+        assertThat(repository.findLatestBucketStart()).isEqualTo(MINUTE.plus(Duration.ofMinutes(1)));
+        assertThat(single("NA_AS").getSpotCount()).isEqualTo(1);
+    }
+
+    // ===========================================
+    // downsample tests
+    // ===========================================
+
+    @Test
+    void testDownsampleToHours_MinuteRows_MergedIntoHourThenDeleted() {
+        Instant hour = MINUTE;
+        repository.saveAllAndFlush(List.of(
+                rollup(hour, 60, 10, 5000),
+                rollup(hour.plus(Duration.ofMinutes(30)), 60, 5, 9000)));
+
+        int hourly = repository.downsampleToHours(hour.plus(Duration.ofHours(1)));
+        int deleted = repository.deleteMinutesBefore(hour.plus(Duration.ofHours(1)));
+        clearPersistenceContext();
+
+        assertThat(hourly).isEqualTo(1);
+        assertThat(deleted).isEqualTo(2);
+        SpotActivityRollupEntity row = single("ALL");
+        assertThat(row.getBucketSeconds()).isEqualTo(SpotActivityRollupRepository.HOUR_SECONDS);
+        assertThat(row.getSpotCount()).isEqualTo(15);
+        assertThat(row.getMaxDistanceKm()).isEqualTo(9000);
+    }
+
+    // ===========================================
+    // Read tests
+    // ===========================================
+
+    @Test
+    void testFindSeries_MixedResolutions_OrderedByBucket() {
+        repository.saveAllAndFlush(List.of(
+                rollup(MINUTE.plus(Duration.ofDays(1)), 60, 3, null),
+                rollup(MINUTE, 3600, 100, 7000)));
+
+        List<SpotActivityRollupEntity> series = repository.findSeries("20m", "FT8", "ALL",
+                MINUTE, MINUTE.plus(Duration.ofDays(2)));
+
+        assertThat(series).extracting(SpotActivityRollupEntity::getBucketSeconds).containsExactly(3600, 60);
+    }
+
+    @Test
+    void testSumSpotsByPath_ExcludesAllRows() {
+        repository.saveAllAndFlush(List.of(
+                rollup(MINUTE, 60, 10, null),
+                new SpotActivityRollupEntity(MINUTE, 60, "20m", "FT8", "NA_EU", 4, null, 0, 0),
+                new SpotActivityRollupEntity(MINUTE.plusSeconds(60), 60, "20m", "FT8", "NA_EU", 3, null, 0, 0)));
+
+        List<Object[]> rows = repository.sumSpotsByPath("20m", "FT8", MINUTE, MINUTE.plus(Duration.ofHours(1)));
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0)[0]).isEqualTo("NA_EU");
+        assertThat(((Number) rows.get(0)[1]).longValue()).isEqualTo(7);
+    }
+
+    @Test
+    void testDropOldChunks_NoOldChunks_ReturnsEmpty() {
+        assertThat(repository.dropOldChunks()).isEmpty();
+    }
+
+    private SpotActivityRollupEntity single(String path) {
+        return repository.findAll().stream()
+                .filter(row -> path.equals(row.getPath()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static SpotActivityRollupEntity rollup(Instant bucketStart, int seconds, int count, Integer maxKm) {
+        return new SpotActivityRollupEntity(bucketStart, seconds, "20m", "FT8", "ALL", count, maxKm, 0, 0);
+    }
+
+    private static SpotEntity spot(Instant spottedAt, String spotterContinent, String spottedContinent,
+                                   Integer snr, int distanceKm) {
+        return SpotFixtures.spotEntity(SpotFixtures.spot()
+                .band("20m")
+                .mode("FT8")
+                .snr(snr)
+                .spottedAt(spottedAt)
+                .spotterContinent(spotterContinent)
+                .spottedContinent(spottedContinent)
+                .distanceKm(distanceKm)
+                .build());
+    }
+}
@@ -0,0 +1,51 @@
+package io.nextskip.test;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Captures the JFR events an action commits, for asserting on custom event fields.
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases") // Test utility, not a test class
+public final class JfrEvents {
+
+    private JfrEvents() {
+        // Utility class
+    }
+
+    /**
+     * Runs an action inside a recording with one event type enabled.
+     *
+     * @param type   event type to enable
+     * @param action code that commits events
+     * @return the committed events of that type, in commit order
+     */
+    public static List<RecordedEvent> recordedDuring(Class<? extends Event> type, Runnable action) {
+        try (Recording recording = new Recording()) {
+            recording.enable(type);
+            recording.start();
+            action.run();
+            recording.stop();
+            Path file = Files.createTempFile("nextskip-test", ".jfr");
+            try {
+                recording.dump(file);
+                String name = type.getAnnotation(jdk.jfr.Name.class).value();
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(event -> event.getEventType().getName().equals(name))
+                        .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
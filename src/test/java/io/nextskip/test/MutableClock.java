@@ -0,0 +1,52 @@
+package io.nextskip.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock whose instant tests can advance to drive time-windowed structures.
+ *
+ * <p>Use instead of {@link Clock#fixed} when the code under test holds on to the
+ * clock and must observe time passing (bucket rotation, window expiry).
+ */
+@SuppressWarnings("PMD.TestClassWithoutTestCases") // Test utility, not a test class
+public final class MutableClock extends Clock {
+
+    private volatile Instant now;
+
+    /**
+     * Creates a clock starting at the given instant.
+     *
+     * @param start initial instant
+     */
+    public MutableClock(Instant start) {
+        this.now = start;
+    }
+
+    /**
+     * Moves the clock forward.
+     *
+     * @param duration how far to advance
+     */
+    public void advance(Duration duration) {
+        now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+}
@@ -0,0 +1,149 @@
+package io.nextskip.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An executed PostgreSQL query plan from {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)}.
+ *
+ * <p>Exposes the plan facts that regress when an index or query changes: which
+ * relations were actually scanned (nodes with zero loops were pruned at run time
+ * and are ignored), which indexes were used, whether any table was sequentially
+ * scanned, and how many shared buffers the whole query touched.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * QueryPlan plan = QueryPlan.parse(jdbcTemplate.queryForObject(
+ *         QueryPlan.EXPLAIN_PREFIX + sql, params, String.class));
+ * assertThat(plan.scannedRelations()).hasSizeLessThanOrEqualTo(2);
+ * assertThat(plan.sharedBuffers()).isLessThan(budget);
+ * }</pre>
+ */
+public final class QueryPlan {
+
+    /** Prefix that turns a query into an executed, buffer-counting JSON plan. */
+    public static final String EXPLAIN_PREFIX = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode root;
+    private final List<JsonNode> executedNodes;
+
+    private QueryPlan(JsonNode root) {
+        this.root = root;
+        this.executedNodes = new ArrayList<>();
+        collectExecuted(root, executedNodes);
+    }
+
+    /**
+     * Parses the single JSON document returned by {@link #EXPLAIN_PREFIX}.
+     *
+     * @param json the EXPLAIN output
+     * @return the parsed plan
+     */
+    public static QueryPlan parse(String json) {
+        try {
+            return new QueryPlan(MAPPER.readTree(json).get(0).get("Plan"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid EXPLAIN output", e);
+        }
+    }
+
+    /**
+     * Returns the shared buffers hit or read by the whole query.
+     *
+     * <p>Buffer counts of a node include its children, so the root total covers
+     * every scan. Repeated hits on the same page are counted each time, which is
+     * exactly what makes nested-loop and correlated-subquery regressions visible.
+     *
+     * @return shared hit plus shared read blocks
+     */
+    public long sharedBuffers() {
+        return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+    }
+
+    /**
+     * Returns the relations scanned by executed plan nodes.
+     *
+     * @return relation names, sorted
+     */
+    public Set<String> scannedRelations() {
+        Set<String> relations = new TreeSet<>();
+        for (JsonNode node : executedNodes) {
+            if (node.has("Relation Name")) {
+                relations.add(node.get("Relation Name").asText());
+            }
+        }
+        return relations;
+    }
+
+    /**
+     * Returns the scanned relations that belong to the given set, such as the
+     * chunks of one hypertable.
+     *
+     * @param candidates relation names to look for
+     * @return the candidates that were scanned, sorted
+     */
+    public Set<String> scannedRelationsIn(Collection<String> candidates) {
+        Set<String> relations = scannedRelations();
+        relations.retainAll(candidates);
+        return relations;
+    }
+
+    /**
+     * Returns the indexes used by executed index, index-only and bitmap scans.
+     *
+     * @return index names, sorted; TimescaleDB chunk indexes keep the parent
+     *         index name as a suffix (e.g. {@code _hyper_1_2_chunk_idx_spots_bulk_dx})
+     */
+    public Set<String> usedIndexes() {
+        Set<String> indexes = new TreeSet<>();
+        for (JsonNode node : executedNodes) {
+            if (node.has("Index Name")) {
+                indexes.add(node.get("Index Name").asText());
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Checks whether an executed node sequentially scanned a relation.
+     *
+     * @param relation exact relation name
+     * @return true if the relation was read with a Seq Scan
+     */
+    public boolean seqScans(String relation) {
+        return executedNodes.stream()
+                .anyMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && relation.equals(node.path("Relation Name").asText()));
+    }
+
+    /**
+     * Returns the plan as pretty-printed JSON for assertion messages.
+     *
+     * @return the plan tree
+     */
+    @Override
+    public String toString() {
+        return root.toPrettyString();
+    }
+
+    private static void collectExecuted(JsonNode node, List<JsonNode> into) {
+        // Nodes pruned by run-time chunk exclusion or never reached report zero loops
+        if (node.path("Actual Loops").asLong(1) == 0) {
+            return;
+        }
+        into.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collectExecuted(child, into);
+        }
+    }
+}
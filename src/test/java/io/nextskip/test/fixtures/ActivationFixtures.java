@@ -189,6 +189,8 @@ public final class ActivationFixtures {
         private String name = TestConstants.DEFAULT_SUMMIT_NAME;
         private String regionCode = TestConstants.DEFAULT_SUMMIT_REGION;
         private String associationCode = TestConstants.DEFAULT_SUMMIT_ASSOCIATION;
+        private Double latitude;
+        private Double longitude;
 
         public SummitBuilder reference(String reference) {
             this.reference = reference;
@@ -210,8 +212,18 @@ public final class ActivationFixtures {
             return this;
         }
 
+        public SummitBuilder latitude(Double latitude) {
+            this.latitude = latitude;
+            return this;
+        }
+
+        public SummitBuilder longitude(Double longitude) {
+            this.longitude = longitude;
+            return this;
+        }
+
         public Summit build() {
-            return new Summit(reference, name, regionCode, associationCode);
+            return new Summit(reference, name, regionCode, associationCode, latitude, longitude);
         }
     }
 
@@ -0,0 +1,265 @@
+package io.nextskip.test.fixtures;
+
+import io.nextskip.spots.internal.enrichment.CallsignEnricher;
+import io.nextskip.spots.internal.enrichment.ContinentEnricher;
+import io.nextskip.spots.internal.enrichment.DistanceEnricher;
+import io.nextskip.spots.internal.enrichment.SpotEnricher;
+import io.nextskip.spots.model.Spot;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static io.nextskip.test.TestConstants.PSKREPORTER_SOURCE;
+
+/**
+ * Deterministic generator of statistically realistic PSKReporter spots for scale tests.
+ *
+ * <p>Spots are drawn from fixed station populations and then passed through the
+ * production {@link DistanceEnricher}, {@link CallsignEnricher} (bundled cty.dat) and
+ * {@link ContinentEnricher}, so continents and distances are derived exactly as on
+ * the ingest path. The shape mirrors live PSKReporter traffic:
+ * <ul>
+ *   <li><b>Band/mode mix</b> - 20m and 40m dominate; FT8 carries ~85% of spots, FT4 ~12%</li>
+ *   <li><b>Diurnal curve</b> - high bands peak around 15:00 UTC, low bands around 03:00 UTC,
+ *       with a 35% floor so no band goes silent</li>
+ *   <li><b>Grid distribution</b> - stations sit in populated Maidenhead fields, weighted
+ *       towards Europe and North America (receivers more so than transmitters)</li>
+ *   <li><b>Continent paths</b> - follow from the station mix; low bands mostly reject
+ *       spots beyond their typical skip distance</li>
+ *   <li><b>Callsign popularity</b> - Zipf-distributed, so a few DXpeditions and big
+ *       stations collect most spots while the long tail is heard rarely</li>
+ * </ul>
+ *
+ * <p>The same seed and range always produce the same sequence, so scaling runs are
+ * comparable across releases.
+ *
+ * <p>Usage:
+ * <pre>{@code
+ * SyntheticSpotGenerator generator = new SyntheticSpotGenerator(42, now.minus(Duration.ofHours(6)), now);
+ * List<Spot> batch = generator.nextBatch(10_000);
+ * }</pre>
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals") // Grid field and prefix tables repeat letters
+public final class SyntheticSpotGenerator {
+
+    /** Transmitting stations in the population. */
+    public static final int TRANSMITTERS = 50_000;
+
+    /** Receiving stations (PSKReporter monitors) in the population. */
+    public static final int RECEIVERS = 8_000;
+
+    private static final double TRANSMITTER_ZIPF_EXPONENT = 1.1;
+    private static final double RECEIVER_ZIPF_EXPONENT = 0.8;
+    private static final double DIURNAL_FLOOR = 0.35;
+    private static final double HOURS_PER_DAY = 24.0;
+    private static final double LONG_HAUL_ACCEPTANCE = 0.1;
+
+    // name, FT8 dial frequency (Hz), relative volume, peak UTC hour, typical max distance (km)
+    private static final Object[][] BANDS = {
+            {"160m", 1_840_000L, 3.0, 3, 3_000},
+            {"80m", 3_573_000L, 7.0, 3, 5_000},
+            {"40m", 7_074_000L, 18.0, 3, 9_000},
+            {"30m", 10_136_000L, 9.0, 9, 20_000},
+            {"20m", 14_074_000L, 28.0, 15, 20_000},
+            {"17m", 18_100_000L, 8.0, 15, 20_000},
+            {"15m", 21_074_000L, 10.0, 15, 20_000},
+            {"12m", 24_915_000L, 3.0, 15, 20_000},
+            {"10m", 28_074_000L, 9.0, 15, 20_000},
+            {"6m", 50_313_000L, 3.0, 18, 20_000},
+    };
+
+    private static final String[] MODES = {"FT8", "FT4", "FT2"};
+    private static final double[] MODE_WEIGHTS = {85.0, 12.0, 3.0};
+
+    // Per continent (EU, NA, AS, OC, SA, AF): Maidenhead fields that ContinentLookup maps back to it,
+    // callsign prefixes, and population weights
+    private static final String[][] FIELDS = {
+            {"JO", "JN", "KO", "KN", "IO", "LO"},
+            {"FN", "EN", "EM", "FM", "EL"},
+            {"PM", "OL", "NL", "MN", "OM"},
+            {"QF", "QG", "RE", "RF"},
+            {"GG", "GF", "GH"},
+            {"HK", "HJ"},
+    };
+    private static final String[][] PREFIXES = {
+            {"DL", "G", "F", "I", "EA", "SP", "OK", "PA"},
+            {"K", "W", "N", "VE"},
+            {"JA", "BV", "HL", "BY"},
+            {"VK", "ZL"},
+            {"PY", "LU", "CE"},
+            {"ZS", "CN", "5H"},
+    };
+    private static final double[] TRANSMITTER_CONTINENT_WEIGHTS = {42.0, 30.0, 14.0, 5.0, 5.0, 4.0};
+    private static final double[] RECEIVER_CONTINENT_WEIGHTS = {50.0, 32.0, 10.0, 4.0, 3.0, 1.0};
+
+    private final SplittableRandom random;
+    private final Instant start;
+    private final long rangeSeconds;
+    private final List<SpotEnricher> enrichers;
+
+    private final String[] transmitterCalls = new String[TRANSMITTERS];
+    private final String[] transmitterGrids = new String[TRANSMITTERS];
+    private final String[] receiverCalls = new String[RECEIVERS];
+    private final String[] receiverGrids = new String[RECEIVERS];
+    private final double[] transmitterCdf = zipfCdf(TRANSMITTERS, TRANSMITTER_ZIPF_EXPONENT);
+    private final double[] receiverCdf = zipfCdf(RECEIVERS, RECEIVER_ZIPF_EXPONENT);
+    private final double[] bandCdf;
+    private final double[] modeCdf = cdf(MODE_WEIGHTS);
+
+    /**
+     * Creates a generator for spots in {@code [start, end)}.
+     *
+     * @param seed  random seed; equal seeds give equal sequences
+     * @param start earliest spot time, inclusive
+     * @param end   latest spot time, exclusive
+     */
+    public SyntheticSpotGenerator(long seed, Instant start, Instant end) {
+        this.random = new SplittableRandom(seed);
+        this.start = start;
+        this.rangeSeconds = Duration.between(start, end).toSeconds();
+        if (rangeSeconds <= 0) {
+            throw new IllegalArgumentException("End must be after start: " + start + " - " + end);
+        }
+        double[] bandWeights = new double[BANDS.length];
+        for (int i = 0; i < BANDS.length; i++) {
+            bandWeights[i] = (Double) BANDS[i][2];
+        }
+        this.bandCdf = cdf(bandWeights);
+        CallsignEnricher callsignEnricher = new CallsignEnricher(new ClassPathResource("data/cty.dat"));
+        callsignEnricher.init();
+        this.enrichers = callsignEnricher.isComplete()
+                ? List.of(new DistanceEnricher(), callsignEnricher, new ContinentEnricher())
+                : List.of(new DistanceEnricher(), new ContinentEnricher(), callsignEnricher);
+        populate(transmitterCalls, transmitterGrids, cdf(TRANSMITTER_CONTINENT_WEIGHTS), 0);
+        populate(receiverCalls, receiverGrids, cdf(RECEIVER_CONTINENT_WEIGHTS), TRANSMITTERS);
+    }
+
+    /**
+     * Generates the next batch of enriched spots.
+     *
+     * @param size number of spots
+     * @return spots in generation order (not sorted by time)
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") // One spot per iteration is the point
+    public List<Spot> nextBatch(int size) {
+        List<Spot> batch = new ArrayList<>(size);
+        while (batch.size() < size) {
+            batch.add(next());
+        }
+        return batch;
+    }
+
+    /**
+     * Generates one enriched spot.
+     *
+     * @return the spot
+     */
+    public Spot next() {
+        while (true) {
+            int band = sample(bandCdf);
+            Instant spottedAt = diurnalTime((Integer) BANDS[band][3]);
+            int transmitter = sample(transmitterCdf);
+            int receiver = sample(receiverCdf);
+            Spot spot = new Spot(
+                    PSKREPORTER_SOURCE,
+                    (String) BANDS[band][0],
+                    MODES[sample(modeCdf)],
+                    (Long) BANDS[band][1] + 200 + random.nextInt(2_800),
+                    null,
+                    spottedAt,
+                    receiverCalls[receiver],
+                    receiverGrids[receiver],
+                    null,
+                    transmitterCalls[transmitter],
+                    transmitterGrids[transmitter],
+                    null,
+                    null);
+            for (SpotEnricher enricher : enrichers) {
+                spot = enricher.enrich(spot);
+            }
+            int distanceKm = spot.distanceKm() == null ? 0 : spot.distanceKm();
+            if (distanceKm <= (Integer) BANDS[band][4] || random.nextDouble() < LONG_HAUL_ACCEPTANCE) {
+                return withSnr(spot, snr(distanceKm));
+            }
+        }
+    }
+
+    private Instant diurnalTime(int peakHour) {
+        while (true) {
+            Instant candidate = start.plusSeconds(random.nextLong(rangeSeconds));
+            double hour = candidate.atOffset(ZoneOffset.UTC).getHour()
+                    + candidate.atOffset(ZoneOffset.UTC).getMinute() / 60.0;
+            double phase = 2 * Math.PI * (hour - peakHour) / HOURS_PER_DAY;
+            double weight = DIURNAL_FLOOR + (1 - DIURNAL_FLOOR) * (1 + Math.cos(phase)) / 2;
+            if (random.nextDouble() < weight) {
+                return candidate;
+            }
+        }
+    }
+
+    private int snr(int distanceKm) {
+        // FT8 decodes cluster around -12 dB and fade with distance; WSJT-X reports -30..+30
+        double value = -8 + random.nextDouble() * 8 - random.nextDouble() * 16 - distanceKm / 2_000.0;
+        return (int) Math.max(-30, Math.min(30, Math.round(value)));
+    }
+
+    private void populate(String[] calls, String[] grids, double[] continentCdf, int serialOffset) {
+        for (int i = 0; i < calls.length; i++) {
+            int continent = sample(continentCdf);
+            String[] prefixes = PREFIXES[continent];
+            String[] fields = FIELDS[continent];
+            calls[i] = prefixes[random.nextInt(prefixes.length)] + random.nextInt(10)
+                    + suffix(serialOffset + i);
+            grids[i] = fields[random.nextInt(fields.length)] + random.nextInt(10) + random.nextInt(10);
+        }
+    }
+
+    private static String suffix(int serial) {
+        StringBuilder suffix = new StringBuilder();
+        int value = serial;
+        do {
+            suffix.append((char) ('A' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        while (suffix.length() < 3) {
+            suffix.append('A');
+        }
+        return suffix.toString();
+    }
+
+    private int sample(double[] cdf) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cdf.length - 1);
+    }
+
+    private static Spot withSnr(Spot spot, int snr) {
+        return new Spot(spot.source(), spot.band(), spot.mode(), spot.frequencyHz(), snr, spot.spottedAt(),
+                spot.spotterCall(), spot.spotterGrid(), spot.spotterContinent(),
+                spot.spottedCall(), spot.spottedGrid(), spot.spottedContinent(), spot.distanceKm());
+    }
+
+    private static double[] zipfCdf(int size, double exponent) {
+        double[] weights = new double[size];
+        for (int rank = 0; rank < size; rank++) {
+            weights[rank] = 1.0 / Math.pow(rank + 1, exponent);
+        }
+        return cdf(weights);
+    }
+
+    private static double[] cdf(double... weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cdf = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cdf[i] = running / total;
+        }
+        return cdf;
+    }
+}